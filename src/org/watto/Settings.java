@@ -21,6 +21,7 @@ package org.watto;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Hashtable;
 import org.watto.xml.XMLNode;
 import org.watto.xml.XMLReader;
@@ -35,6 +36,9 @@ public class Settings {
   /** the settings and their values **/
   static Hashtable<String, String> settings = new Hashtable<String, String>();
 
+  /** settings that have been overridden for a single thread only **/
+  static ThreadLocal<HashMap<String, String>> threadSettings = new ThreadLocal<HashMap<String, String>>();
+
   /***********************************************************************************************
    * Gets the <code>String</code> value for the <code>code</code> setting
    * @param code the setting to get the value for
@@ -44,6 +48,23 @@ public class Settings {
     return getString(code);
   }
 
+  /***********************************************************************************************
+   * Gets the raw value for the <code>code</code> setting, preferring a value set for the current
+   * thread with <code>setForThread()</code>
+   * @param code the setting to get the value for
+   * @return the setting value, or <b>null</b> if it isn't a normal setting
+   ***********************************************************************************************/
+  static String getValue(String code) {
+    HashMap<String, String> overrides = threadSettings.get();
+    if (overrides != null) {
+      String result = overrides.get(code);
+      if (result != null) {
+        return result;
+      }
+    }
+    return settings.get(code);
+  }
+
   /***********************************************************************************************
    * Gets the <code>boolean</code> value for the <code>code</code> setting
    * @param code the setting to get the value for
@@ -51,7 +72,7 @@ public class Settings {
    ***********************************************************************************************/
   public static boolean getBoolean(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -76,7 +97,7 @@ public class Settings {
    ***********************************************************************************************/
   public static byte getByte(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -96,7 +117,7 @@ public class Settings {
    ***********************************************************************************************/
   public static char getChar(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -119,7 +140,7 @@ public class Settings {
    ***********************************************************************************************/
   public static double getDouble(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -139,7 +160,7 @@ public class Settings {
    ***********************************************************************************************/
   public static float getFloat(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -159,7 +180,7 @@ public class Settings {
    ***********************************************************************************************/
   public static int getInt(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -179,7 +200,7 @@ public class Settings {
    ***********************************************************************************************/
   public static long getLong(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -199,7 +220,7 @@ public class Settings {
    ***********************************************************************************************/
   public static short getShort(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -219,7 +240,7 @@ public class Settings {
    ***********************************************************************************************/
   public static String getString(String code) {
     try {
-      String result = settings.get(code);
+      String result = getValue(code);
       if (result == null) {
         result = TemporarySettings.get(code); // maybe it is a temporary setting?
       }
@@ -409,6 +430,21 @@ public class Settings {
     }
   }
 
+  /***********************************************************************************************
+   * Removes a value that was set for the current thread with <code>setForThread()</code>, so the
+   * thread sees the normal setting again
+   * @param code the setting to remove the override of
+   ***********************************************************************************************/
+  public static void removeForThread(String code) {
+    HashMap<String, String> overrides = threadSettings.get();
+    if (overrides != null) {
+      overrides.remove(code);
+      if (overrides.isEmpty()) {
+        threadSettings.remove();
+      }
+    }
+  }
+
   /***********************************************************************************************
    * Sets the <code>boolean</code> <code>value</code> of the setting <code>code</code>
    * @param code the setting to set the <code>value</code> of
@@ -492,6 +528,25 @@ public class Settings {
     }
   }
 
+  /***********************************************************************************************
+   * Sets the <code>value</code> of the setting <code>code</code> for the current thread only.
+   * Until <code>removeForThread()</code>, the getters on this thread return this
+   * <code>value</code>, and other threads are not affected. The value is never saved.
+   * @param code the setting to set the <code>value</code> of
+   * @param value the value of the setting for this thread
+   ***********************************************************************************************/
+  public static void setForThread(String code, String value) {
+    if (value == null) {
+      return;
+    }
+    HashMap<String, String> overrides = threadSettings.get();
+    if (overrides == null) {
+      overrides = new HashMap<String, String>();
+      threadSettings.set(overrides);
+    }
+    overrides.put(code, value);
+  }
+
   /***********************************************************************************************
    * Loads the default settings followed by the user settings
    ***********************************************************************************************/
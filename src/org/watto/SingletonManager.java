@@ -18,6 +18,7 @@
 
 package org.watto;
 
+import java.util.HashMap;
 import java.util.Hashtable;
 
 /***********************************************************************************************
@@ -29,6 +30,9 @@ public class SingletonManager {
   /** the singleton objects **/
   static Hashtable<String, Object> singletons = new Hashtable<String, Object>();
 
+  /** objects that override the singletons for a single thread only **/
+  static ThreadLocal<HashMap<String, Object>> threadSingletons = new ThreadLocal<HashMap<String, Object>>();
+
   /***********************************************************************************************
    * Adds a <code>object</code>
    * @param code a unique codeword for this <code>object</code>
@@ -44,6 +48,10 @@ public class SingletonManager {
    * @return the object
    ***********************************************************************************************/
   public static Object get(String code) {
+    HashMap<String, Object> overrides = threadSingletons.get();
+    if (overrides != null && overrides.containsKey(code)) {
+      return overrides.get(code);
+    }
     return singletons.get(code);
   }
 
@@ -56,6 +64,10 @@ public class SingletonManager {
    *         <code>code</code>word
    ***********************************************************************************************/
   public static boolean has(String code) {
+    HashMap<String, Object> overrides = threadSingletons.get();
+    if (overrides != null && overrides.containsKey(code)) {
+      return true;
+    }
     return singletons.containsKey(code);
   }
 
@@ -67,6 +79,21 @@ public class SingletonManager {
     singletons.remove(code);
   }
 
+  /***********************************************************************************************
+   * Removes an <code>object</code> that was set for the current thread with
+   * <code>setForThread()</code>, so the thread sees the normal singleton again
+   * @param code the codeword for the object to remove
+   ***********************************************************************************************/
+  public static void removeForThread(String code) {
+    HashMap<String, Object> overrides = threadSingletons.get();
+    if (overrides != null) {
+      overrides.remove(code);
+      if (overrides.isEmpty()) {
+        threadSingletons.remove();
+      }
+    }
+  }
+
   /***********************************************************************************************
    * Sets a singleton <code>object</code>
    * @param code a unique codeword for this <code>object</code>
@@ -75,4 +102,20 @@ public class SingletonManager {
   public static void set(String code, Object object) {
     singletons.put(code, object);
   }
+
+  /***********************************************************************************************
+   * Sets an <code>object</code> that is only seen by the current thread. Until it is removed with
+   * <code>removeForThread()</code>, <code>get()</code> on this thread returns this
+   * <code>object</code> instead of the singleton, and other threads are not affected.
+   * @param code a unique codeword for this <code>object</code>
+   * @param object the object to set
+   ***********************************************************************************************/
+  public static void setForThread(String code, Object object) {
+    HashMap<String, Object> overrides = threadSingletons.get();
+    if (overrides == null) {
+      overrides = new HashMap<String, Object>();
+      threadSingletons.set(overrides);
+    }
+    overrides.put(code, object);
+  }
 }
\ No newline at end of file
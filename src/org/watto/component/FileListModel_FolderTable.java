@@ -16,7 +16,7 @@ package org.watto.component;
 
 import javax.swing.event.TableModelListener;
 import javax.swing.table.TableModel;
-import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FileListSorter;
 import org.watto.ge.plugin.ArchivePlugin;
@@ -126,8 +126,8 @@ public class FileListModel_FolderTable implements FileListModel, TableModel {
   **********************************************************************************************
   **/
   public void reload() {
-    //resources = Archive.getResources();
-    readPlugin = Archive.getReadPlugin();
+    //resources = ArchiveContext.getDefault().getResources();
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
     columns = readPlugin.getViewingColumns();
   }
 
@@ -0,0 +1,352 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.component;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.Vector;
+import javax.swing.tree.TreeNode;
+import org.watto.datatype.Resource;
+
+/**
+**********************************************************************************************
+A node in the file tree that only makes its children when they're first asked for (ie when the
+node is expanded). Until then, the node just holds the resources that belong somewhere below it,
+along with their split-up paths. The directories under each node are kept in a map by name, so
+finding the node for a path doesn't need to search through the children.
+<br><br>
+Children are inserted in sorted order, so files can be added to and removed from an existing
+tree without sorting or rebuilding it.
+**********************************************************************************************
+**/
+
+public class FileListModel_LazyTree extends FileListModel_Tree {
+
+  /** serialVersionUID */
+  private static final long serialVersionUID = 1L;
+
+  /**
+  **********************************************************************************************
+  Splits the <i>name</i> of a resource into the directories and the filename. The separator is
+  whichever of \ or / appears last in the name.
+  **********************************************************************************************
+  **/
+  public static String[] splitPath(String name) {
+    int left = name.lastIndexOf("\\");
+    int right = name.lastIndexOf("/");
+
+    StringTokenizer token;
+    if (left > right) {
+      token = new StringTokenizer(name, "\\");
+    }
+    else {
+      token = new StringTokenizer(name, "/");
+    }
+
+    int numTokens = token.countTokens();
+    if (numTokens <= 0) {
+      return new String[] { name };
+    }
+
+    String[] path = new String[numTokens];
+    for (int i = 0; i < numTokens; i++) {
+      path[i] = token.nextToken();
+    }
+    return path;
+  }
+
+  /** the path segment that names the children of this node (0 for the root) **/
+  int depth = 0;
+
+  /** the directories directly under this node, by name. Only made when the children are built. **/
+  HashMap<String, FileListModel_LazyTree> directories = null;
+
+  /** the resources below this node that haven't been made into child nodes yet, or null once the children are built **/
+  LinkedHashMap<Resource, String[]> pendingResources = null;
+
+  /**
+  **********************************************************************************************
+  Creates a directory node, with no resources in it yet
+  **********************************************************************************************
+  **/
+  public FileListModel_LazyTree(String name) {
+    super(name);
+    pendingResources = new LinkedHashMap<Resource, String[]>();
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a directory node at the given <i>depth</i>
+  **********************************************************************************************
+  **/
+  FileListModel_LazyTree(String name, int depth) {
+    this(name);
+    this.depth = depth;
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a file node for the <i>resource</i>
+  **********************************************************************************************
+  **/
+  FileListModel_LazyTree(String name, Resource resource) {
+    super(name, resource);
+  }
+
+  /**
+  **********************************************************************************************
+  Adds the <i>resource</i> with the split-up <i>path</i> somewhere below this node, making any
+  directories that it needs. If the resource ends up in a node whose children haven't been built,
+  it just waits there until they are, and null is returned. Otherwise, the node that was inserted
+  into the tree (the file, or the first new directory) is returned, so the tree can be told.
+  **********************************************************************************************
+  **/
+  public FileListModel_LazyTree addResource(Resource resource, String[] path) {
+    FileListModel_LazyTree node = this;
+
+    while (true) {
+      if (node.pendingResources != null) {
+        node.pendingResources.put(resource, path);
+        return null;
+      }
+
+      int segment = node.depth;
+      if (segment >= path.length - 1) {
+        FileListModel_LazyTree file = new FileListModel_LazyTree(path[path.length - 1], resource);
+        node.insertSorted(file);
+        return file;
+      }
+
+      FileListModel_LazyTree directory = node.directories.get(path[segment]);
+      if (directory == null) {
+        directory = new FileListModel_LazyTree(path[segment], segment + 1);
+        directory.pendingResources.put(resource, path);
+        node.directories.put(path[segment], directory);
+        node.insertSorted(directory);
+        return directory;
+      }
+
+      node = directory;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Makes the child nodes from the resources that are waiting in this node, and sorts them
+  **********************************************************************************************
+  **/
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public void buildChildren() {
+    if (pendingResources == null) {
+      return;
+    }
+
+    LinkedHashMap<Resource, String[]> resources = pendingResources;
+    pendingResources = null;
+    directories = new HashMap<String, FileListModel_LazyTree>();
+
+    FileListModel_LazyTree[] nodes = new FileListModel_LazyTree[resources.size()];
+    int numNodes = 0;
+
+    for (Map.Entry<Resource, String[]> entry : resources.entrySet()) {
+      Resource resource = entry.getKey();
+      String[] path = entry.getValue();
+
+      if (depth >= path.length - 1) {
+        nodes[numNodes] = new FileListModel_LazyTree(path[path.length - 1], resource);
+        numNodes++;
+        continue;
+      }
+
+      String name = path[depth];
+      FileListModel_LazyTree directory = directories.get(name);
+      if (directory == null) {
+        directory = new FileListModel_LazyTree(name, depth + 1);
+        directories.put(name, directory);
+
+        nodes[numNodes] = directory;
+        numNodes++;
+      }
+      directory.pendingResources.put(resource, path);
+    }
+
+    // directories at the top, then sorted alphabetically
+    Arrays.sort(nodes, 0, numNodes);
+
+    Vector newChildren = new Vector(numNodes);
+    for (int i = 0; i < numNodes; i++) {
+      FileListModel_LazyTree node = nodes[i];
+      node.setParent(this);
+      newChildren.add(node);
+    }
+    children = newChildren;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  @SuppressWarnings("rawtypes")
+  public Enumeration children() {
+    buildChildren();
+    return super.children();
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public TreeNode getChildAt(int index) {
+    buildChildren();
+    return super.getChildAt(index);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public int getChildCount() {
+    buildChildren();
+    return super.getChildCount();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the directory node called <i>name</i> directly under this node, or null if there isn't one
+  **********************************************************************************************
+  **/
+  public FileListModel_LazyTree getDirectory(String name) {
+    buildChildren();
+    return directories.get(name);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public int getIndex(TreeNode node) {
+    buildChildren();
+    return super.getIndex(node);
+  }
+
+  /**
+  **********************************************************************************************
+  Whether this node has no children and nothing waiting to be made into children
+  **********************************************************************************************
+  **/
+  public boolean isEmpty() {
+    if (pendingResources != null) {
+      return pendingResources.isEmpty();
+    }
+    return super.getChildCount() == 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Only files are leaves. Directories aren't, even before their children are built.
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean isLeaf() {
+    return pendingResources == null && directories == null;
+  }
+
+  /**
+  **********************************************************************************************
+  Inserts the <i>child</i> in sorted order, and returns where it was put
+  **********************************************************************************************
+  **/
+  int insertSorted(FileListModel_LazyTree child) {
+    int low = 0;
+    int high = super.getChildCount() - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (((FileListModel_Tree) super.getChildAt(middle)).compareTo(child) <= 0) {
+        low = middle + 1;
+      }
+      else {
+        high = middle - 1;
+      }
+    }
+
+    insert(child, low);
+    return low;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the <i>resource</i> with the split-up <i>path</i> below this node, and returns the node
+  that needs to be removed from the tree, so it can be removed and the tree told. This is the
+  file node, or if the resource was still waiting in a directory whose children haven't been
+  built, it is dropped from there and the directory is returned if it is now empty. Returns null
+  if there's nothing to remove from the tree.
+  **********************************************************************************************
+  **/
+  public FileListModel_LazyTree removeResource(Resource resource, String[] path) {
+    FileListModel_LazyTree node = this;
+
+    while (true) {
+      if (node.pendingResources != null) {
+        node.pendingResources.remove(resource);
+        if (node != this && node.pendingResources.isEmpty()) {
+          return node;
+        }
+        return null;
+      }
+
+      int segment = node.depth;
+      if (segment >= path.length - 1) {
+        int numChildren = node.getChildCount();
+        for (int i = 0; i < numChildren; i++) {
+          FileListModel_Tree child = (FileListModel_Tree) node.getChildAt(i);
+          if (child.getResource() == resource) {
+            return (FileListModel_LazyTree) child;
+          }
+        }
+        return null;
+      }
+
+      FileListModel_LazyTree directory = node.directories.get(path[segment]);
+      if (directory == null) {
+        return null;
+      }
+      node = directory;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Removes the empty <i>directory</i> node from the directories of this node
+  **********************************************************************************************
+  **/
+  public void removeDirectory(FileListModel_LazyTree directory) {
+    if (directories != null) {
+      directories.remove(directory.getUserObject());
+    }
+  }
+
+}
@@ -18,8 +18,9 @@ import javax.swing.event.TableModelListener;
 import javax.swing.table.TableModel;
 import org.watto.Settings;
 import org.watto.TypecastSingletonManager;
-import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.helper.FileListFilter;
 import org.watto.ge.helper.FileListSorter;
@@ -32,6 +33,11 @@ public class FileListModel_Table implements FileListModel, TableModel {
 
   Resource[] resources;
 
+  /** When the archive is held in a ResourceTable, the table and the <i>rows</i> of it that are shown **/
+  ResourceTable table = null;
+
+  int[] rows = null;
+
   WSTableColumn[] columns;
 
   ArchivePlugin readPlugin;
@@ -94,6 +100,12 @@ public class FileListModel_Table implements FileListModel, TableModel {
   **********************************************************************************************
   **/
   public Resource getResource(int row) {
+    if (table != null) {
+      if (row < rows.length) {
+        return table.getResource(rows[row]);
+      }
+      return null;
+    }
     if (row < resources.length) {
       return resources[row];
     }
@@ -109,9 +121,25 @@ public class FileListModel_Table implements FileListModel, TableModel {
   **/
   @Override
   public int getRowCount() {
+    if (table != null) {
+      return rows.length;
+    }
     return resources.length;
   }
 
+  /**
+  **********************************************************************************************
+  Gets the row of the ResourceTable that is shown in each row, or null if the resources aren't
+  held in a ResourceTable
+  **********************************************************************************************
+  **/
+  public int[] getTableRows() {
+    if (table != null) {
+      return rows;
+    }
+    return null;
+  }
+
   /**
   **********************************************************************************************
 
@@ -120,6 +148,9 @@ public class FileListModel_Table implements FileListModel, TableModel {
   @Override
   public Object getValueAt(int row, int column) {
     try {
+      if (table != null) {
+        return table.getColumnValue(rows[row], readPlugin, columns[column].getCharCode());
+      }
       return readPlugin.getColumnValue(resources[row], columns[column].getCharCode());
     }
     catch (Throwable t) {
@@ -161,12 +192,21 @@ public class FileListModel_Table implements FileListModel, TableModel {
   **********************************************************************************************
   **/
   public void reload() {
-    resources = Archive.getResources();
+    table = ArchiveContext.getDefault().getResourceTable();
+    if (table != null) {
+      // Perform any filtering, without creating all the Resources
+      rows = FileListFilter.filterRows(table);
+      resources = null;
+    }
+    else {
+      rows = null;
+      resources = ArchiveContext.getDefault().getResources();
 
-    // Perform any filtering
-    resources = FileListFilter.filterResources(resources);
+      // Perform any filtering
+      resources = FileListFilter.filterResources(resources);
+    }
 
-    readPlugin = Archive.getReadPlugin();
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
     columns = readPlugin.getViewingColumns();
   }
 
@@ -177,7 +217,9 @@ public class FileListModel_Table implements FileListModel, TableModel {
   **/
   public void reload(Resource[] resources) {
     this.resources = resources;
-    readPlugin = Archive.getReadPlugin();
+    table = null;
+    rows = null;
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
     columns = readPlugin.getViewingColumns();
   }
 
@@ -200,7 +242,7 @@ public class FileListModel_Table implements FileListModel, TableModel {
     char charCode = columns[column].getCharCode();
     if (charCode == 'P' || charCode == 'F' || charCode == 'N' || charCode == 'E') {
       // this is a rename operation
-      Resource resource = resources[row];
+      Resource resource = getResource(row);
 
       // simulate the renaming
       String oldName = resource.getName();
@@ -223,7 +265,7 @@ public class FileListModel_Table implements FileListModel, TableModel {
     }
     else {
       // something else - plugin-specific
-      readPlugin.setColumnValue(resources[row], charCode, value);
+      readPlugin.setColumnValue(getResource(row), charCode, value);
     }
   }
 
@@ -243,7 +285,14 @@ public class FileListModel_Table implements FileListModel, TableModel {
   **/
   public void sortResources(int column, boolean useCurrentResources) {
     if (columns[column].isSortable()) {
-      if (useCurrentResources) {
+      if (table != null) {
+        // sorts the rows that are shown, rather than re-ordering the table itself
+        if (!useCurrentResources) {
+          rows = FileListFilter.filterRows(table);
+        }
+        rows = FileListSorter.sort(table, rows, columns[column], true);
+      }
+      else if (useCurrentResources) {
         resources = FileListSorter.sort(resources, columns[column]);
       }
       else {
@@ -14,7 +14,7 @@
 
 package org.watto.component;
 
-import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
 
 public class FileListModel_Table_Properties extends FileListModel_Table {
@@ -48,8 +48,10 @@ public class FileListModel_Table_Properties extends FileListModel_Table {
   **/
   @Override
   public void reload() {
-    readPlugin = Archive.getReadPlugin();
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
     resources = readPlugin.getProperties();
+    table = null;
+    rows = null;
     columns = readPlugin.getViewingPropColumns();
   }
 
@@ -61,7 +63,9 @@ public class FileListModel_Table_Properties extends FileListModel_Table {
   @Override
   public void reload(Resource[] resources) {
     this.resources = resources;
-    readPlugin = Archive.getReadPlugin();
+    table = null;
+    rows = null;
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
     columns = readPlugin.getViewingPropColumns();
   }
 
@@ -20,10 +20,13 @@ import javax.swing.table.AbstractTableModel;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
-import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.BlankImageResource;
+import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.ge.helper.FileListFilter;
+import org.watto.ge.helper.ThumbnailCache;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.BlockQuickBMSExporterWrapper;
@@ -34,6 +37,7 @@ import org.watto.task.TaskProgressManager;
 import org.watto.task.Task_CreateImageResource;
 import org.watto.task.Task_LoadThumbnailLater;
 import org.watto.task.Task_QuickBMSBulkExport;
+import org.watto.task.ThumbnailScheduler;
 
 public class FileListModel_Thumbnails extends AbstractTableModel implements FileListModel {
 
@@ -49,6 +53,9 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
   /** the table that this model belongs to **/
   WSTable table;
 
+  /** generates the thumbnails for the cells that are displayed **/
+  ThumbnailScheduler scheduler;
+
   /**
   **********************************************************************************************
   
@@ -67,6 +74,7 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
 
     this.table = table;
     this.columnCount = columnCount;
+    this.scheduler = new ThumbnailScheduler(table);
     //reload();
     reload(new Resource[0]);
   }
@@ -164,6 +172,18 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
     //System.out.println("Requesting thumbnail for " + resource.getName());
 
     if (resource.getImageResource() == null) {
+      // If the thumbnail was generated before, and is already in memory, show it straight away.
+      // Anything else is looked up in the cache by the Task_LoadThumbnailLater, off this thread.
+      ImageResource cachedImage = ThumbnailCache.peek(resource);
+      if (cachedImage == ThumbnailCache.NO_THUMBNAIL) {
+        resource.setImageResource(new BlankImageResource(resource));
+        return resource;
+      }
+      else if (cachedImage != null) {
+        resource.setImageResource(cachedImage);
+        return resource;
+      }
+
       /*
       // Extract the file and load the thumbnail for it
       Task_CreateImageResource task = new Task_CreateImageResource(resource);
@@ -173,32 +193,33 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
       // Generate a default thumbnail first...
       resource.setImageResource(new BlankImageResource(resource));
 
-      // Add a job to the end of the Swing EventDispatchThread to generate a real thumbnail and display it,
-      // which will be invoked *after* the whole table is drawn.
+      Task_LoadThumbnailLater task = new Task_LoadThumbnailLater(resource, table, this, row, column);
+      task.setDirection(Task.DIRECTION_REDO);
 
       // First, are we using the QuickBMS plugin? If so, we want to have a single task to extract all the required files first (in bulk),
-      // and then trigger the thumbnails (the LoadThumbnailLater Tasks get added behind the Extract task in the queue)
+      // and then trigger the thumbnails (the LoadThumbnailLater Tasks get added behind the Extract task in the queue on the
+      // Swing EventDispatchThread, which will be invoked *after* the whole table is drawn)
       if (resource.getExportedPath() == null) {
         ExporterPlugin exporter = resource.getExporter();
         if (exporter instanceof Exporter_QuickBMSWrapper || exporter instanceof Exporter_QuickBMS_Decompression || exporter instanceof BlockQuickBMSExporterWrapper) {
           if (SingletonManager.has("QuickBMSBulkExportTask")) {
-            Task_QuickBMSBulkExport task = (Task_QuickBMSBulkExport) SingletonManager.get("QuickBMSBulkExportTask");
-            task.addResourceToExtract(resource);
+            Task_QuickBMSBulkExport bulkTask = (Task_QuickBMSBulkExport) SingletonManager.get("QuickBMSBulkExportTask");
+            bulkTask.addResourceToExtract(resource);
           }
           else {
-            Task_QuickBMSBulkExport task = new Task_QuickBMSBulkExport(resource);
-            task.setDirection(Task.DIRECTION_REDO);
-            SwingUtilities.invokeLater(task);
+            Task_QuickBMSBulkExport bulkTask = new Task_QuickBMSBulkExport(resource);
+            bulkTask.setDirection(Task.DIRECTION_REDO);
+            SwingUtilities.invokeLater(bulkTask);
 
-            SingletonManager.add("QuickBMSBulkExportTask", task);
+            SingletonManager.add("QuickBMSBulkExportTask", bulkTask);
           }
+          SwingUtilities.invokeLater(task);
+          return resource;
         }
       }
 
-      // Otherwise, in all normal cases, just trigger the extract and thumbnail generation as part of GameExtractor
-      Task_LoadThumbnailLater task = new Task_LoadThumbnailLater(resource, table, this, row, column);
-      task.setDirection(Task.DIRECTION_REDO);
-      SwingUtilities.invokeLater(task);
+      // Otherwise, in all normal cases, generate the thumbnail on the worker threads, with the cells on the screen first
+      scheduler.add(task);
 
     }
 
@@ -223,10 +244,19 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
   **********************************************************************************************
   **/
   public void reload() {
-    Resource[] resources = Archive.getResources();
+    Resource[] resources = null;
 
-    // Perform any filtering
-    resources = FileListFilter.filterResources(resources);
+    ResourceTable table = ArchiveContext.getDefault().getResourceTable();
+    if (table != null) {
+      // Perform any filtering, only creating the Resources that are shown
+      resources = FileListFilter.filterResources(table);
+    }
+    else {
+      resources = ArchiveContext.getDefault().getResources();
+
+      // Perform any filtering
+      resources = FileListFilter.filterResources(resources);
+    }
 
     reload(resources);
   }
@@ -247,8 +277,11 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
     }
     */
 
+    // the thumbnails that haven't been generated yet are for the old list of Resources
+    scheduler.cancelAll();
+
     this.resources = resources;
-    readPlugin = Archive.getReadPlugin();
+    readPlugin = ArchiveContext.getDefault().getReadPlugin();
 
     if (Settings.getBoolean("LoadAllThumbnailsWhenOpeningArchive")) {
       // If the user wants to load all the thumbnails straight up, allow it, but it's not the default, and takes a long time to load them all
@@ -302,4 +335,13 @@ public class FileListModel_Thumbnails extends AbstractTableModel implements File
   public void setValueAt(Object value, int row, int column) {
   }
 
+  /**
+  **********************************************************************************************
+  Tells the thumbnail generation which rows are on the screen, so they can be generated first
+  **********************************************************************************************
+  **/
+  public void setVisibleRows(int firstVisibleRow, int lastVisibleRow) {
+    scheduler.setVisibleRows(firstVisibleRow, lastVisibleRow);
+  }
+
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import org.watto.Language;
 import org.watto.Settings;
 import org.watto.TypecastSingletonManager;
 import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.plugin.ArchivePlugin;
@@ -77,6 +78,16 @@ public abstract class FileListPanel extends WSPanelPlugin {// implements WSDropa
     TypecastSingletonManager.getTaskManager("TaskManager").add(task);
   }
 
+  /**
+  **********************************************************************************************
+  Gets the archive shown in this panel. The panels always show the archive in the interface, even
+  when they're reloaded from a thread that has bound its own ArchiveContext.
+  **********************************************************************************************
+  **/
+  public ArchiveContext getArchiveContext() {
+    return ArchiveContext.getDefault();
+  }
+
   /**
   **********************************************************************************************
 
@@ -104,7 +115,7 @@ public abstract class FileListPanel extends WSPanelPlugin {// implements WSDropa
     if (dragOperation.equals("DragDrop_Add")) {
       // check that the archive is writable.
       // if not, show the menu instead.
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
       if (plugin != null) {
         if (!plugin.canWrite()) {
           // archive is not writable - replace only
@@ -246,6 +257,16 @@ public abstract class FileListPanel extends WSPanelPlugin {// implements WSDropa
     return selectionType;
   }
 
+  /**
+  **********************************************************************************************
+  If the list is showing the rows of a ResourceTable, gets the row of the table that is shown in
+  each row of the list. Otherwise, returns null.
+  **********************************************************************************************
+  **/
+  public int[] getTableRows() {
+    return null;
+  }
+
   /**
    **********************************************************************************************
    * Drops the transferable object from the component
@@ -259,7 +280,7 @@ public abstract class FileListPanel extends WSPanelPlugin {// implements WSDropa
 
 
 
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
       if (plugin != null) {
         if (!plugin.canReplace() && !plugin.canWrite()) {
           // archive is not modifiable
@@ -41,7 +41,6 @@ import javax.swing.table.TableColumnModel;
 
 import org.watto.Language;
 import org.watto.Settings;
-import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.event.WSClickableInterface;
 import org.watto.event.WSDoubleClickableInterface;
@@ -562,6 +561,16 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
   /**
   **********************************************************************************************
   
+  **********************************************************************************************
+  **/
+  @Override
+  public int[] getTableRows() {
+    return model.getTableRows();
+  }
+
+  /**
+  **********************************************************************************************
+  
   **********************************************************************************************
   **/
   @Override
@@ -734,7 +743,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
       return false;
     }
     
-    ArchivePlugin readPlugin = Archive.getReadPlugin();
+    ArchivePlugin readPlugin = getArchiveContext().getReadPlugin();
     if (readPlugin == null) {
       return false;
     }
@@ -860,7 +869,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
       }
 
       char columnChar = 'P';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -946,7 +955,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
       }
 
       char columnChar = 'O';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -1019,7 +1028,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
 
         String columnHeading;
         try {
-          columnHeading = Archive.getReadPlugin().getViewingColumn(column).toString();
+          columnHeading = getArchiveContext().getReadPlugin().getViewingColumn(column).toString();
         }
         catch (Throwable t) {
           columnHeading = Language.get("ColumnValue");
@@ -1053,7 +1062,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
 
         String columnHeading;
         try {
-          columnHeading = Archive.getReadPlugin().getViewingPropColumn(column).toString();
+          columnHeading = getArchiveContext().getReadPlugin().getViewingPropColumn(column).toString();
         }
         catch (Throwable t) {
           columnHeading = Language.get("ColumnValue");
@@ -1076,7 +1085,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
 
     if (source instanceof JTableHeader && source == table.getTableHeader()) {
 
-      ArchivePlugin readPlugin = Archive.getReadPlugin();
+      ArchivePlugin readPlugin = getArchiveContext().getReadPlugin();
       if (readPlugin == null) {
         return false;
       }
@@ -1164,7 +1173,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
   public void reload() {
 
     TableColumnModel columnModel = table.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1231,7 +1240,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
   public void reloadPropTable() {
 
     TableColumnModel columnModel = propTable.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingPropColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingPropColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1282,7 +1291,7 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
 
     initColumnSizes = false;
 
-    if (Archive.getReadPlugin().getNumProperties() > 0) {
+    if (getArchiveContext().getReadPlugin().getNumProperties() > 0) {
       propPanel.setVisible(true);
     }
     else {
@@ -1340,12 +1349,12 @@ public class FileListPanel_Table extends FileListPanel implements WSClickableInt
   @Override
   public void replaceMatchingFilesFromDrop() {
     if (dropFiles.length == 1 && dropFiles[0].isDirectory()) {
-      replaceMatchingFilesFromDrop(Archive.getResources(), dropFiles[0]);
+      replaceMatchingFilesFromDrop(getArchiveContext().getResources(), dropFiles[0]);
     }
     else {
       File file = dropFiles[0].getParentFile();
       if (file != null) {
-        replaceMatchingFilesFromDrop(Archive.getResources(), file);
+        replaceMatchingFilesFromDrop(getArchiveContext().getResources(), file);
       }
     }
   }
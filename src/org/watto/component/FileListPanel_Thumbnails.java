@@ -17,6 +17,7 @@ package org.watto.component;
 import java.awt.BorderLayout;
 import java.awt.MouseInfo;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
@@ -33,13 +34,14 @@ import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.TransferHandler;
 import javax.swing.border.LineBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
 
 import org.watto.Language;
 import org.watto.Settings;
-import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.event.WSClickableInterface;
 import org.watto.event.WSDoubleClickableInterface;
@@ -160,6 +162,15 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
     JScrollPane scrollPane = new JScrollPane(table);
     add(scrollPane, BorderLayout.CENTER);
 
+    // when scrolled, tell the model which rows are on the screen, so their thumbnails are generated first
+    scrollPane.getViewport().addChangeListener(new ChangeListener() {
+
+      @Override
+      public void stateChanged(ChangeEvent e) {
+        updateVisibleRows();
+      }
+    });
+
     table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
     table.setCellSelectionEnabled(true);
 
@@ -759,7 +770,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
   public boolean onColumnResize(TableColumnModel c, javax.swing.event.ChangeEvent ce) {
     // TODO needs to change the number of thumbnails of each row!
     /*
-    ArchivePlugin readPlugin = Archive.getReadPlugin();
+    ArchivePlugin readPlugin = getArchiveContext().getReadPlugin();
     if (readPlugin == null) {
       return false;
     }
@@ -910,7 +921,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
       }
 
       char columnChar = 'O';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -1009,7 +1020,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
 
       String columnHeading;
       try {
-        columnHeading = Archive.getReadPlugin().getViewingPropColumn(column).toString();
+        columnHeading = getArchiveContext().getReadPlugin().getViewingPropColumn(column).toString();
       }
       catch (Throwable t) {
         columnHeading = Language.get("ColumnValue");
@@ -1129,6 +1140,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
       model = new FileListModel_Thumbnails(table, columnCount);
       table.setModel(model);
       columnModel = table.getColumnModel();
+      updateVisibleRows();
     }
     else {
       model.reload();
@@ -1158,7 +1170,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
   public void reloadPropTable() {
 
     TableColumnModel columnModel = propTable.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingPropColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingPropColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1211,7 +1223,7 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
 
     initColumnSizes = false;
 
-    if (Archive.getReadPlugin().getNumProperties() > 0) {
+    if (getArchiveContext().getReadPlugin().getNumProperties() > 0) {
       propPanel.setVisible(true);
     }
     else {
@@ -1274,12 +1286,12 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
   @Override
   public void replaceMatchingFilesFromDrop() {
     if (dropFiles.length == 1 && dropFiles[0].isDirectory()) {
-      replaceMatchingFilesFromDrop(Archive.getResources(), dropFiles[0]);
+      replaceMatchingFilesFromDrop(getArchiveContext().getResources(), dropFiles[0]);
     }
     else {
       File file = dropFiles[0].getParentFile();
       if (file != null) {
-        replaceMatchingFilesFromDrop(Archive.getResources(), file);
+        replaceMatchingFilesFromDrop(getArchiveContext().getResources(), file);
       }
     }
   }
@@ -1363,4 +1375,28 @@ public class FileListPanel_Thumbnails extends FileListPanel implements WSClickab
     }
   }
 
-}
\ No newline at end of file
+  /**
+  **********************************************************************************************
+  Tells the model which rows of the table are on the screen
+  **********************************************************************************************
+  **/
+  void updateVisibleRows() {
+    if (model == null) {
+      return;
+    }
+
+    Rectangle visibleRect = table.getVisibleRect();
+    int firstVisibleRow = table.rowAtPoint(visibleRect.getLocation());
+    if (firstVisibleRow < 0) {
+      firstVisibleRow = 0;
+    }
+
+    int lastVisibleRow = table.rowAtPoint(new Point(visibleRect.x, visibleRect.y + visibleRect.height - 1));
+    if (lastVisibleRow < 0) {
+      lastVisibleRow = table.getRowCount() - 1;
+    }
+
+    model.setVisibleRows(firstVisibleRow, lastVisibleRow);
+  }
+
+}
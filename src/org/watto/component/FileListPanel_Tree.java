@@ -23,7 +23,16 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.io.File;
-import java.util.StringTokenizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.DefaultCellEditor;
 import javax.swing.JComponent;
@@ -31,6 +40,7 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 import javax.swing.TransferHandler;
 import javax.swing.border.LineBorder;
 import javax.swing.table.JTableHeader;
@@ -43,8 +53,10 @@ import javax.swing.tree.TreePath;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.FakeResource;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.event.WSClickableInterface;
 import org.watto.event.WSDoubleClickableInterface;
 import org.watto.event.WSKeyableInterface;
@@ -71,7 +83,25 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
 
   WSTree tree;
 
-  FileListModel_Tree root;
+  FileListModel_LazyTree root;
+
+  /** The split-up path of each file in the tree, to find the files that change when the tree is reloaded **/
+  volatile LinkedHashMap<Resource, String[]> treePaths = null;
+
+  /** The archive that the tree was built for **/
+  volatile File treeBasePath = null;
+
+  /** Counts the reloads, so a tree that was built for an older reload isn't shown **/
+  AtomicInteger reloadNumber = new AtomicInteger(0);
+
+  /** Builds the tree off the event thread, one reload at a time **/
+  ExecutorService buildExecutor = null;
+
+  /** The build for the latest reload, so it can be cancelled if it hasn't started by the next one **/
+  Future<?> buildTask = null;
+
+  /** If more files than this have changed when the tree is reloaded, a new tree is built instead **/
+  static final int MAX_INCREMENTAL_CHANGES = 1000;
 
   WSTable propTable;
 
@@ -816,7 +846,7 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
       }
 
       char columnChar = 'P';
-      //ArchivePlugin plugin = Archive.getReadPlugin();
+      //ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -894,7 +924,7 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
       }
 
       char columnChar = 'O';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -969,7 +999,7 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
 
         String columnHeading;
         try {
-          columnHeading = Archive.getReadPlugin().getViewingPropColumn(column).toString();
+          columnHeading = getArchiveContext().getReadPlugin().getViewingPropColumn(column).toString();
         }
         catch (Throwable t) {
           columnHeading = Language.get("ColumnValue");
@@ -1036,80 +1066,302 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
 
   /**
   **********************************************************************************************
-  
+  Builds the tree from the file list, on the background build thread if this is called from the
+  event thread. A build that is waiting for an older one to finish is cancelled, and the older
+  one stops as soon as it sees there's been another reload. If the files are from the same archive as the tree being shown, and only a few of them
+  have been added, removed, or renamed (such as after a rename, or a small filter change), just
+  those files are changed in the tree. Otherwise a new tree is built, with only the first level
+  of folders - the rest are built as they're expanded.
   **********************************************************************************************
   **/
   @Override
   public void reload() {
-    root = new FileListModel_Tree("Archive");
-    tree.setModel(new DefaultTreeModel(root));
+    final int thisReload = reloadNumber.incrementAndGet();
+
+    if (!SwingUtilities.isEventDispatchThread()) {
+      buildTree(thisReload);
+      return;
+    }
 
-    if (Archive.getColumn(0) == null) {
+    if (buildExecutor == null) {
+      buildExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread buildThread = new Thread(runnable, "FileListPanel_Tree Builder");
+          buildThread.setDaemon(true);
+          return buildThread;
+        }
+      });
+    }
+
+    if (buildTask != null) {
+      // not interrupted, as that would close any file channel that the build is reading from
+      buildTask.cancel(false);
+    }
+
+    buildTask = buildExecutor.submit(new Runnable() {
+
+      @Override
+      public void run() {
+        buildTree(thisReload);
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Works out the changes to the tree for reload number <i>thisReload</i>, then shows them on the
+  event thread, unless there has been another reload since
+  **********************************************************************************************
+  **/
+  void buildTree(final int thisReload) {
+    ArchiveContext archiveContext = getArchiveContext();
+
+    if (archiveContext.getColumn(0) == null) {
       // on startup
+      final FileListModel_LazyTree newRoot = new FileListModel_LazyTree("Archive");
+      newRoot.buildChildren();
+      SwingUtilities.invokeLater(new Runnable() {
+
+        @Override
+        public void run() {
+          if (thisReload == reloadNumber.get()) {
+            showTree(newRoot, null, new LinkedHashMap<Resource, String[]>());
+          }
+        }
+      });
       return;
     }
 
-    Resource[] resources = FileListSorter.sort(Archive.getColumn(0), false);
+    // Perform any filtering, on a copy of the files so the archive isn't changed by this thread
+    Resource[] resources = null;
+    ResourceTable resourceTable = archiveContext.getResourceTable();
+    if (resourceTable != null) {
+      resources = FileListFilter.filterResources(resourceTable);
+    }
+    else {
+      resources = FileListFilter.filterResources(archiveContext.getResources(0, archiveContext.getNumFiles()));
+    }
 
-    // Perform any filtering
-    resources = FileListFilter.filterResources(resources);
+    if (thisReload != reloadNumber.get()) {
+      return; // there's been another reload since
+    }
 
-    for (int i = 0; i < resources.length; i++) {
-      // get the resource
-      String name = resources[i].getName();
+    // Sort by path, with keys of our own - the FileListSorter is shared with the event thread
+    resources = FileListSorter.sortByPath(resources);
 
-      int left = name.lastIndexOf("\\");
-      int right = name.lastIndexOf("/");
+    int numResources = resources.length;
+    final LinkedHashMap<Resource, String[]> newPaths = new LinkedHashMap<Resource, String[]>(numResources * 4 / 3 + 1);
+    for (int i = 0; i < numResources; i++) {
+      newPaths.put(resources[i], FileListModel_LazyTree.splitPath(resources[i].getName()));
+    }
 
-      StringTokenizer token;
-      if (left > right) {
-        token = new StringTokenizer(name, "\\");
+    if (thisReload != reloadNumber.get()) {
+      return; // there's been another reload since
+    }
+
+    // See whether only a few files have changed since the tree was built
+    final File basePath = archiveContext.getBasePath();
+    final LinkedHashMap<Resource, String[]> oldPaths = treePaths;
+    if (oldPaths != null && basePath != null && basePath.equals(treeBasePath)) {
+      final ArrayList<Resource> removed = new ArrayList<Resource>();
+      final ArrayList<Resource> added = new ArrayList<Resource>();
+      boolean fewChanges = true;
+
+      for (Map.Entry<Resource, String[]> entry : oldPaths.entrySet()) {
+        String[] newPath = newPaths.get(entry.getKey());
+        if (newPath == null || !Arrays.equals(newPath, entry.getValue())) {
+          removed.add(entry.getKey());
+          if (removed.size() > MAX_INCREMENTAL_CHANGES) {
+            fewChanges = false;
+            break;
+          }
+        }
       }
-      else {
-        token = new StringTokenizer(name, "/");
-      }
-
-      int numTokens = token.countTokens();
-
-      FileListModel_Tree parent = root;
-      for (int j = 0; j < numTokens - 1; j++) {
-        String directory = token.nextToken();
-        boolean foundParent = false;
-        //System.out.println("In Directory: " + ((String)parent.getUserObject()));
-        for (int k = 0; k < parent.getChildCount(); k++) {
-          if (((String) ((FileListModel_Tree) parent.getChildAt(k)).getUserObject()).equals(directory)) {
-            //System.out.println("Found: " + directory);
-            // found the correct parent directory
-            FileListModel_Tree node = (FileListModel_Tree) parent.getChildAt(k);
-            foundParent = true;
-            k = parent.getChildCount();
-            parent = node;
+
+      if (fewChanges) {
+        for (Map.Entry<Resource, String[]> entry : newPaths.entrySet()) {
+          String[] oldPath = oldPaths.get(entry.getKey());
+          if (oldPath == null || !Arrays.equals(oldPath, entry.getValue())) {
+            added.add(entry.getKey());
+            if (removed.size() + added.size() > MAX_INCREMENTAL_CHANGES) {
+              fewChanges = false;
+              break;
+            }
           }
         }
+      }
+
+      if (fewChanges) {
+        SwingUtilities.invokeLater(new Runnable() {
 
-        if (!foundParent) {
-          //System.out.println("Making Directory: " + directory);
-          FileListModel_Tree node = new FileListModel_Tree(directory);
-          parent.add(node);
-          parent = node;
+          @Override
+          public void run() {
+            if (thisReload != reloadNumber.get()) {
+              return;
+            }
+            if (treePaths != oldPaths) {
+              reload(); // the tree has changed since the changes were worked out
+              return;
+            }
+            updateTree(oldPaths, newPaths, removed, added);
+          }
+        });
+        return;
+      }
+    }
+
+    // Build a new tree - only the first level of folders is built now, the rest wait until they're expanded
+    final FileListModel_LazyTree newRoot = new FileListModel_LazyTree("Archive");
+    for (Map.Entry<Resource, String[]> entry : newPaths.entrySet()) {
+      newRoot.addResource(entry.getKey(), entry.getValue());
+    }
+    newRoot.buildChildren();
+
+    SwingUtilities.invokeLater(new Runnable() {
+
+      @Override
+      public void run() {
+        if (thisReload == reloadNumber.get()) {
+          showTree(newRoot, basePath, newPaths);
         }
       }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the names of the folders along each path that is expanded in the tree
+  **********************************************************************************************
+  **/
+  ArrayList<String[]> getExpandedPaths() {
+    ArrayList<String[]> expandedPaths = new ArrayList<String[]>();
+    if (root == null) {
+      return expandedPaths;
+    }
+
+    Enumeration<TreePath> expanded = tree.getExpandedDescendants(new TreePath(root));
+    if (expanded == null) {
+      return expandedPaths;
+    }
+
+    while (expanded.hasMoreElements()) {
+      Object[] nodes = expanded.nextElement().getPath();
+      int numNames = nodes.length - 1; // skip the root
+      if (numNames <= 0) {
+        continue;
+      }
 
-      // by now we should have the correct location for the file, so add the resource
-      //System.out.println("Adding file to: " + ((String)parent.getUserObject()));
-      String filename = token.nextToken();
-      parent.add(new FileListModel_Tree(filename, resources[i]));
-      //System.out.println("File: " + filename);
+      String[] names = new String[numNames];
+      for (int i = 0; i < numNames; i++) {
+        names[i] = (String) ((FileListModel_Tree) nodes[i + 1]).getUserObject();
+      }
+      expandedPaths.add(names);
     }
+    return expandedPaths;
+  }
 
-    // sorts the tree under this node, and places the directories at the top of each branch
-    root.sort();
+  /**
+  **********************************************************************************************
+  Removes the <i>node</i> from the tree, along with any folders above it that are left empty
+  **********************************************************************************************
+  **/
+  void removeNode(DefaultTreeModel model, FileListModel_LazyTree node) {
+    while (node != root && node.getParent() != null) {
+      FileListModel_LazyTree parent = (FileListModel_LazyTree) node.getParent();
+      if (!node.isLeaf()) {
+        parent.removeDirectory(node);
+      }
+      model.removeNodeFromParent(node);
+
+      if (parent == root || !parent.isEmpty()) {
+        return;
+      }
+      node = parent;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Shows the <i>newRoot</i> in the tree. If the tree was already showing this archive, the same
+  folders are expanded again, otherwise the first level of folders is expanded.
+  **********************************************************************************************
+  **/
+  void showTree(FileListModel_LazyTree newRoot, File basePath, LinkedHashMap<Resource, String[]> newPaths) {
+    ArrayList<String[]> expandedPaths = null;
+    if (basePath != null && basePath.equals(treeBasePath)) {
+      expandedPaths = getExpandedPaths();
+    }
+
+    root = newRoot;
+    treePaths = newPaths;
+    treeBasePath = basePath;
+    tree.setModel(new DefaultTreeModel(root));
+
+    if (expandedPaths == null || expandedPaths.size() <= 0) {
+      expandAll();
+    }
+    else {
+      int numPaths = expandedPaths.size();
+      for (int p = 0; p < numPaths; p++) {
+        String[] names = expandedPaths.get(p);
+        int numNames = names.length;
+
+        Object[] nodes = new Object[numNames + 1];
+        nodes[0] = root;
+
+        FileListModel_LazyTree node = root;
+        for (int n = 0; n < numNames && node != null; n++) {
+          node = node.getDirectory(names[n]);
+          nodes[n + 1] = node;
+        }
+
+        if (node != null) {
+          tree.expandPath(new TreePath(nodes));
+        }
+      }
+    }
 
     tree.repaint();
-    expandAll();
 
-    reloadPropTable();
+    if (basePath != null) {
+      reloadPropTable();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Changes only the files that were <i>removed</i> or <i>added</i> (which includes renamed files)
+  in the tree being shown
+  **********************************************************************************************
+  **/
+  void updateTree(LinkedHashMap<Resource, String[]> oldPaths, LinkedHashMap<Resource, String[]> newPaths, ArrayList<Resource> removed, ArrayList<Resource> added) {
+    DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+
+    int numRemoved = removed.size();
+    for (int i = 0; i < numRemoved; i++) {
+      Resource resource = removed.get(i);
+      FileListModel_LazyTree node = root.removeResource(resource, oldPaths.get(resource));
+      if (node != null) {
+        removeNode(model, node);
+      }
+    }
 
+    int numAdded = added.size();
+    for (int i = 0; i < numAdded; i++) {
+      Resource resource = added.get(i);
+      FileListModel_LazyTree node = root.addResource(resource, newPaths.get(resource));
+      if (node != null) {
+        FileListModel_LazyTree parent = (FileListModel_LazyTree) node.getParent();
+        model.nodesWereInserted(parent, new int[] { parent.getIndex(node) });
+      }
+    }
+
+    treePaths = newPaths;
+
+    tree.repaint();
+    reloadPropTable();
   }
 
   /**
@@ -1120,7 +1372,7 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
   public void reloadPropTable() {
 
     TableColumnModel columnModel = propTable.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingPropColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingPropColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1174,7 +1426,7 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
     // Resize the properties table appropriately
     //propPanel.setPreferredSize(new Dimension(Integer.MAX_VALUE, propTable.getPreferredSize().height + 50));
 
-    if (Archive.getReadPlugin().getNumProperties() > 0) {
+    if (getArchiveContext().getReadPlugin().getNumProperties() > 0) {
       propPanel.setVisible(true);
     }
     else {
@@ -1232,12 +1484,12 @@ public class FileListPanel_Tree extends FileListPanel implements WSClickableInte
   @Override
   public void replaceMatchingFilesFromDrop() {
     if (dropFiles.length == 1 && dropFiles[0].isDirectory()) {
-      replaceMatchingFilesFromDrop(Archive.getResources(), dropFiles[0]);
+      replaceMatchingFilesFromDrop(getArchiveContext().getResources(), dropFiles[0]);
     }
     else {
       File file = dropFiles[0].getParentFile();
       if (file != null) {
-        replaceMatchingFilesFromDrop(Archive.getResources(), file);
+        replaceMatchingFilesFromDrop(getArchiveContext().getResources(), file);
       }
     }
   }
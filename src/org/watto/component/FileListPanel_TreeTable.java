@@ -49,7 +49,9 @@ import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.event.WSClickableInterface;
 import org.watto.event.WSDoubleClickableInterface;
 import org.watto.event.WSKeyableInterface;
@@ -994,12 +996,12 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
   @SuppressWarnings({ "unchecked", "rawtypes" })
   public void loadGroupTypes() {
     if (groupTypes.getItemCount() <= 0) {
-      if (Archive.getColumn('P') == null) {
+      if (getArchiveContext().getColumn('P') == null) {
         return; // table columns not loaded yet
       }
 
       groupTypes.removeAllItems();
-      WSTableColumn[] types = new WSTableColumn[] { Archive.getColumn('P'), Archive.getColumn('E'), Archive.getColumn('z'), Archive.getColumn('Z'), Archive.getColumn('S'), Archive.getColumn('r'), Archive.getColumn('R') };
+      WSTableColumn[] types = new WSTableColumn[] { getArchiveContext().getColumn('P'), getArchiveContext().getColumn('E'), getArchiveContext().getColumn('z'), getArchiveContext().getColumn('Z'), getArchiveContext().getColumn('S'), getArchiveContext().getColumn('r'), getArchiveContext().getColumn('R') };
       java.util.Arrays.sort(types);
       groupTypes.setModel(new DefaultComboBoxModel(types));
     }
@@ -1215,7 +1217,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
       return false;
     }
     
-    ArchivePlugin readPlugin = Archive.getReadPlugin();
+    ArchivePlugin readPlugin = getArchiveContext().getReadPlugin();
     if (readPlugin == null) {
       return false;
     }
@@ -1392,7 +1394,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
       }
 
       char columnChar = 'P';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -1478,7 +1480,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
       }
 
       char columnChar = 'O';
-      ArchivePlugin plugin = Archive.getReadPlugin();
+      ArchivePlugin plugin = getArchiveContext().getReadPlugin();
 
       // search the bottom half of the list
       for (int i = selectedIndex; i < numFiles; i++) {
@@ -1551,7 +1553,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
 
         String columnHeading;
         try {
-          columnHeading = Archive.getReadPlugin().getViewingColumn(column).toString();
+          columnHeading = getArchiveContext().getReadPlugin().getViewingColumn(column).toString();
         }
         catch (Throwable t) {
           columnHeading = Language.get("ColumnValue");
@@ -1585,7 +1587,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
 
         String columnHeading;
         try {
-          columnHeading = Archive.getReadPlugin().getViewingPropColumn(column).toString();
+          columnHeading = getArchiveContext().getReadPlugin().getViewingPropColumn(column).toString();
         }
         catch (Throwable t) {
           columnHeading = Language.get("ColumnValue");
@@ -1642,7 +1644,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
 
     if (source instanceof JTableHeader && source == table.getTableHeader()) {
 
-      ArchivePlugin readPlugin = Archive.getReadPlugin();
+      ArchivePlugin readPlugin = getArchiveContext().getReadPlugin();
       if (readPlugin == null) {
         return false;
       }
@@ -1773,7 +1775,8 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
   @Override
   public void reload() {
     //System.out.println("FileListPanel_TreeTable-->RELOAD");
-    Resource[] resources = Archive.getResources();
+    ArchiveContext context = getArchiveContext();
+    Resource[] resources = context.getResources(0, context.getNumFiles());
 
     int selected = Settings.getInt("SelectedTreeTableType");
     if (selected >= 0 && selected < groupTypes.getItemCount()) {
@@ -1832,7 +1835,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
   public void reloadPropTable() {
 
     TableColumnModel columnModel = propTable.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingPropColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingPropColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1883,7 +1886,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
 
     initColumnSizes = false;
 
-    if (Archive.getReadPlugin().getNumProperties() > 0) {
+    if (getArchiveContext().getReadPlugin().getNumProperties() > 0) {
       propPanel.setVisible(true);
     }
     else {
@@ -1914,7 +1917,7 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
    **/
   public void reloadTable() {
     TableColumnModel columnModel = table.getColumnModel();
-    WSTableColumn[] columns = Archive.getReadPlugin().getViewingColumns();
+    WSTableColumn[] columns = getArchiveContext().getReadPlugin().getViewingColumns();
 
     // If the column counts are different, we need to build a new model.
     // This is because columns have been added or removed from the table
@@ -1933,14 +1936,21 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
     if (root.getParent() == null) {
       // this is the root of the whole tree, so it should display all resources in the table
       // ie double-clicking the root node called "Archive"
-      resources = Archive.getResources();
+      ResourceTable resourceTable = getArchiveContext().getResourceTable();
+      if (resourceTable != null) {
+        // Perform any filtering, only creating the Resources that are shown
+        resources = FileListFilter.filterResources(resourceTable);
+      }
+      else {
+        resources = FileListFilter.filterResources(getArchiveContext().getResources());
+      }
     }
     else {
       resources = root.getChildrenResources(false, true);
-    }
 
-    // Perform any filtering
-    resources = FileListFilter.filterResources(resources);
+      // Perform any filtering
+      resources = FileListFilter.filterResources(resources);
+    }
 
     // load the resources
     model.reload(resources);
@@ -2052,12 +2062,12 @@ public class FileListPanel_TreeTable extends FileListPanel implements WSClickabl
   @Override
   public void replaceMatchingFilesFromDrop() {
     if (dropFiles.length == 1 && dropFiles[0].isDirectory()) {
-      replaceMatchingFilesFromDrop(Archive.getResources(), dropFiles[0]);
+      replaceMatchingFilesFromDrop(getArchiveContext().getResources(), dropFiles[0]);
     }
     else {
       File file = dropFiles[0].getParentFile();
       if (file != null) {
-        replaceMatchingFilesFromDrop(Archive.getResources(), file);
+        replaceMatchingFilesFromDrop(getArchiveContext().getResources(), file);
       }
     }
   }
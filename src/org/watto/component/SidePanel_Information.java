@@ -30,6 +30,7 @@ import org.watto.Language;
 import org.watto.component.model.UneditableTableModel;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.event.WSDoubleClickableInterface;
 import org.watto.event.WSMotionableInterface;
 import org.watto.ge.plugin.ArchivePlugin;
@@ -192,15 +193,23 @@ public class SidePanel_Information extends WSPanelPlugin implements WSMotionable
       row++;
     }
 
-    if (Archive.getResources() != null) {
-      Resource[] resources = Archive.getResources();
-
-      tableData[row] = new String[] { Language.get("Information_NumberOfFiles"), resources.length + "" };
+    int numFiles = Archive.getNumFiles();
+    if (numFiles > 0) {
+      tableData[row] = new String[] { Language.get("Information_NumberOfFiles"), numFiles + "" };
       row++;
 
       long arcSize = 0;
-      for (int i = 0; i < resources.length; i++) {
-        arcSize += resources[i].getDecompressedLength();
+      ResourceTable resourceTable = Archive.getResourceTable();
+      if (resourceTable != null) {
+        // read the lengths straight from the table, rather than creating all the Resources
+        for (int i = 0; i < numFiles; i++) {
+          arcSize += resourceTable.getDecompressedLength(i);
+        }
+      }
+      else {
+        for (int i = 0; i < numFiles; i++) {
+          arcSize += Archive.getResource(i).getDecompressedLength();
+        }
       }
 
       tableData[row] = new String[] { Language.get("Information_ArchiveSize"), arcSize + "" };
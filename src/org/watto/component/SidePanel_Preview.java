@@ -554,7 +554,14 @@ public class SidePanel_Preview extends WSPanelPlugin implements WSSelectableInte
       }
 
       //System.out.println("Opening with Viewer " + plugin.getCode());
-      PreviewPanel panel = plugin.read(path);
+      PreviewPanel panel = null;
+      ViewerPlugin.lockReading(plugin); // thumbnails could be generated by the viewers on other threads
+      try {
+        panel = plugin.read(path);
+      }
+      finally {
+        ViewerPlugin.unlockReading(plugin);
+      }
 
       if (panel != null) {
         // Remember the current Viewer plugin. This is used when Writing changes out to the filesystem in an "editor" PreviewPanel
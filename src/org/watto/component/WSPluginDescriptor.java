@@ -0,0 +1,284 @@
+////////////////////////////////////////////////////////////////////////////////////////////////
+//                                                                                            //
+//                                       WATTO STUDIOS                                        //
+//                             Java Code, Programs, and Software                              //
+//                                    http://www.watto.org                                    //
+//                                                                                            //
+//                           Copyright (C) 2004-2010  WATTO Studios                           //
+//                                                                                            //
+// This program is free software; you can redistribute it and/or modify it under the terms of //
+// the GNU General Public License published by the Free Software Foundation; either version 2 //
+// of the License, or (at your option) any later versions. This program is distributed in the //
+// hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties //
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License //
+// at http://www.gnu.org for more details. For updates and information about this program, go //
+// to the WATTO Studios website at http://www.watto.org or email watto@watto.org . Thanks! :) //
+//                                                                                            //
+////////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.watto.component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.watto.ErrorLogger;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ViewerPlugin;
+
+/***********************************************************************************************
+A lightweight entry for a <code>WSPlugin</code> that was read from the plugin manifest. It holds
+enough about the plugin to list it and to decide whether it needs to be rated against a file,
+and only loads and constructs the <code>WSPlugin</code> <code>class</code> the first time the
+plugin itself is needed.
+***********************************************************************************************/
+public class WSPluginDescriptor {
+
+  /** The text code of the <code>WSPlugin</code> **/
+  String code = "";
+
+  /** The type of the <code>WSPlugin</code> **/
+  String type = "";
+
+  /** The name of the <code>WSPlugin</code> <code>class</code> **/
+  String className = "";
+
+  /** The name of the <code>WSPlugin</code> **/
+  String name = "";
+
+  /** The directory that the <code>class</code> was loaded from, or "" for the classpath **/
+  String location = "";
+
+  /** The extensions of the <code>WSPlugin</code> **/
+  String[] extensions = new String[0];
+
+  /** The games of the <code>WSPlugin</code> **/
+  String[] games = new String[0];
+
+  /** The header bytes of the <code>WSPlugin</code>, or <b>null</b> if it didn't declare any **/
+  byte[][] matchHeaders = null;
+
+  /** The <code>WSPlugin</code>, once it has been loaded **/
+  WSPlugin plugin = null;
+
+  /** Whether the <code>WSPlugin</code> has been loaded (or failed to load) **/
+  boolean loaded = false;
+
+  /***********************************************************************************************
+  Builds a descriptor for a <code>plugin</code> that has already been loaded, so it can be
+  written to the plugin manifest
+  @param plugin the loaded <code>WSPlugin</code>
+  @return the descriptor
+  ***********************************************************************************************/
+  public static WSPluginDescriptor fromPlugin(WSPlugin plugin) {
+    WSPluginDescriptor descriptor = new WSPluginDescriptor();
+    descriptor.code = plugin.getCode();
+    descriptor.type = plugin.getType();
+    descriptor.className = plugin.getClass().getName();
+    descriptor.name = plugin.getName();
+    descriptor.location = WSPluginManager.getLocation(plugin.getClass());
+
+    if (plugin instanceof ArchivePlugin) {
+      ArchivePlugin archivePlugin = (ArchivePlugin) plugin;
+      descriptor.extensions = archivePlugin.getExtensions();
+      descriptor.games = archivePlugin.getGames();
+      descriptor.matchHeaders = archivePlugin.getMatchHeaders();
+    }
+    else if (plugin instanceof ViewerPlugin) {
+      ViewerPlugin viewerPlugin = (ViewerPlugin) plugin;
+      descriptor.extensions = viewerPlugin.getExtensions();
+      descriptor.games = viewerPlugin.getGames();
+    }
+
+    descriptor.plugin = plugin;
+    descriptor.loaded = true;
+    return descriptor;
+  }
+
+  /***********************************************************************************************
+  Reads a descriptor that was written by <code>write()</code>
+  @param input the manifest to read from
+  @return the descriptor
+  ***********************************************************************************************/
+  public static WSPluginDescriptor read(DataInputStream input) throws IOException {
+    WSPluginDescriptor descriptor = new WSPluginDescriptor();
+    descriptor.code = input.readUTF();
+    descriptor.type = input.readUTF();
+    descriptor.className = input.readUTF();
+    descriptor.name = input.readUTF();
+    descriptor.location = input.readUTF();
+    descriptor.extensions = readStrings(input);
+    descriptor.games = readStrings(input);
+
+    int numHeaders = input.readInt();
+    if (numHeaders >= 0) {
+      descriptor.matchHeaders = new byte[numHeaders][];
+      for (int h = 0; h < numHeaders; h++) {
+        byte[] header = new byte[input.readInt()];
+        input.readFully(header);
+        descriptor.matchHeaders[h] = header;
+      }
+    }
+
+    return descriptor;
+  }
+
+  /***********************************************************************************************
+  Reads an array of <code>String</code>s that was written by <code>writeStrings()</code>
+  ***********************************************************************************************/
+  static String[] readStrings(DataInputStream input) throws IOException {
+    int numStrings = input.readInt();
+    String[] strings = new String[numStrings];
+    for (int i = 0; i < numStrings; i++) {
+      strings[i] = input.readUTF();
+    }
+    return strings;
+  }
+
+  /***********************************************************************************************
+  Writes an array of <code>String</code>s, which can be <b>null</b>
+  ***********************************************************************************************/
+  static void writeStrings(DataOutputStream output, String[] strings) throws IOException {
+    if (strings == null) {
+      output.writeInt(0);
+      return;
+    }
+    output.writeInt(strings.length);
+    for (int i = 0; i < strings.length; i++) {
+      output.writeUTF(strings[i] == null ? "" : strings[i]);
+    }
+  }
+
+  /***********************************************************************************************
+  Constructor
+  ***********************************************************************************************/
+  public WSPluginDescriptor() {
+  }
+
+  /***********************************************************************************************
+  Gets the name of the <code>WSPlugin</code> <code>class</code>
+  @return the <code>className</code>
+  ***********************************************************************************************/
+  public String getClassName() {
+    return className;
+  }
+
+  /***********************************************************************************************
+  Gets the text code of the <code>WSPlugin</code>
+  @return the <code>code</code>
+  ***********************************************************************************************/
+  public String getCode() {
+    return code;
+  }
+
+  /***********************************************************************************************
+  Gets the extensions of the <code>WSPlugin</code>
+  @return the <code>extensions</code>
+  ***********************************************************************************************/
+  public String[] getExtensions() {
+    return extensions;
+  }
+
+  /***********************************************************************************************
+  Gets the games of the <code>WSPlugin</code>
+  @return the <code>games</code>
+  ***********************************************************************************************/
+  public String[] getGames() {
+    return games;
+  }
+
+  /***********************************************************************************************
+  Gets the header bytes declared by the <code>WSPlugin</code>
+  @return the <code>matchHeaders</code>, or <b>null</b> if the plugin didn't declare any
+  ***********************************************************************************************/
+  public byte[][] getMatchHeaders() {
+    return matchHeaders;
+  }
+
+  /***********************************************************************************************
+  Gets the name of the <code>WSPlugin</code>
+  @return the <code>name</code>
+  ***********************************************************************************************/
+  public String getName() {
+    return name;
+  }
+
+  /***********************************************************************************************
+  Gets the <code>WSPlugin</code>, loading and constructing it the first time it's needed
+  @return the <code>WSPlugin</code>, or <b>null</b> if it couldn't be loaded
+  ***********************************************************************************************/
+  public synchronized WSPlugin getPlugin() {
+    if (loaded) {
+      return plugin;
+    }
+    loaded = true;
+
+    try {
+      ClassLoader classLoader = WSPluginManager.getClassLoader(location);
+      plugin = (WSPlugin) classLoader.loadClass(className).newInstance();
+      plugin.setType(type);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log("Load Plugin failed for " + className + " of type " + type);
+      ErrorLogger.log(t);
+      plugin = null;
+    }
+
+    return plugin;
+  }
+
+  /***********************************************************************************************
+  Gets the type of the <code>WSPlugin</code>
+  @return the <code>type</code>
+  ***********************************************************************************************/
+  public String getType() {
+    return type;
+  }
+
+  /***********************************************************************************************
+  Whether the <code>WSPlugin</code> has been loaded yet?
+  @return <b>true</b> if <code>getPlugin()</code> has been called<br />
+          <b>false</b> if the <code>WSPlugin</code> hasn't been loaded yet
+  ***********************************************************************************************/
+  public synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  /***********************************************************************************************
+  Gets the name of the <code>WSPlugin</code>
+  @return the <code>name</code>
+  ***********************************************************************************************/
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /***********************************************************************************************
+  Writes this descriptor to the plugin manifest
+  @param output the manifest to write to
+  ***********************************************************************************************/
+  public void write(DataOutputStream output) throws IOException {
+    output.writeUTF(code);
+    output.writeUTF(type);
+    output.writeUTF(className);
+    output.writeUTF(name == null ? "" : name);
+    output.writeUTF(location);
+    writeStrings(output, extensions);
+    writeStrings(output, games);
+
+    if (matchHeaders == null) {
+      output.writeInt(-1);
+    }
+    else {
+      output.writeInt(matchHeaders.length);
+      for (int h = 0; h < matchHeaders.length; h++) {
+        byte[] header = matchHeaders[h];
+        if (header == null) {
+          header = new byte[0];
+        }
+        output.writeInt(header.length);
+        output.write(header);
+      }
+    }
+  }
+
+}
@@ -30,6 +30,12 @@ public class WSPluginGroup {
   /** The <code>WSPlugin</code>s in this group **/
   Hashtable<String,WSPlugin> plugins = new Hashtable<String,WSPlugin>(25);
 
+  /** The <code>WSPluginDescriptor</code>s from the plugin manifest, loaded or not **/
+  Hashtable<String,WSPluginDescriptor> descriptors = new Hashtable<String,WSPluginDescriptor>(25);
+
+  /** The number of <code>descriptors</code> that haven't been loaded yet **/
+  int numUnloaded = 0;
+
   /** The type of plugins in this group **/
   String type = "";
 
@@ -56,6 +62,36 @@ public class WSPluginGroup {
   }
 
 
+  /***********************************************************************************************
+  Adds a <code>WSPluginDescriptor</code> to this group. The <code>WSPlugin</code> isn't loaded
+  until it is needed.
+  @param descriptor the <code>WSPluginDescriptor</code> to add
+  ***********************************************************************************************/
+  public synchronized void addPluginDescriptor(WSPluginDescriptor descriptor){
+    WSPluginDescriptor oldDescriptor = descriptors.put(descriptor.getCode(),descriptor);
+    if (oldDescriptor != null && !oldDescriptor.isLoaded()) {
+      numUnloaded--;
+    }
+    if (!descriptor.isLoaded()) {
+      numUnloaded++;
+    }
+  }
+
+
+  /***********************************************************************************************
+  Gets the <code>WSPluginDescriptor</code>s in this group, including the ones that have already
+  been loaded. Groups that weren't read from the plugin manifest have no descriptors.
+  @return the <code>WSPluginDescriptor</code>s in this group
+  ***********************************************************************************************/
+  public WSPluginDescriptor[] getDescriptors(){
+    Collection<WSPluginDescriptor> descriptorValues = descriptors.values();
+
+    WSPluginDescriptor[] descriptorArray = new WSPluginDescriptor[descriptorValues.size()];
+    descriptorValues.toArray(descriptorArray);
+    return descriptorArray;
+  }
+
+
   /***********************************************************************************************
   Gets the <code>WSPlugin</code> in this group with the given <code>code</code> value
   @param code the text code of the <code>WSPlugin</code> to retrieve
@@ -63,7 +99,14 @@ public class WSPluginGroup {
           <code>WSPlugin</code> could be found with the text <code>code</code>
   ***********************************************************************************************/
   public WSPlugin getPlugin(String code){
-    return plugins.get(code);
+    WSPlugin plugin = plugins.get(code);
+    if (plugin == null && numUnloaded > 0) {
+      WSPluginDescriptor descriptor = descriptors.get(code);
+      if (descriptor != null) {
+        plugin = loadDescriptor(descriptor);
+      }
+    }
+    return plugin;
   }
 
 
@@ -72,7 +115,7 @@ public class WSPluginGroup {
   @return the <code>pluginCount</code>
   ***********************************************************************************************/
   public int getPluginCount(){
-    return plugins.size();
+    return plugins.size() + numUnloaded;
   }
 
 
@@ -81,6 +124,8 @@ public class WSPluginGroup {
   @return all the <code>WSPlugin</code>s in this group
   ***********************************************************************************************/
   public WSPlugin[] getPlugins(){
+    loadAllPlugins();
+
     Collection<WSPlugin> pluginValues = plugins.values();
 
     WSPlugin[] pluginArray = new WSPlugin[pluginValues.size()];
@@ -105,16 +150,73 @@ public class WSPluginGroup {
           <b>false</b> is no <code>WSPlugin</code> with the text <code>code</code> was found
   ***********************************************************************************************/
   public boolean hasPlugin(String code){
-    return plugins.containsKey(code);
+    if (plugins.containsKey(code)) {
+      return true;
+    }
+    WSPluginDescriptor descriptor = descriptors.get(code);
+    return (descriptor != null && !descriptor.isLoaded());
+  }
+
+
+  /***********************************************************************************************
+  Whether any of the <code>WSPluginDescriptor</code>s in this group haven't been loaded yet?
+  @return <b>true</b> if some <code>WSPlugin</code>s still need to be loaded<br />
+          <b>false</b> if all the <code>WSPlugin</code>s have been loaded
+  ***********************************************************************************************/
+  public boolean hasUnloadedPlugins(){
+    return numUnloaded > 0;
+  }
+
+
+  /***********************************************************************************************
+  Loads every <code>WSPluginDescriptor</code> in this group that hasn't been loaded yet
+  ***********************************************************************************************/
+  public void loadAllPlugins(){
+    if (numUnloaded <= 0) {
+      return;
+    }
+
+    WSPluginDescriptor[] descriptorArray = getDescriptors();
+    for (int i = 0; i < descriptorArray.length; i++) {
+      if (!descriptorArray[i].isLoaded()) {
+        loadDescriptor(descriptorArray[i]);
+      }
+    }
   }
 
 
+  /***********************************************************************************************
+  Loads the <code>WSPlugin</code> for the <code>descriptor</code> and adds it to this group
+  @param descriptor the <code>WSPluginDescriptor</code> to load
+  @return the <code>WSPlugin</code>, or <b>null</b> if it couldn't be loaded or is disabled
+  ***********************************************************************************************/
+  synchronized WSPlugin loadDescriptor(WSPluginDescriptor descriptor){
+    String code = descriptor.getCode();
+    if (!descriptor.isLoaded()) {
+      WSPlugin plugin = descriptor.getPlugin();
+      if (descriptors.get(code) == descriptor) {
+        numUnloaded--;
+      }
+      if (plugin != null && !plugins.containsKey(code)) {
+        addPlugin(plugin);
+      }
+    }
+    return plugins.get(code);
+  }
+
+
+
   /***********************************************************************************************
   Removes a <code>WSPlugin</code> from this group
   @param code the text code of the <code>WSPlugin</code> to remove
   ***********************************************************************************************/
-  public void removePlugin(String code){
+  public synchronized void removePlugin(String code){
     plugins.remove(code);
+
+    WSPluginDescriptor descriptor = descriptors.remove(code);
+    if (descriptor != null && !descriptor.isLoaded()) {
+      numUnloaded--;
+    }
   }
 
 
@@ -123,7 +225,7 @@ public class WSPluginGroup {
   @param plugin the <code>WSPlugin</code> to remove
   ***********************************************************************************************/
   public void removePlugin(WSPlugin plugin){
-    plugins.remove(plugin.getCode());
+    removePlugin(plugin.getCode());
   }
 
 
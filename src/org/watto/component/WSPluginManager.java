@@ -18,12 +18,21 @@
 
 package org.watto.component;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Enumeration;
 import java.util.Hashtable;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.watto.ErrorLogger;
@@ -34,12 +43,29 @@ import org.watto.xml.XMLReader;
 
 /***********************************************************************************************
  * Manages dynamic <code>WSPlugin</code>s that can be loaded from directories and ZIP files.
+ * <br /><br />
+ * When the <i>LazyPluginLoading</i> <code>Settings</code> is on, the plugins are registered
+ * from a plugin manifest as <code>WSPluginDescriptor</code>s, and each <code>class</code> is
+ * only loaded when the plugin is first used. The manifest is written after the plugins are
+ * loaded normally, and is rebuilt whenever the plugin locations change.
  ***********************************************************************************************/
 public class WSPluginManager {
 
+  /** Marks the start of a plugin manifest **/
+  static final int MANIFEST_MAGIC = 0x4D4C5047; // "GPLM"
+
+  /** Changed whenever the format of the plugin manifest changes, so old files are ignored **/
+  static final int MANIFEST_VERSION = 1;
+
   /** The plugin groups **/
   static Hashtable<String, WSPluginGroup> groups = new Hashtable<String, WSPluginGroup>();
 
+  /** The <code>ClassLoader</code>s for plugins in directories, shared by all the plugins in each directory **/
+  static Hashtable<String, ClassLoader> classLoaders = new Hashtable<String, ClassLoader>();
+
+  /** How long the last <code>loadPlugins()</code> took, in milliseconds **/
+  static long loadTime = 0;
+
   /***********************************************************************************************
    * Creates a <code>WSPluginGroup</code> for the given <code>WSPlugin</code> <code>type</code>
    * @param type the <code>WSPlugin</code> type
@@ -107,6 +133,164 @@ public class WSPluginManager {
     }
   }
 
+  /***********************************************************************************************
+   * Adds a <code>File</code> to a fingerprint of the plugin locations. Files are added together
+   * so the fingerprint doesn't depend on the order that they're listed in.
+   ***********************************************************************************************/
+  static long addToFingerprint(long fingerprint, File file) {
+    long fileHash = file.getAbsolutePath().hashCode();
+    fileHash = fileHash * 31 + file.length();
+    fileHash = fileHash * 31 + file.lastModified();
+    return fingerprint + (fileHash * 0x9E3779B97F4A7C15L);
+  }
+
+  /***********************************************************************************************
+   * Adds all the <code>class</code> files in a <code>directory</code> to a fingerprint of the
+   * plugin locations
+   ***********************************************************************************************/
+  static long addDirectoryToFingerprint(long fingerprint, File directory, boolean traverse) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return fingerprint;
+    }
+
+    for (int i = 0; i < files.length; i++) {
+      File file = files[i];
+      if (file.isDirectory()) {
+        if (traverse) {
+          fingerprint = addDirectoryToFingerprint(fingerprint, file, traverse);
+        }
+      }
+      else if (file.getName().endsWith(".class")) {
+        fingerprint = addToFingerprint(fingerprint, file);
+      }
+    }
+    return fingerprint;
+  }
+
+  /***********************************************************************************************
+   * Gets the <code>ClassLoader</code> for plugins that were loaded from the <code>location</code>.
+   * One <code>ClassLoader</code> is shared by all the plugins in each location.
+   * @param location the URL of the directory, or "" for the classpath
+   * @return the <code>ClassLoader</code>
+   ***********************************************************************************************/
+  public static ClassLoader getClassLoader(String location) {
+    if (location == null || location.length() <= 0) {
+      return ClassLoader.getSystemClassLoader();
+    }
+
+    synchronized (classLoaders) {
+      ClassLoader classLoader = classLoaders.get(location);
+      if (classLoader == null) {
+        try {
+          classLoader = URLClassLoader.newInstance(new URL[] { new URL(location) });
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+          classLoader = ClassLoader.getSystemClassLoader();
+        }
+        classLoaders.put(location, classLoader);
+      }
+      return classLoader;
+    }
+  }
+
+  /***********************************************************************************************
+   * Gets a fingerprint of all the plugin locations in the <code>pluginPreferences</code>, which
+   * changes whenever a plugin <code>class</code> or ZIP file is added, removed or changed. Only
+   * the directories are listed - nothing is loaded.
+   * @param pluginPreferences an XML-format <code>File</code> that lists directories and ZIP
+   *        files
+   * @return the fingerprint
+   ***********************************************************************************************/
+  public static long getFingerprint(File pluginPreferences) {
+    long fingerprint = addToFingerprint(MANIFEST_VERSION, pluginPreferences);
+
+    try {
+      XMLNode root = XMLReader.read(pluginPreferences);
+      XMLNode locationsNode = root.getChild("locations");
+      int locationCount = locationsNode.getChildCount();
+
+      for (int i = 0; i < locationCount; i++) {
+        XMLNode locationNode = locationsNode.getChild(i);
+
+        File location = getLocationFile(locationNode.getContent());
+        if (location == null) {
+          fingerprint = fingerprint * 31 + i;
+          continue;
+        }
+
+        if (location.isDirectory()) {
+          String tag = locationNode.getAttribute("traverse");
+          boolean traverse = (tag != null && tag.equals("true"));
+          fingerprint = addDirectoryToFingerprint(fingerprint, location, traverse);
+        }
+        else {
+          fingerprint = addToFingerprint(fingerprint, location);
+        }
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+
+    return fingerprint;
+  }
+
+  /***********************************************************************************************
+   * Gets the location that a plugin <code>class</code> was loaded from, so the same
+   * <code>ClassLoader</code> can be used to load it from the plugin manifest
+   * @param pluginClass the plugin <code>class</code>
+   * @return the URL of the directory, or "" for the classpath
+   ***********************************************************************************************/
+  public static String getLocation(Class<?> pluginClass) {
+    ClassLoader classLoader = pluginClass.getClassLoader();
+    if (classLoader instanceof URLClassLoader && classLoader != ClassLoader.getSystemClassLoader()) {
+      URL[] urls = ((URLClassLoader) classLoader).getURLs();
+      if (urls.length > 0) {
+        return urls[0].toString();
+      }
+    }
+    return "";
+  }
+
+  /***********************************************************************************************
+   * Finds the <code>File</code> for a location in the plugin preferences
+   * @param locationName the name of the location
+   * @return the <code>File</code>, or <b>null</b> if it doesn't exist
+   ***********************************************************************************************/
+  static File getLocationFile(String locationName) {
+    File location = new File(new File(locationName).getAbsolutePath());
+
+    if (!location.exists()) {
+      // Lets try swapping the / and \ characters, in case we're on Unix
+      locationName = locationName.replace('\\', '/');
+      location = new File(new File(locationName).getAbsolutePath());
+
+      if (!location.exists()) {
+        return null;
+      }
+    }
+    return location;
+  }
+
+  /***********************************************************************************************
+   * Gets how long the last <code>loadPlugins()</code> took
+   * @return the time, in milliseconds
+   ***********************************************************************************************/
+  public static long getLoadTime() {
+    return loadTime;
+  }
+
+  /***********************************************************************************************
+   * Gets the plugin manifest <code>File</code> from the <i>PluginManifestFile</i>
+   * <code>Settings</code>
+   * @return the plugin manifest <code>File</code>
+   ***********************************************************************************************/
+  public static File getManifestFile() {
+    return new File(new File(Settings.getString("PluginManifestFile")).getAbsolutePath());
+  }
+
   /***********************************************************************************************
    * Gets the <code>WSPluginGroup</code> for the given <code>WSPlugin</code> <code>type</code>
    * @param type the <code>WSPlugin</code> type
@@ -161,8 +345,7 @@ public class WSPluginManager {
    ***********************************************************************************************/
   public static void loadPlugin(File pluginFile) {
     try {
-      URL classURL = new URL("file:" + pluginFile.getParent() + "/");
-      URLClassLoader cl = URLClassLoader.newInstance(new URL[] { classURL });
+      ClassLoader cl = getClassLoader(new URL("file:" + pluginFile.getParent() + "/").toString());
 
       String name = pluginFile.getName();
       if (name.length() <= 6 || name.indexOf(".class") < 0) {
@@ -202,6 +385,90 @@ public class WSPluginManager {
    *        files
    ***********************************************************************************************/
   public static void loadPlugins(File pluginPreferences) {
+    long startTime = System.currentTimeMillis();
+
+    if (Settings.getBoolean("LazyPluginLoading")) {
+      File manifestFile = getManifestFile();
+      long fingerprint = getFingerprint(pluginPreferences);
+
+      if (!readManifest(manifestFile, fingerprint)) {
+        // no manifest, or the plugins have changed - load them all, then build a new manifest
+        scanLocations(pluginPreferences);
+        writeManifest(manifestFile, fingerprint);
+      }
+    }
+    else {
+      scanLocations(pluginPreferences);
+    }
+
+    loadTime = System.currentTimeMillis() - startTime;
+    if (Settings.getBoolean("DebugMode")) {
+      ErrorLogger.log("[WSPluginManager] Plugins loaded in " + loadTime + "ms");
+    }
+  }
+
+  /***********************************************************************************************
+   * Registers the plugins from the plugin <code>manifestFile</code> as
+   * <code>WSPluginDescriptor</code>s, without loading any of their <code>class</code>es
+   * @param manifestFile the plugin manifest
+   * @param fingerprint the fingerprint of the plugin locations, which must match the manifest
+   * @return <b>true</b> if the plugins were registered<br />
+   *         <b>false</b> if the manifest doesn't exist or is out of date
+   ***********************************************************************************************/
+  public static boolean readManifest(File manifestFile, long fingerprint) {
+    if (!manifestFile.exists()) {
+      return false;
+    }
+
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new InflaterInputStream(new FileInputStream(manifestFile)), 65536));
+
+      if (input.readInt() != MANIFEST_MAGIC || input.readInt() != MANIFEST_VERSION || input.readLong() != fingerprint) {
+        return false;
+      }
+
+      int numDescriptors = input.readInt();
+      WSPluginDescriptor[] descriptors = new WSPluginDescriptor[numDescriptors];
+      for (int i = 0; i < numDescriptors; i++) {
+        descriptors[i] = WSPluginDescriptor.read(input);
+      }
+
+      // only register them once the whole manifest has been read successfully
+      for (int i = 0; i < numDescriptors; i++) {
+        String pluginType = descriptors[i].getType();
+        WSPluginGroup group = groups.get(pluginType);
+        if (group == null) {
+          addGroup(pluginType);
+          group = groups.get(pluginType);
+        }
+        group.addPluginDescriptor(descriptors[i]);
+      }
+
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+    finally {
+      try {
+        if (input != null) {
+          input.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+    }
+  }
+
+  /***********************************************************************************************
+   * Loads a list of directories and ZIP files from the <code>pluginPreferences</code> and scans
+   * them for <code>WSPlugin</code>s, loading every one of them straight away
+   * @param pluginPreferences an XML-format <code>File</code> that lists directories and ZIP
+   *        files
+   ***********************************************************************************************/
+  public static void scanLocations(File pluginPreferences) {
     try {
 
       XMLNode root = XMLReader.read(pluginPreferences);
@@ -228,17 +495,10 @@ public class WSPluginManager {
         XMLNode locationNode = locationsNode.getChild(i);
 
         String locationName = locationNode.getContent();
-        File location = new File(new File(locationName).getAbsolutePath());
-
-        if (!location.exists()) {
-          // Lets try swapping the / and \ characters, in case we're on Unix
-          locationName = locationName.replace('\\', '/');
-          location = new File(new File(locationName).getAbsolutePath());
-
-          if (!location.exists()) {
-            ErrorLogger.log("[WSPluginManager] Plugin location " + locationName + " could not be found");
-            continue;
-          }
+        File location = getLocationFile(locationName);
+        if (location == null) {
+          ErrorLogger.log("[WSPluginManager] Plugin location " + locationName + " could not be found");
+          continue;
         }
 
         String locationType = locationNode.getAttribute("type");
@@ -316,8 +576,7 @@ public class WSPluginManager {
 
       File[] files = directory.listFiles();
 
-      URL classURL = new URL("file:" + directory.getAbsolutePath() + "/");
-      URLClassLoader cl = URLClassLoader.newInstance(new URL[] { classURL });
+      ClassLoader cl = getClassLoader(new URL("file:" + directory.getAbsolutePath() + "/").toString());
 
       for (int i = 0; i < files.length; i++) {
         File file = files[i];
@@ -442,6 +701,71 @@ public class WSPluginManager {
     }
   }
 
+  /***********************************************************************************************
+   * Writes all the loaded plugins to the plugin <code>manifestFile</code>, so the next time the
+   * program starts they can be registered without loading their <code>class</code>es
+   * @param manifestFile the plugin manifest
+   * @param fingerprint the fingerprint of the plugin locations
+   * @return <b>true</b> if the manifest was written<br />
+   *         <b>false</b> if the manifest couldn't be written
+   ***********************************************************************************************/
+  public static boolean writeManifest(File manifestFile, long fingerprint) {
+    File tempFile = new File(manifestFile.getAbsolutePath() + ".tmp");
+    DataOutputStream output = null;
+    boolean saved = false;
+    try {
+      File parent = manifestFile.getParentFile();
+      if (parent != null) {
+        parent.mkdirs();
+      }
+
+      output = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(tempFile), new Deflater(Deflater.BEST_SPEED)), 65536));
+
+      output.writeInt(MANIFEST_MAGIC);
+      output.writeInt(MANIFEST_VERSION);
+      output.writeLong(fingerprint);
+
+      WSPluginGroup[] groupArray = getGroups();
+      WSPlugin[][] pluginArrays = new WSPlugin[groupArray.length][];
+      int numDescriptors = 0;
+      for (int g = 0; g < groupArray.length; g++) {
+        pluginArrays[g] = groupArray[g].getPlugins();
+        numDescriptors += pluginArrays[g].length;
+      }
+      output.writeInt(numDescriptors);
+
+      for (int g = 0; g < groupArray.length; g++) {
+        WSPlugin[] plugins = pluginArrays[g];
+        for (int p = 0; p < plugins.length; p++) {
+          WSPluginDescriptor.fromPlugin(plugins[p]).write(output);
+        }
+      }
+
+      output.close();
+      output = null;
+
+      manifestFile.delete();
+      saved = tempFile.renameTo(manifestFile);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      try {
+        if (output != null) {
+          output.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+
+      if (!saved) {
+        tempFile.delete();
+      }
+    }
+    return saved;
+  }
+
   /***********************************************************************************************
    * Constructor
    ***********************************************************************************************/
@@ -18,12 +18,8 @@ import java.io.File;
 import javax.swing.Icon;
 import javax.swing.filechooser.FileSystemView;
 import org.watto.ErrorLogger;
-import org.watto.Language;
 import org.watto.Settings;
-import org.watto.component.ComponentRepository;
-import org.watto.component.SidePanel_DirectoryList;
 import org.watto.component.WSTableColumn;
-import org.watto.ge.GameExtractor;
 import org.watto.ge.plugin.AllFilesPlugin;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.io.DirectoryBuilder;
@@ -39,23 +35,13 @@ import org.watto.plaf.LookAndFeelManager;
  * <br>
  * This class is entirely static. You will need to call the constructor once in order to set up a
  * few globals and such, but from this point onwards you would simply call the methods directly
- * such as by "Archive.runMethod()".
+ * such as by "Archive.runMethod()". The details of the archive are held in an ArchiveContext -
+ * the methods work on the context bound to the current thread, or the archive shown in the
+ * interface if there isn't one, so several archives can be worked on at the same time.
  **********************************************************************************************
  **/
 public class Archive {
 
-  /** The file that was read into this archive **/
-  static File basePath = null;
-
-  /** The columns to be shown in the current FileListPanel **/
-  static WSTableColumn[] columns = new WSTableColumn[0];
-
-  /** The plugin used to read the <i>basePath</i> archive **/
-  static ArchivePlugin readPlugin = new AllFilesPlugin();
-
-  /** The resources stored in this archive **/
-  static Resource[] resources = new Resource[0];
-
   static Icon fileIcon;
 
   static Icon renamedIcon;
@@ -80,26 +66,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addDirectory(File directory, String directoryName) {
-    try {
-
-      File[] files = directory.listFiles();
-
-      int numFiles = resources.length;
-      int newNumFiles = numFiles + files.length;
-      resizeResources(newNumFiles);
-      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
-        if (files[j].isDirectory()) {
-          addDirectory(files[j], directoryName + files[j].getName() + File.separator);
-        }
-        else {
-          resources[i] = readPlugin.getBlankResource(files[j], directoryName + files[j].getName());
-        }
-      }
-
-    }
-    catch (Throwable t) {
-      logError(t);
-    }
+    getContext().addDirectory(directory, directoryName);
   }
 
   /**
@@ -110,30 +77,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addFiles(File[] files) {
-    try {
-
-      int numFiles = resources.length;
-      int newNumFiles = numFiles + files.length;
-      resizeResources(newNumFiles);
-      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
-        if (files[j].isDirectory()) {
-          addDirectory(files[j], files[j].getName() + File.separator);
-        }
-        else {
-          resources[i] = readPlugin.getBlankResource(files[j], files[j].getName());
-        }
-      }
-
-      // when a directory is added, it doesn't appear as a file in the list,
-      // rather the contents of the directory are added instead. This call
-      // will ensure that any nulls created by adding a directory will be
-      // removed from the array.
-      removeNullResources();
-
-    }
-    catch (Throwable t) {
-      logError(t);
-    }
+    getContext().addFiles(files);
   }
 
   /**
@@ -143,9 +87,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addResource(Resource file) {
-    int numResources = resources.length;
-    resizeResources(numResources + 1);
-    resources[numResources] = file;
+    getContext().addResource(file);
   }
 
   /**
@@ -155,15 +97,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void addResources(Resource[] files) {
-
-    int numFiles = resources.length;
-    int newNumFiles = numFiles + files.length;
-    resizeResources(newNumFiles);
-
-    for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
-      resources[i] = files[j];
-    }
-
+    getContext().addResources(files);
   }
 
   /**
@@ -173,9 +107,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void extractAllResources(File directory) {
-    for (int i = 0; i < resources.length; i++) {
-      resources[i].extract(directory);
-    }
+    getContext().extractAllResources(directory);
   }
 
   /**
@@ -200,12 +132,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static String getArchiveName() {
-    if (basePath == null) {
-      return "newArchive";
-    }
-    else {
-      return basePath.getName();
-    }
+    return getContext().getArchiveName();
   }
 
   /**
@@ -215,7 +142,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static File getBasePath() {
-    return basePath;
+    return getContext().getBasePath();
   }
 
   /**
@@ -226,12 +153,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static WSTableColumn getColumn(char columnCode) {
-    for (int i = 0; i < columns.length; i++) {
-      if (columns[i].getCharCode() == columnCode) {
-        return columns[i];
-      }
-    }
-    return null;
+    return getContext().getColumn(columnCode);
   }
 
   /**
@@ -242,12 +164,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static WSTableColumn getColumn(int column) {
-    if (column < columns.length) {
-      return columns[column];
-    }
-    else {
-      return null;
-    }
+    return getContext().getColumn(column);
   }
 
   /**
@@ -257,10 +174,18 @@ public class Archive {
    **********************************************************************************************
    **/
   public static WSTableColumn[] getColumns() {
-    if (columns == null) {
-      columns = getDefaultColumns();
-    }
-    return columns;
+    return getContext().getColumns();
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the context that the static methods work on - the one bound to the current thread, or
+   * the archive shown in the interface if there isn't one
+   * @return the current context
+   **********************************************************************************************
+   **/
+  public static ArchiveContext getContext() {
+    return ArchiveContext.getCurrent();
   }
 
   /**
@@ -338,7 +263,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static int getNumColumns() {
-    return columns.length;
+    return getContext().getNumColumns();
   }
 
   /**
@@ -348,10 +273,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static int getNumFiles() {
-    if (resources == null) {
-      return 0;
-    }
-    return resources.length;
+    return getContext().getNumFiles();
   }
 
   /**
@@ -361,7 +283,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static ArchivePlugin getReadPlugin() {
-    return readPlugin;
+    return getContext().getReadPlugin();
   }
 
   /**
@@ -400,7 +322,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static Resource getResource(int num) {
-    return resources[num];
+    return getContext().getResource(num);
   }
 
   /**
@@ -410,7 +332,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static Resource[] getResources() {
-    return resources;
+    return getContext().getResources();
   }
 
   /**
@@ -420,9 +342,19 @@ public class Archive {
    **********************************************************************************************
    **/
   public static Resource[] getResources(int startResource, int numOfResources) {
-    Resource[] range = new Resource[numOfResources];
-    System.arraycopy(resources, startResource, range, 0, numOfResources);
-    return range;
+    return getContext().getResources(startResource, numOfResources);
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the compact table of resources, if the archive is currently held in one. Things that
+   * only need to look at the resources (sorting, filtering, showing the file list) can use this
+   * to avoid creating a Resource for every file.
+   * @return the table, or null if the resources are held in a normal array
+   **********************************************************************************************
+   **/
+  public static ResourceTable getResourceTable() {
+    return getContext().getResourceTable();
   }
 
   /**
@@ -433,25 +365,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static WSTableColumn[] getSearchableColumns() {
-    WSTableColumn[] columns = getColumns();
-
-    WSTableColumn[] outColumns = new WSTableColumn[columns.length];
-    int numColumns = 0;
-
-    for (int i = 0; i < columns.length; i++) {
-      if (columns[i].getType() != Icon.class) {
-        outColumns[numColumns] = columns[i];
-        numColumns++;
-      }
-    }
-
-    if (numColumns != outColumns.length) {
-      columns = outColumns;
-      outColumns = new WSTableColumn[numColumns];
-      System.arraycopy(columns, 0, outColumns, 0, numColumns);
-    }
-
-    return outColumns;
+    return getContext().getSearchableColumns();
   }
 
   /**
@@ -472,17 +386,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void makeNewArchive() {
-
-    resources = new Resource[0];
-    readPlugin = new AllFilesPlugin();
-    basePath = null;
-
-    columns = getDefaultColumns();
-
-    setBasePath(null);
-
-    SidePanel_DirectoryList panel = (SidePanel_DirectoryList) ComponentRepository.get("SidePanel_DirectoryList");
-    panel.checkInvalidControls();
+    getContext().makeNewArchive();
   }
 
   /**
@@ -491,7 +395,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void removeAllResources() {
-    resources = new Resource[0];
+    getContext().removeAllResources();
   }
 
   /**
@@ -501,40 +405,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void removeNullResources() {
-    try {
-
-      // find the 2 pointers
-      int nullPos = -1;
-      int nextFile = -1;
-      for (int i = 0; i < resources.length; i++) {
-        if (nullPos == -1 && resources[i] == null) {
-          nullPos = i;
-        }
-        if (nullPos > -1 && resources[i] != null) {
-          nextFile = i;
-          i = resources.length;
-        }
-      }
-
-      // re-shuffle the resource array to the top
-      if (nullPos > -1 && nextFile > -1) {
-        for (int i = nextFile; i < resources.length; i++) {
-          if (resources[i] != null) {
-            resources[nullPos] = resources[i];
-            nullPos++;
-          }
-        }
-      }
-
-      // resize the resources array
-      if (nullPos > -1) {
-        resizeResources(nullPos);
-      }
-
-    }
-    catch (Throwable t) {
-      logError(t);
-    }
+    getContext().removeNullResources();
   }
 
   /**
@@ -544,7 +415,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void removeResource(int num) {
-    removeResource(resources[num]);
+    getContext().removeResource(num);
   }
 
   /**
@@ -554,7 +425,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void removeResource(Resource file) {
-    removeResources(new Resource[] { file });
+    getContext().removeResource(file);
   }
 
   /**
@@ -564,28 +435,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void removeResources(Resource[] files) {
-    try {
-
-      // null out the resources to remove
-      int filesPos = 0;
-      while (filesPos < files.length) {
-        for (int i = 0; i < resources.length; i++) {
-          if (files[filesPos] == resources[i]) {
-            resources[i] = null;
-            filesPos++;
-            if (filesPos >= files.length) {
-              i = resources.length;
-            }
-          }
-        }
-      }
-
-      removeNullResources();
-
-    }
-    catch (Throwable t) {
-      logError(t);
-    }
+    getContext().removeResources(files);
   }
 
   /**
@@ -595,15 +445,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void resizeResources(int numResources) {
-    Resource[] temp = resources;
-    resources = new Resource[numResources];
-
-    if (numResources < temp.length) {
-      System.arraycopy(temp, 0, resources, 0, numResources);
-    }
-    else {
-      System.arraycopy(temp, 0, resources, 0, temp.length);
-    }
+    getContext().resizeResources(numResources);
   }
 
   /**
@@ -613,16 +455,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setBasePath(File basePathNew) {
-    basePath = basePathNew;
-
-
-      if (basePath == null) {
-        GameExtractor.getInstance().setTitle(Language.get("ProgramName_Free") + " " + Settings.get("Version") + " - http://www.watto.org");
-      }
-      else {
-        GameExtractor.getInstance().setTitle(Language.get("ProgramName_Free") + " " + Settings.get("Version") + " [" + basePath.getName() + "]");
-      }
-
+    getContext().setBasePath(basePathNew);
   }
 
   /**
@@ -631,7 +464,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setColumns() {
-    columns = getDefaultColumns();
+    getContext().setColumns(getDefaultColumns());
   }
 
   /**
@@ -641,7 +474,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setColumns(WSTableColumn[] columnsNew) {
-    columns = columnsNew;
+    getContext().setColumns(columnsNew);
   }
 
   /**
@@ -651,7 +484,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setNumFiles(int numFiles) {
-    resizeResources(numFiles);
+    getContext().resizeResources(numFiles);
   }
 
   /**
@@ -661,10 +494,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setReadPlugin(ArchivePlugin pluginNew) {
-    readPlugin = pluginNew;
-
-    SidePanel_DirectoryList panel = (SidePanel_DirectoryList) ComponentRepository.get("SidePanel_DirectoryList");
-    panel.checkInvalidControls();
+    getContext().setReadPlugin(pluginNew);
   }
 
   /**
@@ -674,7 +504,17 @@ public class Archive {
    **********************************************************************************************
    **/
   public static void setResources(Resource[] resourcesNew) {
-    resources = resourcesNew;
+    getContext().setResources(resourcesNew);
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the resources in the archive, held in a compact table
+   * @param resourcesNew the new resources
+   **********************************************************************************************
+   **/
+  public static void setResources(ResourceTable resourcesNew) {
+    getContext().setResources(resourcesNew);
   }
 
   /**
@@ -683,7 +523,7 @@ public class Archive {
    **********************************************************************************************
    **/
   public Archive() {
-    columns = getDefaultColumns();
+    ArchiveContext.getDefault().setColumns(getDefaultColumns());
     try {
       //fileIcon = new ImageIcon(getClass().getResource("images/WSTable/GenericFile.png"));
       //renamedIcon = new ImageIcon(getClass().getResource("images/WSTable/Renamed.png"));
@@ -0,0 +1,687 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.datatype;
+
+import java.io.File;
+import javax.swing.Icon;
+import org.watto.Language;
+import org.watto.Settings;
+import org.watto.component.ComponentRepository;
+import org.watto.component.SidePanel_DirectoryList;
+import org.watto.component.WSTableColumn;
+import org.watto.ge.GameExtractor;
+import org.watto.ge.plugin.AllFilesPlugin;
+import org.watto.ge.plugin.ArchivePlugin;
+
+/**
+ **********************************************************************************************
+ * Holds the details about one loaded archive - the <i>resources</i>, the <i>columns</i> and the
+ * plugin used to read it. The static methods in Archive work on the context that is bound to
+ * the current thread, or on the default context (the archive shown in the interface) if no
+ * context is bound. <br>
+ * <br>
+ * To work on an archive without touching the one in the interface, make a new ArchiveContext,
+ * then bind it around the work, like this... <br>
+ * <br>
+ * ArchiveContext previous = context.bind();<br>
+ * try { ... } finally { ArchiveContext.unbind(previous); }
+ **********************************************************************************************
+ **/
+public class ArchiveContext {
+
+  /** The context for the archive shown in the interface **/
+  static ArchiveContext defaultContext = new ArchiveContext(true);
+
+  /** The context bound to each thread, if it isn't using the default context **/
+  static ThreadLocal<ArchiveContext> boundContext = new ThreadLocal<ArchiveContext>();
+
+  /**
+   **********************************************************************************************
+   * Gets the context bound to the current thread, or the default context if none is bound
+   * @return the current context
+   **********************************************************************************************
+   **/
+  public static ArchiveContext getCurrent() {
+    ArchiveContext context = boundContext.get();
+    if (context == null) {
+      return defaultContext;
+    }
+    return context;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the context for the archive shown in the interface
+   * @return the default context
+   **********************************************************************************************
+   **/
+  public static ArchiveContext getDefault() {
+    return defaultContext;
+  }
+
+  /**
+   **********************************************************************************************
+   * Puts back the context that was bound to the current thread before bind() was called
+   * @param previous the context returned by bind()
+   **********************************************************************************************
+   **/
+  public static void unbind(ArchiveContext previous) {
+    if (previous == null) {
+      boundContext.remove();
+    }
+    else {
+      boundContext.set(previous);
+    }
+  }
+
+  /** The file that was read into this archive **/
+  File basePath = null;
+
+  /** The columns to be shown in the FileListPanel **/
+  WSTableColumn[] columns = null;
+
+  /** The plugin used to read the <i>basePath</i> archive **/
+  ArchivePlugin readPlugin = new AllFilesPlugin();
+
+  /** The resources stored in this archive **/
+  Resource[] resources = new Resource[0];
+
+  /** The resources stored in this archive, when they're held in a compact table instead of <i>resources</i> **/
+  ResourceTable resourceTable = null;
+
+  /** Whether this is the context shown in the interface, so changes need to update it **/
+  boolean showInInterface = false;
+
+  /**
+   **********************************************************************************************
+   * Constructor for an archive that isn't shown in the interface
+   **********************************************************************************************
+   **/
+  public ArchiveContext() {
+    this(false);
+  }
+
+  /**
+   **********************************************************************************************
+   * Constructor
+   * @param showInInterface whether changes to this archive should update the interface
+   **********************************************************************************************
+   **/
+  ArchiveContext(boolean showInInterface) {
+    this.showInInterface = showInInterface;
+  }
+
+  /**
+   **********************************************************************************************
+   * Adds all files in the <i>directory</i> to the archive. If there are any sub-directories,
+   * they are also analysed and added.
+   * @param directory the directory that contains the files to add
+   * @param directoryName the prefix name to use for the files in the archive, rather than using
+   *        the absolute directory path.
+   **********************************************************************************************
+   **/
+  public synchronized void addDirectory(File directory, String directoryName) {
+    try {
+
+      File[] files = directory.listFiles();
+
+      unpackResources();
+      int numFiles = resources.length;
+      int newNumFiles = numFiles + files.length;
+      resizeResources(newNumFiles);
+      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
+        if (files[j].isDirectory()) {
+          addDirectory(files[j], directoryName + files[j].getName() + File.separator);
+        }
+        else {
+          resources[i] = readPlugin.getBlankResource(files[j], directoryName + files[j].getName());
+        }
+      }
+
+    }
+    catch (Throwable t) {
+      Archive.logError(t);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Adds the <i>files</i> to the archive. If any of the files are a directory, the contents of
+   * the directory are added via addDirectory(File,String).
+   * @param files the files to add to the archive.
+   **********************************************************************************************
+   **/
+  public synchronized void addFiles(File[] files) {
+    try {
+
+      unpackResources();
+      int numFiles = resources.length;
+      int newNumFiles = numFiles + files.length;
+      resizeResources(newNumFiles);
+      for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
+        if (files[j].isDirectory()) {
+          addDirectory(files[j], files[j].getName() + File.separator);
+        }
+        else {
+          resources[i] = readPlugin.getBlankResource(files[j], files[j].getName());
+        }
+      }
+
+      // when a directory is added, it doesn't appear as a file in the list,
+      // rather the contents of the directory are added instead. This call
+      // will ensure that any nulls created by adding a directory will be
+      // removed from the array.
+      removeNullResources();
+
+    }
+    catch (Throwable t) {
+      Archive.logError(t);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Adds a resource to the archive
+   * @param file the resource to add
+   **********************************************************************************************
+   **/
+  public synchronized void addResource(Resource file) {
+    unpackResources();
+    int numResources = resources.length;
+    resizeResources(numResources + 1);
+    resources[numResources] = file;
+  }
+
+  /**
+   **********************************************************************************************
+   * Adds a number of files to the archive
+   * @param files the files to add
+   **********************************************************************************************
+   **/
+  public synchronized void addResources(Resource[] files) {
+
+    unpackResources();
+    int numFiles = resources.length;
+    int newNumFiles = numFiles + files.length;
+    resizeResources(newNumFiles);
+
+    for (int i = numFiles, j = 0; i < newNumFiles && j < files.length; i++, j++) {
+      resources[i] = files[j];
+    }
+
+  }
+
+  /**
+   **********************************************************************************************
+   * Binds this context to the current thread, so the static methods in Archive work on it
+   * @return the context that was bound before, to give to unbind() when the work is finished
+   **********************************************************************************************
+   **/
+  public ArchiveContext bind() {
+    ArchiveContext previous = boundContext.get();
+    boundContext.set(this);
+    return previous;
+  }
+
+  /**
+   **********************************************************************************************
+   * Extracts all the resources from this archive to the <i>directory</i>
+   * @param directory the directory to export the files to.
+   **********************************************************************************************
+   **/
+  public void extractAllResources(File directory) {
+    Resource[] allResources = getResources();
+    for (int i = 0; i < allResources.length; i++) {
+      allResources[i].extract(directory);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the name of the archive
+   * @return the name of the opened archive, or "newArchive" if the archive was started from
+   *         scratch
+   **********************************************************************************************
+   **/
+  public String getArchiveName() {
+    File path = basePath;
+    if (path == null) {
+      return "newArchive";
+    }
+    else {
+      return path.getName();
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the file that was loaded
+   * @return the archive file
+   **********************************************************************************************
+   **/
+  public File getBasePath() {
+    return basePath;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the column with the <i>columnCode</i>
+   * @param columnCode the code of the column
+   * @return the column
+   **********************************************************************************************
+   **/
+  public WSTableColumn getColumn(char columnCode) {
+    WSTableColumn[] columns = getColumns();
+    for (int i = 0; i < columns.length; i++) {
+      if (columns[i].getCharCode() == columnCode) {
+        return columns[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the column from position <i>column</i> of the array
+   * @param column the column number
+   * @return the column
+   **********************************************************************************************
+   **/
+  public WSTableColumn getColumn(int column) {
+    WSTableColumn[] columns = getColumns();
+    if (column < columns.length) {
+      return columns[column];
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets all the columns
+   * @return the columns
+   **********************************************************************************************
+   **/
+  public WSTableColumn[] getColumns() {
+    if (columns == null) {
+      columns = Archive.getDefaultColumns();
+    }
+    return columns;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the number of columns
+   * @return the number of columns
+   **********************************************************************************************
+   **/
+  public int getNumColumns() {
+    return getColumns().length;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the number of resources in the archive
+   * @return the number of files
+   **********************************************************************************************
+   **/
+  public synchronized int getNumFiles() {
+    if (resourceTable != null) {
+      return resourceTable.getNumResources();
+    }
+    if (resources == null) {
+      return 0;
+    }
+    return resources.length;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the plugin used to read the archive
+   * @return the plugin
+   **********************************************************************************************
+   **/
+  public ArchivePlugin getReadPlugin() {
+    return readPlugin;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the resource from index <i>num</i> of the array
+   * @param num the resource number
+   * @return the resource.
+   **********************************************************************************************
+   **/
+  public synchronized Resource getResource(int num) {
+    if (resourceTable != null) {
+      return resourceTable.getResource(num);
+    }
+    return resources[num];
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets all the resources in the archive
+   * @return the resources
+   **********************************************************************************************
+   **/
+  public synchronized Resource[] getResources() {
+    unpackResources();
+    return resources;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets <i>numOfResources</i>, starting from the <i>startResource</i>
+   * @return the resources
+   **********************************************************************************************
+   **/
+  public synchronized Resource[] getResources(int startResource, int numOfResources) {
+    if (resourceTable != null) {
+      return resourceTable.getResources(startResource, numOfResources);
+    }
+    Resource[] range = new Resource[numOfResources];
+    System.arraycopy(resources, startResource, range, 0, numOfResources);
+    return range;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the compact table of resources, if the archive is currently held in one.
+   * @return the table, or null if the resources are held in a normal array
+   **********************************************************************************************
+   **/
+  public synchronized ResourceTable getResourceTable() {
+    return resourceTable;
+  }
+
+  /**
+   **********************************************************************************************
+   * Gets the columns that can be searched (ie all the columns that aren't icons)
+   * @return the searchable columns
+   **********************************************************************************************
+   **/
+  public WSTableColumn[] getSearchableColumns() {
+    WSTableColumn[] columns = getColumns();
+
+    WSTableColumn[] outColumns = new WSTableColumn[columns.length];
+    int numColumns = 0;
+
+    for (int i = 0; i < columns.length; i++) {
+      if (columns[i].getType() != Icon.class) {
+        outColumns[numColumns] = columns[i];
+        numColumns++;
+      }
+    }
+
+    if (numColumns != outColumns.length) {
+      columns = outColumns;
+      outColumns = new WSTableColumn[numColumns];
+      System.arraycopy(columns, 0, outColumns, 0, numColumns);
+    }
+
+    return outColumns;
+  }
+
+  /**
+   **********************************************************************************************
+   * Whether this is the archive shown in the interface?
+   * @return true if changes to this archive update the interface
+   **********************************************************************************************
+   **/
+  public boolean isShownInInterface() {
+    return showInInterface;
+  }
+
+  /**
+   **********************************************************************************************
+   * Makes a new archive. Effectively resets the details to their initial values.
+   **********************************************************************************************
+   **/
+  public void makeNewArchive() {
+    synchronized (this) {
+      resources = new Resource[0];
+      resourceTable = null;
+      readPlugin = new AllFilesPlugin();
+      basePath = null;
+
+      columns = Archive.getDefaultColumns();
+    }
+
+    setBasePath(null);
+    checkInvalidControls();
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes all resources from the archive
+   **********************************************************************************************
+   **/
+  public synchronized void removeAllResources() {
+    resources = new Resource[0];
+    resourceTable = null;
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes all null resources from the array, which may be caused when removing files in batch,
+   * or when adding directories of files.
+   **********************************************************************************************
+   **/
+  public synchronized void removeNullResources() {
+    try {
+
+      unpackResources();
+
+      // find the 2 pointers
+      int nullPos = -1;
+      int nextFile = -1;
+      for (int i = 0; i < resources.length; i++) {
+        if (nullPos == -1 && resources[i] == null) {
+          nullPos = i;
+        }
+        if (nullPos > -1 && resources[i] != null) {
+          nextFile = i;
+          i = resources.length;
+        }
+      }
+
+      // re-shuffle the resource array to the top
+      if (nullPos > -1 && nextFile > -1) {
+        for (int i = nextFile; i < resources.length; i++) {
+          if (resources[i] != null) {
+            resources[nullPos] = resources[i];
+            nullPos++;
+          }
+        }
+      }
+
+      // resize the resources array
+      if (nullPos > -1) {
+        resizeResources(nullPos);
+      }
+
+    }
+    catch (Throwable t) {
+      Archive.logError(t);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes the resource <i>num</i> from the archive
+   * @param num the resource to remove
+   **********************************************************************************************
+   **/
+  public synchronized void removeResource(int num) {
+    removeResource(getResource(num));
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes the <i>file</i> from the archive
+   * @param file the resource to remove
+   **********************************************************************************************
+   **/
+  public void removeResource(Resource file) {
+    removeResources(new Resource[] { file });
+  }
+
+  /**
+   **********************************************************************************************
+   * Removes the <i>files</i> from the archive
+   * @param files the resources to remove.
+   **********************************************************************************************
+   **/
+  public synchronized void removeResources(Resource[] files) {
+    try {
+
+      unpackResources();
+
+      // null out the resources to remove
+      int filesPos = 0;
+      while (filesPos < files.length) {
+        for (int i = 0; i < resources.length; i++) {
+          if (files[filesPos] == resources[i]) {
+            resources[i] = null;
+            filesPos++;
+            if (filesPos >= files.length) {
+              i = resources.length;
+            }
+          }
+        }
+      }
+
+      removeNullResources();
+
+    }
+    catch (Throwable t) {
+      Archive.logError(t);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Changes the size of the <i>resources</i> array
+   * @param numResources the new size of the array
+   **********************************************************************************************
+   **/
+  public synchronized void resizeResources(int numResources) {
+    unpackResources();
+    Resource[] temp = resources;
+    resources = new Resource[numResources];
+
+    if (numResources < temp.length) {
+      System.arraycopy(temp, 0, resources, 0, numResources);
+    }
+    else {
+      System.arraycopy(temp, 0, resources, 0, temp.length);
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the <i>basePath</i> of the opened file
+   * @param basePathNew the new path
+   **********************************************************************************************
+   **/
+  public void setBasePath(File basePathNew) {
+    basePath = basePathNew;
+
+    if (!showInInterface) {
+      return;
+    }
+
+    if (basePathNew == null) {
+      GameExtractor.getInstance().setTitle(Language.get("ProgramName_Free") + " " + Settings.get("Version") + " - http://www.watto.org");
+    }
+    else {
+      GameExtractor.getInstance().setTitle(Language.get("ProgramName_Free") + " " + Settings.get("Version") + " [" + basePathNew.getName() + "]");
+    }
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the columns to be shown by the FileListPanel
+   * @param columnsNew the new columns
+   **********************************************************************************************
+   **/
+  public void setColumns(WSTableColumn[] columnsNew) {
+    columns = columnsNew;
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the plugin used to read the archive
+   * @param pluginNew the new plugin
+   **********************************************************************************************
+   **/
+  public void setReadPlugin(ArchivePlugin pluginNew) {
+    readPlugin = pluginNew;
+    checkInvalidControls();
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the resources in the archive
+   * @param resourcesNew the new resources
+   **********************************************************************************************
+   **/
+  public synchronized void setResources(Resource[] resourcesNew) {
+    resources = resourcesNew;
+    resourceTable = null;
+  }
+
+  /**
+   **********************************************************************************************
+   * Sets the resources in the archive, held in a compact table
+   * @param resourcesNew the new resources
+   **********************************************************************************************
+   **/
+  public synchronized void setResources(ResourceTable resourcesNew) {
+    resources = new Resource[0];
+    resourceTable = resourcesNew;
+  }
+
+  /**
+   **********************************************************************************************
+   * Tells the SidePanel_DirectoryList to enable/disable its controls for the archive, if this is
+   * the archive shown in the interface
+   **********************************************************************************************
+   **/
+  void checkInvalidControls() {
+    if (!showInInterface) {
+      return;
+    }
+
+    SidePanel_DirectoryList panel = (SidePanel_DirectoryList) ComponentRepository.get("SidePanel_DirectoryList");
+    panel.checkInvalidControls();
+  }
+
+  /**
+   **********************************************************************************************
+   * If the resources are held in a compact table, turns them into a normal array so they can be
+   * changed. Any Resources that were already given out by the table are kept in the array.
+   **********************************************************************************************
+   **/
+  synchronized void unpackResources() {
+    if (resourceTable != null) {
+      resources = resourceTable.getResources();
+      resourceTable = null;
+    }
+  }
+
+}
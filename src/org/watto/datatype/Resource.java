@@ -17,6 +17,7 @@ package org.watto.datatype;
 import java.awt.Image;
 import java.io.File;
 import java.io.OutputStream;
+import java.util.Set;
 import javax.swing.Icon;
 import org.watto.ErrorLogger;
 import org.watto.TemporarySettings;
@@ -340,26 +341,23 @@ public class Resource implements Comparable<Resource> {
   **/
   public File extract(File destination) {
     try {
-      if (destination.isDirectory()) {
-        destination = new File(destination.getAbsolutePath() + File.separator + name);
-      }
-
-      destination = FilenameChecker.correctFilename(destination, '_');
-
-      if (destination.exists() && destination.isFile()) {
-        // to cater for archives with multiple files of the same name, append a number to the end of the name
-        String path = FilenameSplitter.getDirectory(destination) + File.separator + FilenameSplitter.getFilename(destination);
-        String extension = "." + FilenameSplitter.getExtension(destination);
-
-        for (int i = 1; i < 1000; i++) {
-          File testDestination = new File(path + i + extension);
-          if (!testDestination.exists()) {
-            destination = testDestination;
-            break;
-          }
-        }
-      }
+      destination = getExtractDestination(destination);
+      return extractToFile(destination);
+    }
+    catch (Throwable t) {
+      logError(t);
+      return destination;
+    }
+  }
 
+  /**
+  **********************************************************************************************
+  Exports this Resource to exactly the <i>destination</i> file, without checking whether the
+  file already exists.
+  **********************************************************************************************
+  **/
+  public File extractToFile(File destination) {
+    try {
       FileManipulator fm = new FileManipulator(destination, true);
       destination = fm.getFile();
       extract(fm);
@@ -376,6 +374,52 @@ public class Resource implements Comparable<Resource> {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Works out the file that <i>extract(destination)</i> would write this Resource to. If the
+  <i>destination</i> is a directory, the Resource name is appended to it, and if the file already
+  exists, a number is added to the end of the filename.
+  **********************************************************************************************
+  **/
+  public File getExtractDestination(File destination) {
+    return getExtractDestination(destination, null);
+  }
+
+  /**
+  **********************************************************************************************
+  Works out the file that this Resource would be exported to, as above, but also treats the files
+  in <i>reserved</i> as already existing. The chosen file is added to <i>reserved</i>, so several
+  Resources can be given their files before any of them are written.
+  **********************************************************************************************
+  **/
+  public File getExtractDestination(File destination, Set<File> reserved) {
+    if (destination.isDirectory()) {
+      destination = new File(destination.getAbsolutePath() + File.separator + name);
+    }
+
+    destination = FilenameChecker.correctFilename(destination, '_');
+
+    if ((destination.exists() && destination.isFile()) || (reserved != null && reserved.contains(destination))) {
+      // to cater for archives with multiple files of the same name, append a number to the end of the name
+      String path = FilenameSplitter.getDirectory(destination) + File.separator + FilenameSplitter.getFilename(destination);
+      String extension = "." + FilenameSplitter.getExtension(destination);
+
+      for (int i = 1; i < 1000; i++) {
+        File testDestination = new File(path + i + extension);
+        if (!testDestination.exists() && (reserved == null || !reserved.contains(testDestination))) {
+          destination = testDestination;
+          break;
+        }
+      }
+    }
+
+    if (reserved != null) {
+      reserved.add(destination);
+    }
+
+    return destination;
+  }
+
   /**
   **********************************************************************************************
   
@@ -712,6 +756,15 @@ public class Resource implements Comparable<Resource> {
   /**
   **********************************************************************************************
   
+  **********************************************************************************************
+  **/
+  public boolean isForceNotAdded() {
+    return forceNotAdded;
+  }
+
+  /**
+  **********************************************************************************************
+  
   **********************************************************************************************
   **/
   public boolean isRenamed() {
@@ -0,0 +1,739 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.datatype;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import org.watto.Settings;
+import org.watto.ge.helper.TrigramIndex;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
+
+/**
+ **********************************************************************************************
+ * A compact store for the resources of a very large archive. Rather than holding a Resource
+ * object for every file, the details are kept in primitive columns - the offsets and lengths
+ * in <i>long[]</i> arrays, the source files and exporters as numbers into a shared list, and
+ * the names as UTF-8 bytes in a single arena, with the directory part of each name stored once
+ * in a dictionary. <br>
+ * <br>
+ * A Resource for a row is only created when something asks for it, through getResource(). Once
+ * created it is kept, so the same row always gives back the same Resource, and any changes made
+ * to it (renaming, replacing) are seen by the column getters too. Resources that carry more than
+ * the basic details (properties, a different original name, a Resource subclass) are kept as
+ * Resources from the moment they are added.
+ **********************************************************************************************
+ **/
+public class ResourceTable {
+
+  static final Charset UTF8 = Charset.forName("UTF-8");
+
+  /** The number of rows in the table **/
+  int numResources = 0;
+
+  long[] offsets;
+
+  long[] lengths;
+
+  long[] decompLengths;
+
+  /** The source file of each row, as a number into <i>sources</i> **/
+  int[] sourceIds;
+
+  /** The exporter of each row, as a number into <i>exporters</i> **/
+  int[] exporterIds;
+
+  /** The directory part of each name, as a number into <i>directories</i> **/
+  int[] directoryIds;
+
+  /** Where the filename of each row starts in the <i>names</i> arena **/
+  int[] nameStarts;
+
+  /** The filename part of every name, as UTF-8 bytes **/
+  byte[] names = new byte[0];
+
+  int namesLength = 0;
+
+  ArrayList<File> sources = new ArrayList<File>();
+
+  HashMap<File, Integer> sourceIndex = new HashMap<File, Integer>();
+
+  ArrayList<ExporterPlugin> exporters = new ArrayList<ExporterPlugin>();
+
+  IdentityHashMap<ExporterPlugin, Integer> exporterIndex = new IdentityHashMap<ExporterPlugin, Integer>();
+
+  ArrayList<String> directories = new ArrayList<String>();
+
+  HashMap<String, Integer> directoryIndex = new HashMap<String, Integer>();
+
+  /** The Resources that have been created for each row so far **/
+  Resource[] views;
+
+  /** The rows that have a Resource in <i>views</i>, in the order they were created **/
+  int[] viewRows = new int[16];
+
+  int numViewRows = 0;
+
+  /** The search index of the filename of each row, built the first time it is needed **/
+  TrigramIndex filenameTrigrams = null;
+
+  /** The search index of the <i>directories</i> **/
+  TrigramIndex directoryTrigrams = null;
+
+  /** The rows in each directory, back-to-back, starting at <i>directoryRowStarts</i> **/
+  int[] directoryRows = null;
+
+  int[] directoryRowStarts = null;
+
+  /** The number of rows in the table when the search index was built **/
+  int indexedRows = -1;
+
+  /** The plugin that was last checked by usesStandardColumns() **/
+  ArchivePlugin checkedPlugin = null;
+
+  boolean standardColumns = false;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ResourceTable() {
+    this(1024);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ResourceTable(int capacity) {
+    if (capacity < 16) {
+      capacity = 16;
+    }
+    offsets = new long[capacity];
+    lengths = new long[capacity];
+    decompLengths = new long[capacity];
+    sourceIds = new int[capacity];
+    exporterIds = new int[capacity];
+    directoryIds = new int[capacity];
+    nameStarts = new int[capacity + 1];
+    views = new Resource[capacity];
+    names = new byte[capacity * 16];
+  }
+
+  /**
+  **********************************************************************************************
+  Builds a table from the <i>resources</i>. Any null entries are skipped.
+  **********************************************************************************************
+  **/
+  public ResourceTable(Resource[] resources) {
+    this(resources.length);
+    for (int i = 0; i < resources.length; i++) {
+      if (resources[i] != null) {
+        add(resources[i]);
+      }
+    }
+    trim();
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a row to the table. Plain Resources are broken down into the columns and the object is
+  dropped - anything else is kept as-is.
+  @return the row number
+  **********************************************************************************************
+  **/
+  public int add(Resource resource) {
+    int row = add(resource.getSource(), resource.getName(), resource.getOffset(), resource.getLength(), resource.getDecompressedLength(), resource.getExporter());
+    if (!isPlain(resource)) {
+      setView(row, resource);
+    }
+    return row;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a row to the table, without needing to create a Resource for it
+  @return the row number
+  **********************************************************************************************
+  **/
+  public int add(File source, String name, long offset, long length, long decompLength, ExporterPlugin exporter) {
+    if (name == null) {
+      name = "";
+    }
+
+    ensureCapacity(numResources + 1);
+
+    int row = numResources;
+    offsets[row] = offset;
+    lengths[row] = length;
+    decompLengths[row] = decompLength;
+    sourceIds[row] = getSourceId(source);
+    exporterIds[row] = getExporterId(exporter);
+
+    // split the name into the directory (which is shared) and the filename (which goes in the arena)
+    int slashPos = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1;
+    directoryIds[row] = getDirectoryId(name.substring(0, slashPos));
+
+    byte[] filenameBytes = name.substring(slashPos).getBytes(UTF8);
+    if (namesLength + filenameBytes.length > names.length) {
+      int newLength = Math.max(names.length * 2, namesLength + filenameBytes.length);
+      byte[] newNames = new byte[newLength];
+      System.arraycopy(names, 0, newNames, 0, namesLength);
+      names = newNames;
+    }
+    System.arraycopy(filenameBytes, 0, names, namesLength, filenameBytes.length);
+    nameStarts[row] = namesLength;
+    namesLength += filenameBytes.length;
+    nameStarts[row + 1] = namesLength;
+
+    numResources++;
+    return row;
+  }
+
+  /**
+  **********************************************************************************************
+  Builds the search index of the filenames and directories. The filenames are indexed for each
+  row, but each directory is only indexed once, no matter how many rows are in it.
+  **********************************************************************************************
+  **/
+  void buildSearchIndex() {
+    String[] filenames = new String[numResources];
+    for (int row = 0; row < numResources; row++) {
+      int start = nameStarts[row];
+      filenames[row] = new String(names, start, nameStarts[row + 1] - start, UTF8);
+    }
+    filenameTrigrams = new TrigramIndex(filenames);
+    filenames = null;
+
+    int numDirectories = directories.size();
+    directoryTrigrams = new TrigramIndex(directories.toArray(new String[numDirectories]));
+
+    // list the rows in each directory
+    directoryRowStarts = new int[numDirectories + 1];
+    for (int row = 0; row < numResources; row++) {
+      directoryRowStarts[directoryIds[row] + 1]++;
+    }
+    for (int d = 0; d < numDirectories; d++) {
+      directoryRowStarts[d + 1] += directoryRowStarts[d];
+    }
+
+    directoryRows = new int[numResources];
+    int[] nextRow = Arrays.copyOf(directoryRowStarts, numDirectories);
+    for (int row = 0; row < numResources; row++) {
+      int directoryId = directoryIds[row];
+      directoryRows[nextRow[directoryId]] = row;
+      nextRow[directoryId]++;
+    }
+
+    indexedRows = numResources;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  void ensureCapacity(int capacity) {
+    if (capacity <= offsets.length) {
+      return;
+    }
+
+    int newCapacity = Math.max(offsets.length * 2, capacity);
+    resize(newCapacity);
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the rows whose name could contain the <i>text</i>, using the search index (which is
+  built the first time this is called, or again if rows have been added since). The rows still
+  need to be checked, as the index can find rows that don't really contain the text. Rows that
+  have a Resource are always included, as the Resource could have been renamed.
+  <br><br>
+  If the search index is turned off, or the <i>text</i> is too short to narrow down the rows,
+  null is returned, and all the rows need to be checked.
+  @return the numbers of the rows, in order, or null
+  **********************************************************************************************
+  **/
+  public synchronized int[] findRows(String text) {
+    if (!Settings.getBoolean("SearchUseIndex")) {
+      return null;
+    }
+
+    if (indexedRows != numResources) {
+      buildSearchIndex();
+    }
+
+    int[] rows;
+    int slashPos = Math.max(text.lastIndexOf('/'), text.lastIndexOf('\\')) + 1;
+    if (slashPos > 0) {
+      // filenames don't have slashes, so everything up to the last slash must be in the directory
+      int[] directoryMatches = directoryTrigrams.find(text.substring(0, slashPos));
+      if (directoryMatches == null) {
+        return null;
+      }
+      rows = getDirectoryRows(directoryMatches);
+    }
+    else {
+      // the text is either in the filename or in the directory, as the directory ends with a slash
+      int[] filenameMatches = filenameTrigrams.find(text);
+      if (filenameMatches == null) {
+        return null;
+      }
+      rows = TrigramIndex.union(filenameMatches, getDirectoryRows(directoryTrigrams.find(text)));
+    }
+
+    if (numViewRows > 0) {
+      int[] sortedViewRows = Arrays.copyOf(viewRows, numViewRows);
+      Arrays.sort(sortedViewRows);
+      rows = TrigramIndex.union(rows, sortedViewRows);
+    }
+    return rows;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the value of a column for the <i>row</i>, the same as
+  <i>plugin.getColumnValue(getResource(row), code)</i>. Where the <i>plugin</i> uses the normal
+  column values, the common columns are read straight from the table, so sorting and filtering
+  don't need to create a Resource for every row.
+  **********************************************************************************************
+  **/
+  public Object getColumnValue(int row, ArchivePlugin plugin, char code) {
+    if (views[row] == null && usesStandardColumns(plugin)) {
+      if (code == 'P') {
+        return getName(row);
+      }
+      else if (code == 'O') {
+        return new Long(offsets[row]);
+      }
+      else if (code == 'c') {
+        return new Long(lengths[row]);
+      }
+      else if (code == 'd') {
+        return new Long(decompLengths[row]);
+      }
+      else if (code == 'C') {
+        return new Long(plugin.getLengthKB(lengths[row]));
+      }
+      else if (code == 'D') {
+        return new Long(plugin.getLengthKB(decompLengths[row]));
+      }
+    }
+    return plugin.getColumnValue(getResource(row), code);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public long getDecompressedLength(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getDecompressedLength();
+    }
+    return decompLengths[row];
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  int getDirectoryId(String directory) {
+    Integer id = directoryIndex.get(directory);
+    if (id == null) {
+      id = directories.size();
+      directories.add(directory);
+      directoryIndex.put(directory, id);
+    }
+    return id;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets all the rows in the directories with the numbers <i>directoryMatches</i>, in order
+  **********************************************************************************************
+  **/
+  int[] getDirectoryRows(int[] directoryMatches) {
+    int numRows = 0;
+    for (int d = 0; d < directoryMatches.length; d++) {
+      int directoryId = directoryMatches[d];
+      numRows += directoryRowStarts[directoryId + 1] - directoryRowStarts[directoryId];
+    }
+
+    int[] rows = new int[numRows];
+    int numFound = 0;
+    for (int d = 0; d < directoryMatches.length; d++) {
+      int directoryId = directoryMatches[d];
+      int start = directoryRowStarts[directoryId];
+      int length = directoryRowStarts[directoryId + 1] - start;
+      System.arraycopy(directoryRows, start, rows, numFound, length);
+      numFound += length;
+    }
+
+    if (directoryMatches.length > 1) {
+      Arrays.sort(rows);
+    }
+    return rows;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ExporterPlugin getExporter(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getExporter();
+    }
+    return exporters.get(exporterIds[row]);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  int getExporterId(ExporterPlugin exporter) {
+    Integer id = exporterIndex.get(exporter);
+    if (id == null) {
+      id = exporters.size();
+      exporters.add(exporter);
+      exporterIndex.put(exporter, id);
+    }
+    return id;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public long getLength(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getLength();
+    }
+    return lengths[row];
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public String getName(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getName();
+    }
+
+    int start = nameStarts[row];
+    String filename = new String(names, start, nameStarts[row + 1] - start, UTF8);
+
+    String directory = directories.get(directoryIds[row]);
+    if (directory.length() == 0) {
+      return filename;
+    }
+    return directory + filename;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public int getNumResources() {
+    return numResources;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public long getOffset(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getOffset();
+    }
+    return offsets[row];
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the Resource for the <i>row</i>, creating it if it hasn't been asked for before
+  **********************************************************************************************
+  **/
+  public synchronized Resource getResource(int row) {
+    if (row < 0 || row >= numResources) {
+      return null;
+    }
+
+    Resource view = views[row];
+    if (view == null) {
+      view = new Resource(sources.get(sourceIds[row]), getName(row), offsets[row], lengths[row], decompLengths[row], exporters.get(exporterIds[row]));
+      setView(row, view);
+    }
+    return view;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets a Resource for every row in the table. This creates all the Resources, so it should only
+  be used by things that really need the whole array.
+  **********************************************************************************************
+  **/
+  public Resource[] getResources() {
+    return getResources(0, numResources);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public Resource[] getResources(int startRow, int numRows) {
+    if (startRow < 0) {
+      startRow = 0;
+    }
+    if (startRow + numRows > numResources) {
+      numRows = numResources - startRow;
+    }
+    if (numRows <= 0) {
+      return new Resource[0];
+    }
+
+    Resource[] resources = new Resource[numRows];
+    for (int i = 0; i < numRows; i++) {
+      resources[i] = getResource(startRow + i);
+    }
+    return resources;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public File getSource(int row) {
+    Resource view = views[row];
+    if (view != null) {
+      return view.getSource();
+    }
+    return sources.get(sourceIds[row]);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  int getSourceId(File source) {
+    Integer id = sourceIndex.get(source);
+    if (id == null) {
+      id = sources.size();
+      sources.add(source);
+      sourceIndex.put(source, id);
+    }
+    return id;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether a Resource for the <i>row</i> has been created yet
+  **********************************************************************************************
+  **/
+  public boolean hasResource(int row) {
+    return views[row] != null;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>resource</i> can be rebuilt from the columns alone, without losing anything
+  **********************************************************************************************
+  **/
+  static boolean isPlain(Resource resource) {
+    if (resource.getClass() != Resource.class) {
+      return false;
+    }
+
+    String name = resource.getName();
+    if (name == null || !name.equals(resource.getOriginalName())) {
+      return false;
+    }
+
+    return resource.getProperties() == null && resource.getExportedPath() == null && resource.getImageResource() == null && !resource.isReplaced() && !resource.isForceNotAdded();
+  }
+
+  /**
+  **********************************************************************************************
+  Marks the rows where the number column <i>code</i> is equal to the <i>value</i>, by setting
+  them to true in <i>matches</i>. The column is read straight from the <i>long[]</i> array,
+  without making a Long for each row. Rows that are already true are skipped.
+  @return false if the column isn't one that's held in the table, in which case nothing is marked
+  **********************************************************************************************
+  **/
+  public boolean matchNumberColumn(ArchivePlugin plugin, char code, long value, boolean[] matches) {
+    if (!usesStandardColumns(plugin)) {
+      return false;
+    }
+
+    long[] column;
+    boolean inKB = false;
+    if (code == 'O') {
+      column = offsets;
+    }
+    else if (code == 'c') {
+      column = lengths;
+    }
+    else if (code == 'd') {
+      column = decompLengths;
+    }
+    else if (code == 'C') {
+      column = lengths;
+      inKB = true;
+    }
+    else if (code == 'D') {
+      column = decompLengths;
+      inKB = true;
+    }
+    else {
+      return false;
+    }
+
+    for (int row = 0; row < numResources; row++) {
+      if (matches[row]) {
+        continue;
+      }
+
+      Resource view = views[row];
+      if (view != null) {
+        Object viewValue = plugin.getColumnValue(view, code);
+        matches[row] = (viewValue instanceof Long && ((Long) viewValue).longValue() == value);
+      }
+      else if (inKB) {
+        matches[row] = (plugin.getLengthKB(column[row]) == value);
+      }
+      else {
+        matches[row] = (column[row] == value);
+      }
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  void resize(int capacity) {
+    long[] newOffsets = new long[capacity];
+    System.arraycopy(offsets, 0, newOffsets, 0, numResources);
+    offsets = newOffsets;
+
+    long[] newLengths = new long[capacity];
+    System.arraycopy(lengths, 0, newLengths, 0, numResources);
+    lengths = newLengths;
+
+    long[] newDecompLengths = new long[capacity];
+    System.arraycopy(decompLengths, 0, newDecompLengths, 0, numResources);
+    decompLengths = newDecompLengths;
+
+    int[] newSourceIds = new int[capacity];
+    System.arraycopy(sourceIds, 0, newSourceIds, 0, numResources);
+    sourceIds = newSourceIds;
+
+    int[] newExporterIds = new int[capacity];
+    System.arraycopy(exporterIds, 0, newExporterIds, 0, numResources);
+    exporterIds = newExporterIds;
+
+    int[] newDirectoryIds = new int[capacity];
+    System.arraycopy(directoryIds, 0, newDirectoryIds, 0, numResources);
+    directoryIds = newDirectoryIds;
+
+    int[] newNameStarts = new int[capacity + 1];
+    System.arraycopy(nameStarts, 0, newNameStarts, 0, numResources + 1);
+    nameStarts = newNameStarts;
+
+    Resource[] newViews = new Resource[capacity];
+    System.arraycopy(views, 0, newViews, 0, numResources);
+    views = newViews;
+  }
+
+  /**
+  **********************************************************************************************
+  Remembers the Resource for the <i>row</i>
+  **********************************************************************************************
+  **/
+  void setView(int row, Resource view) {
+    if (views[row] == null) {
+      if (numViewRows >= viewRows.length) {
+        viewRows = Arrays.copyOf(viewRows, viewRows.length * 2);
+      }
+      viewRows[numViewRows] = row;
+      numViewRows++;
+    }
+    views[row] = view;
+  }
+
+  /**
+  **********************************************************************************************
+  Shrinks the columns down to the number of rows, once all the rows have been added
+  **********************************************************************************************
+  **/
+  public void trim() {
+    if (offsets.length != numResources) {
+      resize(numResources);
+    }
+    if (names.length != namesLength) {
+      byte[] newNames = new byte[namesLength];
+      System.arraycopy(names, 0, newNames, 0, namesLength);
+      names = newNames;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>plugin</i> uses the normal ArchivePlugin.getColumnValue(), in which case the
+  common columns can be read from the table directly
+  **********************************************************************************************
+  **/
+  public boolean usesStandardColumns(ArchivePlugin plugin) {
+    if (plugin == checkedPlugin) {
+      return standardColumns;
+    }
+
+    boolean standard = false;
+    try {
+      standard = (plugin.getClass().getMethod("getColumnValue", Resource.class, char.class).getDeclaringClass() == ArchivePlugin.class);
+    }
+    catch (Throwable t) {
+    }
+
+    standardColumns = standard;
+    checkedPlugin = plugin;
+    return standard;
+  }
+
+}
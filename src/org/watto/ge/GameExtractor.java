@@ -450,7 +450,7 @@ public class GameExtractor extends WSProgram implements WSClickableInterface,
         // Check if it's one of the valid options for Command-Line-Only
         for (int i = 0; i < args.length; i++) {
           String arg = args[i];
-          if (arg.equalsIgnoreCase("-help") || arg.equalsIgnoreCase("-list") || arg.equalsIgnoreCase("-extract")) {
+          if (arg.equalsIgnoreCase("-help") || arg.equalsIgnoreCase("-list") || arg.equalsIgnoreCase("-extract") || arg.equalsIgnoreCase("-detect") || arg.equalsIgnoreCase("-verify") || arg.equalsIgnoreCase("-search") || arg.equalsIgnoreCase("-searchlist") || arg.equalsIgnoreCase("-replacecheck") || arg.equalsIgnoreCase("-replacematch") || arg.equalsIgnoreCase("-decode") || arg.equalsIgnoreCase("-server")) {
             // found one of the valid operations, so we must be running as command-line-only
             commandLineOnly = true;
             break;
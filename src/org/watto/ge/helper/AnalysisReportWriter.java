@@ -0,0 +1,585 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ViewerPlugin;
+import org.watto.io.FileManipulator;
+import org.watto.task.Task_AnalyzeDirectory;
+
+/**
+**********************************************************************************************
+Writes the report for a directory analysis in one format, straight to the report file as each
+archive or directory is finished. There is one subclass for each format, so the format is chosen
+once when the writer is made, rather than being checked for every piece of text. Resource rows
+are built up in a buffer and written out in batches of <i>ROWS_PER_WRITE</i>.
+**********************************************************************************************
+**/
+public abstract class AnalysisReportWriter {
+
+  /** the number of resource rows to build up before writing them to the report **/
+  static final int ROWS_PER_WRITE = 1000;
+
+  /** the column headings for the CSV, TXT, and XLS reports **/
+  static final String[] COLUMN_NAMES = new String[] { "Archive_Plugin_Code", "Archive_Plugin_Name", "Archive_Filename", "Viewer_Plugin_Code", "Viewer_Plugin_Name", "Resource_Name", "Resource_Directory", "Resource_Filename", "Resource_Extension", "Resource_Offset", "Resource_Compressed_Length", "Resource_Decompressed_Length", "Resource_Compression_Type", "Resource_Description", "Resource_Exported_Path" };
+
+  /**
+  **********************************************************************************************
+  Gets the writer for the <i>outputFormat</i>, which is one of the <code>FORMAT_</code> values
+  in <code>Task_AnalyzeDirectory</code>
+  **********************************************************************************************
+  **/
+  public static AnalysisReportWriter getWriter(int outputFormat, FileManipulator fm) {
+    if (outputFormat == Task_AnalyzeDirectory.FORMAT_CSV) {
+      return new DelimitedWriter(fm, ',');
+    }
+    else if (outputFormat == Task_AnalyzeDirectory.FORMAT_TXT || outputFormat == Task_AnalyzeDirectory.FORMAT_XLS) {
+      return new DelimitedWriter(fm, '\t');
+    }
+    else if (outputFormat == Task_AnalyzeDirectory.FORMAT_JSON) {
+      return new JSONWriter(fm);
+    }
+    else if (outputFormat == Task_AnalyzeDirectory.FORMAT_XML) {
+      return new XMLWriter(fm);
+    }
+    return new HTMLWriter(fm);
+  }
+
+  FileManipulator fm;
+
+  /** whether an archive has been written already (for the commas between archives in JSON) **/
+  boolean foundMultipleArchives = false;
+
+  /** whether a viewer has been written already (for the commas between viewers in JSON) **/
+  boolean foundMultipleViewers = false;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public AnalysisReportWriter(FileManipulator fm) {
+    this.fm = fm;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the report file that this writer writes to
+  **********************************************************************************************
+  **/
+  public FileManipulator getFileManipulator() {
+    return fm;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the path of the <i>file</i>, or an empty String if there isn't one
+  **********************************************************************************************
+  **/
+  static String getPath(File file) {
+    if (file == null) {
+      return "";
+    }
+    return file.getPath();
+  }
+
+  /**
+  **********************************************************************************************
+  Whether an archive has been written already. Saved when the analysis is interrupted, so the
+  JSON report is still valid when the analysis is resumed.
+  **********************************************************************************************
+  **/
+  public boolean isFoundMultipleArchives() {
+    return foundMultipleArchives;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether a viewer has been written already, for the current archive or directory
+  **********************************************************************************************
+  **/
+  public boolean isFoundMultipleViewers() {
+    return foundMultipleViewers;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public void setFoundMultipleArchives(boolean foundMultipleArchives) {
+    this.foundMultipleArchives = foundMultipleArchives;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public void setFoundMultipleViewers(boolean foundMultipleViewers) {
+    this.foundMultipleViewers = foundMultipleViewers;
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>text</i> to the report, and empties it so it can be filled again
+  **********************************************************************************************
+  **/
+  void write(StringBuilder text) {
+    if (text.length() > 0) {
+      fm.writeString(text.toString());
+      text.setLength(0);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public abstract void writeArchiveFooter();
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public abstract void writeArchiveHeader(File archiveFile, ArchivePlugin archivePlugin);
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public abstract void writeReportFooter();
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public abstract void writeReportHeader();
+
+  /**
+  **********************************************************************************************
+  Adds the row for the <i>resource</i> to the <i>text</i>
+  **********************************************************************************************
+  **/
+  abstract void writeResource(StringBuilder text, String archiveFilePath, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource resource, boolean lastResource);
+
+  /**
+  **********************************************************************************************
+  Writes the rows for the <i>resources</i> that were opened by the <i>viewerPlugin</i>
+  **********************************************************************************************
+  **/
+  public void writeResources(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource[] resources) {
+    if (resources == null || resources.length <= 0) {
+      return;
+    }
+
+    String archiveFilePath = getPath(archiveFile);
+
+    StringBuilder text = new StringBuilder();
+
+    int numFiles = resources.length;
+    for (int i = 0; i < numFiles; i++) {
+      writeResource(text, archiveFilePath, archivePlugin, viewerPlugin, resources[i], i == numFiles - 1);
+
+      if (i % ROWS_PER_WRITE == ROWS_PER_WRITE - 1) {
+        write(text);
+      }
+    }
+
+    write(text);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public abstract void writeViewerFooter(ArchivePlugin archivePlugin);
+
+  /**
+  **********************************************************************************************
+  Writes the heading for the files that were opened by the <i>viewerPlugin</i>. If there's no
+  <i>archivePlugin</i>, the files are in the <i>archiveFile</i> directory rather than an archive.
+  **********************************************************************************************
+  **/
+  public abstract void writeViewerHeader(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin);
+
+  /**
+  **********************************************************************************************
+  Writes each of the viewer <i>groups</i> in turn, and then the <i>unknownGroup</i> at the end
+  **********************************************************************************************
+  **/
+  public void writeViewerGroups(File archiveFile, ArchivePlugin archivePlugin, AnalysisViewerGroup[] groups, AnalysisViewerGroup unknownGroup) {
+    int numGroups = groups.length;
+    for (int g = 0; g <= numGroups; g++) {
+      AnalysisViewerGroup group = null;
+      if (g < numGroups) {
+        group = groups[g];
+      }
+
+      if (group == null) {
+        // process the Unknown Group at the very end
+        group = unknownGroup;
+        g = numGroups;
+      }
+
+      ViewerPlugin viewerPlugin = group.getPlugin();
+
+      writeViewerHeader(archiveFile, archivePlugin, viewerPlugin);
+      writeResources(archiveFile, archivePlugin, viewerPlugin, group.getResources());
+      writeViewerFooter(archivePlugin);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Writes one line for each resource, with the values separated by a delimiter (CSV, TXT, XLS)
+  **********************************************************************************************
+  **/
+  static class DelimitedWriter extends AnalysisReportWriter {
+
+    char delimiter;
+
+    public DelimitedWriter(FileManipulator fm, char delimiter) {
+      super(fm);
+      this.delimiter = delimiter;
+    }
+
+    @Override
+    public void writeArchiveFooter() {
+    }
+
+    @Override
+    public void writeArchiveHeader(File archiveFile, ArchivePlugin archivePlugin) {
+    }
+
+    @Override
+    public void writeReportFooter() {
+      fm.writeString("\n");
+    }
+
+    @Override
+    public void writeReportHeader() {
+      StringBuilder text = new StringBuilder();
+      int numColumns = COLUMN_NAMES.length;
+      for (int i = 0; i < numColumns; i++) {
+        if (i != 0) {
+          text.append(delimiter);
+        }
+        text.append(COLUMN_NAMES[i]);
+      }
+      text.append('\n');
+      write(text);
+    }
+
+    @Override
+    void writeResource(StringBuilder text, String archiveFilePath, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource resource, boolean lastResource) {
+      if (archivePlugin == null) {
+        text.append(delimiter).append(delimiter);
+      }
+      else {
+        text.append(archivePlugin.getCode()).append(delimiter).append(archivePlugin.getName()).append(delimiter);
+      }
+      text.append(archiveFilePath).append(delimiter);
+
+      if (viewerPlugin == null) {
+        text.append(delimiter).append("Unknown").append(delimiter);
+      }
+      else {
+        text.append(viewerPlugin.getCode()).append(delimiter).append(viewerPlugin.getName()).append(delimiter);
+      }
+
+      String resourceExtension = resource.getExtension();
+      File exportedPath = resource.getExportedPath();
+
+      text.append(resource.getName()).append(delimiter);
+      text.append(resource.getDirectory()).append(delimiter);
+      text.append(resource.getFilename()).append(delimiter);
+      text.append(resourceExtension).append(delimiter);
+      text.append(resource.getOffset()).append(delimiter);
+      text.append(resource.getLength()).append(delimiter);
+      text.append(resource.getDecompressedLength()).append(delimiter);
+      text.append(resource.getExporter().getCode()).append(delimiter);
+      text.append(FileTypeDetector.getFileType(resourceExtension).getDescription()).append(delimiter);
+      if (exportedPath != null) {
+        text.append(exportedPath.getAbsolutePath());
+      }
+      text.append('\n');
+    }
+
+    @Override
+    public void writeViewerFooter(ArchivePlugin archivePlugin) {
+    }
+
+    @Override
+    public void writeViewerHeader(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin) {
+    }
+
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the report as a HTML page
+  **********************************************************************************************
+  **/
+  static class HTMLWriter extends AnalysisReportWriter {
+
+    public HTMLWriter(FileManipulator fm) {
+      super(fm);
+    }
+
+    @Override
+    public void writeArchiveFooter() {
+      fm.writeString("<br />\n");
+    }
+
+    @Override
+    public void writeArchiveHeader(File archiveFile, ArchivePlugin archivePlugin) {
+      fm.writeString("The archive " + getPath(archiveFile) + " could be opened with the " + archivePlugin.getName() + " [<b>" + archivePlugin.getCode() + "</b>] archive plugin, and contains these files...<br /><br />");
+    }
+
+    @Override
+    public void writeReportFooter() {
+      fm.writeString("</center></body></html>");
+    }
+
+    @Override
+    public void writeReportHeader() {
+      fm.writeString("<html>\n<head>\n<title>Game Extractor - Analysis of Directory</title>\n</head>\n<body bgcolor='white'>\n<center>\n");
+    }
+
+    @Override
+    void writeResource(StringBuilder text, String archiveFilePath, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource resource, boolean lastResource) {
+      text.append(resource.getName()).append("<br />");
+    }
+
+    @Override
+    public void writeViewerFooter(ArchivePlugin archivePlugin) {
+      fm.writeString("<br />\n");
+    }
+
+    @Override
+    public void writeViewerHeader(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin) {
+      String viewerPluginName = "Unknown";
+      String viewerPluginCode = "";
+      if (viewerPlugin != null) {
+        viewerPluginName = viewerPlugin.getName();
+        viewerPluginCode = viewerPlugin.getCode();
+      }
+
+      if (archivePlugin == null) {
+        // viewer for files in the filesystem
+        fm.writeString("The following files in directory " + getPath(archiveFile) + " could be opened with the " + viewerPluginName + " [<b>" + viewerPluginCode + "</b>] viewer plugin...<br /><br />");
+      }
+      else if (viewerPlugin == null) {
+        fm.writeString("The following files are of unknown type, with no viewer plugin available...<br /><br />");
+      }
+      else {
+        fm.writeString("The plugin " + viewerPluginName + " [<b>" + viewerPluginCode + "</b>] was able to open the following files...<br /><br />");
+      }
+    }
+
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the report as a JSON document
+  **********************************************************************************************
+  **/
+  static class JSONWriter extends AnalysisReportWriter {
+
+    public JSONWriter(FileManipulator fm) {
+      super(fm);
+    }
+
+    @Override
+    public void writeArchiveFooter() {
+      fm.writeString("]\n}\n");
+    }
+
+    @Override
+    public void writeArchiveHeader(File archiveFile, ArchivePlugin archivePlugin) {
+      StringBuilder text = new StringBuilder();
+      if (foundMultipleArchives) {
+        text.append(',');
+      }
+      foundMultipleArchives = true;
+
+      text.append("{\n\"archiveFilename\" : \"").append(getPath(archiveFile).replace("\\", "\\\\"));
+      text.append("\",\n\"archivePluginCode\" : \"").append(archivePlugin.getCode());
+      text.append("\",\n\"archivePluginName\" : \"").append(archivePlugin.getName());
+      text.append("\",\n\"viewers\" : [\n");
+      write(text);
+
+      foundMultipleViewers = false; // each archive has a new set of viewers in it
+    }
+
+    @Override
+    public void writeReportFooter() {
+      fm.writeString("]\n}\n}");
+    }
+
+    @Override
+    public void writeReportHeader() {
+      fm.writeString("{ \"json\" : {\n\"archives\" : [");
+    }
+
+    @Override
+    void writeResource(StringBuilder text, String archiveFilePath, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource resource, boolean lastResource) {
+      String resourceExtension = resource.getExtension();
+
+      String resourceExportedPath = "";
+      File exportedPath = resource.getExportedPath();
+      if (exportedPath != null) {
+        resourceExportedPath = exportedPath.getAbsolutePath();
+      }
+
+      text.append("{\"resourceName\" : \"").append(resource.getName().replace("\\", "\\\\")).append("\",\n");
+      text.append("\"resourceDirectory\" : \"").append(resource.getDirectory().replace("\\", "\\\\")).append("\",\n");
+      text.append("\"resourceFilename\" : \"").append(resource.getFilename()).append("\",\n");
+      text.append("\"resourceExtension\" : \"").append(resourceExtension).append("\",\n");
+      text.append("\"resourceOffset\" : \"").append(resource.getOffset()).append("\",\n");
+      text.append("\"resourceCompressedLength\" : \"").append(resource.getLength()).append("\",\n");
+      text.append("\"resourceDecompressedLength\" : \"").append(resource.getDecompressedLength()).append("\",\n");
+      text.append("\"resourceCompressionType\" : \"").append(resource.getExporter().getCode()).append("\",\n");
+      text.append("\"resourceDescription\" : \"").append(FileTypeDetector.getFileType(resourceExtension).getDescription()).append("\",\n");
+      text.append("\"resourceExportedPath\" : \"").append(resourceExportedPath.replace("\\", "\\\\")).append("\"\n");
+      text.append('}');
+      if (!lastResource) {
+        text.append(',');
+      }
+    }
+
+    @Override
+    public void writeViewerFooter(ArchivePlugin archivePlugin) {
+      fm.writeString("]\n}\n");
+    }
+
+    @Override
+    public void writeViewerHeader(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin) {
+      String viewerPluginName = "Unknown";
+      String viewerPluginCode = "";
+      if (viewerPlugin != null) {
+        viewerPluginName = viewerPlugin.getName();
+        viewerPluginCode = viewerPlugin.getCode();
+      }
+
+      StringBuilder text = new StringBuilder();
+      if (foundMultipleViewers) {
+        text.append(',');
+      }
+      foundMultipleViewers = true;
+
+      text.append("{\n");
+      if (archivePlugin == null) {
+        // viewer for files in the filesystem
+        text.append("\"directoryName\" : \"").append(getPath(archiveFile).replace("\\", "\\\\")).append("\",\n");
+      }
+      text.append("\"viewerPluginCode\" : \"").append(viewerPluginCode);
+      text.append("\",\n\"viewerPluginName\" : \"").append(viewerPluginName);
+      text.append("\",\n\"resources\" : [\n");
+      write(text);
+    }
+
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the report as an XML document
+  **********************************************************************************************
+  **/
+  static class XMLWriter extends AnalysisReportWriter {
+
+    public XMLWriter(FileManipulator fm) {
+      super(fm);
+    }
+
+    @Override
+    public void writeArchiveFooter() {
+      fm.writeString("</viewers></archive>\n");
+    }
+
+    @Override
+    public void writeArchiveHeader(File archiveFile, ArchivePlugin archivePlugin) {
+      fm.writeString("<archive>\n<archiveFilename>" + getPath(archiveFile) + "</archiveFilename>\n<archivePluginCode>" + archivePlugin.getCode() + "</archivePluginCode>\n<archivePluginName>" + archivePlugin.getName() + "</archivePluginName>\n<viewers>\n");
+    }
+
+    @Override
+    public void writeReportFooter() {
+      fm.writeString("</archives></xml>\n");
+    }
+
+    @Override
+    public void writeReportHeader() {
+      fm.writeString("<xml><archives>\n");
+    }
+
+    @Override
+    void writeResource(StringBuilder text, String archiveFilePath, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource resource, boolean lastResource) {
+      String resourceExtension = resource.getExtension();
+      File exportedPath = resource.getExportedPath();
+
+      text.append("<resource>\n");
+      text.append("<resourceName>").append(resource.getName()).append("</resourceName>\n");
+      text.append("<resourceDirectory>").append(resource.getDirectory()).append("</resourceDirectory>\n");
+      text.append("<resourceFilename>").append(resource.getFilename()).append("</resourceFilename>\n");
+      text.append("<resourceExtension>").append(resourceExtension).append("</resourceExtension>\n");
+      text.append("<resourceOffset>").append(resource.getOffset()).append("</resourceOffset>\n");
+      text.append("<resourceCompressedLength>").append(resource.getLength()).append("</resourceCompressedLength>\n");
+      text.append("<resourceDecompressedLength>").append(resource.getDecompressedLength()).append("</resourceDecompressedLength>\n");
+      text.append("<resourceCompressionType>").append(resource.getExporter().getCode()).append("</resourceCompressionType>\n");
+      text.append("<resourceDescription>").append(FileTypeDetector.getFileType(resourceExtension).getDescription()).append("</resourceDescription>\n");
+      text.append("<resourceExportedPath>");
+      if (exportedPath != null) {
+        text.append(exportedPath.getAbsolutePath());
+      }
+      text.append("</resourceExportedPath>\n");
+      text.append("</resource>\n");
+    }
+
+    @Override
+    public void writeViewerFooter(ArchivePlugin archivePlugin) {
+      fm.writeString("</resources>\n</viewer>\n");
+    }
+
+    @Override
+    public void writeViewerHeader(File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin) {
+      String viewerPluginName = "Unknown";
+      String viewerPluginCode = "";
+      if (viewerPlugin != null) {
+        viewerPluginName = viewerPlugin.getName();
+        viewerPluginCode = viewerPlugin.getCode();
+      }
+
+      StringBuilder text = new StringBuilder();
+      text.append("<viewer>\n");
+      if (archivePlugin == null) {
+        // viewer for files in the filesystem
+        text.append("<directoryName>").append(getPath(archiveFile)).append("</directoryName>\n");
+      }
+      text.append("<viewerPluginCode>").append(viewerPluginCode).append("</viewerPluginCode>\n");
+      text.append("<viewerPluginName>").append(viewerPluginName).append("</viewerPluginName>\n<resources>\n");
+      write(text);
+    }
+
+  }
+
+}
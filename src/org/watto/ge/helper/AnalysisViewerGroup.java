@@ -39,11 +39,23 @@ public class AnalysisViewerGroup {
   }
 
   public Resource[] getResources() {
+    if (resources != null && resources.length != numFiles) {
+      // trim off the spare space that was left for adding more resources
+      Resource[] oldFiles = resources;
+      resources = new Resource[numFiles];
+      System.arraycopy(oldFiles, 0, resources, 0, numFiles);
+    }
     return resources;
   }
 
   public void setResources(Resource[] resources) {
     this.resources = resources;
+    if (resources == null) {
+      numFiles = 0;
+    }
+    else {
+      numFiles = resources.length;
+    }
   }
 
   /**
@@ -78,9 +90,7 @@ public class AnalysisViewerGroup {
     int numNewFiles = newFiles.length;
     int newTotal = numFiles + numNewFiles;
 
-    Resource[] oldFiles = resources;
-    resources = new Resource[newTotal];
-    System.arraycopy(oldFiles, 0, resources, 0, numFiles);
+    ensureCapacity(newTotal);
     System.arraycopy(newFiles, 0, resources, numFiles, numNewFiles);
     numFiles = newTotal;
   }
@@ -99,11 +109,30 @@ public class AnalysisViewerGroup {
 
     int newTotal = numFiles + 1;
 
-    Resource[] oldFiles = resources;
-    resources = new Resource[newTotal];
-    System.arraycopy(oldFiles, 0, resources, 0, numFiles);
+    ensureCapacity(newTotal);
     resources[numFiles] = newFile;
     numFiles = newTotal;
   }
 
+  /**
+  **********************************************************************************************
+  Makes sure there's room for <i>capacity</i> resources, growing the array by half again when it
+  is full, so adding the files of a large archive one at a time doesn't copy the array each time
+  **********************************************************************************************
+  **/
+  void ensureCapacity(int capacity) {
+    if (resources.length >= capacity) {
+      return;
+    }
+
+    int newLength = resources.length + (resources.length >> 1) + 1;
+    if (newLength < capacity) {
+      newLength = capacity;
+    }
+
+    Resource[] oldFiles = resources;
+    resources = new Resource[newLength];
+    System.arraycopy(oldFiles, 0, resources, 0, numFiles);
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,606 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.component.WSPlugin;
+import org.watto.component.WSPluginManager;
+import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.exporter.BlockExporterWrapper;
+import org.watto.ge.plugin.resource.Resource_Property;
+
+/**
+**********************************************************************************************
+Stores the directory of an archive on disk after it has been read, so the next time the same
+archive is opened, the plugin detection and <code>ArchivePlugin.read()</code> can be skipped.
+Each cache file is checked against the size and modified time of the archive that was opened,
+and the size, modified time, and a hash of samples of the content of every file the archive
+uses, and is thrown away if any of them have changed. The opened archive is checked separately,
+as formats with the directory in one file and the data in another only use the data file.
+<br><br>
+Only plugins that allow it with <code>setCanCacheIndex(true)</code> are cached, as most plugins
+keep some details from <code>read()</code> that they need later. Of those, only archives where
+every <code>Resource</code> can be rebuilt exactly are cached - plain
+<code>Resource</code>s (not subclasses) that use a shared exporter from
+<code>getInstance()</code>, or a <code>BlockExporterWrapper</code> around one.
+**********************************************************************************************
+**/
+public class ArchiveIndexCache {
+
+  /** Marks the start of a cache file **/
+  static final int MAGIC = 0x58444947; // "GIDX"
+
+  /** Changed whenever the format of the cache files changes, so old files are ignored **/
+  static final int VERSION = 2;
+
+  /** An exporter that is rebuilt by calling <code>getInstance()</code> **/
+  static final int EXPORTER_SHARED = 0;
+
+  /** A <code>BlockExporterWrapper</code> around a shared exporter **/
+  static final int EXPORTER_BLOCKS = 1;
+
+  /** The number of samples of the file content that are hashed **/
+  static final int NUM_SAMPLES = 16;
+
+  /** The size of each sample of the file content that is hashed **/
+  static final int SAMPLE_SIZE = 4096;
+
+  /**
+  **********************************************************************************************
+  The plugin and <code>Resource</code>s loaded from a cache file
+  **********************************************************************************************
+  **/
+  public static class CachedArchive {
+
+    ArchivePlugin plugin;
+
+    ResourceTable resources;
+
+    public CachedArchive(ArchivePlugin plugin, ResourceTable resources) {
+      this.plugin = plugin;
+      this.resources = resources;
+    }
+
+    public ArchivePlugin getPlugin() {
+      return plugin;
+    }
+
+    public ResourceTable getResources() {
+      return resources;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Deletes cache files that are older than the <i>IndexCacheMaximumAge</i>, then the least recently
+  used cache files until the cache is smaller than <i>IndexCacheMaximumSize</i>
+  **********************************************************************************************
+  **/
+  public static void evict() {
+    File[] cacheFiles = getCacheDirectory().listFiles();
+    if (cacheFiles == null) {
+      return;
+    }
+
+    long maxAge = Settings.getInt("IndexCacheMaximumAge") * 86400000L;
+    long maxSize = Settings.getInt("IndexCacheMaximumSize") * 1048576L;
+    long now = System.currentTimeMillis();
+
+    ArrayList<File> remaining = new ArrayList<File>(cacheFiles.length);
+    long totalSize = 0;
+    for (int i = 0; i < cacheFiles.length; i++) {
+      File cacheFile = cacheFiles[i];
+      if (!cacheFile.getName().endsWith(".idx")) {
+        continue;
+      }
+
+      if (maxAge > 0 && now - cacheFile.lastModified() > maxAge) {
+        cacheFile.delete();
+        continue;
+      }
+
+      remaining.add(cacheFile);
+      totalSize += cacheFile.length();
+    }
+
+    if (maxSize <= 0 || totalSize <= maxSize) {
+      return;
+    }
+
+    // oldest first
+    File[] sorted = remaining.toArray(new File[remaining.size()]);
+    Arrays.sort(sorted, new Comparator<File>() {
+
+      @Override
+      public int compare(File file1, File file2) {
+        return Long.compare(file1.lastModified(), file2.lastModified());
+      }
+    });
+
+    for (int i = 0; i < sorted.length && totalSize > maxSize; i++) {
+      totalSize -= sorted[i].length();
+      sorted[i].delete();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public static File getCacheDirectory() {
+    return new File(new File(Settings.get("IndexCacheDirectory")).getAbsolutePath());
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the cache file for the archive <i>path</i>, named from a hash of the absolute path
+  **********************************************************************************************
+  **/
+  public static File getCacheFile(File path) {
+    String hash;
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(path.getAbsolutePath().getBytes("UTF-8"));
+      StringBuilder builder = new StringBuilder(digest.length * 2);
+      for (int i = 0; i < digest.length; i++) {
+        builder.append(Character.forDigit((digest[i] >> 4) & 15, 16));
+        builder.append(Character.forDigit(digest[i] & 15, 16));
+      }
+      hash = builder.toString();
+    }
+    catch (Throwable t) {
+      hash = Integer.toHexString(path.getAbsolutePath().hashCode());
+    }
+    return new File(getCacheDirectory(), hash + ".idx");
+  }
+
+  /**
+  **********************************************************************************************
+  Hashes the length of the <i>file</i> and some samples spread evenly through it. This is much
+  quicker than hashing all of a large file, and finds nearly all changes that keep the same size
+  and modified time.
+  **********************************************************************************************
+  **/
+  public static long getContentHash(File file) {
+    CRC32 crc = new CRC32();
+    RandomAccessFile input = null;
+    try {
+      input = new RandomAccessFile(file, "r");
+      long length = input.length();
+
+      byte[] sample = new byte[SAMPLE_SIZE];
+      long step = Math.max(SAMPLE_SIZE, length / NUM_SAMPLES);
+      for (long offset = 0; offset < length; offset += step) {
+        int sampleLength = (int) Math.min(SAMPLE_SIZE, length - offset);
+        input.seek(offset);
+        input.readFully(sample, 0, sampleLength);
+        crc.update(sample, 0, sampleLength);
+      }
+
+      // always include the end of the file, where a lot of archives store their directory
+      if (length > SAMPLE_SIZE) {
+        input.seek(length - SAMPLE_SIZE);
+        input.readFully(sample, 0, SAMPLE_SIZE);
+        crc.update(sample, 0, SAMPLE_SIZE);
+      }
+
+      return (crc.getValue() << 32) ^ length;
+    }
+    catch (Throwable t) {
+      return -1;
+    }
+    finally {
+      try {
+        if (input != null) {
+          input.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the shared exporter of the <i>exporter</i> class, or null if it doesn't have one
+  **********************************************************************************************
+  **/
+  static ExporterPlugin getSharedExporter(Class<?> exporterClass) {
+    try {
+      Method getInstance = exporterClass.getMethod("getInstance");
+      if (!Modifier.isStatic(getInstance.getModifiers())) {
+        return null;
+      }
+      Object instance = getInstance.invoke(null);
+      if (instance instanceof ExporterPlugin) {
+        return (ExporterPlugin) instance;
+      }
+    }
+    catch (Throwable t) {
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public static boolean isEnabled() {
+    return Settings.getBoolean("IndexCache");
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>exporter</i> is the shared instance of its class, so it can be rebuilt by calling
+  <code>getInstance()</code>
+  **********************************************************************************************
+  **/
+  static boolean isSharedExporter(ExporterPlugin exporter) {
+    return exporter != null && getSharedExporter(exporter.getClass()) == exporter;
+  }
+
+  /**
+  **********************************************************************************************
+  Loads the cached directory of the archive <i>path</i>
+  @return the plugin and <code>Resource</code>s, or null if the archive isn't in the cache, or has
+          changed since it was cached
+  **********************************************************************************************
+  **/
+  public static CachedArchive load(File path) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    File cacheFile = getCacheFile(path);
+    if (!cacheFile.exists()) {
+      return null;
+    }
+
+    boolean valid = false;
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new InflaterInputStream(new FileInputStream(cacheFile)), 65536));
+
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        return null;
+      }
+
+      if (!input.readUTF().equals(path.getAbsolutePath())) {
+        return null; // a different archive with the same hash
+      }
+
+      // the archive that was opened, which might only hold the directory
+      if (input.readLong() != path.length() || input.readLong() != path.lastModified()) {
+        return null;
+      }
+
+      // the plugin
+      String pluginCode = input.readUTF();
+      String pluginClass = input.readUTF();
+      WSPlugin plugin = WSPluginManager.getPlugin("Archive", pluginCode);
+      if (!(plugin instanceof ArchivePlugin) || !plugin.getClass().getName().equals(pluginClass) || !((ArchivePlugin) plugin).canCacheIndex()) {
+        return null;
+      }
+
+      // the source files, which all need to be the same as when they were cached
+      int numSources = input.readInt();
+      File[] sources = new File[numSources];
+      for (int i = 0; i < numSources; i++) {
+        File source = new File(input.readUTF());
+        long size = input.readLong();
+        long modified = input.readLong();
+        long hash = input.readLong();
+        if (!source.exists() || source.length() != size || source.lastModified() != modified || getContentHash(source) != hash) {
+          return null;
+        }
+        sources[i] = source;
+      }
+
+      // the exporters
+      int numExporters = input.readInt();
+      ExporterPlugin[] exporters = new ExporterPlugin[numExporters];
+      for (int i = 0; i < numExporters; i++) {
+        exporters[i] = readExporter(input);
+        if (exporters[i] == null) {
+          return null;
+        }
+      }
+
+      // the resources
+      int numResources = input.readInt();
+      ResourceTable resources = new ResourceTable(numResources);
+      for (int i = 0; i < numResources; i++) {
+        File source = sources[input.readInt()];
+        String name = input.readUTF();
+        String origName = input.readBoolean() ? input.readUTF() : null;
+        long offset = input.readLong();
+        long length = input.readLong();
+        long decompLength = input.readLong();
+        int exporterIndex = input.readInt();
+        ExporterPlugin exporter = (exporterIndex == -1) ? null : exporters[exporterIndex];
+        boolean forceNotAdded = input.readBoolean();
+        int numProperties = input.readInt();
+
+        if (numProperties < 0 && !forceNotAdded && name.equals(origName)) {
+          // a plain resource, which the table can hold without a Resource object
+          resources.add(source, name, offset, length, decompLength, exporter);
+          continue;
+        }
+
+        Resource resource = new Resource(source, name, offset, length, decompLength, exporter);
+        resource.setOriginalName(origName);
+        resource.forceNotAdded(forceNotAdded);
+
+        if (numProperties >= 0) {
+          Resource_Property[] properties = new Resource_Property[numProperties];
+          for (int p = 0; p < numProperties; p++) {
+            properties[p] = new Resource_Property(input.readUTF(), input.readUTF());
+          }
+          resource.setProperties(properties);
+        }
+
+        resources.add(resource);
+      }
+
+      valid = true;
+
+      // mark it as recently used
+      cacheFile.setLastModified(System.currentTimeMillis());
+
+      return new CachedArchive((ArchivePlugin) plugin, resources);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+    finally {
+      try {
+        if (input != null) {
+          input.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+
+      if (!valid) {
+        cacheFile.delete();
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  static ExporterPlugin readExporter(DataInputStream input) throws Exception {
+    int type = input.readByte();
+    ExporterPlugin exporter = getSharedExporter(Class.forName(input.readUTF()));
+    if (exporter == null) {
+      return null;
+    }
+
+    if (type == EXPORTER_SHARED) {
+      return exporter;
+    }
+    else if (type == EXPORTER_BLOCKS) {
+      int numBlocks = input.readInt();
+      long[] blockOffsets = new long[numBlocks];
+      long[] blockLengths = new long[numBlocks];
+      long[] decompLengths = new long[numBlocks];
+      for (int b = 0; b < numBlocks; b++) {
+        blockOffsets[b] = input.readLong();
+        blockLengths[b] = input.readLong();
+        decompLengths[b] = input.readLong();
+      }
+      return new BlockExporterWrapper(exporter, blockOffsets, blockLengths, decompLengths);
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Saves the directory of the archive <i>path</i> to the cache, if all the <i>resources</i> can be
+  rebuilt exactly from the cache
+  @return true if the archive was cached
+  **********************************************************************************************
+  **/
+  public static boolean save(File path, ArchivePlugin plugin, Resource[] resources) {
+    if (!isEnabled() || plugin == null || resources == null || !plugin.canCacheIndex()) {
+      return false;
+    }
+
+    // check that everything can be rebuilt, and give each source file and exporter a number
+    HashMap<String, Integer> sourceNumbers = new HashMap<String, Integer>();
+    ArrayList<File> sources = new ArrayList<File>();
+    IdentityHashMap<ExporterPlugin, Integer> exporterNumbers = new IdentityHashMap<ExporterPlugin, Integer>();
+    ArrayList<ExporterPlugin> exporters = new ArrayList<ExporterPlugin>();
+
+    int numResources = resources.length;
+    for (int i = 0; i < numResources; i++) {
+      Resource resource = resources[i];
+      if (resource == null || resource.getClass() != Resource.class || resource.getSource() == null) {
+        return false;
+      }
+
+      String sourcePath = resource.getSource().getAbsolutePath();
+      if (!sourceNumbers.containsKey(sourcePath)) {
+        sourceNumbers.put(sourcePath, sources.size());
+        sources.add(resource.getSource());
+      }
+
+      ExporterPlugin exporter = resource.getExporter();
+      if (exporter != null && !exporterNumbers.containsKey(exporter)) {
+        if (exporter instanceof BlockExporterWrapper) {
+          if (exporter.getClass() != BlockExporterWrapper.class || !isSharedExporter(((BlockExporterWrapper) exporter).getExporter())) {
+            return false;
+          }
+        }
+        else if (!isSharedExporter(exporter)) {
+          return false;
+        }
+        exporterNumbers.put(exporter, exporters.size());
+        exporters.add(exporter);
+      }
+    }
+
+    File cacheFile = getCacheFile(path);
+    File tempFile = new File(cacheFile.getAbsolutePath() + ".tmp");
+    DataOutputStream output = null;
+    boolean saved = false;
+    try {
+      cacheFile.getParentFile().mkdirs();
+      output = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(tempFile), new Deflater(Deflater.BEST_SPEED)), 65536));
+
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeUTF(path.getAbsolutePath());
+      output.writeLong(path.length());
+      output.writeLong(path.lastModified());
+
+      output.writeUTF(plugin.getCode());
+      output.writeUTF(plugin.getClass().getName());
+
+      int numSources = sources.size();
+      output.writeInt(numSources);
+      for (int i = 0; i < numSources; i++) {
+        File source = sources.get(i);
+        output.writeUTF(source.getAbsolutePath());
+        output.writeLong(source.length());
+        output.writeLong(source.lastModified());
+        output.writeLong(getContentHash(source));
+      }
+
+      int numExporters = exporters.size();
+      output.writeInt(numExporters);
+      for (int i = 0; i < numExporters; i++) {
+        writeExporter(output, exporters.get(i));
+      }
+
+      output.writeInt(numResources);
+      for (int i = 0; i < numResources; i++) {
+        Resource resource = resources[i];
+        output.writeInt(sourceNumbers.get(resource.getSource().getAbsolutePath()));
+        output.writeUTF(resource.getName());
+
+        String origName = resource.getOriginalName();
+        output.writeBoolean(origName != null);
+        if (origName != null) {
+          output.writeUTF(origName);
+        }
+
+        output.writeLong(resource.getOffset());
+        output.writeLong(resource.getLength());
+        output.writeLong(resource.getDecompressedLength());
+
+        ExporterPlugin exporter = resource.getExporter();
+        output.writeInt(exporter == null ? -1 : exporterNumbers.get(exporter));
+        output.writeBoolean(resource.isForceNotAdded());
+
+        Resource_Property[] properties = resource.getProperties();
+        if (properties == null) {
+          output.writeInt(-1);
+        }
+        else {
+          output.writeInt(properties.length);
+          for (int p = 0; p < properties.length; p++) {
+            output.writeUTF(properties[p].getCode());
+            output.writeUTF(properties[p].getValue());
+          }
+        }
+      }
+
+      output.close();
+      output = null;
+
+      cacheFile.delete();
+      saved = tempFile.renameTo(cacheFile);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      try {
+        if (output != null) {
+          output.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+
+      if (!saved) {
+        tempFile.delete();
+      }
+    }
+
+    if (saved) {
+      evict();
+    }
+    return saved;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  static void writeExporter(DataOutputStream output, ExporterPlugin exporter) throws Exception {
+    if (exporter instanceof BlockExporterWrapper) {
+      BlockExporterWrapper wrapper = (BlockExporterWrapper) exporter;
+      output.writeByte(EXPORTER_BLOCKS);
+      output.writeUTF(wrapper.getExporter().getClass().getName());
+
+      long[] blockOffsets = wrapper.getBlockOffsets();
+      long[] blockLengths = wrapper.getBlockLengths();
+      long[] decompLengths = wrapper.getDecompLengths();
+      output.writeInt(blockOffsets.length);
+      for (int b = 0; b < blockOffsets.length; b++) {
+        output.writeLong(blockOffsets[b]);
+        output.writeLong(blockLengths[b]);
+        output.writeLong(decompLengths[b]);
+      }
+    }
+    else {
+      output.writeByte(EXPORTER_SHARED);
+      output.writeUTF(exporter.getClass().getName());
+    }
+  }
+
+}
@@ -0,0 +1,663 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+import org.watto.ErrorLogger;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.io.FileManipulator;
+import org.watto.io.buffer.PackBuffer;
+import org.watto.io.converter.ByteArrayConverter;
+
+/**
+**********************************************************************************************
+Writes changes straight into an existing archive, rather than writing the whole archive again.
+Used by ArchivePlugins that can patch(), so replacing a few files in a large archive only writes
+the new files and the directory entries that point to them. <br>
+<br>
+Before any bytes of the archive are overwritten, the original bytes are saved to a journal file
+next to the archive (<i>archive</i>.journal). The writes over the original bytes are held back
+until they're needed, and the journal is flushed to the disk once before they're all written,
+rather than once for every write. Bytes added to the end of the archive don't need the journal,
+so they're written straight away. If anything goes wrong, rollback() puts the original bytes
+back and cuts off anything that was added to the end of the archive. If the program stops part
+way through, the journal is still there, and recover() rolls the archive back the next time it's
+opened. <br>
+<br>
+The journal also records the length and modified time of the archive before the patch, and a
+CRC of its first bytes. If the archive has been replaced since (eg by a backup, or an update of
+the game), the journal doesn't belong to it any more, so it's thrown away rather than used. <br>
+<br>
+Each write is remembered, so verify() can read it back from the disk and check it, before the
+patch is committed and the journal is deleted.
+**********************************************************************************************
+**/
+public class ArchivePatcher {
+
+  /** The header at the start of every journal file **/
+  static final String JOURNAL_HEADER = "GEPatchJournal2";
+
+  /** The length of the journal header, and the details of the archive after it **/
+  static final int JOURNAL_HEADER_LENGTH = JOURNAL_HEADER.length() + 8 + 8 + 4 + 8;
+
+  /** The number of bytes at the start of the archive that are checked by recover() **/
+  static final int PREFIX_LENGTH = 4096;
+
+  /**
+  **********************************************************************************************
+  A write over the original bytes of the archive, waiting for the journal to be flushed
+  **********************************************************************************************
+  **/
+  static class PendingWrite {
+
+    long offset;
+
+    byte[] data;
+
+    PendingWrite(long offset, byte[] data) {
+      this.offset = offset;
+      this.data = data;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the CRC of the <i>length</i> bytes of the <i>data</i> from <i>dataOffset</i>
+  **********************************************************************************************
+  **/
+  static long getCRC(byte[] data, int dataOffset, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(data, dataOffset, length);
+    return crc.getValue();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the journal file for the <i>archive</i>
+  **********************************************************************************************
+  **/
+  public static File getJournalFile(File archive) {
+    return new File(archive.getAbsolutePath() + ".journal");
+  }
+
+  /**
+  **********************************************************************************************
+  Whether any of the files at the <i>offsets</i> share some of their bytes with another file (eg
+  2 directory entries that point to the same data). A file like this can't be written over in
+  place, as the other file would change too.
+  **********************************************************************************************
+  **/
+  public static boolean hasSharedRanges(long[] offsets, long[] lengths) {
+    int numFiles = offsets.length;
+
+    Integer[] order = new Integer[numFiles];
+    for (int i = 0; i < numFiles; i++) {
+      order[i] = i;
+    }
+
+    final long[] sortOffsets = offsets;
+    Arrays.sort(order, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer file1, Integer file2) {
+        long offset1 = sortOffsets[file1];
+        long offset2 = sortOffsets[file2];
+        return (offset1 < offset2) ? -1 : ((offset1 == offset2) ? 0 : 1);
+      }
+    });
+
+    long previousEnd = -1;
+    for (int i = 0; i < numFiles; i++) {
+      int file = order[i];
+      if (lengths[file] <= 0) {
+        continue; // an empty file doesn't have any bytes to share
+      }
+      if (offsets[file] < previousEnd) {
+        return true;
+      }
+      previousEnd = Math.max(previousEnd, offsets[file] + lengths[file]);
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  If a patch of the <i>archive</i> didn't finish (ie the journal file is still there), puts the
+  archive back the way it was before the patch was started. If the journal doesn't belong to the
+  archive any more, it's deleted without changing the archive.
+  @return true if the archive was rolled back
+  **********************************************************************************************
+  **/
+  public static boolean recover(File archive) {
+    File journalFile = getJournalFile(archive);
+    if (!journalFile.exists()) {
+      return false;
+    }
+
+    ErrorLogger.log("[ArchivePatcher] Rolling back an unfinished patch of " + archive.getAbsolutePath());
+    return restore(archive, journalFile);
+  }
+
+  /**
+  **********************************************************************************************
+  Puts the original bytes from the <i>journalFile</i> back into the <i>archive</i>, in the
+  reverse order to how they were overwritten, then cuts the archive back to its original length
+  and deletes the journal. <br>
+  <br>
+  First, the archive is checked against the details in the journal. A patch only ever makes the
+  archive longer and newer, and putting the original bytes back must give the same first bytes
+  as before the patch. If any of these don't match, the archive has been replaced since, so the
+  journal is deleted and the archive isn't changed.
+  @return true if the archive was restored
+  **********************************************************************************************
+  **/
+  static boolean restore(File archive, File journalFile) {
+    RandomAccessFile journal = null;
+    RandomAccessFile output = null;
+    try {
+      journal = new RandomAccessFile(journalFile, "r");
+      long journalLength = journal.length();
+
+      if (journalLength < JOURNAL_HEADER_LENGTH) {
+        // the patch was stopped before the journal was started, so nothing was written to the archive yet
+        journal.close();
+        journal = null;
+        journalFile.delete();
+        return true;
+      }
+
+      byte[] header = new byte[JOURNAL_HEADER.length()];
+      journal.readFully(header);
+      if (!new String(header, "US-ASCII").equals(JOURNAL_HEADER)) {
+        ErrorLogger.log("[ArchivePatcher] " + journalFile.getAbsolutePath() + " is not a patch journal");
+        return false;
+      }
+      long originalLength = journal.readLong();
+      long originalModified = journal.readLong();
+      int prefixLength = journal.readInt();
+      long prefixCRC = journal.readLong();
+
+      // find all the complete entries - an incomplete entry at the end was never written to the archive
+      ArrayList<long[]> entries = new ArrayList<long[]>();
+      long entryOffset = journal.getFilePointer();
+      while (entryOffset + 12 <= journalLength) {
+        journal.seek(entryOffset);
+        long offset = journal.readLong();
+        int length = journal.readInt();
+        if (entryOffset + 12 + length > journalLength) {
+          break;
+        }
+        entries.add(new long[] { offset, length, entryOffset + 12 });
+        entryOffset += 12 + length;
+      }
+
+      // check that the journal belongs to this archive
+      boolean matches = archive.length() >= originalLength && archive.lastModified() >= originalModified;
+      if (matches) {
+        byte[] prefix = new byte[prefixLength];
+        RandomAccessFile input = new RandomAccessFile(archive, "r");
+        try {
+          input.readFully(prefix);
+        }
+        finally {
+          input.close();
+        }
+
+        // put the original bytes back into the prefix, as they'll be after restoring
+        for (int i = entries.size() - 1; i >= 0; i--) {
+          long[] entry = entries.get(i);
+          if (entry[0] < prefixLength) {
+            int copyLength = (int) Math.min(entry[1], prefixLength - entry[0]);
+            journal.seek(entry[2]);
+            journal.readFully(prefix, (int) entry[0], copyLength);
+          }
+        }
+
+        matches = (getCRC(prefix, 0, prefixLength) == prefixCRC);
+      }
+      if (!matches) {
+        ErrorLogger.log("[ArchivePatcher] " + journalFile.getAbsolutePath() + " doesn't match the archive any more, so it was deleted without rolling back");
+        journal.close();
+        journal = null;
+        journalFile.delete();
+        return false;
+      }
+
+      output = new RandomAccessFile(archive, "rw");
+      for (int i = entries.size() - 1; i >= 0; i--) {
+        long[] entry = entries.get(i);
+        byte[] original = new byte[(int) entry[1]];
+        journal.seek(entry[2]);
+        journal.readFully(original);
+
+        output.seek(entry[0]);
+        output.write(original);
+      }
+      output.setLength(originalLength);
+      output.getFD().sync();
+
+      output.close();
+      output = null;
+      journal.close();
+      journal = null;
+
+      journalFile.delete();
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+    finally {
+      try {
+        if (journal != null) {
+          journal.close();
+        }
+        if (output != null) {
+          output.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+    }
+  }
+
+  File archive;
+
+  File journalFile;
+
+  RandomAccessFile output;
+
+  RandomAccessFile journal;
+
+  /** The length of the archive before the patch **/
+  long originalLength = 0;
+
+  /** The length of the archive, including the writes that are waiting for the journal **/
+  long length = 0;
+
+  /** The offset and length of each write, and the CRC of the bytes that were written **/
+  ArrayList<long[]> writes = new ArrayList<long[]>();
+
+  /** The writes over the original bytes, waiting for the journal to be flushed **/
+  ArrayList<PendingWrite> pendingWrites = new ArrayList<PendingWrite>();
+
+  /** Used for packing each file before it's written **/
+  PackBuffer packBuffer = null;
+
+  /**
+  **********************************************************************************************
+  Opens the <i>archive</i> for patching, and starts a new journal. If an earlier patch of the
+  <i>archive</i> didn't finish, it's rolled back first.
+  **********************************************************************************************
+  **/
+  public ArchivePatcher(File archive) throws IOException {
+    this.archive = archive;
+    this.journalFile = getJournalFile(archive);
+
+    if (journalFile.exists()) {
+      recover(archive);
+      if (journalFile.exists()) {
+        throw new IOException("Couldn't roll back the earlier patch of " + archive.getAbsolutePath());
+      }
+    }
+
+    long originalModified = archive.lastModified();
+
+    output = new RandomAccessFile(archive, "rw");
+    originalLength = output.length();
+    length = originalLength;
+
+    int prefixLength = (int) Math.min(PREFIX_LENGTH, originalLength);
+    byte[] prefix = readBytes(0, prefixLength);
+
+    journal = new RandomAccessFile(journalFile, "rw");
+    journal.setLength(0);
+    journal.write(JOURNAL_HEADER.getBytes("US-ASCII"));
+    journal.writeLong(originalLength);
+    journal.writeLong(originalModified);
+    journal.writeInt(prefixLength);
+    journal.writeLong(getCRC(prefix, 0, prefixLength));
+    journal.getFD().sync();
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>length</i> bytes of the <i>data</i> from <i>dataOffset</i> onto the end of the
+  archive
+  @return the offset in the archive where the bytes were written
+  **********************************************************************************************
+  **/
+  public long append(byte[] data, int dataOffset, int length) throws IOException {
+    long offset = this.length;
+    writeBytes(offset, data, dataOffset, length);
+    return offset;
+  }
+
+  /**
+  **********************************************************************************************
+  Flushes the journal to the disk, then writes all the writes that were waiting for it
+  **********************************************************************************************
+  **/
+  void applyWrites() throws IOException {
+    int numPending = pendingWrites.size();
+    if (numPending <= 0) {
+      return;
+    }
+
+    journal.getFD().sync();
+
+    for (int i = 0; i < numPending; i++) {
+      PendingWrite pending = pendingWrites.get(i);
+      output.seek(pending.offset);
+      output.write(pending.data);
+    }
+    pendingWrites.clear();
+  }
+
+  /**
+  **********************************************************************************************
+  Closes the archive and the journal, without deleting the journal
+  **********************************************************************************************
+  **/
+  void close() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+      if (journal != null) {
+        journal.close();
+        journal = null;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Finishes the patch. The archive is flushed to the disk, then the journal is deleted, as the
+  original bytes aren't needed any more.
+  **********************************************************************************************
+  **/
+  public void commit() throws IOException {
+    applyWrites();
+    output.getFD().sync();
+    close();
+
+    if (!journalFile.delete()) {
+      ErrorLogger.log("[ArchivePatcher] Couldn't delete the journal " + journalFile.getAbsolutePath());
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the archive that is being patched
+  **********************************************************************************************
+  **/
+  public File getArchive() {
+    return archive;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the current length of the archive, including anything that has been appended
+  **********************************************************************************************
+  **/
+  public long getLength() throws IOException {
+    return length;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the length of the archive before it was patched
+  **********************************************************************************************
+  **/
+  public long getOriginalLength() {
+    return originalLength;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the <i>write</i> back from the archive, and checks that it matches what was written
+  **********************************************************************************************
+  **/
+  boolean isWritten(long[] write) throws IOException {
+    long offset = write[0];
+    int length = (int) write[1];
+    if (offset + length > output.length()) {
+      ErrorLogger.log("[ArchivePatcher] The write at offset " + offset + " is past the end of the archive");
+      return false;
+    }
+
+    byte[] data = readBytes(offset, length);
+    if (getCRC(data, 0, length) != write[2]) {
+      ErrorLogger.log("[ArchivePatcher] The write at offset " + offset + " doesn't match what was written");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Packs the <i>resource</i> with the <i>exporter</i>, into a buffer that is used again for the
+  next file. The buffer must be written before the next file is packed.
+  **********************************************************************************************
+  **/
+  public PackBuffer pack(Resource resource, ExporterPlugin exporter) {
+    if (packBuffer == null) {
+      packBuffer = new PackBuffer((int) Math.max(ExporterPlugin.BULK_BUFFER_SIZE, Math.min(resource.getDecompressedLength(), 16777216)));
+    }
+    else {
+      packBuffer.reset();
+    }
+
+    exporter.pack(resource, new FileManipulator(packBuffer));
+    return packBuffer;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the <i>length</i> bytes at the <i>offset</i> in the archive
+  **********************************************************************************************
+  **/
+  byte[] readBytes(long offset, int length) throws IOException {
+    byte[] data = new byte[length];
+    output.seek(offset);
+    output.readFully(data);
+    return data;
+  }
+
+  /**
+  **********************************************************************************************
+  Puts the archive back the way it was before the patch, and deletes the journal. The writes that
+  are still waiting for the journal are thrown away, as they haven't changed the archive.
+  @return true if the archive was rolled back
+  **********************************************************************************************
+  **/
+  public boolean rollback() {
+    pendingWrites.clear();
+    close();
+    return restore(archive, journalFile);
+  }
+
+  /**
+  **********************************************************************************************
+  Checks that everything was written properly, by reading each write back from the disk and
+  comparing it to what was written. If a <i>plugin</i> is given, the archive is also read again
+  with it, and the files must have the same names, in the same order, as the <i>resources</i>.
+  @return true if the patch is good
+  **********************************************************************************************
+  **/
+  public boolean verify(ArchivePlugin plugin, Resource[] resources) {
+    try {
+      applyWrites();
+      output.getFD().sync();
+
+      int numWrites = writes.size();
+      for (int i = 0; i < numWrites; i++) {
+        if (!isWritten(writes.get(i))) {
+          return false;
+        }
+      }
+
+      if (plugin == null) {
+        return true;
+      }
+
+      Resource[] patchedResources = plugin.read(archive);
+      if (patchedResources == null || patchedResources.length != resources.length) {
+        ErrorLogger.log("[ArchivePatcher] The patched archive doesn't have the same number of files");
+        return false;
+      }
+      for (int i = 0; i < resources.length; i++) {
+        if (!patchedResources[i].getName().equals(resources[i].getName())) {
+          ErrorLogger.log("[ArchivePatcher] File " + i + " of the patched archive is " + patchedResources[i].getName() + " instead of " + resources[i].getName());
+          return false;
+        }
+      }
+
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>data</i> at the <i>offset</i> in the archive
+  **********************************************************************************************
+  **/
+  public void writeBytes(long offset, byte[] data) throws IOException {
+    writeBytes(offset, data, 0, data.length);
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>length</i> bytes of the <i>data</i> from <i>dataOffset</i> at the <i>offset</i>
+  in the archive. Any bytes of the original archive that are overwritten are saved to the
+  journal first, and the write waits until the journal is flushed to the disk.
+  **********************************************************************************************
+  **/
+  public void writeBytes(long offset, byte[] data, int dataOffset, int length) throws IOException {
+    long end = offset + length;
+
+    // a write that overlaps one that's still waiting has to go after it, and the journal has to
+    // save what that write put there, so the waiting writes are written now
+    int numPending = pendingWrites.size();
+    for (int i = 0; i < numPending; i++) {
+      PendingWrite pending = pendingWrites.get(i);
+      if (pending.offset < end && pending.offset + pending.data.length > offset) {
+        applyWrites();
+        break;
+      }
+    }
+
+    boolean journaled = false;
+    if (offset < originalLength) {
+      int journalLength = (int) Math.min(length, originalLength - offset);
+      byte[] original = readBytes(offset, journalLength);
+
+      journal.seek(journal.length());
+      journal.writeLong(offset);
+      journal.writeInt(journalLength);
+      journal.write(original);
+      journaled = true;
+    }
+
+    // earlier writes that are (partly) overwritten can't be checked by verify(), so they're checked now
+    for (int i = writes.size() - 1; i >= 0; i--) {
+      long[] write = writes.get(i);
+      if (write[0] < end && write[0] + write[1] > offset) {
+        if (!isWritten(write)) {
+          throw new IOException("The write at offset " + write[0] + " doesn't match what was written");
+        }
+        writes.remove(i);
+      }
+    }
+
+    if (journaled) {
+      // copied, as the data is often a buffer that is used again for the next write
+      byte[] copy = new byte[length];
+      System.arraycopy(data, dataOffset, copy, 0, length);
+      pendingWrites.add(new PendingWrite(offset, copy));
+    }
+    else {
+      // past the original end of the archive, which is cut off by a rollback, so it can be written now
+      output.seek(offset);
+      output.write(data, dataOffset, length);
+    }
+
+    if (end > this.length) {
+      this.length = end;
+    }
+
+    writes.add(new long[] { offset, length, getCRC(data, dataOffset, length) });
+  }
+
+  /**
+  **********************************************************************************************
+  Writes a little-endian int at the <i>offset</i> in the archive
+  **********************************************************************************************
+  **/
+  public void writeInt(long offset, int value) throws IOException {
+    writeBytes(offset, ByteArrayConverter.convertLittle(value));
+  }
+
+  /**
+  **********************************************************************************************
+  Writes a little-endian long at the <i>offset</i> in the archive
+  **********************************************************************************************
+  **/
+  public void writeLong(long offset, long value) throws IOException {
+    writeBytes(offset, ByteArrayConverter.convertLittle(value));
+  }
+
+  /**
+  **********************************************************************************************
+  Packs the <i>resource</i> with the <i>exporter</i>, and writes it into the archive. If it fits
+  in the <i>oldLength</i> bytes of the file it replaces, it's written over the old file at the
+  <i>oldOffset</i>, otherwise it's appended to the end of the archive.
+  @return the offset and length of the file in the archive
+  **********************************************************************************************
+  **/
+  public long[] writePayload(Resource resource, ExporterPlugin exporter, long oldOffset, long oldLength) throws IOException {
+    PackBuffer packed = pack(resource, exporter);
+    int length = (int) packed.length();
+
+    long offset = oldOffset;
+    if (length <= oldLength) {
+      writeBytes(offset, packed.getBuffer(), 0, length);
+    }
+    else {
+      offset = append(packed.getBuffer(), 0, length);
+    }
+
+    return new long[] { offset, length };
+  }
+
+}
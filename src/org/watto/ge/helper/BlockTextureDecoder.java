@@ -0,0 +1,362 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.watto.datatype.ImageResource;
+import org.watto.io.FileManipulator;
+import org.watto.task.TaskThreadPool;
+
+/**
+**********************************************************************************************
+Decodes the 4x4 block-compressed image formats (BC1/DXT1, BC2/DXT3, BC3/DXT5, BC4/ATI1 and
+BC5/ATI2). All the blocks are read from the file in one go, and then decoded straight from the
+byte array. Each row of blocks doesn't depend on any other row, so large images are split in to
+bands of rows that are decoded at the same time on the shared worker threads. <br>
+<br>
+The pixels are exactly the same as the ones from the older decoders in ImageFormatReader - in
+particular, BC1 always uses 4 colors, and BC2 ignores the alpha.
+**********************************************************************************************
+**/
+public class BlockTextureDecoder {
+
+  public static final int FORMAT_BC1 = 1;
+
+  public static final int FORMAT_BC2 = 2;
+
+  public static final int FORMAT_BC3 = 3;
+
+  public static final int FORMAT_BC4 = 4;
+
+  public static final int FORMAT_BC5 = 5;
+
+  /** Images with fewer pixels than this are decoded on the current thread **/
+  static final int PARALLEL_MINIMUM_PIXELS = 256 * 256;
+
+  /** The fewest rows of blocks that are decoded by a single thread **/
+  static final int BAND_MINIMUM_ROWS = 8;
+
+  /**
+  **********************************************************************************************
+  Decodes the rows of blocks from <i>startRow</i> to <i>endRow</i>, splitting them in half until
+  they're small enough for one thread
+  **********************************************************************************************
+  **/
+  static class BandDecoder extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    byte[] blocks;
+
+    int[] pixels;
+
+    int width;
+
+    int format;
+
+    int startRow;
+
+    int endRow;
+
+    int bandRows;
+
+    BandDecoder(byte[] blocks, int[] pixels, int width, int format, int startRow, int endRow, int bandRows) {
+      this.blocks = blocks;
+      this.pixels = pixels;
+      this.width = width;
+      this.format = format;
+      this.startRow = startRow;
+      this.endRow = endRow;
+      this.bandRows = bandRows;
+    }
+
+    @Override
+    protected void compute() {
+      if (endRow - startRow <= bandRows) {
+        decodeRows(blocks, pixels, width, format, startRow, endRow);
+        return;
+      }
+
+      int middleRow = (startRow + endRow) / 2;
+      invokeAll(new BandDecoder(blocks, pixels, width, format, startRow, middleRow, bandRows), new BandDecoder(blocks, pixels, width, format, middleRow, endRow, bandRows));
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Builds the 8-value lookup table for a BC3 alpha block or a BC4/BC5 color channel
+  **********************************************************************************************
+  **/
+  static void buildLookup(int value0, int value1, int[] lookup) {
+    lookup[0] = value0;
+    lookup[1] = value1;
+
+    if (value0 > value1) {
+      // 6 interpolated values
+      lookup[2] = (6 * value0 + value1) / 7;
+      lookup[3] = (5 * value0 + 2 * value1) / 7;
+      lookup[4] = (4 * value0 + 3 * value1) / 7;
+      lookup[5] = (3 * value0 + 4 * value1) / 7;
+      lookup[6] = (2 * value0 + 5 * value1) / 7;
+      lookup[7] = (value0 + 6 * value1) / 7;
+    }
+    else {
+      // 4 interpolated values
+      lookup[2] = (4 * value0 + value1) / 5;
+      lookup[3] = (3 * value0 + 2 * value1) / 5;
+      lookup[4] = (2 * value0 + 3 * value1) / 5;
+      lookup[5] = (value0 + 4 * value1) / 5;
+      lookup[6] = 0;
+      lookup[7] = 255;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes the <i>blocks</i> in to ARGB pixels, using the worker threads for large images
+  @param width the width of the image, which must be a multiple of 4
+  @param height the height of the image, which must be a multiple of 4
+  **********************************************************************************************
+  **/
+  public static int[] decode(byte[] blocks, int width, int height, int format) {
+    return decode(blocks, width, height, format, true);
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes the <i>blocks</i> in to ARGB pixels
+  @param width the width of the image, which must be a multiple of 4
+  @param height the height of the image, which must be a multiple of 4
+  @param parallel whether large images can be decoded on the worker threads
+  **********************************************************************************************
+  **/
+  public static int[] decode(byte[] blocks, int width, int height, int format, boolean parallel) {
+    int[] pixels = new int[width * height];
+    int numRows = height / 4;
+
+    int numThreads = TaskThreadPool.getThreadCount();
+    if (!parallel || numThreads <= 1 || pixels.length < PARALLEL_MINIMUM_PIXELS || numRows < BAND_MINIMUM_ROWS * 2) {
+      decodeRows(blocks, pixels, width, format, 0, numRows);
+      return pixels;
+    }
+
+    // aim for a few bands per thread, so a slow band doesn't hold up the others
+    int bandRows = Math.max(BAND_MINIMUM_ROWS, numRows / (numThreads * 4));
+    BandDecoder decoder = new BandDecoder(blocks, pixels, width, format, 0, numRows, bandRows);
+
+    if (ForkJoinTask.inForkJoinPool()) {
+      // already on a worker thread (eg generating thumbnails), so share this pool rather than waiting on it
+      decoder.invoke();
+    }
+    else {
+      ForkJoinPool pool = TaskThreadPool.getForkJoinPool();
+      pool.invoke(decoder);
+    }
+
+    return pixels;
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes a BC1 color block at <i>offset</i> in to the <i>colors</i> table, and returns the 2-bit
+  color codes for the 16 pixels
+  **********************************************************************************************
+  **/
+  static int decodeColors(byte[] blocks, int offset, int[] colors) {
+    // two 16 bit encoded colors (red 5 bits, green 6 bits, blue 5 bits)
+    int c1packed16 = (blocks[offset] & 255) | ((blocks[offset + 1] & 255) << 8);
+    int c2packed16 = (blocks[offset + 2] & 255) | ((blocks[offset + 3] & 255) << 8);
+
+    // separate the R,G,B values
+    int color1r = (c1packed16 >> 8) & 0xF8;
+    int color1g = (c1packed16 >> 3) & 0xFC;
+    int color1b = (c1packed16 << 3) & 0xF8;
+
+    int color2r = (c2packed16 >> 8) & 0xF8;
+    int color2g = (c2packed16 >> 3) & 0xFC;
+    int color2b = (c2packed16 << 3) & 0xF8;
+
+    // colors 0 and 1 point to the two 16 bit colors we read in
+    colors[0] = (color1r << 16) | (color1g << 8) | color1b | 0xFF000000;
+    colors[1] = (color2r << 16) | (color2g << 8) | color2b | 0xFF000000;
+
+    // 2/3 Color1, 1/3 color2
+    colors[2] = ((((color1r << 1) + color2r) / 3) << 16) | ((((color1g << 1) + color2g) / 3) << 8) | (((color1b << 1) + color2b) / 3) | 0xFF000000;
+
+    // 2/3 Color2, 1/3 color1
+    colors[3] = ((((color2r << 1) + color1r) / 3) << 16) | ((((color2g << 1) + color1g) / 3) << 8) | (((color2b << 1) + color1b) / 3) | 0xFF000000;
+
+    return readInt(blocks, offset + 4);
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes the rows of blocks from <i>startRow</i> to <i>endRow</i>. The lookup tables are
+  created once here, and re-used for every block.
+  **********************************************************************************************
+  **/
+  static void decodeRows(byte[] blocks, int[] pixels, int width, int format, int startRow, int endRow) {
+    int blocksPerRow = width / 4;
+    int blockSize = getBlockSize(format);
+
+    int[] colors = new int[4];
+    int[] lookup1 = new int[8];
+    int[] lookup2 = new int[8];
+
+    for (int row = startRow; row < endRow; row++) {
+      int offset = row * blocksPerRow * blockSize;
+      int y = row * 4;
+
+      for (int x = 0; x < width; x += 4, offset += blockSize) {
+        int firstPixel = y * width + x;
+
+        if (format == FORMAT_BC1 || format == FORMAT_BC2) {
+          // BC2 has 8 bytes of alpha first, which isn't used
+          int bits = decodeColors(blocks, (format == FORMAT_BC2) ? offset + 8 : offset, colors);
+
+          for (int by = 0, pos = firstPixel; by < 4; by++, pos += width) {
+            pixels[pos] = colors[bits & 3];
+            pixels[pos + 1] = colors[(bits >> 2) & 3];
+            pixels[pos + 2] = colors[(bits >> 4) & 3];
+            pixels[pos + 3] = colors[(bits >> 6) & 3];
+            bits >>>= 8;
+          }
+        }
+        else if (format == FORMAT_BC3) {
+          buildLookup(blocks[offset] & 255, blocks[offset + 1] & 255, lookup1);
+          long alphaBits = readLong48(blocks, offset + 2);
+
+          int bits = decodeColors(blocks, offset + 8, colors);
+
+          for (int by = 0, pos = firstPixel; by < 4; by++, pos += width) {
+            for (int bx = 0; bx < 4; bx++) {
+              pixels[pos + bx] = (colors[bits & 3] & 0xFFFFFF) | (lookup1[(int) (alphaBits & 7)] << 24);
+              bits >>>= 2;
+              alphaBits >>>= 3;
+            }
+          }
+        }
+        else if (format == FORMAT_BC4) {
+          buildLookup(blocks[offset] & 255, blocks[offset + 1] & 255, lookup1);
+          long redBits = readLong48(blocks, offset + 2);
+
+          for (int by = 0, pos = firstPixel; by < 4; by++, pos += width) {
+            for (int bx = 0; bx < 4; bx++) {
+              int red = lookup1[(int) (redBits & 7)];
+              pixels[pos + bx] = (255 << 24) | (red << 16) | (red << 8) | red;
+              redBits >>>= 3;
+            }
+          }
+        }
+        else if (format == FORMAT_BC5) {
+          buildLookup(blocks[offset] & 255, blocks[offset + 1] & 255, lookup1);
+          long redBits = readLong48(blocks, offset + 2);
+
+          buildLookup(blocks[offset + 8] & 255, blocks[offset + 9] & 255, lookup2);
+          long greenBits = readLong48(blocks, offset + 10);
+
+          for (int by = 0, pos = firstPixel; by < 4; by++, pos += width) {
+            for (int bx = 0; bx < 4; bx++) {
+              pixels[pos + bx] = (255 << 24) | (lookup1[(int) (redBits & 7)] << 16) | (lookup2[(int) (greenBits & 7)] << 8) | 255;
+              redBits >>>= 3;
+              greenBits >>>= 3;
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of bytes in each 4x4 block of the <i>format</i>
+  **********************************************************************************************
+  **/
+  public static int getBlockSize(int format) {
+    if (format == FORMAT_BC1 || format == FORMAT_BC4) {
+      return 8;
+    }
+    return 16;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads and decodes an image from the <i>fm</i>. The <i>width</i> and <i>height</i> are rounded
+  up to a multiple of 4, and the returned image has the rounded size.
+  **********************************************************************************************
+  **/
+  public static ImageResource read(FileManipulator fm, int width, int height, int format) {
+
+    // ensure width and height are multiples of 4...
+    int heightMod = height % 4;
+    if (heightMod != 0) {
+      height += (4 - heightMod);
+    }
+    int widthMod = width % 4;
+    if (widthMod != 0) {
+      width += (4 - widthMod);
+    }
+
+    int numBytes = (width / 4) * (height / 4) * getBlockSize(format);
+
+    byte[] blocks;
+    long remainingLength = fm.getRemainingLength();
+    if (remainingLength >= numBytes) {
+      blocks = fm.readBytes(numBytes);
+    }
+    else {
+      // not enough data - decode what there is, and leave the rest of the image empty
+      blocks = new byte[numBytes];
+      if (remainingLength > 0) {
+        byte[] availableBytes = fm.readBytes((int) remainingLength);
+        System.arraycopy(availableBytes, 0, blocks, 0, availableBytes.length);
+      }
+    }
+
+    int[] pixels = decode(blocks, width, height, format);
+    return new ImageResource(pixels, width, height);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  static int readInt(byte[] blocks, int offset) {
+    return (blocks[offset] & 255) | ((blocks[offset + 1] & 255) << 8) | ((blocks[offset + 2] & 255) << 16) | ((blocks[offset + 3] & 255) << 24);
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the 48 bits of 3-bit indexes in a BC3 alpha block or a BC4/BC5 color block
+  **********************************************************************************************
+  **/
+  static long readLong48(byte[] blocks, int offset) {
+    long low = (blocks[offset] & 255) | ((blocks[offset + 1] & 255) << 8) | ((blocks[offset + 2] & 255) << 16);
+    long high = (blocks[offset + 3] & 255) | ((blocks[offset + 4] & 255) << 8) | ((blocks[offset + 5] & 255) << 16);
+    return low | (high << 24);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public BlockTextureDecoder() {
+  }
+
+}
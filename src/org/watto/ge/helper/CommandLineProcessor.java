@@ -15,21 +15,95 @@
 package org.watto.ge.helper;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 import org.watto.Settings;
+import org.watto.component.WSPlugin;
 import org.watto.component.WSPluginGroup;
 import org.watto.component.WSPluginManager;
 import org.watto.component.WSTableColumn;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
+import org.watto.ge.plugin.AllFilesPlugin;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.FileListExporterPlugin;
+import org.watto.ge.plugin.PluginFinder;
+import org.watto.ge.plugin.RatedPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
+import org.watto.ge.plugin.exporter.Exporter_Default;
+import org.watto.io.FileManipulator;
+import org.watto.io.PatternSearcher;
 import org.watto.task.Task;
+import org.watto.task.TaskThreadPool;
 import org.watto.task.Task_ExportFileList;
 import org.watto.task.Task_ExportFiles;
 import org.watto.task.Task_ReadArchive;
 
 public class CommandLineProcessor {
 
+  /**
+  **********************************************************************************************
+  Gets the Viewer plugin that converts images to the <i>convert</i> format (BMP, DXT1, DXT3, DXT5,
+  GIF, JPG, PCX, PNG, TGA)
+  @return the plugin, or null if the format isn't known or the plugin isn't loaded
+  **********************************************************************************************
+  **/
+  public static ViewerPlugin getConverterPlugin(String convert) {
+    WSPluginGroup group = WSPluginManager.getGroup("Viewer");
+    if (group == null || convert == null) {
+      return null;
+    }
+
+    String code = null;
+    if (convert.equalsIgnoreCase("BMP")) {
+      code = "BMP_BMP";
+    }
+    else if (convert.equalsIgnoreCase("DXT1")) {
+      code = "DDS_DDS_Writer_DXT1";
+    }
+    else if (convert.equalsIgnoreCase("DXT3")) {
+      code = "DDS_DDS_Writer_DXT3";
+    }
+    else if (convert.equalsIgnoreCase("DXT5")) {
+      code = "DDS_DDS_Writer_DXT5";
+    }
+    else if (convert.equalsIgnoreCase("GIF")) {
+      code = "GIF_GIF";
+    }
+    else if (convert.equalsIgnoreCase("JPG")) {
+      code = "JPEG_JFIF";
+    }
+    else if (convert.equalsIgnoreCase("PCX")) {
+      code = "PCX";
+    }
+    else if (convert.equalsIgnoreCase("PNG")) {
+      code = "PNG_PNG";
+    }
+    else if (convert.equalsIgnoreCase("TGA")) {
+      code = "TGA";
+    }
+
+    if (code == null) {
+      return null;
+    }
+
+    WSPlugin plugin = group.getPlugin(code);
+    if (plugin instanceof ViewerPlugin) {
+      return (ViewerPlugin) plugin;
+    }
+    return null;
+  }
+
   /**
   **********************************************************************************************
   Processes arguments provided to the command line
@@ -38,6 +112,126 @@ public class CommandLineProcessor {
   public CommandLineProcessor() {
   }
 
+  /**
+  **********************************************************************************************
+  Times the BlockTextureDecoder on random images of each format and size, decoding on 1 thread
+  and then on all the worker threads, and checks that both give the same pixels. Each time is the
+  fastest of several runs, after a few runs to warm up.
+  **********************************************************************************************
+  **/
+  public void commandLineDecode() {
+    String[] formatNames = new String[] { "BC1", "BC2", "BC3", "BC4", "BC5" };
+    int[] formats = new int[] { BlockTextureDecoder.FORMAT_BC1, BlockTextureDecoder.FORMAT_BC2, BlockTextureDecoder.FORMAT_BC3, BlockTextureDecoder.FORMAT_BC4, BlockTextureDecoder.FORMAT_BC5 };
+    int[] sizes = new int[] { 256, 1024, 4096 };
+
+    int numRuns = 5;
+    Random random = new Random(0);
+
+    System.out.println("Format\tSize\t1 thread\t" + TaskThreadPool.getThreadCount() + " threads\tMatch");
+    for (int f = 0; f < formats.length; f++) {
+      int format = formats[f];
+      for (int s = 0; s < sizes.length; s++) {
+        int size = sizes[s];
+
+        byte[] blocks = new byte[(size / 4) * (size / 4) * BlockTextureDecoder.getBlockSize(format)];
+        random.nextBytes(blocks);
+
+        // warm up
+        for (int i = 0; i < 3; i++) {
+          BlockTextureDecoder.decode(blocks, size, size, format, false);
+          BlockTextureDecoder.decode(blocks, size, size, format, true);
+        }
+
+        long serialTime = Long.MAX_VALUE;
+        int[] serialPixels = null;
+        for (int i = 0; i < numRuns; i++) {
+          long startTime = System.nanoTime();
+          serialPixels = BlockTextureDecoder.decode(blocks, size, size, format, false);
+          serialTime = Math.min(serialTime, System.nanoTime() - startTime);
+        }
+
+        long parallelTime = Long.MAX_VALUE;
+        int[] parallelPixels = null;
+        for (int i = 0; i < numRuns; i++) {
+          long startTime = System.nanoTime();
+          parallelPixels = BlockTextureDecoder.decode(blocks, size, size, format, true);
+          parallelTime = Math.min(parallelTime, System.nanoTime() - startTime);
+        }
+
+        boolean match = Arrays.equals(serialPixels, parallelPixels);
+        System.out.println(formatNames[f] + "\t" + size + "x" + size + "\t" + (serialTime / 1000) + "us\t" + (parallelTime / 1000) + "us\t" + match);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Runs plugin detection for a file (or all the files in a directory) from the command line, once
+  one plugin at a time and once in parallel, and reports how long each one took.
+  @param input The archive file, or a directory of archive files
+  **********************************************************************************************
+  **/
+  public void commandLineDetect(String input) {
+    if (input == null) {
+      return; // force terminate
+    }
+
+    File inputFile = new File(input);
+    File[] files = new File[] { inputFile };
+    if (inputFile.isDirectory()) {
+      files = inputFile.listFiles();
+    }
+
+    boolean parallelSetting = Settings.getBoolean("ParallelPluginDetection");
+
+    long totalSerialTime = 0;
+    long totalParallelTime = 0;
+    int numDetected = 0;
+
+    System.out.println("Serial (ms)\tParallel (ms)\tMatches\tSame Result\tFile");
+
+    for (int f = 0; f < files.length; f++) {
+      File file = files[f];
+      if (!file.isFile()) {
+        continue;
+      }
+
+      Settings.set("ParallelPluginDetection", false);
+      long startTime = System.nanoTime();
+      RatedPlugin[] serialPlugins = PluginFinder.findPlugins(file, ArchivePlugin.class);
+      long serialTime = System.nanoTime() - startTime;
+
+      Settings.set("ParallelPluginDetection", true);
+      startTime = System.nanoTime();
+      RatedPlugin[] parallelPlugins = PluginFinder.findPlugins(file, ArchivePlugin.class);
+      long parallelTime = System.nanoTime() - startTime;
+
+      if (serialPlugins == null || parallelPlugins == null) {
+        System.out.println("Error: Could not detect the plugins for \"" + file.getAbsolutePath() + "\"");
+        continue;
+      }
+
+      boolean same = (serialPlugins.length == parallelPlugins.length);
+      for (int p = 0; same && p < serialPlugins.length; p++) {
+        if (serialPlugins[p].getPlugin() != parallelPlugins[p].getPlugin() || serialPlugins[p].getRating() != parallelPlugins[p].getRating()) {
+          same = false;
+        }
+      }
+
+      System.out.println((serialTime / 1000000) + "\t" + (parallelTime / 1000000) + "\t" + parallelPlugins.length + "\t" + same + "\t" + file.getAbsolutePath());
+
+      totalSerialTime += serialTime;
+      totalParallelTime += parallelTime;
+      numDetected++;
+    }
+
+    Settings.set("ParallelPluginDetection", parallelSetting);
+
+    if (numDetected > 0) {
+      System.out.println("Average detection time for " + numDetected + " files: " + (totalSerialTime / numDetected / 1000000) + "ms serial, " + (totalParallelTime / numDetected / 1000000) + "ms parallel");
+    }
+  }
+
   /**
   **********************************************************************************************
   Runs an Extract from the command line
@@ -56,39 +250,12 @@ public class CommandLineProcessor {
     // Convert the "convert" into a Viewer plugin
     ViewerPlugin plugin = null;
     if (convert != null) {
-      WSPluginGroup group = WSPluginManager.getGroup("Viewer");
-      if (group == null) {
+      if (WSPluginManager.getGroup("Viewer") == null) {
         System.out.println("Error: No converter plugins loaded");
         return;
       }
-      if (convert.equalsIgnoreCase("BMP")) {
-        plugin = (ViewerPlugin) group.getPlugin("BMP_BMP");
-      }
-      else if (convert.equalsIgnoreCase("DXT1")) {
-        plugin = (ViewerPlugin) group.getPlugin("DDS_DDS_Writer_DXT1");
-      }
-      else if (convert.equalsIgnoreCase("DXT3")) {
-        plugin = (ViewerPlugin) group.getPlugin("DDS_DDS_Writer_DXT3");
-      }
-      else if (convert.equalsIgnoreCase("DXT5")) {
-        plugin = (ViewerPlugin) group.getPlugin("DDS_DDS_Writer_DXT5");
-      }
-      else if (convert.equalsIgnoreCase("GIF")) {
-        plugin = (ViewerPlugin) group.getPlugin("GIF_GIF");
-      }
-      else if (convert.equalsIgnoreCase("JPG")) {
-        plugin = (ViewerPlugin) group.getPlugin("JPEG_JFIF");
-      }
-      else if (convert.equalsIgnoreCase("PCX")) {
-        plugin = (ViewerPlugin) group.getPlugin("PCX");
-      }
-      else if (convert.equalsIgnoreCase("PNG")) {
-        plugin = (ViewerPlugin) group.getPlugin("PNG_PNG");
-      }
-      else if (convert.equalsIgnoreCase("TGA")) {
-        plugin = (ViewerPlugin) group.getPlugin("TGA");
-      }
 
+      plugin = getConverterPlugin(convert);
       if (plugin == null) {
         System.out.println("Error: Could not find the converter plugin for format \"" + convert + "\"");
         return;
@@ -381,6 +548,461 @@ public class CommandLineProcessor {
     return false;
   }
 
+
+  /**
+  **********************************************************************************************
+  Shows which files in the <i>directory</i> would replace files in the <i>input</i> archive, by
+  Replace Matching Files, without replacing anything. Any conflicts, and any files that don't
+  match anything in the archive, are shown too.
+  **********************************************************************************************
+  **/
+  public void commandLineReplaceCheck(String input, String directory) {
+    if (input == null || directory == null) {
+      return; // force terminate
+    }
+
+    boolean archiveOpened = commandLineReadArchive(input);
+    if (!archiveOpened) {
+      return; // force terminate
+    }
+
+    Resource[] resources = Archive.getResources();
+    ReplaceMatcher matcher = new ReplaceMatcher(resources, Archive.getReadPlugin().canConvertOnReplace());
+    matcher.scanDirectory(new File(directory));
+    File[] matches = matcher.match();
+
+    for (int i = 0; i < resources.length; i++) {
+      if (matches[i] != null) {
+        System.out.println("Replace\t" + resources[i].getName() + "\t" + matches[i].getAbsolutePath());
+      }
+    }
+
+    String[] conflicts = matcher.getConflicts();
+    for (int i = 0; i < conflicts.length; i++) {
+      System.out.println("Conflict\t" + conflicts[i]);
+    }
+
+    File[] unmatchedFiles = matcher.getUnmatchedFiles();
+    for (int i = 0; i < unmatchedFiles.length; i++) {
+      System.out.println("Unmatched\t" + unmatchedFiles[i].getAbsolutePath());
+    }
+
+    System.out.println(matcher.getNumMatched() + " files would be replaced, with " + conflicts.length + " conflicts. " + unmatchedFiles.length + " files didn't match anything in the archive.");
+  }
+
+  /**
+  **********************************************************************************************
+  Times the matching of replacement files to an archive with 500,000 files. The replacement
+  files are made in the temp directory - most have the same name as a file in the archive, some
+  have a different case or have been converted (ie <i>file.dds.png</i>), some don't match
+  anything, and some files in the archive don't have a replacement. The files are matched the
+  old way (checking the disk for each file) and with the <code>ReplaceMatcher</code>, and the
+  number of matches are compared.
+  **********************************************************************************************
+  **/
+  public void commandLineReplaceMatch() {
+    int numFiles = 500000;
+    int numDirectories = 1000;
+
+    File baseDir = new File(new File(Settings.get("TempDirectory")).getAbsolutePath() + File.separator + "ReplaceMatchBenchmark");
+    String basePath = baseDir.getAbsolutePath() + File.separator;
+    File source = new File("benchmark.arc");
+
+    System.out.println("Making " + numFiles + " replacement files in " + basePath);
+
+    Resource[] resources = new Resource[numFiles];
+    try {
+      for (int d = 0; d < numDirectories; d++) {
+        new File(basePath + "data" + File.separator + "dir" + d).mkdirs();
+      }
+
+      for (int i = 0; i < numFiles; i++) {
+        String directory = "data" + File.separator + "dir" + (i % numDirectories) + File.separator;
+        resources[i] = new Resource(source, "data/dir" + (i % numDirectories) + "/file" + i + ".dds", 0, 0);
+
+        int type = i % 10;
+        if (type == 0) {
+          // no replacement for this file
+        }
+        else if (type == 1) {
+          new File(basePath + directory + "file" + i + ".dds.png").createNewFile();
+        }
+        else if (type == 2) {
+          new File(basePath + directory + "FILE" + i + ".DDS").createNewFile();
+        }
+        else if (type == 3) {
+          new File(basePath + directory + "file" + i + ".dds").createNewFile();
+          new File(basePath + directory + "file" + i + ".txt").createNewFile();
+        }
+        else {
+          new File(basePath + directory + "file" + i + ".dds").createNewFile();
+        }
+      }
+    }
+    catch (Throwable t) {
+      System.out.println("Error: Could not make the replacement files");
+      return;
+    }
+
+    // the old matching - checking the disk for each file, then listing the directories for converted files
+    long startTime = System.nanoTime();
+    boolean[] oldMatches = new boolean[numFiles];
+    String baseDirParent = baseDir.getParentFile().getAbsolutePath() + File.separator;
+    for (int i = 0; i < numFiles; i++) {
+      String name = resources[i].getName();
+      oldMatches[i] = new File(basePath + name).exists() || new File(baseDirParent + name).exists();
+    }
+
+    HashMap<String, File> convertableFilesMap = new HashMap<String, File>();
+    HashMap<String, String> uniqueDirsMap = new HashMap<String, String>();
+    for (int i = 0; i < numFiles; i++) {
+      String dirName = resources[i].getDirectory();
+      uniqueDirsMap.put(dirName, dirName);
+    }
+    for (String dirName : uniqueDirsMap.values()) {
+      File[] files = new File(basePath + dirName).listFiles();
+      if (files == null) {
+        continue;
+      }
+      for (int f = 0; f < files.length; f++) {
+        String filename = files[f].getName();
+        int firstDotPos = filename.indexOf('.');
+        int lastDotPos = filename.lastIndexOf('.');
+        if (files[f].isFile() && firstDotPos >= 0 && firstDotPos != lastDotPos) {
+          convertableFilesMap.put(dirName + File.separatorChar + filename.substring(0, lastDotPos), files[f]);
+        }
+      }
+    }
+    for (int i = 0; i < numFiles; i++) {
+      if (convertableFilesMap.get(resources[i].getName()) != null) {
+        oldMatches[i] = true;
+      }
+    }
+    long oldTime = System.nanoTime() - startTime;
+
+    int oldCount = 0;
+    for (int i = 0; i < numFiles; i++) {
+      if (oldMatches[i]) {
+        oldCount++;
+      }
+    }
+
+    // the new matching
+    startTime = System.nanoTime();
+    ReplaceMatcher matcher = new ReplaceMatcher(resources, true);
+    matcher.scanDirectory(baseDir);
+    matcher.match();
+    long newTime = System.nanoTime() - startTime;
+
+    System.out.println("Old matching:\t" + oldCount + " matches in " + (oldTime / 1000000) + "ms");
+    System.out.println("New matching:\t" + matcher.getNumMatched() + " matches in " + (newTime / 1000000) + "ms, with " + matcher.getConflicts().length + " conflicts and " + matcher.getUnmatchedFiles().length + " unmatched files");
+
+    // remove the replacement files
+    for (int d = 0; d < numDirectories; d++) {
+      File directory = new File(basePath + "data" + File.separator + "dir" + d);
+      File[] files = directory.listFiles();
+      if (files != null) {
+        for (int f = 0; f < files.length; f++) {
+          files[f].delete();
+        }
+      }
+      directory.delete();
+    }
+    new File(basePath + "data").delete();
+    baseDir.delete();
+  }
+
+  /**
+  **********************************************************************************************
+  Times a search of the <i>input</i> file for the <i>text</i>, using the old search that reads 1
+  byte at a time, and then the <code>PatternSearcher</code> on 1 thread and on all the worker
+  threads. Each search counts all the matches, so the counts can be compared.
+  **********************************************************************************************
+  **/
+  public void commandLineSearch(String input, String text) {
+    if (input == null || text == null) {
+      return; // force terminate
+    }
+
+    File file = new File(input);
+    long length = file.length();
+    byte[] pattern = text.getBytes(Charset.forName("UTF-8"));
+
+    final long[] matchCount = new long[1];
+    PatternSearcher.MatchListener counter = new PatternSearcher.MatchListener() {
+
+      @Override
+      public boolean matchFound(int patternNumber, long offset) {
+        matchCount[0]++;
+        return true;
+      }
+    };
+
+    // the old search, 1 byte at a time, starting again after the first byte of each match
+    long startTime = System.nanoTime();
+    long oldCount = 0;
+    FileManipulator fm = new FileManipulator(file, false);
+    int matchPos = 0;
+    long pointer = 0;
+    while (pointer < length) {
+      if (fm.readByte() == pattern[matchPos]) {
+        matchPos++;
+        if (matchPos >= pattern.length) {
+          oldCount++;
+          pointer -= pattern.length - 1;
+          fm.seek(pointer + 1);
+          matchPos = 0;
+        }
+      }
+      else {
+        matchPos = 0;
+      }
+      pointer++;
+    }
+    fm.close();
+    long oldTime = System.nanoTime() - startTime;
+
+    PatternSearcher searcher = new PatternSearcher(pattern);
+
+    startTime = System.nanoTime();
+    searcher.search(file, 0, length, counter);
+    long serialTime = System.nanoTime() - startTime;
+    long serialCount = matchCount[0];
+
+    matchCount[0] = 0;
+    startTime = System.nanoTime();
+    searcher.searchParallel(file, 0, length, counter);
+    long parallelTime = System.nanoTime() - startTime;
+    long parallelCount = matchCount[0];
+
+    System.out.println("Searched " + (length / 1048576) + "MB for \"" + text + "\"");
+    System.out.println("Old search:\t\t" + oldCount + " matches in " + (oldTime / 1000000) + "ms");
+    System.out.println("New search:\t\t" + serialCount + " matches in " + (serialTime / 1000000) + "ms on 1 thread");
+    System.out.println("New parallel search:\t" + parallelCount + " matches in " + (parallelTime / 1000000) + "ms on " + TaskThreadPool.getThreadCount() + " threads");
+    if (oldCount != serialCount) {
+      System.out.println("The old search missed " + (serialCount - oldCount) + " matches that overlap a partial match");
+    }
+    if (parallelCount != serialCount) {
+      System.out.println("Error: The parallel search found a different number of matches");
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Times searches of the file list of a made-up archive with 1 million files, held in a
+  ResourceTable. Each search is run the old way (matching the value of every column of every
+  row, with the regex compiled each time), then with a <code>FileListSearch</code> that checks
+  every row, and then with a <code>FileListSearch</code> that uses the search index. The matches
+  are counted, so they can be compared.
+  **********************************************************************************************
+  **/
+  public void commandLineSearchList(String text) {
+    int numFiles = 1000000;
+
+    String[] folders = new String[] { "textures", "sounds", "models", "scripts", "maps", "music" };
+    String[] extensions = new String[] { "dds", "wav", "mdl", "lua", "bsp", "ogg", "txt", "xml" };
+
+    Random random = new Random(1);
+    File source = new File("benchmark.arc");
+    ExporterPlugin exporter = Exporter_Default.getInstance();
+
+    ResourceTable table = new ResourceTable(numFiles);
+    long offset = 0;
+    for (int i = 0; i < numFiles; i++) {
+      String name = "data/level" + random.nextInt(100) + "/" + folders[random.nextInt(folders.length)] + "/file" + i + "." + extensions[random.nextInt(extensions.length)];
+      long length = random.nextInt(65536);
+      table.add(source, name, offset, length, length, exporter);
+      offset += length;
+    }
+    table.trim();
+
+    ArchivePlugin plugin = new AllFilesPlugin();
+    WSTableColumn[] columns = new WSTableColumn[] { new WSTableColumn("FilePath", 'P', String.class), new WSTableColumn("CompressedLength", 'c', Long.class) };
+
+    String[] searches;
+    boolean[] wildcards;
+    if (text != null) {
+      searches = new String[] { text };
+      wildcards = new boolean[] { Settings.getBoolean("SearchWildcardConversion") };
+    }
+    else {
+      searches = new String[] { "file12345", "sounds/file4", "*level42*.dds", "*/music/file99*", "4096" };
+      wildcards = new boolean[] { false, false, true, true, false };
+    }
+
+    boolean oldWildcard = Settings.getBoolean("SearchWildcardConversion");
+    boolean oldRegex = Settings.getBoolean("SearchRegExConversion");
+    boolean oldUseIndex = Settings.getBoolean("SearchUseIndex");
+    Settings.set("SearchRegExConversion", false);
+
+    // build the index before the searches, so it's timed on its own
+    Settings.set("SearchUseIndex", true);
+    long startTime = System.nanoTime();
+    table.findRows("file");
+    long indexTime = System.nanoTime() - startTime;
+
+    System.out.println("Built the search index for " + numFiles + " files in " + (indexTime / 1000000) + "ms");
+    System.out.println("Old (ms)\tLinear (ms)\tIndexed (ms)\tMatches\tSame Result\tSearch");
+
+    for (int s = 0; s < searches.length; s++) {
+      String search = searches[s];
+      boolean wildcard = wildcards[s];
+      Settings.set("SearchWildcardConversion", wildcard);
+
+      // the old search
+      String searchValString = wildcard ? search.replace("*", "(.*)") : search;
+      boolean isNumber = false;
+      long searchValNumber = -1;
+      try {
+        searchValNumber = Long.parseLong(search);
+        isNumber = true;
+      }
+      catch (Throwable t) {
+      }
+
+      startTime = System.nanoTime();
+      int oldCount = 0;
+      for (int row = 0; row < numFiles; row++) {
+        for (int c = 0; c < columns.length; c++) {
+          Object value = table.getColumnValue(row, plugin, columns[c].getCharCode());
+          boolean found = false;
+          if (value instanceof String) {
+            found = wildcard ? ((String) value).matches(searchValString) : ((String) value).indexOf(searchValString) >= 0;
+          }
+          else if (isNumber && value instanceof Long) {
+            found = (((Long) value).longValue() == searchValNumber);
+          }
+          if (found) {
+            oldCount++;
+            break;
+          }
+        }
+      }
+      long oldTime = System.nanoTime() - startTime;
+
+      Settings.set("SearchUseIndex", false);
+      startTime = System.nanoTime();
+      boolean[] linearMatches = new FileListSearch(search, columns).matchRows(table, plugin);
+      long linearTime = System.nanoTime() - startTime;
+
+      Settings.set("SearchUseIndex", true);
+      startTime = System.nanoTime();
+      boolean[] indexedMatches = new FileListSearch(search, columns).matchRows(table, plugin);
+      long indexedTime = System.nanoTime() - startTime;
+
+      int numMatches = 0;
+      for (int row = 0; row < numFiles; row++) {
+        if (indexedMatches[row]) {
+          numMatches++;
+        }
+      }
+
+      boolean same = (numMatches == oldCount && Arrays.equals(linearMatches, indexedMatches));
+      System.out.println((oldTime / 1000000) + "\t" + (linearTime / 1000000) + "\t" + (indexedTime / 1000000) + "\t" + numMatches + "\t" + same + "\t" + search);
+    }
+
+    Settings.set("SearchWildcardConversion", oldWildcard);
+    Settings.set("SearchRegExConversion", oldRegex);
+    Settings.set("SearchUseIndex", oldUseIndex);
+  }
+
+  /**
+  **********************************************************************************************
+  Decodes every file in an archive on one thread, and then again on all the worker threads at
+  the same time, and checks that the results match. Used to check that exporters are safe to use
+  from several threads at once.
+  **********************************************************************************************
+  **/
+  public void commandLineVerify(String input) {
+    if (input == null) {
+      return; // force terminate
+    }
+
+    boolean archiveOpened = commandLineReadArchive(input);
+    if (!archiveOpened) {
+      return; // force terminate
+    }
+
+    final Resource[] resources = Archive.getResources();
+    final int numResources = resources.length;
+
+    // decode each file one at a time
+    final long[] checksums = new long[numResources];
+    long startTime = System.nanoTime();
+    for (int r = 0; r < numResources; r++) {
+      checksums[r] = getChecksum(resources[r]);
+    }
+    long serialTime = System.nanoTime() - startTime;
+
+    // decode them all again on the worker threads, where each thread takes the next file when it finishes the last one
+    final AtomicInteger nextResource = new AtomicInteger(0);
+    final boolean[] matches = new boolean[numResources];
+
+    int numThreads = TaskThreadPool.getThreadCount();
+    final CountDownLatch finished = new CountDownLatch(numThreads);
+
+    startTime = System.nanoTime();
+    ForkJoinPool pool = TaskThreadPool.getForkJoinPool();
+    for (int t = 0; t < numThreads; t++) {
+      pool.execute(new Runnable() {
+
+        @Override
+        public void run() {
+          int r = nextResource.getAndIncrement();
+          while (r < numResources) {
+            matches[r] = (getChecksum(resources[r]) == checksums[r]);
+            r = nextResource.getAndIncrement();
+          }
+          finished.countDown();
+        }
+      });
+    }
+
+    try {
+      finished.await();
+    }
+    catch (InterruptedException e) {
+      System.out.println("Error: Interrupted while waiting for the threads to finish");
+      return;
+    }
+    long parallelTime = System.nanoTime() - startTime;
+
+    int numMismatches = 0;
+    for (int r = 0; r < numResources; r++) {
+      if (!matches[r]) {
+        Resource resource = resources[r];
+        System.out.println("Mismatch\t" + resource.getExporter().getName() + "\t" + resource.getName());
+        numMismatches++;
+      }
+    }
+
+    System.out.println("Decoded " + numResources + " files in " + (serialTime / 1000000) + "ms on 1 thread, and " + (parallelTime / 1000000) + "ms on " + numThreads + " threads");
+    System.out.println(numMismatches + " files were different when decoded on several threads");
+  }
+
+  /**
+  **********************************************************************************************
+  NOT CALLED FROM THE COMMAND LINE DIRECTLY. Decodes the <i>resource</i> and returns the CRC32 of
+  the decoded data.
+  **********************************************************************************************
+  **/
+  long getChecksum(Resource resource) {
+    CheckedOutputStream checksumStream = new CheckedOutputStream(new OutputStream() {
+
+      @Override
+      public void write(byte[] buffer, int offset, int length) {
+        // only the checksum is needed
+      }
+
+      @Override
+      public void write(int value) {
+        // only the checksum is needed
+      }
+    }, new CRC32());
+
+    resource.extract(checksumStream);
+    return checksumStream.getChecksum().getValue();
+  }
   /**
    **********************************************************************************************
    Run things via the command line instead of the GUI
@@ -393,7 +1015,12 @@ public class CommandLineProcessor {
     String convert = null;
     String filter = null;
     String format = null;
+    String text = null;
+    String files = null;
     String[] fields = new String[0];
+    int port = 0;
+    String spool = null;
+    int jobs = Settings.getInt("ServerMaximumJobs");
 
     System.out.println("Game Extractor " + Settings.getDouble("Version"));
     System.out.println("===========================================================");
@@ -409,6 +1036,8 @@ public class CommandLineProcessor {
         System.out.println("                       (BMP, DXT1, DXT3, DXT5, GIF, JPG, PCX, PNG, TGA)");
         System.out.println("  [-filter <regex>]    Only files that match the regex expression will be");
         System.out.println("                       exported");
+        System.out.println("  [-threads <number>]  The number of files to export at the same time");
+        System.out.println("                       (0 = one for each processor, 1 = one at a time)");
         System.out.println("");
         System.out.println("-list                  List the contents of an archive without extracting them");
         System.out.println("  -input <file>        The archive file to examine");
@@ -421,6 +1050,37 @@ public class CommandLineProcessor {
         System.out.println("                       Extension, FilePath, Filename, Offset, SourceFile)");
         System.out.println("  [-filter <regex>]    Only files that match the regex expression will be");
         System.out.println("                       listeded");
+        System.out.println("");
+        System.out.println("-detect                Time the plugin detection for one or more archives");
+        System.out.println("  -input <file>        The archive file, or a directory of archive files");
+        System.out.println("");
+        System.out.println("-verify                Check that files decode the same on several threads");
+        System.out.println("  -input <file>        The archive file to check");
+        System.out.println("  [-threads <number>]  The number of threads to use");
+        System.out.println("");
+        System.out.println("-search                Time a search of a file, using the old and new searches");
+        System.out.println("  -input <file>        The file to search");
+        System.out.println("  -text <text>         The text to search for");
+        System.out.println("  [-threads <number>]  The number of threads to use");
+        System.out.println("");
+        System.out.println("-searchlist            Time searches of the file list of a 1 million file archive");
+        System.out.println("  [-text <text>]       The text to search for (several searches if omitted)");
+        System.out.println("");
+        System.out.println("-replacecheck          Show the files that Replace Matching Files would replace,");
+        System.out.println("                       without replacing them");
+        System.out.println("  -input <file>        The archive file");
+        System.out.println("  -files <directory>   The directory of replacement files");
+        System.out.println("");
+        System.out.println("-replacematch          Time the matching of 500,000 replacement files");
+        System.out.println("");
+        System.out.println("-decode                Time the DXT/BC image decoders on 1 and several threads");
+        System.out.println("  [-threads <number>]  The number of threads to use");
+        System.out.println("");
+        System.out.println("-server                Run as a server that extracts archives as jobs come in");
+        System.out.println("  [-port <number>]     Take jobs from this port on the local machine");
+        System.out.println("  [-spool <directory>] Take jobs from *.job files put in this directory");
+        System.out.println("  [-jobs <number>]     The number of jobs to run at the same time");
+        System.out.println("  [-threads <number>]  The number of files to export at the same time");
         return;
       }
       else if (arg.equals("-extract")) {
@@ -429,6 +1089,88 @@ public class CommandLineProcessor {
       else if (arg.equals("-list")) {
         action = "list";
       }
+      else if (arg.equals("-detect")) {
+        action = "detect";
+      }
+      else if (arg.equals("-verify")) {
+        action = "verify";
+      }
+      else if (arg.equals("-search")) {
+        action = "search";
+      }
+      else if (arg.equals("-replacecheck")) {
+        action = "replacecheck";
+      }
+      else if (arg.equals("-replacematch")) {
+        action = "replacematch";
+      }
+      else if (arg.equals("-searchlist")) {
+        action = "searchlist";
+      }
+      else if (arg.equals("-decode")) {
+        action = "decode";
+      }
+      else if (arg.equals("-server")) {
+        action = "server";
+      }
+      else if (arg.equals("-port")) {
+        // check that the next arg contains a port number
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-port\" must be followed by a port number");
+          return; // force terminate
+        }
+
+        String portValue = args[i + 1];
+        i++;
+
+        try {
+          port = Integer.parseInt(portValue);
+          if (port < 1 || port > 65535) {
+            throw new NumberFormatException();
+          }
+        }
+        catch (NumberFormatException e) {
+          System.out.println("Error: The \"-port\" value \"" + portValue + "\" is not valid");
+          return; // force terminate
+        }
+      }
+      else if (arg.equals("-spool")) {
+        // check that the next arg is a folder, or doesn't exist
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-spool\" must be followed by the name of a spool folder");
+          return; // force terminate
+        }
+
+        spool = args[i + 1];
+        i++;
+
+        File spoolFileObject = new File(spool);
+        if (spoolFileObject.exists() && !spoolFileObject.isDirectory()) {
+          System.out.println("Error: The \"-spool\" location exists, but is not a directory.");
+          return; // force terminate
+        }
+      }
+      else if (arg.equals("-jobs")) {
+        // check that the next arg contains a number
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-jobs\" must be followed by the number of jobs");
+          return; // force terminate
+        }
+
+        String jobsValue = args[i + 1];
+        i++;
+
+        try {
+          jobs = Integer.parseInt(jobsValue);
+          if (jobs < 1) {
+            throw new NumberFormatException();
+          }
+        }
+        catch (NumberFormatException e) {
+          System.out.println("Error: The \"-jobs\" value \"" + jobsValue + "\" is not valid");
+          return; // force terminate
+        }
+      }
       else if (arg.equals("-input")) {
         // check that the next arg contains an existing file
         if (i + 1 >= numArgs) {
@@ -484,6 +1226,22 @@ public class CommandLineProcessor {
           return; // force terminate
         }
       }
+      else if (arg.equals("-files")) {
+        // check that the next arg is an existing folder
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-files\" must be followed by the name of a directory");
+          return; // force terminate
+        }
+
+        files = args[i + 1];
+        i++;
+
+        File filesFileObject = new File(files);
+        if (!filesFileObject.isDirectory()) {
+          System.out.println("Error: Could not find the directory specified by \"-files\"");
+          return; // force terminate
+        }
+      }
       else if (arg.equals("-filter")) {
         // check that the next arg exists
         if (i + 1 >= numArgs) {
@@ -517,6 +1275,38 @@ public class CommandLineProcessor {
           return; // force terminate
         }
       }
+      else if (arg.equals("-text")) {
+        // check that the next arg exists
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-text\" must be followed by the text to search for");
+          return; // force terminate
+        }
+
+        text = args[i + 1];
+        i++;
+      }
+      else if (arg.equals("-threads")) {
+        // check that the next arg contains a number
+        if (i + 1 >= numArgs) {
+          System.out.println("Error: \"-threads\" must be followed by the number of threads");
+          return; // force terminate
+        }
+
+        String threadsValue = args[i + 1];
+        i++;
+
+        try {
+          int threads = Integer.parseInt(threadsValue);
+          if (threads < 0) {
+            throw new NumberFormatException();
+          }
+          TaskThreadPool.setThreadCount(threads);
+        }
+        catch (NumberFormatException e) {
+          System.out.println("Error: The \"-threads\" value \"" + threadsValue + "\" is not valid");
+          return; // force terminate
+        }
+      }
       else if (arg.equals("-fields")) {
         // check that the next arg contains a list of fields
         if (i + 1 >= numArgs) {
@@ -584,6 +1374,68 @@ public class CommandLineProcessor {
       // now run the extract
       commandLineList(input, output, format, fields, filter);
     }
+    else if (action.equals("detect")) {
+      // check that we have all the mandatory fields
+      if (input == null) {
+        System.out.println("Error: \"-detect\" is missing the mandatory field \"-input\"");
+        return; // force terminate
+      }
+
+      commandLineDetect(input);
+    }
+    else if (action.equals("verify")) {
+      // check that we have all the mandatory fields
+      if (input == null) {
+        System.out.println("Error: \"-verify\" is missing the mandatory field \"-input\"");
+        return; // force terminate
+      }
+
+      commandLineVerify(input);
+    }
+    else if (action.equals("search")) {
+      // check that we have all the mandatory fields
+      if (input == null) {
+        System.out.println("Error: \"-search\" is missing the mandatory field \"-input\"");
+        return; // force terminate
+      }
+      if (text == null || text.length() == 0) {
+        System.out.println("Error: \"-search\" is missing the mandatory field \"-text\"");
+        return; // force terminate
+      }
+
+      commandLineSearch(input, text);
+    }
+    else if (action.equals("replacecheck")) {
+      // check that we have all the mandatory fields
+      if (input == null) {
+        System.out.println("Error: \"-replacecheck\" is missing the mandatory field \"-input\"");
+        return; // force terminate
+      }
+      if (files == null) {
+        System.out.println("Error: \"-replacecheck\" is missing the mandatory field \"-files\"");
+        return; // force terminate
+      }
+
+      commandLineReplaceCheck(input, files);
+    }
+    else if (action.equals("replacematch")) {
+      commandLineReplaceMatch();
+    }
+    else if (action.equals("searchlist")) {
+      commandLineSearchList(text);
+    }
+    else if (action.equals("decode")) {
+      commandLineDecode();
+    }
+    else if (action.equals("server")) {
+      // check that we have somewhere to take jobs from
+      if (port == 0 && spool == null) {
+        System.out.println("Error: \"-server\" needs a \"-port\" and/or a \"-spool\" directory");
+        return; // force terminate
+      }
+
+      new ExtractionServer(port, (spool == null) ? null : new File(spool), jobs).run();
+    }
 
   }
 
@@ -0,0 +1,138 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.watto.Settings;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+
+/**
+**********************************************************************************************
+Keeps the decompressed data of recently-used small files in memory, so that a file that is read
+out of order (such as a viewer jumping backwards inside a compressed mesh) only needs to be
+decompressed once. Used by <i>ExporterByteBuffer</i> for exporters that can't restart part-way
+through a file.
+<br><br>
+Files up to <i>DecodedResourceCacheMaximumFileSize</i> MB are stored, and the least recently
+used files are removed when the total gets bigger than <i>DecodedResourceCacheSize</i> MB.
+**********************************************************************************************
+**/
+public class DecodedResourceCache {
+
+  /** the decompressed data, with the most recently used last **/
+  static LinkedHashMap<String, byte[]> cache = new LinkedHashMap<String, byte[]>(16, 0.75f, true);
+
+  /** the total size of all the data in the cache **/
+  static long cacheSize = 0;
+
+  /**
+  **********************************************************************************************
+  Whether the data for a <i>resource</i> can be stored in the cache
+  **********************************************************************************************
+  **/
+  public static boolean canStore(Resource resource) {
+    long decompLength = resource.getDecompressedLength();
+    return decompLength > 0 && decompLength <= getMaximumFileSize() && resource.getSource() != null && resource.getExporter() != null;
+  }
+
+  /**
+  **********************************************************************************************
+  Removes everything from the cache
+  **********************************************************************************************
+  **/
+  public static synchronized void clear() {
+    cache.clear();
+    cacheSize = 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the decompressed data for the <i>resource</i>, or null if it isn't in the cache
+  **********************************************************************************************
+  **/
+  public static synchronized byte[] get(Resource resource) {
+    if (cache.isEmpty()) {
+      return null;
+    }
+    return cache.get(getKey(resource));
+  }
+
+  /**
+  **********************************************************************************************
+  Identifies the data of the <i>resource</i>. The source file time is included so that a changed
+  file isn't read from the cache.
+  **********************************************************************************************
+  **/
+  static String getKey(Resource resource) {
+    File source = resource.getSource();
+    ExporterPlugin exporter = resource.getExporter();
+    return source.getAbsolutePath() + "|" + source.lastModified() + "|" + resource.getOffset() + "|" + resource.getLength() + "|" + resource.getDecompressedLength() + "|" + exporter.getClass().getName();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the largest file that can be stored in the cache, or 0 if the cache is turned off
+  **********************************************************************************************
+  **/
+  public static long getMaximumFileSize() {
+    if (!Settings.getBoolean("DecodedResourceCache")) {
+      return 0;
+    }
+
+    long maxFileSize = Settings.getInt("DecodedResourceCacheMaximumFileSize") * 1024L * 1024L;
+    long maxCacheSize = Settings.getInt("DecodedResourceCacheSize") * 1024L * 1024L;
+    if (maxFileSize > maxCacheSize) {
+      maxFileSize = maxCacheSize;
+    }
+    if (maxFileSize < 0) {
+      return 0;
+    }
+    return maxFileSize;
+  }
+
+  /**
+  **********************************************************************************************
+  Stores the decompressed <i>data</i> for the <i>resource</i>, removing the least recently used
+  data if the cache is full
+  **********************************************************************************************
+  **/
+  public static synchronized void put(Resource resource, byte[] data) {
+    if (!canStore(resource)) {
+      return;
+    }
+
+    byte[] oldData = cache.put(getKey(resource), data);
+    if (oldData != null) {
+      cacheSize -= oldData.length;
+    }
+    cacheSize += data.length;
+
+    long maxCacheSize = Settings.getInt("DecodedResourceCacheSize") * 1024L * 1024L;
+    Iterator<Map.Entry<String, byte[]>> iterator = cache.entrySet().iterator();
+    while (cacheSize > maxCacheSize && iterator.hasNext()) {
+      Map.Entry<String, byte[]> entry = iterator.next();
+      if (entry.getValue() == data) {
+        continue; // keep the one we've just added
+      }
+      cacheSize -= entry.getValue().length;
+      iterator.remove();
+    }
+  }
+
+}
@@ -0,0 +1,484 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Properties;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.ArchiveContext;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.PluginFinder;
+import org.watto.ge.plugin.RatedPlugin;
+import org.watto.ge.plugin.ViewerPlugin;
+import org.watto.ge.plugin.resource.Resource_PAK_38;
+import org.watto.io.FileManipulator;
+import org.watto.task.TaskThreadPool;
+import org.watto.task.Task_ExportFiles;
+
+/**
+**********************************************************************************************
+One extraction run by the <code>ExtractionServer</code> - an archive, an output directory, and
+optionally a filter and a converter format. The job reads the archive into its own
+<code>ArchiveContext</code>, which is bound to the job thread (and the export threads), so
+several jobs can run at the same time without touching each other's archive.
+<br><br>
+The archive is read with a new instance of the plugin, but many plugins still use the shared
+exporters while reading, so only the plugins that are thread-safe (see
+ArchivePlugin.isThreadSafe()) read alongside other jobs - the rest take turns with the jobs that
+use the shared exporters. Jobs whose files can all be exported in exporter sessions run
+alongside each other. Anything else (converting images, or exporters that can only export one
+file at a time) uses the shared converter and exporter instances, which keep state between
+files, so those jobs take turns.
+**********************************************************************************************
+**/
+public class ExtractionJob implements Runnable {
+
+  public static final int STATUS_QUEUED = 0;
+
+  public static final int STATUS_READING = 1;
+
+  public static final int STATUS_EXTRACTING = 2;
+
+  public static final int STATUS_FINISHED = 3;
+
+  public static final int STATUS_FAILED = 4;
+
+  static final String[] STATUS_NAMES = new String[] { "Queued", "Reading", "Extracting", "Finished", "Failed" };
+
+  /** held by jobs that use the shared exporters or the converters, or read with a plugin that isn't thread-safe **/
+  static final Object SHARED_PLUGIN_LOCK = new Object();
+
+  /** the number given to this job by the server **/
+  int id;
+
+  File input;
+
+  File output;
+
+  /** the format to convert images to, or null **/
+  String convert;
+
+  /** only files with names that match this regex are extracted, or null for all files **/
+  String filter;
+
+  volatile int status = STATUS_QUEUED;
+
+  /** why the job failed **/
+  String error = null;
+
+  /** the code of the plugin that read the archive **/
+  String pluginCode = "";
+
+  /** the files being extracted, which are released when the job finishes **/
+  Resource[] resources = null;
+
+  ArchivePlugin plugin = null;
+
+  /** the archive for this job, bound to the threads that work on it **/
+  ArchiveContext context = new ArchiveContext();
+
+  int numFiles = 0;
+
+  long numBytes = 0;
+
+  /** whether the job had to take turns with the other jobs **/
+  boolean usedSharedPlugins = false;
+
+  /** the export that is running, so its progress can be read **/
+  volatile Task_ExportFiles exportTask = null;
+
+  /** the number of files exported, once the export has finished **/
+  int numExported = 0;
+
+  long queuedTime = 0;
+
+  long startTime = 0;
+
+  long readTime = 0;
+
+  /** how long the job waited for the other jobs that use the shared plugins **/
+  long waitTime = 0;
+
+  long extractTime = 0;
+
+  long finishTime = 0;
+
+  /**
+  **********************************************************************************************
+  @param id the number of this job
+  @param input the archive to extract from
+  @param output the directory to extract the files to
+  @param convert the format to convert images to, or null
+  @param filter a regex that the filenames need to match, or null for all files
+  **********************************************************************************************
+  **/
+  public ExtractionJob(int id, File input, File output, String convert, String filter) {
+    this.id = id;
+    this.input = input;
+    this.output = output;
+    this.convert = convert;
+    this.filter = filter;
+    queuedTime = System.currentTimeMillis();
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the files can be exported alongside other jobs, without the shared plugins
+  **********************************************************************************************
+  **/
+  boolean canRunAlongside(Task_ExportFiles task) {
+    if (convert != null || numFiles <= 1) {
+      return false;
+    }
+    if (!Settings.getBoolean("ParallelExport") || TaskThreadPool.getThreadCount() <= 1) {
+      return false; // the files would be exported one at a time with the shared exporters
+    }
+
+    for (int i = 0; i < numFiles; i++) {
+      Resource resource = resources[i];
+      if (resource instanceof Resource_PAK_38) {
+        return false; // may add a converter for the SoundWave files
+      }
+      ExporterPlugin exporter = resource.getExporter();
+      if (exporter == null || !task.canExportInParallel(resource)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Records why the job failed
+  @return false, so it can be returned from <code>runJob()</code>
+  **********************************************************************************************
+  **/
+  boolean fail(String error) {
+    this.error = error;
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Keeps only the resources with names that match the <i>filter</i>
+  **********************************************************************************************
+  **/
+  void filterResources() {
+    if (filter == null) {
+      return;
+    }
+
+    int numResources = resources.length;
+    Resource[] newResources = new Resource[numResources];
+    int realNumResources = 0;
+    for (int r = 0; r < numResources; r++) {
+      Resource resource = resources[r];
+      if (resource.getName().matches(filter)) {
+        newResources[realNumResources] = resource;
+        realNumResources++;
+      }
+    }
+
+    if (realNumResources != numResources) {
+      resources = new Resource[realNumResources];
+      System.arraycopy(newResources, 0, resources, 0, realNumResources);
+    }
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public File getInput() {
+    return input;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of files that have been exported so far
+  **********************************************************************************************
+  **/
+  public int getNumExported() {
+    Task_ExportFiles task = exportTask;
+    if (task != null) {
+      return task.getNumExported();
+    }
+    return numExported;
+  }
+
+  public File getOutput() {
+    return output;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the progress and metrics of this job, as name/value pairs
+  **********************************************************************************************
+  **/
+  public Properties getStatusProperties() {
+    Properties properties = new Properties();
+    properties.setProperty("id", "" + id);
+    properties.setProperty("status", STATUS_NAMES[status]);
+    properties.setProperty("input", input.getAbsolutePath());
+    properties.setProperty("output", output.getAbsolutePath());
+    properties.setProperty("plugin", pluginCode);
+    properties.setProperty("files", "" + numFiles);
+    properties.setProperty("exported", "" + getNumExported());
+    properties.setProperty("bytes", "" + numBytes);
+    properties.setProperty("sharedPlugins", "" + usedSharedPlugins);
+
+    long now = System.currentTimeMillis();
+    long queueEnd = (startTime == 0) ? now : startTime;
+    properties.setProperty("queueTime", "" + (queueEnd - queuedTime));
+    properties.setProperty("readTime", "" + readTime);
+    properties.setProperty("waitTime", "" + waitTime);
+    properties.setProperty("extractTime", "" + extractTime);
+    if (finishTime != 0) {
+      properties.setProperty("totalTime", "" + (finishTime - queuedTime));
+    }
+
+    if (error != null) {
+      properties.setProperty("error", error);
+    }
+    return properties;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the job has finished, successfully or not
+  **********************************************************************************************
+  **/
+  public boolean isDone() {
+    return status == STATUS_FINISHED || status == STATUS_FAILED;
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a new instance of the <i>sharedPlugin</i>, for this job to use by itself. Returns the
+  <i>sharedPlugin</i> if a new instance can't be created.
+  **********************************************************************************************
+  **/
+  ArchivePlugin newPluginInstance(ArchivePlugin sharedPlugin) {
+    try {
+      ArchivePlugin jobPlugin = sharedPlugin.getClass().newInstance();
+      jobPlugin.setType(sharedPlugin.getType());
+      return jobPlugin;
+    }
+    catch (Throwable t) {
+      return sharedPlugin;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the archive with the plugins that match it, stopping at the first one that finds files.
+  The directory cache is used if the archive has been read before. Plugins that aren't thread-safe
+  read while holding the SHARED_PLUGIN_LOCK.
+  **********************************************************************************************
+  **/
+  boolean readArchive() {
+    ArchiveIndexCache.CachedArchive cachedArchive = ArchiveIndexCache.load(input);
+    if (cachedArchive != null) {
+      plugin = cachedArchive.getPlugin();
+      resources = cachedArchive.getResources().getResources();
+      return resources.length > 0;
+    }
+
+    RatedPlugin[] plugins = PluginFinder.findPlugins(input, ArchivePlugin.class);
+    if (plugins == null || plugins.length == 0) {
+      return false;
+    }
+    Arrays.sort(plugins);
+
+    for (int i = 0; i < plugins.length; i++) {
+      ArchivePlugin jobPlugin = newPluginInstance((ArchivePlugin) plugins[i].getPlugin());
+
+      Resource[] readResources = null;
+      long readStart = System.currentTimeMillis();
+      boolean mappingAllowed = FileManipulator.setMappingAllowed(true);
+      try {
+        if (jobPlugin.isThreadSafe()) {
+          readResources = jobPlugin.read(input);
+        }
+        else {
+          synchronized (SHARED_PLUGIN_LOCK) {
+            readResources = jobPlugin.read(input);
+          }
+        }
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+      finally {
+        FileManipulator.setMappingAllowed(mappingAllowed);
+      }
+
+      if (readResources != null && readResources.length > 0) {
+        if (jobPlugin.canScanForFileTypes() && Settings.getBoolean("IdentifyUnknownFileTypes")) {
+          FileTypeDetector.determineExtensions(readResources, jobPlugin);
+        }
+
+        if (System.currentTimeMillis() - readStart >= Settings.getInt("IndexCacheMinimumReadTime")) {
+          // slow to read, so remember the directory for next time
+          ArchiveIndexCache.save(input, jobPlugin, readResources);
+        }
+
+        plugin = jobPlugin;
+        resources = readResources;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Runs the job - reads the archive, then extracts (and converts) the files
+  **********************************************************************************************
+  **/
+  @Override
+  public void run() {
+    startTime = System.currentTimeMillis();
+    int finalStatus = STATUS_FAILED;
+    ArchiveContext previousContext = context.bind();
+    try {
+      if (runJob()) {
+        finalStatus = STATUS_FINISHED;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      fail(t.toString());
+    }
+    finally {
+      ArchiveContext.unbind(previousContext);
+
+      // release the archive, as the server keeps the finished jobs for their status
+      Task_ExportFiles task = exportTask;
+      if (task != null) {
+        numExported = task.getNumExported();
+        exportTask = null;
+      }
+      resources = null;
+      plugin = null;
+      context.makeNewArchive();
+      finishTime = System.currentTimeMillis();
+
+      synchronized (this) {
+        status = finalStatus;
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Does the work for <code>run()</code>
+  @return true if the files were extracted, false if the job failed
+  **********************************************************************************************
+  **/
+  boolean runJob() {
+    status = STATUS_READING;
+
+    if (!input.exists()) {
+      return fail("The archive could not be found");
+    }
+
+    ViewerPlugin converterPlugin = null;
+    if (convert != null) {
+      converterPlugin = CommandLineProcessor.getConverterPlugin(convert);
+      if (converterPlugin == null) {
+        return fail("Could not find the converter plugin for format " + convert);
+      }
+    }
+
+    boolean archiveRead = readArchive();
+    readTime = System.currentTimeMillis() - startTime;
+    if (!archiveRead) {
+      return fail("The archive could not be opened, or contained no files");
+    }
+
+    pluginCode = plugin.getCode();
+
+    filterResources();
+    numFiles = resources.length;
+    for (int i = 0; i < numFiles; i++) {
+      numBytes += resources[i].getDecompressedLength();
+    }
+
+    context.setResources(resources);
+    context.setReadPlugin(plugin);
+    context.setBasePath(input);
+    context.setColumns(plugin.getColumns());
+
+    status = STATUS_EXTRACTING;
+
+    Task_ExportFiles task = new Task_ExportFiles(output, resources);
+    task.setContext(context);
+    task.setShowPopups(false);
+    task.setShowProgressPopups(false);
+    if (converterPlugin != null) {
+      task.setConverterPlugins(new ViewerPlugin[] { converterPlugin });
+    }
+
+    long waitStart = System.currentTimeMillis();
+    if (canRunAlongside(task)) {
+      exportTask = task;
+      task.redo();
+    }
+    else {
+      usedSharedPlugins = true;
+      synchronized (SHARED_PLUGIN_LOCK) {
+        waitTime = System.currentTimeMillis() - waitStart;
+
+        exportTask = task;
+        task.redo();
+      }
+    }
+    extractTime = System.currentTimeMillis() - waitStart - waitTime;
+
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until the job has finished, successfully or not
+  **********************************************************************************************
+  **/
+  public synchronized void waitUntilDone() {
+    try {
+      while (!isDone()) {
+        wait();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
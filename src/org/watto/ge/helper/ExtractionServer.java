@@ -0,0 +1,484 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+
+/**
+**********************************************************************************************
+Runs Game Extractor headless, as a long-running server that extracts archives. The plugins are
+loaded once, when the program starts, and then jobs are taken from a local socket and/or a spool
+directory, and run a few at a time.
+<br><br>
+<b>Socket</b> - one command per line, with the values as name=value pairs separated by tabs.
+Each command gets one line back, starting with OK or ERROR.<br>
+- extract input=(file) output=(directory) [convert=(format)] [filter=(regex)] - queues a job<br>
+- status [id=(job)] - the progress and metrics of one job, or one line for each job then END<br>
+- wait id=(job) - waits for the job to finish, then gives its status<br>
+- shutdown - stops taking jobs, waits for the running jobs, then stops the server<br>
+- quit - closes the connection
+<br><br>
+<b>Spool directory</b> - each *.job file is a properties file with the same values as the
+extract command. When the job is queued, the file is renamed to *.job.running, and when it
+finishes the status is written to *.job.done or *.job.failed.
+**********************************************************************************************
+**/
+public class ExtractionServer {
+
+  /** the jobs, in the order they were submitted **/
+  ArrayList<ExtractionJob> jobs = new ArrayList<ExtractionJob>();
+
+  AtomicInteger nextJobId = new AtomicInteger(1);
+
+  /** runs the jobs, a bounded number at a time **/
+  ExecutorService executor;
+
+  int maxJobs;
+
+  /** the port to listen on (on the local machine only), or 0 for no socket **/
+  int port;
+
+  /** the spool directory to watch, or null for no spool directory **/
+  File spoolDirectory;
+
+  ServerSocket serverSocket = null;
+
+  volatile boolean running = false;
+
+  /**
+  **********************************************************************************************
+  @param port the port to listen on, or 0 for no socket
+  @param spoolDirectory the directory to watch for *.job files, or null
+  @param maxJobs the number of jobs that can run at the same time
+  **********************************************************************************************
+  **/
+  public ExtractionServer(int port, File spoolDirectory, int maxJobs) {
+    this.port = port;
+    this.spoolDirectory = spoolDirectory;
+    if (maxJobs < 1) {
+      maxJobs = 1;
+    }
+    this.maxJobs = maxJobs;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the job with the <i>id</i>, or null if there isn't one
+  **********************************************************************************************
+  **/
+  public ExtractionJob getJob(int id) {
+    synchronized (jobs) {
+      for (int i = 0; i < jobs.size(); i++) {
+        ExtractionJob job = jobs.get(i);
+        if (job.getId() == id) {
+          return job;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets all the jobs, in the order they were submitted
+  **********************************************************************************************
+  **/
+  public ExtractionJob[] getJobs() {
+    synchronized (jobs) {
+      return jobs.toArray(new ExtractionJob[jobs.size()]);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the job for the <i>id</i> value of a command
+  **********************************************************************************************
+  **/
+  ExtractionJob getJob(Properties values) {
+    try {
+      return getJob(Integer.parseInt(values.getProperty("id", "")));
+    }
+    catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Turns the <i>properties</i> into a line of name=value pairs separated by tabs
+  **********************************************************************************************
+  **/
+  static String toLine(Properties properties) {
+    String[] names = new String[] { "id", "status", "plugin", "files", "exported", "bytes", "sharedPlugins", "queueTime", "readTime", "waitTime", "extractTime", "totalTime", "input", "output", "error" };
+
+    StringBuilder line = new StringBuilder();
+    for (int i = 0; i < names.length; i++) {
+      String value = properties.getProperty(names[i]);
+      if (value == null) {
+        continue;
+      }
+      if (line.length() > 0) {
+        line.append('\t');
+      }
+      line.append(names[i]).append('=').append(value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+    }
+    return line.toString();
+  }
+
+  /**
+  **********************************************************************************************
+  Splits a command line into the command and its name=value pairs
+  **********************************************************************************************
+  **/
+  static Properties parseValues(String[] parts) {
+    Properties values = new Properties();
+    for (int i = 1; i < parts.length; i++) {
+      int equalsPos = parts[i].indexOf('=');
+      if (equalsPos > 0) {
+        values.setProperty(parts[i].substring(0, equalsPos).trim(), parts[i].substring(equalsPos + 1));
+      }
+    }
+    return values;
+  }
+
+  /**
+  **********************************************************************************************
+  Runs a command from the socket, and returns the reply, or null to close the connection
+  **********************************************************************************************
+  **/
+  String processCommand(String line) {
+    String[] parts = line.split("\t");
+    String command = parts[0].trim().toLowerCase();
+    Properties values = parseValues(parts);
+
+    if (command.equals("extract")) {
+      try {
+        ExtractionJob job = submit(values);
+        return "OK\tid=" + job.getId();
+      }
+      catch (IllegalArgumentException e) {
+        return "ERROR\t" + e.getMessage();
+      }
+    }
+    else if (command.equals("status")) {
+      if (values.getProperty("id") == null) {
+        StringBuilder reply = new StringBuilder();
+        ExtractionJob[] allJobs = getJobs();
+        for (int i = 0; i < allJobs.length; i++) {
+          reply.append("OK\t").append(toLine(allJobs[i].getStatusProperties())).append('\n');
+        }
+        reply.append("END");
+        return reply.toString();
+      }
+
+      ExtractionJob job = getJob(values);
+      if (job == null) {
+        return "ERROR\tUnknown job";
+      }
+      return "OK\t" + toLine(job.getStatusProperties());
+    }
+    else if (command.equals("wait")) {
+      ExtractionJob job = getJob(values);
+      if (job == null) {
+        return "ERROR\tUnknown job";
+      }
+      job.waitUntilDone();
+      return "OK\t" + toLine(job.getStatusProperties());
+    }
+    else if (command.equals("shutdown")) {
+      running = false;
+      try {
+        serverSocket.close(); // stops the listener, which then shuts down the server
+      }
+      catch (Throwable t) {
+      }
+      return "OK";
+    }
+    else if (command.equals("quit")) {
+      return null;
+    }
+    return "ERROR\tUnknown command " + command;
+  }
+
+  /**
+  **********************************************************************************************
+  Handles the commands on one connection to the socket
+  **********************************************************************************************
+  **/
+  void processConnection(Socket socket) {
+    try {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+      PrintWriter writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8"), true);
+
+      String line = reader.readLine();
+      while (line != null) {
+        if (line.trim().length() > 0) {
+          String reply = processCommand(line);
+          if (reply == null) {
+            break;
+          }
+          writer.println(reply);
+        }
+        line = reader.readLine();
+      }
+    }
+    catch (Throwable t) {
+      // the client went away
+    }
+    finally {
+      try {
+        socket.close();
+      }
+      catch (Throwable t) {
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Queues the *.job files in the spool directory
+  **********************************************************************************************
+  **/
+  void processSpool() {
+    File[] files = spoolDirectory.listFiles();
+    if (files == null) {
+      return;
+    }
+
+    for (int i = 0; i < files.length; i++) {
+      File jobFile = files[i];
+      if (!jobFile.isFile() || !jobFile.getName().endsWith(".job")) {
+        continue;
+      }
+
+      // claim the file by renaming it, so it's only queued once
+      final File runningFile = new File(jobFile.getAbsolutePath() + ".running");
+      if (!jobFile.renameTo(runningFile)) {
+        continue; // still being written, or taken by something else
+      }
+
+      final String basePath = jobFile.getAbsolutePath();
+      Properties values = new Properties();
+      try {
+        FileInputStream input = new FileInputStream(runningFile);
+        try {
+          values.load(input);
+        }
+        finally {
+          input.close();
+        }
+
+        final ExtractionJob job = submit(values);
+
+        // write the result once the job has finished
+        Thread resultThread = new Thread(new Runnable() {
+
+          @Override
+          public void run() {
+            job.waitUntilDone();
+            writeSpoolResult(runningFile, basePath, job.getStatus() == ExtractionJob.STATUS_FINISHED, job.getStatusProperties());
+          }
+        }, "ExtractionServer spool result " + job.getId());
+        resultThread.setDaemon(true);
+        resultThread.start();
+      }
+      catch (Throwable t) {
+        Properties result = new Properties();
+        result.setProperty("status", "Failed");
+        result.setProperty("error", (t.getMessage() == null) ? t.toString() : t.getMessage());
+        writeSpoolResult(runningFile, basePath, false, result);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Starts the server, and returns once it has been shut down
+  **********************************************************************************************
+  **/
+  public void run() {
+    executor = Executors.newFixedThreadPool(maxJobs);
+    running = true;
+
+    System.out.println("Game Extractor server started, running " + maxJobs + " jobs at a time");
+
+    if (spoolDirectory != null) {
+      spoolDirectory.mkdirs();
+      System.out.println("Watching spool directory " + spoolDirectory.getAbsolutePath());
+
+      Thread spoolThread = new Thread(new Runnable() {
+
+        @Override
+        public void run() {
+          int pollInterval = Math.max(100, Settings.getInt("ServerSpoolPollInterval"));
+          while (running) {
+            try {
+              processSpool();
+              Thread.sleep(pollInterval);
+            }
+            catch (InterruptedException e) {
+              return;
+            }
+            catch (Throwable t) {
+              ErrorLogger.log(t);
+            }
+          }
+        }
+      }, "ExtractionServer spool");
+      spoolThread.setDaemon(true);
+      spoolThread.start();
+    }
+
+    if (port > 0) {
+      try {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        System.out.println("Listening on " + serverSocket.getInetAddress().getHostAddress() + ":" + port);
+
+        while (running) {
+          final Socket socket = serverSocket.accept();
+          Thread connectionThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+              processConnection(socket);
+            }
+          }, "ExtractionServer connection");
+          connectionThread.setDaemon(true);
+          connectionThread.start();
+        }
+      }
+      catch (Throwable t) {
+        if (running) {
+          ErrorLogger.log(t);
+          System.out.println("Error: " + t.getMessage());
+          running = false;
+        }
+      }
+    }
+    else {
+      // spool directory only - run until the process is stopped
+      while (running) {
+        try {
+          Thread.sleep(1000);
+        }
+        catch (InterruptedException e) {
+          running = false;
+        }
+      }
+    }
+
+    // let the queued and running jobs finish
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+    catch (InterruptedException e) {
+    }
+
+    System.out.println("Game Extractor server stopped");
+  }
+
+  /**
+  **********************************************************************************************
+  Queues a job from the <i>input</i>, <i>output</i>, <i>convert</i> and <i>filter</i> values
+  **********************************************************************************************
+  **/
+  public ExtractionJob submit(Properties values) {
+    String input = values.getProperty("input");
+    String output = values.getProperty("output");
+    if (input == null || input.length() == 0) {
+      throw new IllegalArgumentException("Missing input");
+    }
+    if (output == null || output.length() == 0) {
+      throw new IllegalArgumentException("Missing output");
+    }
+
+    File outputFile = new File(output);
+    if (outputFile.exists() && !outputFile.isDirectory()) {
+      throw new IllegalArgumentException("The output location exists, but is not a directory");
+    }
+
+    String convert = values.getProperty("convert");
+    if (convert != null && convert.length() == 0) {
+      convert = null;
+    }
+    String filter = values.getProperty("filter");
+    if (filter != null && filter.length() == 0) {
+      filter = null;
+    }
+
+    ExtractionJob job = new ExtractionJob(nextJobId.getAndIncrement(), new File(input), outputFile, convert, filter);
+    synchronized (jobs) {
+      jobs.add(job);
+
+      // forget the oldest finished jobs, so a long-running server doesn't keep them all
+      int maxHistory = Settings.getInt("ServerJobHistorySize");
+      for (int i = 0; jobs.size() > maxHistory && i < jobs.size();) {
+        if (jobs.get(i).isDone()) {
+          jobs.remove(i);
+        }
+        else {
+          i++;
+        }
+      }
+    }
+
+    executor.execute(job);
+    return job;
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>result</i> of a spool job to *.job.done or *.job.failed, and removes the
+  *.job.running file
+  **********************************************************************************************
+  **/
+  void writeSpoolResult(File runningFile, String basePath, boolean succeeded, Properties result) {
+    File resultFile = new File(basePath + (succeeded ? ".done" : ".failed"));
+    try {
+      FileOutputStream output = new FileOutputStream(resultFile);
+      try {
+        result.store(output, null);
+      }
+      finally {
+        output.close();
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    runningFile.delete();
+
+    System.out.println(toLine(result));
+  }
+
+}
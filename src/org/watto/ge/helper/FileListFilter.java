@@ -15,11 +15,11 @@
 package org.watto.ge.helper;
 
 import org.watto.ErrorLogger;
-import org.watto.Settings;
 import org.watto.SingletonManager;
 import org.watto.component.WSTableColumn;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.ge.plugin.ArchivePlugin;
 
 /**
@@ -36,48 +36,11 @@ public class FileListFilter {
    @return the filtered list of resources
    **********************************************************************************************
    **/
-  @SuppressWarnings("rawtypes")
   public static Resource[] filterResources(Resource[] resources) {
 
-    if (SingletonManager.has("FileListFilterValue")) {
+    FileListSearch filter = getFilter();
+    if (filter != null) {
       try {
-        String filterValue = (String) SingletonManager.get("FileListFilterValue");
-        WSTableColumn[] filterColumns = (WSTableColumn[]) SingletonManager.get("FileListFilterColumns");
-
-        int numColumns = filterColumns.length;
-
-        boolean isNumber = false;
-        long searchValNumber = -1;
-        try {
-          searchValNumber = Long.parseLong(filterValue);
-          isNumber = true;
-        }
-        catch (Throwable t) {
-        }
-
-        boolean isBoolean = false;
-        boolean searchValBoolean = true;
-        if (filterValue.equals("true")) {
-          isBoolean = true;
-          searchValBoolean = true;
-        }
-        else if (filterValue.equals("false")) {
-          isBoolean = true;
-          searchValBoolean = false;
-        }
-
-        boolean regexSearch = false;
-
-        String searchValString = filterValue;
-        if (Settings.getBoolean("SearchWildcardConversion")) {
-          searchValString = filterValue.replace("*", "(.*)");
-          regexSearch = true;
-        }
-
-        if (Settings.getBoolean("SearchRegExConversion")) {
-          regexSearch = true;
-        }
-
         // determine the starting position
         int numFiles = resources.length;
         ArchivePlugin readPlugin = Archive.getReadPlugin();
@@ -88,39 +51,9 @@ public class FileListFilter {
 
         for (int i = 0; i < numFiles; i++) {
           Resource resource = resources[i];
-          if (resource != null) {
-            for (int c = 0; c < numColumns; c++) {
-              WSTableColumn column = filterColumns[c];
-              Class type = column.getType();
-              char columnChar = column.getCharCode();
-
-              boolean found = false;
-              if (type == String.class) {
-                if (regexSearch) { // regex
-                  try {
-                    found = ((String) readPlugin.getColumnValue(resource, columnChar)).matches(searchValString);
-                  }
-                  catch (Throwable t) {
-                  }
-                }
-                else { // literal
-                  found = (((String) readPlugin.getColumnValue(resource, columnChar)).indexOf(searchValString) >= 0);
-                }
-              }
-              else if (isNumber && type == Long.class) {
-                found = (((Long) readPlugin.getColumnValue(resource, columnChar)).longValue() == searchValNumber);
-              }
-              else if (isBoolean && type == Boolean.class) {
-                found = (((Boolean) readPlugin.getColumnValue(resource, columnChar)).booleanValue() == searchValBoolean);
-              }
-
-              if (found) {
-                filteredResources[numFound] = resource;
-                numFound++;
-                break; // stop searching the remaining columns - begin searching for the next file
-              }
-
-            }
+          if (resource != null && filter.matches(resource, readPlugin)) {
+            filteredResources[numFound] = resource;
+            numFound++;
           }
         }
 
@@ -141,4 +74,88 @@ public class FileListFilter {
 
     return resources;
   }
+
+  /**
+   **********************************************************************************************
+   Filters the rows of a ResourceTable, and gets the Resources for the rows that match. Resources
+   are only made for the matching rows, so the whole table isn't unpacked.
+   @return the filtered list of resources
+   **********************************************************************************************
+   **/
+  public static Resource[] filterResources(ResourceTable table) {
+    int[] rows = filterRows(table);
+
+    int numFound = rows.length;
+    Resource[] resources = new Resource[numFound];
+    for (int i = 0; i < numFound; i++) {
+      resources[i] = table.getResource(rows[i]);
+    }
+    return resources;
+  }
+
+  /**
+   **********************************************************************************************
+   Filters the rows of a ResourceTable. The common columns are read straight from the table, and
+   the name columns only check the rows found by the table's search index, so this doesn't need a
+   Resource for each row.
+   @return the numbers of the rows that match the filter
+   **********************************************************************************************
+   **/
+  public static int[] filterRows(ResourceTable table) {
+    int numFiles = table.getNumResources();
+
+    FileListSearch filter = getFilter();
+    if (filter != null) {
+      try {
+        boolean[] matches = filter.matchRows(table, Archive.getReadPlugin());
+
+        int numFound = 0;
+        int[] filteredRows = new int[numFiles];
+
+        for (int i = 0; i < numFiles; i++) {
+          if (matches[i]) {
+            filteredRows[numFound] = i;
+            numFound++;
+          }
+        }
+
+        if (numFound != numFiles) {
+          int[] rows = new int[numFound];
+          System.arraycopy(filteredRows, 0, rows, 0, numFound);
+          return rows;
+        }
+
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+    }
+
+    int[] rows = new int[numFiles];
+    for (int i = 0; i < numFiles; i++) {
+      rows[i] = i;
+    }
+    return rows;
+  }
+
+  /**
+   **********************************************************************************************
+   Gets the current filter, or null if the file list isn't being filtered
+   **********************************************************************************************
+   **/
+  static FileListSearch getFilter() {
+    if (!SingletonManager.has("FileListFilterValue")) {
+      return null;
+    }
+
+    try {
+      String filterValue = (String) SingletonManager.get("FileListFilterValue");
+      WSTableColumn[] filterColumns = (WSTableColumn[]) SingletonManager.get("FileListFilterColumns");
+      return new FileListSearch(filterValue, filterColumns);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
 }
@@ -0,0 +1,451 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.util.ArrayList;
+import java.util.regex.Pattern;
+import org.watto.Settings;
+import org.watto.component.WSTableColumn;
+import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
+import org.watto.ge.plugin.ArchivePlugin;
+
+/**
+**********************************************************************************************
+A search value that has been worked out once, ready for comparing against the values of the
+<i>columns</i>. Used by the file list search and the file list filter. <br>
+<br>
+Numbers and booleans are parsed once, and a wildcard or regex search is compiled once, rather
+than for every value. For wildcard and regex searches, the text that every match must contain
+is also worked out, so a ResourceTable can use its search index to narrow down the rows before
+they are checked.
+**********************************************************************************************
+**/
+public class FileListSearch {
+
+  /**
+  **********************************************************************************************
+  Gets the pieces of plain text that every value matching the <i>regex</i> must contain. This
+  only understands simple expressions - anything it isn't sure about is skipped, and if the
+  expression has alternatives (|) or flags, nothing is returned, so the values are all checked.
+  **********************************************************************************************
+  **/
+  static String[] getRequiredText(String regex) {
+    ArrayList<String> pieces = new ArrayList<String>();
+    StringBuffer piece = new StringBuffer();
+
+    int length = regex.length();
+    int i = 0;
+    while (i < length) {
+      char character = regex.charAt(i);
+      i++;
+
+      char literal = 0;
+      boolean isLiteral = false;
+
+      if (character == '\\') {
+        if (i >= length) {
+          return new String[0];
+        }
+        char escaped = regex.charAt(i);
+        i++;
+        if (escaped == 'Q' || escaped == 'E') {
+          return new String[0]; // quoted text - not worth the trouble
+        }
+        if (!Character.isLetterOrDigit(escaped)) {
+          literal = escaped;
+          isLiteral = true;
+        }
+        else {
+          // a character class, code or backreference (eg \d, \x41, \u0041, \012) - the characters
+          // after it are part of the escape, not plain text
+          i = skipEscape(regex, escaped, i);
+        }
+      }
+      else if (character == '|') {
+        return new String[0]; // alternatives, so no single piece of text is required
+      }
+      else if (character == '(') {
+        if (i < length && regex.charAt(i) == '?') {
+          return new String[0]; // flags or lookarounds could change what matches
+        }
+
+        // skip over the group, as it could be optional or repeated
+        int depth = 1;
+        while (i < length && depth > 0) {
+          char groupCharacter = regex.charAt(i);
+          i++;
+          if (groupCharacter == '\\') {
+            i++;
+          }
+          else if (groupCharacter == '(') {
+            depth++;
+          }
+          else if (groupCharacter == ')') {
+            depth--;
+          }
+          else if (groupCharacter == '[') {
+            i = skipCharacterClass(regex, i);
+          }
+        }
+      }
+      else if (character == '[') {
+        i = skipCharacterClass(regex, i);
+      }
+      else if (".^$)".indexOf(character) < 0 && "?*+{".indexOf(character) < 0) {
+        literal = character;
+        isLiteral = true;
+      }
+
+      // check whether the next character makes this one optional
+      boolean optional = false;
+      boolean repeated = false;
+      if (i < length) {
+        char next = regex.charAt(i);
+        if (next == '?' || next == '*' || next == '{') {
+          optional = true;
+        }
+        else if (next == '+') {
+          repeated = true;
+        }
+      }
+
+      if (isLiteral && !optional) {
+        piece.append(literal);
+      }
+      if (!isLiteral || optional || repeated) {
+        // the piece of text ends here
+        if (piece.length() > 0) {
+          pieces.add(piece.toString());
+          piece.setLength(0);
+        }
+
+        // skip over the quantifier
+        if (optional || repeated) {
+          if (regex.charAt(i) == '{') {
+            int end = regex.indexOf('}', i);
+            if (end < 0) {
+              return new String[0];
+            }
+            i = end + 1;
+          }
+          else {
+            i++;
+          }
+          if (i < length && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+            i++; // lazy or possessive quantifier
+          }
+        }
+      }
+    }
+
+    if (piece.length() > 0) {
+      pieces.add(piece.toString());
+    }
+    return pieces.toArray(new String[pieces.size()]);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the position just after the end of the character class that starts before <i>pos</i>
+  **********************************************************************************************
+  **/
+  static int skipCharacterClass(String regex, int pos) {
+    int length = regex.length();
+    if (pos < length && regex.charAt(pos) == '^') {
+      pos++;
+    }
+    if (pos < length && regex.charAt(pos) == ']') {
+      pos++; // a ] at the start is part of the class
+    }
+    while (pos < length) {
+      char character = regex.charAt(pos);
+      pos++;
+      if (character == '\\') {
+        pos++;
+      }
+      else if (character == '[') {
+        pos = skipCharacterClass(regex, pos);
+      }
+      else if (character == ']') {
+        break;
+      }
+    }
+    return pos;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the position just after the end of the escape \<i>escaped</i>, where <i>pos</i> is just
+  after the <i>escaped</i> character. The escapes for a character code (\x, \0 and the unicode
+  escape) are followed by the code, which is skipped over, as are the names of properties and
+  groups, and the digits of a backreference.
+  **********************************************************************************************
+  **/
+  static int skipEscape(String regex, char escaped, int pos) {
+    int length = regex.length();
+    int maxLength = 0;
+    String allowed = null;
+
+    if (escaped == 'x') {
+      if (pos < length && regex.charAt(pos) == '{') {
+        int end = regex.indexOf('}', pos);
+        return (end < 0) ? length : end + 1;
+      }
+      maxLength = 2;
+      allowed = "0123456789abcdefABCDEF";
+    }
+    else if (escaped == 'u') {
+      maxLength = 4;
+      allowed = "0123456789abcdefABCDEF";
+    }
+    else if (escaped == '0') {
+      maxLength = 3;
+      allowed = "01234567";
+    }
+    else if (escaped == 'c') {
+      return Math.min(pos + 1, length);
+    }
+    else if (escaped == 'p' || escaped == 'P') {
+      if (pos < length && regex.charAt(pos) == '{') {
+        int end = regex.indexOf('}', pos);
+        return (end < 0) ? length : end + 1;
+      }
+      return Math.min(pos + 1, length);
+    }
+    else if (escaped == 'k') {
+      int end = regex.indexOf('>', pos);
+      return (end < 0) ? length : end + 1;
+    }
+    else if (escaped >= '1' && escaped <= '9') {
+      maxLength = length; // a backreference takes as many digits as it can
+      allowed = "0123456789";
+    }
+    else {
+      return pos;
+    }
+
+    int end = pos;
+    while (end < length && end - pos < maxLength && allowed.indexOf(regex.charAt(end)) >= 0) {
+      end++;
+    }
+    return end;
+  }
+
+  WSTableColumn[] columns;
+
+  boolean isNumber = false;
+
+  long searchValNumber = -1;
+
+  boolean isBoolean = false;
+
+  boolean searchValBoolean = true;
+
+  boolean regexSearch = false;
+
+  String searchValString;
+
+  /** The compiled regex, or null if the regex isn't valid (so no values match it) **/
+  Pattern pattern = null;
+
+  /** The text that every matching value must contain **/
+  String[] requiredText;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public FileListSearch(String searchVal, WSTableColumn[] columns) {
+    this.columns = columns;
+
+    try {
+      searchValNumber = Long.parseLong(searchVal);
+      isNumber = true;
+    }
+    catch (Throwable t) {
+    }
+
+    if (searchVal.equals("true")) {
+      isBoolean = true;
+      searchValBoolean = true;
+    }
+    else if (searchVal.equals("false")) {
+      isBoolean = true;
+      searchValBoolean = false;
+    }
+
+    searchValString = searchVal;
+    if (Settings.getBoolean("SearchWildcardConversion")) {
+      searchValString = searchVal.replace("*", "(.*)");
+      regexSearch = true;
+    }
+
+    if (Settings.getBoolean("SearchRegExConversion")) {
+      regexSearch = true;
+    }
+
+    if (regexSearch) {
+      try {
+        pattern = Pattern.compile(searchValString);
+        requiredText = getRequiredText(searchValString);
+      }
+      catch (Throwable t) {
+        pattern = null;
+        requiredText = new String[0];
+      }
+    }
+    else {
+      requiredText = new String[] { searchValString };
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the columns that are searched
+  **********************************************************************************************
+  **/
+  public WSTableColumn[] getColumns() {
+    return columns;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the column with the <i>code</i> holds all or part of the name of the file, and so can
+  be narrowed down by the search index
+  **********************************************************************************************
+  **/
+  boolean isNameColumn(char code) {
+    return code == 'P' || code == 'F' || code == 'N' || code == 'E';
+  }
+
+  /**
+  **********************************************************************************************
+  Whether any of the columns of the <i>resource</i> match
+  **********************************************************************************************
+  **/
+  public boolean matches(Resource resource, ArchivePlugin readPlugin) {
+    for (int c = 0; c < columns.length; c++) {
+      WSTableColumn column = columns[c];
+      if (matches(readPlugin.getColumnValue(resource, column.getCharCode()), column.getType())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>value</i> of a column of type <i>type</i> matches
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  public boolean matches(Object value, Class type) {
+    if (value == null) {
+      return false;
+    }
+
+    if (type == String.class) {
+      if (regexSearch) { // regex
+        return (pattern != null && pattern.matcher((String) value).matches());
+      }
+      else { // literal
+        return (((String) value).indexOf(searchValString) >= 0);
+      }
+    }
+    else if (isNumber && type == Long.class) {
+      return (((Long) value).longValue() == searchValNumber);
+    }
+    else if (isBoolean && type == Boolean.class) {
+      return (((Boolean) value).booleanValue() == searchValBoolean);
+    }
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Works out which rows of the <i>table</i> match, in any of the columns. Name columns only check
+  the rows that the search index finds, and number columns are compared straight from the table,
+  so most rows don't need their values (or a Resource) to be created.
+  @return true for each row that matches
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("rawtypes")
+  public boolean[] matchRows(ResourceTable table, ArchivePlugin readPlugin) {
+    int numRows = table.getNumResources();
+    boolean[] matches = new boolean[numRows];
+
+    boolean standardColumns = table.usesStandardColumns(readPlugin);
+
+    for (int c = 0; c < columns.length; c++) {
+      WSTableColumn column = columns[c];
+      Class type = column.getType();
+      char code = column.getCharCode();
+
+      if (type == String.class) {
+        if (regexSearch && pattern == null) {
+          continue; // not a valid regex, so nothing matches
+        }
+
+        int[] candidates = null;
+        if (standardColumns && isNameColumn(code)) {
+          for (int t = 0; t < requiredText.length; t++) {
+            int[] rows = table.findRows(requiredText[t]);
+            if (rows != null) {
+              candidates = (candidates == null) ? rows : TrigramIndex.intersect(candidates, rows);
+            }
+          }
+        }
+
+        if (candidates != null) {
+          for (int i = 0; i < candidates.length; i++) {
+            int row = candidates[i];
+            if (!matches[row]) {
+              matches[row] = matches(table.getColumnValue(row, readPlugin, code), type);
+            }
+          }
+          continue;
+        }
+      }
+      else if (type == Long.class) {
+        if (!isNumber) {
+          continue;
+        }
+        if (table.matchNumberColumn(readPlugin, code, searchValNumber, matches)) {
+          continue;
+        }
+      }
+      else if (type == Boolean.class) {
+        if (!isBoolean) {
+          continue;
+        }
+      }
+      else {
+        continue;
+      }
+
+      // check every row
+      for (int row = 0; row < numRows; row++) {
+        if (!matches[row]) {
+          matches[row] = matches(table.getColumnValue(row, readPlugin, code), type);
+        }
+      }
+    }
+
+    return matches;
+  }
+
+}
@@ -14,14 +14,21 @@
 
 package org.watto.ge.helper;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import org.watto.component.WSTableColumn;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.ge.plugin.ArchivePlugin;
 
 /**
 **********************************************************************************************
 THIS IS ENHANCED SUCH THAT, IF THERE ARE 2 EQUAL VALUES IN A COLUMN, IT WILL SORT BY THE FILEPATH
+<br>
+The column values are read once for each row before sorting, rather than on every comparison,
+and the rows are sorted as numbers, so the same code sorts both Resource arrays and the rows of a
+ResourceTable.
 **********************************************************************************************
 **/
 
@@ -33,81 +40,39 @@ public class FileListSorter {
 
   static char filePathCode = 'P';
 
-  /**
-  **********************************************************************************************
+  /** The sort values for each row, when sorting a String column **/
+  static String[] stringKeys = null;
 
-  **********************************************************************************************
-  **/
-  public static int compareBooleans(Resource row1, Resource row2) {
-    boolean b1 = ((Boolean) readPlugin.getColumnValue(row1, sortColumnCode)).booleanValue();
-    boolean b2 = ((Boolean) readPlugin.getColumnValue(row2, sortColumnCode)).booleanValue();
+  /** The sort values for each row, when sorting a number or Boolean column **/
+  static long[] longKeys = null;
 
-    if ((b2 != b1) && b2) {
-      if (ascending) {
-        return -1;
-      }
-      return 1;
-    }
-    else if (b1 == b2) {
-      return compareFilePaths(row1, row2);
-    }
-    else {
-      if (ascending) {
-        return 1;
-      }
-      return -1;
-    }
-  }
+  /** The lower-case file path of each row, for when 2 rows have the same sort value **/
+  static String[] pathKeys = null;
 
   /**
   **********************************************************************************************
-
+  Compares the rows at positions <i>row1</i> and <i>row2</i> of the sort keys
   **********************************************************************************************
   **/
-  public static int compareFilePaths(Resource row1, Resource row2) {
-    String s1 = ((String) readPlugin.getColumnValue(row1, filePathCode)).toLowerCase();
-    String s2 = ((String) readPlugin.getColumnValue(row2, filePathCode)).toLowerCase();
-
-    int result = s1.compareTo(s2);
-
-    if (result < 0) {
-      if (ascending) {
-        return -1;
-      }
-      return 1;
+  static int compareRows(int row1, int row2) {
+    int result;
+    if (stringKeys != null) {
+      result = stringKeys[row1].compareTo(stringKeys[row2]);
     }
     else {
-      if (ascending) {
-        return 1;
-      }
-      return -1;
+      long l1 = longKeys[row1];
+      long l2 = longKeys[row2];
+      result = (l1 < l2) ? -1 : ((l1 == l2) ? 0 : 1);
     }
-  }
 
-  /**
-  **********************************************************************************************
-
-  **********************************************************************************************
-  **/
-  public static int compareIntegers(Resource row1, Resource row2) {
-    int i1 = ((Integer) readPlugin.getColumnValue(row1, sortColumnCode)).intValue();
-    int i2 = ((Integer) readPlugin.getColumnValue(row2, sortColumnCode)).intValue();
-
-    if (i1 < i2) {
-      if (ascending) {
-        return -1;
-      }
-      return 1;
+    if (result == 0 && pathKeys != stringKeys) {
+      result = pathKeys[row1].compareTo(pathKeys[row2]);
     }
-    else if (i1 == i2) {
-      return compareFilePaths(row1, row2);
-    }
-    else {
-      if (ascending) {
-        return 1;
-      }
-      return -1;
+
+    if (ascending) {
+      return result;
     }
+    return -result;
   }
 
   /**
@@ -115,62 +80,76 @@ public class FileListSorter {
 
   **********************************************************************************************
   **/
-  public static int compareLongs(Resource row1, Resource row2) {
-    long i1 = ((Long) readPlugin.getColumnValue(row1, sortColumnCode)).longValue();
-    long i2 = ((Long) readPlugin.getColumnValue(row2, sortColumnCode)).longValue();
-
-    if (i1 < i2) {
-      if (ascending) {
-        return -1;
-      }
-      return 1;
-    }
-    else if (i1 == i2) {
-      return compareFilePaths(row1, row2);
-    }
-    else {
-      if (ascending) {
-        return 1;
-      }
-      return -1;
-    }
+  public static char getSortColumnCode() {
+    return sortColumnCode;
   }
 
   /**
   **********************************************************************************************
-
+  Builds the sort keys for the <i>values</i> of a column of type <i>sortType</i>
+  @return false if the column type can't be sorted
   **********************************************************************************************
   **/
-  public static int compareStrings(Resource row1, Resource row2) {
-    String s1 = ((String) readPlugin.getColumnValue(row1, sortColumnCode)).toLowerCase();
-    String s2 = ((String) readPlugin.getColumnValue(row2, sortColumnCode)).toLowerCase();
+  @SuppressWarnings("rawtypes")
+  static boolean prepareKeys(Object[] values, Object[] paths, Class sortType) {
+    int numRows = values.length;
 
-    int result = s1.compareTo(s2);
+    stringKeys = null;
+    longKeys = null;
 
-    if (result < 0) {
-      if (ascending) {
-        return -1;
+    if (sortType == String.class) {
+      stringKeys = new String[numRows];
+      for (int i = 0; i < numRows; i++) {
+        stringKeys[i] = (values[i] == null) ? "" : values[i].toString().toLowerCase();
       }
-      return 1;
     }
-    else if (result == 0) {
-      return compareFilePaths(row1, row2);
+    else if (sortType == Integer.class || sortType == Long.class || sortType == Boolean.class) {
+      longKeys = new long[numRows];
+      for (int i = 0; i < numRows; i++) {
+        Object value = values[i];
+        if (value instanceof Number) {
+          longKeys[i] = ((Number) value).longValue();
+        }
+        else if (value instanceof Boolean) {
+          longKeys[i] = ((Boolean) value).booleanValue() ? 1 : 0;
+        }
+      }
     }
     else {
-      if (ascending) {
-        return 1;
+      return false;
+    }
+
+    if (paths == values && stringKeys != null) {
+      pathKeys = stringKeys;
+    }
+    else {
+      pathKeys = new String[numRows];
+      for (int i = 0; i < numRows; i++) {
+        pathKeys[i] = (paths[i] == null) ? "" : paths[i].toString().toLowerCase();
       }
-      return -1;
     }
+
+    return true;
   }
 
   /**
   **********************************************************************************************
-
+  Sorts the positions 0 to <i>numRows</i> by the keys that have been prepared, and clears them
   **********************************************************************************************
   **/
-  public static char getSortColumnCode() {
-    return sortColumnCode;
+  static int[] sortKeys(int numRows) {
+    int[] order = new int[numRows];
+    for (int i = 0; i < numRows; i++) {
+      order[i] = i;
+    }
+
+    sortRows(order.clone(), order, 0, numRows);
+
+    stringKeys = null;
+    longKeys = null;
+    pathKeys = null;
+
+    return order;
   }
 
   /**
@@ -187,33 +166,36 @@ public class FileListSorter {
 
   **********************************************************************************************
   **/
-  @SuppressWarnings("rawtypes")
   public static Resource[] sort(Resource[] resources, WSTableColumn column, boolean toggleAscending) {
 
     readPlugin = Archive.getReadPlugin();
+    setSortColumn(column, toggleAscending);
 
-    // determine whether to sort ascending or descending
-    if (toggleAscending && sortColumnCode == column.getCharCode()) {
-      ascending = !ascending;
-    }
-    else {
-      sortColumnCode = column.getCharCode();
-      ascending = true;
+    int numRows = resources.length;
+    Object[] values = new Object[numRows];
+    for (int i = 0; i < numRows; i++) {
+      values[i] = readPlugin.getColumnValue(resources[i], sortColumnCode);
     }
 
-    Class sortType = column.getType();
-
-    if (sortType == String.class) {
-      sortStrings(resources.clone(), resources, 0, resources.length);
-    }
-    else if (sortType == Integer.class) {
-      sortIntegers(resources.clone(), resources, 0, resources.length);
+    Object[] paths = values;
+    if (sortColumnCode != filePathCode) {
+      paths = new Object[numRows];
+      for (int i = 0; i < numRows; i++) {
+        paths[i] = readPlugin.getColumnValue(resources[i], filePathCode);
+      }
     }
-    else if (sortType == Long.class) {
-      sortLongs(resources.clone(), resources, 0, resources.length);
+
+    if (!prepareKeys(values, paths, column.getType())) {
+      return resources;
     }
-    else if (sortType == Boolean.class) {
-      sortBooleans(resources.clone(), resources, 0, resources.length);
+    values = null;
+    paths = null;
+
+    int[] order = sortKeys(numRows);
+
+    Resource[] unsorted = resources.clone();
+    for (int i = 0; i < numRows; i++) {
+      resources[i] = unsorted[order[i]];
     }
 
     return resources;
@@ -245,70 +227,79 @@ public class FileListSorter {
 
   /**
   **********************************************************************************************
-
+  Sorts the <i>rows</i> of the <i>table</i>. The common columns are read straight from the table,
+  so this doesn't need a Resource for each row.
+  @return the <i>rows</i>, sorted in place
   **********************************************************************************************
   **/
-  public static void sortBooleans(Resource[] from, Resource[] to, int low, int high) {
-    if (high - low < 2) {
-      return;
-    }
-    int middle = (low + high) / 2;
+  public static int[] sort(ResourceTable table, int[] rows, WSTableColumn column, boolean toggleAscending) {
 
-    sortBooleans(to, from, low, middle);
-    sortBooleans(to, from, middle, high);
+    readPlugin = Archive.getReadPlugin();
+    setSortColumn(column, toggleAscending);
 
-    int p = low;
-    int q = middle;
+    int numRows = rows.length;
+    Object[] values = new Object[numRows];
+    for (int i = 0; i < numRows; i++) {
+      values[i] = table.getColumnValue(rows[i], readPlugin, sortColumnCode);
+    }
 
-    if (high - low >= 4 && compareBooleans(from[middle - 1], from[middle]) <= 0) {
-      for (int i = low; i < high; i++) {
-        to[i] = from[i];
+    Object[] paths = values;
+    if (sortColumnCode != filePathCode) {
+      paths = new Object[numRows];
+      for (int i = 0; i < numRows; i++) {
+        paths[i] = table.getColumnValue(rows[i], readPlugin, filePathCode);
       }
-      return;
     }
 
-    for (int i = low; i < high; i++) {
-      if (q >= high || (p < middle && compareBooleans(from[p], from[q]) <= 0)) {
-        to[i] = from[p++];
-      }
-      else {
-        to[i] = from[q++];
-      }
+    if (!prepareKeys(values, paths, column.getType())) {
+      return rows;
     }
+    values = null;
+    paths = null;
+
+    int[] order = sortKeys(numRows);
+
+    int[] unsorted = rows.clone();
+    for (int i = 0; i < numRows; i++) {
+      rows[i] = unsorted[order[i]];
+    }
+
+    return rows;
+
   }
 
   /**
   **********************************************************************************************
-
+  Sorts a copy of the <i>resources</i> by their file path, ascending. The keys are kept locally
+  rather than in the static fields, and the sort column isn't changed, so this can be run on a
+  background thread while the file list is being sorted on the event thread.
+  @return the sorted copy - the <i>resources</i> aren't changed
   **********************************************************************************************
   **/
-  public static void sortIntegers(Resource[] from, Resource[] to, int low, int high) {
-    if (high - low < 2) {
-      return;
-    }
-    int middle = (low + high) / 2;
+  public static Resource[] sortByPath(Resource[] resources) {
+    int numRows = resources.length;
 
-    sortIntegers(to, from, low, middle);
-    sortIntegers(to, from, middle, high);
+    final String[] keys = new String[numRows];
+    Integer[] order = new Integer[numRows];
+    for (int i = 0; i < numRows; i++) {
+      String name = resources[i].getName();
+      keys[i] = (name == null) ? "" : name.toLowerCase();
+      order[i] = i;
+    }
 
-    int p = low;
-    int q = middle;
+    Arrays.sort(order, new Comparator<Integer>() {
 
-    if (high - low >= 4 && compareIntegers(from[middle - 1], from[middle]) <= 0) {
-      for (int i = low; i < high; i++) {
-        to[i] = from[i];
+      @Override
+      public int compare(Integer row1, Integer row2) {
+        return keys[row1].compareTo(keys[row2]);
       }
-      return;
-    }
+    });
 
-    for (int i = low; i < high; i++) {
-      if (q >= high || (p < middle && compareIntegers(from[p], from[q]) <= 0)) {
-        to[i] = from[p++];
-      }
-      else {
-        to[i] = from[q++];
-      }
+    Resource[] sorted = new Resource[numRows];
+    for (int i = 0; i < numRows; i++) {
+      sorted[i] = resources[order[i]];
     }
+    return sorted;
   }
 
   /**
@@ -316,19 +307,19 @@ public class FileListSorter {
 
   **********************************************************************************************
   **/
-  public static void sortLongs(Resource[] from, Resource[] to, int low, int high) {
+  static void sortRows(int[] from, int[] to, int low, int high) {
     if (high - low < 2) {
       return;
     }
     int middle = (low + high) / 2;
 
-    sortLongs(to, from, low, middle);
-    sortLongs(to, from, middle, high);
+    sortRows(to, from, low, middle);
+    sortRows(to, from, middle, high);
 
     int p = low;
     int q = middle;
 
-    if (high - low >= 4 && compareLongs(from[middle - 1], from[middle]) <= 0) {
+    if (high - low >= 4 && compareRows(from[middle - 1], from[middle]) <= 0) {
       for (int i = low; i < high; i++) {
         to[i] = from[i];
       }
@@ -336,7 +327,7 @@ public class FileListSorter {
     }
 
     for (int i = low; i < high; i++) {
-      if (q >= high || (p < middle && compareLongs(from[p], from[q]) <= 0)) {
+      if (q >= high || (p < middle && compareRows(from[p], from[q]) <= 0)) {
         to[i] = from[p++];
       }
       else {
@@ -347,35 +338,16 @@ public class FileListSorter {
 
   /**
   **********************************************************************************************
-
+  Sets the column to sort by, and whether to sort ascending or descending
   **********************************************************************************************
   **/
-  public static void sortStrings(Resource[] from, Resource[] to, int low, int high) {
-    if (high - low < 2) {
-      return;
-    }
-    int middle = (low + high) / 2;
-
-    sortStrings(to, from, low, middle);
-    sortStrings(to, from, middle, high);
-
-    int p = low;
-    int q = middle;
-
-    if (high - low >= 4 && compareStrings(from[middle - 1], from[middle]) <= 0) {
-      for (int i = low; i < high; i++) {
-        to[i] = from[i];
-      }
-      return;
+  static void setSortColumn(WSTableColumn column, boolean toggleAscending) {
+    if (toggleAscending && sortColumnCode == column.getCharCode()) {
+      ascending = !ascending;
     }
-
-    for (int i = low; i < high; i++) {
-      if (q >= high || (p < middle && compareStrings(from[p], from[q]) <= 0)) {
-        to[i] = from[p++];
-      }
-      else {
-        to[i] = from[q++];
-      }
+    else {
+      sortColumnCode = column.getCharCode();
+      ascending = true;
     }
   }
 
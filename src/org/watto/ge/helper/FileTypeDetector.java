@@ -15,15 +15,30 @@
 package org.watto.ge.helper;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.FileType;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
+import org.watto.ge.plugin.ExporterSession;
 import org.watto.ge.plugin.exporter.BlockQuickBMSExporterWrapper;
 import org.watto.ge.plugin.exporter.Exporter_Default;
 import org.watto.ge.plugin.exporter.Exporter_Oodle;
@@ -31,16 +46,121 @@ import org.watto.ge.plugin.exporter.Exporter_QuickBMSWrapper;
 import org.watto.ge.plugin.exporter.Exporter_QuickBMS_Decompression;
 import org.watto.io.FileManipulator;
 import org.watto.io.FilenameChecker;
-import org.watto.io.buffer.ExporterByteBuffer;
 import org.watto.io.converter.IntConverter;
 import org.watto.io.converter.ShortConverter;
 import org.watto.task.TaskProgressManager;
+import org.watto.task.TaskThreadPool;
 import org.watto.task.Task_QuickBMSBulkExport;
 import org.watto.xml.XMLNode;
 import org.watto.xml.XMLReader;
 
 public class FileTypeDetector {
 
+  /**
+  **********************************************************************************************
+  A standard file header, which is one or more runs of bytes, each at an offset from the start of
+  the file
+  **********************************************************************************************
+  **/
+  static class Signature {
+
+    int[] offsets;
+
+    byte[][] magics;
+
+    String extension;
+
+    /**
+    **********************************************************************************************
+
+    **********************************************************************************************
+    **/
+    Signature(int offset, byte[] magic, String extension) {
+      this.offsets = new int[] { offset };
+      this.magics = new byte[][] { magic };
+      this.extension = extension;
+    }
+
+    /**
+    **********************************************************************************************
+
+    **********************************************************************************************
+    **/
+    Signature(int offset, String magic, String extension) {
+      this(offset, magic.getBytes(StandardCharsets.ISO_8859_1), extension);
+    }
+
+    /**
+    **********************************************************************************************
+    A signature with 2 runs of bytes, such as RIFF files, where the type comes after the length
+    **********************************************************************************************
+    **/
+    Signature(int offset1, String magic1, int offset2, String magic2, String extension) {
+      this.offsets = new int[] { offset1, offset2 };
+      this.magics = new byte[][] { magic1.getBytes(StandardCharsets.ISO_8859_1), magic2.getBytes(StandardCharsets.ISO_8859_1) };
+      this.extension = extension;
+    }
+
+    /**
+    **********************************************************************************************
+    Whether the <i>headerBytes</i> contain all the runs of bytes in this signature
+    **********************************************************************************************
+    **/
+    boolean matches(byte[] headerBytes) {
+      int numMagics = magics.length;
+      for (int m = 0; m < numMagics; m++) {
+        int offset = offsets[m];
+        byte[] magic = magics[m];
+
+        int magicLength = magic.length;
+        if (offset + magicLength > headerBytes.length) {
+          return false;
+        }
+        for (int i = 0; i < magicLength; i++) {
+          if (headerBytes[offset + i] != magic[i]) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  }
+
+  /** the number of bytes read from the start of each file **/
+  static final int HEADER_SIZE = 12;
+
+  /** files that are close together in the same source file are read in a single read of up to this size **/
+  static final int MAXIMUM_COALESCED_READ = 65536;
+
+  /** the number of files that each worker thread reads at a time **/
+  static final int BATCH_SIZE = 1024;
+
+  /** the size of each block in Oodle-compressed data, so only the first block needs decompressing **/
+  static final int OODLE_BLOCK_SIZE = 262144;
+
+  /** set to false if the Oodle library can't decompress only the first block of a file **/
+  static boolean oodlePartialDecompression = true;
+
+  /** the standard file headers, in the order they're checked. Specific RIFF types need to be before the generic RIFF. **/
+  static Signature[] signatures = new Signature[] {
+      new Signature(0, "BM", "bmp"),
+      new Signature(0, "DDS ", "dds"),
+      new Signature(0, "fLaC", "flac"),
+      new Signature(0, "GIF8", "gif"),
+      new Signature(0, new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1 }, "jpg"),
+      new Signature(6, "JFIF", "jpg"),
+      new Signature(0, "OggS", "ogg"),
+      new Signature(0, new byte[] { (byte) 0x89, 'P', 'N', 'G' }, "png"),
+      new Signature(0, "RIFF", 8, "WAVE", "wav"),
+      new Signature(0, "RIFF", 8, "WEBP", "webp"),
+      new Signature(0, "RIFF", 8, "XWMA", "xwma"), // XBox Audio
+      new Signature(0, "RIFF", 8, "FEV ", "fev"),
+      new Signature(0, "RIFF", "riff"), // GENERIC RIFF, NEEDS TO BE AT THE END OF THE RIFF TYPES!!!
+      new Signature(0, "<?xm", "xml"),
+      new Signature(0, "%PDF", "pdf"),
+      new Signature(0, "Creative Voi", "voc"), // Creative Voice File
+  };
+
   static Hashtable<String, FileType> generic = new Hashtable<String, FileType>();
 
   static Hashtable<String, FileType> specific = new Hashtable<String, FileType>();
@@ -131,7 +251,7 @@ public class FileTypeDetector {
           numBulkResources++;
         }
         else {
-          // don't extract it, we're going to shortcut it in the ExporterByteBuffer down later
+          // don't extract it, we're going to shortcut it when reading the headers down later
         }
       }
 
@@ -154,21 +274,22 @@ public class FileTypeDetector {
 
       // Now, we have all the bulk ones extracted, and all the others can be read normally, so we're right to go.
 
-      int readSize = 12; // only really small reads from the beginning of the file
+      int readSize = HEADER_SIZE; // only really small reads from the beginning of the file
 
       boolean debugMode = Settings.getBoolean("DebugMode");
       TaskProgressManager.setMessage(Language.get("IdentifyUnknownFileTypes"));
 
-      ExporterPlugin defaultExporter = Exporter_Default.getInstance();
+      // Read the headers of all the files first (in bulk, across the worker threads)
+      byte[][] headers = readHeaders(resources, readSize);
 
       for (int i = 0; i < numFiles; i++) {
         Resource resource = resources[i];
 
-        long decompLength = resource.getDecompressedLength();
-        if (decompLength < readSize) {
+        byte[] headerBytes = headers[i];
+        if (headerBytes == null) {
           // too small, set to "unknown" and move on
           String extension = "unknown";
-          if (decompLength == 0) {
+          if (resource.getDecompressedLength() == 0) {
             extension = "empty";
           }
           resource.setExtension(extension);
@@ -176,32 +297,7 @@ public class FileTypeDetector {
           continue;
         }
 
-        // We only want to extract the first few bytes, so we want to create a dummy Resource that is a copy of the real Resource
-        // but with a small length. That way we can use the exporter plugin and it should, generally, only export a few bytes.
-        Resource clonedResource = (Resource) resource.clone();
-        if (clonedResource.getExporter() instanceof Exporter_Oodle) {
-          // Oodle decompression only works when you specify the actual decompLength.
-          // (we can't just extract a few bytes, we need to extract the full file)
-        }
-        else {
-          // small quick extract
-          clonedResource.setLength(readSize);
-        }
-
-        File exportedPath = clonedResource.getExportedPath();
-        if (exportedPath != null && exportedPath.exists()) {
-          // use the Default Exporter, pointing to the exported file
-          clonedResource.setExporter(defaultExporter);
-          clonedResource.setSource(exportedPath);
-          clonedResource.setOffset(0);
-        }
-
-        // Open the file
-        ExporterByteBuffer byteBuffer = new ExporterByteBuffer(clonedResource);
-        FileManipulator fm = new FileManipulator(byteBuffer);
-
         // Then we analyse the bytes to determine the file type
-        byte[] headerBytes = fm.readBytes(readSize);
         int headerInt1 = IntConverter.convertLittle(new byte[] { headerBytes[0], headerBytes[1], headerBytes[2], headerBytes[3] });
         int headerInt2 = IntConverter.convertLittle(new byte[] { headerBytes[4], headerBytes[5], headerBytes[6], headerBytes[7] });
         int headerInt3 = IntConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9], headerBytes[10], headerBytes[11] });
@@ -212,79 +308,29 @@ public class FileTypeDetector {
         short headerShort5 = ShortConverter.convertLittle(new byte[] { headerBytes[8], headerBytes[9] });
         short headerShort6 = ShortConverter.convertLittle(new byte[] { headerBytes[10], headerBytes[11] });
 
-        fm.close();
-
         String extension = null;
         // first, ask the plugin for any game-specific headers we can associate
         extension = readPlugin.guessFileExtension(resource, headerBytes, headerInt1, headerInt2, headerInt3, headerShort1, headerShort2, headerShort3, headerShort4, headerShort5, headerShort6);
 
         // if no extension found from the plugin, try some standard ones
         if (extension == null) {
-          if (headerShort1 == 19778) {
-            extension = "bmp";
-          }
-          else if (headerInt1 == 542327876) {
-            extension = "dds";
-          }
-          else if (headerInt1 == 1130450022) {
-            extension = "flac";
-          }
-          else if (headerInt1 == 944130375) {
-            extension = "gif";
-          }
-          else if (headerInt1 == -503326465) {
-            extension = "jpg";
-          }
-          else if (headerShort4 == 17994 && headerShort5 == 17993) {
-            extension = "jpg";
-          }
-          else if (headerInt1 == 1399285583) {
-            extension = "ogg";
-          }
-          else if (headerInt1 == 1196314761) {
-            extension = "png";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1163280727) { // RIFF WAVEfmt
-            extension = "wav";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1346520407) { // RIFF WEBP
-            extension = "webp";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 1095587672) { // RIFF XWMA (XBox Audio)
-            extension = "xwma";
-          }
-          else if (headerInt1 == 1179011410 && headerInt3 == 542524742) { // RIFF FEV
-            extension = "fev";
-          }
-          else if (headerInt1 == 1179011410) {
-            extension = "riff"; // GENERIC RIFF, NEEDS TO BE AT THE END OF THE LIST!!! (or at least after WAV and WEBP)
-          }
-          else if (headerInt1 == 1836597052) {
-            extension = "xml";
-          }
-          else if (headerInt1 == 1178882085) {
-            extension = "pdf";
-          }
-          else if (headerInt1 == 1634038339 && headerInt2 ==   1702259060 && headerInt3 ==   1768904224      ) {
-            extension = "voc"; // Creative Voice File
+          extension = matchSignature(headerBytes);
+        }
+
+        if (extension == null) {
+          // if we didn't find any matches...
+          if (debugMode) {
+            //extension = "unknown" + headerInt1;
+            extension = "" + headerInt1;
           }
           else {
-            // if we didn't find any matches...
-            if (debugMode) {
-              //extension = "unknown" + headerInt1;
-              extension = "" + headerInt1;
-            }
-            else {
-              extension = "unknown";
-            }
+            extension = "unknown";
           }
         }
 
         resource.setExtension(extension);
         resource.setOriginalName(resource.getName()); // so it doesn't think it's been renamed
 
-        TaskProgressManager.setValue(i);
-
       }
 
     }
@@ -358,6 +404,386 @@ public class FileTypeDetector {
     new FileType(); // load the FileType static Images
   }
 
+  /**
+  **********************************************************************************************
+  Finds the standard file type that matches the <i>headerBytes</i>, or null if there isn't one
+  **********************************************************************************************
+  **/
+  public static String matchSignature(byte[] headerBytes) {
+    int numSignatures = signatures.length;
+    for (int i = 0; i < numSignatures; i++) {
+      if (signatures[i].matches(headerBytes)) {
+        return signatures[i].extension;
+      }
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the first <i>readSize</i> bytes of the <i>resource</i> through its exporter. Only enough
+  is decompressed to fill the header, rather than the whole file.
+  **********************************************************************************************
+  **/
+  static byte[] readHeader(Resource resource, int readSize) {
+    byte[] headerBytes = new byte[readSize];
+
+    ExporterPlugin exporter = resource.getExporter();
+    if (exporter == null) {
+      return headerBytes;
+    }
+
+    if (exporter instanceof Exporter_Oodle && oodlePartialDecompression) {
+      byte[] oodleBytes = readOodleHeader(resource, readSize);
+      if (oodleBytes != null) {
+        return oodleBytes;
+      }
+    }
+
+    // We only want to extract the first few bytes, so we want to create a dummy Resource that is a copy of the real Resource
+    // but with a small length. That way we can use the exporter plugin and it should, generally, only export a few bytes.
+    Resource clonedResource = (Resource) resource.clone();
+    if (exporter instanceof Exporter_Oodle) {
+      // Oodle decompression only works when you specify the actual decompLength.
+      // (we can't just extract a few bytes, we need to extract the full file)
+    }
+    else {
+      // small quick extract
+      clonedResource.setLength(readSize);
+    }
+
+    ExporterSession session = exporter.openSession(clonedResource);
+    try {
+      int bytesRead = 0;
+      while (bytesRead < readSize) {
+        int readLength = session.read(headerBytes, bytesRead, readSize - bytesRead);
+        if (readLength <= 0) {
+          break;
+        }
+        bytesRead += readLength;
+      }
+    }
+    finally {
+      session.close();
+    }
+
+    return headerBytes;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the first <i>readSize</i> bytes of each of the <i>resources</i>, which are returned in
+  the same order as the <i>resources</i>. Files that are too small to have a header are null.
+  <br><br>
+  Files that are stored without compression are sorted by their source and offset, and the
+  headers that are close together are read with a single read. Compressed files only decompress
+  the start of the file. The reading is spread over the worker threads, except for files with an
+  exporter that can only be used by one thread at a time, which are read by this thread.
+  **********************************************************************************************
+  **/
+  static byte[][] readHeaders(Resource[] resources, final int readSize) {
+    final int numFiles = resources.length;
+    final byte[][] headers = new byte[numFiles][];
+
+    final Resource[] readResources = new Resource[numFiles];
+
+    int[] directFiles = new int[numFiles];
+    int numDirectFiles = 0;
+    int[] parallelFiles = new int[numFiles];
+    int numParallelFiles = 0;
+    int[] serialFiles = new int[numFiles];
+    int numSerialFiles = 0;
+
+    for (int i = 0; i < numFiles; i++) {
+      Resource resource = resources[i];
+
+      long decompLength = resource.getDecompressedLength();
+      if (decompLength < readSize) {
+        continue; // too small
+      }
+
+      File exportedPath = resource.getExportedPath();
+      if (exportedPath != null && exportedPath.exists()) {
+        // read from the exported file, using the Default Exporter
+        Resource clonedResource = (Resource) resource.clone();
+        clonedResource.setExporter(Exporter_Default.getInstance());
+        clonedResource.setSource(exportedPath);
+        clonedResource.setOffset(0);
+        clonedResource.setLength(exportedPath.length());
+        resource = clonedResource;
+      }
+      readResources[i] = resource;
+
+      ExporterPlugin exporter = resource.getExporter();
+      if (exporter != null && exporter.getClass() == Exporter_Default.class && resource.getLength() >= readSize) {
+        directFiles[numDirectFiles] = i;
+        numDirectFiles++;
+      }
+      else if (exporter != null && exporter.canOpenParallelSessions()) {
+        parallelFiles[numParallelFiles] = i;
+        numParallelFiles++;
+      }
+      else {
+        serialFiles[numSerialFiles] = i;
+        numSerialFiles++;
+      }
+    }
+
+    // sort the uncompressed files by source and offset, so nearby headers can be read together
+    final HashMap<File, Integer> sourceIDs = new HashMap<File, Integer>();
+    Integer[] sortedFiles = new Integer[numDirectFiles];
+    for (int i = 0; i < numDirectFiles; i++) {
+      int fileNumber = directFiles[i];
+      File source = readResources[fileNumber].getSource();
+      if (!sourceIDs.containsKey(source)) {
+        sourceIDs.put(source, sourceIDs.size());
+      }
+      sortedFiles[i] = fileNumber;
+    }
+    Arrays.sort(sortedFiles, new Comparator<Integer>() {
+
+      @Override
+      public int compare(Integer file1, Integer file2) {
+        Resource resource1 = readResources[file1];
+        Resource resource2 = readResources[file2];
+        int sourceCompare = sourceIDs.get(resource1.getSource()).compareTo(sourceIDs.get(resource2.getSource()));
+        if (sourceCompare != 0) {
+          return sourceCompare;
+        }
+        return Long.compare(resource1.getOffset(), resource2.getOffset());
+      }
+    });
+    for (int i = 0; i < numDirectFiles; i++) {
+      directFiles[i] = sortedFiles[i];
+    }
+
+    // split the work into batches for the worker threads
+    final ArrayList<int[]> batches = new ArrayList<int[]>();
+    final ArrayList<Boolean> batchIsDirect = new ArrayList<Boolean>();
+    for (int b = 0; b < numDirectFiles; b += BATCH_SIZE) {
+      batches.add(Arrays.copyOfRange(directFiles, b, Math.min(b + BATCH_SIZE, numDirectFiles)));
+      batchIsDirect.add(true);
+    }
+    for (int b = 0; b < numParallelFiles; b += BATCH_SIZE / 16) {
+      batches.add(Arrays.copyOfRange(parallelFiles, b, Math.min(b + BATCH_SIZE / 16, numParallelFiles)));
+      batchIsDirect.add(false);
+    }
+
+    final int numBatches = batches.size();
+    final AtomicInteger nextBatch = new AtomicInteger(0);
+    final AtomicInteger numRead = new AtomicInteger(0);
+
+    Runnable worker = new Runnable() {
+
+      @Override
+      public void run() {
+        int b = nextBatch.getAndIncrement();
+        while (b < numBatches) {
+          int[] batch = batches.get(b);
+          try {
+            if (batchIsDirect.get(b)) {
+              readHeadersDirect(readResources, batch, readSize, headers);
+            }
+            else {
+              int batchSize = batch.length;
+              for (int i = 0; i < batchSize; i++) {
+                headers[batch[i]] = readHeader(readResources[batch[i]], readSize);
+              }
+            }
+          }
+          catch (Throwable t) {
+            ErrorLogger.log(t);
+          }
+          numRead.addAndGet(batch.length);
+          b = nextBatch.getAndIncrement();
+        }
+      }
+    };
+
+    int numThreads = Math.min(TaskThreadPool.getThreadCount(), numBatches);
+    if (numThreads > 1 && Settings.getBoolean("ParallelFileTypeDetection")) {
+      final CountDownLatch finished = new CountDownLatch(numThreads);
+
+      // the exporters on the worker threads need to see the same archive as this thread
+      final ArchiveContext context = ArchiveContext.getCurrent();
+
+      ForkJoinPool pool = TaskThreadPool.getForkJoinPool();
+      for (int t = 0; t < numThreads; t++) {
+        final Runnable threadWorker = worker;
+        pool.execute(new Runnable() {
+
+          @Override
+          public void run() {
+            ArchiveContext previousContext = context.bind();
+            try {
+              threadWorker.run();
+            }
+            finally {
+              ArchiveContext.unbind(previousContext);
+              finished.countDown();
+            }
+          }
+        });
+      }
+
+      // the files that can't be read in parallel are read by this thread while the others are working
+      for (int i = 0; i < numSerialFiles; i++) {
+        int fileNumber = serialFiles[i];
+        try {
+          headers[fileNumber] = readHeader(readResources[fileNumber], readSize);
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+        TaskProgressManager.setValue(numRead.incrementAndGet());
+      }
+
+      while (finished.getCount() > 0) {
+        try {
+          finished.await(250, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+          // keep waiting - the workers are still reading
+        }
+        TaskProgressManager.setValue(numRead.get());
+      }
+    }
+    else {
+      worker.run();
+
+      for (int i = 0; i < numSerialFiles; i++) {
+        int fileNumber = serialFiles[i];
+        try {
+          headers[fileNumber] = readHeader(readResources[fileNumber], readSize);
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+        TaskProgressManager.setValue(numRead.incrementAndGet());
+      }
+    }
+
+    // any file that failed to read is treated as an empty header, the same as a short read
+    for (int i = 0; i < numFiles; i++) {
+      if (headers[i] == null && readResources[i] != null) {
+        headers[i] = new byte[readSize];
+      }
+    }
+
+    return headers;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the headers for a <i>batch</i> of uncompressed files, which are sorted by source and
+  offset. Headers that are close together in the same source are read in a single read.
+  **********************************************************************************************
+  **/
+  static void readHeadersDirect(Resource[] resources, int[] batch, int readSize, byte[][] headers) throws IOException {
+    int batchSize = batch.length;
+
+    File currentSource = null;
+    RandomAccessFile currentFile = null;
+    FileChannel channel = null;
+
+    try {
+      int start = 0;
+      while (start < batchSize) {
+        Resource firstResource = resources[batch[start]];
+        File source = firstResource.getSource();
+
+        if (!source.equals(currentSource)) {
+          if (currentFile != null) {
+            currentFile.close();
+          }
+          currentSource = source;
+          currentFile = new RandomAccessFile(source, "r");
+          channel = currentFile.getChannel();
+        }
+
+        // find all the following headers that fit in a single read
+        long spanStart = firstResource.getOffset();
+        long spanEnd = spanStart + readSize;
+        int end = start + 1;
+        while (end < batchSize) {
+          Resource nextResource = resources[batch[end]];
+          long nextEnd = nextResource.getOffset() + readSize;
+          if (!source.equals(nextResource.getSource()) || nextEnd - spanStart > MAXIMUM_COALESCED_READ) {
+            break;
+          }
+          if (nextEnd > spanEnd) {
+            spanEnd = nextEnd;
+          }
+          end++;
+        }
+
+        // read the span
+        int spanLength = (int) (spanEnd - spanStart);
+        ByteBuffer span = ByteBuffer.allocate(spanLength);
+        while (span.hasRemaining()) {
+          int readLength = channel.read(span, spanStart + span.position());
+          if (readLength < 0) {
+            break;
+          }
+        }
+        byte[] spanBytes = span.array();
+        int spanRead = span.position(); // anything after this is past the end of the source, so is left as nulls
+
+        // copy out each header
+        for (int i = start; i < end; i++) {
+          int fileNumber = batch[i];
+          int headerOffset = (int) (resources[fileNumber].getOffset() - spanStart);
+
+          byte[] headerBytes = new byte[readSize];
+          int copyLength = Math.min(readSize, spanRead - headerOffset);
+          if (copyLength > 0) {
+            System.arraycopy(spanBytes, headerOffset, headerBytes, 0, copyLength);
+          }
+          headers[fileNumber] = headerBytes;
+        }
+
+        start = end;
+      }
+    }
+    finally {
+      if (currentFile != null) {
+        currentFile.close();
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the header of an Oodle-compressed <i>resource</i> by decompressing only the first block
+  of the file. Returns null if this can't be done, so the whole file needs to be decompressed.
+  **********************************************************************************************
+  **/
+  static byte[] readOodleHeader(Resource resource, int readSize) {
+    long decompLength = resource.getDecompressedLength();
+    if (decompLength <= OODLE_BLOCK_SIZE) {
+      return null; // small enough that there's only 1 block anyway
+    }
+
+    // a compressed block is never much bigger than the data it holds
+    int compLength = (int) Math.min(resource.getLength(), OODLE_BLOCK_SIZE * 2);
+
+    FileManipulator fm = new FileManipulator(resource.getSource(), false, compLength);
+    fm.seek(resource.getOffset());
+    byte[] compBytes = fm.readBytes(compLength);
+    fm.close();
+
+    byte[] decompBytes = Exporter_Oodle.oodleDecompress(compBytes, OODLE_BLOCK_SIZE);
+    if (decompBytes == null || decompBytes.length < readSize) {
+      // this version of the Oodle library doesn't stop after the first block, so don't try it again
+      oodlePartialDecompression = false;
+      return null;
+    }
+
+    byte[] headerBytes = new byte[readSize];
+    System.arraycopy(decompBytes, 0, headerBytes, 0, readSize);
+    return headerBytes;
+  }
+
   /**
   **********************************************************************************************
   
@@ -1120,82 +1120,7 @@ public class ImageFormatReader {
    **********************************************************************************************
    **/
   public static ImageResource readBC4(FileManipulator fm, int width, int height) {
-
-    // ensure width and height are multiples of 4...
-    int heightMod = height % 4;
-    if (heightMod != 0) {
-      height += (4 - heightMod);
-    }
-    int widthMod = width % 4;
-    if (widthMod != 0) {
-      width += (4 - widthMod);
-    }
-
-    // X Bytes - Pixel Data
-    int[] data = new int[width * height];
-
-    for (int y = 0; y < height; y += 4) {
-      // BC4 encodes 4x4 blocks of pixels
-      for (int x = 0; x < width; x += 4) {
-
-        // RED
-
-        // two 8-bit reference colors (min and max)
-        int red0 = ByteConverter.unsign(fm.readByte());
-        int red1 = ByteConverter.unsign(fm.readByte());
-
-        // red color lookup table
-        int[] redLookup = new int[8];
-        redLookup[0] = red0;
-        redLookup[1] = red1;
-
-        // work out the other red colors
-        if (red0 > red1) {
-          // 6 interpolated color values
-          redLookup[2] = (6 * red0 + 1 * red1) / 7;
-          redLookup[3] = (5 * red0 + 2 * red1) / 7;
-          redLookup[4] = (4 * red0 + 3 * red1) / 7;
-          redLookup[5] = (3 * red0 + 4 * red1) / 7;
-          redLookup[6] = (2 * red0 + 5 * red1) / 7;
-          redLookup[7] = (1 * red0 + 6 * red1) / 7;
-        }
-        else {
-          // 4 interpolated color values
-          redLookup[2] = (4 * red0 + 1 * red1) / 5;
-          redLookup[3] = (3 * red0 + 2 * red1) / 5;
-          redLookup[4] = (2 * red0 + 3 * red1) / 5;
-          redLookup[5] = (1 * red0 + 4 * red1) / 5;
-          redLookup[6] = 0;
-          redLookup[7] = 255;
-        }
-
-        // now read 16 3-bit reds and convert them in to the lookup values
-        int red3bytes1 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-        int red3bytes2 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-
-        int[] redColors = new int[16];
-        for (int i = 0, j = 0; i < 8; ++i, j++) {
-          int index = (red3bytes1 >> 3 * i) & 0x7;
-          redColors[j] = redLookup[index];
-        }
-        for (int i = 0, j = 8; i < 8; ++i, j++) {
-          int index = (red3bytes2 >> 3 * i) & 0x7;
-          redColors[j] = redLookup[index];
-        }
-
-        // Now we have the Reds - need to use it as Green and Blue, as we write them out to the data array
-        for (int by = 0; by < 4; ++by) {
-          for (int bx = 0; bx < 4; ++bx) {
-            int position = 4 * by + bx;
-            int red = redColors[position];
-            data[(y + by) * width + x + bx] = ((255 << 24) | (red << 16) | (red << 8) | red);// ARGB
-          }
-        }
-      }
-    }
-
-    return new ImageResource(data, width, height);
-
+    return BlockTextureDecoder.read(fm, width, height, BlockTextureDecoder.FORMAT_BC4);
   }
 
   /**
@@ -1209,126 +1134,7 @@ public class ImageFormatReader {
    **********************************************************************************************
    **/
   public static ImageResource readBC5(FileManipulator fm, int width, int height) {
-
-    // ensure width and height are multiples of 4...
-    int heightMod = height % 4;
-    if (heightMod != 0) {
-      height += (4 - heightMod);
-    }
-    int widthMod = width % 4;
-    if (widthMod != 0) {
-      width += (4 - widthMod);
-    }
-
-    // X Bytes - Pixel Data
-    int[] data = new int[width * height];
-
-    for (int y = 0; y < height; y += 4) {
-      // BC5 encodes 4x4 blocks of pixels
-      for (int x = 0; x < width; x += 4) {
-
-        // RED
-
-        // two 8-bit reference colors (min and max)
-        int red0 = ByteConverter.unsign(fm.readByte());
-        int red1 = ByteConverter.unsign(fm.readByte());
-
-        // red color lookup table
-        int[] redLookup = new int[8];
-        redLookup[0] = red0;
-        redLookup[1] = red1;
-
-        // work out the other red colors
-        if (red0 > red1) {
-          // 6 interpolated color values
-          redLookup[2] = (6 * red0 + 1 * red1) / 7;
-          redLookup[3] = (5 * red0 + 2 * red1) / 7;
-          redLookup[4] = (4 * red0 + 3 * red1) / 7;
-          redLookup[5] = (3 * red0 + 4 * red1) / 7;
-          redLookup[6] = (2 * red0 + 5 * red1) / 7;
-          redLookup[7] = (1 * red0 + 6 * red1) / 7;
-        }
-        else {
-          // 4 interpolated color values
-          redLookup[2] = (4 * red0 + 1 * red1) / 5;
-          redLookup[3] = (3 * red0 + 2 * red1) / 5;
-          redLookup[4] = (2 * red0 + 3 * red1) / 5;
-          redLookup[5] = (1 * red0 + 4 * red1) / 5;
-          redLookup[6] = 0;
-          redLookup[7] = 255;
-        }
-
-        // now read 16 3-bit reds and convert them in to the lookup values
-        int red3bytes1 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-        int red3bytes2 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-
-        int[] redColors = new int[16];
-        for (int i = 0, j = 0; i < 8; ++i, j++) {
-          int index = (red3bytes1 >> 3 * i) & 0x7;
-          redColors[j] = redLookup[index];
-        }
-        for (int i = 0, j = 8; i < 8; ++i, j++) {
-          int index = (red3bytes2 >> 3 * i) & 0x7;
-          redColors[j] = redLookup[index];
-        }
-
-        // GREEN
-
-        // two 8-bit reference colors (min and max)
-        int green0 = ByteConverter.unsign(fm.readByte());
-        int green1 = ByteConverter.unsign(fm.readByte());
-
-        // green color lookup table
-        int[] greenLookup = new int[8];
-        greenLookup[0] = green0;
-        greenLookup[1] = green1;
-
-        // work out the other green colors
-        if (green0 > green1) {
-          // 6 interpolated color values
-          greenLookup[2] = (6 * green0 + 1 * green1) / 7;
-          greenLookup[3] = (5 * green0 + 2 * green1) / 7;
-          greenLookup[4] = (4 * green0 + 3 * green1) / 7;
-          greenLookup[5] = (3 * green0 + 4 * green1) / 7;
-          greenLookup[6] = (2 * green0 + 5 * green1) / 7;
-          greenLookup[7] = (1 * green0 + 6 * green1) / 7;
-        }
-        else {
-          // 4 interpolated color values
-          greenLookup[2] = (4 * green0 + 1 * green1) / 5;
-          greenLookup[3] = (3 * green0 + 2 * green1) / 5;
-          greenLookup[4] = (2 * green0 + 3 * green1) / 5;
-          greenLookup[5] = (1 * green0 + 4 * green1) / 5;
-          greenLookup[6] = 0;
-          greenLookup[7] = 255;
-        }
-
-        // now read 16 3-bit greens and convert them in to the lookup values
-        int green3bytes1 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-        int green3bytes2 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-
-        int[] greenColors = new int[16];
-        for (int i = 0, j = 0; i < 8; ++i, j++) {
-          int index = (green3bytes1 >> 3 * i) & 0x7;
-          greenColors[j] = greenLookup[index];
-        }
-        for (int i = 0, j = 8; i < 8; ++i, j++) {
-          int index = (green3bytes2 >> 3 * i) & 0x7;
-          greenColors[j] = greenLookup[index];
-        }
-
-        // Now we have the Reds and Greens - need to combine them to real color values, as we write them out to the data array
-        for (int by = 0; by < 4; ++by) {
-          for (int bx = 0; bx < 4; ++bx) {
-            int position = 4 * by + bx;
-            data[(y + by) * width + x + bx] = ((255 << 24) | (redColors[position] << 16) | (greenColors[position] << 8) | 255);// ARGB
-          }
-        }
-      }
-    }
-
-    return new ImageResource(data, width, height);
-
+    return BlockTextureDecoder.read(fm, width, height, BlockTextureDecoder.FORMAT_BC5);
   }
 
   /**
@@ -1601,117 +1407,14 @@ public class ImageFormatReader {
       return null;
     }
 
-    int[] data = new int[numPixels];
-
-    for (int y = 0; y < height; y += 4) {
-      // DXT encodes 4x4 blocks of pixels
-      for (int x = 0; x < width; x += 4) {
-
-        int[] alphaMap = null;
-
-        // skip the alpha data
-        if (format == 3) {
-          fm.skip(8);
-        }
-        else if (format == 5) {
-          int[] alpha = new int[8];
-
-          // creating alpha table
-          alpha[0] = ByteConverter.unsign(fm.readByte());
-          alpha[1] = ByteConverter.unsign(fm.readByte());
-          if (alpha[0] > alpha[1]) {
-            alpha[2] = (6 * alpha[0] + alpha[1]) / 7;
-            alpha[3] = (5 * alpha[0] + 2 * alpha[1]) / 7;
-            alpha[4] = (4 * alpha[0] + 3 * alpha[1]) / 7;
-            alpha[5] = (3 * alpha[0] + 4 * alpha[1]) / 7;
-            alpha[6] = (2 * alpha[0] + 5 * alpha[1]) / 7;
-            alpha[7] = (alpha[0] + 6 * alpha[1]) / 7;
-          }
-          else {
-            alpha[2] = (4 * alpha[0] + alpha[1]) / 5;
-            alpha[3] = (3 * alpha[0] + 2 * alpha[1]) / 5;
-            alpha[4] = (2 * alpha[0] + 3 * alpha[1]) / 5;
-            alpha[5] = (alpha[0] + 4 * alpha[1]) / 5;
-            alpha[6] = 0;
-            alpha[7] = 255;
-          }
-
-          alphaMap = new int[16];
-
-          // first 3 bytes of alpha
-          int bits = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-          for (int bi = 0; bi < 8; bi++) {
-            alphaMap[bi] = alpha[(bits & 7)];
-            bits >>= 3;
-          }
-
-          // second 3 bytes of alpha
-          bits = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16);
-          for (int bi = 8; bi < 16; bi++) {
-            alphaMap[bi] = alpha[(bits & 7)];
-            bits >>= 3;
-          }
-
-        }
-
-        // decode the DXT1/DXT3 RGB data
-
-        // two 16 bit encoded colors (red 5 bits, green 6 bits, blue 5 bits)
-        int c1packed16 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8);
-        int c2packed16 = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8);
-
-        // separate the R,G,B values
-        int color1r = (c1packed16 >> 8) & 0xF8;
-        int color1g = (c1packed16 >> 3) & 0xFC;
-        int color1b = (c1packed16 << 3) & 0xF8;
-
-        int color2r = (c2packed16 >> 8) & 0xF8;
-        int color2g = (c2packed16 >> 3) & 0xFC;
-        int color2b = (c2packed16 << 3) & 0xF8;
-
-        int colors[] = new int[8]; // color table for all possible codes
-        // colors 0 and 1 point to the two 16 bit colors we read in
-        colors[0] = (color1r << 16) | (color1g << 8) | color1b | 0xFF000000;
-        colors[1] = (color2r << 16) | (color2g << 8) | color2b | 0xFF000000;
-
-        // 2/3 Color1, 1/3 color2
-        int colorr = (((color1r << 1) + color2r) / 3);// & 0xFF;
-        int colorg = (((color1g << 1) + color2g) / 3);// & 0xFF;
-        int colorb = (((color1b << 1) + color2b) / 3);// & 0xFF;
-        colors[2] = (colorr << 16) | (colorg << 8) | colorb | 0xFF000000;
-
-        // 2/3 Color2, 1/3 color1
-        colorr = (((color2r << 1) + color1r) / 3);// & 0xFF;
-        colorg = (((color2g << 1) + color1g) / 3);// & 0xFF;
-        colorb = (((color2b << 1) + color1b) / 3);// & 0xFF;
-        colors[3] = (colorr << 16) | (colorg << 8) | colorb | 0xFF000000;
-
-        // read in the color code bits, 16 values, each 2 bits long
-        // then look up the color in the color table we built
-        //int bits = ByteConverter.unsign(fm.readByte()) + (ByteConverter.unsign(fm.readByte()) << 8) + (ByteConverter.unsign(fm.readByte()) << 16) + (ByteConverter.unsign(fm.readByte()) << 24);
-        int bits = ByteConverter.unsign(fm.readByte()) | (ByteConverter.unsign(fm.readByte()) << 8) | (ByteConverter.unsign(fm.readByte()) << 16) | (ByteConverter.unsign(fm.readByte()) << 24);
-
-        if (format == 5) {
-          int alphaPos = 0;
-          for (int by = 0; by < 4; ++by) {
-            for (int bx = 0; bx < 4; ++bx) {
-              int code = (bits >> (((by << 2) + bx) << 1)) & 0x3;
-              data[(y + by) * width + x + bx] = ((colors[code] & 0xFFFFFF) | (alphaMap[alphaPos++] << 24));
-            }
-          }
-        }
-        else {
-          for (int by = 0; by < 4; ++by) {
-            for (int bx = 0; bx < 4; ++bx) {
-              int code = (bits >> (((by << 2) + bx) << 1)) & 0x3;
-              data[(y + by) * width + x + bx] = colors[code];
-            }
-          }
-        }
-      }
+    // DXT encodes 4x4 blocks of pixels
+    if (format == 5) {
+      return BlockTextureDecoder.read(fm, width, height, BlockTextureDecoder.FORMAT_BC3);
     }
-
-    return new ImageResource(data, width, height);
+    else if (format == 3) {
+      return BlockTextureDecoder.read(fm, width, height, BlockTextureDecoder.FORMAT_BC2);
+    }
+    return BlockTextureDecoder.read(fm, width, height, BlockTextureDecoder.FORMAT_BC1);
 
   }
 
@@ -0,0 +1,97 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import org.watto.ErrorLogger;
+import org.watto.Language;
+import org.watto.Settings;
+import org.watto.component.WSPluginGroup;
+import org.watto.component.WSPluginManager;
+import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.PluginFinder;
+import org.watto.ge.plugin.RatedPlugin;
+
+/**
+**********************************************************************************************
+Measures how long it takes to start up the plugins, and optionally to detect the plugins for a
+file straight afterwards. Each run should be in a new JVM, so the classes aren't already loaded.
+<br><br>
+Usage: PluginLoadingBenchmark [eager|lazy] [file]
+<br>
+- <i>eager</i> loads every plugin class, like the LazyPluginLoading setting is turned off.<br>
+- <i>lazy</i> registers the plugins from the plugin manifest. The first lazy run builds the
+manifest, so run it twice to see the time with the manifest.
+**********************************************************************************************
+**/
+public class PluginLoadingBenchmark {
+
+  /**
+  **********************************************************************************************
+  Runs the benchmark
+  **********************************************************************************************
+  **/
+  public static void main(String[] args) {
+    boolean lazy = true;
+    if (args.length > 0 && args[0].equalsIgnoreCase("eager")) {
+      lazy = false;
+    }
+
+    File file = null;
+    if (args.length > 1) {
+      file = new File(args[1]);
+    }
+
+    long startTime = System.currentTimeMillis();
+
+    new ErrorLogger();
+    new Settings();
+    new Language();
+    Settings.set("LazyPluginLoading", lazy);
+
+    long settingsTime = System.currentTimeMillis() - startTime;
+
+    try {
+      WSPluginManager.loadPlugins();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+
+    long loadTime = WSPluginManager.getLoadTime();
+
+    System.out.println("Mode:            " + (lazy ? "lazy" : "eager"));
+    System.out.println("Settings:        " + settingsTime + "ms");
+    System.out.println("Plugins loaded:  " + loadTime + "ms");
+
+    WSPluginGroup[] groups = WSPluginManager.getGroups();
+    for (int g = 0; g < groups.length; g++) {
+      System.out.println("  " + groups[g].getType() + ": " + groups[g].getPluginCount() + " plugins");
+    }
+
+    if (file != null && file.exists()) {
+      long detectStart = System.currentTimeMillis();
+      RatedPlugin[] plugins = PluginFinder.findPlugins(file, ArchivePlugin.class);
+      long detectTime = System.currentTimeMillis() - detectStart;
+
+      int numFound = (plugins == null) ? 0 : plugins.length;
+      System.out.println("Plugin detection: " + detectTime + "ms (" + numFound + " plugins matched)");
+    }
+
+    System.out.println("Total:           " + (System.currentTimeMillis() - startTime) + "ms");
+    System.exit(0);
+  }
+
+}
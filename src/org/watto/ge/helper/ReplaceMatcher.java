@@ -0,0 +1,289 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import org.watto.datatype.Resource;
+
+/**
+**********************************************************************************************
+Matches the files in a directory to the Resources that they should replace. <br>
+<br>
+Each directory that the Resources are in is listed once, and the files are put in a map by their
+normalised name (lower case, with / for all the slashes). Each Resource then looks up its own
+normalised name in the map, so all the matches are found in a single pass, rather than checking
+the disk for each Resource. <br>
+<br>
+When the ArchivePlugin can convert on replace, a file with 2 "."s in its name also matches the
+Resource without the last extension (ie <i>image.dds.png</i> matches <i>image.dds</i>), as this
+is the name that the file would have been given when it was extracted and converted. <br>
+<br>
+Anything that could be a mistake (2 files that match the same Resource, or a file that matches
+several Resources) is remembered, along with the files that didn't match anything, so the
+matching can be checked before anything is replaced.
+**********************************************************************************************
+**/
+public class ReplaceMatcher {
+
+  /**
+  **********************************************************************************************
+  Gets the <i>name</i> in lower case, with / for all the slashes, and without any slashes at the
+  start, so names can be matched no matter how they're written
+  **********************************************************************************************
+  **/
+  public static String normalizeName(String name) {
+    name = name.replace('\\', '/').toLowerCase();
+
+    int start = 0;
+    int length = name.length();
+    while (start < length && name.charAt(start) == '/') {
+      start++;
+    }
+    if (start > 0) {
+      name = name.substring(start);
+    }
+    return name;
+  }
+
+  /** the resources to find matches for **/
+  Resource[] resources;
+
+  /** whether files can also match by their converted name **/
+  boolean convertOnReplace = false;
+
+  /** the files that were found, by their normalised name **/
+  HashMap<String, File> files = new HashMap<String, File>();
+
+  /** the files with 2 "."s, by their normalised name without the last extension **/
+  HashMap<String, File> convertedFiles = new HashMap<String, File>();
+
+  /** the files that were found in the base path, in the order they were found **/
+  ArrayList<File> scannedFiles = new ArrayList<File>();
+
+  /** descriptions of any possible mistakes in the matching **/
+  ArrayList<String> conflicts = new ArrayList<String>();
+
+  /** the file that matches each resource, or null if nothing matched **/
+  File[] matches = null;
+
+  /** the resource that each matched file was given to **/
+  IdentityHashMap<File, Resource> matchedFiles = new IdentityHashMap<File, Resource>();
+
+  int numMatched = 0;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ReplaceMatcher(Resource[] resources, boolean convertOnReplace) {
+    this.resources = resources;
+    this.convertOnReplace = convertOnReplace;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a <i>file</i> that was found in the normalised <i>directory</i>. If this is a
+  <i>fallback</i> file and a file with the same name has already been found, the new file is
+  ignored.
+  **********************************************************************************************
+  **/
+  public void addFile(String directory, File file, boolean fallback) {
+    String filename = file.getName();
+    String name = directory + filename.toLowerCase();
+
+    File existing = files.get(name);
+    if (existing != null) {
+      if (!fallback) {
+        conflicts.add("\"" + existing.getPath() + "\" and \"" + file.getPath() + "\" have the same name - using \"" + existing.getPath() + "\"");
+      }
+      return;
+    }
+
+    files.put(name, file);
+    if (!fallback) {
+      // fallback directories can have all sorts of other files in them, so they're not reported as unmatched
+      scannedFiles.add(file);
+    }
+
+    int firstDotPos = filename.indexOf('.');
+    int lastDotPos = filename.lastIndexOf('.');
+    if (firstDotPos >= 0 && firstDotPos != lastDotPos) {
+      String shortName = name.substring(0, name.length() - (filename.length() - lastDotPos));
+      File existingConverted = convertedFiles.get(shortName);
+      if (existingConverted == null) {
+        convertedFiles.put(shortName, file);
+      }
+      else if (convertOnReplace && !fallback) {
+        conflicts.add("\"" + existingConverted.getPath() + "\" and \"" + file.getPath() + "\" are both converted from the same file - using \"" + existingConverted.getPath() + "\"");
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the descriptions of any possible mistakes in the matching
+  **********************************************************************************************
+  **/
+  public String[] getConflicts() {
+    return conflicts.toArray(new String[conflicts.size()]);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the file that matches each resource, or null if nothing matched
+  **********************************************************************************************
+  **/
+  public File[] getMatches() {
+    return matches;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public int getNumMatched() {
+    return numMatched;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the files that were found in the base path, but didn't match any resource
+  **********************************************************************************************
+  **/
+  public File[] getUnmatchedFiles() {
+    ArrayList<File> unmatched = new ArrayList<File>();
+    int numFiles = scannedFiles.size();
+    for (int i = 0; i < numFiles; i++) {
+      File file = scannedFiles.get(i);
+      if (!matchedFiles.containsKey(file)) {
+        unmatched.add(file);
+      }
+    }
+    return unmatched.toArray(new File[unmatched.size()]);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the resources that didn't match any file
+  **********************************************************************************************
+  **/
+  public Resource[] getUnmatchedResources() {
+    Resource[] unmatched = new Resource[resources.length - numMatched];
+    int numUnmatched = 0;
+    for (int i = 0; i < resources.length; i++) {
+      if (matches[i] == null) {
+        unmatched[numUnmatched] = resources[i];
+        numUnmatched++;
+      }
+    }
+    return unmatched;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the file that matches each resource, from the files that have been found so far. If
+  there is both a normal file and a converted file for a resource, the converted file is used.
+  @return the file that matches each resource, or null if nothing matched
+  **********************************************************************************************
+  **/
+  public File[] match() {
+    int numResources = resources.length;
+    matches = new File[numResources];
+    matchedFiles.clear();
+    numMatched = 0;
+
+    for (int i = 0; i < numResources; i++) {
+      Resource resource = resources[i];
+      String name = normalizeName(resource.getName());
+
+      File file = files.get(name);
+      if (convertOnReplace) {
+        File convertedFile = convertedFiles.get(name);
+        if (convertedFile != null) {
+          if (file != null) {
+            conflicts.add("\"" + file.getPath() + "\" and \"" + convertedFile.getPath() + "\" both match \"" + resource.getName() + "\" - using \"" + convertedFile.getPath() + "\"");
+          }
+          file = convertedFile;
+        }
+      }
+
+      if (file == null) {
+        continue;
+      }
+
+      Resource previous = matchedFiles.put(file, resource);
+      if (previous != null) {
+        conflicts.add("\"" + file.getPath() + "\" matches both \"" + previous.getName() + "\" and \"" + resource.getName() + "\"");
+      }
+
+      matches[i] = file;
+      numMatched++;
+    }
+
+    return matches;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the files in the <i>basePath</i> for the resources. Only the directories that the
+  resources are in are listed, each one only once. If a directory isn't in the <i>basePath</i>,
+  or doesn't have a file for a resource, the parent of the <i>basePath</i> is checked too, in
+  case the <i>basePath</i> is the first directory of the resource names.
+  **********************************************************************************************
+  **/
+  public void scanDirectory(File basePath) {
+    // find the directories that the resources are in, by their normalised name
+    LinkedHashMap<String, String> directories = new LinkedHashMap<String, String>();
+    for (int i = 0; i < resources.length; i++) {
+      String name = normalizeName(resources[i].getName());
+      int slashPos = name.lastIndexOf('/') + 1;
+      String directory = name.substring(0, slashPos);
+      if (!directories.containsKey(directory)) {
+        String path = resources[i].getName().replace('\\', '/');
+        path = path.substring(0, path.lastIndexOf('/') + 1);
+        directories.put(directory, path.replace('/', File.separatorChar));
+      }
+    }
+
+    File[] roots = new File[] { basePath, basePath.getParentFile() };
+    for (int r = 0; r < roots.length; r++) {
+      if (roots[r] == null) {
+        continue;
+      }
+
+      String rootPath = roots[r].getAbsolutePath() + File.separator;
+      for (String directory : directories.keySet()) {
+        File[] dirFiles = new File(rootPath + directories.get(directory)).listFiles();
+        if (dirFiles == null) {
+          continue; // the directory doesn't exist here
+        }
+
+        for (int f = 0; f < dirFiles.length; f++) {
+          File file = dirFiles[f];
+          if (file.isFile()) {
+            addFile(directory, file, r > 0);
+          }
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,617 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.ImageResource;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+
+/**
+**********************************************************************************************
+Stores the thumbnails of files on disk, so the thumbnail view of an archive that was opened
+before doesn't need to extract and decode every image again. <br>
+<br>
+All the thumbnails are kept in a single pack file, as deflated ARGB pixels. Each one is found by
+the fingerprint of the archive file (a hash of samples of its content) and its modified time, and
+the offset, lengths and exporter of the file inside it. Files that no viewer recognises are stored
+too, with no pixels, so they aren't tried again. The pack file is only ever added to - when it
+gets bigger than <i>ThumbnailCacheMaximumSize</i>, it is started again the next time it is
+opened. The most recently used thumbnails are also kept in memory. <br>
+<br>
+The pack file is opened, and the archive fingerprints are worked out, by whichever thread needs
+them first. The Event Dispatch Thread uses peek(), which never waits for either. The lock is only
+held while the index, the memory and the pack file are used, not while thumbnails are compressed.
+**********************************************************************************************
+**/
+public class ThumbnailCache {
+
+  /** Marks the start of the pack file **/
+  static final int MAGIC = 0x4D485447; // "GTHM"
+
+  /** Changed whenever the format of the pack file changes, so old files are thrown away **/
+  static final int VERSION = 2;
+
+  /** The size of the header of the pack file **/
+  static final int FILE_HEADER_SIZE = 8;
+
+  /** The size of the details stored before the pixels of each thumbnail **/
+  static final int RECORD_HEADER_SIZE = 60;
+
+  /** Thumbnails bigger than this (in either direction) aren't stored **/
+  static final int MAXIMUM_SIZE = 256;
+
+  /** Returned from get() for a file that is known not to have a thumbnail **/
+  public static final ImageResource NO_THUMBNAIL = new ImageResource(new int[0], 0, 0);
+
+  /**
+  **********************************************************************************************
+  Identifies a file, and the thumbnail settings it was generated with
+  **********************************************************************************************
+  **/
+  static class ThumbnailKey {
+
+    long fingerprint;
+
+    long modified;
+
+    long offset;
+
+    long length;
+
+    long decompLength;
+
+    int exporterHash;
+
+    int options;
+
+    ThumbnailKey(long fingerprint, long modified, long offset, long length, long decompLength, int exporterHash, int options) {
+      this.fingerprint = fingerprint;
+      this.modified = modified;
+      this.offset = offset;
+      this.length = length;
+      this.decompLength = decompLength;
+      this.exporterHash = exporterHash;
+      this.options = options;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (!(object instanceof ThumbnailKey)) {
+        return false;
+      }
+      ThumbnailKey key = (ThumbnailKey) object;
+      return fingerprint == key.fingerprint && modified == key.modified && offset == key.offset && length == key.length && decompLength == key.decompLength && exporterHash == key.exporterHash && options == key.options;
+    }
+
+    @Override
+    public int hashCode() {
+      long hash = fingerprint * 31 + modified;
+      hash = hash * 31 + offset;
+      hash = hash * 31 + length;
+      hash = hash * 31 + decompLength;
+      hash = hash * 31 + exporterHash;
+      hash = hash * 31 + options;
+      return (int) (hash ^ (hash >>> 32));
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Where the pixels of a thumbnail are in the pack file
+  **********************************************************************************************
+  **/
+  static class PackEntry {
+
+    long dataOffset;
+
+    int dataLength;
+
+    int width;
+
+    int height;
+
+    PackEntry(long dataOffset, int dataLength, int width, int height) {
+      this.dataOffset = dataOffset;
+      this.dataLength = dataLength;
+      this.width = width;
+      this.height = height;
+    }
+  }
+
+  /** Held while the index, the memory, or the pack file are used **/
+  static final Object lock = new Object();
+
+  /** Held while the pack file is being opened, so it's only opened once **/
+  static final Object openLock = new Object();
+
+  /** The pack file, opened the first time it is needed **/
+  static RandomAccessFile pack = null;
+
+  /** Whether the pack file has been opened (or failed to open) **/
+  static volatile boolean opened = false;
+
+  /** Where each thumbnail is in the pack file **/
+  static HashMap<ThumbnailKey, PackEntry> index = new HashMap<ThumbnailKey, PackEntry>();
+
+  /** The most recently used thumbnails **/
+  static LinkedHashMap<ThumbnailKey, ImageResource> memory = new LinkedHashMap<ThumbnailKey, ImageResource>(256, 0.75f, true) {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ThumbnailKey, ImageResource> eldest) {
+      return size() > Settings.getInt("ThumbnailCacheMemorySize");
+    }
+  };
+
+  /** The fingerprint of each archive file, so they're only calculated once **/
+  static HashMap<String, long[]> fingerprints = new HashMap<String, long[]>();
+
+  /**
+  **********************************************************************************************
+  Closes the pack file, and forgets everything that was loaded from it
+  **********************************************************************************************
+  **/
+  public static void close() {
+    synchronized (openLock) {
+      synchronized (lock) {
+        try {
+          if (pack != null) {
+            pack.close();
+          }
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+
+        pack = null;
+        opened = false;
+        index.clear();
+        memory.clear();
+      }
+    }
+
+    synchronized (fingerprints) {
+      fingerprints.clear();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the thumbnail for the <i>resource</i> from the cache
+  @return the thumbnail, <code>NO_THUMBNAIL</code> if the file is known not to have one, or
+          null if the file isn't in the cache
+  **********************************************************************************************
+  **/
+  public static ImageResource get(Resource resource) {
+    ThumbnailKey key = getKey(resource, true);
+    if (key == null) {
+      return null;
+    }
+
+    PackEntry entry;
+    byte[] compressed;
+    synchronized (lock) {
+      ImageResource imageResource = memory.get(key);
+      if (imageResource != null) {
+        return imageResource;
+      }
+
+      entry = index.get(key);
+      if (entry == null || pack == null) {
+        return null;
+      }
+
+      if (entry.width == 0 || entry.height == 0) {
+        return NO_THUMBNAIL;
+      }
+
+      try {
+        compressed = new byte[entry.dataLength];
+        pack.seek(entry.dataOffset);
+        pack.readFully(compressed);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+        index.remove(key);
+        return null;
+      }
+    }
+
+    try {
+      int numPixels = entry.width * entry.height;
+      byte[] pixelBytes = new byte[numPixels * 4];
+
+      Inflater inflater = new Inflater();
+      inflater.setInput(compressed);
+      int decompLength = inflater.inflate(pixelBytes);
+      inflater.end();
+
+      if (decompLength != pixelBytes.length) {
+        throw new DataFormatException("Thumbnail is the wrong size");
+      }
+
+      int[] pixels = new int[numPixels];
+      for (int i = 0, j = 0; i < numPixels; i++, j += 4) {
+        pixels[i] = ((pixelBytes[j] & 255) << 24) | ((pixelBytes[j + 1] & 255) << 16) | ((pixelBytes[j + 2] & 255) << 8) | (pixelBytes[j + 3] & 255);
+      }
+
+      ImageResource imageResource = new ImageResource(pixels, entry.width, entry.height);
+      imageResource.setImageShrunk(true);
+
+      synchronized (lock) {
+        memory.put(key, imageResource);
+      }
+      return imageResource;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      synchronized (lock) {
+        index.remove(key);
+      }
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the fingerprint of an archive file - a hash of samples of the content, which is only
+  worked out again if the size or modified time of the file changes. If not <i>calculate</i>, -1
+  is returned instead of working it out.
+  **********************************************************************************************
+  **/
+  static long getFingerprint(File file, boolean calculate) {
+    String path = file.getAbsolutePath();
+    long length = file.length();
+    long modified = file.lastModified();
+
+    long[] fingerprint;
+    synchronized (fingerprints) {
+      fingerprint = fingerprints.get(path);
+    }
+    if (fingerprint == null || fingerprint[0] != length || fingerprint[1] != modified) {
+      if (!calculate) {
+        return -1;
+      }
+
+      // worked out without any locks, as it reads the archive
+      fingerprint = new long[] { length, modified, ArchiveIndexCache.getContentHash(file) };
+      synchronized (fingerprints) {
+        fingerprints.put(path, fingerprint);
+      }
+    }
+    return fingerprint[2];
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the key for the <i>resource</i>, or null if its thumbnail can't be cached (eg it has
+  been replaced by a file that isn't in the archive). If not <i>load</i>, null is also returned
+  if the pack file hasn't been opened or the archive fingerprint isn't known yet, rather than
+  reading them now.
+  **********************************************************************************************
+  **/
+  static ThumbnailKey getKey(Resource resource, boolean load) {
+    if (!isEnabled() || resource.isReplaced() || resource.exportedPathTimestampChanged()) {
+      return null;
+    }
+
+    File source = resource.getSource();
+    if (source == null || !source.isFile()) {
+      return null;
+    }
+
+    if (!opened) {
+      if (!load) {
+        return null;
+      }
+      synchronized (openLock) {
+        if (!opened) {
+          open();
+        }
+      }
+    }
+    if (pack == null) {
+      return null;
+    }
+
+    ExporterPlugin exporter = resource.getExporter();
+    int exporterHash = (exporter == null) ? 0 : exporter.getClass().getName().hashCode();
+
+    int options = 0;
+    if (Settings.getBoolean("HighQualityThumbnails")) {
+      options |= 1;
+    }
+    if (Settings.getBoolean("UpscaleSmallThumbnails")) {
+      options |= 2;
+    }
+
+    long fingerprint = getFingerprint(source, load);
+    if (fingerprint == -1 && !load) {
+      return null;
+    }
+
+    return new ThumbnailKey(fingerprint, source.lastModified(), resource.getOffset(), resource.getLength(), resource.getDecompressedLength(), exporterHash, options);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public static File getPackFile() {
+    return new File(new File(Settings.get("ThumbnailCacheDirectory")).getAbsolutePath() + File.separator + "thumbnails.pack");
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public static boolean isEnabled() {
+    return Settings.getBoolean("ThumbnailCache");
+  }
+
+  /**
+  **********************************************************************************************
+  Opens the pack file and reads where all the thumbnails are. If the file is from an older
+  version or is too big, it is started again. A thumbnail that wasn't written fully (eg if Game
+  Extractor was closed while writing it) is removed, along with anything after it. The index is
+  read without the lock, then swapped in, so peek() isn't held up by a large pack file.
+  **********************************************************************************************
+  **/
+  static void open() {
+    File packFile = getPackFile();
+    RandomAccessFile pack = null;
+    HashMap<ThumbnailKey, PackEntry> index = new HashMap<ThumbnailKey, PackEntry>();
+    try {
+      long maxSize = Settings.getInt("ThumbnailCacheMaximumSize") * 1048576L;
+      if (packFile.exists() && maxSize > 0 && packFile.length() > maxSize) {
+        packFile.delete();
+      }
+
+      packFile.getParentFile().mkdirs();
+      pack = new RandomAccessFile(packFile, "rw");
+
+      long packLength = pack.length();
+      if (packLength < FILE_HEADER_SIZE || pack.readInt() != MAGIC || pack.readInt() != VERSION) {
+        // new or unreadable, so start it again
+        pack.setLength(0);
+        pack.writeInt(MAGIC);
+        pack.writeInt(VERSION);
+        setPack(pack, index);
+        return;
+      }
+
+      long position = FILE_HEADER_SIZE;
+      while (position + RECORD_HEADER_SIZE <= packLength) {
+        pack.seek(position);
+        ThumbnailKey key = new ThumbnailKey(pack.readLong(), pack.readLong(), pack.readLong(), pack.readLong(), pack.readLong(), pack.readInt(), pack.readInt());
+        int width = pack.readInt();
+        int height = pack.readInt();
+        int dataLength = pack.readInt();
+
+        long dataOffset = position + RECORD_HEADER_SIZE;
+        if (dataLength < 0 || width < 0 || height < 0 || dataOffset + dataLength > packLength) {
+          break;
+        }
+
+        index.put(key, new PackEntry(dataOffset, dataLength, width, height));
+        position = dataOffset + dataLength;
+      }
+
+      if (position != packLength) {
+        pack.setLength(position);
+      }
+      setPack(pack, index);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      try {
+        if (pack != null) {
+          pack.close();
+        }
+      }
+      catch (Throwable t2) {
+      }
+      setPack(null, new HashMap<ThumbnailKey, PackEntry>());
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the thumbnail for the <i>resource</i> if it's already in memory, without opening the pack
+  file, working out the archive fingerprint, or reading anything from disk. Used on the Event
+  Dispatch Thread - anything that returns null here is looked up with get() on another thread.
+  @return the thumbnail, <code>NO_THUMBNAIL</code> if the file is known not to have one, or
+          null if it isn't known yet
+  **********************************************************************************************
+  **/
+  public static ImageResource peek(Resource resource) {
+    ThumbnailKey key = getKey(resource, false);
+    if (key == null) {
+      return null;
+    }
+
+    synchronized (lock) {
+      ImageResource imageResource = memory.get(key);
+      if (imageResource != null) {
+        return imageResource;
+      }
+
+      PackEntry entry = index.get(key);
+      if (entry != null && (entry.width == 0 || entry.height == 0)) {
+        return NO_THUMBNAIL;
+      }
+    }
+    return null;
+  }
+
+  /**
+  **********************************************************************************************
+  Stores the thumbnail for the <i>resource</i> in the cache. If the <i>imageResource</i> is null,
+  the file is stored as not having a thumbnail.
+  **********************************************************************************************
+  **/
+  public static void put(Resource resource, ImageResource imageResource) {
+    ThumbnailKey key = getKey(resource, true);
+    if (key == null) {
+      return;
+    }
+    synchronized (lock) {
+      if (index.containsKey(key)) {
+        return;
+      }
+    }
+
+    try {
+      int width = 0;
+      int height = 0;
+      byte[] compressed = new byte[0];
+
+      if (imageResource != null) {
+        int[] pixels = imageResource.getPixels();
+        width = imageResource.getWidth();
+        height = imageResource.getHeight();
+
+        int numPixels = width * height;
+        if (numPixels <= 0 || pixels == null || pixels.length < numPixels) {
+          return;
+        }
+        if (width > MAXIMUM_SIZE || height > MAXIMUM_SIZE) {
+          return; // not shrunk to a thumbnail
+        }
+
+        byte[] pixelBytes = new byte[numPixels * 4];
+        for (int i = 0, j = 0; i < numPixels; i++, j += 4) {
+          int pixel = pixels[i];
+          pixelBytes[j] = (byte) (pixel >> 24);
+          pixelBytes[j + 1] = (byte) (pixel >> 16);
+          pixelBytes[j + 2] = (byte) (pixel >> 8);
+          pixelBytes[j + 3] = (byte) pixel;
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(pixelBytes);
+        deflater.finish();
+
+        byte[] buffer = new byte[pixelBytes.length + 64];
+        int compLength = 0;
+        while (!deflater.finished()) {
+          if (compLength == buffer.length) {
+            byte[] newBuffer = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, compLength);
+            buffer = newBuffer;
+          }
+          compLength += deflater.deflate(buffer, compLength, buffer.length - compLength);
+        }
+        deflater.end();
+
+        compressed = new byte[compLength];
+        System.arraycopy(buffer, 0, compressed, 0, compLength);
+      }
+
+      byte[] record = new byte[RECORD_HEADER_SIZE + compressed.length];
+      writeLong(record, 0, key.fingerprint);
+      writeLong(record, 8, key.modified);
+      writeLong(record, 16, key.offset);
+      writeLong(record, 24, key.length);
+      writeLong(record, 32, key.decompLength);
+      writeInt(record, 40, key.exporterHash);
+      writeInt(record, 44, key.options);
+      writeInt(record, 48, width);
+      writeInt(record, 52, height);
+      writeInt(record, 56, compressed.length);
+      System.arraycopy(compressed, 0, record, RECORD_HEADER_SIZE, compressed.length);
+
+      synchronized (lock) {
+        if (pack == null || index.containsKey(key)) {
+          return; // closed, or stored by another thread in the meantime
+        }
+
+        long maxSize = Settings.getInt("ThumbnailCacheMaximumSize") * 1048576L;
+        long position = pack.length();
+        if (maxSize > 0 && position + record.length > maxSize) {
+          return; // full - it will be started again next time
+        }
+
+        pack.seek(position);
+        pack.write(record);
+
+        index.put(key, new PackEntry(position + RECORD_HEADER_SIZE, compressed.length, width, height));
+        if (imageResource != null) {
+          memory.put(key, imageResource);
+        }
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Uses the <i>newPack</i> file and its <i>newIndex</i>, after open() has read them
+  **********************************************************************************************
+  **/
+  static void setPack(RandomAccessFile newPack, HashMap<ThumbnailKey, PackEntry> newIndex) {
+    synchronized (lock) {
+      pack = newPack;
+      index = newIndex;
+      opened = true;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  static void writeInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >> 24);
+    bytes[offset + 1] = (byte) (value >> 16);
+    bytes[offset + 2] = (byte) (value >> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  static void writeLong(byte[] bytes, int offset, long value) {
+    writeInt(bytes, offset, (int) (value >> 32));
+    writeInt(bytes, offset + 4, (int) value);
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ThumbnailCache() {
+  }
+
+}
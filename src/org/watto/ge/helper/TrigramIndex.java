@@ -0,0 +1,317 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.util.Arrays;
+
+/**
+**********************************************************************************************
+An index of every 3-character piece (trigram) of a list of strings, for finding the strings
+that contain some text without looking through all of them. For each trigram, the numbers of
+the strings that contain it are kept in order, so the strings that could contain the text are
+the ones that are in the lists for all the trigrams of the text.
+<br><br>
+The index only narrows down the strings - the ones it finds still need to be checked, as the
+trigrams could be in a different order, or spread apart. Text shorter than 3 characters can't
+be narrowed down at all.
+<br><br>
+The lists are stored back-to-back in a single <i>int[]</i>, and the trigrams are looked up in
+an open-addressed hash table, so the index doesn't need an object for each trigram or string.
+**********************************************************************************************
+**/
+public class TrigramIndex {
+
+  /**
+  **********************************************************************************************
+  Gets the numbers that are in both of the sorted lists
+  **********************************************************************************************
+  **/
+  public static int[] intersect(int[] first, int[] second) {
+    int[] result = new int[Math.min(first.length, second.length)];
+    int numResults = 0;
+
+    int f = 0;
+    int s = 0;
+    while (f < first.length && s < second.length) {
+      int firstValue = first[f];
+      int secondValue = second[s];
+      if (firstValue < secondValue) {
+        f++;
+      }
+      else if (firstValue > secondValue) {
+        s++;
+      }
+      else {
+        result[numResults] = firstValue;
+        numResults++;
+        f++;
+        s++;
+      }
+    }
+
+    if (numResults == result.length) {
+      return result;
+    }
+    return Arrays.copyOf(result, numResults);
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the numbers that are in either of the sorted lists, without any duplicates
+  **********************************************************************************************
+  **/
+  public static int[] union(int[] first, int[] second) {
+    int[] result = new int[first.length + second.length];
+    int numResults = 0;
+
+    int f = 0;
+    int s = 0;
+    while (f < first.length || s < second.length) {
+      int value;
+      if (s >= second.length || (f < first.length && first[f] < second[s])) {
+        value = first[f];
+        f++;
+      }
+      else if (f >= first.length || second[s] < first[f]) {
+        value = second[s];
+        s++;
+      }
+      else {
+        value = first[f];
+        f++;
+        s++;
+      }
+      result[numResults] = value;
+      numResults++;
+    }
+
+    if (numResults == result.length) {
+      return result;
+    }
+    return Arrays.copyOf(result, numResults);
+  }
+
+  /**
+  **********************************************************************************************
+  Joins 3 characters into a single number
+  **********************************************************************************************
+  **/
+  static long toTrigram(char first, char second, char third) {
+    return ((long) first << 32) | ((long) second << 16) | third;
+  }
+
+  /** the trigrams in the hash table, plus 1 so that 0 means an empty slot **/
+  long[] keys;
+
+  /** the number of each trigram in <i>keys</i> **/
+  int[] ids;
+
+  int numTrigrams = 0;
+
+  /** where the list of strings for each trigram starts in <i>postings</i> **/
+  int[] postingStarts;
+
+  /** the lists of strings for every trigram, back-to-back **/
+  int[] postings;
+
+  int numStrings = 0;
+
+  /**
+  **********************************************************************************************
+  Builds the index for the <i>values</i>. Null values are treated as empty strings.
+  **********************************************************************************************
+  **/
+  public TrigramIndex(String[] values) {
+    numStrings = values.length;
+
+    int capacity = 1024;
+    keys = new long[capacity];
+    ids = new int[capacity];
+
+    // first pass - find all the trigrams and count the strings that contain each one
+    int[] counts = new int[256];
+    int[] lastString = new int[256];
+
+    for (int i = 0; i < numStrings; i++) {
+      String value = values[i];
+      if (value == null) {
+        continue;
+      }
+
+      int length = value.length() - 2;
+      for (int c = 0; c < length; c++) {
+        long trigram = toTrigram(value.charAt(c), value.charAt(c + 1), value.charAt(c + 2));
+
+        int id = getId(trigram);
+        if (id < 0) {
+          id = addTrigram(trigram);
+          if (id >= counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+            lastString = Arrays.copyOf(lastString, lastString.length * 2);
+          }
+          lastString[id] = -1;
+        }
+
+        if (lastString[id] != i) { // only count each string once, even if it has the trigram more than once
+          lastString[id] = i;
+          counts[id]++;
+        }
+      }
+    }
+
+    postingStarts = new int[numTrigrams + 1];
+    for (int t = 0; t < numTrigrams; t++) {
+      postingStarts[t + 1] = postingStarts[t] + counts[t];
+    }
+    postings = new int[postingStarts[numTrigrams]];
+
+    // second pass - fill in the lists. The strings are added in order, so each list is sorted.
+    int[] nextPosting = Arrays.copyOf(postingStarts, numTrigrams);
+    Arrays.fill(lastString, 0, numTrigrams, -1);
+
+    for (int i = 0; i < numStrings; i++) {
+      String value = values[i];
+      if (value == null) {
+        continue;
+      }
+
+      int length = value.length() - 2;
+      for (int c = 0; c < length; c++) {
+        int id = getId(toTrigram(value.charAt(c), value.charAt(c + 1), value.charAt(c + 2)));
+        if (lastString[id] != i) {
+          lastString[id] = i;
+          postings[nextPosting[id]] = i;
+          nextPosting[id]++;
+        }
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a new <i>trigram</i> to the hash table, and returns its number
+  **********************************************************************************************
+  **/
+  int addTrigram(long trigram) {
+    if ((numTrigrams + 1) * 2 > keys.length) {
+      long[] oldKeys = keys;
+      int[] oldIds = ids;
+
+      keys = new long[oldKeys.length * 2];
+      ids = new int[oldKeys.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != 0) {
+          int slot = findSlot(oldKeys[i] - 1);
+          keys[slot] = oldKeys[i];
+          ids[slot] = oldIds[i];
+        }
+      }
+    }
+
+    int slot = findSlot(trigram);
+    keys[slot] = trigram + 1;
+    ids[slot] = numTrigrams;
+    numTrigrams++;
+    return numTrigrams - 1;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the numbers of the strings that could contain the <i>text</i>, in order. These still
+  need to be checked, as the index only knows which trigrams are in each string.
+  @return the numbers of the strings, or null if the <i>text</i> is too short to narrow them down
+  **********************************************************************************************
+  **/
+  public int[] find(String text) {
+    int length = text.length() - 2;
+    if (length <= 0) {
+      return null;
+    }
+
+    // find the trigram with the shortest list, and check the others against it
+    int[] trigramIds = new int[length];
+    int shortest = 0;
+    for (int c = 0; c < length; c++) {
+      int id = getId(toTrigram(text.charAt(c), text.charAt(c + 1), text.charAt(c + 2)));
+      if (id < 0) {
+        return new int[0]; // no string has this trigram
+      }
+      trigramIds[c] = id;
+      if (getPostingCount(id) < getPostingCount(trigramIds[shortest])) {
+        shortest = c;
+      }
+    }
+
+    int shortestId = trigramIds[shortest];
+    int[] result = Arrays.copyOfRange(postings, postingStarts[shortestId], postingStarts[shortestId + 1]);
+    for (int c = 0; c < length && result.length > 0; c++) {
+      int id = trigramIds[c];
+      if (id != shortestId) {
+        result = intersect(result, Arrays.copyOfRange(postings, postingStarts[id], postingStarts[id + 1]));
+      }
+    }
+    return result;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the slot in the hash table that holds the <i>trigram</i>, or the empty slot where it
+  would go
+  **********************************************************************************************
+  **/
+  int findSlot(long trigram) {
+    int mask = keys.length - 1;
+    long hash = trigram * 0x9E3779B97F4A7C15L;
+    int slot = (int) (hash >>> 32) & mask;
+
+    long key = trigram + 1;
+    while (keys[slot] != 0 && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of the <i>trigram</i>, or -1 if no string contains it
+  **********************************************************************************************
+  **/
+  int getId(long trigram) {
+    int slot = findSlot(trigram);
+    if (keys[slot] == 0) {
+      return -1;
+    }
+    return ids[slot];
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of strings in the index
+  **********************************************************************************************
+  **/
+  public int getNumStrings() {
+    return numStrings;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of strings that contain the trigram with the number <i>id</i>
+  **********************************************************************************************
+  **/
+  int getPostingCount(int id) {
+    return postingStarts[id + 1] - postingStarts[id];
+  }
+
+}
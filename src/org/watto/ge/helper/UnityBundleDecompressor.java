@@ -0,0 +1,665 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.tukaani.xz.LZMAInputStream;
+import org.watto.ErrorLogger;
+import org.watto.Language;
+import org.watto.Settings;
+import org.watto.ge.plugin.exporter.Exporter_LZ4;
+import org.watto.io.FileManipulator;
+import org.watto.io.FilenameSplitter;
+import org.watto.io.buffer.UnityBundleBuffer;
+import org.watto.io.converter.IntConverter;
+import org.watto.task.TaskProgressManager;
+import org.watto.task.TaskThreadPool;
+
+/**
+**********************************************************************************************
+Decompresses the storage blocks of a Unity bundle into a "_ge_decompressed" file next to the
+bundle, so the Unity plugins can read the bundle like an uncompressed archive.
+<br><br>
+The output file is created at its full size first, then the blocks are decompressed on the
+shared worker threads and written straight to their place in the file. The FileManipulator that
+is returned reads from the file while the blocks are still being decompressed - any read waits
+for the blocks that it covers, so the plugin can start reading the directory as soon as the
+first blocks are done. Closing the FileManipulator waits for the rest of the blocks.
+<br><br>
+While the blocks are being decompressed, an ".incomplete" file is kept next to the output file,
+so that a decompression that didn't finish isn't used the next time the bundle is opened. If a
+block couldn't be read or written, the ".incomplete" file is left behind, so the bundle is
+decompressed again next time.
+**********************************************************************************************
+**/
+public class UnityBundleDecompressor {
+
+  /** Unity block compression types (the lowest 6 bits of the block flags) **/
+  public static final int COMPRESSION_NONE = 0;
+
+  public static final int COMPRESSION_LZMA = 1;
+
+  public static final int COMPRESSION_LZ4 = 2;
+
+  public static final int COMPRESSION_LZ4HC = 3;
+
+  /**
+  **********************************************************************************************
+  Gets the "_ge_decompressed" file for the <i>sourceFile</i>
+  **********************************************************************************************
+  **/
+  public static File getDecompressedFile(File sourceFile) {
+    String pathOnly = FilenameSplitter.getDirectory(sourceFile);
+    String filenameOnly = FilenameSplitter.getFilename(sourceFile);
+    String extensionOnly = FilenameSplitter.getExtension(sourceFile);
+    return new File(pathOnly + File.separatorChar + filenameOnly + "_ge_decompressed" + "." + extensionOnly);
+  }
+
+  /**
+   **********************************************************************************************
+   When given a basePath, it looks for any ".split##" files and if it finds them, merges them in
+   to the basePath file. (ie joins all the split files back into a real single archive file)
+   The split files are copied straight from one file to the other, rather than through memory.
+   **********************************************************************************************
+   **/
+  public static File mergeSplitFiles(File basePath) {
+    if (basePath.exists()) {
+      // the file already exists - just return it
+      return basePath;
+    }
+
+    String baseName = basePath.getAbsolutePath();
+
+    int splitNumber = 0;
+    File splitFile = new File(baseName + ".split" + splitNumber);
+    if (!splitFile.exists()) {
+      return basePath;
+    }
+
+    RandomAccessFile mergeRAF = null;
+    try {
+      // need to create this file, by merging all the split files in to it
+      mergeRAF = new RandomAccessFile(basePath, "rw");
+      FileChannel mergeChannel = mergeRAF.getChannel();
+
+      long mergePos = 0;
+      while (splitFile.exists()) {
+        // copy all the contents from the split file into the merge file
+        RandomAccessFile splitRAF = new RandomAccessFile(splitFile, "r");
+        try {
+          FileChannel splitChannel = splitRAF.getChannel();
+          long splitLength = splitChannel.size();
+          long copied = 0;
+          while (copied < splitLength) {
+            long copyLength = mergeChannel.transferFrom(splitChannel, mergePos + copied, splitLength - copied);
+            if (copyLength <= 0) {
+              break;
+            }
+            copied += copyLength;
+          }
+          mergePos += copied;
+        }
+        finally {
+          splitRAF.close();
+        }
+
+        // Prepare the next split file
+        splitNumber++;
+        splitFile = new File(baseName + ".split" + splitNumber);
+      }
+
+      // done all the merging, so close it and return the merged file
+      mergeRAF.close();
+      mergeRAF = null;
+      return basePath;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return basePath;
+    }
+    finally {
+      if (mergeRAF != null) {
+        try {
+          mergeRAF.close();
+        }
+        catch (Throwable t) {
+        }
+      }
+    }
+  }
+
+  /** the compressed bundle **/
+  File sourceFile;
+
+  /** the "_ge_decompressed" file **/
+  File decompFile;
+
+  /** exists while the decompFile is still being written **/
+  File incompleteFile;
+
+  /** the compressed and decompressed length of each block **/
+  int[] compLengths;
+
+  int[] decompLengths;
+
+  /** the compression type of each block, or null to work it out from the lengths **/
+  int[] blockTypes = null;
+
+  /** where each block starts in the bundle, and in the decompFile **/
+  long[] compOffsets;
+
+  long[] decompOffsets;
+
+  /** a compressed block that decompresses to less than this is treated as a bad decompression **/
+  int minimumBlockOutput = 0;
+
+  /** set if a block decompressed to less than the minimumBlockOutput **/
+  boolean badDecompression = false;
+
+  /** the next block to be decompressed by a worker **/
+  AtomicInteger nextBlock = new AtomicInteger(0);
+
+  /** whether each block has been written to the decompFile **/
+  boolean[] finishedBlocks;
+
+  /** the number of blocks that have been written to the decompFile **/
+  int numFinishedBlocks = 0;
+
+  /** whether each block failed to be read or written, leaving its place in the decompFile empty **/
+  boolean[] failedBlocks;
+
+  /** the number of blocks that failed **/
+  int numFailedBlocks = 0;
+
+  /** the number of workers that are still running **/
+  int numWorkers = 0;
+
+  /** true once the last worker has finished and closed the files **/
+  boolean filesClosed = false;
+
+  RandomAccessFile sourceRAF = null;
+
+  RandomAccessFile decompRAF = null;
+
+  /**
+  **********************************************************************************************
+  @param sourceFile the compressed bundle
+  @param firstOffset the offset to the first compressed block in the <i>sourceFile</i>
+  @param compLengths the compressed length of each block
+  @param decompLengths the decompressed length of each block
+  **********************************************************************************************
+  **/
+  public UnityBundleDecompressor(File sourceFile, long firstOffset, int[] compLengths, int[] decompLengths) {
+    this.sourceFile = sourceFile;
+    this.compLengths = compLengths;
+    this.decompLengths = decompLengths;
+
+    decompFile = getDecompressedFile(sourceFile);
+    incompleteFile = new File(decompFile.getAbsolutePath() + ".incomplete");
+
+    int numBlocks = decompLengths.length;
+    compOffsets = new long[numBlocks];
+    decompOffsets = new long[numBlocks];
+    finishedBlocks = new boolean[numBlocks];
+    failedBlocks = new boolean[numBlocks];
+
+    long compOffset = firstOffset;
+    long decompOffset = 0;
+    for (int b = 0; b < numBlocks; b++) {
+      compOffsets[b] = compOffset;
+      decompOffsets[b] = decompOffset;
+      compOffset += compLengths[b];
+      decompOffset += decompLengths[b];
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Closes the files once all the blocks have been written, and removes the ".incomplete" file if
+  none of the blocks failed
+  **********************************************************************************************
+  **/
+  void closeFiles() {
+    try {
+      if (sourceRAF != null) {
+        sourceRAF.close();
+        sourceRAF = null;
+      }
+      if (decompRAF != null) {
+        decompRAF.close();
+        decompRAF = null;
+      }
+
+      if (hasFailed()) {
+        ErrorLogger.log("[UnityBundleDecompressor]: " + numFailedBlocks + " blocks couldn't be decompressed, so " + decompFile.getName() + " will be decompressed again next time");
+      }
+      else {
+        incompleteFile.delete();
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Decompresses block <i>b</i> from <i>compBytes</i> into <i>decompBytes</i>, returning the
+  number of bytes that were decompressed
+  **********************************************************************************************
+  **/
+  int decompressBlock(int b, byte[] compBytes, byte[] decompBytes) {
+    int compLength = compLengths[b];
+    int decompLength = decompLengths[b];
+
+    int blockType = getBlockType(b);
+    if (blockType == COMPRESSION_NONE) {
+      int copyLength = Math.min(compLength, decompLength);
+      System.arraycopy(compBytes, 0, decompBytes, 0, copyLength);
+      return copyLength;
+    }
+    else if (blockType == COMPRESSION_LZMA) {
+      return decompressLZMABlock(compBytes, compLength, decompBytes, decompLength);
+    }
+    else {
+      return Exporter_LZ4.getInstance().decompressBlock(compBytes, compLength, decompBytes, decompLength);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Decompresses a Unity LZMA block, which is 5 bytes of LZMA properties followed by the raw LZMA
+  data
+  **********************************************************************************************
+  **/
+  int decompressLZMABlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    int decompPos = 0;
+    try {
+      if (compLength < 5) {
+        return 0;
+      }
+
+      byte propsByte = compBytes[0];
+      int dictSize = IntConverter.convertLittle(new byte[] { compBytes[1], compBytes[2], compBytes[3], compBytes[4] });
+
+      LZMAInputStream blockSource = new LZMAInputStream(new ByteArrayInputStream(compBytes, 5, compLength - 5), decompLength, propsByte, dictSize);
+      try {
+        while (decompPos < decompLength) {
+          int readLength = blockSource.read(decompBytes, decompPos, decompLength - decompPos);
+          if (readLength <= 0) {
+            break;
+          }
+          decompPos += readLength;
+        }
+      }
+      finally {
+        blockSource.close();
+      }
+    }
+    catch (Throwable t) {
+      // bad data - return what was decompressed before it
+    }
+    return decompPos;
+  }
+
+  /**
+  **********************************************************************************************
+  Decompresses the blocks into the "_ge_decompressed" file, and returns a FileManipulator for
+  reading it. If the file has already been decompressed before, it's opened without decompressing
+  anything. Returns a FileManipulator for the original bundle if it couldn't be decompressed, or
+  null if a block couldn't be read or written before the FileManipulator was returned.
+  **********************************************************************************************
+  **/
+  public FileManipulator decompress() {
+    try {
+      if (decompFile.exists()) {
+        if (!incompleteFile.exists()) {
+          // we've already decompressed this file before - open and return it
+          return new FileManipulator(decompFile, false);
+        }
+
+        // the last decompression didn't finish, so start again
+        decompFile.delete();
+      }
+
+      int numBlocks = decompLengths.length;
+      long totalLength = (numBlocks == 0) ? 0 : decompOffsets[numBlocks - 1] + decompLengths[numBlocks - 1];
+      if (totalLength <= 0) {
+        // nothing to decompress, so just return the original archive
+        return new FileManipulator(sourceFile, false);
+      }
+
+      TaskProgressManager.setMessage(Language.get("Progress_DecompressingArchive")); // progress bar
+      TaskProgressManager.setIndeterminate(true);
+
+      // Create the whole file first, so the blocks can be written in any order
+      incompleteFile.createNewFile();
+      decompRAF = new RandomAccessFile(decompFile, "rw");
+      decompRAF.setLength(totalLength);
+      sourceRAF = new RandomAccessFile(sourceFile, "r");
+
+      boolean inBackground = Settings.getBoolean("ParallelBundleDecompression") && !ForkJoinTask.inForkJoinPool();
+      if (inBackground) {
+        int threads = Math.min(TaskThreadPool.getThreadCount(), numBlocks);
+        if (threads < 1) {
+          threads = 1;
+        }
+        numWorkers = threads;
+        for (int i = 0; i < threads; i++) {
+          TaskThreadPool.getForkJoinPool().execute(new Runnable() {
+
+            @Override
+            public void run() {
+              runBlocks();
+            }
+          });
+        }
+      }
+      else {
+        numWorkers = 1;
+        runBlocks();
+      }
+
+      if (minimumBlockOutput > 0) {
+        // need all the blocks to know whether the decompression was good
+        waitForAllBlocks();
+      }
+
+      if (badDecompression) {
+        // didn't decompress, so just return the original archive
+        waitForAllBlocks();
+        decompFile.delete();
+
+        TaskProgressManager.setIndeterminate(false);
+        TaskProgressManager.setMessage(Language.get("Progress_ReadingArchive")); // progress bar
+
+        return new FileManipulator(sourceFile, false);
+      }
+
+      if (hasFailed()) {
+        // couldn't read or write some of the blocks, so the file can't be used
+        waitForAllBlocks();
+        decompFile.delete();
+        incompleteFile.delete();
+
+        TaskProgressManager.setIndeterminate(false);
+        return null;
+      }
+
+      FileManipulator decompFM = new FileManipulator(new UnityBundleBuffer(decompFile, this));
+
+      TaskProgressManager.setIndeterminate(false);
+      TaskProgressManager.setMessage(Language.get("Progress_ReadingArchive")); // progress bar
+
+      return decompFM;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the block that contains the decompressed <i>offset</i>
+  **********************************************************************************************
+  **/
+  int findBlock(long offset) {
+    int low = 0;
+    int high = decompOffsets.length - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (decompOffsets[mid] <= offset) {
+        low = mid;
+      }
+      else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the compression type of block <i>b</i>. If the block flags weren't given, a block that
+  is the same size compressed and decompressed is stored, and anything else is LZ4.
+  **********************************************************************************************
+  **/
+  int getBlockType(int b) {
+    if (blockTypes == null) {
+      if (compLengths[b] == decompLengths[b]) {
+        return COMPRESSION_NONE;
+      }
+      return COMPRESSION_LZ4;
+    }
+    return blockTypes[b];
+  }
+
+  /**
+  **********************************************************************************************
+  Whether any of the blocks failed to be read or written
+  **********************************************************************************************
+  **/
+  public synchronized boolean hasFailed() {
+    return numFailedBlocks > 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Records that block <i>b</i> is done, and wakes up anything that is waiting for it. If it
+  <i>failed</i>, its place in the decompFile wasn't written.
+  **********************************************************************************************
+  **/
+  synchronized void markFinished(int b, boolean failed) {
+    if (failed && !failedBlocks[b]) {
+      failedBlocks[b] = true;
+      numFailedBlocks++;
+    }
+    if (!finishedBlocks[b]) {
+      finishedBlocks[b] = true;
+      numFinishedBlocks++;
+    }
+    notifyAll();
+  }
+
+  /**
+  **********************************************************************************************
+  Decompresses blocks until there are none left, writing each one to its place in the
+  decompFile. Run by each worker.
+  **********************************************************************************************
+  **/
+  void runBlocks() {
+    try {
+      FileChannel sourceChannel = sourceRAF.getChannel();
+      FileChannel decompChannel = decompRAF.getChannel();
+
+      byte[] compBytes = new byte[0];
+      byte[] decompBytes = new byte[0];
+
+      int numBlocks = decompLengths.length;
+      int b = nextBlock.getAndIncrement();
+      while (b < numBlocks) {
+        boolean failed = false;
+        try {
+          int compLength = compLengths[b];
+          int decompLength = decompLengths[b];
+          if (compBytes.length < compLength) {
+            compBytes = new byte[compLength];
+          }
+          if (decompBytes.length < decompLength) {
+            decompBytes = new byte[decompLength];
+          }
+
+          // read the compressed block
+          ByteBuffer compBuffer = ByteBuffer.wrap(compBytes, 0, compLength);
+          long readPos = compOffsets[b];
+          while (compBuffer.hasRemaining()) {
+            int readLength = sourceChannel.read(compBuffer, readPos);
+            if (readLength < 0) {
+              break;
+            }
+            readPos += readLength;
+          }
+          if (compBuffer.hasRemaining()) {
+            // the bundle is cut short - the rest of the block is read as zeros
+            Arrays.fill(compBytes, compBuffer.position(), compLength, (byte) 0);
+          }
+
+          int decompWritten = decompressBlock(b, compBytes, decompBytes);
+          if (decompWritten < 0) {
+            decompWritten = 0;
+          }
+
+          if (minimumBlockOutput > 0 && getBlockType(b) != COMPRESSION_NONE && decompWritten < minimumBlockOutput) {
+            // bad decompression
+            ErrorLogger.log("[UnityBundleDecompressor]: Bad Archive Decompression");
+            badDecompression = true;
+          }
+
+          // write it to its place in the file - anything that didn't decompress is left as zeros
+          ByteBuffer decompBuffer = ByteBuffer.wrap(decompBytes, 0, decompWritten);
+          long writePos = decompOffsets[b];
+          while (decompBuffer.hasRemaining()) {
+            writePos += decompChannel.write(decompBuffer, writePos);
+          }
+        }
+        catch (Throwable t) {
+          ErrorLogger.log("[UnityBundleDecompressor]: Block " + b + " of " + sourceFile.getName() + " couldn't be decompressed", t);
+          failed = true;
+        }
+
+        markFinished(b, failed);
+        b = nextBlock.getAndIncrement();
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+
+    boolean lastWorker;
+    synchronized (this) {
+      numWorkers--;
+      lastWorker = (numWorkers <= 0);
+    }
+    if (lastWorker) {
+      synchronized (this) {
+        // in case a worker failed before it finished all its blocks
+        int numBlocks = finishedBlocks.length;
+        for (int b = 0; b < numBlocks; b++) {
+          if (!finishedBlocks[b]) {
+            markFinished(b, true);
+          }
+        }
+      }
+      closeFiles();
+      synchronized (this) {
+        filesClosed = true;
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the compression type of each block from the Unity block flags
+  **********************************************************************************************
+  **/
+  public void setBlockFlags(int[] blockFlags) {
+    if (blockFlags == null) {
+      blockTypes = null;
+      return;
+    }
+
+    int numBlocks = blockFlags.length;
+    blockTypes = new int[numBlocks];
+    for (int b = 0; b < numBlocks; b++) {
+      int blockType = blockFlags[b] & 63;
+      if (blockType == COMPRESSION_NONE && compLengths[b] != decompLengths[b]) {
+        blockType = COMPRESSION_LZ4; // the flags don't agree with the lengths, so go with what the plugins always did
+      }
+      else if (blockType > COMPRESSION_LZ4HC) {
+        blockType = COMPRESSION_LZ4;
+      }
+      blockTypes[b] = blockType;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Treats the decompression as bad (and returns the original bundle) if a compressed block
+  decompresses to less than <i>minimumBlockOutput</i> bytes. Checking this means waiting for all
+  the blocks before the FileManipulator is returned.
+  **********************************************************************************************
+  **/
+  public void setMinimumBlockOutput(int minimumBlockOutput) {
+    this.minimumBlockOutput = minimumBlockOutput;
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until every block has been written to the decompFile
+  **********************************************************************************************
+  **/
+  public synchronized void waitForAllBlocks() {
+    try {
+      while (!filesClosed) {
+        wait();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until the blocks that cover <i>length</i> bytes from the decompressed <i>offset</i> have
+  been written to the decompFile. Returns false if any of those blocks failed, so that part of
+  the file is empty.
+  **********************************************************************************************
+  **/
+  public synchronized boolean waitForBlocks(long offset, long length) {
+    int numBlocks = finishedBlocks.length;
+    if ((numFinishedBlocks >= numBlocks && numFailedBlocks == 0) || numBlocks == 0 || length <= 0) {
+      return true;
+    }
+
+    int firstBlock = findBlock(offset);
+    int lastBlock = findBlock(offset + length - 1);
+    boolean written = true;
+    try {
+      for (int b = firstBlock; b <= lastBlock; b++) {
+        while (!finishedBlocks[b]) {
+          wait();
+        }
+        if (failedBlocks[b]) {
+          written = false;
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return written;
+  }
+
+}
@@ -31,6 +31,7 @@ import org.watto.datatype.ReplacableResource;
 import org.watto.datatype.ReplaceDetails;
 import org.watto.datatype.ReplaceDetails_File;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ArchivePatcher;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.helper.FileTypeDetector;
 import org.watto.ge.plugin.exporter.Exporter_Default;
@@ -173,8 +174,32 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   **********************************************************************************************
   **/
   public static long[] write(ExporterPlugin exporter, Resource[] resources, FileManipulator destination) {
+    return write(exporter, resources, destination, null);
+  }
+
+  /**
+  **********************************************************************************************
+  Writes the <i>resources</i> into the <i>destination</i> archive, using the <i>exporter</i> for
+  formatting the output. If the exporter can make copies of itself, the resources are packed on
+  several threads (see ResourcePacker), but they're still written in order.
+  @param exporter the exporter that converts a file for writing
+  @param resources the files to write
+  @param destination the archive to write to.
+  @param offsets if not null, the offset in the archive where each file was written is put in
+         this array
+  @return the length of each file in the archive
+  **********************************************************************************************
+  **/
+  public static long[] write(ExporterPlugin exporter, Resource[] resources, FileManipulator destination, long[] offsets) {
+    if (ResourcePacker.canPackInParallel(exporter, resources)) {
+      return new ResourcePacker(exporter, resources, destination).write(offsets);
+    }
+
     long[] compLengths = new long[resources.length];
     for (int i = 0; i < resources.length; i++) {
+      if (offsets != null) {
+        offsets[i] = destination.getOffset();
+      }
       long length = write(exporter, resources[i], destination);
       TaskProgressManager.setValue(i);
       compLengths[i] = length;
@@ -220,6 +245,15 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   /** Can this plugin replace files within the archive? **/
   protected boolean canReplace = false;
 
+  /** Can this plugin patch changes into the archive in place, rather than writing the whole archive again? **/
+  protected boolean canPatch = false;
+
+  /** Can the directory read by this plugin be stored in the ArchiveIndexCache? Only for plugins that keep nothing from read() in their fields **/
+  protected boolean canCacheIndex = false;
+
+  /** Can read() be run on several threads at once? Only for plugins that use no shared exporters or other shared state in read() **/
+  protected boolean threadSafe = false;
+
   /** Can implicit replacing be performed on the resources of this archive? **/
   protected boolean allowImplicitReplacing = false;
 
@@ -238,6 +272,9 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   /** The platforms that this archive exists on (such as "PC", "XBox", or "PS2") **/
   protected String[] platforms = new String[] { "" };
 
+  /** The header bytes that every archive of this format starts with, or null if not declared (used by the PluginFinder pre-filter) **/
+  protected byte[][] matchHeaders = null;
+
   // Extension,Description,Type
   /** Allows you to specify a plugin-specific description for files of a given extension **/
   protected FileType[] fileTypes = new FileType[0];
@@ -418,6 +455,18 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     return calculatePadding((int) length, multiple);
   }
 
+  /**
+  **********************************************************************************************
+  Can the directory read by this plugin be stored in the ArchiveIndexCache, and used instead of
+  calling read() the next time the archive is opened? Only plugins that don't remember anything
+  from read() (for write(), replace(), or their exporters) can allow this.
+  @return true if the directory can be cached, false if read() always needs to be called.
+  **********************************************************************************************
+  **/
+  public boolean canCacheIndex() {
+    return canCacheIndex;
+  }
+
   public boolean canConvertOnReplace() {
     return convertOnReplace;
   }
@@ -431,6 +480,16 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     return allowImplicitReplacing;
   }
 
+  /**
+  **********************************************************************************************
+  Can this plugin patch changes into an archive in place, rather than writing it again?
+  @return true if the plugin can patch archives, false if it cannot.
+  **********************************************************************************************
+  **/
+  public boolean canPatch() {
+    return canPatch;
+  }
+
   /**
   **********************************************************************************************
   Can this plugin read an archive?
@@ -1050,6 +1109,16 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
   **/
   public abstract int getMatchRating(FileManipulator fm);
 
+  /**
+  **********************************************************************************************
+  Gets the header bytes declared for this plugin by <i>setMatchHeaders()</i>
+  @return the header bytes, or null if this plugin didn't declare any
+  **********************************************************************************************
+  **/
+  public byte[][] getMatchHeaders() {
+    return matchHeaders;
+  }
+
   /**
   **********************************************************************************************
   
@@ -1280,6 +1349,35 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
 
   }
 
+  /**
+  **********************************************************************************************
+  Can read() be run on several threads at once, with a separate instance of this plugin on each
+  thread? Plugins that decompress with the shared exporters, or keep anything outside of the
+  plugin instance while reading, need to read one archive at a time.
+  @return true if read() is thread-safe, false if it needs to be serialized.
+  **********************************************************************************************
+  **/
+  public boolean isThreadSafe() {
+    return threadSafe;
+  }
+
+  /**
+  **********************************************************************************************
+  Patches the changes to the <i>resources</i> into the archive they were read from, by writing
+  only the replaced files and the directory entries that point to them through the
+  <i>patcher</i>. Plugins that can patch should setCanPatch(true) and overwrite this method.
+  <br><br>
+  If the changes can't be patched (such as when files have been added or removed), return false
+  before writing anything, and the whole archive is written instead.
+  @param resources the files in the archive
+  @param patcher writes into the archive, saving the original bytes so they can be put back
+  @return true if the changes were patched, false if the archive needs to be written in full
+  **********************************************************************************************
+  **/
+  public boolean patch(Resource[] resources, ArchivePatcher patcher) throws Exception {
+    return false;
+  }
+
   /**
   **********************************************************************************************
   The Previewer comes here ONLY IF it has tried all Viewer Plugins and didn't find a match. In
@@ -1326,6 +1424,16 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     write(resources, destination);
   }
 
+  /**
+  **********************************************************************************************
+  Sets whether the directory read by this plugin can be stored in the ArchiveIndexCache
+  @param canCacheIndex is caching allowed?
+  **********************************************************************************************
+  **/
+  public void setCanCacheIndex(boolean canCacheIndex) {
+    this.canCacheIndex = canCacheIndex;
+  }
+
   public void setCanConvertOnReplace(boolean convertOnReplace) {
     this.convertOnReplace = convertOnReplace;
   }
@@ -1340,6 +1448,16 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     this.allowImplicitReplacing = canReplace;
   }
 
+  /**
+  **********************************************************************************************
+  Sets whether this plugin can patch changes into archives in place
+  @param canPatch is patching allowed?
+  **********************************************************************************************
+  **/
+  public void setCanPatch(boolean canPatch) {
+    this.canPatch = canPatch;
+  }
+
   /**
   **********************************************************************************************
   Sets whether this plugin can read archives or not
@@ -1486,6 +1604,33 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     this.games = games;
   }
 
+  /**
+  **********************************************************************************************
+  Declares the header(s) that an archive of this format must start with. Only call this if
+  <i>getMatchRating()</i> can't return 25 or more unless either the extension matches, or the
+  file starts with one of these <i>headers</i> - the PluginFinder uses it to skip this plugin
+  entirely for files that can't possibly match.
+  @param headers the text headers, found at offset 0 of the archive
+  **********************************************************************************************
+  **/
+  public void setMatchHeaders(String... headers) {
+    matchHeaders = new byte[headers.length][];
+    for (int i = 0; i < headers.length; i++) {
+      matchHeaders[i] = headers[i].getBytes();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Declares the header(s) that an archive of this format must start with
+  @param headers the header bytes, found at offset 0 of the archive
+  @see setMatchHeaders(String...)
+  **********************************************************************************************
+  **/
+  public void setMatchHeaders(byte[]... headers) {
+    matchHeaders = headers;
+  }
+
   /**
   **********************************************************************************************
   
@@ -1516,6 +1661,16 @@ public abstract class ArchivePlugin extends WSObjectPlugin {
     this.properties = properties;
   }
 
+  /**
+  **********************************************************************************************
+  Sets whether read() can be run on several threads at once
+  @param threadSafe is read() thread-safe?
+  **********************************************************************************************
+  **/
+  public void setThreadSafe(boolean threadSafe) {
+    this.threadSafe = threadSafe;
+  }
+
   /**
   **********************************************************************************************
   Writes the <i>resources</i> to the archive <i>destination</i>, where the archive was constructed
@@ -0,0 +1,223 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import org.watto.component.WSPlugin;
+import org.watto.component.WSPluginDescriptor;
+import org.watto.io.FileSnapshot;
+import org.watto.io.FilenameSplitter;
+import org.watto.io.converter.ByteConverter;
+
+/**
+**********************************************************************************************
+An index of the ArchivePlugins by their declared headers and extensions, so the PluginFinder
+can quickly rule out plugins that can't possibly match a file, without running their
+getMatchRating() at all. Plugins that don't declare any headers are always candidates.
+<br><br>
+The index can also be built from the WSPluginDescriptors in the plugin manifest, so the plugins
+that can't match don't even need to be loaded.
+**********************************************************************************************
+**/
+public class ArchivePluginIndex {
+
+  /** the plugins (or their descriptors), in the order they were given **/
+  Object[] plugins;
+
+  /** the headers declared by each plugin **/
+  byte[][][] pluginHeaders;
+
+  /** true for each plugin that has declared its headers, and can therefore be skipped **/
+  boolean[] indexed;
+
+  /** the indexed plugins, bucketed by the first byte of each of their headers **/
+  ArrayList<Integer>[] headerBuckets;
+
+  /** the indexed plugins, grouped by each of their extensions **/
+  Hashtable<String, ArrayList<Integer>> extensionBuckets = new Hashtable<String, ArrayList<Integer>>();
+
+  /**
+  **********************************************************************************************
+  Builds the index for the <i>plugins</i>
+  **********************************************************************************************
+  **/
+  public ArchivePluginIndex(WSPlugin[] plugins) {
+    this((Object[]) plugins);
+
+    for (int i = 0; i < plugins.length; i++) {
+      if (plugins[i] instanceof ArchivePlugin) {
+        ArchivePlugin plugin = (ArchivePlugin) plugins[i];
+        addPlugin(i, plugin.getMatchHeaders(), plugin.getExtensions());
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Builds the index for the plugins in the <i>descriptors</i>, without loading them
+  **********************************************************************************************
+  **/
+  public ArchivePluginIndex(WSPluginDescriptor[] descriptors) {
+    this((Object[]) descriptors);
+
+    for (int i = 0; i < descriptors.length; i++) {
+      addPlugin(i, descriptors[i].getMatchHeaders(), descriptors[i].getExtensions());
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Creates an empty index for the <i>plugins</i>
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("unchecked")
+  ArchivePluginIndex(Object[] plugins) {
+    this.plugins = plugins;
+
+    int numPlugins = plugins.length;
+    indexed = new boolean[numPlugins];
+    pluginHeaders = new byte[numPlugins][][];
+
+    headerBuckets = new ArrayList[256];
+    for (int b = 0; b < 256; b++) {
+      headerBuckets[b] = new ArrayList<Integer>();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Adds plugin number <i>i</i> to the index, if it declared its <i>headers</i>
+  **********************************************************************************************
+  **/
+  void addPlugin(int i, byte[][] headers, String[] extensions) {
+    if (headers == null || headers.length <= 0) {
+      return; // not declared, so it always needs to be rated
+    }
+
+    for (int h = 0; h < headers.length; h++) {
+      if (headers[h] == null || headers[h].length <= 0) {
+        return;
+      }
+    }
+
+    indexed[i] = true;
+    pluginHeaders[i] = headers;
+    Integer pluginNumber = new Integer(i);
+
+    for (int h = 0; h < headers.length; h++) {
+      ArrayList<Integer> bucket = headerBuckets[ByteConverter.unsign(headers[h][0])];
+      if (!bucket.contains(pluginNumber)) {
+        bucket.add(pluginNumber);
+      }
+    }
+
+    for (int e = 0; e < extensions.length; e++) {
+      ArrayList<Integer> bucket = extensionBuckets.get(extensions[e]);
+      if (bucket == null) {
+        bucket = new ArrayList<Integer>();
+        extensionBuckets.put(extensions[e], bucket);
+      }
+      bucket.add(pluginNumber);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Works out which plugins need to be rated against the file in the <i>snapshot</i>
+  @return true for each plugin (in the same order as the plugins array) that could match
+  **********************************************************************************************
+  **/
+  public boolean[] getCandidates(FileSnapshot snapshot) {
+    int numPlugins = plugins.length;
+    boolean[] candidates = new boolean[numPlugins];
+
+    for (int i = 0; i < numPlugins; i++) {
+      candidates[i] = !indexed[i];
+    }
+
+    // plugins where the extension matches (same check as FieldValidator.checkExtension())
+    File file = snapshot.getFile();
+    String extension = FilenameSplitter.getExtension(file).toLowerCase();
+    ArrayList<Integer> extensionBucket = extensionBuckets.get(extension);
+    if (extensionBucket != null) {
+      int numInBucket = extensionBucket.size();
+      for (int p = 0; p < numInBucket; p++) {
+        candidates[extensionBucket.get(p)] = true;
+      }
+    }
+
+    // plugins where one of the headers matches
+    byte[] header = snapshot.getHeader();
+    if (header.length > 0) {
+      ArrayList<Integer> headerBucket = headerBuckets[ByteConverter.unsign(header[0])];
+      int numInBucket = headerBucket.size();
+      for (int p = 0; p < numInBucket; p++) {
+        int pluginNumber = headerBucket.get(p);
+        if (candidates[pluginNumber]) {
+          continue;
+        }
+
+        byte[][] headers = pluginHeaders[pluginNumber];
+        for (int h = 0; h < headers.length; h++) {
+          if (startsWith(header, headers[h])) {
+            candidates[pluginNumber] = true;
+            break;
+          }
+        }
+      }
+    }
+
+    return candidates;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether this index was built for exactly the same <i>plugins</i> (or descriptors), in the same
+  order
+  **********************************************************************************************
+  **/
+  public boolean isFor(Object[] otherPlugins) {
+    if (otherPlugins.length != plugins.length) {
+      return false;
+    }
+
+    for (int i = 0; i < plugins.length; i++) {
+      if (otherPlugins[i] != plugins[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>data</i> starts with the <i>prefix</i>
+  **********************************************************************************************
+  **/
+  static boolean startsWith(byte[] data, byte[] prefix) {
+    if (data.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (data[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.util.concurrent.RecursiveAction;
+import org.watto.ErrorLogger;
+import org.watto.component.WSPlugin;
+import org.watto.io.FileManipulator;
+import org.watto.io.FileSnapshot;
+import org.watto.io.buffer.SnapshotBuffer;
+
+/**
+**********************************************************************************************
+Runs getMatchRating() for a range of ArchivePlugins against a shared FileSnapshot. Large ranges
+are split in half and run on the ForkJoinPool. Each range reads through its own FileManipulator,
+so the plugins never share a file pointer.
+**********************************************************************************************
+**/
+public class ArchivePluginRatingTask extends RecursiveAction {
+
+  /** serialVersionUID */
+  private static final long serialVersionUID = 1L;
+
+  /** the number of plugins to rate in a single task, before splitting it **/
+  static final int SPLIT_THRESHOLD = 32;
+
+  WSPlugin[] plugins;
+
+  /** the positions (in <i>plugins</i>) of the plugins that need to be rated **/
+  int[] candidates;
+
+  int start = 0;
+
+  int end = 0;
+
+  FileSnapshot snapshot;
+
+  /** the ratings are stored here, at the same position as the plugin in <i>plugins</i> **/
+  int[] ratings;
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public ArchivePluginRatingTask(WSPlugin[] plugins, int[] candidates, int start, int end, FileSnapshot snapshot, int[] ratings) {
+    this.plugins = plugins;
+    this.candidates = candidates;
+    this.start = start;
+    this.end = end;
+    this.snapshot = snapshot;
+    this.ratings = ratings;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  protected void compute() {
+    if (end - start > SPLIT_THRESHOLD) {
+      int middle = (start + end) / 2;
+      invokeAll(new ArchivePluginRatingTask(plugins, candidates, start, middle, snapshot, ratings),
+          new ArchivePluginRatingTask(plugins, candidates, middle, end, snapshot, ratings));
+      return;
+    }
+
+    FileManipulator fm = new FileManipulator(new SnapshotBuffer(snapshot));
+    fm.setFakeFile(snapshot.getFile());
+
+    for (int c = start; c < end; c++) {
+      int pluginNumber = candidates[c];
+      try {
+        fm.seek(0);
+        ratings[pluginNumber] = ((ArchivePlugin) plugins[pluginNumber]).getMatchRating(fm);
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+        ratings[pluginNumber] = 0;
+      }
+    }
+
+    fm.close();
+  }
+
+}
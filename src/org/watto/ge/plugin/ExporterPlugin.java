@@ -16,6 +16,8 @@ package org.watto.ge.plugin;
 
 import java.io.File;
 import java.io.OutputStream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 import org.watto.Language;
 import org.watto.component.WSObjectPlugin;
 import org.watto.datatype.Resource;
@@ -23,8 +25,23 @@ import org.watto.io.FileManipulator;
 
 public abstract class ExporterPlugin extends WSObjectPlugin {
 
+  /** the size of the buffer used when moving data with read(byte[],int,int) **/
+  public static final int BULK_BUFFER_SIZE = 131072;
+
   protected FileManipulator exportDestination;
 
+  /** copies of this exporter that aren't being used by a session at the moment **/
+  ConcurrentLinkedQueue<ExporterPlugin> idleInstances = null;
+
+  /** held by the session that is using this exporter directly, if it can't make copies of itself **/
+  ReentrantLock sessionLock = null;
+
+  /** the reader that left this exporter open part-way through a file when it unlocked the session (null if it was closed) **/
+  Object sessionOwner = null;
+
+  /** whether newThreadInstance() makes copies of this exporter (null if not checked yet) **/
+  Boolean supportsThreadInstances = null;
+
   /**
    **********************************************************************************************
    * false if the file has been read fully, true if there is more to read.
@@ -32,6 +49,52 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **/
   public abstract boolean available();
 
+  /**
+  **********************************************************************************************
+  Gets a copy of this exporter for one thread to use, either an idle copy from an earlier session
+  or a new one from newThreadInstance(). Returns null if this exporter can't make copies. Give the
+  copy back with releaseInstance() when finished with it.
+  **********************************************************************************************
+  **/
+  public ExporterPlugin borrowInstance() {
+    if (!canOpenParallelSessions()) {
+      return null;
+    }
+
+    ExporterPlugin instance = getIdleInstances().poll();
+    if (instance == null) {
+      instance = newThreadInstance();
+    }
+    return instance;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether this exporter can decompress a block of data that is already in memory, using
+  decompressBlock(). The default is false.
+  **********************************************************************************************
+  **/
+  public boolean canDecompressBlocks() {
+    return false;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether sessions for this exporter can run at the same time on different threads, because the
+  exporter can make copies of itself. If not, sessions take turns using this exporter.
+  **********************************************************************************************
+  **/
+  public boolean canOpenParallelSessions() {
+    if (supportsThreadInstances == null) {
+      ExporterPlugin instance = newThreadInstance();
+      supportsThreadInstances = (instance != null);
+      if (instance != null) {
+        getIdleInstances().offer(instance);
+      }
+    }
+    return supportsThreadInstances;
+  }
+
   /**
    **********************************************************************************************
    * Closes the file
@@ -51,6 +114,18 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
     open(source);
   }
 
+  /**
+  **********************************************************************************************
+  Decompresses the first <i>compLength</i> bytes of <i>compBytes</i> into <i>decompBytes</i>,
+  stopping after <i>decompLength</i> bytes. This doesn't use any of the state of the exporter, so
+  it can be called on several threads at once. Returns the number of bytes that were decompressed,
+  or -1 if the exporter can't do this (see canDecompressBlocks()).
+  **********************************************************************************************
+  **/
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    return -1;
+  }
+
   /**
   **********************************************************************************************
   
@@ -66,20 +141,25 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
   **********************************************************************************************
   **/
   public void extract(Resource source, FileManipulator destination) {
+    ExporterSession session = null;
     try {
-      this.exportDestination = destination;
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
 
-      open(source);
-      while (available()) {
-        destination.writeByte(read());
+      session = openSession(source, destination);
+      int bytesRead = session.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        destination.writeBytes(buffer, 0, bytesRead);
+        bytesRead = session.read(buffer, 0, BULK_BUFFER_SIZE);
       }
-      close();
-
-      this.exportDestination = null;
     }
     catch (Throwable t) {
       logError(t);
     }
+    finally {
+      if (session != null) {
+        session.close();
+      }
+    }
   }
 
   /**
@@ -88,16 +168,25 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **********************************************************************************************
    **/
   public void extract(Resource source, OutputStream destination) {
+    ExporterSession session = null;
     try {
-      open(source);
-      while (available()) {
-        destination.write(read());
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
+
+      session = openSession(source);
+      int bytesRead = session.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        destination.write(buffer, 0, bytesRead);
+        bytesRead = session.read(buffer, 0, BULK_BUFFER_SIZE);
       }
-      close();
     }
     catch (Throwable t) {
       logError(t);
     }
+    finally {
+      if (session != null) {
+        session.close();
+      }
+    }
   }
 
   /**
@@ -121,6 +210,94 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
 
   }
 
+  /**
+  **********************************************************************************************
+  Gets the queue of idle copies of this exporter, creating it if it doesn't exist yet
+  **********************************************************************************************
+  **/
+  synchronized ConcurrentLinkedQueue<ExporterPlugin> getIdleInstances() {
+    if (idleInstances == null) {
+      idleInstances = new ConcurrentLinkedQueue<ExporterPlugin>();
+    }
+    return idleInstances;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the closest point at or before the decompressed <i>offset</i> of the <i>source</i> where
+  this exporter can start reading, without reading everything before it. openAt() can then start
+  reading from this point. The default is 0, as most exporters can only read from the start.
+  **********************************************************************************************
+  **/
+  public long getRestartPoint(Resource source, long offset) {
+    return 0;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the lock for sessions that use this exporter directly, creating it if it doesn't exist yet
+  **********************************************************************************************
+  **/
+  synchronized ReentrantLock getSessionLock() {
+    if (sessionLock == null) {
+      sessionLock = new ReentrantLock();
+    }
+    return sessionLock;
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until no session is using this exporter, then keeps it for the current thread, for code
+  that has to use the shared exporter directly (such as when it can't make copies of itself).
+  Always call unlockSession() on the same thread when finished with it.
+  **********************************************************************************************
+  **/
+  public void lockSession() {
+    lockSession(null);
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until no session is using this exporter, then keeps it for the current thread on behalf
+  of the <i>owner</i>. Used by readers that take the lock for each call rather than keeping it
+  the whole time a file is open. If a different reader left the exporter open, it is closed
+  first. Always call unlockSession() on the same thread when finished.
+  @return true if the <i>owner</i> left the exporter open, and no-one has used it since, so it is
+          still where the owner left it
+  **********************************************************************************************
+  **/
+  public boolean lockSession(Object owner) {
+    getSessionLock().lock();
+
+    boolean sameOwner = (owner != null && sessionOwner == owner);
+    if (!sameOwner && sessionOwner != null) {
+      try {
+        close();
+      }
+      catch (Throwable t) {
+        logError(t);
+      }
+    }
+
+    sessionOwner = owner;
+    return sameOwner;
+  }
+
+  /**
+  **********************************************************************************************
+  Creates a new copy of this exporter that keeps its own state, so that it can export a different
+  Resource on another thread at the same time as this one. Returns null if the exporter can only
+  be used by one thread at a time, which is the default for all exporters.
+  <br><br>
+  Only override this if everything that open(), read(), available(), close() and pack() change is
+  held in fields of the instance (nothing static, and nothing shared with other instances), so
+  that the copy and this exporter never touch the same state.
+  **********************************************************************************************
+  **/
+  public ExporterPlugin newThreadInstance() {
+    return null;
+  }
+
   /**
    **********************************************************************************************
    * Opens the file for extracting
@@ -128,6 +305,55 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **/
   public abstract void open(Resource source);
 
+  /**
+  **********************************************************************************************
+  Closes the exporter, and opens the <i>source</i> again, ready to read from the decompressed
+  <i>restartPoint</i>, which must have come from getRestartPoint()
+  **********************************************************************************************
+  **/
+  public void openAt(Resource source, long restartPoint) {
+    closeAndReopen(source);
+  }
+
+  /**
+  **********************************************************************************************
+  Opens the <i>source</i> for reading in a new session. If this exporter can make copies of
+  itself, the session gets its own copy, otherwise it waits until no other session is using this
+  exporter. The session must be closed when it is finished with.
+  **********************************************************************************************
+  **/
+  public ExporterSession openSession(Resource source) {
+    return openSession(source, null);
+  }
+
+  /**
+  **********************************************************************************************
+  Opens a session, where the exporter is also told the <i>destination</i> that the data is being
+  written to (for exporters that need to know where the file is being exported)
+  **********************************************************************************************
+  **/
+  protected ExporterSession openSession(Resource source, FileManipulator destination) {
+    ExporterSession session;
+
+    ExporterPlugin instance = borrowInstance();
+    if (instance != null) {
+      session = new ExporterSession(this, instance, false);
+    }
+    else {
+      lockSession();
+      session = new ExporterSession(this, this, true);
+    }
+
+    try {
+      session.exporter.exportDestination = destination;
+      session.exporter.open(source);
+    }
+    catch (Throwable t) {
+      logError(t);
+    }
+    return session;
+  }
+
   /**
   **********************************************************************************************
   
@@ -135,6 +361,18 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
   **/
   public abstract void pack(Resource source, FileManipulator destination);
 
+  /**
+  **********************************************************************************************
+  Gives back a copy of this exporter that was taken with borrowInstance(), so it can be used
+  again by a later session
+  **********************************************************************************************
+  **/
+  public void releaseInstance(ExporterPlugin instance) {
+    if (instance != null && instance != this) {
+      getIdleInstances().offer(instance);
+    }
+  }
+
   /**
    **********************************************************************************************
    * Reads the next byte of data
@@ -142,4 +380,54 @@ public abstract class ExporterPlugin extends WSObjectPlugin {
    **/
   public abstract int read();
 
-}
\ No newline at end of file
+  /**
+   **********************************************************************************************
+   * Reads up to <i>length</i> bytes of data into the <i>buffer</i>, starting at <i>offset</i>.
+   * Works like InputStream.read(byte[],int,int), so callers can loop on this alone, without
+   * calling available() - it returns the number of bytes read, or -1 when there is nothing left.
+   * <br><br>
+   * This default just calls available() and read() for each byte, so it works for every
+   * exporter. Exporters that can copy whole blocks of data at once should override it.
+   **********************************************************************************************
+   **/
+  public int read(byte[] buffer, int offset, int length) {
+    if (length <= 0) {
+      return 0;
+    }
+
+    int bytesRead = 0;
+    while (bytesRead < length && available()) {
+      buffer[offset + bytesRead] = (byte) read();
+      bytesRead++;
+    }
+
+    if (bytesRead <= 0) {
+      return -1;
+    }
+    return bytesRead;
+  }
+
+  /**
+  **********************************************************************************************
+  Lets other sessions use this exporter again, after lockSession()
+  **********************************************************************************************
+  **/
+  public void unlockSession() {
+    unlockSession(false);
+  }
+
+  /**
+  **********************************************************************************************
+  Lets other sessions use this exporter again, after lockSession(owner). If <i>stillOpen</i>, the
+  owner is remembered, so that it can carry on reading from the same place if no-one else has
+  used the exporter by the time it locks it again.
+  **********************************************************************************************
+  **/
+  public void unlockSession(boolean stillOpen) {
+    if (!stillOpen) {
+      sessionOwner = null;
+    }
+    getSessionLock().unlock();
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import org.watto.ErrorLogger;
+
+/**
+**********************************************************************************************
+A single read of a Resource through an <i>ExporterPlugin</i>, from open() to close(). Each
+session has an exporter of its own, so several sessions can be reading from the same exporter
+(such as <i>Exporter_ZLib.getInstance()</i>) at the same time on different threads. For exporters
+that can't make copies of themselves, the session uses the shared exporter directly, and other
+sessions wait for it to be closed.
+<br><br>
+Use <i>ExporterPlugin.openSession(Resource)</i> to start a session, and always close() it when
+finished, so the exporter can be used by the next session.
+**********************************************************************************************
+**/
+public class ExporterSession {
+
+  /** the exporter that this session was opened from **/
+  ExporterPlugin owner;
+
+  /** the exporter doing the reading - either a copy of the owner, or the owner itself **/
+  ExporterPlugin exporter;
+
+  /** true if this session is using the owner directly, and is holding its session lock **/
+  boolean locked = false;
+
+  /** true once this session has been closed **/
+  boolean closed = false;
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  ExporterSession(ExporterPlugin owner, ExporterPlugin exporter, boolean locked) {
+    this.owner = owner;
+    this.exporter = exporter;
+    this.locked = locked;
+  }
+
+  /**
+  **********************************************************************************************
+  false if the file has been read fully, true if there is more to read.
+  **********************************************************************************************
+  **/
+  public boolean available() {
+    return exporter.available();
+  }
+
+  /**
+  **********************************************************************************************
+  Closes the file, and gives the exporter back to the owner so the next session can use it
+  **********************************************************************************************
+  **/
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    try {
+      exporter.close();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      exporter.exportDestination = null;
+      if (locked) {
+        owner.getSessionLock().unlock();
+      }
+      else {
+        owner.releaseInstance(exporter);
+      }
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the exporter that is doing the reading for this session
+  **********************************************************************************************
+  **/
+  public ExporterPlugin getExporter() {
+    return exporter;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the next byte of data
+  **********************************************************************************************
+  **/
+  public int read() {
+    return exporter.read();
+  }
+
+  /**
+  **********************************************************************************************
+  Reads up to <i>length</i> bytes of data into the <i>buffer</i>, starting at <i>offset</i>.
+  Returns the number of bytes read, or -1 when there is nothing left.
+  **********************************************************************************************
+  **/
+  public int read(byte[] buffer, int offset, int length) {
+    return exporter.read(buffer, offset, length);
+  }
+
+}
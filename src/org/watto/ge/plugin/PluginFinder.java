@@ -16,13 +16,131 @@ package org.watto.ge.plugin;
 
 import java.io.File;
 import org.watto.ErrorLogger;
+import org.watto.Settings;
 import org.watto.component.WSPlugin;
+import org.watto.component.WSPluginDescriptor;
 import org.watto.component.WSPluginGroup;
 import org.watto.component.WSPluginManager;
 import org.watto.io.FileManipulator;
+import org.watto.io.FileSnapshot;
+import org.watto.io.buffer.FileBuffer;
+import org.watto.io.buffer.MappedFileBuffer;
+import org.watto.task.TaskThreadPool;
 
 public class PluginFinder {
 
+  /** the number of bytes from the start and end of the file that are shared between the plugins when rating in parallel **/
+  static final int SNAPSHOT_SIZE = 65536;
+
+  /** the header/extension index of the ArchivePlugins, rebuilt if the loaded plugins change **/
+  static ArchivePluginIndex archiveIndex = null;
+
+  /**
+  **********************************************************************************************
+  Rates the ArchivePlugins against the <i>file</i> in parallel. The start and end of the file are
+  read once and shared by all the plugins, and plugins that can't match the header or extension
+  are skipped. The results are in the same order as when rating the plugins one at a time.
+  **********************************************************************************************
+  **/
+  public static RatedPlugin[] findArchivePluginsParallel(File file, WSPlugin[] plugins) {
+    FileSnapshot snapshot = new FileSnapshot(file, SNAPSHOT_SIZE, SNAPSHOT_SIZE);
+
+    boolean[] candidates = getArchiveIndex(plugins).getCandidates(snapshot);
+    return rateArchivePluginsParallel(snapshot, plugins, candidates);
+  }
+
+  /**
+  **********************************************************************************************
+  Rates the ArchivePlugins in the <i>group</i> against the <i>file</i> in parallel, when the group
+  was registered from the plugin manifest. The header/extension index is built from the
+  descriptors, so only the plugins that could match the file are loaded.
+  **********************************************************************************************
+  **/
+  public static RatedPlugin[] findArchivePluginsParallel(File file, WSPluginGroup group) {
+    FileSnapshot snapshot = new FileSnapshot(file, SNAPSHOT_SIZE, SNAPSHOT_SIZE);
+
+    WSPluginDescriptor[] descriptors = group.getDescriptors();
+    int numPlugins = descriptors.length;
+
+    boolean[] candidates = getArchiveIndex(descriptors).getCandidates(snapshot);
+
+    // load the candidates
+    WSPlugin[] plugins = new WSPlugin[numPlugins];
+    for (int i = 0; i < numPlugins; i++) {
+      if (candidates[i]) {
+        plugins[i] = group.getPlugin(descriptors[i].getCode());
+        if (!(plugins[i] instanceof ArchivePlugin)) {
+          candidates[i] = false; // couldn't be loaded, or is disabled
+        }
+      }
+    }
+
+    return rateArchivePluginsParallel(snapshot, plugins, candidates);
+  }
+
+  /**
+  **********************************************************************************************
+  Rates the <i>candidates</i> from the <i>plugins</i> against the file in the <i>snapshot</i>
+  **********************************************************************************************
+  **/
+  static RatedPlugin[] rateArchivePluginsParallel(FileSnapshot snapshot, WSPlugin[] plugins, boolean[] candidates) {
+    int numPlugins = plugins.length;
+
+    int[] candidateNumbers = new int[numPlugins];
+    int numCandidates = 0;
+    for (int i = 0; i < numPlugins; i++) {
+      if (candidates[i]) {
+        candidateNumbers[numCandidates] = i;
+        numCandidates++;
+      }
+    }
+
+    int[] ratings = new int[numPlugins];
+    TaskThreadPool.getForkJoinPool().invoke(new ArchivePluginRatingTask(plugins, candidateNumbers, 0, numCandidates, snapshot, ratings));
+
+    RatedPlugin[] results = new RatedPlugin[numCandidates];
+    int numResults = 0;
+    for (int c = 0; c < numCandidates; c++) {
+      int pluginNumber = candidateNumbers[c];
+      int rating = ratings[pluginNumber];
+      if (rating >= 25) {
+        results[numResults] = new RatedPlugin(plugins[pluginNumber], rating);
+        numResults++;
+      }
+    }
+
+    // resize the results array
+    RatedPlugin[] temp = results;
+    results = new RatedPlugin[numResults];
+    System.arraycopy(temp, 0, results, 0, numResults);
+
+    return results;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the index for the <i>plugins</i>, building a new one if the plugins have changed
+  **********************************************************************************************
+  **/
+  static synchronized ArchivePluginIndex getArchiveIndex(WSPlugin[] plugins) {
+    if (archiveIndex == null || !archiveIndex.isFor(plugins)) {
+      archiveIndex = new ArchivePluginIndex(plugins);
+    }
+    return archiveIndex;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the index for the plugin <i>descriptors</i>, building a new one if the plugins have changed
+  **********************************************************************************************
+  **/
+  static synchronized ArchivePluginIndex getArchiveIndex(WSPluginDescriptor[] descriptors) {
+    if (archiveIndex == null || !archiveIndex.isFor(descriptors)) {
+      archiveIndex = new ArchivePluginIndex(descriptors);
+    }
+    return archiveIndex;
+  }
+
   /**
   **********************************************************************************************
   does not do sorting!
@@ -48,7 +166,15 @@ public class PluginFinder {
       boolean checkRating = false;
 
       if (pluginType == ArchivePlugin.class) {
-        plugins = WSPluginManager.getGroup("Archive").getPlugins();
+        WSPluginGroup group = WSPluginManager.getGroup("Archive");
+        if (group.hasUnloadedPlugins() && (fm.getBuffer() instanceof FileBuffer || fm.getBuffer() instanceof MappedFileBuffer) && Settings.getBoolean("ParallelPluginDetection")) {
+          // registered from the plugin manifest - only load the plugins that could match
+          File file = fm.getFile();
+          fm.close();
+          return findArchivePluginsParallel(file, group);
+        }
+
+        plugins = group.getPlugins();
         checkRating = true;
       }
       else if (pluginType == ViewerPlugin.class) {
@@ -62,6 +188,13 @@ public class PluginFinder {
         checkRating = true;
       }
 
+      if (pluginType == ArchivePlugin.class && (fm.getBuffer() instanceof FileBuffer || fm.getBuffer() instanceof MappedFileBuffer) && Settings.getBoolean("ParallelPluginDetection")) {
+        // a real file on disk, so we can share it between threads
+        File file = fm.getFile();
+        fm.close();
+        return findArchivePluginsParallel(file, plugins);
+      }
+
       RatedPlugin[] results = new RatedPlugin[plugins.length];
       int zeroPos = plugins.length - 1;
       int startPos = 0;
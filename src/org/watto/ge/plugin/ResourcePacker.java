@@ -0,0 +1,356 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.exporter.Exporter_Default;
+import org.watto.io.FileManipulator;
+import org.watto.io.buffer.PackBuffer;
+import org.watto.task.TaskProgressManager;
+import org.watto.task.TaskThreadPool;
+
+/**
+**********************************************************************************************
+Packs the resources of an archive on the worker threads, while they're written into the archive
+in order on the current thread. <br>
+<br>
+Each worker packs a resource (ie compresses it) into a PackBuffer in memory, using its own copy
+of the exporter. A few resources ahead of the one being written are packed at the same time, in
+a ring - as each buffer is written into the archive, the worker starts on the next resource. The
+buffers are kept and used again, so only a few of them are ever made. The buffers never take more
+than <i>ParallelWriteMaximumMemory</i> bytes between them, so fewer resources are packed ahead
+when they're large. <br>
+<br>
+Resources that are larger than the <i>ParallelWriteMaximumFileSize</i> aren't packed into memory
+- they're packed straight into the archive when it's their turn, while the workers carry on with
+the resources after them. <br>
+<br>
+Every resource is packed the same way as it would be by ArchivePlugin.write(), so the archive is
+exactly the same as if it were written one resource at a time.
+**********************************************************************************************
+**/
+public class ResourcePacker {
+
+  /**
+  **********************************************************************************************
+  Whether the <i>resources</i> can be packed on several threads with the <i>exporter</i>. The
+  Exporter_Default doesn't change the data, so packing with it is only copying - it's quicker to
+  copy straight into the archive than to copy through the buffers.
+  **********************************************************************************************
+  **/
+  public static boolean canPackInParallel(ExporterPlugin exporter, Resource[] resources) {
+    if (resources.length < 2 || ForkJoinTask.inForkJoinPool() || TaskThreadPool.getThreadCount() < 2) {
+      return false;
+    }
+    if (exporter.getClass() == Exporter_Default.class) {
+      return false;
+    }
+    if (!Settings.getBoolean("ParallelArchiveWriting")) {
+      return false;
+    }
+    return exporter.canOpenParallelSessions();
+  }
+
+  ExporterPlugin exporter;
+
+  Resource[] resources;
+
+  FileManipulator destination;
+
+  /** Resources larger than this are packed straight into the archive **/
+  long maximumFileSize = 0;
+
+  /** The number of resources that are packed at the same time **/
+  int ringSize = 1;
+
+  ForkJoinTask<PackBuffer>[] ringTasks;
+
+  /** The buffer that each resource in the ring is packed into **/
+  PackBuffer[] ringBuffers;
+
+  /** The memory taken by the buffer of each resource in the ring **/
+  long[] ringReserved;
+
+  /** The next resource to be packed on a worker **/
+  int nextSubmit = 0;
+
+  /** The most memory that the buffers can take between them **/
+  long maximumPackingSize = 0;
+
+  /** The memory taken by the buffers of the resources in the ring **/
+  long packingSize = 0;
+
+  /** Buffers that have been written into the archive, ready to be used again. Only used on the current thread. **/
+  ArrayDeque<PackBuffer> idleBuffers = new ArrayDeque<PackBuffer>();
+
+  /** The memory taken by the idleBuffers **/
+  long idleSize = 0;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ResourcePacker(ExporterPlugin exporter, Resource[] resources, FileManipulator destination) {
+    this.exporter = exporter;
+    this.resources = resources;
+    this.destination = destination;
+
+    maximumFileSize = Settings.getLong("ParallelWriteMaximumFileSize");
+    if (maximumFileSize <= 0) {
+      maximumFileSize = 33554432;
+    }
+
+    maximumPackingSize = Settings.getLong("ParallelWriteMaximumMemory");
+    if (maximumPackingSize <= 0) {
+      maximumPackingSize = 134217728;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets an empty buffer, either one that has been used before or a new one
+  **********************************************************************************************
+  **/
+  PackBuffer getBuffer(long decompLength) {
+    PackBuffer buffer = idleBuffers.poll();
+    if (buffer == null) {
+      buffer = new PackBuffer(getBufferSize(decompLength));
+    }
+    else {
+      idleSize -= buffer.getCapacity();
+      buffer.reset();
+    }
+    return buffer;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the size of a new buffer for a resource with the <i>decompLength</i>
+  **********************************************************************************************
+  **/
+  int getBufferSize(long decompLength) {
+    return (int) Math.max(ExporterPlugin.BULK_BUFFER_SIZE, Math.min(decompLength, maximumFileSize));
+  }
+
+  /**
+  **********************************************************************************************
+  Packs the resource <i>number</i> into the <i>buffer</i>. This runs on a worker thread, so it
+  uses a copy of the exporter, and a copy of the exporter that reads the resource if there is
+  one. If the resource can only be read with the shared exporter, it waits until no-one else is
+  using it.
+  **********************************************************************************************
+  **/
+  PackBuffer pack(int number, PackBuffer buffer) {
+    ExporterPlugin packer = exporter.borrowInstance();
+    if (packer == null) {
+      return null;
+    }
+
+    Resource resource = resources[number];
+
+    ExporterPlugin readExporter = resource.getExporter();
+    ExporterPlugin reader = null;
+    boolean readLocked = false;
+
+    Resource source = resource;
+    if (resource.getClass() == Resource.class) {
+      reader = readExporter.borrowInstance();
+    }
+    if (reader != null) {
+      source = (Resource) resource.clone();
+      source.setExporter(reader);
+    }
+    else {
+      readExporter.lockSession();
+      readLocked = true;
+    }
+
+    try {
+      packer.pack(source, new FileManipulator(buffer));
+      return buffer;
+    }
+    finally {
+      if (readLocked) {
+        readExporter.unlockSession();
+      }
+      if (reader != null) {
+        readExporter.releaseInstance(reader);
+      }
+      exporter.releaseInstance(packer);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Packs the resource <i>number</i> straight into the archive, on the current thread. The workers
+  could be reading other resources with the same exporter, so this waits until they're finished
+  with it.
+  **********************************************************************************************
+  **/
+  long packDirectly(int number) {
+    Resource resource = resources[number];
+    ExporterPlugin readExporter = resource.getExporter();
+    readExporter.lockSession();
+    try {
+      return ArchivePlugin.write(exporter, resource, destination);
+    }
+    finally {
+      readExporter.unlockSession();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Keeps the <i>buffer</i> of a resource that has been written into the archive, so it can be
+  used again, unless keeping it would take more than the memory allowed for the buffers
+  **********************************************************************************************
+  **/
+  void releaseBuffer(PackBuffer buffer) {
+    long capacity = buffer.getCapacity();
+    if (capacity <= maximumFileSize && packingSize + idleSize + capacity <= maximumPackingSize) {
+      idleBuffers.offer(buffer);
+      idleSize += capacity;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Starts packing the resource <i>number</i> into the <i>buffer</i> on a worker thread
+  **********************************************************************************************
+  **/
+  void submit(final int number, final PackBuffer buffer) {
+    int slot = number % ringSize;
+    ringBuffers[slot] = buffer;
+    ringReserved[slot] = buffer.getCapacity();
+    packingSize += ringReserved[slot];
+
+    ringTasks[slot] = TaskThreadPool.getForkJoinPool().submit(new Callable<PackBuffer>() {
+
+      @Override
+      public PackBuffer call() throws Exception {
+        return pack(number, buffer);
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Starts packing the resources after the <i>firstResource</i> on the worker threads, until the
+  ring is full, or their buffers would take more than the memory allowed. Resources that are too
+  large to pack into memory are left to be packed straight into the archive. If nothing is being
+  packed, the next resource is always started, even if its buffer is larger than allowed.
+  **********************************************************************************************
+  **/
+  void submitAhead(int firstResource) {
+    if (nextSubmit < firstResource) {
+      nextSubmit = firstResource; // the resources before it have already been written
+    }
+
+    int lastResource = Math.min(resources.length, firstResource + ringSize);
+    while (nextSubmit < lastResource) {
+      int number = nextSubmit;
+      int slot = number % ringSize;
+
+      long decompLength = resources[number].getDecompressedLength();
+      if (decompLength > maximumFileSize) {
+        ringTasks[slot] = null; // packed straight into the archive when it's this resource's turn
+        nextSubmit++;
+        continue;
+      }
+
+      PackBuffer idleBuffer = idleBuffers.peek();
+      long size = (idleBuffer != null) ? idleBuffer.getCapacity() : getBufferSize(decompLength);
+      if (packingSize > 0 && packingSize + size > maximumPackingSize) {
+        return; // wait until some of the buffers have been written into the archive
+      }
+
+      submit(number, getBuffer(decompLength));
+      nextSubmit++;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Packs all the resources, and writes them into the archive in order
+  @param offsets if not null, the offset in the archive where each resource was written is put in
+         this array
+  @return the length of each resource in the archive
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("unchecked")
+  public long[] write(long[] offsets) {
+    int numResources = resources.length;
+    long[] compLengths = new long[numResources];
+
+    ringSize = Math.min(numResources, TaskThreadPool.getThreadCount() * 2);
+    ringTasks = new ForkJoinTask[ringSize];
+    ringBuffers = new PackBuffer[ringSize];
+    ringReserved = new long[ringSize];
+    nextSubmit = 0;
+    submitAhead(0);
+
+    for (int i = 0; i < numResources; i++) {
+      int slot = i % ringSize;
+
+      PackBuffer buffer = null;
+      ForkJoinTask<PackBuffer> task = ringTasks[slot];
+      PackBuffer slotBuffer = ringBuffers[slot];
+      ringTasks[slot] = null;
+      ringBuffers[slot] = null;
+      if (task != null) {
+        try {
+          buffer = task.join();
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+          buffer = null;
+        }
+      }
+
+      if (offsets != null) {
+        offsets[i] = destination.getOffset();
+      }
+
+      if (buffer != null) {
+        int length = (int) buffer.length();
+        destination.writeBytes(buffer.getBuffer(), 0, length);
+        compLengths[i] = length;
+      }
+      else {
+        // too large to pack into memory (or it couldn't be packed on a worker), so pack it straight into the archive
+        compLengths[i] = packDirectly(i);
+      }
+
+      if (slotBuffer != null) {
+        packingSize -= ringReserved[slot];
+        ringReserved[slot] = 0;
+        releaseBuffer(slotBuffer);
+      }
+
+      TaskProgressManager.setValue(i);
+
+      submitAhead(i + 1);
+    }
+
+    return compLengths;
+  }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.ge.plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.watto.ErrorLogger;
+import org.watto.datatype.Resource;
+import org.watto.io.FileManipulator;
+import org.watto.io.PatternSearcher;
+import org.watto.task.TaskProgressManager;
+import org.watto.task.TaskThreadPool;
+
+/**
+**********************************************************************************************
+Finds files inside an archive using the <code>ScannerPlugin</code>s. The signatures of all the
+scanners are found in a single pass, and each scanner is only called at the offsets where one
+of its signatures was found. The archive is split into chunks, which are searched and scanned
+on the worker threads, and the results are joined together in order, so the same files are found
+as if the archive was scanned 1 byte at a time.
+**********************************************************************************************
+**/
+public class ScannerEngine {
+
+  /** The size of each chunk of the archive that is scanned by a worker thread **/
+  static final long CHUNK_SIZE = 8388608;
+
+  /** The scanners, in the order they're called **/
+  ScannerPlugin[] scanners;
+
+  /** Finds the signatures of all the scanners **/
+  PatternSearcher searcher;
+
+  /** For each signature in the <code>searcher</code>, the scanner it belongs to **/
+  int[] signatureScanners;
+
+  /** The scanners that don't have a signature, so are called for every byte **/
+  boolean[] everyByte;
+
+  /** Whether any scanner is in <code>everyByte</code> **/
+  boolean hasEveryByteScanners = false;
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public ScannerEngine(ScannerPlugin[] scanners) {
+    this.scanners = scanners;
+
+    int numScanners = scanners.length;
+    everyByte = new boolean[numScanners];
+
+    ArrayList<byte[]> signatures = new ArrayList<byte[]>();
+    ArrayList<Integer> owners = new ArrayList<Integer>();
+
+    for (int s = 0; s < numScanners; s++) {
+      byte[][] scannerSignatures = scanners[s].getSignatures();
+      if (scannerSignatures == null || scannerSignatures.length == 0) {
+        everyByte[s] = true;
+        hasEveryByteScanners = true;
+        continue;
+      }
+
+      for (int i = 0; i < scannerSignatures.length; i++) {
+        signatures.add(scannerSignatures[i]);
+        owners.add(s);
+      }
+    }
+
+    int numSignatures = signatures.size();
+    signatureScanners = new int[numSignatures];
+    for (int i = 0; i < numSignatures; i++) {
+      signatureScanners[i] = owners.get(i);
+    }
+
+    searcher = new PatternSearcher(signatures.toArray(new byte[numSignatures][]));
+  }
+
+  /**
+  **********************************************************************************************
+  Scans the <i>path</i> for files. The found <code>Resource</code>s have their source and name set
+  @param path the archive to scan
+  @param maxResources the most <code>Resource</code>s to find
+  @return the found <code>Resource</code>s, in the order they appear in the archive
+  **********************************************************************************************
+  **/
+  public Resource[] scan(final File path, int maxResources) {
+    long arcSize = path.length();
+    int numChunks = (int) ((arcSize + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+    // search and scan all the chunks at the same time. Each chunk is scanned as if nothing was found before it.
+    ForkJoinPool pool = TaskThreadPool.getForkJoinPool();
+    ArrayList<Future<ScannerChunk>> results = new ArrayList<Future<ScannerChunk>>(numChunks);
+    for (int c = 0; c < numChunks; c++) {
+      final long chunkStart = c * CHUNK_SIZE;
+      final long chunkEnd = Math.min(arcSize, chunkStart + CHUNK_SIZE);
+
+      results.add(pool.submit(new Callable<ScannerChunk>() {
+
+        @Override
+        public ScannerChunk call() {
+          ScannerChunk chunk = new ScannerChunk(path, chunkStart, chunkEnd);
+          chunk.findCandidates();
+          chunk.scanCandidates(chunkStart);
+          return chunk;
+        }
+      }));
+    }
+
+    // join the chunks together in order
+    ArrayList<Resource> resources = new ArrayList<Resource>();
+    long nextOffset = 0; // files found in earlier chunks cover everything before this offset
+
+    try {
+      for (int c = 0; c < numChunks; c++) {
+        ScannerChunk chunk = results.get(c).get();
+
+        if (chunk.foundBefore(nextOffset)) {
+          // a file from an earlier chunk runs into this chunk, and this chunk found something inside it, so scan this chunk again after the earlier file
+          chunk.scanCandidates(nextOffset);
+        }
+
+        for (int r = 0; r < chunk.numFound && resources.size() < maxResources; r++) {
+          Resource resource = chunk.found[r];
+          resource.setSource(path);
+          resource.setName(Resource.generateFilename(resources.size()) + resource.getName());
+          resources.add(resource);
+        }
+
+        if (chunk.nextOffset > nextOffset) {
+          nextOffset = chunk.nextOffset;
+        }
+
+        if (resources.size() >= maxResources) {
+          for (int f = c + 1; f < numChunks; f++) {
+            results.get(f).cancel(false);
+          }
+          break;
+        }
+
+        TaskProgressManager.setValue(chunk.end);
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+
+    return resources.toArray(new Resource[resources.size()]);
+  }
+
+  /**
+  **********************************************************************************************
+  A chunk of the archive, with the signatures that were found in it, and the files that the
+  scanners found at those signatures
+  **********************************************************************************************
+  **/
+  class ScannerChunk {
+
+    File path;
+
+    long start;
+
+    long end;
+
+    /** The offsets where a signature was found, in order **/
+    long[] candidateOffsets = new long[16];
+
+    /** The scanner that each signature in <code>candidateOffsets</code> belongs to **/
+    int[] candidateScanners = new int[16];
+
+    int numCandidates = 0;
+
+    /** The files found by the scanners **/
+    Resource[] found = new Resource[4];
+
+    /** The offsets where the scanner was called for each file in <code>found</code> **/
+    long[] foundOffsets = new long[4];
+
+    int numFound = 0;
+
+    /** The offset after the last found file, or the end of the chunk **/
+    long nextOffset;
+
+    /**
+    **********************************************************************************************
+    
+    **********************************************************************************************
+    **/
+    public ScannerChunk(File path, long start, long end) {
+      this.path = path;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+    **********************************************************************************************
+    Finds the offsets of all the signatures in this chunk
+    **********************************************************************************************
+    **/
+    void findCandidates() {
+      if (searcher.getNumPatterns() == 0) {
+        return;
+      }
+
+      searcher.search(path, start, end, new PatternSearcher.MatchListener() {
+
+        @Override
+        public boolean matchFound(int pattern, long offset) {
+          if (numCandidates == candidateOffsets.length) {
+            candidateOffsets = Arrays.copyOf(candidateOffsets, numCandidates * 2);
+            candidateScanners = Arrays.copyOf(candidateScanners, numCandidates * 2);
+          }
+          candidateOffsets[numCandidates] = offset;
+          candidateScanners[numCandidates] = signatureScanners[pattern];
+          numCandidates++;
+          return true;
+        }
+      });
+    }
+
+    /**
+    **********************************************************************************************
+    Whether a file was found by a scanner that was called before <i>offset</i>
+    **********************************************************************************************
+    **/
+    boolean foundBefore(long offset) {
+      return numFound > 0 && foundOffsets[0] < offset;
+    }
+
+    /**
+    **********************************************************************************************
+    Calls the scanners at each candidate offset from <i>startOffset</i> to the end of the chunk,
+    in the same order as they would be called when scanning 1 byte at a time. When a file is
+    found, scanning continues from the end of that file.
+    **********************************************************************************************
+    **/
+    void scanCandidates(long startOffset) {
+      numFound = 0;
+      nextOffset = Math.max(startOffset, end);
+
+      if (startOffset >= end) {
+        return;
+      }
+
+      int numScanners = scanners.length;
+      boolean[] callScanner = new boolean[numScanners];
+
+      FileManipulator fm = new FileManipulator(path, false);
+      try {
+        long offset = startOffset;
+        int c = 0;
+
+        while (offset < end) {
+          // skip the candidates before this offset
+          while (c < numCandidates && candidateOffsets[c] < offset) {
+            c++;
+          }
+
+          if (!hasEveryByteScanners) {
+            // jump to the next signature
+            if (c >= numCandidates) {
+              break;
+            }
+            offset = candidateOffsets[c];
+          }
+
+          // work out which scanners to call at this offset
+          for (int s = 0; s < numScanners; s++) {
+            callScanner[s] = everyByte[s];
+          }
+          while (c < numCandidates && candidateOffsets[c] == offset) {
+            callScanner[candidateScanners[c]] = true;
+            c++;
+          }
+
+          long next = offset + 1;
+          for (int s = 0; s < numScanners; s++) {
+            if (!callScanner[s]) {
+              continue;
+            }
+
+            try {
+              fm.seek(offset);
+              int b = fm.readByte();
+
+              // scan the current byte, and if successful continue scanning for a file
+              // return a non-null resource if a file was found
+              Resource resource = scanners[s].scan(b, fm);
+              if (resource != null) {
+                addFound(resource, offset);
+                if (fm.getOffset() > next) {
+                  next = fm.getOffset();
+                }
+                break;
+              }
+            }
+            catch (Throwable t) {
+              // scanner failed on this byte
+            }
+          }
+
+          offset = next;
+        }
+
+        if (offset > nextOffset) {
+          nextOffset = offset;
+        }
+      }
+      finally {
+        fm.close();
+      }
+    }
+
+    /**
+    **********************************************************************************************
+    
+    **********************************************************************************************
+    **/
+    void addFound(Resource resource, long offset) {
+      if (numFound == found.length) {
+        found = Arrays.copyOf(found, numFound * 2);
+        foundOffsets = Arrays.copyOf(foundOffsets, numFound * 2);
+      }
+      found[numFound] = resource;
+      foundOffsets[numFound] = offset;
+      numFound++;
+    }
+  }
+
+}
@@ -44,11 +44,25 @@ public abstract class ScannerPlugin extends WSObjectPlugin {
     return toString() + "\n\n" + Language.get("Description_ScannerPlugin");
   }
 
+  /**
+  **********************************************************************************************
+  The bytes that every file found by this scanner starts with. The scanner is only given the
+  offsets in the archive where one of these signatures is found, so scanning doesn't need to call
+  every scanner for every byte. Returns null if the scanner has no signature, in which case it is
+  called for every byte, as before.
+  **********************************************************************************************
+  **/
+  public byte[][] getSignatures() {
+    return null;
+  }
+
   /**
   **********************************************************************************************
   Tests the input byte b, and if it is recognized by this scanner then it can read onwards using
   the fm FileManipulator. If an invalid input occurs while reading from the fm, it returns null,
-  otherwise it returns the new Resource with the information about the found file.
+  otherwise it returns the new Resource with the information about the found file. Archives are
+  scanned in chunks on several threads, so this can be called by several threads at once, and
+  shouldn't store anything in fields.
   **********************************************************************************************
   **/
   public abstract Resource scan(int b, FileManipulator fm);
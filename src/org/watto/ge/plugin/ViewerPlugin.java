@@ -15,6 +15,7 @@
 package org.watto.ge.plugin;
 
 import java.io.File;
+import java.util.concurrent.locks.ReentrantLock;
 import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.component.PreviewPanel;
@@ -29,6 +30,9 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
   /** quick access to the field validator **/
   static FieldValidator check = new FieldValidator();
 
+  /** Held while a file is being read by a viewer that isn't thread-safe - see lockReading(viewer) **/
+  static ReentrantLock readingLock = new ReentrantLock();
+
   /**
    **********************************************************************************************
    * Records the error/exception stack trace in the log file. If debug is enabled, it will also
@@ -55,6 +59,9 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
   /** true if the format read by this plugin is a standard or commonly-used format, false if proprietary **/
   boolean standardFileFormat = false;
 
+  /** true if this plugin can read several files at once, on different threads **/
+  boolean threadSafe = false;
+
   /**
    **********************************************************************************************
    * Constructor
@@ -321,6 +328,35 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
     return standardFileFormat;
   }
 
+  /**
+  **********************************************************************************************
+  Can this plugin read several files at once, on different threads? Only plugins that keep
+  nothing in their fields, in static classes (eg the PaletteManager), or in shared exporters while
+  reading a file can allow this.
+  **********************************************************************************************
+  **/
+  public boolean isThreadSafe() {
+    return threadSafe;
+  }
+
+  /**
+  **********************************************************************************************
+  Waits until the <i>viewer</i> can read a file on this thread. The viewers are shared by all
+  threads, and many of them keep state in their fields or in static classes (eg the
+  PaletteManager), so the viewers that aren't thread-safe read one file at a time, waiting for
+  each other. Viewers that are thread-safe don't wait at all. Always call unlockReading(viewer)
+  with the same viewer when finished. <br>
+  <br>
+  This is taken before any exporter lock (eg by an ExporterByteBuffer that is read by the viewer),
+  never while one is held.
+  **********************************************************************************************
+  **/
+  public static void lockReading(ViewerPlugin viewer) {
+    if (viewer == null || !viewer.isThreadSafe()) {
+      readingLock.lock();
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -396,6 +432,26 @@ public abstract class ViewerPlugin extends WSObjectPlugin {
     this.standardFileFormat = standardFileFormat;
   }
 
+  /**
+  **********************************************************************************************
+  Sets whether this plugin can read several files at once, on different threads
+  **********************************************************************************************
+  **/
+  public void setThreadSafe(boolean threadSafe) {
+    this.threadSafe = threadSafe;
+  }
+
+  /**
+  **********************************************************************************************
+  Lets other threads read files with the viewers again, after lockReading(viewer)
+  **********************************************************************************************
+  **/
+  public static void unlockReading(ViewerPlugin viewer) {
+    if (viewer == null || !viewer.isThreadSafe()) {
+      readingLock.unlock();
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -47,6 +47,7 @@ public class Plugin_0000_package extends ArchivePlugin {
         "Adventures Of Sherlock Holmes: The Case Of The Silver Earring");
     setExtensions("0000");
     setPlatforms("PC");
+    setMatchHeaders("package");
 
   }
 
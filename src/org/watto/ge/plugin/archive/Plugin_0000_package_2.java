@@ -46,6 +46,7 @@ public class Plugin_0000_package_2 extends ArchivePlugin {
     setGames("80 Days");
     setExtensions("0000");
     setPlatforms("PC");
+    setMatchHeaders("package");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_000_FFIJ extends ArchivePlugin {
     setGames("Afterlife");
     setExtensions("000");
     setPlatforms("PC");
+    setMatchHeaders("FFIJ");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_000_MOON extends ArchivePlugin {
     setGames("Mr Robot");
     setExtensions("000");
     setPlatforms("PC");
+    setMatchHeaders("MOON");
 
     //setFileTypes("","",
     //             "",""
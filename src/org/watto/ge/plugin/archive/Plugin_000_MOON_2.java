@@ -44,6 +44,7 @@ public class Plugin_000_MOON_2 extends ArchivePlugin {
     setGames("Starscape");
     setExtensions("000");
     setPlatforms("PC");
+    setMatchHeaders("MOON");
 
     //setFileTypes("","",
     //             "",""
@@ -50,6 +50,7 @@ public class Plugin_001_TCLF extends ArchivePlugin {
     setGames("Twilight");
     setExtensions("001");
     setPlatforms("PC");
+    setMatchHeaders("TCLF");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_22K_CGDS extends ArchivePlugin {
     setGames("Esoteria");
     setExtensions("22k");
     setPlatforms("PC");
+    setMatchHeaders("cgds");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_3DN_DESTAN extends ArchivePlugin {
     setGames("Burn");
     setExtensions("3dn"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Destan file format, Michal Tatka 2005");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
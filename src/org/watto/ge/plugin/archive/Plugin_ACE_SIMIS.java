@@ -50,6 +50,7 @@ public class Plugin_ACE_SIMIS extends ArchivePlugin {
     setGames("Microsoft Train Simulator");
     setExtensions("ace");
     setPlatforms("PC");
+    setMatchHeaders("SIMISA@F");
 
     setFileTypes("ace", "Ace Image");
 
@@ -50,6 +50,7 @@ public class Plugin_AGE3SCN_L33T extends ArchivePlugin {
     setGames("Age Of Empires 3");
     setExtensions("age3scn");
     setPlatforms("PC");
+    setMatchHeaders("l33t");
 
     setFileTypes("scn", "Decompressed Scenario");
 
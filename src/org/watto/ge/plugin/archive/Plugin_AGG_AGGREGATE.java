@@ -47,6 +47,7 @@ public class Plugin_AGG_AGGREGATE extends ArchivePlugin {
     setGames("Dangerous Waters");
     setExtensions("agg"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Aggregate ");
 
     //setFileTypes("","",
     //             "",""
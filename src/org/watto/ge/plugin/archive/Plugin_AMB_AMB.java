@@ -43,6 +43,7 @@ public class Plugin_AMB_AMB extends ArchivePlugin {
     setGames("Sonic the Hedgehog 4");
     setExtensions("amb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("#AMB");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
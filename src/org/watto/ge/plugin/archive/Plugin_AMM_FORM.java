@@ -49,6 +49,7 @@ public class Plugin_AMM_FORM extends ArchivePlugin {
     setExtensions("amm", "atl");
     setGames("Army Men: Toys In Space");
     setPlatforms("PC");
+    setMatchHeaders("FORM");
 
   }
 
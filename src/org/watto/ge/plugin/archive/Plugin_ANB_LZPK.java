@@ -48,6 +48,7 @@ public class Plugin_ANB_LZPK extends ArchivePlugin {
     setGames("Addiction Pinball");
     setExtensions("anb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("LZPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
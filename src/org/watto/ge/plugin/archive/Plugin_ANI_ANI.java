@@ -47,6 +47,7 @@ public class Plugin_ANI_ANI extends ArchivePlugin {
     setGames("Chill Manor");
     setExtensions("ani");
     setPlatforms("PC");
+    setMatchHeaders("ANI ");
 
   }
 
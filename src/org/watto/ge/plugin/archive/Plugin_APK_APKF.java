@@ -49,6 +49,7 @@ public class Plugin_APK_APKF extends ArchivePlugin {
         "Kung Fu Panda");
     setExtensions("apk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("APKF");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tex", "Texture Image", FileType.TYPE_IMAGE));
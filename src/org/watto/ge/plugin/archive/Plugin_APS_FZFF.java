@@ -50,6 +50,7 @@ public class Plugin_APS_FZFF extends ArchivePlugin {
     setGames("Hidden Strike 2");
     setExtensions("aps");
     setPlatforms("PC");
+    setMatchHeaders("FZFF");
 
   }
 
@@ -58,6 +58,7 @@ public class Plugin_ARCH00_LTAR extends ArchivePlugin {
         "SAS: Secure Tomorrow");
     setExtensions("arch00", "arch01", "arch05");
     setPlatforms("PC");
+    setMatchHeaders("LTAR");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("anmtree00p", "Animation Tree", FileType.TYPE_OTHER),
@@ -43,6 +43,7 @@ public class Plugin_ARCHIVE_ARCH extends ArchivePlugin {
     setGames("Deus Ex: Mankind Divided");
     setExtensions("archive"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ARCH");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_ARC_0AK extends ArchivePlugin {
     setGames("Hegemony: Philip Of Macedon");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("0AK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
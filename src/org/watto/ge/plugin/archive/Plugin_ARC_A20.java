@@ -43,6 +43,7 @@ public class Plugin_ARC_A20 extends ArchivePlugin {
     setGames("Silent Hill: Origins");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("A2.0");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
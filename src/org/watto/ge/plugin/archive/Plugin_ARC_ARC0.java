@@ -46,6 +46,7 @@ public class Plugin_ARC_ARC0 extends ArchivePlugin {
     setGames("Big Mutha Truckers");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("PS2");
+    setMatchHeaders("ARC0");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("arc_tex", "Texture Image", FileType.TYPE_IMAGE));
@@ -47,6 +47,7 @@ public class Plugin_ARC_ARCC extends ArchivePlugin {
     setGames("Street Racing Syndicate");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ARCC");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("arc_tex", "Texture Image", FileType.TYPE_IMAGE),
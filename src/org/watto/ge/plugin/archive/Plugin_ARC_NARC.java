@@ -43,6 +43,7 @@ public class Plugin_ARC_NARC extends ArchivePlugin {
     setGames("Nintendo DS");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("NDS");
+    setMatchHeaders("NARC");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
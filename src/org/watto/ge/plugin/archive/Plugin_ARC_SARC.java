@@ -45,6 +45,7 @@ public class Plugin_ARC_SARC extends ArchivePlugin {
     setGames("Mii Maker");
     setExtensions("arc"); // MUST BE LOWER CASE
     setPlatforms("Wii U");
+    setMatchHeaders("SARC");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
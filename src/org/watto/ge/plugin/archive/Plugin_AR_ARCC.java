@@ -47,6 +47,7 @@ public class Plugin_AR_ARCC extends ArchivePlugin {
     setGames("Big Mutha Truckers 2: Truck Me Harder");
     setExtensions("ar");
     setPlatforms("PC");
+    setMatchHeaders("ARCC");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_AR_ARES extends ArchivePlugin {
     setGames("Midtown Madness");
     setExtensions("ar");
     setPlatforms("PC");
+    setMatchHeaders("ARES");
 
     setFileTypes("msh", "Object Mesh",
         "bnd", "Object Bindings",
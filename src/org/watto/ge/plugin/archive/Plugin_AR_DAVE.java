@@ -48,6 +48,7 @@ public class Plugin_AR_DAVE extends ArchivePlugin {
     setGames("Midtown Madness 2");
     setExtensions("ar");
     setPlatforms("PC");
+    setMatchHeaders("DAVE");
 
   }
 
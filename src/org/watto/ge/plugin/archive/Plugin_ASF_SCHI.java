@@ -47,6 +47,7 @@ public class Plugin_ASF_SCHI extends ArchivePlugin {
     setGames("NHL 2001");
     setExtensions("asf"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("SCHl");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
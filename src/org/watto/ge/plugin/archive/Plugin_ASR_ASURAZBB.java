@@ -47,6 +47,7 @@ public class Plugin_ASR_ASURAZBB extends ArchivePlugin {
     setGames("Strange Brigade");
     setExtensions("asr", "gui"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AsuraZbb");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -45,6 +45,7 @@ public class Plugin_ASR_ASURAZLB extends ArchivePlugin {
     setGames("Alien vs Predator (2010)");
     setExtensions("asr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AsuraZlb");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -49,6 +49,7 @@ public class Plugin_ASR_ASURA_PTXT extends ArchivePlugin {
     setGames("Sniper Elite");
     setExtensions("asr");
     setPlatforms("PC");
+    setMatchHeaders("Asura   PTXT");
 
   }
 
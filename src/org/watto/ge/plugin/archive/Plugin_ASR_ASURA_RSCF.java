@@ -46,6 +46,7 @@ public class Plugin_ASR_ASURA_RSCF extends ArchivePlugin {
         "Sniper Elite");
     setExtensions("asr");
     setPlatforms("PC");
+    setMatchHeaders("Asura   ");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_ASR_ASURA_RUDE extends ArchivePlugin {
     setGames("Sniper Elite");
     setExtensions("asr");
     setPlatforms("PC");
+    setMatchHeaders("Asura   RUDE");
 
   }
 
@@ -20,6 +20,7 @@ import org.watto.ErrorLogger;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.helper.Unity3DHelper;
+import org.watto.ge.helper.UnityBundleDecompressor;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.Exporter_Custom_FSB5_ProcessWithinArchive;
@@ -921,39 +922,7 @@ public class Plugin_ASSETS_15 extends ArchivePlugin {
    **********************************************************************************************
    **/
   public File mergeSplitFiles(File basePath) {
-    try {
-      if (basePath.exists()) {
-        // the file already exists - just return it
-        return basePath;
-      }
-
-      String baseName = basePath.getAbsolutePath();
-      // need to create this file, by merging all the split files in to it
-      FileManipulator mergeFM = new FileManipulator(basePath, true);
-
-      int splitNumber = 0;
-      File splitFile = new File(baseName + ".split" + splitNumber);
-      while (splitFile.exists()) {
-        // copy all the contents from the split file into the merge file
-        int splitLength = (int) splitFile.length();
-        FileManipulator splitFM = new FileManipulator(splitFile, false);
-        byte[] splitBytes = splitFM.readBytes(splitLength);
-        mergeFM.writeBytes(splitBytes);
-        splitFM.close();
-
-        // Prepare the next split file
-        splitNumber++;
-        splitFile = new File(baseName + ".split" + splitNumber);
-      }
-
-      // done all the merging, so close it and return the merged file
-      mergeFM.close();
-      return basePath;
-    }
-    catch (Throwable t) {
-      logError(t);
-      return basePath;
-    }
+    return UnityBundleDecompressor.mergeSplitFiles(basePath);
   }
 
   /**
@@ -21,6 +21,7 @@ import org.watto.Language;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.helper.Unity3DHelper;
+import org.watto.ge.helper.UnityBundleDecompressor;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.Exporter_Custom_FSB5_ProcessWithinArchive;
@@ -30,6 +31,7 @@ import org.watto.io.FileManipulator;
 import org.watto.io.FilenameSplitter;
 import org.watto.io.buffer.ByteBuffer;
 import org.watto.io.converter.IntConverter;
+import org.watto.io.converter.ShortConverter;
 import org.watto.task.TaskProgressManager;
 
 /**
@@ -73,39 +75,7 @@ public class Plugin_ASSETS_21 extends ArchivePlugin {
    **********************************************************************************************
    **/
   public File mergeSplitFiles(File basePath) {
-    try {
-      if (basePath.exists()) {
-        // the file already exists - just return it
-        return basePath;
-      }
-
-      String baseName = basePath.getAbsolutePath();
-      // need to create this file, by merging all the split files in to it
-      FileManipulator mergeFM = new FileManipulator(basePath, true);
-
-      int splitNumber = 0;
-      File splitFile = new File(baseName + ".split" + splitNumber);
-      while (splitFile.exists()) {
-        // copy all the contents from the split file into the merge file
-        int splitLength = (int) splitFile.length();
-        FileManipulator splitFM = new FileManipulator(splitFile, false);
-        byte[] splitBytes = splitFM.readBytes(splitLength);
-        mergeFM.writeBytes(splitBytes);
-        splitFM.close();
-
-        // Prepare the next split file
-        splitNumber++;
-        splitFile = new File(baseName + ".split" + splitNumber);
-      }
-
-      // done all the merging, so close it and return the merged file
-      mergeFM.close();
-      return basePath;
-    }
-    catch (Throwable t) {
-      logError(t);
-      return basePath;
-    }
+    return UnityBundleDecompressor.mergeSplitFiles(basePath);
   }
 
   /**
@@ -116,98 +86,14 @@ public class Plugin_ASSETS_21 extends ArchivePlugin {
    The decompressed file contains the same Unreal header as the compressed file, so you can open
    the decompressed file in GE directly, without needing to re-decompress anything.
    If the decompressed file already exists, we use that, we don't re-decompress.
+   The blocks are decompressed in the background, so the directory can be read from the returned
+   FileManipulator while the later blocks are still being decompressed.
    **********************************************************************************************
    **/
-  public FileManipulator decompressLZ4Archive(FileManipulator fm, int firstOffset, int[] compLengths, int[] decompLengths) {
-    try {
-      // Build a new "_ge_decompressed" archive file in the current directory
-      File origFile = fm.getFile();
-
-      String pathOnly = FilenameSplitter.getDirectory(origFile);
-      String filenameOnly = FilenameSplitter.getFilename(origFile);
-      String extensionOnly = FilenameSplitter.getExtension(origFile);
-
-      File decompFile = new File(pathOnly + File.separatorChar + filenameOnly + "_ge_decompressed" + "." + extensionOnly);
-      //File decompFile = new File(pathOnly + File.separatorChar + outputFilename);
-      if (decompFile.exists()) {
-        // we've already decompressed this file before - open and return it
-        return new FileManipulator(decompFile, false);
-      }
-
-      FileManipulator decompFM = new FileManipulator(decompFile, true);
-
-      TaskProgressManager.setMessage(Language.get("Progress_DecompressingArchive")); // progress bar
-      TaskProgressManager.setIndeterminate(true);
-
-      Exporter_LZ4 exporter = Exporter_LZ4.getInstance();
-
-      long currentOffset = firstOffset;
-
-      int numBlocks = decompLengths.length;
-      //boolean adjustedForPadding = false;
-      for (int b = 0; b < numBlocks; b++) {
-        // go to the right place in the file (just in case of an overshoot form a previous block)
-        fm.seek(currentOffset);
-
-        int decompBytesRemaining = decompLengths[b]; // so we can cut it short if there's an overshoot in the available()
-
-        if (decompLengths[b] == compLengths[b]) {
-          // this block isn't compressed - copy it raw
-          while (decompBytesRemaining > 0) {
-            decompFM.writeByte(fm.readByte());
-            decompBytesRemaining--;
-          }
-        }
-        else {
-
-          exporter.open(fm, decompLengths[b], decompLengths[b]);
-
-          while (exporter.available() && decompBytesRemaining != 0) {
-            decompFM.writeByte(exporter.read());
-            decompBytesRemaining--;
-          }
-
-          /*
-          if (b == 0 && decompBytesRemaining == decompLengths[b]) {
-          // we weren't able to decompress at all! Maybe we need to see if the offset is a multiple of 2 bytes, and adjust
-          if (!adjustedForPadding) {
-            adjustedForPadding = true;
-            currentOffset = firstOffset + 1;
-            b--; // because it'll get ++ added by the loop
-            continue;
-          }
-          }
-          */
-
-          while (decompBytesRemaining > 0) { // if it's cut short for some reason, padd out to the right size
-            decompFM.writeByte(0);
-            decompBytesRemaining--;
-          }
-        }
-
-        currentOffset += compLengths[b];
-      }
-
-      // Force-write out the decompressed file to write it to disk, then change the buffer to read-only.
-      decompFM.close();
-
-      if (decompFile.length() <= 0) {
-        // didn't decompress, so just return the original archive
-        decompFile.delete();
-        decompFile = origFile;
-      }
-
-      decompFM = new FileManipulator(decompFile, false);
-
-      TaskProgressManager.setIndeterminate(false);
-      TaskProgressManager.setMessage(Language.get("Progress_ReadingArchive")); // progress bar
-
-      return decompFM;
-    }
-    catch (Throwable t) {
-      ErrorLogger.log(t);
-      return null;
-    }
+  public FileManipulator decompressLZ4Archive(FileManipulator fm, int firstOffset, int[] compLengths, int[] decompLengths, int[] blockFlags) {
+    UnityBundleDecompressor decompressor = new UnityBundleDecompressor(fm.getFile(), firstOffset, compLengths, decompLengths);
+    decompressor.setBlockFlags(blockFlags);
+    return decompressor.decompress();
   }
 
   /**
@@ -484,6 +370,7 @@ public class Plugin_ASSETS_21 extends ArchivePlugin {
 
           int[] blockDecompLengths = new int[numBlocks];
           int[] blockCompLengths = new int[numBlocks];
+          int[] blockFlags = new int[numBlocks];
           for (int b = 0; b < numBlocks; b++) {
             // 4 - Decomp Block Size
             int blockDecompLength = IntConverter.changeFormat(fmDir.readInt());
@@ -494,14 +381,14 @@ public class Plugin_ASSETS_21 extends ArchivePlugin {
             blockCompLengths[b] = blockCompLength;
 
             // 2 - Block Flags
-            fmDir.skip(2);
+            blockFlags[b] = ShortConverter.changeFormat(fmDir.readShort()) & 0xFFFF;
             //System.out.println("Block " + b + " with comp length " + blockCompLength + " and decomp length " + blockDecompLength);
           }
 
           long currentOffset = fm.getOffset();
 
           // Decompress the file from the blocks
-          FileManipulator decompFM = decompressLZ4Archive(fm, (int) currentOffset, blockCompLengths, blockDecompLengths);
+          FileManipulator decompFM = decompressLZ4Archive(fm, (int) currentOffset, blockCompLengths, blockDecompLengths, blockFlags);
           if (decompFM == null) {
             return null; // couldn't decompress the file for some reason
           }
@@ -66,6 +66,7 @@ public class Plugin_AST_SCHI extends ArchivePlugin {
         "Harry Potter And The Prizoner Of Azkaban",
         "Harry Potter: Quidditch World Cup");
     setPlatforms("PC", "XBox");
+    setMatchHeaders("SCHl");
 
     setFileTypes("csf", "CSF Chunked File");
 
@@ -50,6 +50,7 @@ public class Plugin_AVL_VOLT extends ArchivePlugin {
         "Bionicle");
     setExtensions("avl", "vol");
     setPlatforms("PC");
+    setMatchHeaders("VOLT");
 
   }
 
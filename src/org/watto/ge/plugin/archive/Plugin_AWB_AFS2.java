@@ -46,6 +46,7 @@ public class Plugin_AWB_AFS2 extends ArchivePlugin {
         "Shenmue 3");
     setExtensions("awb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AFS2");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("hca", "HCA Audio", FileType.TYPE_AUDIO));
@@ -44,6 +44,7 @@ public class Plugin_BAF_BANK extends ArchivePlugin {
     setGames("The Club");
     setExtensions("baf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BANK");
 
     //setFileTypes("","",
     //             "",""
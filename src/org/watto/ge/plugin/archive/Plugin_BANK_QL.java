@@ -46,6 +46,7 @@ public class Plugin_BANK_QL extends ArchivePlugin {
         "Silverfall");
     setExtensions("bank", "pak");
     setPlatforms("PC");
+    setMatchHeaders("QL");
 
   }
 
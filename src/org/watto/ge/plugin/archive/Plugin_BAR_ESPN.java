@@ -49,6 +49,7 @@ public class Plugin_BAR_ESPN extends ArchivePlugin {
     setGames("Age Of Empires 3");
     setExtensions("bar");
     setPlatforms("PC");
+    setMatchHeaders("ESPN");
 
     setFileTypes("xmb", "Unknown",
         "cam", "Camera",
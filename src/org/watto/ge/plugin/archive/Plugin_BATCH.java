@@ -47,6 +47,7 @@ public class Plugin_BATCH extends ArchivePlugin {
     setGames("Switchball");
     setExtensions("batch");
     setPlatforms("PC");
+    setMatchHeaders("THIS IS A BATCH FILE");
 
     //setFileTypes("","",
     //             "",""
@@ -48,6 +48,7 @@ public class Plugin_BCP_PAKFILE2 extends ArchivePlugin {
     setGames("Warrior Kings: Battles");
     setExtensions("bcp");
     setPlatforms("PC");
+    setMatchHeaders("PAK File 2.01 (c) Black Cactus Games Limited");
 
   }
 
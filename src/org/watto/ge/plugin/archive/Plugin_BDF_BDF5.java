@@ -49,6 +49,7 @@ public class Plugin_BDF_BDF5 extends ArchivePlugin {
     setGames("Expendable");
     setExtensions("bdf");
     setPlatforms("PC");
+    setMatchHeaders("BDF5 Rage Games Sound BDF Standard");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_BDL_MOIK extends ArchivePlugin {
     setGames("Worms Revolution");
     setExtensions("bdl", "xom"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MOIK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_BEC_CEB extends ArchivePlugin {
     setGames("Gladius");
     setExtensions("bec");
     setPlatforms("PS2");
+    setMatchHeaders(" ceb");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_BFL_CMPR extends ArchivePlugin {
     setExtensions("bfl");
     setGames("Colin McRae Rally 2");
     setPlatforms("PC");
+    setMatchHeaders("CMPR");
 
     setFileTypes("dds", "DDS Image",
         "pcf", "PCF Image",
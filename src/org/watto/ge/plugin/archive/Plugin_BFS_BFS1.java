@@ -49,6 +49,7 @@ public class Plugin_BFS_BFS1 extends ArchivePlugin {
     setGames("FlatOut 2");
     setExtensions("bfs");
     setPlatforms("PC");
+    setMatchHeaders("bfs1");
 
     //setFileTypes("","",
     //             "",""
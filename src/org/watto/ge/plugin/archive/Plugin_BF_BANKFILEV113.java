@@ -46,6 +46,7 @@ public class Plugin_BF_BANKFILEV113 extends ArchivePlugin {
     setGames("Ultimate Race Pro");
     setExtensions("bd", "bd4", "bf", "bf4", "bp", "bp4", "bv", "bv4"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Bank file v1.13");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
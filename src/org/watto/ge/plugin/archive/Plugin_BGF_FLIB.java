@@ -48,6 +48,7 @@ public class Plugin_BGF_FLIB extends ArchivePlugin {
     setGames("Jack Nicklaus 4");
     setExtensions("bgf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FLIB");
 
     //setFileTypes("","",
     //             "",""
@@ -53,6 +53,7 @@ public class Plugin_BIF_BIFFV1 extends ArchivePlugin {
         "Star Wars: Knights Of The Old Republic",
         "Star Wars: Knights Of The Old Republic 2: The Sith Lords");
     setPlatforms("PC");
+    setMatchHeaders("BIFFV1");
 
     setFileTypes(new FileType("1da", "1D Array", FileType.TYPE_OTHER),
         new FileType("2da", "2D Array", FileType.TYPE_OTHER),
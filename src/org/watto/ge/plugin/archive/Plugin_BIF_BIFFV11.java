@@ -44,6 +44,7 @@ public class Plugin_BIF_BIFFV11 extends ArchivePlugin {
         "The Witcher: Enhanced Edition");
     setExtensions("bif"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BIFFV1.1");
 
     //setFileTypes("","",
     //             "",""
@@ -46,6 +46,7 @@ public class Plugin_BIG_ARCHIVE extends ArchivePlugin {
     setGames("Homeworld 2", "Homeworld Remastered");
     setExtensions("big"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("_ARCHIVE");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -59,6 +59,7 @@ public class Plugin_BIG_BIGF extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
 
     setGames("Ajax Club Football 2005",
         "Battlefield 2 (PS2)",
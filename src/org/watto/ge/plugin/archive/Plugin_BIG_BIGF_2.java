@@ -53,6 +53,7 @@ public class Plugin_BIG_BIGF_2 extends ArchivePlugin {
         "Sensible Soccer 2006");
     setExtensions("big", "b2k", "b64");
     setPlatforms("PC");
+    setMatchHeaders("BIGF");
 
   }
 
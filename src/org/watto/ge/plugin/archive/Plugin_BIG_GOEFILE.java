@@ -45,6 +45,7 @@ public class Plugin_BIG_GOEFILE extends ArchivePlugin {
     setGames("Blood Omen 2: Legacy of Kain");
     setExtensions("big"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("goefile");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("texture", "Texture Image", FileType.TYPE_IMAGE));
@@ -46,6 +46,7 @@ public class Plugin_BIG_JPAK extends ArchivePlugin {
     setGames("Toca Race Driver 3");
     setExtensions("big"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("JPAK");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
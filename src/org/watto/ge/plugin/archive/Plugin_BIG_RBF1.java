@@ -46,6 +46,7 @@ public class Plugin_BIG_RBF1 extends ArchivePlugin {
     setGames("Homeworld");
     setExtensions("big");
     setPlatforms("PC");
+    setMatchHeaders("RBF1.23");
 
     //setFileTypes("","",
     //             "",""
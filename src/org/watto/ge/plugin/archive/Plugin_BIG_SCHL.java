@@ -48,6 +48,7 @@ public class Plugin_BIG_SCHL extends ArchivePlugin {
         "Triple Play 2000");
     setExtensions("big"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SCHl");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
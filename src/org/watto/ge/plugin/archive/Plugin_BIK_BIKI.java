@@ -48,6 +48,7 @@ public class Plugin_BIK_BIKI extends ArchivePlugin {
     setGames("Thief 3: Deadly Shadows",
         "Tony Hawk: Pro Skater 2");
     setPlatforms("PC");
+    setMatchHeaders("BIKi");
 
   }
 
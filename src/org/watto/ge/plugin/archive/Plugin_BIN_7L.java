@@ -54,6 +54,7 @@ public class Plugin_BIN_7L extends ArchivePlugin {
         "The Universe According To Virgil");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("7L");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("7lg", "Graphics File", FileType.TYPE_IMAGE),
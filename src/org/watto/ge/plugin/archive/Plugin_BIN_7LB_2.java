@@ -49,6 +49,7 @@ public class Plugin_BIN_7LB_2 extends ArchivePlugin {
     setGames("Ace Ventura");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("7Lb");
 
   }
 
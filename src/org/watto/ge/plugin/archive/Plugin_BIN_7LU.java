@@ -56,6 +56,7 @@ public class Plugin_BIN_7LU extends ArchivePlugin {
         "The Universe According To Virgil");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("7L");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_BIN_BSPR extends ArchivePlugin {
     setGames("Crouching Pony Hidden Dragon");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BSPR");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
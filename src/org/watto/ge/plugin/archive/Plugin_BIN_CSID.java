@@ -49,6 +49,7 @@ public class Plugin_BIN_CSID extends ArchivePlugin {
     setGames("Chasm: The Rift");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("CSid");
 
     setFileTypes("ani", "Animation",
         "cel", "Cel Image?",
@@ -47,6 +47,7 @@ public class Plugin_BIN_DWBF extends ArchivePlugin {
     setGames("Cold Fear");
     setExtensions("bin");
     setPlatforms("PS2");
+    setMatchHeaders("DWBF");
 
   }
 
@@ -54,6 +54,7 @@ public class Plugin_BIN_DXP2 extends ArchivePlugin {
         "Blades of Time");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DxP2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
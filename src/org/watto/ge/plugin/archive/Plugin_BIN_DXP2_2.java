@@ -47,6 +47,7 @@ public class Plugin_BIN_DXP2_2 extends ArchivePlugin {
     setGames("CRSED: F.O.A.D.");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DxP2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
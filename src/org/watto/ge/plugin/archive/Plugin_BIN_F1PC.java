@@ -49,6 +49,7 @@ public class Plugin_BIN_F1PC extends ArchivePlugin {
     setExtensions("bin");
     setGames("Grand Prix 2");
     setPlatforms("PC");
+    setMatchHeaders("f1pcanim");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_BIN_HOGP extends ArchivePlugin {
     setGames("Shadow Warrior 2");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("HOGP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_BIN_LINK_2 extends ArchivePlugin {
     setGames("Dynasty Warriors 5");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("XBox");
+    setMatchHeaders("LINK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
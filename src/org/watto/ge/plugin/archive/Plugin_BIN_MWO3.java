@@ -54,6 +54,7 @@ public class Plugin_BIN_MWO3 extends ArchivePlugin {
     setGames("ESPN National Hockey Night");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MWo3");
 
     setFileTypes(new FileType("bin_tex", "Texture Image", FileType.TYPE_IMAGE));
 
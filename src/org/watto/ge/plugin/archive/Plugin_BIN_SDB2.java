@@ -47,6 +47,7 @@ public class Plugin_BIN_SDB2 extends ArchivePlugin {
     setGames("Surf's Up");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("SDB2");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_BIN_TIMX extends ArchivePlugin {
     setGames("Dynasty Warriors 5");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("XBox");
+    setMatchHeaders("TIMX");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_BIN_VPAK extends ArchivePlugin {
     setGames("Need For Speed: Pro Street");
     setExtensions("bin"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VPAK");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_BIN_VSPSDUMP extends ArchivePlugin {
     setGames("Adrenalin 2: Rush Hour");
     setExtensions("bin");
     setPlatforms("PC");
+    setMatchHeaders("VSPSdump");
 
     //setFileTypes("","",
     //             "",""
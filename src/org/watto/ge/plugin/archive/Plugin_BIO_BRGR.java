@@ -47,6 +47,7 @@ public class Plugin_BIO_BRGR extends ArchivePlugin {
     setGames("Defiance");
     setExtensions("dat", "bio", "rez");
     setPlatforms("PC");
+    setMatchHeaders("BRGR");
 
   }
 
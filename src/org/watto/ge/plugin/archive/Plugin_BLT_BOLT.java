@@ -49,6 +49,7 @@ public class Plugin_BLT_BOLT extends ArchivePlugin {
     setGames("Star Trek: Deep Space Nine: Dominion Wars");
     setExtensions("blt");
     setPlatforms("PC");
+    setMatchHeaders("BOLT");
 
   }
 
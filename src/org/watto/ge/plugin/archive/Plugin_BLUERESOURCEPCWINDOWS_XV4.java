@@ -43,6 +43,7 @@ public class Plugin_BLUERESOURCEPCWINDOWS_XV4 extends ArchivePlugin {
     setGames("Greed Corp.");
     setExtensions("blueresourcepc_windows"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("xV4");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
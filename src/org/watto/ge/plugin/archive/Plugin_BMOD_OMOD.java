@@ -45,6 +45,7 @@ public class Plugin_BMOD_OMOD extends ArchivePlugin {
     setGames("Platoon");
     setExtensions("bmod"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("OMOD");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("time", "Timestamp", FileType.TYPE_DOCUMENT),
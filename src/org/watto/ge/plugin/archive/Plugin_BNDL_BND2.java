@@ -45,6 +45,7 @@ public class Plugin_BNDL_BND2 extends ArchivePlugin {
     setGames("Need for Speed: Most Wanted");
     setExtensions("bndl"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("bnd2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_BND_BNKD extends ArchivePlugin {
     setGames("Tales Of Eternia Online");
     setExtensions("bnd");
     setPlatforms("PC");
+    setMatchHeaders("BNDK");
 
   }
 
@@ -67,6 +67,7 @@ public class Plugin_BNK_BKHD extends ArchivePlugin {
         "Yooka Laylee");
     setExtensions("bnk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BKHD");
 
     setCanScanForFileTypes(true);
 
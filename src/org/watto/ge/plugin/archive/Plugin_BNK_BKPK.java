@@ -43,6 +43,7 @@ public class Plugin_BNK_BKPK extends ArchivePlugin {
     setGames("Batman: Arkham Knight");
     setExtensions("bnk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BKPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_BNK_VWSBPC extends ArchivePlugin {
     setGames("Saints Row: The Third: Remastered");
     setExtensions("bnk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VWSBPC  ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
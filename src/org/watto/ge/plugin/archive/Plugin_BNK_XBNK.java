@@ -48,6 +48,7 @@ public class Plugin_BNK_XBNK extends ArchivePlugin {
     setGames("Score Hero");
     setExtensions("bnk"); // MUST BE LOWER CASE
     setPlatforms("android");
+    setMatchHeaders("XBNK");
 
     // Read in WAV audio files and convert them
     setCanConvertOnReplace(true);
@@ -48,6 +48,7 @@ public class Plugin_BOX_BOX extends ArchivePlugin {
     setGames("Beasts And Bumpkins");
     setExtensions("box"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BOX");
 
     //setFileTypes("","",
     //             "",""
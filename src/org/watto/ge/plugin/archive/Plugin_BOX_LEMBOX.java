@@ -47,6 +47,7 @@ public class Plugin_BOX_LEMBOX extends ArchivePlugin {
     setExtensions("box");
     setGames("Lemmings Revolution");
     setPlatforms("PC");
+    setMatchHeaders("LEMBOX");
 
   }
 
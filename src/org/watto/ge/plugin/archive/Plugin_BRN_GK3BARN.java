@@ -47,6 +47,7 @@ public class Plugin_BRN_GK3BARN extends ArchivePlugin {
     setGames("Gabriel Knight 3");
     setExtensions("brn");
     setPlatforms("PC");
+    setMatchHeaders("GK3!Barn");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_BSP_VBSP extends ArchivePlugin {
         "Hidden");
     setExtensions("bsp");
     setPlatforms("PC");
+    setMatchHeaders("VBSP");
 
   }
 
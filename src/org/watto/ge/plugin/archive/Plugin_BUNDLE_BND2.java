@@ -45,6 +45,7 @@ public class Plugin_BUNDLE_BND2 extends ArchivePlugin {
     setGames("Burnout Paradise");
     setExtensions("bundle"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("bnd2");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
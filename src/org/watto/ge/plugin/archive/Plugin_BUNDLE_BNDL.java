@@ -55,6 +55,7 @@ public class Plugin_BUNDLE_BNDL extends ArchivePlugin {
         "Lead and Gold: Gangs of the Wild West");
     setExtensions("bundle");
     setPlatforms("PC");
+    setMatchHeaders("BNDL");
 
     //setFileTypes("","",
     //             "",""
@@ -48,6 +48,7 @@ public class Plugin_BUN_LB83 extends ArchivePlugin {
     setExtensions("bun");
     setGames("Monkey Island 3");
     setPlatforms("PC");
+    setMatchHeaders("LB83");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_CAB_ISC_2 extends ArchivePlugin {
     setGames("InstallShield");
     setExtensions("cab"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ISc(");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
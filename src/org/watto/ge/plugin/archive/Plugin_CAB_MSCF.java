@@ -59,6 +59,7 @@ public class Plugin_CAB_MSCF extends ArchivePlugin {
     setGames("Microsoft Cabinet");
     setExtensions("cab"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MSCF");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
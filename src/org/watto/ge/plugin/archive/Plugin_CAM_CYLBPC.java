@@ -50,6 +50,7 @@ public class Plugin_CAM_CYLBPC extends ArchivePlugin {
     setGames("Deadlock 2");
     setExtensions("cam");
     setPlatforms("PC");
+    setMatchHeaders("CYLBPC  ");
 
   }
 
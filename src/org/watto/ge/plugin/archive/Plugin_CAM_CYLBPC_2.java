@@ -50,6 +50,7 @@ public class Plugin_CAM_CYLBPC_2 extends ArchivePlugin {
     setGames("Playboy: The Mansion");
     setExtensions("cam");
     setPlatforms("PC");
+    setMatchHeaders("CYLBPC  ");
 
   }
 
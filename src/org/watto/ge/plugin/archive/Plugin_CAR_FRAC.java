@@ -49,6 +49,7 @@ public class Plugin_CAR_FRAC extends ArchivePlugin {
     setGames("NASCAR Racing 2002 Season");
     setExtensions("car"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FRAC");
 
     //setFileTypes("","",
     //             "",""
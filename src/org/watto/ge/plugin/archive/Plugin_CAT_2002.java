@@ -49,6 +49,7 @@ public class Plugin_CAT_2002 extends ArchivePlugin {
     setExtensions("cat");
     setGames("Fighting Steel");
     setPlatforms("PC");
+    setMatchHeaders("2002");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_CA_BINARYARCHIVE00 extends ArchivePlugin {
     setGames("The Nations");
     setExtensions("ca"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("binary.archive00");
 
     setTextPreviewExtensions("text"); // LOWER CASE
 
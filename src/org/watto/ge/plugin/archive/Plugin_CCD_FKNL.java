@@ -51,6 +51,7 @@ public class Plugin_CCD_FKNL extends ArchivePlugin {
     setGames("Harry Potter: Quidditch World Cup");
     setExtensions("ccd"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FKNL");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_CGF_CRYTEK extends ArchivePlugin {
     setExtensions("cgf", "cga");
     setGames("Far Cry");
     setPlatforms("PC");
+    setMatchHeaders("CryTek");
 
   }
 
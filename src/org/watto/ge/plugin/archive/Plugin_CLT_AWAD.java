@@ -44,6 +44,7 @@ public class Plugin_CLT_AWAD extends ArchivePlugin {
     setExtensions("clt");
     setGames("Abomination: The Nemesis Project");
     setPlatforms("PC");
+    setMatchHeaders("AWAD");
 
   }
 
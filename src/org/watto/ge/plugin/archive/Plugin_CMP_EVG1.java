@@ -48,6 +48,7 @@ public class Plugin_CMP_EVG1 extends ArchivePlugin {
     setGames("Echelon");
     setExtensions("cmp", "dat");
     setPlatforms("PC");
+    setMatchHeaders("EVG1");
 
   }
 
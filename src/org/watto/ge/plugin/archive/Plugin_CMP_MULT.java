@@ -48,6 +48,7 @@ public class Plugin_CMP_MULT extends ArchivePlugin {
     setGames("Moonbase Commander");
     setExtensions("cmp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MULT");
 
     //setFileTypes("","",
     //             "",""
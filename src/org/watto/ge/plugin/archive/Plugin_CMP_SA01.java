@@ -44,6 +44,7 @@ public class Plugin_CMP_SA01 extends ArchivePlugin {
     setGames("Mii Maker");
     setExtensions("cmp"); // MUST BE LOWER CASE
     setPlatforms("Wii U");
+    setMatchHeaders("SA01");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
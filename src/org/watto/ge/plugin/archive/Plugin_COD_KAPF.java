@@ -49,6 +49,7 @@ public class Plugin_COD_KAPF extends ArchivePlugin {
     setGames("Call Of Duty 2: Big Red One");
     setExtensions("cod");
     setPlatforms("XBox");
+    setMatchHeaders("KAPF");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_COD_UNIQUE extends ArchivePlugin {
     setGames("Screamer 4x4");
     setExtensions("cod");
     setPlatforms("PC");
+    setMatchHeaders("->Unique Pc HUNGARY<-");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_CON_NCBM extends ArchivePlugin {
     setGames("Advanced Strategic Command");
     setExtensions("con"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NCBM");
 
     //setFileTypes("","",
     //             "",""
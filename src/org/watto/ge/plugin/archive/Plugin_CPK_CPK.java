@@ -45,6 +45,7 @@ public class Plugin_CPK_CPK extends ArchivePlugin {
     setGames("Viking: Battle for Asgard");
     setExtensions("cpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("CPK ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
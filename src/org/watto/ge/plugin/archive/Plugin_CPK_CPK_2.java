@@ -44,6 +44,7 @@ public class Plugin_CPK_CPK_2 extends ArchivePlugin {
     setGames("Sonic the Hedgehog 4");
     setExtensions("cpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("CPK ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
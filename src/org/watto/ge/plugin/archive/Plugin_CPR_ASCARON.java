@@ -47,6 +47,7 @@ public class Plugin_CPR_ASCARON extends ArchivePlugin {
         "Patrician 3",
         "The Great Art Race");
     setPlatforms("PC");
+    setMatchHeaders("ASCARON_ARCHIVE ");
 
   }
 
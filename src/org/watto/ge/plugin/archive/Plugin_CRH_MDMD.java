@@ -50,6 +50,7 @@ public class Plugin_CRH_MDMD extends ArchivePlugin {
     setExtensions("crh", "mga", "fga", "lz", "wlz");
     setGames("Links 368 Pro");
     setPlatforms("PC");
+    setMatchHeaders("MDmd");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_CRS_MDMD extends ArchivePlugin {
     setGames("The Original LINKS");
     setExtensions("crs", "lz"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MDmd");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
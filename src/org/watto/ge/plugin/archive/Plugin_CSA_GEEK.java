@@ -46,6 +46,7 @@ public class Plugin_CSA_GEEK extends ArchivePlugin {
         "Nosferatu: The Wrath of Malachi");
     setExtensions("csa");
     setPlatforms("PC");
+    setMatchHeaders("GEEK");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_CWG_VW extends ArchivePlugin {
     setExtensions("cwg");
     setGames("Castle Of The Winds");
     setPlatforms("PC");
+    setMatchHeaders("vw");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_CXT_RIFX extends ArchivePlugin {
         "Tennis Without Limits");
     setExtensions("cxt", "dxr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RIFX");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("edim", "JPEG Image", FileType.TYPE_IMAGE));
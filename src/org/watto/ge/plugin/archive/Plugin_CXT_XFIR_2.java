@@ -49,6 +49,7 @@ public class Plugin_CXT_XFIR_2 extends ArchivePlugin {
         "Macromedia Shockwave");
     setExtensions("cxt", "dxr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("XFIR");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_DAG_PKR3 extends ArchivePlugin {
     setGames("World Championship Poker 2");
     setExtensions("dag");
     setPlatforms("PC");
+    setMatchHeaders("PKR3");
 
   }
 
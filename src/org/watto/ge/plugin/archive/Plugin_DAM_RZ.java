@@ -25,7 +25,6 @@ import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.Exporter_Custom_DAM_RZ;
 import org.watto.io.FileManipulator;
-import org.watto.io.buffer.FileBuffer;
 import org.watto.io.buffer.XORBufferWrapper;
 import org.watto.io.converter.ByteConverter;
 import org.watto.task.TaskProgressManager;
@@ -111,7 +110,7 @@ public class Plugin_DAM_RZ extends ArchivePlugin {
       FileManipulator fm = new FileManipulator(path, false);
 
       // Put the XOR conversion wrapper between the FileBuffer and the FileManipulator
-      fm.setBuffer(new XORBufferWrapper((FileBuffer) fm.getBuffer(), 128));
+      fm.setBuffer(new XORBufferWrapper(fm.getBuffer(), 128));
 
       long arcSize = fm.getLength();
 
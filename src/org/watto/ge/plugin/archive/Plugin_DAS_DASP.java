@@ -48,6 +48,7 @@ public class Plugin_DAS_DASP extends ArchivePlugin {
     setExtensions("das");
     setGames("Normality");
     setPlatforms("PC");
+    setMatchHeaders("DASP");
 
   }
 
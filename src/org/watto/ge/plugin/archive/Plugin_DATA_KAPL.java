@@ -45,6 +45,7 @@ public class Plugin_DATA_KAPL extends ArchivePlugin {
     setGames("Full Throttle Remastered");
     setExtensions("data"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("KAPL");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -51,6 +51,7 @@ public class Plugin_DAT_ADAT extends ArchivePlugin {
     setExtensions("dat");
     setGames("Anachronox");
     setPlatforms("PC");
+    setMatchHeaders("ADAT");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_DAT_CACH extends ArchivePlugin {
     setGames("Air Offensive");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("CACH");
 
   }
 
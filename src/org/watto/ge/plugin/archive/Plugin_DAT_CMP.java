@@ -47,6 +47,7 @@ public class Plugin_DAT_CMP extends ArchivePlugin {
     setGames("Black Matrix");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("CMP ");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("pac", "PAC Archive", FileType.TYPE_ARCHIVE));
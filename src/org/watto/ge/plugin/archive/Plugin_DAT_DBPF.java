@@ -54,6 +54,7 @@ public class Plugin_DAT_DBPF extends ArchivePlugin {
         "The Sims 2");
     setExtensions("dat", "package", "sc4lot", "sc4");
     setPlatforms("PC");
+    setMatchHeaders("DBPF");
 
     // The Sims 2
     setFileTypes("2ary", "2D Array",
@@ -48,6 +48,7 @@ public class Plugin_DAT_DG extends ArchivePlugin {
     setGames("Majestic Chess");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("DG");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_DAT_DRPK extends ArchivePlugin {
     setGames("Inquisitor");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DRPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
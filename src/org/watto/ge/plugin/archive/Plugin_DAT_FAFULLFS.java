@@ -43,6 +43,7 @@ public class Plugin_DAT_FAFULLFS extends ArchivePlugin {
     setGames("Disgaea 5");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FAFULLFS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_DAT_FAR extends ArchivePlugin {
     setGames("The Sims Online");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("FAR!byAZ");
 
     setFileTypes("anim", "Animation File",
         "mesh", "Object Mesh",
@@ -47,6 +47,7 @@ public class Plugin_DAT_FILECHNK extends ArchivePlugin {
     setExtensions("dat");
     setGames("Gunlock");
     setPlatforms("PC");
+    setMatchHeaders("FILECHNK");
 
   }
 
@@ -52,6 +52,7 @@ public class Plugin_DAT_GRA2 extends ArchivePlugin {
         "Legend of Grimrock 2");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GRA2");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("model", "3D Mesh", FileType.TYPE_MODEL));
@@ -46,6 +46,7 @@ public class Plugin_DAT_HSFS extends ArchivePlugin {
     setGames("Broken Sword: Shadow of the Templars");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("HSFS");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("back", "Background Image", FileType.TYPE_IMAGE),
@@ -43,6 +43,7 @@ public class Plugin_DAT_NISPACK extends ArchivePlugin {
     setGames("Disgaea 2");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NISPACK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_DAT_PCMP extends ArchivePlugin {
     setGames("Black Matrix");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("PCMP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
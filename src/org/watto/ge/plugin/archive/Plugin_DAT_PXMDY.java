@@ -50,6 +50,7 @@ public class Plugin_DAT_PXMDY extends ArchivePlugin {
     setGames("Backspin Billiards Deluxe");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("PXMDY");
 
   }
 
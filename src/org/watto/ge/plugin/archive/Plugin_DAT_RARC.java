@@ -44,6 +44,7 @@ public class Plugin_DAT_RARC extends ArchivePlugin {
         "Broken Sword 2: The Smoking Mirror");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RARC");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_DAT_RES extends ArchivePlugin {
     setExtensions("dat");
     setGames("Motocross Madness");
     setPlatforms("PC");
+    setMatchHeaders("RES");
 
     setFileTypes("spr", "Object Sprite",
         "bsp", "Level Map",
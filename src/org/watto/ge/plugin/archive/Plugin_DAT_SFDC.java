@@ -44,6 +44,7 @@ public class Plugin_DAT_SFDC extends ArchivePlugin {
     setGames("Tribes: Aerial Assault");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SFDC");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
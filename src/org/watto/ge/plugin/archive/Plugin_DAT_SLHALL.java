@@ -55,6 +55,7 @@ public class Plugin_DAT_SLHALL extends ArchivePlugin {
         "Wizball");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("slh.ALL.");
 
     //setFileTypes("","",
     //             "",""
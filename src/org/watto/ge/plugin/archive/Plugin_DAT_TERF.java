@@ -51,6 +51,7 @@ public class Plugin_DAT_TERF extends ArchivePlugin {
         "NFL Head Coach");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("TERF");
 
   }
 
@@ -59,6 +59,7 @@ public class Plugin_DAT_TEXPSX extends ArchivePlugin {
         "007: Tomorrow Never Dies");
     setExtensions("dat"); // DAT files as well, but the header should be enough to detect these files
     setPlatforms("PS2");
+    setMatchHeaders("TEX PSX ");
 
     setFileTypes(new FileType("texpsx", "TEX PSX Image", FileType.TYPE_IMAGE));
 
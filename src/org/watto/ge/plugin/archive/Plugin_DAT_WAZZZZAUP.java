@@ -45,6 +45,7 @@ public class Plugin_DAT_WAZZZZAUP extends ArchivePlugin {
         "Sinister City");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("wazzzzaup!");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -50,6 +50,7 @@ public class Plugin_DAT_WSDF extends ArchivePlugin {
     setGames("Enemy Nations");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("WSDF");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_DAT_XDAT extends ArchivePlugin {
         "Massive Assault Network 2");
     setExtensions("dat");
     setPlatforms("PC");
+    setMatchHeaders("XDAT");
 
   }
 
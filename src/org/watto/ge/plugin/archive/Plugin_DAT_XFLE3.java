@@ -45,6 +45,7 @@ public class Plugin_DAT_XFLE3 extends ArchivePlugin {
     setGames("Harvester");
     setExtensions("dat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("XFLE");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
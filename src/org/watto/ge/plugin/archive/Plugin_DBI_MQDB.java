@@ -43,6 +43,7 @@ public class Plugin_DBI_MQDB extends ArchivePlugin {
     setGames("Disciples: Sacred Lands");
     setExtensions("dbi", "ff"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MQDB");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_DBP_DBP1 extends ArchivePlugin {
     setGames("Diabotical");
     setExtensions("dbp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DBP1");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
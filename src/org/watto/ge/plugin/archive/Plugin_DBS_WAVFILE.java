@@ -48,6 +48,7 @@ public class Plugin_DBS_WAVFILE extends ArchivePlugin {
     setGames("Cavewars");
     setExtensions("dbs");
     setPlatforms("PC");
+    setMatchHeaders("wavfile");
 
   }
 
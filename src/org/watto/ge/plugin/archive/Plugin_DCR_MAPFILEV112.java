@@ -46,6 +46,7 @@ public class Plugin_DCR_MAPFILEV112 extends ArchivePlugin {
     setGames("Ultimate Race Pro");
     setExtensions("dcr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Map file v1.12");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_DER_DERV13 extends ArchivePlugin {
     setGames("Demise: Rise of the Ku'tan");
     setExtensions("der"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DERv1.3");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_DFS_DFS extends ArchivePlugin {
     setGames("Bust A Groove");
     setExtensions("dfs"); // MUST BE LOWER CASE
     setPlatforms("PSX");
+    setMatchHeaders("DFS_");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
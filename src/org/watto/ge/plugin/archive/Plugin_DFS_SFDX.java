@@ -47,6 +47,7 @@ public class Plugin_DFS_SFDX extends ArchivePlugin {
     setGames("Area 51");
     setExtensions("dfs");
     setPlatforms("PC");
+    setMatchHeaders("SFDX");
 
   }
 
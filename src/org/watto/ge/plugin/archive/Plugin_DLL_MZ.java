@@ -62,6 +62,7 @@ public class Plugin_DLL_MZ extends ArchivePlugin {
         "Petz 5");
     setExtensions("dll", "exe", "msstyles");
     setPlatforms("PC");
+    setMatchHeaders("MZ");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_DNI_DIRT extends ArchivePlugin {
     setExtensions("dni");
     setGames("Real Myst");
     setPlatforms("PC");
+    setMatchHeaders("Dirt");
 
   }
 
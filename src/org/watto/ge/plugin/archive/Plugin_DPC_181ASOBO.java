@@ -43,6 +43,7 @@ public class Plugin_DPC_181ASOBO extends ArchivePlugin {
     setGames("CT Special Forces");
     setExtensions("dpc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("v1.81 - Asobo Studio - Internal Cross Technology");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
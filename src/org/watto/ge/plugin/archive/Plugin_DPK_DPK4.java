@@ -50,6 +50,7 @@ public class Plugin_DPK_DPK4 extends ArchivePlugin {
         "Terrorist Takedown");
     setExtensions("dpk");
     setPlatforms("PC");
+    setMatchHeaders("DPK4");
 
   }
 
@@ -53,6 +53,7 @@ public class Plugin_DRS extends ArchivePlugin {
     setGames("Age Of Empires",
         "Age Of Empires 2");
     setPlatforms("PC");
+    setMatchHeaders("Copyright (c) 1997 Ensemble Studios.");
 
     setFileTypes("bin", "Binary Data (often text)",
         "slp", "ArtDesk SLP Image");
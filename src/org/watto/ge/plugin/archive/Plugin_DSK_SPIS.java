@@ -48,6 +48,7 @@ public class Plugin_DSK_SPIS extends ArchivePlugin {
     setGames("Case Closed");
     setExtensions("dsk");
     setPlatforms("PC");
+    setMatchHeaders("SPIS");
 
   }
 
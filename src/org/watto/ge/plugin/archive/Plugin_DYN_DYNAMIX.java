@@ -47,6 +47,7 @@ public class Plugin_DYN_DYNAMIX extends ArchivePlugin {
     setExtensions("dyn");
     setGames("Command: Aces Of The Deep");
     setPlatforms("PC");
+    setMatchHeaders("Dynamix Volume File");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_DZ_DTRZ extends ArchivePlugin {
         "The Lords of Midnight");
     setExtensions("dz"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DTRZ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
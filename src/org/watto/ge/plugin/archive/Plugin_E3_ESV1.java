@@ -48,6 +48,7 @@ public class Plugin_E3_ESV1 extends ArchivePlugin {
     setGames("Esoteria");
     setExtensions("e3");
     setPlatforms("PC");
+    setMatchHeaders("ESv1.0 ");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_EGD_EXEGD01 extends ArchivePlugin {
     setGames("Floresia I: Intemporel");
     setExtensions("egd"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("EXEGD0.1");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -52,6 +52,7 @@ public class Plugin_EMBB_BNDL extends ArchivePlugin {
         "Middle Earth: Shadow Of War");
     setExtensions("embb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BNDL");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tex", "Texture Image", FileType.TYPE_IMAGE));
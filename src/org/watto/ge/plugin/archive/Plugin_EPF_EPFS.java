@@ -47,6 +47,7 @@ public class Plugin_EPF_EPFS extends ArchivePlugin {
     setExtensions("epf");
     setGames("Overdrive", "Project X", "Tower Assult");
     setPlatforms("PC");
+    setMatchHeaders("EPFS");
 
   }
 
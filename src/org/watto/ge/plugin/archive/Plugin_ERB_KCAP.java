@@ -47,6 +47,7 @@ public class Plugin_ERB_KCAP extends ArchivePlugin {
     setGames("Evil Genius");
     setExtensions("erb");
     setPlatforms("PC");
+    setMatchHeaders("KCAP");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_ERF_ERFV10 extends ArchivePlugin {
         "Star Wars: Knights Of The Old Republic 2: The Sith Lords");
     setExtensions("erf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ERF V1.0");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("1da", "1D Array", FileType.TYPE_OTHER),
@@ -46,6 +46,7 @@ public class Plugin_ERP_ERPK extends ArchivePlugin {
     setGames("F1 2018");
     setExtensions("erp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ERPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_EVT_FL00 extends ArchivePlugin {
     setGames("Xenosaga Episode 1");
     setExtensions("evt");
     setPlatforms("PC");
+    setMatchHeaders("FL00");
 
     //setFileTypes("","",
     //             "",""
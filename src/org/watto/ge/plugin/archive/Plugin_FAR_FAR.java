@@ -48,6 +48,7 @@ public class Plugin_FAR_FAR extends ArchivePlugin {
     setGames("The Sims", "The Sims Online");
     setExtensions("far");
     setPlatforms("PC");
+    setMatchHeaders("FAR!byAZ");
 
     setFileTypes("ffn", "Font File",
         "iff", "IFF Object",
@@ -47,6 +47,7 @@ public class Plugin_FAT_030 extends ArchivePlugin {
     setGames("Beasts And Bumpkins");
     setExtensions("fat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("0.30");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_FBMOD_FROSTY extends ArchivePlugin {
     setGames("Frosty Tool Suite");
     setExtensions("fbmod", "fifamod"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FROSTY");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
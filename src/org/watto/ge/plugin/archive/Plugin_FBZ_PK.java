@@ -48,6 +48,7 @@ public class Plugin_FBZ_PK extends ArchivePlugin {
     setGames("Shadowgrounds");
     setExtensions("fbz");
     setPlatforms("PC");
+    setMatchHeaders("PK");
 
   }
 
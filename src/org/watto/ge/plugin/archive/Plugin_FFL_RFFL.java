@@ -48,6 +48,7 @@ public class Plugin_FFL_RFFL extends ArchivePlugin {
     setExtensions("ffl");
     setGames("Alien vs Predator");
     setPlatforms("PC");
+    setMatchHeaders("RFFL");
 
     setFileTypes("rim", "Texture Image");
 
@@ -49,6 +49,7 @@ public class Plugin_FFS_FFS extends ArchivePlugin {
     setGames("Heroes Of The Pacific");
     setExtensions("ffs");
     setPlatforms("PC");
+    setMatchHeaders("FFS ");
 
     setFileTypes("fsd", "Audio Archive",
         "dat", "Unknown");
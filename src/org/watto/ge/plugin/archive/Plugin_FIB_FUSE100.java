@@ -45,6 +45,7 @@ public class Plugin_FIB_FUSE100 extends ArchivePlugin {
     setGames("Lego Marvel Super Heroes");
     setExtensions("fib"); // MUST BE LOWER CASE
     setPlatforms("Android");
+    setMatchHeaders("FUSE");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
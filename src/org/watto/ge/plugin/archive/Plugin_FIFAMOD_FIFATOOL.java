@@ -56,6 +56,7 @@ public class Plugin_FIFAMOD_FIFATOOL extends ArchivePlugin {
         "FIFA Mod Manager");
     setExtensions("fifamod"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FIFATOOL");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("fifa_tex", "FIFA Texture Image", FileType.TYPE_IMAGE));
@@ -47,6 +47,7 @@ public class Plugin_FLFL_RMIM extends ArchivePlugin {
     setGames("Moonbase Commander");
     setExtensions("flfl"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RMIM");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("wsou", "Sound File", FileType.TYPE_AUDIO));
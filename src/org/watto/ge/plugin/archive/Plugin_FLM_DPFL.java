@@ -43,6 +43,7 @@ public class Plugin_FLM_DPFL extends ArchivePlugin {
     setGames("Nation Red");
     setExtensions("flm"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DPFL");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
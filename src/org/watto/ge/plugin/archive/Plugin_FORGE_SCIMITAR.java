@@ -51,6 +51,7 @@ public class Plugin_FORGE_SCIMITAR extends ArchivePlugin {
         "Tom Clancy's Ghost Recon Wildlands");
     setExtensions("forge"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("scimitar");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -53,6 +53,7 @@ public class Plugin_FPK_FKP extends ArchivePlugin {
     setGames("FLOCK!");
     setExtensions("fpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FKP.");
 
     setFileTypes(new FileType("pgl", "Language File", FileType.TYPE_DOCUMENT));
 
@@ -49,6 +49,7 @@ public class Plugin_FPK_JINDO extends ArchivePlugin {
     setGames("War Rock");
     setExtensions("fpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Jindo Pack File");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_FSB_FSB1 extends ArchivePlugin {
     setExtensions("fsb");
     setGames("FMOD");
     setPlatforms("PC");
+    setMatchHeaders("FSB1");
 
     //setFileTypes("spr", "Object Sprite");
 
@@ -47,6 +47,7 @@ public class Plugin_FSB_FSB2 extends ArchivePlugin {
     setExtensions("fsb");
     setGames("FMOD");
     setPlatforms("PC");
+    setMatchHeaders("FSB2");
 
     //setFileTypes("spr", "Object Sprite");
 
@@ -58,6 +58,7 @@ public class Plugin_FSB_FSB3 extends ArchivePlugin {
         "TimeShift",
         "Warhammer 40k: Fire Warrior");
     setPlatforms("PC", "PS2");
+    setMatchHeaders("FSB3");
 
     //setFileTypes("spr", "Object Sprite");
 
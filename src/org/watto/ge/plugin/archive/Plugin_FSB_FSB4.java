@@ -60,6 +60,7 @@ public class Plugin_FSB_FSB4 extends ArchivePlugin {
         "The UnderGarden",
         "Wings Of Prey");
     setPlatforms("PC");
+    setMatchHeaders("FSB4");
 
     //setFileTypes("spr", "Object Sprite");
 
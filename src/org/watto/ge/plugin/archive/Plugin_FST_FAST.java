@@ -47,6 +47,7 @@ public class Plugin_FST_FAST extends ArchivePlugin {
         "Crazy Machines: Golden Gears");
     setExtensions("fst"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FAST");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -52,6 +52,7 @@ public class Plugin_FST_FAST_2 extends ArchivePlugin {
     setGames("Crazy Machines 2");
     setExtensions("fst"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FAST");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("ftexture", "FTexture Image", FileType.TYPE_IMAGE),
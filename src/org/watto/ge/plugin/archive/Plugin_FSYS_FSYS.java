@@ -46,6 +46,7 @@ public class Plugin_FSYS_FSYS extends ArchivePlugin {
     setGames("Pokemon Battle Revolution");
     setExtensions("fsys"); // MUST BE LOWER CASE
     setPlatforms("Wii");
+    setMatchHeaders("FSYS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
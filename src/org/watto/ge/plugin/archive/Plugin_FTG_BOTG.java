@@ -48,6 +48,7 @@ public class Plugin_FTG_BOTG extends ArchivePlugin {
     setExtensions("ftg");
     setGames("Dark Reign");
     setPlatforms("PC");
+    setMatchHeaders("BOTG");
 
   }
 
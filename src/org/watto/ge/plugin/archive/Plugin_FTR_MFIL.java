@@ -48,6 +48,7 @@ public class Plugin_FTR_MFIL extends ArchivePlugin {
     setExtensions("ftr");
     setGames("Mortal Kombat 3");
     setPlatforms("PC");
+    setMatchHeaders("MFIL");
 
     setFileTypes("clas", "WAV Sound File",
         "spec", "WAV Sound File",
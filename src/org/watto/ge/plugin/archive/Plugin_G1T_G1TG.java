@@ -44,6 +44,7 @@ public class Plugin_G1T_G1TG extends ArchivePlugin {
     setGames("Nioh");
     setExtensions("g1t"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("G1TG");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("g1t_tex", "G1T Image", FileType.TYPE_IMAGE));
@@ -49,6 +49,7 @@ public class Plugin_GEO_01V extends ArchivePlugin {
     setGames("Mortal Kombat Gold");
     setExtensions("geo");
     setPlatforms("Dreamcast");
+    setMatchHeaders("0.1v");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_GLB_GLB2 extends ArchivePlugin {
     setExtensions("glb");
     setGames("Demon Star");
     setPlatforms("PC");
+    setMatchHeaders("GLB2.0");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_GLB_GOBJ extends ArchivePlugin {
     setExtensions("glb");
     setGames("Cyclones");
     setPlatforms("PC");
+    setMatchHeaders("GOBJ");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_GLI_GLIB extends ArchivePlugin {
     setExtensions("gli", "glj");
     setGames("Airline Tycoon");
     setPlatforms("PC");
+    setMatchHeaders("GLIB2");
 
   }
 
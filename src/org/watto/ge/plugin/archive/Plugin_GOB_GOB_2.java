@@ -51,6 +51,7 @@ public class Plugin_GOB_GOB_2 extends ArchivePlugin {
         "Indiana Jones And The Infernal Machine",
         "Jedi Knight: Mysteries Of The Sith");
     setPlatforms("PC");
+    setMatchHeaders("GOB ");
 
     setFileTypes(new FileType("rle", "Bitmap Image", FileType.TYPE_IMAGE));
 
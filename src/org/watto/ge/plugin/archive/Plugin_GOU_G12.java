@@ -44,6 +44,7 @@ public class Plugin_GOU_G12 extends ArchivePlugin {
     setGames("Zoids: Helic vs Zenebas");
     setExtensions("gou"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("G_12");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -45,6 +45,7 @@ public class Plugin_GPEG extends ArchivePlugin {
     setGames("Saints Row: The Third: Remastered");
     setExtensions("gpeg", "cpeg", "gvbh", "cvbh", "gvbm", "cvbm"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GEKV");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -49,6 +49,7 @@ public class Plugin_GP_GPAK extends ArchivePlugin {
     setGames("American Conquest");
     setExtensions("gp");
     setPlatforms("PC");
+    setMatchHeaders("GPAK");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_GRP_GRP1 extends ArchivePlugin {
     setGames("Wings Of Prey");
     setExtensions("grp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GRP1");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_GRP_GRP2 extends ArchivePlugin {
     setGames("CRSED: F.O.A.D.");
     setExtensions("grp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GRP2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_GRP_KEN extends ArchivePlugin {
     setGames("Duke Nukem 3D",
         "Shadow Warrior");
     setPlatforms("PC");
+    setMatchHeaders("KenSilverman");
 
     setFileTypes("anm", "Animation",
         "bin", "Binary Data",
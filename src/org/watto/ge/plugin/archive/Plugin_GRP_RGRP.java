@@ -45,6 +45,7 @@ public class Plugin_GRP_RGRP extends ArchivePlugin {
     setGames("The Clue Finders 3rd Grade Adventures");
     setExtensions("grp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RGrp");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("wave", "WAV Audio", FileType.TYPE_AUDIO));
@@ -46,6 +46,7 @@ public class Plugin_GSC_GSCFMT extends ArchivePlugin {
         "Heroes of Annihilated Empires");
     setExtensions("gsc");
     setPlatforms("PC");
+    setMatchHeaders("GSCfmt");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_GSC_NU20 extends ArchivePlugin {
     setGames("LEGO Batman");
     setExtensions("gsc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NU20");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
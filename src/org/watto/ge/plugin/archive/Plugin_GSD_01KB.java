@@ -45,6 +45,7 @@ public class Plugin_GSD_01KB extends ArchivePlugin {
     setGames("Driver 3");
     setExtensions("gsd");
     setPlatforms("PC");
+    setMatchHeaders("01KB");
 
   }
 
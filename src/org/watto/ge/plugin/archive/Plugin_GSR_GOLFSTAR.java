@@ -46,6 +46,7 @@ public class Plugin_GSR_GOLFSTAR extends ArchivePlugin {
     setGames("GolfStar");
     setExtensions("gsr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GolfStar Resource File, Version 1.1");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -45,6 +45,7 @@ public class Plugin_GS_GS10 extends ArchivePlugin {
     setGames("Cities In Motion");
     setExtensions("gs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GS10");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
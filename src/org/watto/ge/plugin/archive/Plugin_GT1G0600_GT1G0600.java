@@ -52,6 +52,7 @@ public class Plugin_GT1G0600_GT1G0600 extends ArchivePlugin {
     setGames("Ninja Gaiden Sigma");
     setExtensions("gt1g0600"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GT1G0600");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("gt1g0600_tex", "Texture Image", FileType.TYPE_IMAGE));
@@ -56,6 +56,7 @@ public class Plugin_GTR_GMOTORMAS extends ArchivePlugin {
         "Race");
     setExtensions("gtr", "gtl", "bmw");
     setPlatforms("PC");
+    setMatchHeaders("GMOTORMAS10");
 
   }
 
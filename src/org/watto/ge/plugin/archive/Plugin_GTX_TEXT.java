@@ -50,6 +50,7 @@ public class Plugin_GTX_TEXT extends ArchivePlugin {
     setGames("Armobiles");
     setExtensions("gtx");
     setPlatforms("PC");
+    setMatchHeaders("TEXT");
 
   }
 
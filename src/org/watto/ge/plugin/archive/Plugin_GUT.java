@@ -47,6 +47,7 @@ public class Plugin_GUT extends ArchivePlugin {
     setExtensions("gut");
     setGames("Shadow Company: Left For Dead");
     setPlatforms("PC");
+    setMatchHeaders("**************************************************************");
 
   }
 
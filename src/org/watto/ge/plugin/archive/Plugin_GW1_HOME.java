@@ -49,6 +49,7 @@ public class Plugin_GW1_HOME extends ArchivePlugin {
     setExtensions("gw1");
     setGames("Gateworld");
     setPlatforms("PC");
+    setMatchHeaders("HomeBrew File Folder");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_H2O_2 extends ArchivePlugin {
     setGames("Dragonshard");
     setExtensions("h2o");
     setPlatforms("PC");
+    setMatchHeaders("LIQDLH2O");
 
   }
 
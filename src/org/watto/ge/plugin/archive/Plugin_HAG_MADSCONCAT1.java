@@ -43,6 +43,7 @@ public class Plugin_HAG_MADSCONCAT1 extends ArchivePlugin {
     setGames("Dragonsphere");
     setExtensions("hag"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MADSCONCAT 1.0");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_HAL_APUK extends ArchivePlugin {
     setExtensions("hal");
     setGames("Mortyr");
     setPlatforms("PC");
+    setMatchHeaders("APUK");
 
   }
 
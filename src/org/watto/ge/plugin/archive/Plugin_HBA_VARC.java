@@ -50,6 +50,7 @@ public class Plugin_HBA_VARC extends ArchivePlugin {
     setGames("Thread Space Hyperbol");
     setExtensions("hba");
     setPlatforms("PC");
+    setMatchHeaders("VARC");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_HD_HPDT extends ArchivePlugin {
     setExtensions("hfd", "hgd", "hmd", "hod", "hsd", "hvd");
     setGames("Highway Pursuit");
     setPlatforms("PC");
+    setMatchHeaders("HPDT");
 
   }
 
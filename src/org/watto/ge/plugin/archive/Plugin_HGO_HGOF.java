@@ -45,6 +45,7 @@ public class Plugin_HGO_HGOF extends ArchivePlugin {
     setGames("Crash Bandicoot: The Wrath of Cortex");
     setExtensions("hgo"); // MUST BE LOWER CASE
     setPlatforms("xbox");
+    setMatchHeaders("HGOF");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("txm0", "Texture Image", FileType.TYPE_IMAGE));
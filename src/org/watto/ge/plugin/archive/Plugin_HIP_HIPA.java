@@ -52,6 +52,7 @@ public class Plugin_HIP_HIPA extends ArchivePlugin {
     setGames("The Incredibles",
         "Spongebob Squarepants: The Movie");
     setPlatforms("PC", "XBox");
+    setMatchHeaders("HIPA");
 
   }
 
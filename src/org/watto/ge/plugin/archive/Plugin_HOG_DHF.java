@@ -44,11 +44,14 @@ public class Plugin_HOG_DHF extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("hog");
     setGames("Descent",
         "Descent 2");
     setPlatforms("PC");
+    setMatchHeaders("DHF");
 
     setFileTypes("bnk", "Music File",
         "256", "Bitmap Image?",
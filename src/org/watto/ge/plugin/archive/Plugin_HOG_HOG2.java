@@ -48,6 +48,7 @@ public class Plugin_HOG_HOG2 extends ArchivePlugin {
     setExtensions("hog", "d3c", "d3m", "mn3");
     setGames("Descent 3");
     setPlatforms("PC");
+    setMatchHeaders("HOG2");
 
     setFileTypes("osf", "Outrage Sound File",
         "ogf", "Outrage Graphic File",
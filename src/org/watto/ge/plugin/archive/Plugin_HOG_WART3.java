@@ -47,6 +47,7 @@ public class Plugin_HOG_WART3 extends ArchivePlugin {
     setGames("Harry Potter And The Sorcerers Stone");
     setExtensions("hog");
     setPlatforms("XBox");
+    setMatchHeaders("WART3.00");
 
   }
 
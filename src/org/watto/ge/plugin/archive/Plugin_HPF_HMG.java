@@ -47,6 +47,7 @@ public class Plugin_HPF_HMG extends ArchivePlugin {
     setGames("Transworld Snowboarding");
     setExtensions("hpf");
     setPlatforms("PC");
+    setMatchHeaders("HMG_PACKED_FILE");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_HPI_HAPI extends ArchivePlugin {
     setExtensions("hpi", "ufo", "ccx", "pck", "gp3");
     setGames("Total Annihilation");
     setPlatforms("PC");
+    setMatchHeaders("HAPI");
 
     setTextPreviewExtensions("h", "fbi", "gui", "tdf", "ota", "bat", "bos", "pl", "xls"); // LOWER CASE
   }
@@ -52,6 +52,7 @@ public class Plugin_HPI_HAPI_2 extends ArchivePlugin {
     setExtensions("hpi");
     setGames("Total Annihilation: Kingdoms");
     setPlatforms("PC");
+    setMatchHeaders("HAPI");
 
   }
 
@@ -65,6 +65,7 @@ public class Plugin_HPK_BPUL extends ArchivePlugin {
         "Tropico 5");
     setExtensions("hpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BPUL");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("opus", "Text Document", FileType.TYPE_AUDIO));
@@ -52,6 +52,7 @@ public class Plugin_HVP_HVPACKFILE extends ArchivePlugin {
     setGames("Obscure", "Obscure (PS2) [Read Only]");
     setExtensions("hvp", "001");
     setPlatforms("PC", "PS2");
+    setMatchHeaders("HV PackFile");
 
   }
 
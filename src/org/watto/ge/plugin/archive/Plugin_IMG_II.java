@@ -47,6 +47,7 @@ public class Plugin_IMG_II extends ArchivePlugin {
     setGames("Pax Imperia Eminent Domain");
     setExtensions("img"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("II");
 
     //setFileTypes("","",
     //             "",""
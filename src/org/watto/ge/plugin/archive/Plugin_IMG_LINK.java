@@ -47,6 +47,7 @@ public class Plugin_IMG_LINK extends ArchivePlugin {
     setGames("Shadow Of Rome");
     setExtensions("img");
     setPlatforms("PS2");
+    setMatchHeaders("LINK");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("link", "LINK Archive", FileType.TYPE_ARCHIVE),
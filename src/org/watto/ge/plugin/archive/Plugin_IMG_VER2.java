@@ -47,6 +47,7 @@ public class Plugin_IMG_VER2 extends ArchivePlugin {
     setGames("GTA San Andreas");
     setExtensions("img");
     setPlatforms("PC");
+    setMatchHeaders("VER2");
 
     setFileTypes("dff", "Cut Scene",
         "scm", "Programming Script",
@@ -49,6 +49,7 @@ public class Plugin_IO_V0D07 extends ArchivePlugin {
     setGames("Braveheart");
     setExtensions("io");
     setPlatforms("PC");
+    setMatchHeaders("v0D.07");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_IT_IMPM extends ArchivePlugin {
     setGames("Jazz Jackrabbit 2");
     setExtensions("it");
     setPlatforms("PC");
+    setMatchHeaders("IMPM");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_J2A_ALIB extends ArchivePlugin {
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2a");
     setPlatforms("PC");
+    setMatchHeaders("ALIB");
 
     setCanScanForFileTypes(true);
 
@@ -45,6 +45,7 @@ public class Plugin_J2D_PLIB extends ArchivePlugin {
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2d"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PLIB");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_J2L_JAZZ extends ArchivePlugin {
     setGames("Jazz Jackrabbit 2");
     setExtensions("j2l", "j2t");
     setPlatforms("PC");
+    setMatchHeaders("                      Jazz Jackrabbit 2 Data File");
 
   }
 
@@ -53,6 +53,7 @@ public class Plugin_JAM_JAM extends ArchivePlugin {
     setGames("NCAA Final Four");
     setExtensions("jam");
     setPlatforms("PC");
+    setMatchHeaders("JAM");
 
   }
 
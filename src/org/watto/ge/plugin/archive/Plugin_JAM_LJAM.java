@@ -53,6 +53,7 @@ public class Plugin_JAM_LJAM extends ArchivePlugin {
     setExtensions("jam");
     setGames("Lego Racers");
     setPlatforms("PC");
+    setMatchHeaders("LJAM");
 
     setFileTypes("pcm", "PCM Audio File",
         "sbk", "SBK File",
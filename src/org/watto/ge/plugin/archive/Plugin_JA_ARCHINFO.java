@@ -44,6 +44,7 @@ public class Plugin_JA_ARCHINFO extends ArchivePlugin {
         "Trainz Simulator 2009");
     setExtensions("ja");
     setPlatforms("PC");
+    setMatchHeaders("ARCHINFO");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_JRF_MTLU extends ArchivePlugin {
     setGames("Panzer Commander");
     setExtensions("jrf");
     setPlatforms("PC");
+    setMatchHeaders("MTLU");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_JRZ_DEFLATEARCHIVE extends ArchivePlugin {
     setGames("Jikandia: The Timeless Land");
     setExtensions("jrz"); // MUST BE LOWER CASE
     setPlatforms("PSP");
+    setMatchHeaders("__DEFLATE_ARCHIVE_S_01__");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_KDV_KRL0 extends ArchivePlugin {
     setExtensions("kdv");
     setGames("Commanche Enhanced");
     setPlatforms("PC");
+    setMatchHeaders("KRL0");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_KIT_KIT extends ArchivePlugin {
     setGames("Unravel");
     setExtensions("kit"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("kit!");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_KRO_BURP extends ArchivePlugin {
     setGames("Prisoner of Ice");
     setExtensions("kro"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Burp");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -44,6 +44,7 @@ public class Plugin_KWAD_KLEI extends ArchivePlugin {
     setGames("Invisible Inc.");
     setExtensions("kwad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("KLEIPKG2");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tex", "TEX Image", FileType.TYPE_IMAGE));
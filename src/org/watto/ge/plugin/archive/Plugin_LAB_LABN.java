@@ -51,6 +51,7 @@ public class Plugin_LAB_LABN extends ArchivePlugin {
         "Grim Fandango",
         "Grim Fandango Remastered");
     setPlatforms("PC");
+    setMatchHeaders("LABN");
 
     setFileTypes("bsnd", "Sound File");
 
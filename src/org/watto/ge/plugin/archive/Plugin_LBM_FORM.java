@@ -57,6 +57,7 @@ public class Plugin_LBM_FORM extends ArchivePlugin {
         "AFL 98",
         "Project IGI: I'm Going In");
     setPlatforms("PC");
+    setMatchHeaders("FORM");
 
   }
 
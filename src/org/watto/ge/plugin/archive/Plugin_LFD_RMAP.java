@@ -50,6 +50,7 @@ public class Plugin_LFD_RMAP extends ArchivePlugin {
     setGames("Tie Fighter",
         "X-Wing");
     setPlatforms("PC");
+    setMatchHeaders("RMAPresource");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_LGS_LGSDATA extends ArchivePlugin {
     setGames("Weird War");
     setExtensions("lgs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("LGS Data");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -50,6 +50,7 @@ public class Plugin_LIB_EALIB extends ArchivePlugin {
     setGames("US Navy Fighters",
         "US Marine Fighters");
     setPlatforms("PC");
+    setMatchHeaders("EALIB");
 
   }
 
@@ -54,6 +54,7 @@ public class Plugin_LIF_LIFF extends ArchivePlugin {
     setGames("Lego Digital Designer");
     setExtensions("lif"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("LIFF");
 
     //setFileTypes("","",
     //             "",""
@@ -45,6 +45,7 @@ public class Plugin_LNK_K300 extends ArchivePlugin {
     setGames("Nioh");
     setExtensions("lnk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("K300");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("g1t", "G1T Image Archive", FileType.TYPE_ARCHIVE),
@@ -50,6 +50,7 @@ public class Plugin_LOD_LOD extends ArchivePlugin {
     setGames("Heroes Chronicles",
         "Heroes of Might and Magic 3");
     setPlatforms("PC");
+    setMatchHeaders("LOD");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_LP_KAPA extends ArchivePlugin {
     setGames("Star Wars: The Force Unleashed");
     setExtensions("lp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("kaPA");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
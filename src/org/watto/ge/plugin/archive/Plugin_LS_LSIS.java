@@ -47,6 +47,7 @@ public class Plugin_LS_LSIS extends ArchivePlugin {
     setGames("Links LS");
     setExtensions("ls", "crx", "ani");
     setPlatforms("PC");
+    setMatchHeaders("LSIs");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_LUG_LIONHEAD extends ArchivePlugin {
         "The Movies");
     setExtensions("lug");
     setPlatforms("PC");
+    setMatchHeaders("LiOnHeAd");
 
     //setFileTypes("","",
     //             "",""
@@ -48,6 +48,7 @@ public class Plugin_LVL_UCFB extends ArchivePlugin {
     setGames("Star Wars Battlefront");
     setExtensions("lvl");
     setPlatforms("PC");
+    setMatchHeaders("ucfb");
 
     setFileTypes("tex_", "Texture Images",
         "skel", "3D Skeleton",
@@ -48,6 +48,7 @@ public class Plugin_LVL_UCFB_2 extends ArchivePlugin {
     setGames("Star Wars Battlefront");
     setExtensions("lvl");
     setPlatforms("PC");
+    setMatchHeaders("ucfb");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_M4B_LABN extends ArchivePlugin {
     setExtensions("m4b");
     setGames("Escape From Monkey Island");
     setPlatforms("PC");
+    setMatchHeaders("LABN");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_MAS_CUBEMAS extends ArchivePlugin {
         "F1 Challenge 99-02");
     setExtensions("mas");
     setPlatforms("PC");
+    setMatchHeaders("CUBEMAS4.10");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_MBUNDLE_BPLIST00 extends ArchivePlugin {
         "Samurai Shodown NeoGeo Collection");
     setExtensions("mbundle"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("bplist00");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("webm", "WEBM Video", FileType.TYPE_VIDEO),
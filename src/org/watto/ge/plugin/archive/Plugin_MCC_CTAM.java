@@ -43,6 +43,7 @@ public class Plugin_MCC_CTAM extends ArchivePlugin {
     setGames("How To Survive");
     setExtensions("mcc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("CTAM");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
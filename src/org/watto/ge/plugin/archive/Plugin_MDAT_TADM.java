@@ -48,6 +48,7 @@ public class Plugin_MDAT_TADM extends ArchivePlugin {
     setGames("Rising Eagle");
     setExtensions("mdat"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("TADM");
 
     //setFileTypes("","",
     //             "",""
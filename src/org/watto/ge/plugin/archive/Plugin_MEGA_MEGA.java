@@ -48,6 +48,7 @@ public class Plugin_MEGA_MEGA extends ArchivePlugin {
     setGames("Enemy Territory: Quake Wars");
     setExtensions("mega"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MEGA");
 
     //setFileTypes("","",
     //             "",""
@@ -47,6 +47,7 @@ public class Plugin_MGF_MGFS extends ArchivePlugin {
     setExtensions("mgf");
     setGames("Battleship Surface Thunder");
     setPlatforms("PC");
+    setMatchHeaders("MGFs");
 
   }
 
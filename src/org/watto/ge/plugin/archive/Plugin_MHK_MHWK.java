@@ -52,6 +52,7 @@ public class Plugin_MHK_MHWK extends ArchivePlugin {
         "The Cat In The Hat by Dr. Seuss");
     setExtensions("mhk");
     setPlatforms("PC");
+    setMatchHeaders("MHWK");
 
   }
 
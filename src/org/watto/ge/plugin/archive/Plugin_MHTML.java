@@ -51,6 +51,7 @@ public class Plugin_MHTML extends ArchivePlugin {
     setGames("Microsoft Internet Explorer");
     setExtensions("mht", "mhtml");
     setPlatforms("PC");
+    setMatchHeaders("From:");
 
   }
 
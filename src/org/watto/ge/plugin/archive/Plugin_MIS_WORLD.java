@@ -44,6 +44,7 @@ public class Plugin_MIS_WORLD extends ArchivePlugin {
     setGames("Fallout Tactics");
     setExtensions("mis"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("<world>");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
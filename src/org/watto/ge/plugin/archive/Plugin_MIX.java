@@ -45,6 +45,8 @@ public class Plugin_MIX extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, false);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("mix");
     setGames("Command And Conquer");
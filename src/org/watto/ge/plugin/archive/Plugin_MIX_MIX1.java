@@ -48,6 +48,7 @@ public class Plugin_MIX_MIX1 extends ArchivePlugin {
     setGames("Earth And Beyond");
     setExtensions("mix");
     setPlatforms("PC");
+    setMatchHeaders("MIX1");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_MJZ_MJZ0 extends ArchivePlugin {
         "Luxor HD");
     setExtensions("mjz"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MJZ0");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_MJZ_MJZ0_2 extends ArchivePlugin {
     setGames("Luxor Mahjong");
     setExtensions("mjz"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MJZ0");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
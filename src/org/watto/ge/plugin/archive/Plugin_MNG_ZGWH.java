@@ -46,6 +46,7 @@ public class Plugin_MNG_ZGWH extends ArchivePlugin {
     setExtensions("mng");
     setGames("Hostile Waters");
     setPlatforms("PC");
+    setMatchHeaders("ZGWH");
 
     setTextPreviewExtensions("ail", "ait", "ars", "arsbac", "bac", "bottom", "bre", "cam", "dep", "etc", "for", "h", "key", "lst", "m01", "pal", "pat", "s01", "s0l", "s0u", "sp", "wave", "x01", "x0l"); // LOWER CASE
 
@@ -47,6 +47,7 @@ public class Plugin_MPAK_MPAK extends ArchivePlugin {
         "Battlestations: Pacific");
     setExtensions("mpak");
     setPlatforms("PC");
+    setMatchHeaders("MPAK");
 
     //setFileTypes("","",
     //             "",""
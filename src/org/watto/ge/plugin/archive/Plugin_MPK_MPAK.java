@@ -47,6 +47,7 @@ public class Plugin_MPK_MPAK extends ArchivePlugin {
     setGames("Terminator: Dawn Of Fate");
     setExtensions("mpk");
     setPlatforms("XBox");
+    setMatchHeaders("MPAK");
 
   }
 
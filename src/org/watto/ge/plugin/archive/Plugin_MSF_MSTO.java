@@ -47,6 +47,7 @@ public class Plugin_MSF_MSTO extends ArchivePlugin {
     setGames("Stardust Screen Saver Toolkit");
     setExtensions("msf");
     setPlatforms("PC");
+    setMatchHeaders("msto");
 
     setFileTypes("100", "Image (BMP or JPEG)");
 
@@ -43,6 +43,7 @@ public class Plugin_MSSCMP_KNAB extends ArchivePlugin {
     setGames("Galactic Civilizations 3");
     setExtensions("msscmp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("KNAB");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -50,6 +50,7 @@ public class Plugin_MTD_MTDLIB extends ArchivePlugin {
     setGames("Entrepreneur");
     setExtensions("mtd");
     setPlatforms("PC");
+    setMatchHeaders("MTDLIB");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_MUK_MUKFILE extends ArchivePlugin {
     setGames("Epic Warhammer 40k: Final Liberation");
     setExtensions("muk");
     setPlatforms("PC");
+    setMatchHeaders("MUK file (C) Holistic Design 1997");
 
   }
 
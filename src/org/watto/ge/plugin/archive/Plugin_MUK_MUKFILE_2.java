@@ -47,6 +47,7 @@ public class Plugin_MUK_MUKFILE_2 extends ArchivePlugin {
     setGames("Mall Tycoon");
     setExtensions("muk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MUK file (C) Holistic Design 2000");
 
     //setFileTypes("","",
     //             "",""
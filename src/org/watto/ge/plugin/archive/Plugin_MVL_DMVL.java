@@ -49,6 +49,7 @@ public class Plugin_MVL_DMVL extends ArchivePlugin {
     setGames("Descent 2");
     setExtensions("mvl");
     setPlatforms("PC");
+    setMatchHeaders("DMVL");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_MW4_VBD extends ArchivePlugin {
     setExtensions("mw4");
     setGames("Mech Warrior 4: Mercenaries");
     setPlatforms("PC");
+    setMatchHeaders("#VBD");
 
   }
 
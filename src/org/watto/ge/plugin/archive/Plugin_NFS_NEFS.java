@@ -48,6 +48,7 @@ public class Plugin_NFS_NEFS extends ArchivePlugin {
         "GRID Autosport");
     setExtensions("nfs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NeFS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_NHP_NOVAHACKPACK extends ArchivePlugin {
     setGames("Luxor 3");
     setExtensions("nhp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NovaHackPack");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_NITRO_NTRO extends ArchivePlugin {
         "The Sims 2");
     setExtensions("nitro_archive"); // MUST BE LOWER CASE
     setPlatforms("NDS");
+    setMatchHeaders("NTRO");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
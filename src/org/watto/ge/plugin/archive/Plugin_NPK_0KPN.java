@@ -48,6 +48,7 @@ public class Plugin_NPK_0KPN extends ArchivePlugin {
         "Project Nomad");
     setExtensions("npk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("0KPN");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_NPK_NOVAPACK extends ArchivePlugin {
         "Luxor: Quest for the Afterlife");
     setExtensions("npk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NovaPack");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -50,6 +50,7 @@ public class Plugin_NPK_NXPK extends ArchivePlugin {
     setGames("Identity V");
     setExtensions("npk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NXPK");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
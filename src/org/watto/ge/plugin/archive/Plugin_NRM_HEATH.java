@@ -48,6 +48,7 @@ public class Plugin_NRM_HEATH extends ArchivePlugin {
     setExtensions("nrm");
     setGames("Heath: The Unchosen Path");
     setPlatforms("PC");
+    setMatchHeaders("Heath: The Unchosen Path");
 
   }
 
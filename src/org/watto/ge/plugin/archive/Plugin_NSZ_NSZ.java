@@ -45,6 +45,7 @@ public class Plugin_NSZ_NSZ extends ArchivePlugin {
     setGames("Rumble Fighter");
     setExtensions("nsz");
     setPlatforms("PC");
+    setMatchHeaders("NSZ!");
 
     //setFileTypes("","",
     //             "",""
@@ -49,6 +49,7 @@ public class Plugin_NSZ_NSZJ extends ArchivePlugin {
     setGames("Rumble Fighter");
     setExtensions("nsz");
     setPlatforms("PC");
+    setMatchHeaders("NSZj");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_NUP_NU20 extends ArchivePlugin {
     setGames("LEGO Star Wars 2: The Original Trilogy");
     setExtensions("nup"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NU20");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
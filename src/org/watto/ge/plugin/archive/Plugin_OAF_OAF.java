@@ -46,6 +46,7 @@ public class Plugin_OAF_OAF extends ArchivePlugin {
     setGames("Dungeon Siege 3");
     setExtensions("oaf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("OAF!");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_OBB_APPACK extends ArchivePlugin {
     setGames("Sorcery! Part 3");
     setExtensions("obb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AP_Pack!");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_OIM_OIM3 extends ArchivePlugin {
     setGames("Shadow Of Rome");
     setExtensions("oim");
     setPlatforms("PS2");
+    setMatchHeaders("OIM3");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("oim_img", "Image File", FileType.TYPE_IMAGE),
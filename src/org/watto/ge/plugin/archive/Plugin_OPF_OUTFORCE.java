@@ -44,6 +44,7 @@ public class Plugin_OPF_OUTFORCE extends ArchivePlugin {
     setGames("The Outforce");
     setExtensions("opf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Outforce Packed Content");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_OPK_PAK extends ArchivePlugin {
     setGames("Nikopol: Secrets Of The Immortals");
     setExtensions("obp", "opk", "osp", "ovp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PAK ");
 
     //setFileTypes("","",
     //             "",""
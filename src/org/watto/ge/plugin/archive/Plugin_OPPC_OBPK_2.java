@@ -47,6 +47,7 @@ public class Plugin_OPPC_OBPK_2 extends ArchivePlugin {
     setGames("Darksiders");
     setExtensions("oppc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("OBPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
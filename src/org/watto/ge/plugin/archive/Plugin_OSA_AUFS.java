@@ -45,6 +45,7 @@ public class Plugin_OSA_AUFS extends ArchivePlugin {
         "Broken Sword 5: The Serpent's Curse");
     setExtensions("osa"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AUFS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_OSM_OXYGEN extends ArchivePlugin {
     setGames("Oxygen Phone Manager");
     setExtensions("osm");
     setPlatforms("PC");
+    setMatchHeaders("Oxygen Software SMS. v3.");
 
   }
 
@@ -54,6 +54,7 @@ public class Plugin_PACKAGE_DBPF extends ArchivePlugin {
     setGames("The Sims 2");
     setExtensions("package");
     setPlatforms("PC");
+    setMatchHeaders("DBPF");
 
     //columns = new String[]{"Filename","Size (Kb)","Size (Bytes)","Extension","Type","Data Offset","Compressed","File ID","Source File","Type ID","Group ID","Instance ID 1","Instance ID 2"};
     //columnTypes = new Class[]{String.class, Integer.class, Integer.class, String.class, String.class, Integer.class, Boolean.class,Integer.class,String.class,String.class,String.class,String.class,String.class};
@@ -54,6 +54,7 @@ public class Plugin_PACKAGE_DBPF_2 extends ArchivePlugin {
         "The Sims 4");
     setExtensions("package", "world");
     setPlatforms("PC");
+    setMatchHeaders("DBPF");
 
     setFileTypes("ui", "User Interface",
         "wgra", "Wall Graph",
@@ -47,6 +47,7 @@ public class Plugin_PACKED_BFPK extends ArchivePlugin {
     setGames("Raiders of the Broken Planet");
     setExtensions("packed"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("BFPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_PACK_NBGPACK extends ArchivePlugin {
     setGames("Incredible Dracula: Chasing Love");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("NBGPACK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_PACK_PACK extends ArchivePlugin {
     setGames("Medieval 2 Total War");
     setExtensions("pack");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
     //setFileTypes("","",
     //             "",""
@@ -43,6 +43,7 @@ public class Plugin_PACK_PFH0 extends ArchivePlugin {
     setGames("Shogun 2");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PFH0");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_PACK_PFH3 extends ArchivePlugin {
     setGames("Total War: Shogun 2");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PFH3");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
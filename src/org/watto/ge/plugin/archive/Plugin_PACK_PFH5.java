@@ -43,6 +43,7 @@ public class Plugin_PACK_PFH5 extends ArchivePlugin {
     setGames("A Total War Saga: Troy");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PFH5");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_PACK_SFGP extends ArchivePlugin {
     setGames("Weird Park");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SFGP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -51,6 +51,7 @@ public class Plugin_PACK_SFP extends ArchivePlugin {
         "Weird Park 3");
     setExtensions("pack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SFP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
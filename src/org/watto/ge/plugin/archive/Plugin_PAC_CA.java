@@ -45,6 +45,7 @@ public class Plugin_PAC_CA extends ArchivePlugin {
     setExtensions("pac");
     setGames("Pacman: Adventures In Time");
     setPlatforms("PC");
+    setMatchHeaders(" CA ");
 
     setFileTypes("twt", "Text Document",
         "tod", "3D Object Mesh",
@@ -49,6 +49,7 @@ public class Plugin_PAC_PACK extends ArchivePlugin {
     setGames("Lego Alpha Team");
     setExtensions("pac"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("dds", "DDS Audio File", FileType.TYPE_AUDIO));
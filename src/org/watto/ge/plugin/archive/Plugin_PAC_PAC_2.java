@@ -47,6 +47,7 @@ public class Plugin_PAC_PAC_2 extends ArchivePlugin {
     setGames("Black Matrix");
     setExtensions("pac"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("PAC ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
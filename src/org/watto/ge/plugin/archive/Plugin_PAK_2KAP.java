@@ -49,6 +49,7 @@ public class Plugin_PAK_2KAP extends ArchivePlugin {
         "Pinball Mania Plus");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("2KAP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
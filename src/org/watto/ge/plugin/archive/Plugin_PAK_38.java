@@ -1301,6 +1301,7 @@ public class Plugin_PAK_38 extends ArchivePlugin {
    **********************************************************************************************
    **/
   public String readUAssetClass(Resource resource) {
+    FileManipulator fm = null;
     try {
       long arcSize = resource.getDecompressedLength();
 
@@ -1346,7 +1347,7 @@ public class Plugin_PAK_38 extends ArchivePlugin {
       */
 
       ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-      FileManipulator fm = new FileManipulator(byteBuffer);
+      fm = new FileManipulator(byteBuffer);
 
       // 4 - Unreal Header (193,131,42,158)
       if (fm.readInt() == -1641380927) {
@@ -1450,16 +1451,19 @@ public class Plugin_PAK_38 extends ArchivePlugin {
         UnrealImportEntry entry = imports[i];
 
         if (entry.getType().equals("Class")) {
-          fm.close();
           return entry.getName();
         }
 
       }
 
-      fm.close();
     }
     catch (Throwable t) {
     }
+    finally {
+      if (fm != null) {
+        fm.close();
+      }
+    }
     return null;
 
   }
@@ -1392,6 +1392,7 @@ public class Plugin_PAK_65 extends ArchivePlugin {
     // If this file is a uAsset, it really shouldn't use OODLE compression, but just in case we want to disable it for now (as it uses QuickBMS)
     ExporterPlugin originalExporter = resource.getExporter();
 
+    FileManipulator fm = null;
     try {
       long arcSize = resource.getDecompressedLength();
 
@@ -1437,7 +1438,7 @@ public class Plugin_PAK_65 extends ArchivePlugin {
       */
 
       ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-      FileManipulator fm = new FileManipulator(byteBuffer);
+      fm = new FileManipulator(byteBuffer);
 
       // 4 - Unreal Header (193,131,42,158)
       // 4 - Version (6) (XOR with 255)
@@ -1533,8 +1534,6 @@ public class Plugin_PAK_65 extends ArchivePlugin {
         UnrealImportEntry entry = imports[i];
 
         if (entry.getType().equals("Class")) {
-          fm.close();
-
           // put the original exporter back
           resource.setExporter(originalExporter);
 
@@ -1543,10 +1542,14 @@ public class Plugin_PAK_65 extends ArchivePlugin {
 
       }
 
-      fm.close();
     }
     catch (Throwable t) {
     }
+    finally {
+      if (fm != null) {
+        fm.close();
+      }
+    }
 
     // put the original exporter back
     resource.setExporter(originalExporter);
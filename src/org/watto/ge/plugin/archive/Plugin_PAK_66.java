@@ -706,6 +706,7 @@ public class Plugin_PAK_66 extends ArchivePlugin {
    **********************************************************************************************
    **/
   public String readUAssetClass(Resource resource) {
+    FileManipulator fm = null;
     try {
       long arcSize = resource.getDecompressedLength();
 
@@ -751,7 +752,7 @@ public class Plugin_PAK_66 extends ArchivePlugin {
       */
 
       ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-      FileManipulator fm = new FileManipulator(byteBuffer);
+      fm = new FileManipulator(byteBuffer);
 
       // 4 - Unreal Header (193,131,42,158)
       // 4 - Version (6) (XOR with 255)
@@ -847,16 +848,19 @@ public class Plugin_PAK_66 extends ArchivePlugin {
         UnrealImportEntry entry = imports[i];
 
         if (entry.getType().equals("Class")) {
-          fm.close();
           return entry.getName();
         }
 
       }
 
-      fm.close();
     }
     catch (Throwable t) {
     }
+    finally {
+      if (fm != null) {
+        fm.close();
+      }
+    }
     return null;
 
   }
@@ -43,6 +43,7 @@ public class Plugin_PAK_69 extends ArchivePlugin {
     setGames("Crime Cities");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("V3D ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_PAK_DATA extends ArchivePlugin {
     setGames("King Of Fighters: Maximum Impact");
     setExtensions("pak");
     setPlatforms("XBox");
+    setMatchHeaders("DATA");
 
   }
 
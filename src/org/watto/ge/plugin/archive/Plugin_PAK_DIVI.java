@@ -49,6 +49,7 @@ public class Plugin_PAK_DIVI extends ArchivePlugin {
     setExtensions("pak");
     setGames("Motorhead");
     setPlatforms("PC");
+    setMatchHeaders("DIVI");
 
   }
 
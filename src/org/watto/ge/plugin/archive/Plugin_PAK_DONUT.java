@@ -50,6 +50,7 @@ public class Plugin_PAK_DONUT extends ArchivePlugin {
     setGames("Rebels: Prison Escape");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("DoNuT:FSPacked:0");
 
   }
 
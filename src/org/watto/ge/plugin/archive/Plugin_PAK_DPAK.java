@@ -44,6 +44,7 @@ public class Plugin_PAK_DPAK extends ArchivePlugin {
     setGames("LEGO Creator Knights Kingdom");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DPAK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
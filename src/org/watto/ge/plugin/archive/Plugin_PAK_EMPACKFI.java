@@ -43,6 +43,7 @@ public class Plugin_PAK_EMPACKFI extends ArchivePlugin {
     setGames("Broken Sword 4: The Angel of Death");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("EmPackFi");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
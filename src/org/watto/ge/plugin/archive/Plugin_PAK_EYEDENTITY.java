@@ -87,6 +87,7 @@ public class Plugin_PAK_EYEDENTITY extends ArchivePlugin {
     setGames("Dragon Nest");
     setExtensions("pak", "rfs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("EyedentityGames Packing File 0.1");
 
     setFileTypes(new FileType("act", "Action", FileType.TYPE_OTHER),
         new FileType("ani", "Animation", FileType.TYPE_OTHER),
@@ -51,6 +51,7 @@ public class Plugin_PAK_FEPAK extends ArchivePlugin {
     setGames("Lagsters");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("FEPAK");
 
   }
 
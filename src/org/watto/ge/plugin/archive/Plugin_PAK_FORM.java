@@ -51,6 +51,7 @@ public class Plugin_PAK_FORM extends ArchivePlugin {
     setGames("Project Lucie");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FORM");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
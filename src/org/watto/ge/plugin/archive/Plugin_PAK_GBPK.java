@@ -43,6 +43,7 @@ public class Plugin_PAK_GBPK extends ArchivePlugin {
     setGames("Burger Shop");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GBPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
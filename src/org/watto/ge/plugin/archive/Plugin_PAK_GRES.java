@@ -43,6 +43,7 @@ public class Plugin_PAK_GRES extends ArchivePlugin {
     setGames("Ascension to the Throne");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GRES");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_PAK_HMMSYS extends ArchivePlugin {
         "Imperivm: Great Battles of Rome");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("HMMSYS PackFile");
 
     setTextPreviewExtensions("vs", "bl", "xls"); // LOWER CASE
 
@@ -45,6 +45,7 @@ public class Plugin_PAK_HROT extends ArchivePlugin {
     setGames("HROT");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("HROT");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("md2", "MD2 Mesh", FileType.TYPE_MODEL),
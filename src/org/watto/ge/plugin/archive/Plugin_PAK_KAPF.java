@@ -49,6 +49,7 @@ public class Plugin_PAK_KAPF extends ArchivePlugin {
     setGames("Minority Report: Everybody Runs");
     setExtensions("pak");
     setPlatforms("XBox");
+    setMatchHeaders("KAPF");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_PAK_KAPT extends ArchivePlugin {
     setGames("MorphX");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("KAPT");
 
     // MUST BE LOWER CASE !!!
     // setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
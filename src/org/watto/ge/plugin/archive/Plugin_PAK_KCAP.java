@@ -47,6 +47,7 @@ public class Plugin_PAK_KCAP extends ArchivePlugin {
     setGames("Spongebob Squarepants: Lights Camera Pants!");
     setExtensions("pak");
     setPlatforms("XBox");
+    setMatchHeaders("kcap");
 
   }
 
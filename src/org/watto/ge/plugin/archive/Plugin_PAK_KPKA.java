@@ -46,6 +46,7 @@ public class Plugin_PAK_KPKA extends ArchivePlugin {
     setGames("Capcom Arcade Stadium");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("KPKA");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tex", "TEX Image", FileType.TYPE_IMAGE));
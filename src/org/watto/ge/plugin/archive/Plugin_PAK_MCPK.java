@@ -48,6 +48,7 @@ public class Plugin_PAK_MCPK extends ArchivePlugin {
     setGames("Cities XL");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MCPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
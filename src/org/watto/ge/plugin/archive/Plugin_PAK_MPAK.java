@@ -43,6 +43,7 @@ public class Plugin_PAK_MPAK extends ArchivePlugin {
     setGames("Viking: Battle for Asgard");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MPAK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
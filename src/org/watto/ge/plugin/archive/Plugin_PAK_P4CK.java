@@ -48,6 +48,7 @@ public class Plugin_PAK_P4CK extends ArchivePlugin {
     setGames("Second Sight");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("P4CK");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_PAK_P5CK extends ArchivePlugin {
     setGames("TimeSplitters: Future Perfect");
     setExtensions("pak");
     setPlatforms("PC", "PS2", "GameCube");
+    setMatchHeaders("P5CK");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("mib", "MIB Audio", FileType.TYPE_AUDIO),
@@ -50,6 +50,7 @@ public class Plugin_PAK_P5CK_2 extends ArchivePlugin {
     setGames("TimeSplitters: Future Perfect");
     setExtensions("pak");
     setPlatforms("PS2", "GameCube");
+    setMatchHeaders("P5CK");
 
     setCanScanForFileTypes(true);
 
@@ -18,10 +18,14 @@ import java.io.File;
 import org.watto.Language;
 import org.watto.component.WSPluginManager;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ArchivePatcher;
 import org.watto.ge.helper.FieldValidator;
 import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
+import org.watto.ge.plugin.exporter.Exporter_Default;
 import org.watto.io.FileManipulator;
+import org.watto.io.buffer.PackBuffer;
 import org.watto.task.TaskProgressManager;
 
 /**
@@ -42,6 +46,9 @@ public class Plugin_PAK_PACK extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanPatch(true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("pak");
     setGames("Conquest Of The New World",
@@ -60,6 +67,7 @@ public class Plugin_PAK_PACK extends ArchivePlugin {
         "Soldier of Fortune",
         "Trickstyle");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
     setFileTypes("spr", "Object Sprite",
         "bsp", "Level Map",
@@ -112,6 +120,122 @@ public class Plugin_PAK_PACK extends ArchivePlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Patches the replaced and renamed files into the archive. Replaced files are written over the
+  old file if they fit, otherwise they're added to the end of the archive (after the directory).
+  Only the directory entries for the changed files are written.
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean patch(Resource[] resources, ArchivePatcher patcher) throws Exception {
+    File path = patcher.getArchive();
+    String archivePath = path.getAbsolutePath();
+
+    FileManipulator fm = new FileManipulator(path, false);
+
+    // 4 - Header
+    fm.skip(4);
+
+    // 4 - Directory Offset
+    long dirOffset = fm.readInt();
+
+    // 4 - Directory Length
+    int numFiles = fm.readInt() / 64;
+
+    if (numFiles != resources.length) {
+      // files have been added or removed
+      fm.close();
+      return false;
+    }
+
+    // check all the changes before writing anything
+    String[] names = new String[numFiles];
+    long[] offsets = new long[numFiles];
+    long[] lengths = new long[numFiles];
+
+    long appendLength = 0;
+
+    fm.seek(dirOffset);
+    for (int i = 0; i < numFiles; i++) {
+      // 56 - Filename
+      names[i] = fm.readNullString(56);
+
+      // 4 - Data Offset
+      offsets[i] = fm.readInt();
+
+      // 4 - File Length
+      lengths[i] = fm.readInt();
+
+      Resource resource = resources[i];
+      if (resource.getName().length() > 56) {
+        fm.close();
+        return false;
+      }
+
+      if (resource.isReplaced()) {
+        appendLength += resource.getDecompressedLength();
+      }
+      else if (!resource.getSource().getAbsolutePath().equals(archivePath) || resource.getOffset() != offsets[i] || resource.getLength() != lengths[i]) {
+        // the file has been moved, or comes from somewhere else
+        fm.close();
+        return false;
+      }
+    }
+
+    fm.close();
+
+    // a file can't be written over in place if its bytes are shared with another file, or with the
+    // header or directory, so the whole archive is written again instead
+    long[] ranges = new long[numFiles + 2];
+    long[] rangeLengths = new long[numFiles + 2];
+    System.arraycopy(offsets, 0, ranges, 0, numFiles);
+    System.arraycopy(lengths, 0, rangeLengths, 0, numFiles);
+    ranges[numFiles] = 0;
+    rangeLengths[numFiles] = 12;
+    ranges[numFiles + 1] = dirOffset;
+    rangeLengths[numFiles + 1] = numFiles * 64;
+    if (ArchivePatcher.hasSharedRanges(ranges, rangeLengths)) {
+      return false;
+    }
+
+    if (patcher.getLength() + appendLength > Integer.MAX_VALUE) {
+      // the offsets might not fit in the directory
+      return false;
+    }
+
+    TaskProgressManager.setMaximum(numFiles);
+
+    ExporterPlugin exporter = Exporter_Default.getInstance();
+    PackBuffer nameBuffer = new PackBuffer(56);
+    for (int i = 0; i < numFiles; i++) {
+      Resource resource = resources[i];
+      long entryOffset = dirOffset + i * 64;
+
+      String name = resource.getName();
+      if (!name.equals(names[i])) {
+        //FileName-56
+        nameBuffer.reset();
+        new FileManipulator(nameBuffer).writeNullString(name, 56);
+        patcher.writeBytes(entryOffset, nameBuffer.getBuffer(), 0, 56);
+      }
+
+      if (resource.isReplaced()) {
+        long[] payload = patcher.writePayload(resource, exporter, offsets[i], lengths[i]);
+
+        //Data Offset-4
+        patcher.writeInt(entryOffset + 56, (int) payload[0]);
+
+        //Length-4
+        patcher.writeInt(entryOffset + 60, (int) payload[1]);
+      }
+
+      TaskProgressManager.setValue(i);
+    }
+
+    return true;
+  }
+
   /**
    **********************************************************************************************
    Provide hints to the previewer so that certain document types are displayed appropriately
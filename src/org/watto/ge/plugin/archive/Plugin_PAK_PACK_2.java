@@ -49,6 +49,7 @@ public class Plugin_PAK_PACK_2 extends ArchivePlugin {
     setExtensions("pak");
     setGames("Daikatana");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
   }
 
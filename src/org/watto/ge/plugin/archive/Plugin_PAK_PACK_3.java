@@ -48,6 +48,7 @@ public class Plugin_PAK_PACK_3 extends ArchivePlugin {
     setGames("7 Sins");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
   }
 
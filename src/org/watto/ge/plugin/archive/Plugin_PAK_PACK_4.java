@@ -51,6 +51,7 @@ public class Plugin_PAK_PACK_4 extends ArchivePlugin {
         "Skispringen 2007");
     setExtensions("pak");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_PAK_PACK_5 extends ArchivePlugin {
     setGames("Eador: Masters of the Broken World");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
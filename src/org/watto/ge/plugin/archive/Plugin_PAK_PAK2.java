@@ -44,6 +44,7 @@ public class Plugin_PAK_PAK2 extends ArchivePlugin {
         "Viking: Battle for Asgard");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PAK2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_PAK_PAK_3 extends ArchivePlugin {
     setGames("Eschalon: Book 1");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("!PAK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -51,6 +51,7 @@ public class Plugin_PAK_PAK_7 extends ArchivePlugin {
     setGames("James Cameron's Avatar - The Game");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PAK!");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
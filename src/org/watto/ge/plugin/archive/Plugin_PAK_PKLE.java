@@ -44,6 +44,7 @@ public class Plugin_PAK_PKLE extends ArchivePlugin {
     setGames("Ion Assault");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PKLE");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -51,6 +51,7 @@ public class Plugin_PAK_SBPAK extends ArchivePlugin {
         "Helldorado");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SBPAK V 1.0");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -49,6 +49,7 @@ public class Plugin_PAK_SGMF extends ArchivePlugin {
     setGames("A.I.M.2: Clan Wars");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SGMF");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tm", "TM Image", FileType.TYPE_IMAGE));
@@ -49,6 +49,7 @@ public class Plugin_PAK_SPARK extends ArchivePlugin {
     setGames("Call Of Duty: Finest Hour");
     setExtensions("pak");
     setPlatforms("XBox");
+    setMatchHeaders("Spark Pack (C)2004 Spark Unlimited, Inc. Author Jim Schuler.");
 
   }
 
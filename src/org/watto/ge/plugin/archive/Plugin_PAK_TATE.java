@@ -44,6 +44,7 @@ public class Plugin_PAK_TATE extends ArchivePlugin {
     setGames("Kao the Kangaroo: Round 2");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("TATE");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_PAK_WINGSPAK extends ArchivePlugin {
     setGames("Soldner: Secret Wars");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WINGSPAK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
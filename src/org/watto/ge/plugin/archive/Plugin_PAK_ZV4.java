@@ -48,6 +48,7 @@ public class Plugin_PAK_ZV4 extends ArchivePlugin {
         "The LEGO Movie Videogame");
     setExtensions("pak"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("zV4");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
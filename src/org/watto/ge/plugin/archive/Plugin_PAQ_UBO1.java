@@ -47,6 +47,7 @@ public class Plugin_PAQ_UBO1 extends ArchivePlugin {
     setGames("Ultimate Baseball Online");
     setExtensions("paq"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ubo1");
 
     //setFileTypes("","",
     //             "",""
@@ -46,6 +46,7 @@ public class Plugin_PAR_PARC extends ArchivePlugin {
     setGames("Binary Domain");
     setExtensions("par"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PARC");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
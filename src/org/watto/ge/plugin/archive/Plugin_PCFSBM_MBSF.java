@@ -42,6 +42,7 @@ public class Plugin_PCFSBM_MBSF extends ArchivePlugin {
     setGames("Deus Ex: Mankind Divided");
     setExtensions("pc_fsbm"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MBSF");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -51,6 +51,7 @@ public class Plugin_PCK_0KCP extends ArchivePlugin {
     setGames("WWII Tank Commander");
     setExtensions("pck");
     setPlatforms("PC");
+    setMatchHeaders("0KCP");
 
   }
 
@@ -51,6 +51,7 @@ public class Plugin_PCK_AKPK extends ArchivePlugin {
         "Resident Evil 2");
     setExtensions("pck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AKPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_PCK_AKPK_2 extends ArchivePlugin {
         "Gwent");
     setExtensions("pck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AKPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_PCK_AKPK_3 extends ArchivePlugin {
     setGames("Warhammer 40,000 Space Marine");
     setExtensions("pck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AKPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_PCK_AZPK extends ArchivePlugin {
     setGames("Create");
     setExtensions("pck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AZPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_PCK_GDPC extends ArchivePlugin {
         "Martial Law");
     setExtensions("pck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("GDPC");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("stex", "Texture Image", FileType.TYPE_IMAGE),
@@ -49,6 +49,7 @@ public class Plugin_PCK_PACK extends ArchivePlugin {
     setGames("Le Mans 24 Hours",
         "Test Drive Le Mans");
     setPlatforms("PC");
+    setMatchHeaders("PACK");
 
   }
 
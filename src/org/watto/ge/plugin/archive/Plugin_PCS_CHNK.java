@@ -47,6 +47,7 @@ public class Plugin_PCS_CHNK extends ArchivePlugin {
         "Driver: Parallel Lines");
     setExtensions("cpr", "d3s", "dam", "gfx", "map", "mec", "mpc", "pcs", "pmu", "vgt", "vvs", "vvv", "sp");
     setPlatforms("PC");
+    setMatchHeaders("CHNK");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_PDI_PDI1 extends ArchivePlugin {
     setGames("Motorhead");
     setExtensions("pdi"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PDI1");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
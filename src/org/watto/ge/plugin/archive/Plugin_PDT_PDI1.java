@@ -45,6 +45,7 @@ public class Plugin_PDT_PDI1 extends ArchivePlugin {
         "Test Drive Rally");
     setExtensions("pdt");
     setPlatforms("PC");
+    setMatchHeaders("PDI1");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_PEG_GEKV extends ArchivePlugin {
     setExtensions("peg");
     setGames("Red Faction 2");
     setPlatforms("PC");
+    setMatchHeaders("GEKV");
 
   }
 
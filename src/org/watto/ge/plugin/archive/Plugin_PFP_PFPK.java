@@ -46,6 +46,7 @@ public class Plugin_PFP_PFPK extends ArchivePlugin {
         "Xenonauts");
     setExtensions("pfp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PFPK");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_PIG_PPIG extends ArchivePlugin {
     setExtensions("pig");
     setGames("Descent 2");
     setPlatforms("PC");
+    setMatchHeaders("PPIG");
 
     setFileTypes("spr", "Object Sprite");
 
@@ -45,6 +45,7 @@ public class Plugin_PKG_ARCH extends ArchivePlugin {
     setGames("Metal Heart: Replicants Rampage");
     setExtensions("pkg");
     setPlatforms("PC");
+    setMatchHeaders("ARCH");
 
   }
 
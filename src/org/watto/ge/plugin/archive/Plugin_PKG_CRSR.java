@@ -51,6 +51,7 @@ public class Plugin_PKG_CRSR extends ArchivePlugin {
     setGames("Galleon: Island Of Mystery");
     setExtensions("pkg");
     setPlatforms("XBox");
+    setMatchHeaders("CRSR");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_PKG_INEVAUD extends ArchivePlugin {
     setGames("Tribes: Aerial Assault");
     setExtensions("pkg"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("inevaud");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_PKG_PPKG extends ArchivePlugin {
     setGames("WRC 7");
     setExtensions("pkg"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PPKG");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("ptx", "PTX Image", FileType.TYPE_IMAGE));
@@ -45,6 +45,7 @@ public class Plugin_PKR_PKR1 extends ArchivePlugin {
     setGames("Gex 2: Enter The Gecko");
     setExtensions("pkr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PKR1");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_PKR_PKR2 extends ArchivePlugin {
     setExtensions("pkr");
     setGames("Tony Hawk: Pro Skater 2");
     setPlatforms("PC");
+    setMatchHeaders("PKR2");
 
     setFileTypes("fnt", "Font File",
         "hed", "CD Data",
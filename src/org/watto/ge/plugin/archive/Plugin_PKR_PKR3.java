@@ -49,6 +49,7 @@ public class Plugin_PKR_PKR3 extends ArchivePlugin {
     setExtensions("pkr");
     setGames("Spiderman");
     setPlatforms("PC");
+    setMatchHeaders("PKR3");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_POD_POD2 extends ArchivePlugin {
         "Blair Witch Project",
         "Nocturne");
     setPlatforms("PC");
+    setMatchHeaders("POD2");
 
     setFileTypes("lst", "File List",
         "opa", "Encrypted Image?",
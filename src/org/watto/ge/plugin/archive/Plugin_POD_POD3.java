@@ -43,12 +43,15 @@ public class Plugin_POD_POD3 extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, false, false, false);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("pod");
     setGames("Bloodrayne",
         "Bloodrayne 2",
         "Aeon Flux");
     setPlatforms("PC", "PS2");
+    setMatchHeaders("POD3");
 
     setFileTypes("tex", "Texture Image",
         "fnt", "Font Image",
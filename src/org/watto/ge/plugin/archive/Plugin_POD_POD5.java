@@ -49,6 +49,7 @@ public class Plugin_POD_POD5 extends ArchivePlugin {
         "The Walking Dead: Survival Instinct");
     setExtensions("pod"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("POD5");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
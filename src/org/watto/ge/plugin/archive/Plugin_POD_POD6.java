@@ -59,6 +59,7 @@ public class Plugin_POD_POD6 extends ArchivePlugin {
     setGames("Ghostbusters: The Video Game: Remastered");
     setExtensions("pod"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("POD6");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
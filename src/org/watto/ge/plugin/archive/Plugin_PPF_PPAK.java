@@ -46,6 +46,7 @@ public class Plugin_PPF_PPAK extends ArchivePlugin {
     setGames("Psychonauts");
     setExtensions("ppf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PPAK");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("1tx", "Texture Image", FileType.TYPE_IMAGE));
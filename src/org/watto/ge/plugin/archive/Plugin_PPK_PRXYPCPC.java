@@ -45,6 +45,7 @@ public class Plugin_PPK_PRXYPCPC extends ArchivePlugin {
     setGames("Wargame: Red Dragon");
     setExtensions("ppk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PRXYPCPC");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tgv", "TGV Image", FileType.TYPE_IMAGE));
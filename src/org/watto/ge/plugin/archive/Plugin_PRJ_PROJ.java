@@ -47,6 +47,7 @@ public class Plugin_PRJ_PROJ extends ArchivePlugin {
     setExtensions("prj");
     setGames("Mech Warrior 2: Mercinaries");
     setPlatforms("PC");
+    setMatchHeaders("PROJ");
 
   }
 
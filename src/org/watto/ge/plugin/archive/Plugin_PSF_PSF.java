@@ -44,6 +44,7 @@ public class Plugin_PSF_PSF extends ArchivePlugin {
     setGames("Conflict: Desert Storm");
     setExtensions("psf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PSF");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_PTEX_PTEX extends ArchivePlugin {
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("ptex"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PTEX");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
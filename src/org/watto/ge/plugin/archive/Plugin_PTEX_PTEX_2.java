@@ -47,6 +47,7 @@ public class Plugin_PTEX_PTEX_2 extends ArchivePlugin {
     setGames("Sonic and SEGA All Stars Racing");
     setExtensions("ptex"); // MUST BE LOWER CASE
     setPlatforms("Wii");
+    setMatchHeaders("PTEX");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("cmpr", "CMPR Image", FileType.TYPE_IMAGE));
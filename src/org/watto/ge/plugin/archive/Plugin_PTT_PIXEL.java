@@ -49,6 +49,7 @@ public class Plugin_PTT_PIXEL extends ArchivePlugin {
     setGames("USAF");
     setExtensions("ptt", "dem");
     setPlatforms("PC");
+    setMatchHeaders("Pixel - Strm");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_PUA_ARCP extends ArchivePlugin {
     setGames("Against Rome");
     setExtensions("pua");
     setPlatforms("PC");
+    setMatchHeaders("ARCP");
 
   }
 
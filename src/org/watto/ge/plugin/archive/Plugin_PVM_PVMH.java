@@ -43,6 +43,7 @@ public class Plugin_PVM_PVMH extends ArchivePlugin {
     setGames("Sonic Adventure DX");
     setExtensions("pvm"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PVMH");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -50,6 +50,7 @@ public class Plugin_R3D_ZORRA extends ArchivePlugin {
     setGames("Rocko's Quest");
     setExtensions("r3d");
     setPlatforms("PC");
+    setMatchHeaders("Zorra");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_RAR_RAR extends ArchivePlugin {
         "Hidden And Dangerous");
     setExtensions("rar");
     setPlatforms("PC");
+    setMatchHeaders("Rar!");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_RBH_PIFF extends ArchivePlugin {
     setGames("South Park Rally");
     setExtensions("rbh"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PIFF");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
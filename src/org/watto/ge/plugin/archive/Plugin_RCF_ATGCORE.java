@@ -43,6 +43,7 @@ public class Plugin_RCF_ATGCORE extends ArchivePlugin {
     setGames("The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
     setPlatforms("XBox");
+    setMatchHeaders("ATG CORE CEMENT LIBRARY");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_RCF_ATGCORE_2 extends ArchivePlugin {
     setGames("The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
     setPlatforms("GameCube");
+    setMatchHeaders("ATG CORE CEMENT LIBRARY");
 
   }
 
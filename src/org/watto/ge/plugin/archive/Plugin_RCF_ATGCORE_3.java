@@ -50,6 +50,7 @@ public class Plugin_RCF_ATGCORE_3 extends ArchivePlugin {
     setGames("Prototype");
     setExtensions("rcf");
     setPlatforms("PC");
+    setMatchHeaders("ATG CORE CEMENT LIBRARY");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_RCF_RADCORE extends ArchivePlugin {
         "The Incredible Hulk: Ultimate Destruction");
     setExtensions("rcf");
     setPlatforms("XBox", "PS2");
+    setMatchHeaders("RADCORE CEMENT LIBRARY");
 
     setTextPreviewExtensions("cho", "rdl"); // LOWER CASE
 
@@ -49,6 +49,7 @@ public class Plugin_RCF_RADCORE_2 extends ArchivePlugin {
         "Simpsons Road Rage");
     setExtensions("rcf");
     setPlatforms("PC", "GameCube");
+    setMatchHeaders("RADCORE CEMENT LIBRARY");
 
   }
 
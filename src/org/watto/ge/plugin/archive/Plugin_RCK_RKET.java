@@ -48,6 +48,7 @@ public class Plugin_RCK_RKET extends ArchivePlugin {
         "How To Survive 2");
     setExtensions("rck"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RKET");
 
     //setCanScanForFileTypes(true);
 
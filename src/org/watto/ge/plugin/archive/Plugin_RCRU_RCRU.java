@@ -48,6 +48,7 @@ public class Plugin_RCRU_RCRU extends ArchivePlugin {
     setGames("River City Ransom: Underground");
     setExtensions("rcru"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RCRU");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_RDA_RESOURCEFILE11 extends ArchivePlugin {
     setGames("Castle Strike");
     setExtensions("rda"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Resource File V1.1");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -48,6 +48,7 @@ public class Plugin_RDBDATA_RDB0 extends ArchivePlugin {
     setGames("Age of Conan");
     setExtensions("rdbdata"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RDB0");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
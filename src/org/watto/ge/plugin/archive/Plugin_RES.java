@@ -41,6 +41,8 @@ public class Plugin_RES extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, false, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("res");
     setGames("Evil Islands: Curse Of The Lost Soul",
@@ -47,6 +47,7 @@ public class Plugin_RES_0TSR extends ArchivePlugin {
     setExtensions("res");
     setGames("Nascar Heat");
     setPlatforms("PC");
+    setMatchHeaders("0TSR");
 
     setFileTypes("img", "Image File",
         "sfx", "Sound Effects",
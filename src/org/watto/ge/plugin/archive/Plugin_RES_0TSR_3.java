@@ -46,6 +46,7 @@ public class Plugin_RES_0TSR_3 extends ArchivePlugin {
     setGames("Dirt To Daytona");
     setExtensions("res"); // MUST BE LOWER CASE
     setPlatforms("PS2");
+    setMatchHeaders("0TSR");
 
     setFileTypes(new FileType("tex", "TEX Image", FileType.TYPE_IMAGE),
         new FileType("img", "IMG Image", FileType.TYPE_IMAGE),
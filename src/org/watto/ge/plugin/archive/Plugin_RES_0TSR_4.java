@@ -45,6 +45,7 @@ public class Plugin_RES_0TSR_4 extends ArchivePlugin {
     setGames("Test Drive: Eve of Destruction");
     setExtensions("res", "car", "trk"); // MUST BE LOWER CASE
     setPlatforms("PS2");
+    setMatchHeaders("0TSR");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -47,6 +47,7 @@ public class Plugin_RES_2 extends ArchivePlugin {
     setExtensions("res");
     setGames("Allods 2: Rage Of Mages");
     setPlatforms("PC");
+    setMatchHeaders("&YA1");
 
   }
 
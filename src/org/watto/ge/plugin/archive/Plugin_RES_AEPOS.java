@@ -44,6 +44,7 @@ public class Plugin_RES_AEPOS extends ArchivePlugin {
     setGames("Eye of the Beholder 3: Assault On Myth Drannor");
     setExtensions("res"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AESOP/16 V1.00");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_RES_DDRV extends ArchivePlugin {
     setGames("Scooby-Doo: Mystery Of The Fun Park Phantom");
     setExtensions("res", "a", "o"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DDRV");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
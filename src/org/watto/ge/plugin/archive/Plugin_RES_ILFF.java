@@ -45,6 +45,7 @@ public class Plugin_RES_ILFF extends ArchivePlugin {
         "Project IGI 2");
     setExtensions("res");
     setPlatforms("PC");
+    setMatchHeaders("ILFF");
 
   }
 
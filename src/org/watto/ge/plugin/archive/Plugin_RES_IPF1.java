@@ -48,6 +48,7 @@ public class Plugin_RES_IPF1 extends ArchivePlugin {
     setGames("Shade");
     setExtensions("res");
     setPlatforms("PC");
+    setMatchHeaders("IPF1");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_RES_LG extends ArchivePlugin {
         "System Shock: Enhanced Edition");
     setExtensions("res");
     setPlatforms("PC");
+    setMatchHeaders("LG Res File v2");
 
     setFileTypes("2", "Image",
         "7", "Creative Voice File",
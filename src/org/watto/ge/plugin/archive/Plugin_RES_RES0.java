@@ -47,6 +47,7 @@ public class Plugin_RES_RES0 extends ArchivePlugin {
     setGames("MAX");
     setExtensions("res");
     setPlatforms("PC");
+    setMatchHeaders("RES0");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_RES_RESOURCE2 extends ArchivePlugin {
     setExtensions("res");
     setGames("F-22 Lightning 2");
     setPlatforms("PC");
+    setMatchHeaders("RESOURCE2xxx");
 
   }
 
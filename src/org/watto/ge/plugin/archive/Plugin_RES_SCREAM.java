@@ -49,6 +49,7 @@ public class Plugin_RES_SCREAM extends ArchivePlugin {
     setGames("Scratches");
     setExtensions("res");
     setPlatforms("PC");
+    setMatchHeaders("SCream resource file");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_REZ_BRGR extends ArchivePlugin {
     setGames("Escape Velocity Nova");
     setExtensions("rez");
     setPlatforms("PC");
+    setMatchHeaders("BRGR");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_RFA_REFRACTOR2 extends ArchivePlugin {
     setGames("RalliSport Challenge");
     setExtensions("rfa"); // MUST BE LOWER CASE
     setPlatforms("XBox");
+    setMatchHeaders("Refractor2 FlatArchive 1.1  ");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("ike", "Wave Audio", FileType.TYPE_AUDIO),
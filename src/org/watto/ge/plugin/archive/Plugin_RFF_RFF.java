@@ -44,6 +44,7 @@ public class Plugin_RFF_RFF extends ArchivePlugin {
     setGames("Blood");
     setExtensions("rff"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RFF");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
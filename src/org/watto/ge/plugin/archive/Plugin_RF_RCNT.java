@@ -47,6 +47,7 @@ public class Plugin_RF_RCNT extends ArchivePlugin {
     setGames("Sim Golf for Windows 95");
     setExtensions("rf", "flg", "tlp");
     setPlatforms("PC");
+    setMatchHeaders("RCNT");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_RGF_RATALAIKA extends ArchivePlugin {
     setGames("League of Evil");
     setExtensions("rgf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Ratalaika Games");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
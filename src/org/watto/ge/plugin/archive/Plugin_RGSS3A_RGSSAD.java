@@ -64,6 +64,7 @@ public class Plugin_RGSS3A_RGSSAD extends ArchivePlugin {
         "The Deed: Dynasty");
     setExtensions("rgss3a"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RGSSAD");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
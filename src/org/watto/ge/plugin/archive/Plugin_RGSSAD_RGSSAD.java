@@ -55,6 +55,7 @@ public class Plugin_RGSSAD_RGSSAD extends ArchivePlugin {
         "Rakuen");
     setExtensions("rgssad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RGSSAD");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
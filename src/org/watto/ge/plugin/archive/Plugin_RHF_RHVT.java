@@ -43,6 +43,7 @@ public class Plugin_RHF_RHVT extends ArchivePlugin {
     setGames("SimTown");
     setExtensions("rhf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RHVT");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_RIM_RIMV10 extends ArchivePlugin {
     setGames("Jade Empire");
     setExtensions("rim");
     setPlatforms("PC");
+    setMatchHeaders("RIM V1.0");
 
   }
 
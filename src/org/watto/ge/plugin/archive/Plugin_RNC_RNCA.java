@@ -49,6 +49,7 @@ public class Plugin_RNC_RNCA extends ArchivePlugin {
     setExtensions("rnc");
     setGames("F-14 Fleet Defender");
     setPlatforms("PC");
+    setMatchHeaders("RNCA");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_RPACK_RP5L extends ArchivePlugin {
         "Sniper: Ghost Warrior");
     setExtensions("rpack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RP5L");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
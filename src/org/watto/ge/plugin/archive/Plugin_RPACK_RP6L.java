@@ -53,6 +53,7 @@ public class Plugin_RPACK_RP6L extends ArchivePlugin {
         "Dead Island");
     setExtensions("rpack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RP6L");
 
     setFileTypes(new FileType("tex_data", "Texture Image", FileType.TYPE_IMAGE),
         new FileType("tex_thumbnail", "Texture Thumbnail Image", FileType.TYPE_OTHER),
@@ -50,6 +50,7 @@ public class Plugin_RPK_RPAK extends ArchivePlugin {
     setGames("Cross Racing Championship 2005");
     setExtensions("rpk");
     setPlatforms("PC");
+    setMatchHeaders("RPAK");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_RPK_RTPK extends ArchivePlugin {
     setGames("Rule of Rose");
     setExtensions("rpk"); // MUST BE LOWER CASE
     setPlatforms("PS2");
+    setMatchHeaders("RTPK");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -50,6 +50,7 @@ public class Plugin_RSB_1BSR extends ArchivePlugin {
     setGames("Zuma's Revenge");
     setExtensions("rsb"); // MUST BE LOWER CASE
     setPlatforms("iOS");
+    setMatchHeaders("1bsr");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("caf", "Core Audio File", FileType.TYPE_AUDIO),
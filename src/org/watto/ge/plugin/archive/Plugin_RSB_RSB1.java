@@ -51,6 +51,7 @@ public class Plugin_RSB_RSB1 extends ArchivePlugin {
         "Zuma's Revenge");
     setExtensions("rsb"); // MUST BE LOWER CASE
     setPlatforms("ps3", "xbox 360");
+    setMatchHeaders("rsb1");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("caf", "Core Audio File", FileType.TYPE_AUDIO),
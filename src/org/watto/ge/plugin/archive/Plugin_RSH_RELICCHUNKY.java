@@ -46,6 +46,7 @@ public class Plugin_RSH_RELICCHUNKY extends ArchivePlugin {
         "Warhammer 40k: Dawn Of War");
     setExtensions("rgt", "rsh", "wtp"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Relic Chunky");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -46,6 +46,7 @@ public class Plugin_RSR_RSRC extends ArchivePlugin {
     setExtensions("rsr", "rsrc");
     setGames("Imperialism 2");
     setPlatforms("PC");
+    setMatchHeaders("rsrc");
 
   }
 
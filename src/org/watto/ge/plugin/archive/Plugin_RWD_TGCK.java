@@ -48,6 +48,7 @@ public class Plugin_RWD_TGCK extends ArchivePlugin {
         "Axis And Allies");
     setExtensions("rwd");
     setPlatforms("PC");
+    setMatchHeaders("TGCK");
 
   }
 
@@ -48,6 +48,7 @@ public class Plugin_S11_DSND extends ArchivePlugin {
     setExtensions("s11", "s22");
     setGames("Descent 2");
     setPlatforms("PC");
+    setMatchHeaders("DSND");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_SAB_CSW2 extends ArchivePlugin {
     setGames("Just Cause");
     setExtensions("sab");
     setPlatforms("PC");
+    setMatchHeaders("CSW2");
 
     //setFileTypes("","",
     //             "",""
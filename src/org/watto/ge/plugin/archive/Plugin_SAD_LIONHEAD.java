@@ -47,6 +47,7 @@ public class Plugin_SAD_LIONHEAD extends ArchivePlugin {
     setExtensions("sad");
     setGames("Black & White");
     setPlatforms("PC");
+    setMatchHeaders("LiOnHeAd");
 
   }
 
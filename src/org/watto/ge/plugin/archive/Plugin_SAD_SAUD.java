@@ -50,6 +50,7 @@ public class Plugin_SAD_SAUD extends ArchivePlugin {
     setExtensions("sad");
     setGames("Rebel Assult 2: The Hidden Empire");
     setPlatforms("PC");
+    setMatchHeaders("SAUD");
 
   }
 
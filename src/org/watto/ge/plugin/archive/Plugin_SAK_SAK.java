@@ -48,6 +48,7 @@ public class Plugin_SAK_SAK extends ArchivePlugin {
     setExtensions("sak");
     setGames("Postal");
     setPlatforms("PC");
+    setMatchHeaders("SAK ");
 
   }
 
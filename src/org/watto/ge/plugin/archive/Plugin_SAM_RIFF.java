@@ -51,6 +51,7 @@ public class Plugin_SAM_RIFF extends ArchivePlugin {
     setGames("Le Mans 24 Hours",
         "Test Drive Le Mans");
     setPlatforms("PC");
+    setMatchHeaders("RIFF");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_SAR_SARC extends ArchivePlugin {
     setGames("Traktor Racer XS");
     setExtensions("sar");
     setPlatforms("PC");
+    setMatchHeaders("SARC");
 
   }
 
@@ -55,6 +55,7 @@ public class Plugin_SBF_SBF0 extends ArchivePlugin {
         "Joint Operations Combined Arms",
         "Tachyon: The Fringe");
     setPlatforms("PC");
+    setMatchHeaders("SBF0");
 
   }
 
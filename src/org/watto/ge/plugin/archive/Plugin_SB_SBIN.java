@@ -45,6 +45,7 @@ public class Plugin_SB_SBIN extends ArchivePlugin {
     setGames("The Sims FreePlay");
     setExtensions("sb"); // MUST BE LOWER CASE
     setPlatforms("Android");
+    setMatchHeaders("SBIN");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_SCF_VSND extends ArchivePlugin {
     setGames("SimTown");
     setExtensions("scf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VSND");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
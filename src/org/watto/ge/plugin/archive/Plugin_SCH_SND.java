@@ -44,6 +44,7 @@ public class Plugin_SCH_SND extends ArchivePlugin {
     setGames("Conflict: Desert Storm");
     setExtensions("sch"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SND");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
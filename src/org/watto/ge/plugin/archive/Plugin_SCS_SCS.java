@@ -46,6 +46,7 @@ public class Plugin_SCS_SCS extends ArchivePlugin {
         "Euro Truck Simulator 2");
     setExtensions("scs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SCS#");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
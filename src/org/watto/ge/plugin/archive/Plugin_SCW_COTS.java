@@ -44,6 +44,7 @@ public class Plugin_SCW_COTS extends ArchivePlugin {
     setExtensions("scw");
     setGames("Lord Of The Rings: Return Of The King");
     setPlatforms("PC");
+    setMatchHeaders("COTS");
 
     setCanScanForFileTypes(true);
 
@@ -45,6 +45,7 @@ public class Plugin_SDAT_SDAT extends ArchivePlugin {
         "Custom Robo Arena");
     setExtensions("sdat"); // MUST BE LOWER CASE
     setPlatforms("NDS");
+    setMatchHeaders("SDAT");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
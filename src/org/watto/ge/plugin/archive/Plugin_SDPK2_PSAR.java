@@ -48,6 +48,7 @@ public class Plugin_SDPK2_PSAR extends ArchivePlugin {
     setGames("Brink");
     setExtensions("sdpk2"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PSAR");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
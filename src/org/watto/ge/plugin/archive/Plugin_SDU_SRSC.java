@@ -54,6 +54,7 @@ public class Plugin_SDU_SRSC extends ArchivePlugin {
         "Drakan: Order Of The Flame");
     setExtensions("sdu", "tdu", "mdu");
     setPlatforms("PC");
+    setMatchHeaders("SRSC");
 
     setCanConvertOnReplace(true);
 
@@ -44,6 +44,7 @@ public class Plugin_SEDT_SEDT extends ArchivePlugin {
     setGames("Bust A Groove");
     setExtensions("sedt"); // MUST BE LOWER CASE
     setPlatforms("PSX");
+    setMatchHeaders("SEDT");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_SFL_SFL10 extends ArchivePlugin {
     setGames("AGON");
     setExtensions("sfl");
     setPlatforms("PC");
+    setMatchHeaders("SFL10");
 
   }
 
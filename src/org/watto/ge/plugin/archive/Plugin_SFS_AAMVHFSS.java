@@ -52,6 +52,7 @@ public class Plugin_SFS_AAMVHFSS extends ArchivePlugin {
         "Samantha Swift and the Hidden Roses of Athena");
     setExtensions("sfs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("AAMVHFSS");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("ani", "Animation XML", FileType.TYPE_DOCUMENT),
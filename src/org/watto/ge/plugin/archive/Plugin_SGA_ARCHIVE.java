@@ -47,6 +47,7 @@ public class Plugin_SGA_ARCHIVE extends ArchivePlugin {
         "Warhammer 40k: Dawn of War: Winter Assault");
     setExtensions("sga");
     setPlatforms("PC");
+    setMatchHeaders("_ARCHIVE");
 
     setTextPreviewExtensions("colours", "rat", "screen", "styles", "turn", "ai", "camp", "nis", "scar", "teamcolour"); // LOWER CASE
 
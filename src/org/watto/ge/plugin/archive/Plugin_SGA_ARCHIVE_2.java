@@ -49,6 +49,7 @@ public class Plugin_SGA_ARCHIVE_2 extends ArchivePlugin {
     setGames("Company of Heroes 2");
     setExtensions("sga");
     setPlatforms("PC");
+    setMatchHeaders("_ARCHIVE");
 
     setFileTypes(new FileType("rgt", "Relic Image", FileType.TYPE_IMAGE));
 
@@ -53,6 +53,7 @@ public class Plugin_SGA_ARCHIVE_3 extends ArchivePlugin {
         "Company of Heroes: Relaunch");
     setExtensions("sga");
     setPlatforms("PC");
+    setMatchHeaders("_ARCHIVE");
 
     setFileTypes(new FileType("rgt", "Relic Image", FileType.TYPE_IMAGE));
 
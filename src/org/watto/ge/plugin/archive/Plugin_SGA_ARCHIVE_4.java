@@ -50,6 +50,7 @@ public class Plugin_SGA_ARCHIVE_4 extends ArchivePlugin {
     setGames("Age Of Empires 4");
     setExtensions("sga");
     setPlatforms("PC");
+    setMatchHeaders("_ARCHIVE");
 
     setFileTypes(new FileType("rrtex", "Relic Image", FileType.TYPE_IMAGE));
 
@@ -49,6 +49,7 @@ public class Plugin_SGBPACK_SGBDAT extends ArchivePlugin {
     setGames("Corrupt Life");
     setExtensions("sgbpack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SGBDAT");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
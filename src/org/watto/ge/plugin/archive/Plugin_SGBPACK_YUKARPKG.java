@@ -50,6 +50,7 @@ public class Plugin_SGBPACK_YUKARPKG extends ArchivePlugin {
         "Occult RERaise");
     setExtensions("sgbpack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("YUKARPKG");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -43,6 +43,7 @@ public class Plugin_SHD extends ArchivePlugin {
     setGames("Fall of the New Age");
     setExtensions("shd"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("RIFF");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_SHD_MRTS extends ArchivePlugin {
     setGames("Harry Potter and the Order of the Phoenix");
     setExtensions("shd", "ffs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MRTS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -49,6 +49,7 @@ public class Plugin_SHP_110 extends ArchivePlugin {
         "Steel Panthers 2",
         "Steel Panthers 3");
     setPlatforms("PC");
+    setMatchHeaders("1.10");
 
   }
 
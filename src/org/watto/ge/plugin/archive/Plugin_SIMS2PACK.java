@@ -49,6 +49,7 @@ public class Plugin_SIMS2PACK extends ArchivePlugin {
     setGames("The Sims 2");
     setExtensions("sims2pack");
     setPlatforms("PC");
+    setMatchHeaders("Sims2 Packager 1.0");
 
     setFileTypes("package", "The Sims 2 Package Archive");
 
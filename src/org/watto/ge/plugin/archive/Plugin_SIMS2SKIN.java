@@ -49,6 +49,7 @@ public class Plugin_SIMS2SKIN extends ArchivePlugin {
     setGames("The Sims 2");
     setExtensions("sims2skin");
     setPlatforms("PC");
+    setMatchHeaders("Sims2 Packager 1.0");
 
     setFileTypes("package", "The Sims 2 Package Archive");
 
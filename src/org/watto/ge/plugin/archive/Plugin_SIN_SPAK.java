@@ -47,6 +47,7 @@ public class Plugin_SIN_SPAK extends ArchivePlugin {
     setExtensions("sin");
     setGames("Sin");
     setPlatforms("PC");
+    setMatchHeaders("SPAK");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_SLV_DATA extends ArchivePlugin {
     setGames("GP500");
     setExtensions("slv"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("DATA");
 
     //setFileTypes("","",
     //             "",""
@@ -52,6 +52,7 @@ public class Plugin_SL_VXBG extends ArchivePlugin {
         "Syberia 2");
     setExtensions("sl");
     setPlatforms("PC");
+    setMatchHeaders("VXBG");
 
   }
 
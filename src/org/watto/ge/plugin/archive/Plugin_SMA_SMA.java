@@ -48,6 +48,7 @@ public class Plugin_SMA_SMA extends ArchivePlugin {
     setGames("Pacific Storm");
     setExtensions("sma"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SMA");
 
     //setFileTypes("","",
     //             "",""
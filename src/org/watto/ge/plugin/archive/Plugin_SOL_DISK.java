@@ -49,6 +49,7 @@ public class Plugin_SOL_DISK extends ArchivePlugin {
     setGames("Space Quest 6");
     setExtensions("sol");
     setPlatforms("PC");
+    setMatchHeaders("DISK");
 
   }
 
@@ -46,6 +46,7 @@ public class Plugin_SOU_SOU extends ArchivePlugin {
     setGames("Indiana Jones and the Fate of Atlantis");
     setExtensions("sou"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SOU ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
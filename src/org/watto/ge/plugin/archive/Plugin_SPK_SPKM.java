@@ -44,6 +44,7 @@ public class Plugin_SPK_SPKM extends ArchivePlugin {
     setGames("Blade and Sword 2");
     setExtensions("spk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("spkm");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
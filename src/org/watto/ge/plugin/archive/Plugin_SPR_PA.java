@@ -50,6 +50,7 @@ public class Plugin_SPR_PA extends ArchivePlugin {
     setGames("Pax Corpus");
     setExtensions("spr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders(":PA:");
 
     setFileTypes(new FileType("spr_tex", "Texture Image", FileType.TYPE_IMAGE));
 
@@ -50,6 +50,7 @@ public class Plugin_SPR_SPR1 extends ArchivePlugin {
     setGames("Gorky 17");
     setExtensions("spr"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("spr1");
 
     setCanConvertOnReplace(true);
 
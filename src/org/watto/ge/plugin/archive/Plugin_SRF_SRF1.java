@@ -59,6 +59,7 @@ public class Plugin_SRF_SRF1 extends ArchivePlugin {
         "You Don't Know Jack! Volume 3");
     setExtensions("srf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("srf1");
 
     //setFileTypes("","",
     //             "",""
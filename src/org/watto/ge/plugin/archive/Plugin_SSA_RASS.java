@@ -49,6 +49,7 @@ public class Plugin_SSA_RASS extends ArchivePlugin {
     setGames("Empires: Dawn Of The Modern World",
         "Empire Earth");
     setPlatforms("PC");
+    setMatchHeaders("rass");
 
     setFileTypes("scn", "Scenario",
         "dat", "Data File",
@@ -52,6 +52,7 @@ public class Plugin_SSA_RASS_2 extends ArchivePlugin {
     setExtensions("ssa");
     setGames("Rise and Fall: Civilizations at War");
     setPlatforms("PC");
+    setMatchHeaders("rass");
 
     setFileTypes("scn", "Scenario",
         "dat", "Data File",
@@ -47,6 +47,7 @@ public class Plugin_SSF_CES extends ArchivePlugin {
     setExtensions("ssf");
     setGames("Mortal Kombat Deadly Alliance");
     setPlatforms("PC");
+    setMatchHeaders(" CES");
 
     setFileTypes("1", "Padding or Variable",
         "2", "3D Bone?",
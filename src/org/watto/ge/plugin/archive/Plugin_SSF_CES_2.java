@@ -51,6 +51,7 @@ public class Plugin_SSF_CES_2 extends ArchivePlugin {
     setExtensions("ssf");
     setGames("Mortal Kombat Deception");
     setPlatforms("PC");
+    setMatchHeaders(" CES");
 
     setFileTypes("1", "Sub-Directory",
         "2", "Sprite?",
@@ -47,6 +47,7 @@ public class Plugin_SSF_CES_3 extends ArchivePlugin {
     setExtensions("ssf");
     setGames("Mortal Kombat Armageddon");
     setPlatforms("XBox");
+    setMatchHeaders(" CES");
 
     /*
     setFileTypes(
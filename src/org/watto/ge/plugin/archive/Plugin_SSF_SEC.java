@@ -48,6 +48,7 @@ public class Plugin_SSF_SEC extends ArchivePlugin {
     setExtensions("ssf");
     setGames("Mortal Kombat Deception");
     setPlatforms("GameCube");
+    setMatchHeaders("SEC ");
 
     setFileTypes("1", "Sub-Directory",
         "2", "Sprite?",
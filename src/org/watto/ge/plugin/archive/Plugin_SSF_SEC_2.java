@@ -48,6 +48,7 @@ public class Plugin_SSF_SEC_2 extends ArchivePlugin {
     setExtensions("ssf");
     setGames("Mortal Kombat Deadly Alliance");
     setPlatforms("GameCube");
+    setMatchHeaders("SEC ");
 
     /*
     setFileTypes("1", "Padding or Variable",
@@ -45,6 +45,7 @@ public class Plugin_STG_STG2 extends ArchivePlugin {
         "Green Valley: Fun on the Farm");
     setExtensions("stg"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("stg2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
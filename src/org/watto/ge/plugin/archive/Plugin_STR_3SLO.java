@@ -48,6 +48,7 @@ public class Plugin_STR_3SLO extends ArchivePlugin {
     setGames("Dead Space");
     setExtensions("str"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("3slo");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
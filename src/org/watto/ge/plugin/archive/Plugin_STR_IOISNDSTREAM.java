@@ -47,6 +47,7 @@ public class Plugin_STR_IOISNDSTREAM extends ArchivePlugin {
     setGames("Hitman Blood Money");
     setExtensions("str");
     setPlatforms("PC");
+    setMatchHeaders("IOISNDSTREAM");
 
     //setFileTypes("","",
     //             "",""
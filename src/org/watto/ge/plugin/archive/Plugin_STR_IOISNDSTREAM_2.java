@@ -45,6 +45,7 @@ public class Plugin_STR_IOISNDSTREAM_2 extends ArchivePlugin {
         "Mini Ninjas");
     setExtensions("str");
     setPlatforms("PC");
+    setMatchHeaders("IOISNDSTREAM");
 
     //setFileTypes("","",
     //             "",""
@@ -43,6 +43,7 @@ public class Plugin_STR_IOISNDSTREAM_3 extends ArchivePlugin {
     setGames("Kane and Lynch 2: Dog Days");
     setExtensions("str");
     setPlatforms("PC");
+    setMatchHeaders("IOISNDSTREAM");
 
     //setFileTypes("","",
     //             "",""
@@ -46,6 +46,7 @@ public class Plugin_SWAR_SWAR extends ArchivePlugin {
         "Custom Robo Arena");
     setExtensions("swar"); // MUST BE LOWER CASE
     setPlatforms("NDS");
+    setMatchHeaders("SWAR");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
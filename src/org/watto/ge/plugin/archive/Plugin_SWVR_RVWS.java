@@ -51,6 +51,7 @@ public class Plugin_SWVR_RVWS extends ArchivePlugin {
     setExtensions("swvr");
     setGames("Lord Of The Rings: Return Of The King");
     setPlatforms("PC");
+    setMatchHeaders("SWVR");
 
     setFileTypes(new FileType("samp", "Audio Sample", FileType.TYPE_AUDIO));
 
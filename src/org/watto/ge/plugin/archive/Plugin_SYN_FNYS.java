@@ -51,6 +51,7 @@ public class Plugin_SYN_FNYS extends ArchivePlugin {
         "N.I.C.E. 2",
         "Excessive Speed");
     setPlatforms("PC");
+    setMatchHeaders("FNYS");
 
   }
 
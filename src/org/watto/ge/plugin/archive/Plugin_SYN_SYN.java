@@ -47,6 +47,7 @@ public class Plugin_SYN_SYN extends ArchivePlugin {
     setGames("World Racing");
     setExtensions("syn");
     setPlatforms("PC");
+    setMatchHeaders("SYN!v2.0");
 
   }
 
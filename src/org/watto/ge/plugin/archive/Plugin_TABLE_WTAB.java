@@ -47,6 +47,7 @@ public class Plugin_TABLE_WTAB extends ArchivePlugin {
     setGames("High Heat Baseball 2000");
     setExtensions("table"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WTBL");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_TAD_THIS extends ArchivePlugin {
     setGames("Gex 2: Enter The Gecko");
     setExtensions("tad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("This is first pass of trip");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_TBF_FBT extends ArchivePlugin {
     setGames("Tom Clancy's Ghost Recon Wildlands");
     setExtensions("tbf"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FBT");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -48,6 +48,7 @@ public class Plugin_TC_SPRF extends ArchivePlugin {
     setGames("Surface Tension");
     setExtensions("tc", "vtc", "spf");
     setPlatforms("PC");
+    setMatchHeaders("SPRF");
 
   }
 
@@ -43,6 +43,7 @@ public class Plugin_TEXS_SXET extends ArchivePlugin {
     setGames("Split Second");
     setExtensions("texs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SXET");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
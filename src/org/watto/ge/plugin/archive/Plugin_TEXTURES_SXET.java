@@ -47,6 +47,7 @@ public class Plugin_TEXTURES_SXET extends ArchivePlugin {
     setGames("Pure");
     setExtensions("textures"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("SXET");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_TEX_3TEX extends ArchivePlugin {
     setGames("High Heat Baseball 2000");
     setExtensions("tex"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("3TEX");
 
     //setFileTypes("","",
     //             "",""
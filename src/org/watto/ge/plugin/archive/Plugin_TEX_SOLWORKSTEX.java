@@ -62,6 +62,7 @@ public class Plugin_TEX_SOLWORKSTEX extends ArchivePlugin {
     setGames("NHL FaceOff 2001");
     setExtensions("tex"); // DAT files as well, but the header should be enough to detect these files
     setPlatforms("PS2");
+    setMatchHeaders("SolWorks Tex");
 
     setFileTypes(new FileType("tif", "SolWorks TIF Image", FileType.TYPE_IMAGE));
 
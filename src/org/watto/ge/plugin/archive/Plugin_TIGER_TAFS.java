@@ -45,6 +45,7 @@ public class Plugin_TIGER_TAFS extends ArchivePlugin {
         "Rise of the Tomb Raider");
     setExtensions("tiger"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("TAFS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -56,6 +56,7 @@ public class Plugin_TMF_TMUF extends ArchivePlugin {
     setGames("Test Drive Off-Road");
     setExtensions("tmf");
     setPlatforms("PC");
+    setMatchHeaders("TMUF");
 
     setFileTypes("spr", "Sprite Image");
 
@@ -45,6 +45,7 @@ public class Plugin_TPK_ZZZ0 extends ArchivePlugin {
     setGames("Sol Trigger");
     setExtensions("tpk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ZZZ0");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
@@ -48,6 +48,7 @@ public class Plugin_TRC_TEXTUREPACK4 extends ArchivePlugin {
     setGames("X Motor Racing");
     setExtensions("trc", "pnt", "shd"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("TexturePack");
 
     //setFileTypes("","",
     //             "",""
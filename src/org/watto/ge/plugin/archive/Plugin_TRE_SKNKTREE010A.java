@@ -47,6 +47,7 @@ public class Plugin_TRE_SKNKTREE010A extends ArchivePlugin {
     setGames("Longbow 2");
     setExtensions("tre");
     setPlatforms("PC");
+    setMatchHeaders("SKNKTREE010A");
 
   }
 
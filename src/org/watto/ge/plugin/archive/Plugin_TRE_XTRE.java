@@ -50,6 +50,7 @@ public class Plugin_TRE_XTRE extends ArchivePlugin {
     setGames("Wing Commander 4: The Price Of Freedom");
     setExtensions("tre");
     setPlatforms("PC");
+    setMatchHeaders("XTRE");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_TRE_XTRE_2 extends ArchivePlugin {
     setGames("Wing Commander 3");
     setExtensions("tre"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("XTRE");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_TSL_MAGIC extends ArchivePlugin {
     setGames("Total Soccer 2000");
     setExtensions("tsl"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("magic  ");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
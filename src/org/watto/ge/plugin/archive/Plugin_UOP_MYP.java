@@ -45,6 +45,7 @@ public class Plugin_UOP_MYP extends ArchivePlugin {
     setGames("Ultima Online");
     setExtensions("uop"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("MYP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
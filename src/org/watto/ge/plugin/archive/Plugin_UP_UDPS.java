@@ -44,6 +44,7 @@ public class Plugin_UP_UDPS extends ArchivePlugin {
     setGames("Airfix Dogfighter");
     setExtensions("up"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("UDSP");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -44,6 +44,7 @@ public class Plugin_VCC_VOCFILES extends ArchivePlugin {
     setGames("Rational Systems", "Star Trek: Judgement Rights");
     setExtensions("vcc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VOCFILES");
 
     //setFileTypes("","",
     //             "",""
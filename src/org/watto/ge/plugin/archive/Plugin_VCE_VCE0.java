@@ -46,6 +46,7 @@ public class Plugin_VCE_VCE0 extends ArchivePlugin {
     setGames("Homeworld");
     setExtensions("vce");
     setPlatforms("PC");
+    setMatchHeaders("VCE0");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_VFS_LP1C extends ArchivePlugin {
     setGames("Pathologic");
     setExtensions("vfs");
     setPlatforms("PC");
+    setMatchHeaders("LP1C");
 
   }
 
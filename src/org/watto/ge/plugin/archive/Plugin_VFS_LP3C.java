@@ -51,6 +51,7 @@ public class Plugin_VFS_LP3C extends ArchivePlugin {
     setGames("Cargo: The Quest for Gravity");
     setExtensions("vfs"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("LP3C");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
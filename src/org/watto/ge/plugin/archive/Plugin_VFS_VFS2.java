@@ -47,6 +47,7 @@ public class Plugin_VFS_VFS2 extends ArchivePlugin {
     setGames("Digimon Rumble Arena");
     setExtensions("vfs"); // MUST BE LOWER CASE
     setPlatforms("PS1");
+    setMatchHeaders("VFS2");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("tim", "TIM Image Archive", FileType.TYPE_ARCHIVE),
@@ -50,6 +50,7 @@ public class Plugin_VIV_BIG4 extends ArchivePlugin {
         "Lord Of The Rings: The Battle For Middle Earth",
         "Medal Of Honor: European Assault");
     setPlatforms("PC", "XBox");
+    setMatchHeaders("BIG4");
     setExtensions("viv", "big");
     setEnabled(false); // DISABLED, BECAUSE WANT TO USE THE BIG_BIGF ONE INSTEAD, WHICH IS THE SAME BUT MORE UPDATED
 
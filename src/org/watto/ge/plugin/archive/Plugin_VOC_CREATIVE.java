@@ -50,6 +50,7 @@ public class Plugin_VOC_CREATIVE extends ArchivePlugin {
     setGames("Creative Voice");
     setExtensions("voc"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Creative Voice File");
 
     //setFileTypes("","",
     //             "",""
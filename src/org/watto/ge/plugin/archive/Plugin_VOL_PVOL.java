@@ -44,6 +44,7 @@ public class Plugin_VOL_PVOL extends ArchivePlugin {
     setGames("Star Siege",
         "Tribes");
     setPlatforms("PC");
+    setMatchHeaders("PVOL");
 
     setTextPreviewExtensions("cs"); // LOWER CASE
 
@@ -48,6 +48,7 @@ public class Plugin_VOL_VOL extends ArchivePlugin {
     setGames("Red Baron 3D");
     setExtensions("vol", "ted"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VOL ");
 
     //setFileTypes("","",
     //             "",""
@@ -48,6 +48,7 @@ public class Plugin_VOL_VOLN extends ArchivePlugin {
         "Earthsiege 2",
         "Starsiege: Tribes");
     setPlatforms("PC");
+    setMatchHeaders("VOLN");
 
   }
 
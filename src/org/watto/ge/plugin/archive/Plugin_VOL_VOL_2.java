@@ -43,6 +43,7 @@ public class Plugin_VOL_VOL_2 extends ArchivePlugin {
     setGames("Starsiege", "Starsiege: Tribes");
     setExtensions("vol"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders(" VOL");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -45,6 +45,7 @@ public class Plugin_VOL_VOL_3 extends ArchivePlugin {
     setGames("Pro Pilot 99");
     setExtensions("vol"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VOL ");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
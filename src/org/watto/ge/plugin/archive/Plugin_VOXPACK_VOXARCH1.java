@@ -43,6 +43,7 @@ public class Plugin_VOXPACK_VOXARCH1 extends ArchivePlugin {
     setGames("Sniper Fury");
     setExtensions("voxpack"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("Voxarch1");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
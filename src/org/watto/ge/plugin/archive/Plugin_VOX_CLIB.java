@@ -47,6 +47,7 @@ public class Plugin_VOX_CLIB extends ArchivePlugin {
     setGames("Maniac Mansion Deluxe");
     setExtensions("vox"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("CLIB");
 
     //setFileTypes("","",
     //             "",""
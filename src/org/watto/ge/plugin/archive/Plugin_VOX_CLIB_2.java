@@ -53,6 +53,7 @@ public class Plugin_VOX_CLIB_2 extends ArchivePlugin {
         "Symploke");
     setExtensions("vox"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("CLIB");
 
     //setFileTypes("","",
     //             "",""
@@ -53,6 +53,7 @@ public class Plugin_VP6_MVHD extends ArchivePlugin {
 
     setExtensions("vp6");
     setPlatforms("PC");
+    setMatchHeaders("MVhd");
 
   }
 
@@ -47,6 +47,8 @@ public class Plugin_VPK extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, false, false, false);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setGames("Alien Swarm Reactive Drop",
         "Dota 2",
@@ -47,6 +47,8 @@ public class Plugin_VPK_2 extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, false, false, false);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setGames("Counter-Strike: Global Offensive",
         "Counter-Strike: Source",
@@ -47,6 +47,7 @@ public class Plugin_VPK_MAGE extends ArchivePlugin {
     setGames("MageSlayer");
     setExtensions("vpk");
     setPlatforms("PC");
+    setMatchHeaders("Mage");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_VP_VPVP extends ArchivePlugin {
     setGames("Descent Freespace: The Great War",
         "Freespace 2");
     setPlatforms("PC");
+    setMatchHeaders("VPVP");
 
     setFileTypes("tbl", "Table Data?",
         "fsm", "Demo File",
@@ -50,6 +50,7 @@ public class Plugin_VSR_CRID extends ArchivePlugin {
     setExtensions("vsr");
     setGames("Lemmings Paintball");
     setPlatforms("PC");
+    setMatchHeaders("CRID");
 
   }
 
@@ -44,6 +44,7 @@ public class Plugin_VSX_VSXZ extends ArchivePlugin {
     setGames("Luna Sky");
     setExtensions("vsx"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VSXz");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
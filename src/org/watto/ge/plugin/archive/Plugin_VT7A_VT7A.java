@@ -47,6 +47,7 @@ public class Plugin_VT7A_VT7A extends ArchivePlugin {
     setGames("Broken Sword 5: The Serpent's Curse");
     setExtensions("vt7a"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("VT7A");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("strm", "Stream Animation", FileType.TYPE_IMAGE),
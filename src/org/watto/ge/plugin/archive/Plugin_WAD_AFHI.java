@@ -47,6 +47,7 @@ public class Plugin_WAD_AFHI extends ArchivePlugin {
     setGames("Starsky And Hutch");
     setExtensions("wad");
     setPlatforms("PC");
+    setMatchHeaders("AFHI");
 
   }
 
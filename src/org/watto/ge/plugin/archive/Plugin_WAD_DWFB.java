@@ -47,6 +47,7 @@ public class Plugin_WAD_DWFB extends ArchivePlugin {
         "Sim Theme Park",
         "Dungeon Keeper 2");
     setPlatforms("PC");
+    setMatchHeaders("DWFB");
 
   }
 
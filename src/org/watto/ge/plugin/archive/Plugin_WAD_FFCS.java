@@ -48,6 +48,7 @@ public class Plugin_WAD_FFCS extends ArchivePlugin {
     setGames("Mercenaries 2");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FFCS");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -39,6 +39,8 @@ public class Plugin_WAD_IWAD extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, false, false, false);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("wad", "rts");
     setGames("Conquest Of The New World",
@@ -51,6 +53,7 @@ public class Plugin_WAD_IWAD extends ArchivePlugin {
         "Shadow Warrior",
         "Strife");
     setPlatforms("PC");
+    setMatchHeaders("IWAD");
 
   }
 
@@ -49,6 +49,7 @@ public class Plugin_WAD_NZO extends ArchivePlugin {
         "Super BoxMan Ultra");
     setExtensions("wad");
     setPlatforms("PC");
+    setMatchHeaders("NZO!");
 
   }
 
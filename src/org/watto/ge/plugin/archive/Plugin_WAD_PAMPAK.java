@@ -49,6 +49,7 @@ public class Plugin_WAD_PAMPAK extends ArchivePlugin {
     setGames("Pro Beach Soccer");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PAM_PAK");
 
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
     //             new FileType("bmp", "Bitmap Image", FileType.TYPE_IMAGE)
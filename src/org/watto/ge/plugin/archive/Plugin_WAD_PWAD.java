@@ -40,11 +40,14 @@ public class Plugin_WAD_PWAD extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setGames("SharpShooter3D",
         "Urban Brawl: Action Doom 2");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("PWAD");
 
     setCanScanForFileTypes(true);
 
@@ -51,6 +51,7 @@ public class Plugin_WAD_WAD extends ArchivePlugin {
     setGames("WWE WMXXI");
     setExtensions("wad");
     setPlatforms("PC");
+    setMatchHeaders("WAD");
 
   }
 
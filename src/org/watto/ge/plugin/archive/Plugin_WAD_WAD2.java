@@ -41,6 +41,8 @@ public class Plugin_WAD_WAD2 extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setGames("Eternal War: Shadows Of Light");
     setExtensions("wad"); // MUST BE LOWER CASE
@@ -44,6 +44,8 @@ public class Plugin_WAD_WAD3 extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setExtensions("wad");
     setGames("Quake",
@@ -58,6 +60,7 @@ public class Plugin_WAD_WAD3 extends ArchivePlugin {
         "Ricochet",
         "Team Fortress Classic");
     setPlatforms("PC");
+    setMatchHeaders("WAD3");
 
     setFileTypes("unk", "Unknown File",
         "mip", "MIP Texture",
@@ -47,6 +47,7 @@ public class Plugin_WAD_WADH extends ArchivePlugin {
     setGames("London Taxi Rushour");
     setExtensions("wad");
     setPlatforms("PC");
+    setMatchHeaders("WADH");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_WAD_WADH_2 extends ArchivePlugin {
     setGames("Earache Extreme Metal Racing");
     setExtensions("wad");
     setPlatforms("PC");
+    setMatchHeaders("WADH");
 
   }
 
@@ -50,6 +50,7 @@ public class Plugin_WAD_WADH_3 extends ArchivePlugin {
     setGames("NHL 2K3");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PS2");
+    setMatchHeaders("WADH");
 
     setFileTypes(new FileType("cmn", "CMN Archive", FileType.TYPE_ARCHIVE),
         new FileType("pvr", "Playstation TIM2 Image", FileType.TYPE_IMAGE),
@@ -43,6 +43,7 @@ public class Plugin_WAD_WWAD extends ArchivePlugin {
     setGames("Lego Rock Raiders");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WWAD");
 
     //setFileTypes("","",
     //             "",""
@@ -44,6 +44,7 @@ public class Plugin_WAD_WWAD_2 extends ArchivePlugin {
         "Batman: Arkham City");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WWAD");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
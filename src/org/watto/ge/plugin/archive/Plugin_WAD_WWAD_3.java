@@ -43,6 +43,7 @@ public class Plugin_WAD_WWAD_3 extends ArchivePlugin {
     setGames("Batman: Arkham Knight");
     setExtensions("wad"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WWAD");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
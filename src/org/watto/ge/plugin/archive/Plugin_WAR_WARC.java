@@ -49,6 +49,7 @@ public class Plugin_WAR_WARC extends ArchivePlugin {
     setGames("NOX");
     setExtensions("war");
     setPlatforms("PC");
+    setMatchHeaders("WARC");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_WAR_WARS extends ArchivePlugin {
     setGames("Babylon 5: I've Found Her");
     setExtensions("war");
     setPlatforms("PC");
+    setMatchHeaders("WARS");
 
     //setFileTypes("","",
     //             "",""
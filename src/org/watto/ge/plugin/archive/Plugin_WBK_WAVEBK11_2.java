@@ -43,6 +43,7 @@ public class Plugin_WBK_WAVEBK11_2 extends ArchivePlugin {
     setGames("Ultimate Spiderman");
     setExtensions("wbk"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WAVEBK11");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
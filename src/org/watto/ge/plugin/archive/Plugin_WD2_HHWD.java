@@ -47,6 +47,7 @@ public class Plugin_WD2_HHWD extends ArchivePlugin {
     setGames("American Idol");
     setExtensions("wd2");
     setPlatforms("PC");
+    setMatchHeaders("HHWD");
 
   }
 
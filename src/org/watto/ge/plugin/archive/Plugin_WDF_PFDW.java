@@ -47,6 +47,7 @@ public class Plugin_WDF_PFDW extends ArchivePlugin {
     setGames("Conquer Online 2.0");
     setExtensions("wdf");
     setPlatforms("PC");
+    setMatchHeaders("PFDW");
 
   }
 
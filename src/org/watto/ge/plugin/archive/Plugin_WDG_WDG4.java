@@ -49,6 +49,7 @@ public class Plugin_WDG_WDG4 extends ArchivePlugin {
     setGames("Warzone 2100");
     setExtensions("wdg");
     setPlatforms("PC");
+    setMatchHeaders("WDG4");
 
   }
 
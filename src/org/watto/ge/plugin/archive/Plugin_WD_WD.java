@@ -49,6 +49,7 @@ public class Plugin_WD_WD extends ArchivePlugin {
     setGames("Two Worlds 2");
     setExtensions("wd"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WD");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
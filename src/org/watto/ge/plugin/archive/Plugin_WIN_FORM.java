@@ -142,6 +142,7 @@ public class Plugin_WIN_FORM extends ArchivePlugin {
         "Z55Z");
     setExtensions("win"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("FORM");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("txtr", "Texture Archive", FileType.TYPE_ARCHIVE),
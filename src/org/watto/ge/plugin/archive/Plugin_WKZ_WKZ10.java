@@ -45,6 +45,7 @@ public class Plugin_WKZ_WKZ10 extends ArchivePlugin {
     setGames("Hammerting");
     setExtensions("wkz"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WKZ10");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("img", "IMG Image", FileType.TYPE_IMAGE));
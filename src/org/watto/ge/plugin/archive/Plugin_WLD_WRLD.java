@@ -51,6 +51,7 @@ public class Plugin_WLD_WRLD extends ArchivePlugin {
     setGames("The Sting!");
     setExtensions("wld"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("WRLD");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("texp", "Texture Image", FileType.TYPE_IMAGE));
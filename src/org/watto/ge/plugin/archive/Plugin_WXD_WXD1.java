@@ -50,6 +50,7 @@ public class Plugin_WXD_WXD1 extends ArchivePlugin {
     setGames("Homeworld");
     setExtensions("wxd");
     setPlatforms("PC");
+    setMatchHeaders("WXD1");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_XBR_XOBX extends ArchivePlugin {
     setGames("Azurik: Rise Of Perathia");
     setExtensions("xbr");
     setPlatforms("XBox");
+    setMatchHeaders("xobx");
 
   }
 
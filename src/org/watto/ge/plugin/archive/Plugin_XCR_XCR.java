@@ -50,6 +50,7 @@ public class Plugin_XCR_XCR extends ArchivePlugin {
     setGames("Warlords Battlecry",
         "Warlords Battlecry 2");
     setPlatforms("PC");
+    setMatchHeaders("xcr File 1.00");
 
   }
 
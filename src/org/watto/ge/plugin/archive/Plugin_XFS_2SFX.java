@@ -55,6 +55,7 @@ public class Plugin_XFS_2SFX extends ArchivePlugin {
     setGames("Apocalyptica");
     setExtensions("xfs");
     setPlatforms("PC");
+    setMatchHeaders("2SFX");
 
   }
 
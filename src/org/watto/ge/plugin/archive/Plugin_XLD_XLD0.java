@@ -50,6 +50,7 @@ public class Plugin_XLD_XLD0 extends ArchivePlugin {
     setGames("Albion");
     setExtensions("xld");
     setPlatforms("PC");
+    setMatchHeaders("XLD0");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_XMB_XMBF extends ArchivePlugin {
     setGames("Test Drive Unlimited");
     setExtensions("xmb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("XMBF");
 
     //setFileTypes("","",
     //             "",""
@@ -58,6 +58,7 @@ public class Plugin_XNB_XNB extends ArchivePlugin {
         "The Bridge");
     setExtensions("xnb"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("XNB");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
@@ -47,6 +47,7 @@ public class Plugin_XPR_XPR0 extends ArchivePlugin {
     setGames("Far Cry");
     setExtensions("xpr");
     setPlatforms("XBox");
+    setMatchHeaders("XPR0");
 
     //setFileTypes("","",
     //             "",""
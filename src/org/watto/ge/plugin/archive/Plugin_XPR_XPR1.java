@@ -45,6 +45,7 @@ public class Plugin_XPR_XPR1 extends ArchivePlugin {
         "Unreal Tournament 2");
     setExtensions("xpr");
     setPlatforms("XBox");
+    setMatchHeaders("XPR1");
 
   }
 
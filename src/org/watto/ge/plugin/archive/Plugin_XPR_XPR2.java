@@ -45,6 +45,7 @@ public class Plugin_XPR_XPR2 extends ArchivePlugin {
     setGames("Ninja Gaiden 2");
     setExtensions("xpr"); // MUST BE LOWER CASE
     setPlatforms("XBox 360");
+    setMatchHeaders("XPR2");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
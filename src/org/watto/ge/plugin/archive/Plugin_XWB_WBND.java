@@ -50,6 +50,7 @@ public class Plugin_XWB_WBND extends ArchivePlugin {
         "Powerdrome");
     setExtensions("xwb");
     setPlatforms("PC", "XBox");
+    setMatchHeaders("WBND");
 
   }
 
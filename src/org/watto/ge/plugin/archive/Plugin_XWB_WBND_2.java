@@ -47,6 +47,7 @@ public class Plugin_XWB_WBND_2 extends ArchivePlugin {
     setGames("Ghost Recon 2");
     setExtensions("xwb");
     setPlatforms("XBox");
+    setMatchHeaders("WBND");
 
   }
 
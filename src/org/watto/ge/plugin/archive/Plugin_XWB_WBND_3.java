@@ -47,6 +47,7 @@ public class Plugin_XWB_WBND_3 extends ArchivePlugin {
         "Two Worlds");
     setExtensions("xwb");
     setPlatforms("XBox");
+    setMatchHeaders("WBND");
 
   }
 
@@ -45,6 +45,7 @@ public class Plugin_XWC_MOS extends ArchivePlugin {
     setGames("The Chronicles of Riddick: Escape From Butcher Bay");
     setExtensions("xwc", "xtc");
     setPlatforms("PC");
+    setMatchHeaders("MOS DATAFILE2.0");
 
     // MUST BE LOWER CASE !!!
     setFileTypes(new FileType("xtc_tex", "XTC Texture Image", FileType.TYPE_IMAGE));
@@ -47,6 +47,7 @@ public class Plugin_X_XP10 extends ArchivePlugin {
     setGames("Panzer Elite Action");
     setExtensions("x");
     setPlatforms("PC");
+    setMatchHeaders("xp10");
 
     //setFileTypes("","",
     //             "",""
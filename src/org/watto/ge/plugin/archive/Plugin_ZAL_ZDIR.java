@@ -43,6 +43,7 @@ public class Plugin_ZAL_ZDIR extends ArchivePlugin {
     setGames("X-Men: The Official Game");
     setExtensions("zal"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ZDIR");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
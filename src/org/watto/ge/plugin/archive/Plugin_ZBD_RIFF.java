@@ -45,6 +45,7 @@ public class Plugin_ZBD_RIFF extends ArchivePlugin {
     setGames("Recoil",
         "Tomb Raider 3");
     setPlatforms("PC");
+    setMatchHeaders("RIFF");
 
   }
 
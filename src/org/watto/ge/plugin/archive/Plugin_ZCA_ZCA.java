@@ -45,6 +45,7 @@ public class Plugin_ZCA_ZCA extends ArchivePlugin {
     setGames("Weather Lord: Following the Princess");
     setExtensions("zca"); // MUST BE LOWER CASE
     setPlatforms("PC");
+    setMatchHeaders("ZCA");
 
     // MUST BE LOWER CASE !!!
     //setFileTypes(new FileType("txt", "Text Document", FileType.TYPE_DOCUMENT),
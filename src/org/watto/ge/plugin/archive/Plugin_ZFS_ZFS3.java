@@ -49,6 +49,7 @@ public class Plugin_ZFS_ZFS3 extends ArchivePlugin {
     setExtensions("zfs");
     setGames("Call To Power 2");
     setPlatforms("PC");
+    setMatchHeaders("ZFS3");
 
   }
 
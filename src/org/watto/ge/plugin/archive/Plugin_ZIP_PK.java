@@ -56,6 +56,8 @@ public class Plugin_ZIP_PK extends ArchivePlugin {
 
     //         read write replace rename
     setProperties(true, true, true, true);
+    setCanCacheIndex(true);
+    setThreadSafe(true);
 
     setGames("Generic Zip Archive",
         "18 Wheels Of Steel: Across America",
@@ -283,6 +285,7 @@ public class Plugin_ZIP_PK extends ArchivePlugin {
         "Zoo Tycoon");
     setExtensions("zip", "pk3", "pk4", "zipfs", "crf", "ztd");
     setPlatforms("PC", "Android");
+    setMatchHeaders("PK");
 
   }
 
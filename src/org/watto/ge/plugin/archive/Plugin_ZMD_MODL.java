@@ -50,6 +50,7 @@ public class Plugin_ZMD_MODL extends ArchivePlugin {
     setGames("Dave Mirra Freestyle BMX");
     setExtensions("zmd");
     setPlatforms("PC");
+    setMatchHeaders("MODL");
 
   }
 
@@ -47,6 +47,7 @@ public class Plugin_ZRB_SMK2 extends ArchivePlugin {
     setExtensions("zrb");
     setGames("Total Annihilation");
     setPlatforms("PC");
+    setMatchHeaders("SMK2");
 
   }
 
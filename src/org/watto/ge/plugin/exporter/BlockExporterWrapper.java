@@ -15,12 +15,39 @@
 package org.watto.ge.plugin.exporter;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
-
+import org.watto.task.TaskThreadPool;
+
+/**
+**********************************************************************************************
+Reads a file that is compressed in separate blocks, using another exporter to decompress each
+block. If the exporter can decompress blocks in memory (see canDecompressBlocks()), and the blocks
+aren't too large, the compressed blocks are read from a single shared file handle and are
+decompressed into buffers. When reading from the start of a file with several blocks, the next
+few blocks are decompressed ahead of time on the worker threads, into a ring of buffers that are
+reused as each block is finished with. Otherwise, each block is streamed through the exporter.
+<br><br>
+Reading can start at any block, without decompressing the blocks before it (see openAt()).
+**********************************************************************************************
+**/
 public class BlockExporterWrapper extends ExporterPlugin {
 
+  /** blocks bigger than this are streamed through the exporter, rather than decompressed into memory **/
+  static final int MAXIMUM_BUFFERED_BLOCK_SIZE = 4194304;
+
+  /** the most memory to use for blocks that are decompressed ahead of time **/
+  static final int MAXIMUM_READ_AHEAD_SIZE = 16777216;
+
   File sourceFile = null;
 
   /** the exporter that will do all the actual work **/
@@ -37,6 +64,45 @@ public class BlockExporterWrapper extends ExporterPlugin {
 
   int currentBlock = -1;
 
+  /** the decompressed offset where each block starts, worked out when first needed **/
+  long[] blockStarts = null;
+
+  /** true if the blocks are being decompressed into the ringBuffers, false if they're streamed through the exporter **/
+  boolean bufferedBlocks = false;
+
+  /** the source file, shared by all the blocks when they're decompressed into memory **/
+  RandomAccessFile blockFile = null;
+
+  /** positional reads of the compressed blocks, which can be done by several threads at once **/
+  FileChannel blockChannel = null;
+
+  /** the block that is first in the ring **/
+  int ringStart = 0;
+
+  /** the buffers that the blocks are decompressed into. Block <i>n</i> is in buffer <i>(n - ringStart) % ringSize</i> **/
+  byte[][] ringBuffers = null;
+
+  /** the compressed data for each ring buffer **/
+  byte[][] ringCompBuffers = null;
+
+  /** the decompressing of each ring buffer, if it's being done on a worker thread **/
+  ForkJoinTask<Integer>[] ringTasks = null;
+
+  /** set while the blocks are being closed, so the decompressing that hasn't started yet is skipped **/
+  volatile boolean closingBlocks = false;
+
+  /** the number of buffers in the ring **/
+  int ringSize = 0;
+
+  /** the block being read **/
+  byte[] currentBuffer = null;
+
+  /** the decompressed length of the block being read **/
+  int currentLength = 0;
+
+  /** the read position in the block being read **/
+  int currentPos = 0;
+
   /**
   **********************************************************************************************
   
@@ -62,6 +128,48 @@ public class BlockExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Sessions can run in parallel if the block exporter can. Checked without making a copy, as each
+  wrapper belongs to a single Resource.
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canOpenParallelSessions() {
+    return exporter != null && getClass() == BlockExporterWrapper.class && exporter.canOpenParallelSessions();
+  }
+
+  /**
+  **********************************************************************************************
+  Wraps a copy of the block exporter, taken from the block exporter's own idle copies
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    if (!canOpenParallelSessions()) {
+      return null;
+    }
+
+    ExporterPlugin threadExporter = exporter.borrowInstance();
+    if (threadExporter == null) {
+      return null;
+    }
+    return new BlockExporterWrapper(threadExporter, blockOffsets, blockLengths, decompLengths);
+  }
+
+  /**
+  **********************************************************************************************
+  Gives the block exporter copy back to the block exporter, rather than keeping the wrapper copy,
+  as each wrapper belongs to a single Resource and is rarely used again
+  **********************************************************************************************
+  **/
+  @Override
+  public void releaseInstance(ExporterPlugin instance) {
+    if (instance instanceof BlockExporterWrapper && instance != this) {
+      exporter.releaseInstance(((BlockExporterWrapper) instance).exporter);
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -69,6 +177,15 @@ public class BlockExporterWrapper extends ExporterPlugin {
   **/
   @Override
   public boolean available() {
+    if (bufferedBlocks) {
+      while (currentPos >= currentLength) {
+        if (!nextBufferedBlock()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
     if (exporter.available()) {
       // still reading the current block
       return true;
@@ -98,9 +215,143 @@ public class BlockExporterWrapper extends ExporterPlugin {
   **/
   @Override
   public void close() {
+    if (bufferedBlocks) {
+      closeBufferedBlocks();
+      return;
+    }
     exporter.close();
   }
 
+  /**
+  **********************************************************************************************
+  Stops decompressing blocks ahead of time, waiting for any that are running, and closes the
+  shared file handle. The buffers are released, as each wrapper belongs to a single Resource. <br>
+  <br>
+  The tasks aren't cancelled - join() on a cancelled task returns straight away, even if it's
+  still reading the file on a worker. Instead, the tasks that haven't started yet see
+  <i>closingBlocks</i> and return without reading anything, and join() waits for the ones that
+  are running to finish.
+  **********************************************************************************************
+  **/
+  void closeBufferedBlocks() {
+    closingBlocks = true;
+    if (ringTasks != null) {
+      for (int i = 0; i < ringSize; i++) {
+        ForkJoinTask<Integer> task = ringTasks[i];
+        if (task != null) {
+          try {
+            task.join();
+          }
+          catch (Throwable t) {
+            // failed - it has finished, so it isn't using the file any more
+          }
+        }
+      }
+    }
+
+    try {
+      if (blockFile != null) {
+        blockFile.close();
+      }
+    }
+    catch (Throwable t) {
+    }
+
+    blockFile = null;
+    blockChannel = null;
+    ringBuffers = null;
+    ringCompBuffers = null;
+    ringTasks = null;
+    ringSize = 0;
+    currentBuffer = null;
+    currentLength = 0;
+    currentPos = 0;
+    bufferedBlocks = false;
+    closingBlocks = false;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the blocks can be decompressed into memory, rather than streamed through the exporter
+  **********************************************************************************************
+  **/
+  boolean canBufferBlocks() {
+    if (exporter == null || !exporter.canDecompressBlocks() || getClass() != BlockExporterWrapper.class) {
+      return false;
+    }
+
+    int numBlocks = blockOffsets.length;
+    for (int i = 0; i < numBlocks; i++) {
+      if (blockLengths[i] > MAXIMUM_BUFFERED_BLOCK_SIZE || decompLengths[i] > MAXIMUM_BUFFERED_BLOCK_SIZE || blockLengths[i] < 0 || decompLengths[i] < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the compressed <i>block</i> from the shared file handle, and decompresses it into the
+  ring buffer <i>slot</i>. Returns the decompressed length, or throws an IOException if the
+  block couldn't be decompressed.
+  **********************************************************************************************
+  **/
+  int decompressBufferedBlock(int block, int slot) throws IOException {
+    int compLength = (int) blockLengths[block];
+    int decompLength = (int) decompLengths[block];
+
+    byte[] compBytes = ringCompBuffers[slot];
+    if (compBytes == null || compBytes.length < compLength) {
+      compBytes = new byte[compLength];
+      ringCompBuffers[slot] = compBytes;
+    }
+    byte[] decompBytes = ringBuffers[slot];
+    if (decompBytes == null || decompBytes.length < decompLength) {
+      decompBytes = new byte[decompLength];
+      ringBuffers[slot] = decompBytes;
+    }
+
+    ByteBuffer compBuffer = ByteBuffer.wrap(compBytes, 0, compLength);
+    long position = blockOffsets[block];
+    while (compBuffer.hasRemaining()) {
+      int readLength = blockChannel.read(compBuffer, position + compBuffer.position());
+      if (readLength < 0) {
+        break; // past the end of the file
+      }
+    }
+
+    int decompressedLength = exporter.decompressBlock(compBytes, compBuffer.position(), decompBytes, decompLength);
+    if (decompressedLength < 0) {
+      throw new IOException("Block " + block + " of " + sourceFile + " couldn't be decompressed");
+    }
+    return decompressedLength;
+  }
+
+  /**
+  **********************************************************************************************
+  Finds the block that contains the decompressed <i>offset</i>, or -1 if it's past the end
+  **********************************************************************************************
+  **/
+  static int findBlock(long[] starts, long offset) {
+    int numBlocks = starts.length - 1;
+    if (offset < 0 || offset >= starts[numBlocks]) {
+      return -1;
+    }
+
+    int low = 0;
+    int high = numBlocks - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (starts[mid] <= offset) {
+        low = mid;
+      }
+      else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
   public long[] getBlockLengths() {
     return blockLengths;
   }
@@ -113,6 +364,49 @@ public class BlockExporterWrapper extends ExporterPlugin {
     return decompLengths;
   }
 
+  public ExporterPlugin getExporter() {
+    return exporter;
+  }
+
+  /**
+  **********************************************************************************************
+  Each block is compressed separately, so reading can start at the beginning of any block. This
+  is only done if the block lengths add up to the decompressed length of the <i>source</i>, so
+  the block offsets can be trusted.
+  **********************************************************************************************
+  **/
+  @Override
+  public long getRestartPoint(Resource source, long offset) {
+    long[] starts = getBlockStarts();
+    int numBlocks = starts.length - 1;
+    if (numBlocks <= 0 || starts[numBlocks] != source.getDecompressedLength()) {
+      return 0;
+    }
+
+    int block = findBlock(starts, offset);
+    if (block < 0) {
+      return 0;
+    }
+    return starts[block];
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the decompressed offset where each block starts, with the total length on the end
+  **********************************************************************************************
+  **/
+  synchronized long[] getBlockStarts() {
+    if (blockStarts == null) {
+      int numBlocks = decompLengths.length;
+      long[] starts = new long[numBlocks + 1];
+      for (int i = 0; i < numBlocks; i++) {
+        starts[i + 1] = starts[i] + decompLengths[i];
+      }
+      blockStarts = starts;
+    }
+    return blockStarts;
+  }
+
   /**
   **********************************************************************************************
   
@@ -125,6 +419,10 @@ public class BlockExporterWrapper extends ExporterPlugin {
       // get the source file - we already know everything else
       sourceFile = source.getSource();
 
+      if (openBufferedBlocks(0)) {
+        return;
+      }
+
       // open the first block, ready to go
       currentBlock = 0;
       exporter.open(new Resource(sourceFile, "", blockOffsets[currentBlock], blockLengths[currentBlock], decompLengths[currentBlock]));
@@ -134,6 +432,153 @@ public class BlockExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Opens the block that starts at the <i>restartPoint</i>, so reading continues from there
+  **********************************************************************************************
+  **/
+  @Override
+  public void openAt(Resource source, long restartPoint) {
+    if (restartPoint <= 0) {
+      closeAndReopen(source);
+      return;
+    }
+
+    close();
+
+    sourceFile = source.getSource();
+    currentBlock = findBlock(getBlockStarts(), restartPoint);
+    if (currentBlock < 0) {
+      currentBlock = blockOffsets.length; // past the end, so nothing left to read
+      return;
+    }
+
+    if (openBufferedBlocks(currentBlock)) {
+      return;
+    }
+    exporter.open(new Resource(sourceFile, "", blockOffsets[currentBlock], blockLengths[currentBlock], decompLengths[currentBlock]));
+  }
+
+  /**
+  **********************************************************************************************
+  Moves on to the next block, once the current block has been read. The ring buffer of the
+  finished block is given the next block that isn't in the ring yet.
+  **********************************************************************************************
+  **/
+  boolean nextBufferedBlock() {
+    int numBlocks = blockOffsets.length;
+    if (currentBlock >= numBlocks) {
+      return false;
+    }
+
+    if (ringTasks != null) {
+      submitBufferedBlock(currentBlock + ringSize);
+    }
+
+    currentBlock++;
+    if (currentBlock >= numBlocks) {
+      currentBuffer = null;
+      currentLength = 0;
+      currentPos = 0;
+      return false;
+    }
+    return loadBufferedBlock();
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the <i>currentBlock</i> ready for reading, either by waiting for a worker thread to finish
+  decompressing it, or by decompressing it on this thread. If that fails, the block is streamed
+  through the exporter instead, so a failed block doesn't leave a gap in the file.
+  **********************************************************************************************
+  **/
+  boolean loadBufferedBlock() {
+    int slot = (currentBlock - ringStart) % ringSize;
+
+    int length = 0;
+    try {
+      if (ringTasks != null) {
+        ForkJoinTask<Integer> task = ringTasks[slot];
+        ringTasks[slot] = null;
+        length = task.join();
+      }
+      else {
+        length = decompressBufferedBlock(currentBlock, slot);
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      length = streamBufferedBlock(currentBlock, slot);
+    }
+
+    currentBuffer = ringBuffers[slot];
+    currentLength = length;
+    currentPos = 0;
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Starts reading from the <i>firstBlock</i> with the blocks decompressed into memory, if the
+  exporter can do this. If there are more blocks after it, and this isn't already running on a
+  worker thread, the following blocks are decompressed ahead of time on the worker threads.
+  Returns false if the blocks need to be streamed through the exporter instead.
+  **********************************************************************************************
+  **/
+  @SuppressWarnings("unchecked")
+  boolean openBufferedBlocks(int firstBlock) {
+    if (!canBufferBlocks()) {
+      return false;
+    }
+
+    try {
+      blockFile = new RandomAccessFile(sourceFile, "r");
+      blockChannel = blockFile.getChannel();
+    }
+    catch (Throwable t) {
+      blockFile = null;
+      blockChannel = null;
+      return false;
+    }
+
+    int numBlocks = blockOffsets.length;
+    int remainingBlocks = numBlocks - firstBlock;
+
+    ringStart = firstBlock;
+    ringSize = 1;
+
+    boolean readAhead = remainingBlocks > 1 && !ForkJoinTask.inForkJoinPool() && TaskThreadPool.getThreadCount() > 1 && Settings.getBoolean("ParallelBlockDecompression");
+    if (readAhead) {
+      long largestBlock = 1;
+      for (int i = firstBlock; i < numBlocks; i++) {
+        if (decompLengths[i] > largestBlock) {
+          largestBlock = decompLengths[i];
+        }
+      }
+
+      ringSize = Math.min(remainingBlocks, TaskThreadPool.getThreadCount() * 2);
+      ringSize = (int) Math.min(ringSize, MAXIMUM_READ_AHEAD_SIZE / largestBlock);
+      if (ringSize < 2) {
+        ringSize = 1;
+        readAhead = false;
+      }
+    }
+
+    ringBuffers = new byte[ringSize][];
+    ringCompBuffers = new byte[ringSize][];
+    bufferedBlocks = true;
+    currentBlock = firstBlock;
+
+    if (readAhead) {
+      ringTasks = new ForkJoinTask[ringSize];
+      for (int i = 0; i < ringSize; i++) {
+        submitBufferedBlock(firstBlock + i);
+      }
+    }
+
+    return loadBufferedBlock();
+  }
+
   /**
   **********************************************************************************************
   
@@ -146,8 +591,11 @@ public class BlockExporterWrapper extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read());
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
+      int bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        destination.writeBytes(buffer, 0, bytesRead);
+        bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
       }
 
       exporter.close();
@@ -168,6 +616,12 @@ public class BlockExporterWrapper extends ExporterPlugin {
   @Override
   public int read() {
     try {
+      if (bufferedBlocks) {
+        if (currentPos >= currentLength && !available()) {
+          return 0;
+        }
+        return currentBuffer[currentPos++];
+      }
       return exporter.read(); // available() already handles the transition between blocks
     }
     catch (Throwable t) {
@@ -175,6 +629,56 @@ public class BlockExporterWrapper extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads from the current block in bulk, moving on to the next block whenever the current one
+  runs out
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    try {
+      int bytesRead = 0;
+
+      if (bufferedBlocks) {
+        while (bytesRead < length && available()) {
+          int copyLength = Math.min(length - bytesRead, currentLength - currentPos);
+          System.arraycopy(currentBuffer, currentPos, buffer, offset + bytesRead, copyLength);
+          currentPos += copyLength;
+          bytesRead += copyLength;
+        }
+
+        if (bytesRead <= 0 && length > 0) {
+          return -1;
+        }
+        return bytesRead;
+      }
+
+      while (bytesRead < length && currentBlock < blockOffsets.length) {
+        int blockBytesRead = exporter.read(buffer, offset + bytesRead, length - bytesRead);
+        if (blockBytesRead > 0) {
+          bytesRead += blockBytesRead;
+          continue;
+        }
+
+        // the current block is finished, move on to the next block
+        exporter.close();
+        currentBlock++;
+        if (currentBlock < blockOffsets.length) {
+          exporter.open(new Resource(sourceFile, "", blockOffsets[currentBlock], blockLengths[currentBlock], decompLengths[currentBlock]));
+        }
+      }
+
+      if (bytesRead <= 0 && length > 0) {
+        return -1;
+      }
+      return bytesRead;
+    }
+    catch (Throwable t) {
+      return -1;
+    }
+  }
+
   public void setBlockLengths(long[] blockLengths) {
     this.blockLengths = blockLengths;
   }
@@ -183,8 +687,71 @@ public class BlockExporterWrapper extends ExporterPlugin {
     this.blockOffsets = blockOffsets;
   }
 
+  /**
+  **********************************************************************************************
+  Decompresses the <i>block</i> into the ring buffer <i>slot</i> by streaming it through the
+  exporter, the same as when the blocks aren't buffered. This opens the block itself, rather than
+  using the shared file handle. Returns the decompressed length.
+  **********************************************************************************************
+  **/
+  int streamBufferedBlock(int block, int slot) {
+    int decompLength = (int) decompLengths[block];
+    byte[] decompBytes = ringBuffers[slot];
+    if (decompBytes == null || decompBytes.length < decompLength) {
+      decompBytes = new byte[decompLength];
+      ringBuffers[slot] = decompBytes;
+    }
+
+    int length = 0;
+    try {
+      exporter.open(new Resource(sourceFile, "", blockOffsets[block], blockLengths[block], decompLengths[block]));
+      while (length < decompLength) {
+        int bytesRead = exporter.read(decompBytes, length, decompLength - length);
+        if (bytesRead <= 0) {
+          break;
+        }
+        length += bytesRead;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      exporter.close();
+    }
+
+    if (length < decompLength) {
+      ErrorLogger.log("[BlockExporterWrapper] Block " + block + " of " + sourceFile + " only decompressed to " + length + " of " + decompLength + " bytes");
+    }
+    return length;
+  }
+
+  /**
+  **********************************************************************************************
+  Starts decompressing the <i>block</i> into its ring buffer on a worker thread
+  **********************************************************************************************
+  **/
+  void submitBufferedBlock(final int block) {
+    if (block >= blockOffsets.length) {
+      return;
+    }
+
+    final int slot = (block - ringStart) % ringSize;
+    ringTasks[slot] = TaskThreadPool.getForkJoinPool().submit(new Callable<Integer>() {
+
+      @Override
+      public Integer call() throws Exception {
+        if (closingBlocks) {
+          return 0;
+        }
+        return decompressBufferedBlock(block, slot);
+      }
+    });
+  }
+
   public void setDecompLengths(long[] decompLengths) {
     this.decompLengths = decompLengths;
+    this.blockStarts = null;
   }
 
 }
\ No newline at end of file
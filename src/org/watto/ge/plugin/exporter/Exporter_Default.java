@@ -14,17 +14,24 @@
 
 package org.watto.ge.plugin.exporter;
 
+import java.nio.ByteBuffer;
+import org.watto.Settings;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.io.FileManipulator;
+import org.watto.io.buffer.FileBuffer;
+import org.watto.io.buffer.MappedFileBuffer;
 
 public class Exporter_Default extends ExporterPlugin {
 
   static Exporter_Default instance = new Exporter_Default();
 
-  static FileManipulator readSource;
+  /** The size of each view of the source file when a large file is extracted **/
+  static final int SLICE_SIZE = 8388608;
 
-  static long readLength = 0;
+  FileManipulator readSource;
+
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -44,6 +51,43 @@ public class Exporter_Default extends ExporterPlugin {
     setName("Uncompressed");
   }
 
+  /**
+  **********************************************************************************************
+  Only the source file and the remaining length are kept, so each thread gets a new one.
+  Subclasses can have state of their own, so they aren't copied unless they override this.
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    if (getClass() != Exporter_Default.class) {
+      return null; // subclasses need to provide their own copies
+    }
+    return new Exporter_Default();
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canDecompressBlocks() {
+    return getClass() == Exporter_Default.class;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    // the data is stored as-is
+    int copyLength = Math.min(compLength, decompLength);
+    System.arraycopy(compBytes, 0, decompBytes, 0, copyLength);
+    return copyLength;
+  }
+
   /**
   **********************************************************************************************
   
@@ -70,6 +114,80 @@ public class Exporter_Default extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Large files are copied from read-only views of the source file straight into the destination
+  file, rather than being read into memory and written out again
+  **********************************************************************************************
+  **/
+  @Override
+  public void extract(Resource source, FileManipulator destination) {
+    if (getClass() == Exporter_Default.class && destination.getBuffer() instanceof FileBuffer) {
+      int minimumSize = Settings.getInt("MappedFileBufferMinimumSize");
+      if (minimumSize > 0 && source.getLength() >= minimumSize && extractSlices(source, (FileBuffer) destination.getBuffer())) {
+        return;
+      }
+    }
+    super.extract(source, destination);
+  }
+
+  /**
+  **********************************************************************************************
+  Copies the <i>source</i> to the current position of the <i>destination</i>, a view of the
+  source file at a time
+  @return false if the source file couldn't be mapped, and nothing was written
+  **********************************************************************************************
+  **/
+  boolean extractSlices(Resource source, FileBuffer destination) {
+    MappedFileBuffer sourceBuffer = new MappedFileBuffer(source.getSource());
+    try {
+      long offset = source.getOffset();
+      long remaining = source.getLength();
+
+      ByteBuffer slice = sourceBuffer.slice(offset, (int) Math.min(remaining, SLICE_SIZE));
+      if (slice == null) {
+        return false;
+      }
+
+      while (slice != null && slice.hasRemaining()) {
+        int sliceLength = slice.remaining();
+        destination.write(slice);
+
+        offset += sliceLength;
+        remaining -= sliceLength;
+        if (remaining <= 0) {
+          break;
+        }
+        slice = sourceBuffer.slice(offset, (int) Math.min(remaining, SLICE_SIZE));
+      }
+
+      return true;
+    }
+    catch (Throwable t) {
+      logError(t);
+      return true; // part of the file might have been written already
+    }
+    finally {
+      sourceBuffer.close();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  The data isn't compressed, so reading can start anywhere
+  **********************************************************************************************
+  **/
+  @Override
+  public long getRestartPoint(Resource source, long offset) {
+    if (getClass() != Exporter_Default.class) {
+      return 0; // subclasses might change the data as it's read
+    }
+    if (offset < 0 || offset > source.getLength()) {
+      return 0;
+    }
+    return offset;
+  }
+
   /**
   **********************************************************************************************
   
@@ -94,6 +212,27 @@ public class Exporter_Default extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public void openAt(Resource source, long restartPoint) {
+    if (restartPoint <= 0) {
+      closeAndReopen(source);
+      return;
+    }
+
+    close();
+    open(source);
+
+    if (readSource != null) {
+      readSource.seek(source.getOffset() + restartPoint);
+      readLength -= restartPoint;
+    }
+  }
+
   /**
   **********************************************************************************************
   So we can easily call this from within a Viewer plugin
@@ -124,8 +263,11 @@ public class Exporter_Default extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        destination.writeByte(exporter.read());
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
+      int bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        destination.writeBytes(buffer, 0, bytesRead);
+        bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
       }
 
       exporter.close();
@@ -154,4 +296,31 @@ public class Exporter_Default extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Copies the data straight out of the source file buffer
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (length > readLength) {
+        length = (int) readLength;
+      }
+
+      readSource.getBuffer().read(buffer, offset, length);
+      readLength -= length;
+
+      return length;
+    }
+    catch (Throwable t) {
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
@@ -30,9 +30,9 @@ public class Exporter_Deflate extends ExporterPlugin {
 
   static Exporter_Deflate instance = new Exporter_Deflate();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -54,6 +54,36 @@ public class Exporter_Deflate extends ExporterPlugin {
     setName("Deflate Compression");
   }
 
+  /**
+  **********************************************************************************************
+  The inflater stream and the file it reads are per-instance, so each thread gets a new one
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    return new Exporter_Deflate();
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canDecompressBlocks() {
+    return getClass() == Exporter_Deflate.class;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    return Exporter_ZLib.inflateBlock(compBytes, compLength, decompBytes, decompLength, true);
+  }
+
   /**
   **********************************************************************************************
   
@@ -14,6 +14,7 @@
 
 package org.watto.ge.plugin.exporter;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import org.apache.commons.compress.compressors.lz4.BlockLZ4CompressorInputStream;
 import org.apache.commons.compress.compressors.lz4.BlockLZ4CompressorOutputStream;
@@ -28,11 +29,14 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
   static Exporter_LZ4 instance = new Exporter_LZ4();
 
-  static BlockLZ4CompressorInputStream readSource;
+  BlockLZ4CompressorInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
-  static int currentByte = 0;
+  int currentByte = 0;
+
+  /** whether available() has read <i>currentByte</i> but read() hasn't returned it yet **/
+  boolean currentByteWaiting = false;
 
   /**
   **********************************************************************************************
@@ -54,6 +58,61 @@ public class Exporter_LZ4 extends ExporterPlugin {
     setName("LZ4 Compression");
   }
 
+  /**
+  **********************************************************************************************
+  The LZ4 stream and the byte waiting from available() are per-instance, so each thread gets a
+  new one
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    return new Exporter_LZ4();
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canDecompressBlocks() {
+    return getClass() == Exporter_LZ4.class;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    int decompPos = 0;
+    BlockLZ4CompressorInputStream blockSource = null;
+    try {
+      blockSource = new BlockLZ4CompressorInputStream(new ByteArrayInputStream(compBytes, 0, compLength));
+      while (decompPos < decompLength) {
+        int readLength = blockSource.read(decompBytes, decompPos, decompLength - decompPos);
+        if (readLength <= 0) {
+          break;
+        }
+        decompPos += readLength;
+      }
+    }
+    catch (Throwable t) {
+      // bad data - return what was decompressed before it, the same as reading from the stream
+    }
+    finally {
+      if (blockSource != null) {
+        try {
+          blockSource.close();
+        }
+        catch (IOException e) {
+        }
+      }
+    }
+    return decompPos;
+  }
+
   /**
   **********************************************************************************************
   
@@ -63,10 +122,15 @@ public class Exporter_LZ4 extends ExporterPlugin {
   public boolean available() {
     try {
 
+      if (currentByteWaiting) {
+        return true;
+      }
+
       if (readLength > 0) {
         currentByte = readSource.read();
         readLength--;
         if (currentByte >= 0) {
+          currentByteWaiting = true;
           return true;
         }
       }
@@ -107,6 +171,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
       readSource = new BlockLZ4CompressorInputStream(new ManipulatorInputStream(fm));
       readLength = decompLengthIn;
+      currentByteWaiting = false;
     }
     catch (Throwable t) {
     }
@@ -125,6 +190,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
 
       readSource = new BlockLZ4CompressorInputStream(new ManipulatorInputStream(fm));
       readLength = source.getDecompressedLength();
+      currentByteWaiting = false;
     }
     catch (Throwable t) {
       ErrorLogger.log(t);
@@ -145,8 +211,11 @@ public class Exporter_LZ4 extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        outputStream.write(exporter.read());
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
+      int bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        outputStream.write(buffer, 0, bytesRead);
+        bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
       }
 
       exporter.close();
@@ -175,6 +244,7 @@ public class Exporter_LZ4 extends ExporterPlugin {
   public int read() {
     try {
       // NOTE: The actual reading of the byte is done in available()
+      currentByteWaiting = false;
       return currentByte;
     }
     catch (Throwable t) {
@@ -184,4 +254,53 @@ public class Exporter_LZ4 extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Decompresses straight into the <i>buffer</i>
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    try {
+      if (length <= 0) {
+        return 0;
+      }
+
+      int bytesRead = 0;
+
+      // if available() has already read a byte, return it first
+      if (currentByteWaiting) {
+        buffer[offset] = (byte) currentByte;
+        currentByteWaiting = false;
+        bytesRead++;
+      }
+
+      if (readLength > 0 && bytesRead < length) {
+        int lengthToRead = length - bytesRead;
+        if (lengthToRead > readLength) {
+          lengthToRead = (int) readLength;
+        }
+
+        int decompLength = readSource.read(buffer, offset + bytesRead, lengthToRead);
+        if (decompLength < 0) {
+          readLength = 0;
+        }
+        else {
+          readLength -= decompLength;
+          bytesRead += decompLength;
+        }
+      }
+
+      if (bytesRead <= 0) {
+        return -1;
+      }
+      return bytesRead;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
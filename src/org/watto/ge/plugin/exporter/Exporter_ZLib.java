@@ -15,7 +15,9 @@
 package org.watto.ge.plugin.exporter;
 
 import java.io.IOException;
+import java.util.zip.DataFormatException;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import org.watto.datatype.Resource;
 import org.watto.ge.plugin.ExporterPlugin;
@@ -28,8 +30,8 @@ public class Exporter_ZLib extends ExporterPlugin {
 
   static Exporter_ZLib instance = new Exporter_ZLib();
 
-  static InflaterInputStream readSource;
-  static long readLength = 0;
+  InflaterInputStream readSource;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -51,6 +53,54 @@ public class Exporter_ZLib extends ExporterPlugin {
     setName("ZLib Compression");
   }
 
+  /**
+  **********************************************************************************************
+  Inflates a block of data in memory, with a new Inflater so it can run on any thread. Stops at
+  the end of the data, or when <i>decompLength</i> bytes have been inflated.
+  **********************************************************************************************
+  **/
+  static int inflateBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength, boolean nowrap) {
+    Inflater inflater = new Inflater(nowrap);
+    int decompPos = 0;
+    try {
+      inflater.setInput(compBytes, 0, compLength);
+      while (decompPos < decompLength && !inflater.finished()) {
+        int inflatedLength = inflater.inflate(decompBytes, decompPos, decompLength - decompPos);
+        if (inflatedLength <= 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break; // ran out of data
+        }
+        decompPos += inflatedLength;
+      }
+    }
+    catch (DataFormatException e) {
+      // bad data - return what was inflated before it, the same as reading from the stream
+    }
+    finally {
+      inflater.end();
+    }
+    return decompPos;
+  }
+
+  /**
+  **********************************************************************************************
+  The inflater stream and the file it reads are per-instance, so each thread gets a new one
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    return new Exporter_ZLib();
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canDecompressBlocks() {
+    return getClass() == Exporter_ZLib.class;
+  }
+
   /**
   **********************************************************************************************
   
@@ -120,6 +170,16 @@ public class Exporter_ZLib extends ExporterPlugin {
   /**
   **********************************************************************************************
   
+  **********************************************************************************************
+  **/
+  @Override
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    return inflateBlock(compBytes, compLength, decompBytes, decompLength, false);
+  }
+
+  /**
+  **********************************************************************************************
+  
   **********************************************************************************************
   **/
   @Override
@@ -165,8 +225,11 @@ public class Exporter_ZLib extends ExporterPlugin {
       ExporterPlugin exporter = source.getExporter();
       exporter.open(source);
 
-      while (exporter.available()) {
-        outputStream.write(exporter.read());
+      byte[] buffer = new byte[BULK_BUFFER_SIZE];
+      int bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
+      while (bytesRead > 0) {
+        outputStream.write(buffer, 0, bytesRead);
+        bytesRead = exporter.read(buffer, 0, BULK_BUFFER_SIZE);
       }
 
       exporter.close();
@@ -204,4 +267,36 @@ public class Exporter_ZLib extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Inflates straight into the <i>buffer</i>
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    try {
+      if (readLength <= 0) {
+        return -1;
+      }
+
+      if (length > readLength) {
+        length = (int) readLength;
+      }
+
+      int bytesRead = readSource.read(buffer, offset, length);
+      if (bytesRead < 0) {
+        readLength = 0;
+        return -1;
+      }
+
+      readLength -= bytesRead;
+      return bytesRead;
+    }
+    catch (Throwable t) {
+      t.printStackTrace();
+      readLength = 0;
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
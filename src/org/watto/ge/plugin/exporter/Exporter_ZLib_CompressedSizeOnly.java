@@ -28,9 +28,9 @@ public class Exporter_ZLib_CompressedSizeOnly extends ExporterPlugin {
 
   static Exporter_ZLib_CompressedSizeOnly instance = new Exporter_ZLib_CompressedSizeOnly();
 
-  static InflaterInputStream readSource;
+  InflaterInputStream readSource;
 
-  static long readLength = 0;
+  long readLength = 0;
 
   /**
   **********************************************************************************************
@@ -52,6 +52,17 @@ public class Exporter_ZLib_CompressedSizeOnly extends ExporterPlugin {
     setName("ZLib Compression - Compressed Size Only");
   }
 
+  /**
+  **********************************************************************************************
+  The inflater stream and the byte read ahead by available() are per-instance, so each thread
+  gets a new one
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    return new Exporter_ZLib_CompressedSizeOnly();
+  }
+
   /**
   **********************************************************************************************
   
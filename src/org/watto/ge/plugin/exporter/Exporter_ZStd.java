@@ -54,6 +54,42 @@ public class Exporter_ZStd extends ExporterPlugin {
     setName("ZStd / ZStandard Compression");
   }
 
+  /**
+  **********************************************************************************************
+  The compressed and decompressed block buffers are per-instance, so each thread gets a new one
+  **********************************************************************************************
+  **/
+  @Override
+  public ExporterPlugin newThreadInstance() {
+    return new Exporter_ZStd();
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public boolean canDecompressBlocks() {
+    return getClass() == Exporter_ZStd.class;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public int decompressBlock(byte[] compBytes, int compLength, byte[] decompBytes, int decompLength) {
+    try {
+      ZstdDecompressor decompressor = new ZstdDecompressor();
+      return decompressor.decompress(compBytes, 0, compLength, decompBytes, 0, decompLength);
+    }
+    catch (Throwable t) {
+      return 0;
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -152,4 +188,31 @@ public class Exporter_ZStd extends ExporterPlugin {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Copies straight out of the decompressed buffer
+  **********************************************************************************************
+  **/
+  @Override
+  public int read(byte[] buffer, int offset, int length) {
+    try {
+      int remainingLength = decompLength - decompPos;
+      if (remainingLength <= 0) {
+        return -1;
+      }
+
+      if (length > remainingLength) {
+        length = remainingLength;
+      }
+
+      System.arraycopy(decompBuffer, decompPos, buffer, offset, length);
+      decompPos += length;
+
+      return length;
+    }
+    catch (Throwable t) {
+      return -1;
+    }
+  }
+
 }
\ No newline at end of file
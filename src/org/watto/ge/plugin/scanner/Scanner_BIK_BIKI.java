@@ -30,6 +30,16 @@ public class Scanner_BIK_BIKI extends ScannerPlugin {
     super("bik", "Bink Video");
   }
 
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 66, 73, 75, 105 }, { 66, 73, 75, 102 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -30,6 +30,16 @@ public class Scanner_BMP_BM extends ScannerPlugin {
     super("bmp", "Bitmap Image");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 66, 77 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -30,6 +30,16 @@ public class Scanner_DDS_DDS extends ScannerPlugin {
     super("dds", "DirectX DDS Image");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 68, 68, 83, 32, 124, 0, 0, 0 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -31,6 +31,16 @@ public class Scanner_GIF_GIF extends ScannerPlugin {
     super("gif", "GIF Image");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 71, 73, 70, 56 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
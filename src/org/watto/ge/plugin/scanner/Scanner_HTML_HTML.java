@@ -29,6 +29,16 @@ public class Scanner_HTML_HTML extends ScannerPlugin {
     super("html", "HTML Webpage");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 60, 72, 84, 77, 76 }, { 60, 104, 116, 109, 108 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -29,6 +29,16 @@ public class Scanner_JPEG_JFIF extends ScannerPlugin {
     super("jpg", "JPEG Image");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 74, 70, 73, 70, 0, 1 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
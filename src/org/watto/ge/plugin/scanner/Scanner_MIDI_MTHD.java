@@ -32,6 +32,16 @@ public class Scanner_MIDI_MTHD extends ScannerPlugin {
     super("mid", "Midi Audio");
   }
 
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 77, 84, 104, 100, 0, 0, 0, 6 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -22,8 +22,6 @@ import org.watto.io.converter.ByteConverter;
 
 public class Scanner_OGG_OGGS extends ScannerPlugin {
 
-  long offset = 0;
-
   /**
   **********************************************************************************************
 
@@ -33,8 +31,28 @@ public class Scanner_OGG_OGGS extends ScannerPlugin {
     super("ogg", "Ogg Vorbis Audio");
   }
 
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 79, 103, 103, 83, 0 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
+    return scanPage(b, fm, -1);
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the page starting at byte b, then each page after it until the end page is found. The
+  offset is the start of the stream, or -1 if the start page hasn't been found yet.
+  **********************************************************************************************
+  **/
+  public Resource scanPage(int b, FileManipulator fm, long offset) {
     try {
 
       if (b != 79) {
@@ -53,6 +71,10 @@ public class Scanner_OGG_OGGS extends ScannerPlugin {
       }
       else if (!packetType[0]) {
         // middle packet(s) or end packet
+        if (offset == -1) {
+          // not the start of an OGG stream
+          return null;
+        }
       }
       else {
         // not an OGG stream
@@ -81,7 +103,7 @@ public class Scanner_OGG_OGGS extends ScannerPlugin {
       }
       else {
         // call this method again, to read the middle segments until the end packet is found
-        return scan(fm.readByte(), fm);
+        return scanPage(fm.readByte(), fm, offset);
       }
 
     }
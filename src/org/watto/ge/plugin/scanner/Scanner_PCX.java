@@ -30,6 +30,16 @@ public class Scanner_PCX extends ScannerPlugin {
     super("pcx", "PCX Image");
   }
 
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 10, 0, 1 }, { 10, 2, 1 }, { 10, 3, 1 }, { 10, 5, 1 } };
+  }
+
   @Override
   @SuppressWarnings("unused")
   public Resource scan(int b, FileManipulator fm) {
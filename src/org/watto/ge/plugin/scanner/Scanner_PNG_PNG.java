@@ -31,6 +31,16 @@ public class Scanner_PNG_PNG extends ScannerPlugin {
     super("png", "PNG Image");
   }
 
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { -119, 80, 78, 71, 13, 10, 26, 10, 0, 0, 0, 13, 73, 72, 68, 82 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
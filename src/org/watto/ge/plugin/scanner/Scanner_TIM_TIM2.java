@@ -30,6 +30,16 @@ public class Scanner_TIM_TIM2 extends ScannerPlugin {
     super("tim", "Playstation TIM2 Image");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 84, 73, 77, 50 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -29,6 +29,16 @@ public class Scanner_VAG_VAGP extends ScannerPlugin {
     super("vag", "Playstation VAG Audio");
   }
 
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 86, 65, 71, 112, 0, 0 } };
+  }
+
   @Override
   public Resource scan(int b, FileManipulator fm) {
     try {
@@ -39,6 +39,16 @@ public class Scanner_WAV_RIFF extends ScannerPlugin {
   /**
   **********************************************************************************************
   
+  **********************************************************************************************
+  **/
+  @Override
+  public byte[][] getSignatures() {
+    return new byte[][] { { 82, 73, 70, 70 } };
+  }
+
+  /**
+  **********************************************************************************************
+  
   **********************************************************************************************
   **/
   @Override
@@ -42,6 +42,7 @@ public class Viewer_000_9_WAR_WAR extends ViewerPlugin {
   **/
   public Viewer_000_9_WAR_WAR() {
     super("000_9_WAR_WAR", "Tomb Raider WAR Image");
+    setThreadSafe(true);
     setExtensions("war");
 
     setGames("Legacy of Kain: Soul Reaver 2",
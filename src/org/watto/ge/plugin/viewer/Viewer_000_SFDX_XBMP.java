@@ -41,6 +41,7 @@ public class Viewer_000_SFDX_XBMP extends ViewerPlugin {
   **/
   public Viewer_000_SFDX_XBMP() {
     super("000_SFDX_XBMP", "The Hobbit XBMP Image");
+    setThreadSafe(true);
     setExtensions("xbmp");
 
     setGames("The Hobbit");
@@ -45,6 +45,7 @@ public class Viewer_APK_APKF_TEX extends ViewerPlugin {
   **/
   public Viewer_APK_APKF_TEX() {
     super("APK_APKF_TEX", "APK_APKF_TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Spider-Man 3",
@@ -39,6 +39,7 @@ public class Viewer_ARCH00_LTAR_DDS_TEXR extends ViewerPlugin {
   **/
   public Viewer_ARCH00_LTAR_DDS_TEXR() {
     super("ARCH00_LTAR_DDS_TEXR", "ARCH00 DDS Image");
+    setThreadSafe(true);
     setExtensions("dds");
 
     setGames("Condemned: Criminal Origins");
@@ -42,6 +42,7 @@ public class Viewer_ARC_10_DDSC_AVTX extends ViewerPlugin {
   **/
   public Viewer_ARC_10_DDSC_AVTX() {
     super("ARC_10_DDSC_AVTX", "theHunter: Call Of The Wild DDSC Image");
+    setThreadSafe(true);
     setExtensions("ddsc");
 
     setGames("theHunter: Call Of The Wild");
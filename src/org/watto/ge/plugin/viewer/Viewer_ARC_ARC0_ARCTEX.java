@@ -42,6 +42,7 @@ public class Viewer_ARC_ARC0_ARCTEX extends ViewerPlugin {
   **/
   public Viewer_ARC_ARC0_ARCTEX() {
     super("ARC_ARC0_ARCTEX", "ARC_TEX Image");
+    setThreadSafe(true);
     setExtensions("arc_tex");
 
     setGames("Big Mutha Truckers");
@@ -43,6 +43,7 @@ public class Viewer_ARC_ARC_2_TEX_TEX extends ViewerPlugin {
   **/
   public Viewer_ARC_ARC_2_TEX_TEX() {
     super("ARC_ARC_2_TEX_TEX", "Lost Planet TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Lost Planet",
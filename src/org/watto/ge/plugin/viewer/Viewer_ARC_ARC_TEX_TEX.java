@@ -39,6 +39,7 @@ public class Viewer_ARC_ARC_TEX_TEX extends ViewerPlugin {
   **/
   public Viewer_ARC_ARC_TEX_TEX() {
     super("ARC_ARC_TEX_TEX", "Titan Quest TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Titan Quest");
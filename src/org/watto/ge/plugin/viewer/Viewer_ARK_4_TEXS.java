@@ -41,6 +41,7 @@ public class Viewer_ARK_4_TEXS extends ViewerPlugin {
   **/
   public Viewer_ARK_4_TEXS() {
     super("ARK_4_TEXS", "Split Second TEXS Image");
+    setThreadSafe(true);
     setExtensions("texs", "dds");
 
     setGames("Split Second");
@@ -42,6 +42,7 @@ public class Viewer_BAG_4_BM2_BM extends ViewerPlugin {
   **/
   public Viewer_BAG_4_BM2_BM() {
     super("BAG_4_BM2_BM", "Austerlitz BM2 Image");
+    setThreadSafe(true);
     setExtensions("bm2");
 
     setGames("Austerlitz");
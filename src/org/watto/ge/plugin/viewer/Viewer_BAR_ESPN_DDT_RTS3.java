@@ -42,6 +42,7 @@ public class Viewer_BAR_ESPN_DDT_RTS3 extends ViewerPlugin {
   **/
   public Viewer_BAR_ESPN_DDT_RTS3() {
     super("BAR_ESPN_DDT_RTS3", "Age Of Empires 3 DDT Image");
+    setThreadSafe(true);
     setExtensions("ddt");
 
     setGames("Age Of Empires 3");
@@ -40,6 +40,7 @@ public class Viewer_BDC_DXTRAW extends ViewerPlugin {
   **/
   public Viewer_BDC_DXTRAW() {
     super("BDC_DXTRAW", "Bioshock 2 Raw DDS Image");
+    setThreadSafe(true);
     setExtensions("dxtraw");
 
     setGames("Bioshock 2");
@@ -42,6 +42,7 @@ public class Viewer_BDL_MOIK_TGA_CTNR extends ViewerPlugin {
   **/
   public Viewer_BDL_MOIK_TGA_CTNR() {
     super("BDL_MOIK_TGA_CTNR", "Worms Revolution TGA (CTNR) Image");
+    setThreadSafe(true);
     setExtensions("tga");
 
     setGames("Worms Revolution");
@@ -40,6 +40,7 @@ public class Viewer_BF_BANKFILEV113_IMAGE extends ViewerPlugin {
   **/
   public Viewer_BF_BANKFILEV113_IMAGE() {
     super("BF_BANKFILEV113_IMAGE", "Ultimate Race Pro Image");
+    setThreadSafe(true);
     setExtensions("");
 
     setGames("Ultimate Race Pro");
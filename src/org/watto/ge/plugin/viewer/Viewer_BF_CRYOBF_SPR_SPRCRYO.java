@@ -40,6 +40,7 @@ public class Viewer_BF_CRYOBF_SPR_SPRCRYO extends ViewerPlugin {
   **/
   public Viewer_BF_CRYOBF_SPR_SPRCRYO() {
     super("BF_CRYOBF_SPR_SPRCRYO", "BF_CRYOBF_SPR_SPRCRYO");
+    setThreadSafe(true);
     setExtensions("spr");
 
     setEnabled(false); // TODO NOT ENABLED
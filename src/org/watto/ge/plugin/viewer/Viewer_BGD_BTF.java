@@ -45,6 +45,7 @@ public class Viewer_BGD_BTF extends ViewerPlugin {
   **/
   public Viewer_BGD_BTF() {
     super("BGD_BTF", "Redline BTF Image");
+    setThreadSafe(true);
     setExtensions("btf");
 
     setGames("Redline");
@@ -42,6 +42,7 @@ public class Viewer_BIG_2_TXTR extends ViewerPlugin {
   **/
   public Viewer_BIG_2_TXTR() {
     super("BIG_2_TXTR", "BIG_2_TXTR");
+    setThreadSafe(true);
     setExtensions("txtr");
 
     setGames("Armed and Dangerous");
@@ -41,6 +41,7 @@ public class Viewer_BIG_4_TEX256 extends ViewerPlugin {
   **/
   public Viewer_BIG_4_TEX256() {
     super("BIG_4_TEX256", "Legacy of Kain: Soul Reaver TEX256 Image");
+    setThreadSafe(true);
     setExtensions("tex256");
 
     setGames("Legacy of Kain: Soul Reaver");
@@ -39,6 +39,7 @@ public class Viewer_BIG_BIGF_CDATA extends ViewerPlugin {
   **/
   public Viewer_BIG_BIGF_CDATA() {
     super("BIG_BIGF_CDATA", "Red Alert 3 CDATA Audio/Image");
+    setThreadSafe(true);
     setExtensions("cdata");
 
     setGames("Red Alert 3");
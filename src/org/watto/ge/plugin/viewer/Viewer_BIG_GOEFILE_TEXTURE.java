@@ -40,6 +40,7 @@ public class Viewer_BIG_GOEFILE_TEXTURE extends ViewerPlugin {
   **/
   public Viewer_BIG_GOEFILE_TEXTURE() {
     super("BIG_GOEFILE_TEXTURE", "BIG_GOEFILE_TEXTURE");
+    setThreadSafe(true);
     setExtensions("texture");
 
     setGames("Blood Omen 2: Legacy of Kain");
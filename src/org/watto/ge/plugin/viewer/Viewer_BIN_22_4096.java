@@ -40,6 +40,7 @@ public class Viewer_BIN_22_4096 extends ViewerPlugin {
   **/
   public Viewer_BIN_22_4096() {
     super("BIN_22_4096", "Star Wars: Episode 1 Racer Images");
+    setThreadSafe(true);
     setExtensions("");
 
     setGames("Star Wars: Episode 1 Racer");
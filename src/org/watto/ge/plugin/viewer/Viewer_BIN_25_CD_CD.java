@@ -40,6 +40,7 @@ public class Viewer_BIN_25_CD_CD extends ViewerPlugin {
   **/
   public Viewer_BIN_25_CD_CD() {
     super("BIN_25_CD_CD", "Wildfire CD Image");
+    setThreadSafe(true);
     setExtensions("cd");
 
     setGames("Wildfire");
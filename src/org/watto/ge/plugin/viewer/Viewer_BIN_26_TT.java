@@ -41,6 +41,7 @@ public class Viewer_BIN_26_TT extends ViewerPlugin {
   **/
   public Viewer_BIN_26_TT() {
     super("BIN_26_TT", "Monopoly Tycoon TT Image");
+    setThreadSafe(true);
     setExtensions("tt");
 
     setGames("Monopoly Tycoon");
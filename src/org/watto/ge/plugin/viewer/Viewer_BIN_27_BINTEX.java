@@ -40,6 +40,7 @@ public class Viewer_BIN_27_BINTEX extends ViewerPlugin {
   **/
   public Viewer_BIN_27_BINTEX() {
     super("BIN_27_BINTEX", "Daytona USA BIN_TEX Image");
+    setThreadSafe(true);
     setExtensions("bin_tex");
 
     setGames("Daytona USA");
@@ -42,6 +42,7 @@ public class Viewer_BIN_32_BINTEX extends ViewerPlugin {
   **/
   public Viewer_BIN_32_BINTEX() {
     super("BIN_32_BINTEX", "LEGO Super Mario BIN_TEX Image");
+    setThreadSafe(true);
     setExtensions("bin_tex");
 
     setGames("LEGO Super Mario");
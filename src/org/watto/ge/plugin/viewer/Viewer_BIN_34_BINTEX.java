@@ -41,6 +41,7 @@ public class Viewer_BIN_34_BINTEX extends ViewerPlugin {
   **/
   public Viewer_BIN_34_BINTEX() {
     super("BIN_34_BINTEX", "007 BIN_TEX Image");
+    setThreadSafe(true);
     setExtensions("bin_tex");
 
     setGames("007: Tomorrow Never Dies");
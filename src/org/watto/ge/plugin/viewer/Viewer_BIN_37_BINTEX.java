@@ -42,6 +42,7 @@ public class Viewer_BIN_37_BINTEX extends ViewerPlugin {
   **/
   public Viewer_BIN_37_BINTEX() {
     super("BIN_37_BINTEX", "BIN_37_BINTEX Image");
+    setThreadSafe(true);
     setExtensions("bin_tex");
 
     setGames("Michael Jackson: The Experience");
@@ -43,6 +43,7 @@ public class Viewer_BIN_MWO3_BINTEX extends ViewerPlugin {
   **/
   public Viewer_BIN_MWO3_BINTEX() {
     super("BIN_MWO3_BINTEX", "ESPN National Hockey Night BIN_TEX Image");
+    setThreadSafe(true);
     setExtensions("bin_tex");
 
     setGames("ESPN National Hockey Night");
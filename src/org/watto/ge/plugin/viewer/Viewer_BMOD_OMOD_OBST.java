@@ -40,6 +40,7 @@ public class Viewer_BMOD_OMOD_OBST extends ViewerPlugin {
   **/
   public Viewer_BMOD_OMOD_OBST() {
     super("BMOD_OMOD_OBST", "BMOD_OMOD_OBST 3D Model");
+    setThreadSafe(true);
     setExtensions("obst", "dumy");
 
     setGames("Platoon");
@@ -53,6 +53,7 @@ public class Viewer_BMP_BMP extends ViewerPlugin {
   **/
   public Viewer_BMP_BMP() {
     super("BMP_BMP", "Bitmap (BMP) Image");
+    setThreadSafe(true);
     setExtensions("bmp");
     setStandardFileFormat(true);
   }
@@ -43,6 +43,7 @@ public class Viewer_BUNDLE_BND2_2_DXT_DXT extends ViewerPlugin {
   **/
   public Viewer_BUNDLE_BND2_2_DXT_DXT() {
     super("BUNDLE_BND2_2_DXT_DXT", "Burnout Paradise: The Ultimate Box DXT Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Burnout Paradise: The Ultimate Box");
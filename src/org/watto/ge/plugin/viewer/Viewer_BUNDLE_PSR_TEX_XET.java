@@ -40,6 +40,7 @@ public class Viewer_BUNDLE_PSR_TEX_XET extends ViewerPlugin {
   **/
   public Viewer_BUNDLE_PSR_TEX_XET() {
     super("BUNDLE_PSR_TEX_XET", "The Lion's Song TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("The Lion's Song");
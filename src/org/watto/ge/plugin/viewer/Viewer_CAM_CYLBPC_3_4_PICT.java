@@ -42,6 +42,7 @@ public class Viewer_CAM_CYLBPC_3_4_PICT extends ViewerPlugin {
   **/
   public Viewer_CAM_CYLBPC_3_4_PICT() {
     super("CAM_CYLBPC_3_4_PICT", "Playboy: The Mansion PICT Images");
+    setThreadSafe(true);
     setExtensions("pict");
 
     setGames("Playboy: The Mansion");
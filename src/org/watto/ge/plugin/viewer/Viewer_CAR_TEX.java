@@ -40,6 +40,7 @@ public class Viewer_CAR_TEX extends ViewerPlugin {
   **/
   public Viewer_CAR_TEX() {
     super("CAR_TEX", "Carnivores TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Carnivores",
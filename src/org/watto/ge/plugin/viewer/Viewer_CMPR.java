@@ -42,6 +42,7 @@ public class Viewer_CMPR extends ViewerPlugin {
   **/
   public Viewer_CMPR() {
     super("CMPR", "Wii CMPR Image");
+    setThreadSafe(true);
     setExtensions("cmpr");
 
     setGames("Wii");
@@ -41,6 +41,7 @@ public class Viewer_CMP_CMAP extends ViewerPlugin {
   **/
   public Viewer_CMP_CMAP() {
     super("CMP_CMAP", "Baram CMP Image");
+    setThreadSafe(true);
     setExtensions("cmp");
 
     setGames("Baram");
@@ -41,6 +41,7 @@ public class Viewer_CSA_PTE extends ViewerPlugin {
   **/
   public Viewer_CSA_PTE() {
     super("CSA_PTE", "CSA_PTE Image");
+    setThreadSafe(true);
     setExtensions("pte");
 
     setGames("Star Stable Online");
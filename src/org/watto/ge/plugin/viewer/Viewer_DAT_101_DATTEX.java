@@ -42,6 +42,7 @@ public class Viewer_DAT_101_DATTEX extends ViewerPlugin {
   **/
   public Viewer_DAT_101_DATTEX() {
     super("DAT_101_DATTEX", "DAT_101_DATTEX Image");
+    setThreadSafe(true);
     setExtensions("dat_tex");
 
     setGames("NHL FaceOff 99");
@@ -42,6 +42,7 @@ public class Viewer_DAT_103_DATTEX extends ViewerPlugin {
   **/
   public Viewer_DAT_103_DATTEX() {
     super("DAT_103_DATTEX", "DAT_103_DATTEX Image");
+    setThreadSafe(true);
     setExtensions("dat_tex");
 
     setGames("Summon Night 3");
@@ -44,6 +44,7 @@ public class Viewer_DAT_34_TILE extends ViewerPlugin {
   **/
   public Viewer_DAT_34_TILE() {
     super("DAT_34_TILE", "Nexus: The Kingdom Of The Winds [DAT_34] Tile Image");
+    setThreadSafe(true);
     setExtensions("tile");
 
     setGames("Nexus: The Kingdom Of The Winds");
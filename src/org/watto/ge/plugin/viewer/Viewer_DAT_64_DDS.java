@@ -41,6 +41,7 @@ public class Viewer_DAT_64_DDS extends ViewerPlugin {
   **/
   public Viewer_DAT_64_DDS() {
     super("DAT_64_DDS", "Anomoly Headerless DDS Images");
+    setThreadSafe(true);
     setExtensions("dds_headerless");
 
     setGames("Anomoly Defenders");
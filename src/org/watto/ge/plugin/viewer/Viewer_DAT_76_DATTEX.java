@@ -44,6 +44,7 @@ public class Viewer_DAT_76_DATTEX extends ViewerPlugin {
   **/
   public Viewer_DAT_76_DATTEX() {
     super("DAT_76_DATTEX", "Legacy of Kain: Soul Reaver DAT_TEX Image");
+    setThreadSafe(true);
     setExtensions("dat_tex");
 
     setGames("Legacy of Kain: Soul Reaver");
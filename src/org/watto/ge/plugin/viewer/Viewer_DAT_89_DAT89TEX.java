@@ -43,6 +43,7 @@ public class Viewer_DAT_89_DAT89TEX extends ViewerPlugin {
   **/
   public Viewer_DAT_89_DAT89TEX() {
     super("DAT_89_DAT89TEX", "Frostpunk DAT89_TEX Image");
+    setThreadSafe(true);
     setExtensions("dat89_tex");
 
     setGames("Frostpunk");
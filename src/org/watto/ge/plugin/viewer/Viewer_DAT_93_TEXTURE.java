@@ -43,6 +43,7 @@ public class Viewer_DAT_93_TEXTURE extends ViewerPlugin {
   **/
   public Viewer_DAT_93_TEXTURE() {
     super("DAT_93_TEXTURE", "Asheron's Call 2 TEXTURE Image");
+    setThreadSafe(true);
     setExtensions("texture");
 
     setGames("Asheron's Call 2");
@@ -41,6 +41,7 @@ public class Viewer_DAT_96_DATTEX extends ViewerPlugin {
   **/
   public Viewer_DAT_96_DATTEX() {
     super("DAT_96_DATTEX", "ESPN NHL Hockey DAT_TEX Image");
+    setThreadSafe(true);
     setExtensions("dat_tex");
 
     setGames("ESPN NHL Hockey");
@@ -41,6 +41,7 @@ public class Viewer_DAT_98_DATTEX extends ViewerPlugin {
   **/
   public Viewer_DAT_98_DATTEX() {
     super("DAT_98_DATTEX", "Turok: Dinosaur Hunter DAT_TEX Image");
+    setThreadSafe(true);
     setExtensions("dat_tex");
 
     setGames("Turok: Dinosaur Hunter");
@@ -40,6 +40,7 @@ public class Viewer_DAT_DAT_DAT extends ViewerPlugin {
   **/
   public Viewer_DAT_DAT_DAT() {
     super("DAT_DAT_DAT", "ESPN NHL Hockey NAMES.DAT Table");
+    setThreadSafe(true);
     setExtensions("dat");
 
     setGames("ESPN NHL Hockey");
@@ -39,6 +39,7 @@ public class Viewer_DAT_DAT_DB extends ViewerPlugin {
   **/
   public Viewer_DAT_DAT_DB() {
     super("DAT_DAT_DB", "ESPN NHL Hockey DB Table");
+    setThreadSafe(true);
     setExtensions("db");
 
     setGames("ESPN NHL Hockey");
@@ -46,6 +46,7 @@ public class Viewer_DAT_DAT_IFF_TXTR extends ViewerPlugin {
   **/
   public Viewer_DAT_DAT_IFF_TXTR() {
     super("DAT_DAT_IFF_TXTR", "ESPN NHL Hockey IFF Image");
+    setThreadSafe(true);
     setExtensions("iff");
 
     setGames("ESPN NHL Hockey");
@@ -41,6 +41,7 @@ public class Viewer_DAT_DAVE_TEX extends ViewerPlugin {
   **/
   public Viewer_DAT_DAVE_TEX() {
     super("DAT_DAVE_TEX", "DAT_DAVE_TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Red Dead Revolver");
@@ -38,6 +38,7 @@ public class Viewer_DAT_DBPF_UTXT extends ViewerPlugin {
   **/
   public Viewer_DAT_DBPF_UTXT() {
     super("UTXT", "Simcity 4 UTXT Text File");
+    setThreadSafe(true);
     setExtensions("utxt");
     setStandardFileFormat(false);
   }
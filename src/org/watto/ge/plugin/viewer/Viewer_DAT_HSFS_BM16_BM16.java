@@ -40,6 +40,7 @@ public class Viewer_DAT_HSFS_BM16_BM16 extends ViewerPlugin {
   **/
   public Viewer_DAT_HSFS_BM16_BM16() {
     super("DAT_HSFS_BM16_BM16", "Broken Sword BM16 Image");
+    setThreadSafe(true);
     setExtensions("bm16");
 
     setGames("Broken Sword: Shadow of the Templars");
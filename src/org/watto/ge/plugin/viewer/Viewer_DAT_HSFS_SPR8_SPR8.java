@@ -42,6 +42,7 @@ public class Viewer_DAT_HSFS_SPR8_SPR8 extends ViewerPlugin {
   **/
   public Viewer_DAT_HSFS_SPR8_SPR8() {
     super("DAT_HSFS_SPR8_SPR8", "Broken Sword SPR Animations");
+    setThreadSafe(true);
     setExtensions("spr8", "spr4", "spra", "back", "face", "fore", "fg16");
 
     setGames("Broken Sword: Shadow of the Templars");
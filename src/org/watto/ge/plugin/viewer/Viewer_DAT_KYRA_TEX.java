@@ -41,6 +41,7 @@ public class Viewer_DAT_KYRA_TEX extends ViewerPlugin {
   **/
   public Viewer_DAT_KYRA_TEX() {
     super("DAT_KYRA_TEX", "DAT_KYRA_TEX");
+    setThreadSafe(true);
     setExtensions("");
 
     setGames("Musaic Box");
@@ -41,6 +41,7 @@ public class Viewer_DAT_SLHALL_BMP extends ViewerPlugin {
   **/
   public Viewer_DAT_SLHALL_BMP() {
     super("DAT_SLHALL_BMP", "Temporal BMP Image");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("Temporal");
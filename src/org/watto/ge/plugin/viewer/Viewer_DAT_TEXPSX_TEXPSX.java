@@ -44,6 +44,7 @@ public class Viewer_DAT_TEXPSX_TEXPSX extends ViewerPlugin {
   **/
   public Viewer_DAT_TEXPSX_TEXPSX() {
     super("DAT_TEXPSX_TEXPSX", "NHL FaceOff 2001 TEXPSX Image");
+    setThreadSafe(true);
     setExtensions("texpsx");
 
     setGames("NHL FaceOff 2001");
@@ -38,6 +38,7 @@ public class Viewer_DB extends ViewerPlugin {
   **/
   public Viewer_DB() {
     super("DB", "NHL 2K (Dreamcast) DB Table");
+    setThreadSafe(true);
     setExtensions("db");
 
     setGames("NHL 2K");
@@ -42,6 +42,7 @@ public class Viewer_DB_DB_TABLE extends ViewerPlugin {
   **/
   public Viewer_DB_DB_TABLE() {
     super("DB_DB_TABLE", "NHL 10 Table");
+    setThreadSafe(true);
     setExtensions("table");
 
     setGames("NHL 10");
@@ -38,6 +38,7 @@ public class Viewer_DCT_DC2 extends ViewerPlugin {
   **/
   public Viewer_DCT_DC2() {
     super("DCT_DC2", "Paris Chase DCT Image");
+    setThreadSafe(true);
     setExtensions("dct");
 
     setGames("Paris Chase");
@@ -37,6 +37,7 @@ public class Viewer_DDS_DDS_Writer_ARGB extends ViewerPlugin {
   **/
   public Viewer_DDS_DDS_Writer_ARGB() {
     super("DDS_DDS_Writer_ARGB", "DirectX DDS ARGB Image Writer");
+    setThreadSafe(true);
     setExtensions("dds");
     setStandardFileFormat(true);
   }
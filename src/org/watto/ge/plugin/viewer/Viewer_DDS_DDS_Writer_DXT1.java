@@ -37,6 +37,7 @@ public class Viewer_DDS_DDS_Writer_DXT1 extends ViewerPlugin {
   **/
   public Viewer_DDS_DDS_Writer_DXT1() {
     super("DDS_DDS_Writer_DXT1", "DirectX DDS DXT1 Image Writer");
+    setThreadSafe(true);
     setExtensions("dds");
     setStandardFileFormat(true);
   }
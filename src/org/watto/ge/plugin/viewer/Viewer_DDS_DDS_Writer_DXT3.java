@@ -37,6 +37,7 @@ public class Viewer_DDS_DDS_Writer_DXT3 extends ViewerPlugin {
   **/
   public Viewer_DDS_DDS_Writer_DXT3() {
     super("DDS_DDS_Writer_DXT3", "DirectX DDS DXT3 Image Writer");
+    setThreadSafe(true);
     setExtensions("dds");
     setStandardFileFormat(true);
   }
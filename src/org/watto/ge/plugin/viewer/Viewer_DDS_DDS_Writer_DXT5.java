@@ -37,6 +37,7 @@ public class Viewer_DDS_DDS_Writer_DXT5 extends ViewerPlugin {
   **/
   public Viewer_DDS_DDS_Writer_DXT5() {
     super("DDS_DDS_Writer_DXT5", "DirectX DDS DXT5 Image Writer");
+    setThreadSafe(true);
     setExtensions("dds");
     setStandardFileFormat(true);
   }
@@ -41,6 +41,7 @@ public class Viewer_DIR_DIR_IMG extends ViewerPlugin {
   **/
   public Viewer_DIR_DIR_IMG() {
     super("DIR_DIR_IMG", "Worms 2 IMG Image");
+    setThreadSafe(true);
     setExtensions("img");
 
     setGames("Worms 2");
@@ -42,6 +42,7 @@ public class Viewer_DR_DR12_8IMAGE extends ViewerPlugin {
   **/
   public Viewer_DR_DR12_8IMAGE() {
     super("DR_DR12_8IMAGE", "Showdown: Legends of Wrestling 8IMAGE Image");
+    setThreadSafe(true);
     setExtensions("8image", "16image");
 
     setGames("Showdown: Legends of Wrestling");
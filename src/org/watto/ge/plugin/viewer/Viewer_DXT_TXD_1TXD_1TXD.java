@@ -43,6 +43,7 @@ public class Viewer_DXT_TXD_1TXD_1TXD extends ViewerPlugin {
   **/
   public Viewer_DXT_TXD_1TXD_1TXD() {
     super("DXT_TXD_1TXD_1TXD", "Hitman: Codename 47 1TXD Image");
+    setThreadSafe(true);
     setExtensions("1txd");
 
     setGames("Hitman: Codename 47");
@@ -43,6 +43,7 @@ public class Viewer_DXT_TXD_3TXD_3TXD extends ViewerPlugin {
   **/
   public Viewer_DXT_TXD_3TXD_3TXD() {
     super("DXT_TXD_3TXD_3TXD", "Hitman: Codename 47 3TXD Image");
+    setThreadSafe(true);
     setExtensions("3txd");
 
     setGames("Hitman: Codename 47");
@@ -43,6 +43,7 @@ public class Viewer_DXT_TXD_ABGR_ABGR extends ViewerPlugin {
   **/
   public Viewer_DXT_TXD_ABGR_ABGR() {
     super("DXT_TXD_ABGR_ABGR", "Hitman: Codename 47 ABGR Image");
+    setThreadSafe(true);
     setExtensions("abgr");
 
     setGames("Hitman: Codename 47");
@@ -42,6 +42,7 @@ public class Viewer_DXT_TXD_NLAP_NLAP extends ViewerPlugin {
   **/
   public Viewer_DXT_TXD_NLAP_NLAP() {
     super("DXT_TXD_NLAP_NLAP", "Hitman: Codename 47 NLAP Image");
+    setThreadSafe(true);
     setExtensions("nlap");
 
     setGames("Hitman: Codename 47");
@@ -36,6 +36,7 @@ public class Viewer_EDI extends ViewerPlugin {
   **/
   public Viewer_EDI() {
     super("EDI", "Project Eden EDI Image");
+    setThreadSafe(true);
     setExtensions("edi");
 
     setGames("Project Eden");
@@ -43,6 +43,7 @@ public class Viewer_EMBB_BNDL_TEX_TEXR extends ViewerPlugin {
   **/
   public Viewer_EMBB_BNDL_TEX_TEXR() {
     super("EMBB_BNDL_TEX_TEXR", "Middle Earth: Shadow Of Mordor TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Middle Earth: Shadow Of Mordor");
@@ -38,6 +38,7 @@ public class Viewer_ENG extends ViewerPlugin {
   **/
   public Viewer_ENG() {
     super("ENG", "NHL 2000 ENG Table");
+    setThreadSafe(true);
     setExtensions("eng", "cze", "fin", "fra", "ger", "swe");
 
     setGames("NHL 2000");
@@ -40,6 +40,7 @@ public class Viewer_EPC_EMDF_EMTR extends ViewerPlugin {
   **/
   public Viewer_EPC_EMDF_EMTR() {
     super("EPC_EMDF_EMTR", "EPC_EMDF_EMTR");
+    setThreadSafe(true);
     setExtensions("emtr");
 
     setGames("Doctor Who: Episode 1: City of the Daleks",
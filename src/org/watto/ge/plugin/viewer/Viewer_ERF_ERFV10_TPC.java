@@ -41,6 +41,7 @@ public class Viewer_ERF_ERFV10_TPC extends ViewerPlugin {
   **/
   public Viewer_ERF_ERFV10_TPC() {
     super("ERF_ERFV10_TPC", "ERF_ERFV10 TPC Image");
+    setThreadSafe(true);
     setExtensions("tpc");
 
     setGames("Star Wars: Knights Of The Old Republic");
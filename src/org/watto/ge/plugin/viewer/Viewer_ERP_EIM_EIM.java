@@ -39,6 +39,7 @@ public class Viewer_ERP_EIM_EIM extends ViewerPlugin {
   **/
   public Viewer_ERP_EIM_EIM() {
     super("ERP_EIM_EIM", "ERP_EIM_EIM");
+    setThreadSafe(true);
     setExtensions("eim");
 
     setGames("Alter Ego");
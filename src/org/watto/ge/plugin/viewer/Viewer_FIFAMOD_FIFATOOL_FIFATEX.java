@@ -45,6 +45,7 @@ public class Viewer_FIFAMOD_FIFATOOL_FIFATEX extends ViewerPlugin {
   **/
   public Viewer_FIFAMOD_FIFATOOL_FIFATEX() {
     super("FIFAMOD_FIFATOOL_FIFATEX", "FIFA Image");
+    setThreadSafe(true);
     setExtensions("fifa_tex");
 
     setGames("FIFA 22", "FIFA 23");
@@ -35,6 +35,7 @@ public class Viewer_FST_FAST_2_FSAMPLE extends ViewerPlugin {
   **/
   public Viewer_FST_FAST_2_FSAMPLE() {
     super("FST_FAST_2_FSAMPLE", "Crazy Machines 2 FSample Audio");
+    setThreadSafe(true);
     setExtensions("fsample");
 
     setGames("Crazy Machines 2");
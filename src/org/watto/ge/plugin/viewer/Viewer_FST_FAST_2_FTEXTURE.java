@@ -41,6 +41,7 @@ public class Viewer_FST_FAST_2_FTEXTURE extends ViewerPlugin {
   **/
   public Viewer_FST_FAST_2_FTEXTURE() {
     super("FST_FAST_2_FTEXTURE", "Crazy Machines 2 FTexture Image");
+    setThreadSafe(true);
     setExtensions("ftexture");
 
     setGames("Crazy Machines 2");
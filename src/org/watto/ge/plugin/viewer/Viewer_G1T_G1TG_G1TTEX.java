@@ -42,6 +42,7 @@ public class Viewer_G1T_G1TG_G1TTEX extends ViewerPlugin {
   **/
   public Viewer_G1T_G1TG_G1TTEX() {
     super("G1T_G1TG_G1TTEX", "Nioh G1T Image");
+    setThreadSafe(true);
     setExtensions("g1t_tex");
 
     setGames("Nioh");
@@ -40,6 +40,7 @@ public class Viewer_GLI_GLIB_IMG extends ViewerPlugin {
   **/
   public Viewer_GLI_GLIB_IMG() {
     super("GLI_GLIB_IMG", "Airline Tycoon Image");
+    setThreadSafe(true);
     setExtensions(""); // no extension
 
     setGames("Airline Tycoon");
@@ -42,6 +42,7 @@ public class Viewer_GPEG_TGA extends ViewerPlugin {
   **/
   public Viewer_GPEG_TGA() {
     super("GPEG_TGA", "Saints Row: The Third: Remastered TGA Image");
+    setThreadSafe(true);
     setExtensions("tga");
 
     setGames("Saints Row: The Third: Remastered");
@@ -46,6 +46,7 @@ public class Viewer_GRA_GRA2_2ARG extends ViewerPlugin {
   **/
   public Viewer_GRA_GRA2_2ARG() {
     super("GRA_GRA2_2ARG", "Scrabble 2 GRA1/2 Image");
+    setThreadSafe(true);
     setExtensions("gra2", "gra1");
 
     setGames("Scrabble 2");
@@ -43,6 +43,7 @@ public class Viewer_GT1G0600_GT1G0600_GT1G0600TEX extends ViewerPlugin {
   **/
   public Viewer_GT1G0600_GT1G0600_GT1G0600TEX() {
     super("GT1G0600_GT1G0600_GT1G0600TEX", "Ninja Gaiden Sigma GT1G0600_TEX Image");
+    setThreadSafe(true);
     setExtensions("gt1g0600_tex");
 
     setGames("Ninja Gaiden Sigma");
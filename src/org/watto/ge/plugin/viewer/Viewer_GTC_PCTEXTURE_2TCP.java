@@ -41,6 +41,7 @@ public class Viewer_GTC_PCTEXTURE_2TCP extends ViewerPlugin {
   **/
   public Viewer_GTC_PCTEXTURE_2TCP() {
     super("GTC_PCTEXTURE_2TCP", "Drome Racers pctexture Image");
+    setThreadSafe(true);
     setExtensions("pc texture", "xbx texture");
 
     setGames("Drome Racers");
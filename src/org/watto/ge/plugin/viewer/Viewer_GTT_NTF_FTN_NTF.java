@@ -40,6 +40,7 @@ public class Viewer_GTT_NTF_FTN_NTF extends ViewerPlugin {
   **/
   public Viewer_GTT_NTF_FTN_NTF() {
     super("GTT_NTF_FTN_NTF", "Knight Online FTN image [GTT_NTF_FTN_NTF]");
+    setThreadSafe(true);
     setExtensions("ftn");
 
     setGames("Knight Online",
@@ -38,6 +38,7 @@ public class Viewer_GXA_BMHD extends ViewerPlugin {
   **/
   public Viewer_GXA_BMHD() {
     super("GXA_BMHD", "Redguard: Elder Scrolls Adventures GXA Image");
+    setThreadSafe(true);
     setExtensions("gxa");
 
     setGames("Redguard: Elder Scrolls Adventures");
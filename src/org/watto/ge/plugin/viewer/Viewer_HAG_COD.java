@@ -40,6 +40,7 @@ public class Viewer_HAG_COD extends ViewerPlugin {
   **/
   public Viewer_HAG_COD() {
     super("HAG_COD", "The Riddle Of Master Lu COD Image");
+    setThreadSafe(true);
     setExtensions("cod");
 
     setGames("Orion Burger",
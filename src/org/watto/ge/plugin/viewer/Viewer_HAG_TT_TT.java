@@ -40,6 +40,7 @@ public class Viewer_HAG_TT_TT extends ViewerPlugin {
   **/
   public Viewer_HAG_TT_TT() {
     super("HAG_TT_TT", "The Riddle Of Master Lu TT Image");
+    setThreadSafe(true);
     setExtensions("tt");
 
     setGames("Orion Burger",
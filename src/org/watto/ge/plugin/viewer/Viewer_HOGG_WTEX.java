@@ -39,6 +39,7 @@ public class Viewer_HOGG_WTEX extends ViewerPlugin {
   **/
   public Viewer_HOGG_WTEX() {
     super("HOGG_WTEX", "Champions Online WTEX Image");
+    setThreadSafe(true);
     setExtensions("wtex");
 
     setGames("Champions Online");
@@ -41,6 +41,7 @@ public class Viewer_HQR_HQRTEXPAL extends ViewerPlugin {
   **/
   public Viewer_HQR_HQRTEXPAL() {
     super("HQR_HQRTEXPAL", "Little Big Adventure 2 HQR_TEXPAL Image");
+    setThreadSafe(true);
     setExtensions("hqr_texpal");
 
     setGames("Little Big Adventure 2");
@@ -43,6 +43,7 @@ public class Viewer_IBT_DXT_DXT extends ViewerPlugin {
   **/
   public Viewer_IBT_DXT_DXT() {
     super("IBT_DXT_DXT", "Thief 3 DXT Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Thief 3: Deadly Shadows");
@@ -42,6 +42,7 @@ public class Viewer_IMAGE_IMAGETEX extends ViewerPlugin {
   **/
   public Viewer_IMAGE_IMAGETEX() {
     super("IMAGE_IMAGETEX", "IMAGE_IMAGETEX Image");
+    setThreadSafe(true);
     setExtensions("image_tex");
 
     setGames("Shantae and the Pirates Curse");
@@ -38,6 +38,7 @@ public class Viewer_IMG_GMI extends ViewerPlugin {
   **/
   public Viewer_IMG_GMI() {
     super("IMG_GMI", "Jetboat Superchamps IMG Image");
+    setThreadSafe(true);
     setExtensions("img");
 
     setGames("Jetboat Superchamps",
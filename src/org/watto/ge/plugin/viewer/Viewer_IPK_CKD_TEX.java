@@ -40,6 +40,7 @@ public class Viewer_IPK_CKD_TEX extends ViewerPlugin {
   **/
   public Viewer_IPK_CKD_TEX() {
     super("IPK_CKD_TEX", "Rayman Legends CKD Image");
+    setThreadSafe(true);
     setExtensions("ckd");
 
     setGames("Rayman Legends");
@@ -39,6 +39,7 @@ public class Viewer_ISO_IDX extends ViewerPlugin {
   **/
   public Viewer_ISO_IDX() {
     super("ISO_IDX", "Harvester IDX Table");
+    setThreadSafe(true);
     setExtensions("idx");
 
     setGames("Harvester");
@@ -42,6 +42,7 @@ public class Viewer_J2D_PLIB_PICTURE extends ViewerPlugin {
   **/
   public Viewer_J2D_PLIB_PICTURE() {
     super("J2D_PLIB_PICTURE", "J2D_PLIB_PICTURE Image");
+    setThreadSafe(true);
     setExtensions("picture");
 
     setGames("Jazz Jackrabbit 2");
@@ -41,6 +41,7 @@ public class Viewer_JAM_FSTA_PNT_HVSIPNT extends ViewerPlugin {
   **/
   public Viewer_JAM_FSTA_PNT_HVSIPNT() {
     super("JAM_FSTA_PNT_HVSIPNT", "Codename Kids Next Door - Operation: V.I.D.E.O.G.A.M.E. PNT Image");
+    setThreadSafe(true);
     setExtensions("pnt");
 
     setGames("Codename Kids Next Door - Operation: V.I.D.E.O.G.A.M.E.");
@@ -35,6 +35,7 @@ public class Viewer_JLayer_MP3 extends ViewerPlugin {
   **/
   public Viewer_JLayer_MP3() {
     super("MP3", "MP3 Audio");
+    setThreadSafe(true);
     setExtensions("mp3", "mp2");
     setStandardFileFormat(true);
   }
@@ -40,6 +40,7 @@ public class Viewer_JP2 extends ViewerPlugin {
   **/
   public Viewer_JP2() {
     super("JP2", "JPEG 2000 (JP2) Image");
+    setThreadSafe(true);
     setExtensions("jp2");
   }
 
@@ -41,6 +41,7 @@ public class Viewer_KIT_KIT_RYHP extends ViewerPlugin {
   **/
   public Viewer_KIT_KIT_RYHP() {
     super("KIT_KIT_RYHP", "KIT_KIT_RYHP");
+    setThreadSafe(true);
     setExtensions("ryhp");
 
     setGames("Unravel");
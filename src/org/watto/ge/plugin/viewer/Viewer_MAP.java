@@ -39,6 +39,7 @@ public class Viewer_MAP extends ViewerPlugin {
   **/
   public Viewer_MAP() {
     super("MAP", "Baram MAP Image");
+    setThreadSafe(true);
     setExtensions("map");
 
     setGames("Baram");
@@ -40,6 +40,7 @@ public class Viewer_MBUNDLE_BPLIST00_TEXTURE_RES extends ViewerPlugin {
   **/
   public Viewer_MBUNDLE_BPLIST00_TEXTURE_RES() {
     super("MBUNDLE_BPLIST00_TEXTURE_RES", "MBUNDLE TEXTURE Image");
+    setThreadSafe(true);
     setExtensions("texture");
 
     setGames("Rune Factory 4 Special");
@@ -47,6 +47,7 @@ public class Viewer_MFS_WIM_WIMG extends ViewerPlugin {
   **/
   public Viewer_MFS_WIM_WIMG() {
     super("MFS_WIM_WIMG", "Made Man WIM (WIMG) Image [MFS_WIM_WIMG]");
+    setThreadSafe(true);
     setExtensions("wim");
 
     setGames("Made Man");
@@ -40,6 +40,7 @@ public class Viewer_MHK_MHWK_BMP extends ViewerPlugin {
   **/
   public Viewer_MHK_MHWK_BMP() {
     super("MHK_MHWK_BMP", "Mohawk Games BMP Image [MHK_MHWK_BMP]");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("Green Eggs and Ham");
@@ -42,6 +42,7 @@ public class Viewer_MMP_MMPTEX extends ViewerPlugin {
   **/
   public Viewer_MMP_MMPTEX() {
     super("MMP_MMPTEX", "Blade of Darkness MMP_TEX Image");
+    setThreadSafe(true);
     setExtensions("mmp_tex");
 
     setGames("Blade of Darkness");
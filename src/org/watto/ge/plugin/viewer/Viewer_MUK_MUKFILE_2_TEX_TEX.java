@@ -43,6 +43,7 @@ public class Viewer_MUK_MUKFILE_2_TEX_TEX extends ViewerPlugin {
   **/
   public Viewer_MUK_MUKFILE_2_TEX_TEX() {
     super("MUK_MUKFILE_2_TEX_TEX", "Mall Tycoon TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Mall Tycoon");
@@ -41,6 +41,7 @@ public class Viewer_NIF_GAMEBYRO_NiPersistentSrcTextureRendererData_20_3_0_9 ext
   **/
   public Viewer_NIF_GAMEBYRO_NiPersistentSrcTextureRendererData_20_3_0_9() {
     super("NIF_GAMEBYRO_NiPersistentSrcTextureRendererData_20_3_0_9", "NIF_GAMEBYRO_NiPersistentSrcTextureRendererData_20_3_0_9");
+    setThreadSafe(true);
     setExtensions("nif");
 
     setGames("Divinity 2");
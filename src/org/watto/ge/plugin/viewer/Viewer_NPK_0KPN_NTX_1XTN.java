@@ -40,6 +40,7 @@ public class Viewer_NPK_0KPN_NTX_1XTN extends ViewerPlugin {
   **/
   public Viewer_NPK_0KPN_NTX_1XTN() {
     super("NPK_0KPN_NTX_1XTN", "Project Nomad NTX Images");
+    setThreadSafe(true);
     setExtensions("ntx");
 
     setGames("Project Nomad");
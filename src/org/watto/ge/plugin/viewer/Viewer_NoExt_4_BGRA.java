@@ -40,6 +40,7 @@ public class Viewer_NoExt_4_BGRA extends ViewerPlugin {
   **/
   public Viewer_NoExt_4_BGRA() {
     super("NoExt_4_BGRA", "Little Inferno BGRA Image");
+    setThreadSafe(true);
     setExtensions("bgra");
 
     setGames("Little Inferno");
@@ -48,6 +48,7 @@ public class Viewer_OBJ extends ViewerPlugin {
   **/
   public Viewer_OBJ() {
     super("OBJ", "OBJ Model");
+    setThreadSafe(true);
     setExtensions("obj");
 
     setGames("OBJ Model");
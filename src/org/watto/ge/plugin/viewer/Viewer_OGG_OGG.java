@@ -35,6 +35,7 @@ public class Viewer_OGG_OGG extends ViewerPlugin {
   **/
   public Viewer_OGG_OGG() {
     super("OGG_OGG", "Ogg Vorbis Audio");
+    setThreadSafe(true);
     setExtensions("ogg");
 
     try {
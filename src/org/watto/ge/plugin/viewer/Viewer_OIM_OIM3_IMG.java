@@ -45,6 +45,7 @@ public class Viewer_OIM_OIM3_IMG extends ViewerPlugin {
   **/
   public Viewer_OIM_OIM3_IMG() {
     super("OIM_OIM3_IMG", "OIM Image");
+    setThreadSafe(true);
     setExtensions("oim_img");
 
     setGames("Shadow Of Rome");
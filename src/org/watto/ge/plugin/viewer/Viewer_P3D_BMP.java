@@ -46,6 +46,7 @@ public class Viewer_P3D_BMP extends ViewerPlugin {
   **/
   public Viewer_P3D_BMP() {
     super("P3D_BMP", "NHL Championship 2000 BMP Image");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("NHL Championship 2000");
@@ -43,6 +43,7 @@ public class Viewer_P3D_NHLChampionship2000 extends ViewerPlugin {
   **/
   public Viewer_P3D_NHLChampionship2000() {
     super("P3D_NHLChampionship2000", "NHL Championship 2000 P3D Image");
+    setThreadSafe(true);
     setExtensions("p3d");
 
     setGames("NHL Championship 2000");
@@ -40,6 +40,7 @@ public class Viewer_PAC_2_RWI_RWI extends ViewerPlugin {
   **/
   public Viewer_PAC_2_RWI_RWI() {
     super("PAC_2_RWI_RWI", "PAC_2_RWI_RWI Image");
+    setThreadSafe(true);
     setExtensions("rwi");
 
     setGames("Black Matrix 2");
@@ -43,6 +43,7 @@ public class Viewer_PAC_2_TEX extends ViewerPlugin {
   **/
   public Viewer_PAC_2_TEX() {
     super("PAC_2_TEX", "PAC_2_TEX Image");
+    setThreadSafe(true);
     setExtensions("pac_tex", "datarc_tex", "dattexarc_tex");
 
     setGames("Summon Night 3");
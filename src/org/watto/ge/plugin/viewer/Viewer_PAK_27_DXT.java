@@ -42,6 +42,7 @@ public class Viewer_PAK_27_DXT extends ViewerPlugin {
   **/
   public Viewer_PAK_27_DXT() {
     super("PAK_27_DXT", "Cars DXT Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Cars");
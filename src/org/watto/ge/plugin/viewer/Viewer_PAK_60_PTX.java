@@ -42,6 +42,7 @@ public class Viewer_PAK_60_PTX extends ViewerPlugin {
   **/
   public Viewer_PAK_60_PTX() {
     super("PAK_60_PTX", "Praetorians PTX Image");
+    setThreadSafe(true);
     setExtensions("ptx");
 
     setGames("Praetorians");
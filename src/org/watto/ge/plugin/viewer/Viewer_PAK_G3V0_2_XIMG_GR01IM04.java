@@ -39,6 +39,7 @@ public class Viewer_PAK_G3V0_2_XIMG_GR01IM04 extends ViewerPlugin {
   **/
   public Viewer_PAK_G3V0_2_XIMG_GR01IM04() {
     super("PAK_G3V0_2_XIMG_GR01IM04", "[PAK_G3V0_2_XIMG_GR01IM04] Risen XIMG Images");
+    setThreadSafe(true);
     setExtensions("_ximg");
 
     setGames("Risen");
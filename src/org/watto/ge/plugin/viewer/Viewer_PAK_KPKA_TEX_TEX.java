@@ -41,6 +41,7 @@ public class Viewer_PAK_KPKA_TEX_TEX extends ViewerPlugin {
   **/
   public Viewer_PAK_KPKA_TEX_TEX() {
     super("PAK_KPKA_TEX_TEX", "Capcom Arcade Stadium TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Capcom Arcade Stadium");
@@ -42,6 +42,7 @@ public class Viewer_PAK_P5CK_2_GCT extends ViewerPlugin {
   **/
   public Viewer_PAK_P5CK_2_GCT() {
     super("PAK_P5CK_2_GCT", "TimeSplitters: Future Perfect GCT Paletted Image");
+    setThreadSafe(true);
     setExtensions("gct");
 
     setGames("TimeSplitters: Future Perfect");
@@ -41,6 +41,7 @@ public class Viewer_PAK_PAK_2_PCT_RESPACK extends ViewerPlugin {
   **/
   public Viewer_PAK_PAK_2_PCT_RESPACK() {
     super("PAK_PAK_2_PCT_RESPACK", "The Club PCT Image");
+    setThreadSafe(true);
     setExtensions("pct");
 
     setGames("The Club");
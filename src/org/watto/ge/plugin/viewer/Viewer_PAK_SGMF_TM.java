@@ -41,6 +41,7 @@ public class Viewer_PAK_SGMF_TM extends ViewerPlugin {
   **/
   public Viewer_PAK_SGMF_TM() {
     super("PAK_SGMF_TM", "A.I.M.2: Clan Wars TM Image");
+    setThreadSafe(true);
     setExtensions("tm");
 
     setGames("A.I.M.2: Clan Wars");
@@ -45,6 +45,7 @@ public class Viewer_PARTIMAGES_DXT_DXT extends ViewerPlugin {
   **/
   public Viewer_PARTIMAGES_DXT_DXT() {
     super("PARTIMAGES_DXT_DXT", "Evolution GT DXT Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Evoluation GT");
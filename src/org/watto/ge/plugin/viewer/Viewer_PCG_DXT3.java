@@ -40,6 +40,7 @@ public class Viewer_PCG_DXT3 extends ViewerPlugin {
   **/
   public Viewer_PCG_DXT3() {
     super("PCG_DXT3", "Ford Racing 3 DXT3 Image");
+    setThreadSafe(true);
     setExtensions("dxt3");
 
     setGames("Ford Racing 3");
@@ -41,6 +41,7 @@ public class Viewer_PCK_GDPC_STEX_GDST extends ViewerPlugin {
   **/
   public Viewer_PCK_GDPC_STEX_GDST() {
     super("PCK_GDPC_STEX_GDST", "Lumencraft STEX Image");
+    setThreadSafe(true);
     setExtensions("stex");
 
     setGames("Lumencraft", "Rogue Rocks");
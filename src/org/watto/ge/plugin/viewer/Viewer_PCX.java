@@ -45,6 +45,7 @@ public class Viewer_PCX extends ViewerPlugin {
   **/
   public Viewer_PCX() {
     super("PCX", "PCX Image");
+    setThreadSafe(true);
     setExtensions("pcx");
     setStandardFileFormat(true);
   }
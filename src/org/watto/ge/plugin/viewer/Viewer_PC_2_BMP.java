@@ -45,6 +45,7 @@ public class Viewer_PC_2_BMP extends ViewerPlugin {
   **/
   public Viewer_PC_2_BMP() {
     super("PC_2_BMP", "PC_2_BMP Image");
+    setThreadSafe(true);
     setExtensions("0", "1", "2", "3", "4", "5");
 
     setGames("Bad Boys 2");
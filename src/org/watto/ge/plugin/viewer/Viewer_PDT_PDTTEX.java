@@ -44,6 +44,7 @@ public class Viewer_PDT_PDTTEX extends ViewerPlugin {
   **/
   public Viewer_PDT_PDTTEX() {
     super("PDT_PDTTEX", "PDT_TEX Image");
+    setThreadSafe(true);
     setExtensions("pdt_tex");
 
     setGames("Fighting Force");
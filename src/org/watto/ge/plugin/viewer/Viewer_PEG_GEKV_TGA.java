@@ -43,6 +43,7 @@ public class Viewer_PEG_GEKV_TGA extends ViewerPlugin {
   **/
   public Viewer_PEG_GEKV_TGA() {
     super("PEG_GEKV_TGA", "Red Faction 2 TGA Image");
+    setThreadSafe(true);
     setExtensions("tga");
 
     setGames("Red Faction 2");
@@ -40,6 +40,7 @@ public class Viewer_PGF_PGFTEX extends ViewerPlugin {
   **/
   public Viewer_PGF_PGFTEX() {
     super("PGF_PGFTEX", "The Time Warp of Dr. Brain PGF_TEX Image");
+    setThreadSafe(true);
     setExtensions("pgf_tex");
 
     setGames("The Time Warp of Dr. Brain");
@@ -41,6 +41,7 @@ public class Viewer_PKG_7_PHYRE_RYHP extends ViewerPlugin {
   **/
   public Viewer_PKG_7_PHYRE_RYHP() {
     super("PKG_7_PHYRE_RYHP", "The Legend of Heroes: Trails of Cold Steel 3 DDS.PHYRE Image");
+    setThreadSafe(true);
     setExtensions("phyre");
 
     setGames("The Legend of Heroes: Trails of Cold Steel 3");
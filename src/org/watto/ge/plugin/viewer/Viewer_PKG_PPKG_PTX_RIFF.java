@@ -42,6 +42,7 @@ public class Viewer_PKG_PPKG_PTX_RIFF extends ViewerPlugin {
   **/
   public Viewer_PKG_PPKG_PTX_RIFF() {
     super("PKG_PPKG_PTX_RIFF", "WRC 7 PTX Image");
+    setThreadSafe(true);
     setExtensions("ptx");
 
     setGames("WRC 7");
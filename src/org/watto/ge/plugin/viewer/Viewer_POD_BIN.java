@@ -41,6 +41,7 @@ public class Viewer_POD_BIN extends ViewerPlugin {
   **/
   public Viewer_POD_BIN() {
     super("POD_BIN", "POD_BIN 3D Model");
+    setThreadSafe(true);
     setExtensions("bin");
   }
 
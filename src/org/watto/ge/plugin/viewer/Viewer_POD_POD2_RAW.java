@@ -43,6 +43,7 @@ public class Viewer_POD_POD2_RAW extends ViewerPlugin {
   **/
   public Viewer_POD_POD2_RAW() {
     super("POD_POD2_RAW", "POD_POD2_RAW");
+    setThreadSafe(true);
     setExtensions("raw");
 
     setGames("4x4 Evolution",
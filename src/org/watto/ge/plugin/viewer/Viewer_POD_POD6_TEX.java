@@ -46,6 +46,7 @@ public class Viewer_POD_POD6_TEX extends ViewerPlugin {
   **/
   public Viewer_POD_POD6_TEX() {
     super("POD_POD6_TEX", "Ghostbusters: The Video Game: Remastered TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Ghostbusters: The Video Game: Remastered");
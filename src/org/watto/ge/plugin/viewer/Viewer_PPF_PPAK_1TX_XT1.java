@@ -41,6 +41,7 @@ public class Viewer_PPF_PPAK_1TX_XT1 extends ViewerPlugin {
   **/
   public Viewer_PPF_PPAK_1TX_XT1() {
     super("PPF_PPAK_1TX_XT1", "Psychonauts 1TX Image");
+    setThreadSafe(true);
     setExtensions("1tx");
 
     setGames("Psychonauts");
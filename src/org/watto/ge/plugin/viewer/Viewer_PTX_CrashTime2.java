@@ -40,6 +40,7 @@ public class Viewer_PTX_CrashTime2 extends ViewerPlugin {
   **/
   public Viewer_PTX_CrashTime2() {
     super("PTX_CrashTime2", "Crash Time 2 PTX Image");
+    setThreadSafe(true);
     setExtensions("ptx");
 
     setGames("Crash Time 2");
@@ -41,6 +41,7 @@ public class Viewer_PVM_PVMH_PVR_PVRT extends ViewerPlugin {
   **/
   public Viewer_PVM_PVMH_PVR_PVRT() {
     super("PVM_PVMH_PVR_PVRT", "Sonic Adventure DX PVR Image");
+    setThreadSafe(true);
     setExtensions("pvr");
 
     setGames("Sonic Adventure DX");
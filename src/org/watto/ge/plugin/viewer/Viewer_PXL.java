@@ -40,6 +40,7 @@ public class Viewer_PXL extends ViewerPlugin {
   **/
   public Viewer_PXL() {
     super("PXL", "Dino Crisis 2 Image");
+    setThreadSafe(true);
     setExtensions("pxl");
 
     setGames("Dino Crisis 2");
@@ -38,6 +38,7 @@ public class Viewer_P_DFPF_TEXT extends ViewerPlugin {
   **/
   public Viewer_P_DFPF_TEXT() {
     super("P_DFPF_TEXT", "Brutal Legend Text File");
+    setThreadSafe(true);
     setExtensions("audioprogrammerreport", "audiowavbankmarkers", "audiowavebankdata", "buff", "climate", "cutscene", "dlcachievementdata", "dlcrockmoreheadmap", "duimovie", "effect", "effecttable", "gibdata", "leveldata", "material", "meshset", "oceandata", "outfit", "solosetup", "story", "stringtable", "techtree", "terrainmaterial", "upgradecategory", "upgradeset", "weather");
     setStandardFileFormat(false);
   }
@@ -39,6 +39,7 @@ public class Viewer_P_DFPF_TEXTURE extends ViewerPlugin {
   **/
   public Viewer_P_DFPF_TEXTURE() {
     super("P_DFPF_TEXTURE", "Brutal Legend Texture Image");
+    setThreadSafe(true);
     setExtensions("texture"); // lower case
 
     setGames("Brutal Legend");
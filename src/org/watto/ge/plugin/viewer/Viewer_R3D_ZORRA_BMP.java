@@ -43,6 +43,7 @@ public class Viewer_R3D_ZORRA_BMP extends ViewerPlugin {
   **/
   public Viewer_R3D_ZORRA_BMP() {
     super("R3D_ZORRA_BMP", "Rocko's Quest BMP Image");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("Rocko's Quest");
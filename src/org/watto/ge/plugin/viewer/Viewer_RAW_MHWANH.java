@@ -36,6 +36,7 @@ public class Viewer_RAW_MHWANH extends ViewerPlugin {
   **/
   public Viewer_RAW_MHWANH() {
     super("RAW_MHWANH", "Ecstatica 2 RAW Image");
+    setThreadSafe(true);
     setExtensions("raw");
 
     setGames("Ecstatica 2");
@@ -48,6 +48,7 @@ public class Viewer_RESOURCES_BIMAGE_MIB extends ViewerPlugin {
   **/
   public Viewer_RESOURCES_BIMAGE_MIB() {
     super("RESOURCES_BIMAGE_MIB", "Doom 3 BIMAGE Image");
+    setThreadSafe(true);
     setExtensions("bimage");
 
     setGames("Doom 3");
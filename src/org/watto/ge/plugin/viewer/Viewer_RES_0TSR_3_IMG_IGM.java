@@ -41,6 +41,7 @@ public class Viewer_RES_0TSR_3_IMG_IGM extends ViewerPlugin {
   **/
   public Viewer_RES_0TSR_3_IMG_IGM() {
     super("RES_0TSR_3_IMG_IGM", "Dirt To Daytona IMG Image");
+    setThreadSafe(true);
     setExtensions("img");
 
     setGames("Dirt To Daytona");
@@ -41,6 +41,7 @@ public class Viewer_RES_0TSR_3_TEX_IGM extends ViewerPlugin {
   **/
   public Viewer_RES_0TSR_3_TEX_IGM() {
     super("RES_0TSR_3_TEX_IGM", "Dirt To Daytona TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Dirt To Daytona");
@@ -40,6 +40,7 @@ public class Viewer_RES_0TSR_3_VAL_IGM extends ViewerPlugin {
   **/
   public Viewer_RES_0TSR_3_VAL_IGM() {
     super("RES_0TSR_3_VAL_IGM", "Dirt To Daytona VAL Table");
+    setThreadSafe(true);
     setExtensions("val");
 
     setGames("Dirt To Daytona");
@@ -41,6 +41,7 @@ public class Viewer_RES_0TSR_4_TEX extends ViewerPlugin {
   **/
   public Viewer_RES_0TSR_4_TEX() {
     super("RES_0TSR_4_TEX", "Test Drive: Eve of Destruction TEX Image");
+    setThreadSafe(true);
     setExtensions("tex", "tm0");
 
     setGames("Test Drive: Eve of Destruction");
@@ -43,6 +43,7 @@ public class Viewer_RFA_REFRACTOR2_RCT extends ViewerPlugin {
   **/
   public Viewer_RFA_REFRACTOR2_RCT() {
     super("RFA_REFRACTOR2_RCT", "RalliSport Challenge RCT Image");
+    setThreadSafe(true);
     setExtensions("rct");
 
     setGames("RalliSport Challenge");
@@ -40,6 +40,7 @@ public class Viewer_RGB extends ViewerPlugin {
   **/
   public Viewer_RGB() {
     super("RGB", "[RGB] The Simpsons: Tapped Out");
+    setThreadSafe(true);
     setExtensions("rgb");
 
     setGames("The Simpsons: Tapped Out");
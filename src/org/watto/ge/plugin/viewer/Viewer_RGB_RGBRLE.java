@@ -42,6 +42,7 @@ public class Viewer_RGB_RGBRLE extends ViewerPlugin {
   **/
   public Viewer_RGB_RGBRLE() {
     super("RGB_RGBRLE", "Arsenal Extended Power RGBRLE Image");
+    setThreadSafe(true);
     setExtensions("rgbrle");
 
     setGames("Arsenal Extended Power");
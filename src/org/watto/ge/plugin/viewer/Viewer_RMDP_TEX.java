@@ -42,6 +42,7 @@ public class Viewer_RMDP_TEX extends ViewerPlugin {
   **/
   public Viewer_RMDP_TEX() {
     super("RMDP_TEX", "Alan Wake TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Alan Wake");
@@ -44,6 +44,7 @@ public class Viewer_RPACK_RP6L_TEXDATA extends ViewerPlugin {
   **/
   public Viewer_RPACK_RP6L_TEXDATA() {
     super("RPACK_RP6L_TEXDATA", "RPACK_RP6L_TEXDATA Image");
+    setThreadSafe(true);
     setExtensions("tex_data");
 
     setGames("Dying Light: Bad Blood",
@@ -43,6 +43,7 @@ public class Viewer_RRTEX_RELIC extends ViewerPlugin {
   **/
   public Viewer_RRTEX_RELIC() {
     super("RRTEX_RELIC", "RRTEX_RELIC");
+    setThreadSafe(true);
     setExtensions("rrtex");
 
     setGames("Age Of Empires 4");
@@ -36,6 +36,7 @@ public class Viewer_RSB extends ViewerPlugin {
   **/
   public Viewer_RSB() {
     super("RSB", "Ghost Recon RSB Image");
+    setThreadSafe(true);
     setExtensions("rsb");
 
     setGames("Ghost Recon");
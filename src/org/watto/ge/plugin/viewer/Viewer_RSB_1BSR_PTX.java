@@ -42,6 +42,7 @@ public class Viewer_RSB_1BSR_PTX extends ViewerPlugin {
   **/
   public Viewer_RSB_1BSR_PTX() {
     super("RSB_1BSR_PTX", "Zuma's Revenge PTX Image");
+    setThreadSafe(true);
     setExtensions("ptx");
 
     setGames("Zuma's Revenge");
@@ -42,6 +42,7 @@ public class Viewer_RSB_RSB1_PTX extends ViewerPlugin {
   **/
   public Viewer_RSB_RSB1_PTX() {
     super("RSB_RSB1_PTX", "Bejeweled 3 PTX Image");
+    setThreadSafe(true);
     setExtensions("ptx");
 
     setGames("Bejeweled 3",
@@ -42,6 +42,7 @@ public class Viewer_RSR_RSRC_PICT extends ViewerPlugin {
   **/
   public Viewer_RSR_RSRC_PICT() {
     super("RSR_RSRC_PICT", "Imperialism 2 PICT image [RSR_RSRC_PICT]");
+    setThreadSafe(true);
     setExtensions("pict");
 
     setGames("Imperialism 2");
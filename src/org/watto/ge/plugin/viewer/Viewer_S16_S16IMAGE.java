@@ -42,6 +42,7 @@ public class Viewer_S16_S16IMAGE extends ViewerPlugin {
   **/
   public Viewer_S16_S16IMAGE() {
     super("S16_S16IMAGE", "Warhammer 40K: Rites of War S16 Image");
+    setThreadSafe(true);
     setExtensions("s16image");
 
     setGames("Warhammer 40K: Rites of War");
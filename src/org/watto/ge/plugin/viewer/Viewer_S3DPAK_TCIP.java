@@ -41,6 +41,7 @@ public class Viewer_S3DPAK_TCIP extends ViewerPlugin {
   **/
   public Viewer_S3DPAK_TCIP() {
     super("S3DPAK_TCIP", "S3DPAK_TCIP");
+    setThreadSafe(true);
     setExtensions(""); // no extension
 
     setGames("TimeShift");
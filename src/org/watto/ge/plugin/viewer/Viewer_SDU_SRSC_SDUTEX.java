@@ -45,6 +45,7 @@ public class Viewer_SDU_SRSC_SDUTEX extends ViewerPlugin {
   **/
   public Viewer_SDU_SRSC_SDUTEX() {
     super("SDU_SRSC_SDUTEX", "The Suffering SDU_TEX Image");
+    setThreadSafe(true);
     setExtensions("sdu_tex");
 
     setGames("The Suffering");
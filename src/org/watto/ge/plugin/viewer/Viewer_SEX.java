@@ -42,6 +42,7 @@ public class Viewer_SEX extends ViewerPlugin {
   **/
   public Viewer_SEX() {
     super("SEX", "SEX Model");
+    setThreadSafe(true);
     setExtensions("sex");
 
     setGames("Urban Chaos");
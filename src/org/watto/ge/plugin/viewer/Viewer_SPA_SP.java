@@ -40,6 +40,7 @@ public class Viewer_SPA_SP extends ViewerPlugin {
   **/
   public Viewer_SPA_SP() {
     super("SPA_SP", "Saga SPA Image");
+    setThreadSafe(true);
     setExtensions("spa");
 
     setGames("Saga");
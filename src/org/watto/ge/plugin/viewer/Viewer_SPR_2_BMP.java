@@ -40,6 +40,7 @@ public class Viewer_SPR_2_BMP extends ViewerPlugin {
   **/
   public Viewer_SPR_2_BMP() {
     super("SPR_2_BMP", "Killer Tank BMP Image");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("Killer Tank");
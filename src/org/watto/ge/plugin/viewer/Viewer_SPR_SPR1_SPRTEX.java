@@ -44,6 +44,7 @@ public class Viewer_SPR_SPR1_SPRTEX extends ViewerPlugin {
   **/
   public Viewer_SPR_SPR1_SPRTEX() {
     super("SPR_SPR1_SPRTEX", "Gorky 17 SPR_TEX Image");
+    setThreadSafe(true);
     setExtensions("spr_tex");
 
     setGames("Gorky 17");
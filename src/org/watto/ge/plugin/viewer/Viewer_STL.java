@@ -45,6 +45,7 @@ public class Viewer_STL extends ViewerPlugin {
   **/
   public Viewer_STL() {
     super("STL", "STL (Binary) Model");
+    setThreadSafe(true);
     setExtensions("stl");
 
     setGames("STL (Binary) Model");
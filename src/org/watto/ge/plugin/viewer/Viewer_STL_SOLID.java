@@ -46,6 +46,7 @@ public class Viewer_STL_SOLID extends ViewerPlugin {
   **/
   public Viewer_STL_SOLID() {
     super("STL_SOLID", "STL (ASCII) Model");
+    setThreadSafe(true);
     setExtensions("stl", "stla");
 
     setGames("STL (ASCII) Model");
@@ -40,6 +40,7 @@ public class Viewer_STREAM_DXTMIPMAP extends ViewerPlugin {
   **/
   public Viewer_STREAM_DXTMIPMAP() {
     super("STREAM_DXTMIPMAP", "King's Bounty DXT MipMap Image");
+    setThreadSafe(true);
     setExtensions("dxtmipmap");
 
     setGames("King's Bounty: Armored Princess",
@@ -42,6 +42,7 @@ public class Viewer_SXWAD_SPR_IDSP extends ViewerPlugin {
   **/
   public Viewer_SXWAD_SPR_IDSP() {
     super("SXWAD_SPR_IDSP", "Counter-Strike SPR Image");
+    setThreadSafe(true);
     setExtensions("spr");
 
     setGames("Counter-Strike");
@@ -43,6 +43,7 @@ public class Viewer_TBV_TBVOL_BMX extends ViewerPlugin {
   **/
   public Viewer_TBV_TBVOL_BMX() {
     super("TBV_TBVOL_BMX", "TBV_TBVOL BMX Image");
+    setThreadSafe(true);
     setExtensions("bmx");
 
     setGames("3D Ultra Lionel Traintown");
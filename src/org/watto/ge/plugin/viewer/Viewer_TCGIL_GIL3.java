@@ -42,6 +42,7 @@ public class Viewer_TCGIL_GIL3 extends ViewerPlugin {
   **/
   public Viewer_TCGIL_GIL3() {
     super("TCGIL_GIL3", "Utopia City TCGIL Image");
+    setThreadSafe(true);
     setExtensions("tcgil");
 
     setGames("Utopia City");
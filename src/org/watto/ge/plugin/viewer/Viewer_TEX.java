@@ -38,6 +38,7 @@ public class Viewer_TEX extends ViewerPlugin {
   **/
   public Viewer_TEX() {
     super("TEX", "PBA Bowling 2 TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("PBA Bowling 2");
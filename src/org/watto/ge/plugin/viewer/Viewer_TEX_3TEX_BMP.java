@@ -42,6 +42,7 @@ public class Viewer_TEX_3TEX_BMP extends ViewerPlugin {
   **/
   public Viewer_TEX_3TEX_BMP() {
     super("TEX_3TEX_BMP", "High Heat Baseball 2000 BMP Image");
+    setThreadSafe(true);
     setExtensions("bmp");
 
     setGames("High Heat Baseball 2000");
@@ -41,6 +41,7 @@ public class Viewer_TEX_4_BCT extends ViewerPlugin {
   **/
   public Viewer_TEX_4_BCT() {
     super("TEX_4_BCT", "Dead Rising 4 BCT Image");
+    setThreadSafe(true);
     setExtensions("bct");
 
     setGames("Dead Rising 4");
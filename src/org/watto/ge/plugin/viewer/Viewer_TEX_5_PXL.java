@@ -45,6 +45,7 @@ public class Viewer_TEX_5_PXL extends ViewerPlugin {
   **/
   public Viewer_TEX_5_PXL() {
     super("TEX_5_PXL", "Dino Crisis 2 Paletted Image");
+    setThreadSafe(true);
     setExtensions("pxl");
 
     setGames("Dino Crisis 2");
@@ -41,6 +41,7 @@ public class Viewer_TEX_ChromeSpecForce extends ViewerPlugin {
   **/
   public Viewer_TEX_ChromeSpecForce() {
     super("TEX_ChromeSpecForce", "Chrome SpecForce TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Chrome SpecForce");
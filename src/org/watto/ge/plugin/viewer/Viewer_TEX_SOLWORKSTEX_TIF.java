@@ -44,6 +44,7 @@ public class Viewer_TEX_SOLWORKSTEX_TIF extends ViewerPlugin {
   **/
   public Viewer_TEX_SOLWORKSTEX_TIF() {
     super("TEX_SOLWORKSTEX_TIF", "NHL FaceOff 2001 TIF Image");
+    setThreadSafe(true);
     setExtensions("tif");
 
     setGames("NHL FaceOff 2001");
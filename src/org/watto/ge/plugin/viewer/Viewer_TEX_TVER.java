@@ -41,6 +41,7 @@ public class Viewer_TEX_TVER extends ViewerPlugin {
   **/
   public Viewer_TEX_TVER() {
     super("TEX_TVER", "Serious Sam TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Serious Sam",
@@ -36,6 +36,7 @@ public class Viewer_TEX_XET extends ViewerPlugin {
   **/
   public Viewer_TEX_XET() {
     super("TEX_XET", "Nitro Stunt Racing TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Nitro Stunt Racing");
@@ -42,6 +42,7 @@ public class Viewer_TGA extends ViewerPlugin {
   **/
   public Viewer_TGA() {
     super("TGA", "TGA Image");
+    setThreadSafe(true);
     setExtensions("tga");
     setStandardFileFormat(true);
   }
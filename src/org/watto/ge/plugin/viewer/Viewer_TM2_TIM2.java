@@ -38,6 +38,7 @@ public class Viewer_TM2_TIM2 extends ViewerPlugin {
   **/
   public Viewer_TM2_TIM2() {
     super("TM2_TIM2", "Playstation TIM2 Images");
+    setThreadSafe(true);
     setExtensions("tm2");
 
     setGames("Playstation 2 (PS2)",
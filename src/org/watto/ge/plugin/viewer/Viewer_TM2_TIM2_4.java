@@ -39,6 +39,7 @@ public class Viewer_TM2_TIM2_4 extends ViewerPlugin {
   **/
   public Viewer_TM2_TIM2_4() {
     super("TM2_TIM2_4", "Playstation TIM2 Images (version 4) [TM2_TIM2_4]");
+    setThreadSafe(true);
     setExtensions("tm2");
 
     setGames("Rule of Rose",
@@ -40,6 +40,7 @@ public class Viewer_TMF_TMUF_SPR extends ViewerPlugin {
   **/
   public Viewer_TMF_TMUF_SPR() {
     super("TMF_TMUF_SPR", "Test Drive Off-Road SPR Image");
+    setThreadSafe(true);
     setExtensions("spr");
 
     setGames("Test Drive Off-Road");
@@ -43,6 +43,7 @@ public class Viewer_TPL extends ViewerPlugin {
   **/
   public Viewer_TPL() {
     super("TPL", "Wii TPL Image");
+    setThreadSafe(true);
     setExtensions("tpl");
 
     setGames("Wii");
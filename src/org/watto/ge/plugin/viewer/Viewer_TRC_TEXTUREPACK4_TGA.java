@@ -45,6 +45,7 @@ public class Viewer_TRC_TEXTUREPACK4_TGA extends ViewerPlugin {
   **/
   public Viewer_TRC_TEXTUREPACK4_TGA() {
     super("TRC_TEXTUREPACK4_TGA", "X Motor Racing TGA Image");
+    setThreadSafe(true);
     setExtensions("tga");
 
     setGames("X Motor Racing");
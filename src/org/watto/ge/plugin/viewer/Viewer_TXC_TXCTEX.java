@@ -41,6 +41,7 @@ public class Viewer_TXC_TXCTEX extends ViewerPlugin {
   **/
   public Viewer_TXC_TXCTEX() {
     super("TXC_TXCTEX", "Urban Chaos TXC_TEX Image");
+    setThreadSafe(true);
     setExtensions("txc_tex");
 
     setGames("Urban Chaos");
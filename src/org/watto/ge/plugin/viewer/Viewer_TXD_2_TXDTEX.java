@@ -46,6 +46,7 @@ public class Viewer_TXD_2_TXDTEX extends ViewerPlugin {
   **/
   public Viewer_TXD_2_TXDTEX() {
     super("TXD_2_TXDTEX", "TXD_2 Image");
+    setThreadSafe(true);
     setExtensions("txd_tex");
 
     setGames("Kill Switch");
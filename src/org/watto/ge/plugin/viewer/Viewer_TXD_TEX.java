@@ -41,6 +41,7 @@ public class Viewer_TXD_TEX extends ViewerPlugin {
   **/
   public Viewer_TXD_TEX() {
     super("TXD_TEX", "Sonic Heroes TEX Image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Sonic Heroes");
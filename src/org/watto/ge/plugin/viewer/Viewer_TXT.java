@@ -35,6 +35,7 @@ public class Viewer_TXT extends ViewerPlugin {
   **/
   public Viewer_TXT() {
     super("TXT", "Plain Text Document");
+    setThreadSafe(true);
     setExtensions("txt", "ini", "inf", "nfo", "cfg", "log", "java", "html", "htm", "xml", "lua", "js", "json");
     setStandardFileFormat(true);
   }
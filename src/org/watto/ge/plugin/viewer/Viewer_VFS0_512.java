@@ -42,6 +42,7 @@ public class Viewer_VFS0_512 extends ViewerPlugin {
   **/
   public Viewer_VFS0_512() {
     super("VFS0_512", "Metro 512/1024/2048 Images");
+    setThreadSafe(true);
     setExtensions("512", "1024", "2048");
 
     setGames("Metro 2033");
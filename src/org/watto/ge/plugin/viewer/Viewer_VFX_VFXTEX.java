@@ -41,6 +41,7 @@ public class Viewer_VFX_VFXTEX extends ViewerPlugin {
   **/
   public Viewer_VFX_VFXTEX() {
     super("VFX_VFXTEX", "Gex 2: Enter The Gecko VFX_TEX Image");
+    setThreadSafe(true);
     setExtensions("vfx_tex");
 
     setGames("Gex 2: Enter The Gecko");
@@ -40,6 +40,7 @@ public class Viewer_VOL_VOL_SPL_PPAL extends ViewerPlugin {
   **/
   public Viewer_VOL_VOL_SPL_PPAL() {
     super("VOL_VOL_SPL_PPAL", "Red Baron 3D SPL Image");
+    setThreadSafe(true);
     setExtensions("spl");
 
     setGames("Red Baron 3D");
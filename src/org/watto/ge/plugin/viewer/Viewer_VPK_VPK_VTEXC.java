@@ -41,6 +41,7 @@ public class Viewer_VPK_VPK_VTEXC extends ViewerPlugin {
   **/
   public Viewer_VPK_VPK_VTEXC() {
     super("VPK_VPK_VTEXC", "Valve VTEX_C Image");
+    setThreadSafe(true);
     setExtensions("vtex_c");
 
     setGames("Valve Engine");
@@ -43,6 +43,7 @@ public class Viewer_VPP_VBM_VBM extends ViewerPlugin {
   **/
   public Viewer_VPP_VBM_VBM() {
     super("VPP_VBM_VBM", "VBM_VBM Image");
+    setThreadSafe(true);
     setExtensions("vbm");
 
     setGames("Red Faction");
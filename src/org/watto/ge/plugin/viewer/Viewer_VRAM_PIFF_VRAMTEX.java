@@ -41,6 +41,7 @@ public class Viewer_VRAM_PIFF_VRAMTEX extends ViewerPlugin {
   **/
   public Viewer_VRAM_PIFF_VRAMTEX() {
     super("VRAM_PIFF_VRAMTEX", "South Park Rally VRAM_TEX Image");
+    setThreadSafe(true);
     setExtensions("vram_tex");
 
     setGames("South Park Rally");
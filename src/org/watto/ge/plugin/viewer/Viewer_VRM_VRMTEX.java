@@ -41,6 +41,7 @@ public class Viewer_VRM_VRMTEX extends ViewerPlugin {
   **/
   public Viewer_VRM_VRMTEX() {
     super("VRM_VRMTEX", "Legacy of Kain: Soul Reaver 2 VRM_TEX Image");
+    setThreadSafe(true);
     setExtensions("vrm_tex");
 
     setGames("Legacy of Kain: Soul Reaver 2",
@@ -38,6 +38,7 @@ public class Viewer_VTF_VTF extends ViewerPlugin {
   **/
   public Viewer_VTF_VTF() {
     super("VTF_VTF", "Valve Texture Format");
+    setThreadSafe(true);
     setExtensions("vtf");
 
     setGames("Valve Engine");
@@ -43,6 +43,7 @@ public class Viewer_WAD_12_PIX extends ViewerPlugin {
   **/
   public Viewer_WAD_12_PIX() {
     super("WAD_12_PIX", "Croc PIX Image");
+    setThreadSafe(true);
     setExtensions("pix");
 
     setGames("Croc: Legend of the Gobbos");
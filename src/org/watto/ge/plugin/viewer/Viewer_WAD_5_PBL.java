@@ -42,6 +42,7 @@ public class Viewer_WAD_5_PBL extends ViewerPlugin {
   **/
   public Viewer_WAD_5_PBL() {
     super("WAD_5_PBL", "PBL Image");
+    setThreadSafe(true);
     setExtensions("pbl");
 
     setGames("Fighting Force");
@@ -40,6 +40,7 @@ public class Viewer_WAD_WAD3_MIP extends ViewerPlugin {
   **/
   public Viewer_WAD_WAD3_MIP() {
     super("WAD_WAD3_MIP", "WAD_WAD3_MIP");
+    setThreadSafe(true);
     setExtensions("mip");
 
     setGames("Half-Life");
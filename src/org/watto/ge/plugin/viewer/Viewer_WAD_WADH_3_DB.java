@@ -39,6 +39,7 @@ public class Viewer_WAD_WADH_3_DB extends ViewerPlugin {
   **/
   public Viewer_WAD_WADH_3_DB() {
     super("WAD_WADH_3_DB", "NHL 2K3 DB Table");
+    setThreadSafe(true);
     setExtensions("db");
 
     setGames("NHL 2K3");
@@ -40,6 +40,7 @@ public class Viewer_WAD_WADH_3_ENG extends ViewerPlugin {
   **/
   public Viewer_WAD_WADH_3_ENG() {
     super("WAD_WADH_3_ENG", "NHL 2K3 ENG Table");
+    setThreadSafe(true);
     setExtensions("eng");
 
     setGames("NHL 2K3");
@@ -44,6 +44,7 @@ public class Viewer_WBMP extends ViewerPlugin {
   **/
   public Viewer_WBMP() {
     super("WBMP", "Wireless Bitmap (WBMP) Image");
+    setThreadSafe(true);
     setExtensions("wbmp");
     setStandardFileFormat(true);
   }
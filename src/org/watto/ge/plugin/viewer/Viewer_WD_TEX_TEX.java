@@ -40,6 +40,7 @@ public class Viewer_WD_TEX_TEX extends ViewerPlugin {
   **/
   public Viewer_WD_TEX_TEX() {
     super("WD_TEX_TEX", "WD_TEX_TEX");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Once Upon a Knight",
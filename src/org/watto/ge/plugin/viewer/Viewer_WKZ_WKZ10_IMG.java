@@ -41,6 +41,7 @@ public class Viewer_WKZ_WKZ10_IMG extends ViewerPlugin {
   **/
   public Viewer_WKZ_WKZ10_IMG() {
     super("WKZ_WKZ10_IMG", "Hammerting IMG Image");
+    setThreadSafe(true);
     setExtensions("img");
 
     setGames("Hammerting");
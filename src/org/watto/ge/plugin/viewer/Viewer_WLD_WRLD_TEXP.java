@@ -44,6 +44,7 @@ public class Viewer_WLD_WRLD_TEXP extends ViewerPlugin {
   **/
   public Viewer_WLD_WRLD_TEXP() {
     super("WLD_WRLD_TEXP", "WLD_WRLD_TEXP Image");
+    setThreadSafe(true);
     setExtensions("texp");
 
     setGames("The Sting!");
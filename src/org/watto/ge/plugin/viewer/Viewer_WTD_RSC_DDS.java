@@ -42,6 +42,7 @@ public class Viewer_WTD_RSC_DDS extends ViewerPlugin {
   **/
   public Viewer_WTD_RSC_DDS() {
     super("WTD_RSC_DDS", "GTA 4 DDS Image");
+    setThreadSafe(true);
     setExtensions("dds");
 
     setGames("GTS 4");
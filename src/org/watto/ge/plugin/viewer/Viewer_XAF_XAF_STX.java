@@ -43,6 +43,7 @@ public class Viewer_XAF_XAF_STX extends ViewerPlugin {
   **/
   public Viewer_XAF_XAF_STX() {
     super("XAF_XAF_STX", "Beat Down: Fist Of Vengeance STX Image");
+    setThreadSafe(true);
     setExtensions("stx", "bin");
 
     setGames("Beat Down: Fist Of Vengeance");
@@ -41,6 +41,7 @@ public class Viewer_XBR_DXT extends ViewerPlugin {
   **/
   public Viewer_XBR_DXT() {
     super("XBR_DXT", "XBR_DXT Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Cars");
@@ -44,6 +44,7 @@ public class Viewer_XNB_XNB_Texture2D extends ViewerPlugin {
   **/
   public Viewer_XNB_XNB_Texture2D() {
     super("XNB_XNB_Texture2D", "Microsoft XNB Texture2D Image");
+    setThreadSafe(true);
     setExtensions("texture2d"); // lowercase
 
     setGames("Reus");
@@ -40,6 +40,7 @@ public class Viewer_XPR_XPR1_DXT extends ViewerPlugin {
   **/
   public Viewer_XPR_XPR1_DXT() {
     super("XPR_XPR1_DXT", "Generic XBox XPR_XPR1 Image");
+    setThreadSafe(true);
     setExtensions("dxt");
 
     setGames("Generic XBox Archive");
@@ -44,6 +44,7 @@ public class Viewer_XPR_XPR2_TX2D extends ViewerPlugin {
   **/
   public Viewer_XPR_XPR2_TX2D() {
     super("XPR_XPR2_TX2D", "XPR2 TX2D Image");
+    setThreadSafe(true);
     setExtensions("tx2d");
 
     setGames("XPR2");
@@ -43,6 +43,7 @@ public class Viewer_XWC_MOS_XTCTEX extends ViewerPlugin {
   **/
   public Viewer_XWC_MOS_XTCTEX() {
     super("XWC_MOS_XTCTEX", "XTC_TEX Image");
+    setThreadSafe(true);
     setExtensions("xtc_tex");
 
     setGames("The Chronicles of Riddick: Escape From Butcher Bay");
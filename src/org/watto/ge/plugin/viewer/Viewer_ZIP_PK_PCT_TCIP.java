@@ -42,6 +42,7 @@ public class Viewer_ZIP_PK_PCT_TCIP extends ViewerPlugin {
   **/
   public Viewer_ZIP_PK_PCT_TCIP() {
     super("ZIP_PK_PCT_TCIP", "World War Z PCT image");
+    setThreadSafe(true);
     setExtensions("pct");
 
     setGames("World War Z");
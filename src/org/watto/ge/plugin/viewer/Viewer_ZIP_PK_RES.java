@@ -41,6 +41,7 @@ public class Viewer_ZIP_PK_RES extends ViewerPlugin {
   **/
   public Viewer_ZIP_PK_RES() {
     super("ZIP_PK_RES", "Onikira: Demon Killer RES image");
+    setThreadSafe(true);
     setExtensions("res");
 
     setGames("Onikira: Demon Killer");
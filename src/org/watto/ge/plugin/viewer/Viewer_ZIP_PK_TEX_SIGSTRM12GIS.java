@@ -43,6 +43,7 @@ public class Viewer_ZIP_PK_TEX_SIGSTRM12GIS extends ViewerPlugin {
   **/
   public Viewer_ZIP_PK_TEX_SIGSTRM12GIS() {
     super("ZIP_PK_TEX_SIGSTRM12GIS", "Serious Sam: The First Encounter TEX image");
+    setThreadSafe(true);
     setExtensions("tex");
 
     setGames("Serious Sam: The First Encounter");
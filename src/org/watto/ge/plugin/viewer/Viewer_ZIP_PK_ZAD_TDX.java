@@ -42,6 +42,7 @@ public class Viewer_ZIP_PK_ZAD_TDX extends ViewerPlugin {
   **/
   public Viewer_ZIP_PK_ZAD_TDX() {
     super("ZIP_PK_ZAD_TDX", "Carmageddon: Max Damage TDX image");
+    setThreadSafe(true);
     setExtensions("tdx");
 
     setGames("Carmageddon: Max Damage");
@@ -302,43 +302,46 @@ public class ScriptArchivePlugin_MexCom3 extends ScriptArchivePlugin {
   @Override
   @SuppressWarnings("static-access")
   public Resource[] read(File source) {
-    // the script isn't loaded
-    //if (commandTree == null){
-    loadScript(scriptFile); // always reload, in case the script changed since last run (such as the temp/test script)
-    //  }
+    // the script nodes share the static ScriptGlobals, so only one script can run at a time
+    synchronized (ScriptGlobals.class) {
+      // the script isn't loaded
+      //if (commandTree == null){
+      loadScript(scriptFile); // always reload, in case the script changed since last run (such as the temp/test script)
+      //  }
+
+      // the script failed during loading
+      if (commandTree == null) {
+        return null;
+      }
 
-    // the script failed during loading
-    if (commandTree == null) {
-      return null;
-    }
+      ScriptNode.clearErrorCount();
 
-    ScriptNode.clearErrorCount();
+      try {
+        // run the script on the archive
+        ScriptGlobals var = ScriptGlobals.getInstance();
 
-    try {
-      // run the script on the archive
-      ScriptGlobals var = ScriptGlobals.getInstance();
+        var.clearVariables();
+        var.loadFile(source);
+
+        commandTree.run();
 
-      var.clearVariables();
-      var.loadFile(source);
+        var.closeFilePointers();
 
-      commandTree.run();
+        if (!ScriptNode.checkErrors()) {
+          return null;
+        }
 
-      var.closeFilePointers();
+        setCanImplicitReplace(var.isReplacable());
 
-      if (!ScriptNode.checkErrors()) {
+        var.resizeResources();
+        return var.getResources();
+      }
+      catch (Throwable t) {
+        logError(t);
         return null;
       }
 
-      setCanImplicitReplace(var.isReplacable());
-
-      var.resizeResources();
-      return var.getResources();
     }
-    catch (Throwable t) {
-      logError(t);
-      return null;
-    }
-
   }
 
   /**
@@ -19,8 +19,10 @@
 package org.watto.io;
 
 import java.io.File;
+import org.watto.Settings;
 import org.watto.io.buffer.FileBuffer;
 import org.watto.io.buffer.ManipulatorBuffer;
+import org.watto.io.buffer.MappedFileBuffer;
 import org.watto.io.converter.BooleanArrayConverter;
 import org.watto.io.converter.ByteArrayConverter;
 import org.watto.io.converter.ByteConverter;
@@ -44,13 +46,16 @@ public class FileManipulator implements Manipulator {
   /** if this FileManipulator sits atop anything other than a FileBuffer, you can set a fake filename here */
   File fakeFile = null;
 
+  /** whether files opened read-only by this thread may be memory-mapped. Only set while an archive is being read. **/
+  static ThreadLocal<Boolean> mappingAllowed = new ThreadLocal<Boolean>();
+
   /***********************************************************************************************
   Opens a buffer to the <code>file</code>
   @param file the file to open
   @param writable whether the file should be writable or not
   ***********************************************************************************************/
   public FileManipulator(File file, boolean writable) {
-    buffer = new FileBuffer(file, writable);
+    buffer = openBuffer(file, writable);
   }
 
   /***********************************************************************************************
@@ -112,6 +117,9 @@ public class FileManipulator implements Manipulator {
     if (buffer instanceof FileBuffer) {
       return ((FileBuffer) buffer).getFile();
     }
+    if (buffer instanceof MappedFileBuffer) {
+      return ((MappedFileBuffer) buffer).getFile();
+    }
     return fakeFile;
   }
 
@@ -123,6 +131,9 @@ public class FileManipulator implements Manipulator {
     if (buffer instanceof FileBuffer) {
       return ((FileBuffer) buffer).getFile().getAbsolutePath();
     }
+    if (buffer instanceof MappedFileBuffer) {
+      return ((MappedFileBuffer) buffer).getFile().getAbsolutePath();
+    }
     if (fakeFile != null) {
       return fakeFile.getAbsolutePath();
     }
@@ -171,7 +182,25 @@ public class FileManipulator implements Manipulator {
    * *********************************************************************************************
    */
   public void open(File file) {
-    buffer = new FileBuffer(file, false);
+    buffer = openBuffer(file, false);
+  }
+
+  /***********************************************************************************************
+  Opens the best buffer for the <code>file</code>. While this thread is reading an archive, read-only
+  files that are at least as large as the <i>MappedFileBufferMinimumSize</i> setting are
+  memory-mapped, everything else uses a <code>FileBuffer</code>.
+  @param file the file to open
+  @param writable whether the file should be writable or not
+  @return the buffer
+  ***********************************************************************************************/
+  static ManipulatorBuffer openBuffer(File file, boolean writable) {
+    if (!writable && mappingAllowed.get() == Boolean.TRUE) {
+      int minimumSize = Settings.getInt("MappedFileBufferMinimumSize");
+      if (minimumSize > 0 && file.isFile() && file.length() >= minimumSize) {
+        return new MappedFileBuffer(file);
+      }
+    }
+    return new FileBuffer(file, writable);
   }
 
   /***********************************************************************************************
@@ -398,6 +427,23 @@ public class FileManipulator implements Manipulator {
     buffer.setLength(length);
   }
 
+  /***********************************************************************************************
+  Sets whether files opened read-only by the current thread may be memory-mapped. Set this around
+  the reading of an archive, and put the previous value back when the reading is finished.
+  @param allowed whether mapping is allowed
+  @return whether mapping was allowed before this call
+  ***********************************************************************************************/
+  public static boolean setMappingAllowed(boolean allowed) {
+    boolean previous = (mappingAllowed.get() == Boolean.TRUE);
+    if (allowed) {
+      mappingAllowed.set(Boolean.TRUE);
+    }
+    else {
+      mappingAllowed.remove();
+    }
+    return previous;
+  }
+
   /***********************************************************************************************
   Skips forward <code>byteCount</code> bytes in the data source
   @param byteCount the number of bytes to skip
@@ -459,6 +505,17 @@ public class FileManipulator implements Manipulator {
     buffer.write(values);
   }
 
+  /***********************************************************************************************
+  Writes <code>length</code> <code>byte</code>s from the <code>offset</code> in the
+  <code>values</code> array to the data source
+  @param values the bytes to write
+  @param offset the first byte in the <code>values</code> array to write
+  @param length the number of bytes to write
+  ***********************************************************************************************/
+  public void writeBytes(byte[] values, int offset, int length) {
+    buffer.write(values, offset, length);
+  }
+
   /***********************************************************************************************
   Writes a <code>char</code> to the data source
   @param value the char to write
@@ -0,0 +1,152 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import org.watto.ErrorLogger;
+
+/***********************************************************************************************
+An immutable copy of the start and end of a <code>File</code>, so that many readers (such as
+plugins being rated on different threads) can share a single read of the data that they are
+most likely to look at.
+***********************************************************************************************/
+public class FileSnapshot {
+
+  /** the file that was read **/
+  File file;
+
+  /** the length of the file when the snapshot was taken **/
+  long length = 0;
+
+  /** the bytes from the start of the file **/
+  byte[] header = new byte[0];
+
+  /** the bytes from the end of the file **/
+  byte[] footer = new byte[0];
+
+  /** the offset in the file where the <code>footer</code> starts **/
+  long footerOffset = 0;
+
+  /***********************************************************************************************
+  Reads up to <code>headerSize</code> bytes from the start of the <code>file</code>, and up to
+  <code>footerSize</code> bytes from the end of it. Small files are held entirely in the header.
+  @param file the file to read
+  @param headerSize the maximum number of bytes to keep from the start of the file
+  @param footerSize the maximum number of bytes to keep from the end of the file
+  ***********************************************************************************************/
+  public FileSnapshot(File file, int headerSize, int footerSize) {
+    this.file = file;
+
+    RandomAccessFile raf = null;
+    try {
+      raf = new RandomAccessFile(file, "r");
+      length = raf.length();
+
+      if (length <= headerSize + footerSize) {
+        header = new byte[(int) length];
+        raf.readFully(header);
+        footerOffset = length;
+      }
+      else {
+        header = new byte[headerSize];
+        raf.readFully(header);
+
+        footerOffset = length - footerSize;
+        footer = new byte[footerSize];
+        raf.seek(footerOffset);
+        raf.readFully(footer);
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    finally {
+      try {
+        if (raf != null) {
+          raf.close();
+        }
+      }
+      catch (Throwable t) {
+      }
+    }
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes from <code>offset</code> in the file into the
+  <code>destination</code>, if that range is held in the snapshot. Bytes past the end of the file
+  are returned as 0, the same as a <code>FileBuffer</code> would.
+  @param offset the offset in the file
+  @param destination the array to copy the data in to
+  @param destOffset the position in the <code>destination</code> to copy to
+  @param length the number of bytes to copy
+  @return true if the data was copied, false if the range isn't held in the snapshot
+  ***********************************************************************************************/
+  public boolean copy(long offset, byte[] destination, int destOffset, int length) {
+    if (offset < 0) {
+      return false;
+    }
+
+    long endOffset = offset + length;
+
+    if (endOffset <= header.length) {
+      System.arraycopy(header, (int) offset, destination, destOffset, length);
+      return true;
+    }
+    else if (offset >= footerOffset && footer.length > 0 && endOffset <= this.length) {
+      System.arraycopy(footer, (int) (offset - footerOffset), destination, destOffset, length);
+      return true;
+    }
+    else if (header.length == this.length) {
+      // the whole file is in the header, so anything past the end is just nulls
+      int available = 0;
+      if (offset < this.length) {
+        available = (int) (this.length - offset);
+        System.arraycopy(header, (int) offset, destination, destOffset, available);
+      }
+      for (int i = available; i < length; i++) {
+        destination[destOffset + i] = 0;
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  /***********************************************************************************************
+  Gets the file that this snapshot was taken from
+  @return the file
+  ***********************************************************************************************/
+  public File getFile() {
+    return file;
+  }
+
+  /***********************************************************************************************
+  Gets the bytes from the start of the file. The array must not be modified.
+  @return the header bytes
+  ***********************************************************************************************/
+  public byte[] getHeader() {
+    return header;
+  }
+
+  /***********************************************************************************************
+  Gets the length of the file when the snapshot was taken
+  @return the file length
+  ***********************************************************************************************/
+  public long getLength() {
+    return length;
+  }
+
+}
@@ -89,35 +89,33 @@ public class PatternFinder {
   
   
   /***********************************************************************************************
-  Searches the <code>buffer</code> for the next occurrence of a series of <code>byte</code>s.
-  Moves the file pointer to the matching offset
+  Searches the <code>buffer</code> for the next occurrence of a series of <code>byte</code>s,
+  that ends before <code>maxSearchOffset</code>. Moves the file pointer to the matching offset
   @param bytes the <code>byte</code>s to search for in the <code>buffer</code>
-  @return the offset to the match
+  @param maxSearchOffset the offset where the search stops
+  @return the offset to the match, or -1 if there was no match
   ***********************************************************************************************/
   public long find(byte[] bytes, long maxSearchOffset){
     long pointer = buffer.getPointer();
-
-    int arraySize = bytes.length;
-    int matchPos = 0; // the position in the bytes array that is being matched
-
-    while (pointer < maxSearchOffset) {
-      if (buffer.read() == bytes[matchPos]) {
-        matchPos++;
-        if (matchPos >= arraySize) {
-          // found the full string
-          pointer -= arraySize;
-          pointer++;
-          buffer.seek(pointer);
-          return pointer;
-        }
+    final long[] match = new long[]{-1};
+
+    // the match has to end before maxSearchOffset, so it has to start before maxSearchOffset-bytes.length+1
+    PatternSearcher searcher = new PatternSearcher(bytes);
+    searcher.search(buffer,pointer,maxSearchOffset - bytes.length + 1,new PatternSearcher.MatchListener(){
+      public boolean matchFound(int pattern, long offset){
+        match[0] = offset;
+        return false;
       }
-      else {
-        matchPos = 0;
-      }
-      pointer++;
+    });
+
+    if (match[0] == -1){
+      buffer.seek(Math.max(pointer,Math.min(maxSearchOffset,buffer.length())));
+    }
+    else {
+      buffer.seek(match[0]);
     }
 
-    return -1;
+    return match[0];
   }
 
 
@@ -0,0 +1,568 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.watto.ErrorLogger;
+import org.watto.io.buffer.ManipulatorBuffer;
+import org.watto.io.buffer.MappedFileBuffer;
+import org.watto.task.TaskThreadPool;
+
+/***********************************************************************************************
+Finds every occurrence of one or more byte patterns in a file or buffer, in a single pass. Several
+patterns are matched together using an Aho-Corasick automaton, and a single pattern is matched
+using Boyer-Moore-Horspool, which can skip over most of the data. All matches are found,
+including matches that overlap each other.
+<br><br>
+The searcher doesn't change once it's built, so the same searcher can be used by several threads
+at once. Large files can be split into chunks that are searched at the same time - each chunk
+reads a little past its end, so matches that cross into the next chunk are still found.
+***********************************************************************************************/
+public class PatternSearcher {
+
+  /***********************************************************************************************
+  Receives each match found by a <code>PatternSearcher</code>
+  ***********************************************************************************************/
+  public interface MatchListener {
+
+    /***********************************************************************************************
+    Called for each match
+    @param pattern the index of the pattern that was found
+    @param offset the offset where the match starts
+    @return true to keep searching, false to stop
+    ***********************************************************************************************/
+    public boolean matchFound(int pattern, long offset);
+  }
+
+  /** The size of each block of data that is read and searched **/
+  static final int BLOCK_SIZE = 1048576;
+
+  /** The smallest region that is split up and searched on several threads **/
+  static final long PARALLEL_MINIMUM_SIZE = 16777216;
+
+  /** The patterns being searched for **/
+  byte[][] patterns;
+
+  /** The length of the longest pattern **/
+  int maxPatternLength = 0;
+
+  /** The automaton - the next state for each state and byte value, at [state*256 + byte] **/
+  int[] transitions = null;
+
+  /** For each state, the patterns that end at that state, or null if none **/
+  int[][] outputs = null;
+
+  /** For Boyer-Moore-Horspool, how far to move for each byte value, when there is only 1 pattern **/
+  int[] shifts = null;
+
+  /***********************************************************************************************
+  Builds a searcher for the <code>patterns</code>. Empty patterns are never matched.
+  @param patterns the patterns to search for
+  ***********************************************************************************************/
+  public PatternSearcher(byte[]... patterns) {
+    this.patterns = patterns;
+
+    for (int p = 0; p < patterns.length; p++) {
+      if (patterns[p].length > maxPatternLength) {
+        maxPatternLength = patterns[p].length;
+      }
+    }
+
+    if (patterns.length == 1 && patterns[0].length > 1) {
+      buildShifts();
+    }
+    else {
+      buildAutomaton();
+    }
+  }
+
+  /***********************************************************************************************
+  Builds the Aho-Corasick automaton for all the patterns. The failure links are followed while
+  building, so searching only needs a single table lookup per byte.
+  ***********************************************************************************************/
+  void buildAutomaton() {
+    int maxStates = 1;
+    for (int p = 0; p < patterns.length; p++) {
+      maxStates += patterns[p].length;
+    }
+
+    // build the trie of all the patterns (-1 means no edge yet)
+    int[] trie = new int[maxStates * 256];
+    Arrays.fill(trie, -1);
+    int[][] stateOutputs = new int[maxStates][];
+    int numStates = 1;
+
+    for (int p = 0; p < patterns.length; p++) {
+      byte[] pattern = patterns[p];
+      if (pattern.length == 0) {
+        continue;
+      }
+
+      int state = 0;
+      for (int i = 0; i < pattern.length; i++) {
+        int edge = (state << 8) | (pattern[i] & 0xFF);
+        if (trie[edge] == -1) {
+          trie[edge] = numStates;
+          numStates++;
+        }
+        state = trie[edge];
+      }
+      stateOutputs[state] = addOutput(stateOutputs[state], p);
+    }
+
+    // work through the trie breadth-first, filling in the missing edges from the failure links
+    transitions = new int[numStates * 256];
+    outputs = new int[numStates][];
+    int[] failures = new int[numStates];
+    int[] queue = new int[numStates];
+    int queueStart = 0;
+    int queueEnd = 0;
+
+    for (int b = 0; b < 256; b++) {
+      int next = trie[b];
+      if (next == -1) {
+        transitions[b] = 0;
+      }
+      else {
+        transitions[b] = next;
+        failures[next] = 0;
+        queue[queueEnd++] = next;
+      }
+    }
+
+    while (queueStart < queueEnd) {
+      int state = queue[queueStart++];
+
+      // a state also matches everything its failure state matches
+      outputs[state] = mergeOutputs(stateOutputs[state], outputs[failures[state]]);
+
+      for (int b = 0; b < 256; b++) {
+        int edge = (state << 8) | b;
+        int next = trie[edge];
+        if (next == -1) {
+          transitions[edge] = transitions[(failures[state] << 8) | b];
+        }
+        else {
+          transitions[edge] = next;
+          failures[next] = transitions[(failures[state] << 8) | b];
+          queue[queueEnd++] = next;
+        }
+      }
+    }
+  }
+
+  /***********************************************************************************************
+  Builds the Boyer-Moore-Horspool shift table for the single pattern
+  ***********************************************************************************************/
+  void buildShifts() {
+    byte[] pattern = patterns[0];
+    int length = pattern.length;
+
+    shifts = new int[256];
+    Arrays.fill(shifts, length);
+    for (int i = 0; i < length - 1; i++) {
+      shifts[pattern[i] & 0xFF] = length - 1 - i;
+    }
+  }
+
+  /***********************************************************************************************
+  Adds the <code>pattern</code> to the list of <code>outputs</code> for a state
+  ***********************************************************************************************/
+  static int[] addOutput(int[] outputs, int pattern) {
+    if (outputs == null) {
+      return new int[] { pattern };
+    }
+    int[] newOutputs = Arrays.copyOf(outputs, outputs.length + 1);
+    newOutputs[outputs.length] = pattern;
+    return newOutputs;
+  }
+
+  /***********************************************************************************************
+  Joins 2 lists of outputs together, either of which may be null
+  ***********************************************************************************************/
+  static int[] mergeOutputs(int[] first, int[] second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    int[] merged = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, merged, first.length, second.length);
+    return merged;
+  }
+
+  /***********************************************************************************************
+  Finds the first match of any pattern in the <code>file</code>, between <code>startOffset</code>
+  and <code>endOffset</code>. Large regions are split and searched on several threads.
+  @param file the file to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @return the offset of the first match, or -1 if there were no matches
+  ***********************************************************************************************/
+  public long findFirst(File file, long startOffset, long endOffset) {
+    return findFirst(file, startOffset, endOffset, Long.MAX_VALUE);
+  }
+
+  /***********************************************************************************************
+  Finds the first match of any pattern in the <code>file</code>, between <code>startOffset</code>
+  and <code>endOffset</code>, where the whole match is before <code>dataEnd</code>. Used to search
+  a single file inside an archive, without matching the data of the next file.
+  @param file the file to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @param dataEnd the offset where matches must have ended
+  @return the offset of the first match, or -1 if there were no matches
+  ***********************************************************************************************/
+  public long findFirst(File file, long startOffset, long endOffset, long dataEnd) {
+    final long[] firstMatch = new long[] { -1 };
+    MatchListener listener = new MatchListener() {
+
+      @Override
+      public boolean matchFound(int pattern, long offset) {
+        firstMatch[0] = offset;
+        return false;
+      }
+    };
+
+    searchChunks(file, startOffset, endOffset, dataEnd, listener, true);
+    return firstMatch[0];
+  }
+
+  /***********************************************************************************************
+  Gets the length of the longest pattern
+  @return the longest pattern length
+  ***********************************************************************************************/
+  public int getMaxPatternLength() {
+    return maxPatternLength;
+  }
+
+  /***********************************************************************************************
+  Gets the number of patterns being searched for
+  @return the number of patterns
+  ***********************************************************************************************/
+  public int getNumPatterns() {
+    return patterns.length;
+  }
+
+  /***********************************************************************************************
+  Gets one of the patterns being searched for
+  @param pattern the index of the pattern
+  @return the pattern
+  ***********************************************************************************************/
+  public byte[] getPattern(int pattern) {
+    return patterns[pattern];
+  }
+
+  /***********************************************************************************************
+  Searches part of a <code>buffer</code>, reporting each match that starts between
+  <code>startOffset</code> and <code>endOffset</code> to the <code>listener</code>, in order.
+  Reads up to <code>getMaxPatternLength()-1</code> bytes past <code>endOffset</code> (if the
+  buffer is long enough) so that matches which start before <code>endOffset</code> are found in
+  full. The buffer pointer is left wherever the search finished.
+  @param buffer the buffer to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @param listener receives the matches
+  @return true if the whole region was searched, false if the listener stopped the search
+  ***********************************************************************************************/
+  public boolean search(ManipulatorBuffer buffer, long startOffset, long endOffset, MatchListener listener) {
+    return search(buffer, startOffset, endOffset, Long.MAX_VALUE, listener);
+  }
+
+  /***********************************************************************************************
+  Searches part of a <code>buffer</code> like <code>search(ManipulatorBuffer,long,long,MatchListener)</code>,
+  but nothing is read at or after <code>dataEnd</code>, so only matches that end before it are found.
+  @param buffer the buffer to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @param dataEnd the offset where matches must have ended
+  @param listener receives the matches
+  @return true if the whole region was searched, false if the listener stopped the search
+  ***********************************************************************************************/
+  public boolean search(ManipulatorBuffer buffer, long startOffset, long endOffset, long dataEnd, MatchListener listener) {
+    if (maxPatternLength == 0 || startOffset >= endOffset) {
+      return true;
+    }
+
+    long readEnd = Math.min(Math.min(buffer.length(), dataEnd), endOffset + maxPatternLength - 1);
+    if (readEnd <= startOffset) {
+      return true;
+    }
+
+    buffer.seek(startOffset);
+
+    if (shifts != null) {
+      return searchSingle(buffer, startOffset, endOffset, readEnd, listener);
+    }
+
+    byte[] block = new byte[(int) Math.min(BLOCK_SIZE, readEnd - startOffset)];
+    long blockOffset = startOffset;
+    int state = 0;
+
+    while (blockOffset < readEnd) {
+      int blockLength = (int) Math.min(block.length, readEnd - blockOffset);
+      buffer.read(block, 0, blockLength);
+
+      state = scan(block, 0, blockLength, blockOffset, state, endOffset, listener);
+      if (state < 0) {
+        return false;
+      }
+
+      blockOffset += blockLength;
+    }
+
+    return true;
+  }
+
+  /***********************************************************************************************
+  Searches part of a <code>file</code>, reporting each match that starts between
+  <code>startOffset</code> and <code>endOffset</code> to the <code>listener</code>, in order. The
+  file is read through a <code>MappedFileBuffer</code>.
+  @param file the file to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @param listener receives the matches
+  @return true if the whole region was searched, false if the listener stopped the search
+  ***********************************************************************************************/
+  public boolean search(File file, long startOffset, long endOffset, MatchListener listener) {
+    return search(file, startOffset, endOffset, Long.MAX_VALUE, listener);
+  }
+
+  /***********************************************************************************************
+  Searches part of a <code>file</code>, where the whole match is before <code>dataEnd</code>
+  ***********************************************************************************************/
+  boolean search(File file, long startOffset, long endOffset, long dataEnd, MatchListener listener) {
+    MappedFileBuffer buffer = new MappedFileBuffer(file);
+    try {
+      return search(buffer, startOffset, endOffset, dataEnd, listener);
+    }
+    finally {
+      buffer.close();
+    }
+  }
+
+  /***********************************************************************************************
+  Searches part of a <code>file</code> like <code>search(File,long,long,MatchListener)</code>,
+  but splits large regions into chunks that are searched on the shared worker threads. The
+  matches from each chunk are collected, then given to the <code>listener</code> in order on this
+  thread.
+  @param file the file to search
+  @param startOffset the first offset where a match can start
+  @param endOffset the offset where matches can no longer start
+  @param listener receives the matches
+  @return true if the whole region was searched, false if the listener stopped the search
+  ***********************************************************************************************/
+  public boolean searchParallel(File file, long startOffset, long endOffset, MatchListener listener) {
+    return searchChunks(file, startOffset, endOffset, Long.MAX_VALUE, listener, false);
+  }
+
+  /***********************************************************************************************
+  Splits the region into chunks which are searched on the worker threads, then gives the matches
+  to the <code>listener</code> in order. If <code>firstMatchOnly</code>, each chunk stops at its
+  first match, and chunks after the earliest chunk with a match aren't searched at all.
+  ***********************************************************************************************/
+  boolean searchChunks(final File file, long startOffset, long endOffset, final long dataEnd, MatchListener listener, final boolean firstMatchOnly) {
+    long length = Math.min(endOffset, file.length()) - startOffset;
+    int numThreads = TaskThreadPool.getThreadCount();
+
+    if (length < PARALLEL_MINIMUM_SIZE || numThreads <= 1) {
+      return search(file, startOffset, endOffset, dataEnd, listener);
+    }
+
+    try {
+      // a few chunks per thread, so the threads finish at about the same time
+      int numChunks = (int) Math.min(numThreads * 4, length / (PARALLEL_MINIMUM_SIZE / 4));
+      long chunkSize = (length + numChunks - 1) / numChunks;
+
+      // the first chunk (in file order) that has found a match, so chunks after it can give up
+      final AtomicInteger firstChunkWithMatch = new AtomicInteger(numChunks);
+
+      List<Callable<PatternMatchList>> chunks = new ArrayList<Callable<PatternMatchList>>(numChunks);
+      for (int c = 0; c < numChunks; c++) {
+        final int chunkNumber = c;
+        final long chunkStart = startOffset + (c * chunkSize);
+        final long chunkEnd = Math.min(startOffset + length, chunkStart + chunkSize);
+
+        chunks.add(new Callable<PatternMatchList>() {
+
+          @Override
+          public PatternMatchList call() {
+            final PatternMatchList matches = new PatternMatchList();
+            if (firstMatchOnly && chunkNumber > firstChunkWithMatch.get()) {
+              return matches; // an earlier chunk already has a match
+            }
+
+            search(file, chunkStart, chunkEnd, dataEnd, new MatchListener() {
+
+              @Override
+              public boolean matchFound(int pattern, long offset) {
+                matches.add(pattern, offset);
+
+                // note the earliest chunk with a match
+                int firstChunk = firstChunkWithMatch.get();
+                while (chunkNumber < firstChunk && !firstChunkWithMatch.compareAndSet(firstChunk, chunkNumber)) {
+                  firstChunk = firstChunkWithMatch.get();
+                }
+                return !firstMatchOnly;
+              }
+            });
+            return matches;
+          }
+        });
+      }
+
+      List<Future<PatternMatchList>> results = TaskThreadPool.getForkJoinPool().invokeAll(chunks);
+
+      for (int c = 0; c < numChunks; c++) {
+        PatternMatchList matches = results.get(c).get();
+        for (int m = 0; m < matches.size; m++) {
+          if (!listener.matchFound(matches.patterns[m], matches.offsets[m])) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return false;
+    }
+  }
+
+  /***********************************************************************************************
+  Runs the automaton over the <code>data</code>, starting from the given <code>state</code>. Can
+  be called over and over for each block of a stream, passing in the state returned from the
+  previous block, so matches that cross blocks are still found.
+  @param data the data to search
+  @param offset the offset in the <code>data</code> to start searching from
+  @param length the number of bytes to search
+  @param dataOffset the offset in the file of <code>data[offset]</code>
+  @param state the state to start in (0 for the start of a stream)
+  @param endOffset matches that start at or after this offset in the file are ignored
+  @param listener receives the matches
+  @return the state at the end of the data, or -1 if the listener stopped the search
+  ***********************************************************************************************/
+  public int scan(byte[] data, int offset, int length, long dataOffset, int state, long endOffset, MatchListener listener) {
+    if (transitions == null) {
+      throw new IllegalStateException("scan() needs an automaton, which isn't built for a single pattern");
+    }
+
+    int[] transitions = this.transitions;
+    int[][] outputs = this.outputs;
+
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      state = transitions[(state << 8) | (data[i] & 0xFF)];
+
+      int[] found = outputs[state];
+      if (found != null) {
+        long lastByteOffset = dataOffset + (i - offset);
+        for (int f = 0; f < found.length; f++) {
+          int pattern = found[f];
+          long matchOffset = lastByteOffset - patterns[pattern].length + 1;
+          if (matchOffset < endOffset && !listener.matchFound(pattern, matchOffset)) {
+            return -1;
+          }
+        }
+      }
+    }
+
+    return state;
+  }
+
+  /***********************************************************************************************
+  Searches for the single pattern using Boyer-Moore-Horspool. Each block keeps the last few bytes
+  of the previous block at the front, so matches that cross blocks are still found.
+  ***********************************************************************************************/
+  boolean searchSingle(ManipulatorBuffer buffer, long startOffset, long endOffset, long readEnd, MatchListener listener) {
+    byte[] pattern = patterns[0];
+    int patternLength = pattern.length;
+    int last = patternLength - 1;
+    byte lastByte = pattern[last];
+    int[] shifts = this.shifts;
+
+    int overlap = patternLength - 1;
+    byte[] block = new byte[(int) Math.min(BLOCK_SIZE + overlap, readEnd - startOffset)];
+
+    long blockOffset = startOffset; // the offset in the file of block[0]
+    int carried = 0; // the number of bytes at the start of the block, carried over from the previous block
+
+    while (blockOffset + carried < readEnd) {
+      int readLength = (int) Math.min(block.length - carried, readEnd - blockOffset - carried);
+      buffer.read(block, carried, readLength);
+      int blockLength = carried + readLength;
+
+      int pos = 0;
+      int maxPos = blockLength - patternLength;
+      while (pos <= maxPos) {
+        byte b = block[pos + last];
+        if (b == lastByte) {
+          int i = last - 1;
+          while (i >= 0 && block[pos + i] == pattern[i]) {
+            i--;
+          }
+          if (i < 0) {
+            long matchOffset = blockOffset + pos;
+            if (matchOffset >= endOffset) {
+              return true;
+            }
+            if (!listener.matchFound(0, matchOffset)) {
+              return false;
+            }
+          }
+        }
+        pos += shifts[b & 0xFF];
+      }
+
+      // carry the unsearched end of this block over to the start of the next one
+      int nextStart = Math.min(pos, blockLength);
+      carried = blockLength - nextStart;
+      System.arraycopy(block, nextStart, block, 0, carried);
+      blockOffset += nextStart;
+    }
+
+    return true;
+  }
+
+  /***********************************************************************************************
+  A growable list of matches, used to collect the matches from each chunk of a parallel search
+  ***********************************************************************************************/
+  static class PatternMatchList {
+
+    int[] patterns = new int[16];
+
+    long[] offsets = new long[16];
+
+    int size = 0;
+
+    void add(int pattern, long offset) {
+      if (size == offsets.length) {
+        patterns = Arrays.copyOf(patterns, size * 2);
+        offsets = Arrays.copyOf(offsets, size * 2);
+      }
+      patterns[size] = pattern;
+      offsets[size] = offset;
+      size++;
+    }
+  }
+
+}
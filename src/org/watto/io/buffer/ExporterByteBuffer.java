@@ -16,6 +16,7 @@ package org.watto.io.buffer;
 
 import org.watto.ErrorLogger;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.DecodedResourceCache;
 import org.watto.ge.plugin.ExporterPlugin;
 import org.watto.ge.plugin.exporter.Exporter_Custom_RGSSAD_RGSSAD;
 import org.watto.io.converter.ByteConverter;
@@ -28,6 +29,12 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
 
   ExporterPlugin exporter;
 
+  /** the exporter set on the Resource, if <i>exporter</i> is a copy that was borrowed from it **/
+  ExporterPlugin sharedExporter = null;
+
+  /** true if the exporter couldn't be copied, so this buffer takes its session lock whenever it uses it **/
+  boolean sharedSession = false;
+
   Resource resource;
 
   /** The buffer size **/
@@ -42,6 +49,12 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   /** The read position in the buffer **/
   int bufferLevel = 0;
 
+  /** the whole decompressed file, if it has been decompressed into memory for reading out of order **/
+  byte[] decodedData = null;
+
+  /** true if the exporter is open, false if everything is being read from the decodedData **/
+  boolean exporterOpen = false;
+
   /***********************************************************************************************
   Constructor for extended classes
   ***********************************************************************************************/
@@ -57,6 +70,17 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
 
     this.exporter = resource.getExporter();
 
+    // use a copy of the exporter if we can, so this buffer doesn't interfere with other exports that use the same exporter
+    ExporterPlugin threadExporter = exporter.borrowInstance();
+    if (threadExporter != null) {
+      sharedExporter = exporter;
+      exporter = threadExporter;
+    }
+    else {
+      // the shared exporter keeps the state of the file being read, so it's locked for each call that uses it
+      sharedSession = true;
+    }
+
     if (exporter instanceof Exporter_Custom_RGSSAD_RGSSAD) {
       if (resource.getExtension().equals("png")) {
         bufferSize = (int) resource.getDecompressedLength();
@@ -64,7 +88,18 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
       }
     }
 
-    exporter.open(resource);
+    // if this file was decompressed recently, read it from memory instead
+    decodedData = DecodedResourceCache.get(resource);
+    if (decodedData == null) {
+      lockExporter(false);
+      try {
+        exporter.open(resource);
+        exporterOpen = true;
+      }
+      finally {
+        unlockExporter();
+      }
+    }
 
     fill();
   }
@@ -86,18 +121,7 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
         System.arraycopy(buffer, bufferLevel, buffer, 0, remainingBufferSize);
 
         //fill the rest of the buffer with fresh data from the file
-        while (remainingBufferSize < bufferSize) {
-          boolean available = exporter.available(); // important - some exporters only load the bytes from the file when calling this (eg ZLib_CompressedSizeOnly)
-          if (!available) { // TODO 3.03 ADDED THIS IF-ELSE BIT - CHECK THUMBNAILS STILL WORK WELL!
-            buffer[remainingBufferSize] = 0; // just nullify the rest of the buffer
-            remainingBufferSize++;
-          }
-          else {
-            buffer[remainingBufferSize] = (byte) exporter.read();
-            remainingBufferSize++;
-          }
-          filePointer++;
-        }
+        readFromExporter(buffer, remainingBufferSize, bufferSize - remainingBufferSize);
 
         // reset the bufferLevel
         bufferLevel = 0;
@@ -122,7 +146,22 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   ***********************************************************************************************/
   @Override
   public void close() {
-    exporter.close();
+    lockExporter(false);
+    try {
+      if (exporterOpen) {
+        exporter.close();
+        exporterOpen = false;
+      }
+    }
+    finally {
+      unlockExporter();
+    }
+
+    if (sharedExporter != null) {
+      sharedExporter.releaseInstance(exporter);
+      exporter = sharedExporter;
+      sharedExporter = null;
+    }
   }
 
   /***********************************************************************************************
@@ -132,16 +171,7 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
   public void fill() {
     flush();
 
-    for (int i = 0; i < bufferSize; i++) {
-      boolean available = exporter.available(); // important - some exporters only load the bytes from the file when calling this (eg ZLib_CompressedSizeOnly)
-      if (!available) { // TODO 3.03 ADDED THIS IF-ELSE BIT - CHECK THUMBNAILS STILL WORK WELL!
-        buffer[i] = 0; // just nullify the rest of the buffer
-      }
-      else {
-        buffer[i] = (byte) exporter.read();
-      }
-      filePointer++;
-    }
+    readFromExporter(buffer, 0, bufferSize);
 
   }
 
@@ -246,6 +276,73 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
     return resource.getDecompressedLength();
   }
 
+  /***********************************************************************************************
+  Decompresses the whole file into memory, so it can be read in any order from then on. The data
+  is also kept in the <i>DecodedResourceCache</i>, so the file doesn't need decompressing again
+  the next time it is opened.
+  @return true if the file was decompressed, false if it is too large
+  ***********************************************************************************************/
+  boolean loadDecodedData() {
+    if (!DecodedResourceCache.canStore(resource)) {
+      return false;
+    }
+
+    int decompLength = (int) resource.getDecompressedLength();
+    byte[] data = new byte[decompLength];
+
+    lockExporter(false);
+    try {
+      if (exporterOpen) {
+        exporter.close();
+      }
+      exporter.open(resource);
+
+      int bytesRead = 0;
+      while (bytesRead < decompLength) {
+        int readLength = exporter.read(data, bytesRead, decompLength - bytesRead);
+        if (readLength <= 0) {
+          break;
+        }
+        bytesRead += readLength;
+      }
+
+      exporter.close();
+      exporterOpen = false;
+    }
+    finally {
+      unlockExporter();
+    }
+
+    decodedData = data;
+    DecodedResourceCache.put(resource, data);
+    return true;
+  }
+
+  /***********************************************************************************************
+  Takes the session lock of a shared exporter for the length of one call. If someone else has
+  used the exporter since this buffer last did, it has been closed, and if <code>restore</code> is
+  true, it is opened again and moved forward to where this buffer left it.
+  @param restore whether the exporter needs to be where this buffer left it
+  ***********************************************************************************************/
+  void lockExporter(boolean restore) {
+    if (!sharedSession) {
+      return;
+    }
+
+    boolean sameOwner = exporter.lockSession(this);
+    if (!sameOwner && exporterOpen) {
+      exporterOpen = false;
+      if (restore && decodedData == null) {
+        try {
+          reopenAt(filePointer);
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+      }
+    }
+  }
+
   /***********************************************************************************************
   
   ***********************************************************************************************/
@@ -352,6 +449,96 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
     }
   }
 
+  /***********************************************************************************************
+  Reads <code>length</code> bytes from the exporter into the <code>destination</code>, using the
+  exporter's bulk read. Anything past the end of the exporter data is nullified. The
+  <code>filePointer</code> is always moved forward by <code>length</code>.
+  @param destination the array that data is read in to
+  @param offset the offset in the <code>destination</code> array where the data is read in to
+  @param length the number of bytes to read into the array
+  ***********************************************************************************************/
+  void readFromExporter(byte[] destination, int offset, int length) {
+    int bytesRead = 0;
+
+    if (decodedData != null) {
+      // the whole file is in memory already
+      if (filePointer < decodedData.length) {
+        bytesRead = (int) Math.min(length, decodedData.length - filePointer);
+        System.arraycopy(decodedData, (int) filePointer, destination, offset, bytesRead);
+      }
+    }
+
+    if (decodedData == null) {
+      lockExporter(true);
+      try {
+        while (bytesRead < length && decodedData == null) {
+          int readLength = exporter.read(destination, offset + bytesRead, length - bytesRead);
+          if (readLength <= 0) {
+            break;
+          }
+          bytesRead += readLength;
+        }
+      }
+      finally {
+        unlockExporter();
+      }
+
+      if (bytesRead < length && decodedData != null) {
+        // the exporter had to be restored from memory, so read the rest from there
+        if (filePointer + bytesRead < decodedData.length) {
+          int remaining = (int) Math.min(length - bytesRead, decodedData.length - (filePointer + bytesRead));
+          System.arraycopy(decodedData, (int) (filePointer + bytesRead), destination, offset + bytesRead, remaining);
+          bytesRead += remaining;
+        }
+      }
+    }
+
+    // just nullify the rest of the buffer
+    for (int i = offset + bytesRead; i < offset + length; i++) {
+      destination[i] = 0;
+    }
+
+    filePointer += length;
+  }
+
+  /***********************************************************************************************
+  Lets other sessions use a shared exporter again, after lockExporter()
+  ***********************************************************************************************/
+  void unlockExporter() {
+    if (sharedSession) {
+      exporter.unlockSession(exporterOpen);
+    }
+  }
+
+  /***********************************************************************************************
+  Reads and discards <code>length</code> bytes from the exporter
+  @param length the number of bytes to skip
+  ***********************************************************************************************/
+  void skipFromExporter(long length) {
+    if (decodedData != null) {
+      filePointer += length;
+      return;
+    }
+
+    int scratchSize = ExporterPlugin.BULK_BUFFER_SIZE;
+    if (length < scratchSize) {
+      scratchSize = (int) length;
+    }
+    if (scratchSize <= 0) {
+      return;
+    }
+
+    byte[] scratch = new byte[scratchSize];
+    while (length > 0) {
+      int lengthToRead = scratchSize;
+      if (length < lengthToRead) {
+        lengthToRead = (int) length;
+      }
+      readFromExporter(scratch, 0, lengthToRead);
+      length -= lengthToRead;
+    }
+  }
+
   /***********************************************************************************************
   Seeks to the <code>offset</code> in the file. If the <code>offset</code> is in the buffer, it
   moves the buffer pointer rather than reloading the whole buffer
@@ -391,6 +578,34 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
     return length() - getPointer();
   }
 
+  /***********************************************************************************************
+  Moves the exporter to the <code>offset</code>, without using the buffer. If the exporter can
+  restart part-way through the file (such as at the start of a compressed block), it starts from
+  the closest restart point before the <code>offset</code>. Otherwise, small files are
+  decompressed into memory so that later jumps don't need to decompress anything, and large
+  files are read again from the start.
+  @param offset the offset to move to in the file
+  ***********************************************************************************************/
+  void reopenAt(long offset) {
+    lockExporter(false);
+    try {
+      if (decodedData != null || (exporter.getRestartPoint(resource, offset) <= 0 && loadDecodedData())) {
+        filePointer = offset;
+        return;
+      }
+
+      long restartPoint = exporter.getRestartPoint(resource, offset);
+      exporter.openAt(resource, restartPoint);
+      exporterOpen = true;
+
+      filePointer = restartPoint;
+      skipFromExporter(offset - restartPoint);
+    }
+    finally {
+      unlockExporter();
+    }
+  }
+
   /***********************************************************************************************
   Seeks to the <code>offset</code> in the file. The whole buffer is flushed and re-read from the
   new <code>offset</code>, so is inefficient for small jumps.
@@ -409,10 +624,28 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
       bufferLevel = 0;
     }
     else if (offset == 0) {
-      // take the exporter right back to the beginning of the file
-      //exporter.close();
-      //exporter.open(resource);
-      exporter.closeAndReopen(resource); // 3.14 implemented this so exporters that decompress the full file might retain it between reloads.
+      if (decodedData != null) {
+        filePointer = 0;
+      }
+      else {
+        // take the exporter right back to the beginning of the file
+        //exporter.close();
+        //exporter.open(resource);
+        lockExporter(false);
+        try {
+          if (exporterOpen) {
+            exporter.closeAndReopen(resource); // 3.14 implemented this so exporters that decompress the full file might retain it between reloads.
+          }
+          else {
+            exporter.open(resource);
+            exporterOpen = true;
+          }
+        }
+        finally {
+          unlockExporter();
+        }
+        filePointer = 0;
+      }
       fill(); // does a flush() as part of this.
     }
     else if (offset > getPointer()) {
@@ -426,18 +659,16 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
       else {
         // the buffer isn't big enough for the skip, so need to find the right place in the file, and read in more data
 
-        // we have already read in some buffer - we don't need to read that again
-        skipAmount -= (bufferSize - bufferLevel);
+        if (decodedData != null || exporter.getRestartPoint(resource, offset) > filePointer) {
+          // jump straight to the offset (or to a restart point close to it) rather than reading everything in between
+          reopenAt(offset);
+        }
+        else {
+          // we have already read in some buffer - we don't need to read that again
+          skipAmount -= (bufferSize - bufferLevel);
 
-        // now we're at the end of the buffer, so read some actual data from the file, until we reach the offset
-        for (int i = 0; i < skipAmount; i++) {
-          boolean available = exporter.available();
-          if (!available) {
-          }
-          else {
-            exporter.read();
-          }
-          filePointer++;
+          // now we're at the end of the buffer, so read some actual data from the file, until we reach the offset
+          skipFromExporter(skipAmount);
         }
 
         // now we're at the right place, so fill the buffer
@@ -454,23 +685,9 @@ public class ExporterByteBuffer implements ManipulatorBuffer {
         bufferLevel -= difference;
       }
       else {
-        // nope, can't move back in the buffer, so re-open (start again at 0) then skip some bytes
-        exporter.close();
-        exporter.open(resource);
-
-        filePointer = 0;
+        // nope, can't move back in the buffer, so re-open (at the closest restart point) then skip some bytes
         bufferLevel = 0;
-
-        // read to the right place
-        for (int i = 0; i < offset; i++) {
-          boolean available = exporter.available();
-          if (!available) {
-          }
-          else {
-            exporter.read();
-          }
-          filePointer++;
-        }
+        reopenAt(offset);
 
         // fill the buffer
         fill();
@@ -21,6 +21,8 @@ package org.watto.io.buffer;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.watto.ErrorLogger;
 import org.watto.io.DirectoryBuilder;
 import org.watto.io.FilenameChecker;
@@ -167,8 +169,19 @@ public class FileBuffer implements ManipulatorBuffer {
   public void fill() {
     try {
 
-      flush();
-      raf.read(buffer);
+      bufferLevel = 0;
+      if (buffer.length != bufferSize) {
+        buffer = new byte[bufferSize];
+      }
+
+      // anything past the end of the file is read as zeros
+      int readLength = raf.read(buffer);
+      if (readLength < 0) {
+        readLength = 0;
+      }
+      if (readLength < bufferSize) {
+        Arrays.fill(buffer, readLength, bufferSize, (byte) 0);
+      }
 
     }
     catch (Throwable t) {
@@ -181,7 +194,12 @@ public class FileBuffer implements ManipulatorBuffer {
    ***********************************************************************************************/
   @Override
   public void flush() {
-    buffer = new byte[bufferSize];
+    if (buffer.length != bufferSize) {
+      buffer = new byte[bufferSize];
+    }
+    else {
+      Arrays.fill(buffer, (byte) 0);
+    }
     bufferLevel = 0;
   }
 
@@ -207,7 +225,11 @@ public class FileBuffer implements ManipulatorBuffer {
 
   /***********************************************************************************************
    * Copies <code>length</code> bytes of data from the buffer, and returns it. This does not move
-   * any file pointers.
+   * any file pointers. <br>
+   * <br>
+   * <b>WARNING:</b> If <code>length</code> is larger than the buffer, the buffer array itself is
+   * returned rather than a copy. The array is reused by the next read, so callers must use the
+   * data straight away and must not hold on to the array.
    * @param length the length of data to copy
    * @return the data from the buffer
    ***********************************************************************************************/
@@ -625,6 +647,29 @@ public class FileBuffer implements ManipulatorBuffer {
     write(source, 0, source.length);
   }
 
+  /***********************************************************************************************
+   * Writes all the remaining data in the <code>source</code> straight to the disk, after anything
+   * already in the buffer. Used to write read-only views of other files without copying them into
+   * an array first.
+   * @param source the data to write
+   ***********************************************************************************************/
+  public void write(ByteBuffer source) {
+    try {
+
+      forceWrite();
+
+      int length = source.remaining();
+      while (source.hasRemaining()) {
+        raf.getChannel().write(source);
+      }
+      filePointer += length;
+
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
   /***********************************************************************************************
    * Writes <code>length</code> bytes of data from the <code>offset</code> in the
    * <code>source</code> array into the buffer
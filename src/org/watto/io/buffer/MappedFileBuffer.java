@@ -0,0 +1,503 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io.buffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import org.watto.ErrorLogger;
+import org.watto.io.converter.ByteConverter;
+
+/***********************************************************************************************
+A read-only buffer that memory-maps the file through a <code>FileChannel</code>, rather than
+reading it in small pieces through a <code>RandomAccessFile</code>. Files are mapped in windows
+of <code>windowSize</code> bytes, so files larger than 2GB can be read by moving the window
+around the file. Reading past the end of the file returns zeros, the same as
+<code>FileBuffer</code>.
+***********************************************************************************************/
+public class MappedFileBuffer implements ManipulatorBuffer {
+
+  /** The default size of each mapped window (64MB) **/
+  public static final int DEFAULT_WINDOW_SIZE = 67108864;
+
+  /** Window offsets are aligned to this many bytes **/
+  static final long WINDOW_ALIGNMENT = 65536;
+
+  /** The file being read **/
+  File file;
+
+  /** The interface to the file **/
+  RandomAccessFile raf;
+
+  /** The channel that the windows are mapped from **/
+  FileChannel channel;
+
+  /** The length of the file **/
+  long length = 0;
+
+  /** The virtual pointer location in the file **/
+  long filePointer = 0;
+
+  /** The currently-mapped part of the file **/
+  MappedByteBuffer window = null;
+
+  /** The offset in the file where the current window starts **/
+  long windowStart = 0;
+
+  /** The length of the current window **/
+  int windowLength = 0;
+
+  /** The maximum size of each window **/
+  int windowSize = DEFAULT_WINDOW_SIZE;
+
+  /***********************************************************************************************
+  Opens the <code>file</code> for reading
+  @param file the <code>File</code> to open
+  ***********************************************************************************************/
+  public MappedFileBuffer(File file) {
+    this(file, DEFAULT_WINDOW_SIZE);
+  }
+
+  /***********************************************************************************************
+  Opens the <code>file</code> for reading, mapping <code>windowSize</code> bytes at a time
+  @param file the <code>File</code> to open
+  @param windowSize the maximum size of each mapped window
+  ***********************************************************************************************/
+  public MappedFileBuffer(File file, int windowSize) {
+    try {
+      this.file = file;
+      this.windowSize = (int) Math.max(WINDOW_ALIGNMENT * 2, windowSize);
+
+      raf = new RandomAccessFile(file, "r");
+      channel = raf.getChannel();
+      length = channel.size();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+  Not needed - the windows are mapped when they are read from
+  ***********************************************************************************************/
+  @Override
+  public void checkFill(int length) {
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void checkWrite(int length) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Unmaps the current window and closes the file
+  ***********************************************************************************************/
+  @Override
+  public void close() {
+    try {
+      releaseWindow();
+      if (raf != null) {
+        raf.close();
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+  Not needed - the windows are mapped when they are read from
+  ***********************************************************************************************/
+  @Override
+  public void fill() {
+  }
+
+  /***********************************************************************************************
+  Not needed - there is no buffered data
+  ***********************************************************************************************/
+  @Override
+  public void flush() {
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void forceWrite() {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes of data from the current position, and returns it. This does
+  not move any file pointers.
+  @param length the length of data to copy
+  @return the data
+  ***********************************************************************************************/
+  @Override
+  public byte[] getBuffer(int length) {
+    byte[] bytes = new byte[length];
+    readAt(filePointer, bytes, 0, length);
+    return bytes;
+  }
+
+  /***********************************************************************************************
+  Gets the position of the pointer in the current window
+  @return the pointer position in the window, or 0 if the pointer is outside the window
+  ***********************************************************************************************/
+  @Override
+  public int getBufferLevel() {
+    long level = filePointer - windowStart;
+    if (window != null && level >= 0 && level < windowLength) {
+      return (int) level;
+    }
+    return 0;
+  }
+
+  /***********************************************************************************************
+  Gets the maximum size of each mapped window
+  @return the window size
+  ***********************************************************************************************/
+  @Override
+  public int getBufferSize() {
+    return windowSize;
+  }
+
+  /***********************************************************************************************
+  Gets the <code>File</code> being read
+  @return the file
+  ***********************************************************************************************/
+  public File getFile() {
+    return file;
+  }
+
+  /***********************************************************************************************
+  Gets the current position in this file. Data will be read from this point.
+  @return the current position in the file
+  ***********************************************************************************************/
+  @Override
+  public long getPointer() {
+    return filePointer;
+  }
+
+  /***********************************************************************************************
+  Is this buffer open for reading?
+  @return true if the buffer is open, false otherwise
+  ***********************************************************************************************/
+  @Override
+  public boolean isOpen() {
+    return channel != null && channel.isOpen();
+  }
+
+  /***********************************************************************************************
+  Gets the length of the file
+  @return the length of the file
+  ***********************************************************************************************/
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /***********************************************************************************************
+  Maps the window that contains the <code>position</code> in the file, if it isn't already
+  mapped.
+  @param position the offset in the file, which must be less than the file length
+  ***********************************************************************************************/
+  void mapWindow(long position) throws IOException {
+    if (window != null && position >= windowStart && position < windowStart + windowLength) {
+      return;
+    }
+
+    releaseWindow();
+
+    long start = position - (position % WINDOW_ALIGNMENT);
+    int size = (int) Math.min(windowSize, length - start);
+
+    window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    windowStart = start;
+    windowLength = size;
+  }
+
+  /***********************************************************************************************
+  Reads a single byte from the buffer, but doesn't increment any file pointers
+  @return the byte at the current point in the buffer
+  ***********************************************************************************************/
+  @Override
+  public int peek() {
+    return ByteConverter.unsign((byte) readAt(filePointer));
+  }
+
+  /***********************************************************************************************
+  Reads a single byte from the buffer
+  @return the byte
+  ***********************************************************************************************/
+  @Override
+  public int read() {
+    int readData = readAt(filePointer);
+    filePointer++;
+    return readData;
+  }
+
+  /***********************************************************************************************
+  Reads a number of bytes from the buffer into the <code>destination</code> array
+  @param destination the array that data is read in to
+  @return the number of bytes that were read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination) {
+    return read(destination, 0, destination.length);
+  }
+
+  /***********************************************************************************************
+  Reads <code>length</code> bytes of data from the buffer into the <code>offset</code> position
+  in the <code>destination</code> array
+  @param destination the array that data is read in to
+  @param offset the offset in the <code>destination</code> array where the data is read in to
+  @param length the number of bytes to read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    readAt(filePointer, destination, offset, length);
+    filePointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+  Reads a single byte at the <code>position</code> in the file
+  @param position the offset in the file
+  @return the byte, or 0 if the <code>position</code> is outside the file
+  ***********************************************************************************************/
+  int readAt(long position) {
+    if (window != null) {
+      long level = position - windowStart;
+      if (level >= 0 && level < windowLength) {
+        return window.get((int) level);
+      }
+    }
+
+    try {
+      if (position < 0 || position >= length) {
+        return 0;
+      }
+      mapWindow(position);
+      return window.get((int) (position - windowStart));
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return 0;
+    }
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes from the <code>position</code> in the file, moving the
+  window across the file as needed. Anything outside the file is read as zeros.
+  ***********************************************************************************************/
+  void readAt(long position, byte[] destination, int offset, int length) {
+    try {
+      while (length > 0) {
+        if (position < 0 || position >= this.length) {
+          int zeroLength = length;
+          if (position < 0 && -position < length) {
+            zeroLength = (int) -position;
+          }
+          Arrays.fill(destination, offset, offset + zeroLength, (byte) 0);
+          position += zeroLength;
+          offset += zeroLength;
+          length -= zeroLength;
+          continue;
+        }
+
+        mapWindow(position);
+
+        int level = (int) (position - windowStart);
+        int copyLength = Math.min(length, windowLength - level);
+
+        window.position(level);
+        window.get(destination, offset, copyLength);
+
+        position += copyLength;
+        offset += copyLength;
+        length -= copyLength;
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+  Unmaps the current window. Mappings are normally only released by the garbage collector, which
+  keeps the file locked on some platforms, so we release it straight away where the JVM allows.
+  The window is private to this buffer, so nothing else can still be using it.
+  ***********************************************************************************************/
+  void releaseWindow() {
+    if (window == null) {
+      return;
+    }
+
+    MappedByteBuffer oldWindow = window;
+    window = null;
+    windowLength = 0;
+
+    unmap(oldWindow);
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file
+  @param offset the offset to seek to in the file
+  ***********************************************************************************************/
+  @Override
+  public void relativeSeek(long offset) {
+    filePointer = offset;
+  }
+
+  /***********************************************************************************************
+  Gets the number of bytes left to read in the file. In other words, the length between the
+  current pointer and the end of the file
+  @return the number of bytes remaining
+  ***********************************************************************************************/
+  @Override
+  public long remainingLength() {
+    return length - filePointer;
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file
+  @param offset the offset to seek to in the file
+  ***********************************************************************************************/
+  @Override
+  public void seek(long offset) {
+    filePointer = offset;
+  }
+
+  /***********************************************************************************************
+  Sets the maximum size of each mapped window. The current window is kept until the pointer
+  moves outside of it.
+  @param length the new window size
+  ***********************************************************************************************/
+  @Override
+  public void setBufferSize(int length) {
+    windowSize = (int) Math.max(WINDOW_ALIGNMENT * 2, length);
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void setLength(long length) {
+    // N/A
+  }
+
+  /***********************************************************************************************
+  Skips over <code>length</code> bytes in the buffer
+  @param length the number of bytes to skip
+  @return the number of skipped bytes
+  ***********************************************************************************************/
+  @Override
+  public int skip(int length) {
+    filePointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+  Gets a read-only view of <code>length</code> bytes from the <code>offset</code> in the file,
+  without copying the data. The view is a mapping of its own, so it stays valid after this
+  buffer is closed, and is released by the garbage collector once it is no longer referenced.
+  The view is truncated if it runs past the end of the file.
+  @param offset the offset in the file
+  @param length the length of the view
+  @return the view of the file, or <b>null</b> if it couldn't be mapped
+  ***********************************************************************************************/
+  public ByteBuffer slice(long offset, int length) {
+    try {
+      if (offset < 0 || offset > this.length) {
+        return null;
+      }
+      if (offset + length > this.length) {
+        length = (int) (this.length - offset);
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).asReadOnlyBuffer();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return null;
+    }
+  }
+
+  /***********************************************************************************************
+  Releases the memory <code>mapping</code> without waiting for the garbage collector. If the JVM
+  doesn't allow this, the mapping is left for the garbage collector instead.
+  @param mapping the mapping to release, which must not be used again
+  ***********************************************************************************************/
+  static void unmap(MappedByteBuffer mapping) {
+    try {
+      // Java 9 and later
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      invokeCleaner.invoke(theUnsafe.get(null), mapping);
+      return;
+    }
+    catch (Throwable t) {
+      // not Java 9 - try the Java 8 way below
+    }
+
+    try {
+      // Java 8
+      Method cleanerMethod = mapping.getClass().getMethod("cleaner");
+      cleanerMethod.setAccessible(true);
+      Object cleaner = cleanerMethod.invoke(mapping);
+      if (cleaner != null) {
+        cleaner.getClass().getMethod("clean").invoke(cleaner);
+      }
+    }
+    catch (Throwable t) {
+      // leave it for the garbage collector
+    }
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source, int offset, int length) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(int source) {
+    // Writing not supported
+  }
+}
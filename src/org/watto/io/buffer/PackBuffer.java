@@ -0,0 +1,67 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io.buffer;
+
+import java.util.Arrays;
+
+/***********************************************************************************************
+A <code>ByteBuffer</code> for writing a packed file into memory. The array grows in bigger and
+bigger steps as data is written (rather than to the exact size of each write), so writing lots of
+small pieces doesn't copy the data over and over. The buffer can be reset and used again for the
+next file, keeping the array it has already grown.
+***********************************************************************************************/
+public class PackBuffer extends ByteBuffer {
+
+  /***********************************************************************************************
+  Creates an empty buffer, with room for <code>capacity</code> bytes before it needs to grow
+  @param capacity the starting size of the array
+  ***********************************************************************************************/
+  public PackBuffer(int capacity) {
+    this.buffer = new byte[capacity];
+    this.bufferSize = 0;
+  }
+
+  /***********************************************************************************************
+  Gets the size of the array, which can be larger than the data that has been written
+  @return the size of the array
+  ***********************************************************************************************/
+  public int getCapacity() {
+    return buffer.length;
+  }
+
+  /***********************************************************************************************
+  Increases the size of the buffer when writing, doubling the array if it needs to grow
+  @param increase the length to increase the buffer by
+  ***********************************************************************************************/
+  @Override
+  void increaseSize(int increase) {
+    int newSize = bufferLevel + increase;
+    if (newSize > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(newSize, buffer.length * 2));
+    }
+    if (newSize > bufferSize) {
+      bufferSize = newSize;
+    }
+  }
+
+  /***********************************************************************************************
+  Empties the buffer so it can be used for the next file
+  ***********************************************************************************************/
+  public void reset() {
+    bufferLevel = 0;
+    bufferSize = 0;
+  }
+
+}
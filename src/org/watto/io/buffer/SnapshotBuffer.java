@@ -0,0 +1,303 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io.buffer;
+
+import org.watto.ErrorLogger;
+import org.watto.io.FileSnapshot;
+import org.watto.io.converter.ByteConverter;
+
+/***********************************************************************************************
+A read-only buffer over a <code>FileSnapshot</code>. Reads that fall within the snapshot are
+served from memory, and only reads outside of it go to the file itself (which is opened the
+first time it is needed). Each thread should use its own <code>SnapshotBuffer</code>, but they
+can all share the same <code>FileSnapshot</code>.
+***********************************************************************************************/
+public class SnapshotBuffer implements ManipulatorBuffer {
+
+  /** The shared snapshot of the file **/
+  FileSnapshot snapshot;
+
+  /** The buffer for reading anything that isn't in the snapshot **/
+  FileBuffer fileBuffer = null;
+
+  /** The virtual pointer location in the file **/
+  long filePointer = 0;
+
+  /** For reading single bytes from outside the snapshot **/
+  byte[] singleByte = new byte[1];
+
+  /***********************************************************************************************
+  Creates a buffer that reads from the <code>snapshot</code>
+  @param snapshot the snapshot of the file
+  ***********************************************************************************************/
+  public SnapshotBuffer(FileSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  /***********************************************************************************************
+  Not needed - the snapshot is always available
+  ***********************************************************************************************/
+  @Override
+  public void checkFill(int length) {
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void checkWrite(int length) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Closes the file, if it was opened for reading outside the snapshot
+  ***********************************************************************************************/
+  @Override
+  public void close() {
+    if (fileBuffer != null) {
+      fileBuffer.close();
+      fileBuffer = null;
+    }
+  }
+
+  /***********************************************************************************************
+  Not needed - the snapshot is always available
+  ***********************************************************************************************/
+  @Override
+  public void fill() {
+  }
+
+  /***********************************************************************************************
+  Not needed - the snapshot is always available
+  ***********************************************************************************************/
+  @Override
+  public void flush() {
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void forceWrite() {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Copies <code>length</code> bytes of data from the current position, and returns it. This does
+  not move any file pointers.
+  @param length the length of data to copy
+  @return the data
+  ***********************************************************************************************/
+  @Override
+  public byte[] getBuffer(int length) {
+    byte[] bytes = new byte[length];
+    readAt(filePointer, bytes, 0, length);
+    return bytes;
+  }
+
+  /***********************************************************************************************
+  Always 0, as there is no moving buffer
+  @return 0
+  ***********************************************************************************************/
+  @Override
+  public int getBufferLevel() {
+    return 0;
+  }
+
+  /***********************************************************************************************
+  Gets the size of the snapshot header
+  @return the size of the snapshot header
+  ***********************************************************************************************/
+  @Override
+  public int getBufferSize() {
+    return snapshot.getHeader().length;
+  }
+
+  /***********************************************************************************************
+  Gets the current position in this file. Data will be read from this point.
+  @return the current position in the file
+  ***********************************************************************************************/
+  @Override
+  public long getPointer() {
+    return filePointer;
+  }
+
+  /***********************************************************************************************
+  Is this buffer open for reading?
+  @return true
+  ***********************************************************************************************/
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  /***********************************************************************************************
+  Gets the length of the file
+  @return the length of the file
+  ***********************************************************************************************/
+  @Override
+  public long length() {
+    return snapshot.getLength();
+  }
+
+  /***********************************************************************************************
+  Reads a single byte from the buffer, but doesn't increment any file pointers
+  @return the byte at the current point in the buffer
+  ***********************************************************************************************/
+  @Override
+  public int peek() {
+    readAt(filePointer, singleByte, 0, 1);
+    return ByteConverter.unsign(singleByte[0]);
+  }
+
+  /***********************************************************************************************
+  Reads a single byte from the buffer
+  @return the byte
+  ***********************************************************************************************/
+  @Override
+  public int read() {
+    byte[] header = snapshot.getHeader();
+    if (filePointer >= 0 && filePointer < header.length) {
+      return header[(int) filePointer++];
+    }
+
+    readAt(filePointer, singleByte, 0, 1);
+    filePointer++;
+    return singleByte[0];
+  }
+
+  /***********************************************************************************************
+  Reads a number of bytes from the buffer into the <code>destination</code> array
+  @param destination the array that data is read in to
+  @return the number of bytes that were read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination) {
+    return read(destination, 0, destination.length);
+  }
+
+  /***********************************************************************************************
+  Reads <code>length</code> bytes of data from the buffer into the <code>offset</code> position
+  in the <code>destination</code> array
+  @param destination the array that data is read in to
+  @param offset the offset in the <code>destination</code> array where the data is read in to
+  @param length the number of bytes to read into the array
+  ***********************************************************************************************/
+  @Override
+  public int read(byte[] destination, int offset, int length) {
+    readAt(filePointer, destination, offset, length);
+    filePointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+  Reads from the snapshot if possible, otherwise from the file
+  ***********************************************************************************************/
+  void readAt(long position, byte[] destination, int offset, int length) {
+    try {
+      if (snapshot.copy(position, destination, offset, length)) {
+        return;
+      }
+
+      if (fileBuffer == null) {
+        fileBuffer = new FileBuffer(snapshot.getFile(), false);
+      }
+      fileBuffer.seek(position);
+      fileBuffer.read(destination, offset, length);
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file
+  @param offset the offset to seek to in the file
+  ***********************************************************************************************/
+  @Override
+  public void relativeSeek(long offset) {
+    filePointer = offset;
+  }
+
+  /***********************************************************************************************
+  Gets the number of bytes left to read in the file. In other words, the length between the
+  current pointer and the end of the file
+  @return the number of bytes remaining
+  ***********************************************************************************************/
+  @Override
+  public long remainingLength() {
+    return length() - filePointer;
+  }
+
+  /***********************************************************************************************
+  Seeks to the <code>offset</code> in the file
+  @param offset the offset to seek to in the file
+  ***********************************************************************************************/
+  @Override
+  public void seek(long offset) {
+    filePointer = offset;
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void setBufferSize(int length) {
+    // N/A
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void setLength(long length) {
+    // N/A
+  }
+
+  /***********************************************************************************************
+  Skips over <code>length</code> bytes in the buffer
+  @param length the number of bytes to skip
+  @return the number of skipped bytes
+  ***********************************************************************************************/
+  @Override
+  public int skip(int length) {
+    filePointer += length;
+    return length;
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(byte[] source, int offset, int length) {
+    // Writing not supported
+  }
+
+  /***********************************************************************************************
+  Not Supported
+  ***********************************************************************************************/
+  @Override
+  public void write(int source) {
+    // Writing not supported
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.io.buffer;
+
+import java.io.File;
+import org.watto.ErrorLogger;
+import org.watto.ge.helper.UnityBundleDecompressor;
+
+/***********************************************************************************************
+ * A read-only <code>FileBuffer</code> for a Unity bundle that is still being decompressed by a
+ * <code>UnityBundleDecompressor</code>. Each time the buffer is filled, it waits for the blocks
+ * that it covers to be written to the file, so the data can be read as soon as it is ready.
+ * Closing the buffer waits for all the blocks to be written.
+ ***********************************************************************************************/
+public class UnityBundleBuffer extends FileBuffer {
+
+  /** The decompressor that is writing the file **/
+  UnityBundleDecompressor decompressor;
+
+  /***********************************************************************************************
+   * Opens the <code>file</code> that is being written by the <code>decompressor</code>
+   * @param file the <code>File</code> to open
+   * @param decompressor the decompressor that is writing the <code>file</code>
+   ***********************************************************************************************/
+  public UnityBundleBuffer(File file, UnityBundleDecompressor decompressor) {
+    super(file, false);
+    this.decompressor = decompressor;
+
+    try {
+      // the buffer was filled before the decompressor was set, so fill it again now that we can wait
+      raf.seek(0);
+      filePointer = 0;
+      fill();
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
+
+  /***********************************************************************************************
+   * Waits for all the blocks to be written, then closes the file.
+   ***********************************************************************************************/
+  @Override
+  public void close() {
+    if (decompressor != null) {
+      decompressor.waitForAllBlocks();
+    }
+    super.close();
+  }
+
+  /***********************************************************************************************
+   * Waits for the blocks covered by the buffer to be written, then refills the buffer from the
+   * file. If any of those blocks failed, the error is logged, as that part of the file is empty.
+   ***********************************************************************************************/
+  @Override
+  public void fill() {
+    if (decompressor == null) {
+      // still in the constructor - the buffer is filled again once the decompressor is set
+      super.fill();
+      return;
+    }
+
+    try {
+      long offset = raf.getFilePointer();
+      if (!decompressor.waitForBlocks(offset, bufferSize)) {
+        ErrorLogger.log("[UnityBundleBuffer] The data at offset " + offset + " of " + file.getName() + " couldn't be decompressed");
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+    super.fill();
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.task;
+
+import java.util.concurrent.ForkJoinPool;
+import org.watto.Settings;
+
+/**
+**********************************************************************************************
+Shared worker threads for the parts of Game Extractor that can spread their work over several
+cores (such as plugin detection). The number of threads is controlled by the "WorkerThreads"
+setting, where 0 means "one thread per processor".
+**********************************************************************************************
+**/
+public class TaskThreadPool {
+
+  /** the shared pool, created the first time it is needed **/
+  static ForkJoinPool forkJoinPool = null;
+
+  /**
+  **********************************************************************************************
+  Gets the shared ForkJoinPool, creating it if it doesn't exist yet
+  **********************************************************************************************
+  **/
+  public static synchronized ForkJoinPool getForkJoinPool() {
+    if (forkJoinPool == null) {
+      forkJoinPool = new ForkJoinPool(getThreadCount());
+    }
+    return forkJoinPool;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of worker threads to use
+  **********************************************************************************************
+  **/
+  public static int getThreadCount() {
+    int threads = Settings.getInt("WorkerThreads");
+    if (threads <= 0) {
+      threads = Runtime.getRuntime().availableProcessors();
+    }
+    return threads;
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the number of worker threads to use (eg from the command line). If the shared pool
+  already exists with a different size, it is replaced.
+  **********************************************************************************************
+  **/
+  public static synchronized void setThreadCount(int threads) {
+    Settings.set("WorkerThreads", threads);
+
+    if (forkJoinPool != null && forkJoinPool.getParallelism() != getThreadCount()) {
+      forkJoinPool.shutdown();
+      forkJoinPool = null;
+    }
+  }
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public TaskThreadPool() {
+  }
+
+}
@@ -15,8 +15,16 @@
 package org.watto.task;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.watto.ChangeMonitor;
+import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
@@ -26,13 +34,13 @@ import org.watto.component.WSPlugin;
 import org.watto.component.WSPluginManager;
 import org.watto.component.WSPopup;
 import org.watto.component.WSStatusBar;
-import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.helper.AnalysisPluginGroup;
+import org.watto.ge.helper.AnalysisReportWriter;
 import org.watto.ge.helper.AnalysisViewerGroup;
-import org.watto.ge.helper.FileTypeDetector;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
@@ -85,6 +93,27 @@ public class Task_AnalyzeDirectory extends AbstractTask {
 
   ViewerPlugin[] converterPlugins = null;
 
+  /** The archive that each file is read into, so the archive in the interface isn't changed **/
+  ArchiveContext context = new ArchiveContext();
+
+  /** The journal is saved no more often than this, in milliseconds **/
+  static final long JOURNAL_INTERVAL = 1000;
+
+  /** held by workers that use the shared exporters or the converters, or read with a plugin that isn't thread-safe **/
+  static final Object SHARED_PLUGIN_LOCK = new Object();
+
+  /** The items that have been analysed, waiting to be written to the report in order. Also guards the counts below. **/
+  HashMap<Integer, AnalysisItem> finishedItems = null;
+
+  /** The number of files and directory ends found by the walker so far **/
+  int numItems = 0;
+
+  /** The number of files found by the walker so far **/
+  int numFilesFound = 0;
+
+  /** Whether the walker has finished walking the directory tree **/
+  boolean walkFinished = false;
+
   /**
   **********************************************************************************************
   
@@ -132,240 +161,6 @@ public class Task_AnalyzeDirectory extends AbstractTask {
   /**
   **********************************************************************************************
   
-  **********************************************************************************************
-  **/
-  public void writeReportHeader(FileManipulator fm) {
-    writeHTML(fm, "<html>\n<head>\n<title>Game Extractor - Analysis of Directory</title>\n</head>\n<body bgcolor='white'>\n<center>\n");
-    writeCSV(fm, "Archive_Plugin_Code,Archive_Plugin_Name,Archive_Filename,Viewer_Plugin_Code,Viewer_Plugin_Name,Resource_Name,Resource_Directory,Resource_Filename,Resource_Extension,Resource_Offset,Resource_Compressed_Length,Resource_Decompressed_Length,Resource_Compression_Type,Resource_Description,Resource_Exported_Path\n");
-    writeTXT(fm, "Archive_Plugin_Code\tArchive_Plugin_Name\tArchive_Filename\tViewer_Plugin_Code\tViewer_Plugin_Name\tResource_Name\tResource_Directory\tResource_Filename\tResource_Extension\tResource_Offset\tResource_Compressed_Length\tResource_Decompressed_Length\tResource_Compression_Type\tResource_Description\tResource_Exported_Path\n");
-    writeXLS(fm, "Archive_Plugin_Code\tArchive_Plugin_Name\tArchive_Filename\tViewer_Plugin_Code\tViewer_Plugin_Name\tResource_Name\tResource_Directory\tResource_Filename\tResource_Extension\tResource_Offset\tResource_Compressed_Length\tResource_Decompressed_Length\tResource_Compression_Type\tResource_Description\tResource_Exported_Path\n");
-    writeJSON(fm, "{ \"json\" : {\n\"archives\" : [");
-    writeXML(fm, "<xml><archives>\n");
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeReportFooter(FileManipulator fm) {
-    writeHTML(fm, "</center></body></html>");
-    writeCSV(fm, "\n");
-    writeTXT(fm, "\n");
-    writeXLS(fm, "\n");
-    writeJSON(fm, "]\n}\n}");
-    writeXML(fm, "</archives></xml>\n");
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeArchiveHeader(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, Resource[] resources) {
-    String archiveFilePath = "";
-    if (archiveFile != null) {
-      archiveFilePath = archiveFile.getPath();
-    }
-
-    String archivePluginName = archivePlugin.getName();
-    String archivePluginCode = archivePlugin.getCode();
-
-    writeHTML(fm, "The archive " + archiveFilePath + " could be opened with the " + archivePluginName + " [<b>" + archivePluginCode + "</b>] archive plugin, and contains these files...<br /><br />");
-
-    if (foundMultipleArchives) {
-      writeJSON(fm, ",");
-    }
-    foundMultipleArchives = true;
-
-    writeJSON(fm, "{\n\"archiveFilename\" : \"" + archiveFilePath.replace("\\", "\\\\") + "\",\n\"archivePluginCode\" : \"" + archivePluginCode + "\",\n\"archivePluginName\" : \"" + archivePluginName + "\",\n\"viewers\" : [\n");
-    writeXML(fm, "<archive>\n<archiveFilename>" + archiveFilePath + "</archiveFilename>\n<archivePluginCode>" + archivePluginCode + "</archivePluginCode>\n<archivePluginName>" + archivePluginName + "</archivePluginName>\n<viewers>\n");
-
-    foundMultipleViewers = false; // each archive has a new set of viewers in it
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeArchiveFooter(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, Resource[] resources) {
-    writeHTML(fm, "<br />\n");
-    writeJSON(fm, "]\n}\n");
-    writeXML(fm, "</viewers></archive>\n");
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeViewerHeader(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource[] resources) {
-    String archiveFilePath = "";
-    if (archiveFile != null) {
-      archiveFilePath = archiveFile.getPath();
-    }
-
-    /*
-    String archivePluginName = "";
-    String archivePluginCode = "";
-    if (archivePlugin != null) {
-      archivePluginName = archivePlugin.getName();
-      archivePluginCode = archivePlugin.getCode();
-    }
-    */
-
-    String viewerPluginName = "Unknown";
-    String viewerPluginCode = "";
-    if (viewerPlugin != null) {
-      viewerPluginName = viewerPlugin.getName();
-      viewerPluginCode = viewerPlugin.getCode();
-    }
-
-    if (foundMultipleViewers) {
-      writeJSON(fm, ",");
-    }
-    foundMultipleViewers = true;
-
-    if (archivePlugin == null) {
-      // viewer for files in the filesystem
-
-      writeHTML(fm, "The following files in directory " + archiveFilePath + " could be opened with the " + viewerPluginName + " [<b>" + viewerPluginCode + "</b>] viewer plugin...<br /><br />");
-      writeJSON(fm, "{\n\"directoryName\" : \"" + archiveFilePath.replace("\\", "\\\\") + "\",\n\"viewerPluginCode\" : \"" + viewerPluginCode + "\",\n\"viewerPluginName\" : \"" + viewerPluginName + "\",\n\"resources\" : [\n");
-      writeXML(fm, "<viewer>\n<directoryName>" + archiveFilePath + "</directoryName>\n<viewerPluginCode>" + viewerPluginCode + "</viewerPluginCode>\n<viewerPluginName>" + viewerPluginName + "</viewerPluginName>\n<resources>\n");
-    }
-    else {
-      // viewer for files in an archive
-
-      if (viewerPlugin == null) {
-        writeHTML(fm, "The following files are of unknown type, with no viewer plugin available...<br /><br />");
-      }
-      else {
-        writeHTML(fm, "The plugin " + viewerPluginName + " [<b>" + viewerPluginCode + "</b>] was able to open the following files...<br /><br />");
-      }
-      writeJSON(fm, "{\n\"viewerPluginCode\" : \"" + viewerPluginCode + "\",\n\"viewerPluginName\" : \"" + viewerPluginName + "\",\n\"resources\" : [\n");
-      writeXML(fm, "<viewer>\n<viewerPluginCode>" + viewerPluginCode + "</viewerPluginCode>\n<viewerPluginName>" + viewerPluginName + "</viewerPluginName>\n<resources>\n");
-    }
-
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeViewerFooter(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource[] resources) {
-    if (archivePlugin == null) {
-      // viewer for files in the filesystem
-
-      writeHTML(fm, "<br />\n");
-      writeJSON(fm, "]\n}\n");
-      writeXML(fm, "</resources>\n</viewer>\n");
-    }
-    else {
-      // viewer for files in an archive
-
-      writeHTML(fm, "<br />\n");
-      writeJSON(fm, "]\n}\n");
-      writeXML(fm, "</resources>\n</viewer>\n");
-    }
-
-  }
-
-  /**
-  **********************************************************************************************
-  
-  **********************************************************************************************
-  **/
-  public void writeResources(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, ViewerPlugin viewerPlugin, Resource[] resources) {
-    if (resources == null || resources.length <= 0) {
-      return;
-    }
-
-    String archiveFilePath = "";
-    if (archiveFile != null) {
-      archiveFilePath = archiveFile.getPath();
-    }
-
-    String archivePluginName = "";
-    String archivePluginCode = "";
-    if (archivePlugin != null) {
-      archivePluginName = archivePlugin.getName();
-      archivePluginCode = archivePlugin.getCode();
-    }
-
-    String viewerPluginName = "Unknown";
-    String viewerPluginCode = "";
-    if (viewerPlugin != null) {
-      viewerPluginName = viewerPlugin.getName();
-      viewerPluginCode = viewerPlugin.getCode();
-    }
-
-    int numFiles = resources.length;
-    for (int i = 0; i < numFiles; i++) {
-      Resource resource = resources[i];
-
-      String resourceName = resource.getName();
-      String resourceDirectory = resource.getDirectory();
-      String resourceFilename = resource.getFilename();
-      String resourceExtension = resource.getExtension();
-      long resourceOffset = resource.getOffset();
-      long resourceCompressedLength = resource.getLength();
-      long resourceDecompressedLength = resource.getDecompressedLength();
-      String resourceCompressionType = resource.getExporter().getCode();
-      String resourceDescription = FileTypeDetector.getFileType(resourceExtension).getDescription();
-
-      String resourceExportedPath = "";
-      File exportedPath = resource.getExportedPath();
-      if (exportedPath != null) {
-        resourceExportedPath = exportedPath.getAbsolutePath();
-      }
-
-      // Resource_Name
-      writeHTML(fm, resourceName + "<br />");
-
-      // Resource_Name,Resource_Directory,Resource_Filename,Resource_Extension,Resource_Offset,Resource_Compressed_Length,Resource_Decompressed_Length,Resource_Compression_Type,Resource_Description,Resource_Exported_Path
-      writeJSON(fm, "{\"resourceName\" : \"" + resourceName.replace("\\", "\\\\") + "\",\n" +
-          "\"resourceDirectory\" : \"" + resourceDirectory.replace("\\", "\\\\") + "\",\n" +
-          "\"resourceFilename\" : \"" + resourceFilename + "\",\n" +
-          "\"resourceExtension\" : \"" + resourceExtension + "\",\n" +
-          "\"resourceOffset\" : \"" + resourceOffset + "\",\n" +
-          "\"resourceCompressedLength\" : \"" + resourceCompressedLength + "\",\n" +
-          "\"resourceDecompressedLength\" : \"" + resourceDecompressedLength + "\",\n" +
-          "\"resourceCompressionType\" : \"" + resourceCompressionType + "\",\n" +
-          "\"resourceDescription\" : \"" + resourceDescription + "\",\n" +
-          "\"resourceExportedPath\" : \"" + resourceExportedPath.replace("\\", "\\\\") + "\"\n" +
-          "}");
-      if (i != numFiles - 1) {
-        writeJSON(fm, ",");
-      }
-
-      // Resource_Name,Resource_Directory,Resource_Filename,Resource_Extension,Resource_Offset,Resource_Compressed_Length,Resource_Decompressed_Length,Resource_Compression_Type,Resource_Description,Resource_Exported_Path
-      writeXML(fm, "<resource>\n" +
-          "<resourceName>" + resourceName + "</resourceName>\n" +
-          "<resourceDirectory>" + resourceDirectory + "</resourceDirectory>\n" +
-          "<resourceFilename>" + resourceFilename + "</resourceFilename>\n" +
-          "<resourceExtension>" + resourceExtension + "</resourceExtension>\n" +
-          "<resourceOffset>" + resourceOffset + "</resourceOffset>\n" +
-          "<resourceCompressedLength>" + resourceCompressedLength + "</resourceCompressedLength>\n" +
-          "<resourceDecompressedLength>" + resourceDecompressedLength + "</resourceDecompressedLength>\n" +
-          "<resourceCompressionType>" + resourceCompressionType + "</resourceCompressionType>\n" +
-          "<resourceDescription>" + resourceDescription + "</resourceDescription>\n" +
-          "<resourceExportedPath>" + resourceExportedPath + "</resourceExportedPath>\n" +
-          "</resource>\n");
-
-      //           Archive_Plugin_Code,      Archive_Plugin_Name,      Archive_Filename,       Viewer_Plugin_Code,      Viewer_Plugin_Name,      Resource_Name,       Resource_Directory,       Resource_Filename,       Resource_Extension,       Resource_Offset,       Resource_Compressed_Length,      Resource_Decompressed_Length,      Resource_Compression_Type,      Resource_Description,       Resource_Exported_Path
-      writeCSV(fm, archivePluginCode + "," + archivePluginName + "," + archiveFilePath + "," + viewerPluginCode + "," + viewerPluginName + "," + resourceName + "," + resourceDirectory + "," + resourceFilename + "," + resourceExtension + "," + resourceOffset + "," + resourceCompressedLength + "," + resourceDecompressedLength + "," + resourceCompressionType + "," + resourceDescription + "," + resourceExportedPath + "\n");
-
-      //           Archive_Plugin_Code\t      Archive_Plugin_Name\t      Archive_Filename\t       Viewer_Plugin_Code\t      Viewer_Plugin_Name\t      Resource_Name\t       Resource_Directory\t       Resource_Filename\t       Resource_Extension\t       Resource_Offset\t       Resource_Compressed_Length\t      Resource_Decompressed_Length\t      Resource_Compression_Type\t      Resource_Description\t       Resource_Exported_Path
-      writeTXT(fm, archivePluginCode + "\t" + archivePluginName + "\t" + archiveFilePath + "\t" + viewerPluginCode + "\t" + viewerPluginName + "\t" + resourceName + "\t" + resourceDirectory + "\t" + resourceFilename + "\t" + resourceExtension + "\t" + resourceOffset + "\t" + resourceCompressedLength + "\t" + resourceDecompressedLength + "\t" + resourceCompressionType + "\t" + resourceDescription + "\t" + resourceExportedPath + "\n");
-      writeXLS(fm, archivePluginCode + "\t" + archivePluginName + "\t" + archiveFilePath + "\t" + viewerPluginCode + "\t" + viewerPluginName + "\t" + resourceName + "\t" + resourceDirectory + "\t" + resourceFilename + "\t" + resourceExtension + "\t" + resourceOffset + "\t" + resourceCompressedLength + "\t" + resourceDecompressedLength + "\t" + resourceCompressionType + "\t" + resourceDescription + "\t" + resourceExportedPath + "\n");
-    }
-  }
-
-  /**
-  **********************************************************************************************
-  
   **********************************************************************************************
   **/
   public void writeHTML(FileManipulator fm, String text) {
@@ -429,13 +224,13 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     }
   }
 
-  boolean foundMultipleArchives = false;
-
-  boolean foundMultipleViewers = false;
 
   /**
   **********************************************************************************************
-  
+  Analyses the directory. The directory tree is walked on one thread, the files are analysed by
+  a pool of workers, and this thread writes the results to the report in the order they were
+  walked, as soon as each one is ready. A journal is kept next to the report, so if the analysis
+  is interrupted, running it again on the same directory carries on from where it stopped.
   **********************************************************************************************
   **/
   @Override
@@ -456,12 +251,6 @@ public class Task_AnalyzeDirectory extends AbstractTask {
       return;
     }
 
-    // ask to save the modified archive
-    if (GameExtractor.getInstance().promptToSave()) {
-      return;
-    }
-    ChangeMonitor.reset();
-
     // Global Settings
     checkViewerPlugins = Settings.getBoolean("SidePanel_DirectoryList_AnalyzeDirectory_CheckViewerPlugins");
     extractAllFiles = Settings.getBoolean("SidePanel_DirectoryList_AnalyzeDirectory_ExtractAllFiles");
@@ -469,95 +258,211 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     processSubDirectories = Settings.getBoolean("SidePanel_DirectoryList_AnalyzeDirectory_ScanSubDirectories");
     extractDirectory = new File(new File(Settings.get("AnalysisExtractDirectory")).getAbsolutePath());
 
-    foundMultipleArchives = false; // for writing a comma between archives in JSON
-    foundMultipleViewers = false; // for writing a comma between archives in JSON
-
     // Progress dialog
     TaskProgressManager.show(1, 0, Language.get("Progress_AnalyzingDirectory"));
     TaskProgressManager.startTask();
 
-    // Start building the report
-    File directory = new File(new File(Settings.get("AnalysisExtractDirectory") + File.separator + reportFilename).getAbsolutePath());
+    // Start building the report, or carry on with the one from an interrupted analysis
+    File reportFile = new File(new File(Settings.get("AnalysisExtractDirectory") + File.separator + reportFilename).getAbsolutePath());
+    File journalFile = new File(reportFile.getAbsolutePath() + ".progress");
 
-    DirectoryBuilder.buildDirectory(directory, false);
-    FileManipulator fm = new FileManipulator(directory, true);
+    DirectoryBuilder.buildDirectory(reportFile, false);
+    FileManipulator fm = new FileManipulator(reportFile, true);
+    AnalysisReportWriter writer = AnalysisReportWriter.getWriter(outputFormat, fm);
 
-    writeReportHeader(fm);
+    int firstItem = 0;
+    if (Settings.getBoolean("ResumeDirectoryAnalysis")) {
+      firstItem = loadJournal(journalFile, reportFile, fm, writer);
+    }
+
+    if (firstItem <= 0) {
+      firstItem = 0;
+      fm.setLength(0); // remove any old report that was in this file
+      fm.seek(0);
+      writer.writeReportHeader();
+    }
 
     // analyse the directory (and sub-directories)
     boolean playAudio = Settings.getBoolean("PlayAudioOnLoad");
     Settings.set("PlayAudioOnLoad", false);
 
-    processDirectory(fm, path);
+    boolean finished = analyzeDirectory(writer, journalFile, firstItem);
 
     Settings.set("PlayAudioOnLoad", playAudio);
 
-    writeReportFooter(fm);
+    if (finished) {
+      writer.writeReportFooter();
+    }
 
     // Close the report
-
     fm.close();
 
+    if (finished) {
+      journalFile.delete();
+    }
+
     TaskProgressManager.stopTask();
 
     WSPopup.showMessage("AnalyzeDirectory_DirectoryAnalyzed", true);
   }
 
   /**
-   **********************************************************************************************
-   
-   **********************************************************************************************
-   **/
-  public void processDirectory(FileManipulator fm, File directory) {
+  **********************************************************************************************
+  Walks the directory tree, analyses the files, and writes each result to the report in order.
+  Returns false if the analysis was interrupted before everything was written.
+  **********************************************************************************************
+  **/
+  boolean analyzeDirectory(AnalysisReportWriter writer, File journalFile, final int firstItem) {
+    int numThreads = 1;
+    if (Settings.getBoolean("ParallelDirectoryAnalysis")) {
+      numThreads = TaskThreadPool.getThreadCount();
+    }
 
-    // Prepare the viewer groups, in case we look for viewers as well as archives
+    // the workers read and export whole archives, and wait for the export threads, so they get
+    // their own threads rather than tying up the shared ForkJoinPool
+    final ExecutorService workers = Executors.newFixedThreadPool(numThreads);
+
+    // only let the walker get a little ahead of the report, so the results waiting to be written don't use up the memory
+    int queueSize = Settings.getInt("DirectoryAnalysisQueueSize");
+    if (queueSize <= 0) {
+      queueSize = 1;
+    }
+    final Semaphore queueSlots = new Semaphore(numThreads * queueSize);
+
+    finishedItems = new HashMap<Integer, AnalysisItem>();
+    numItems = 0;
+    numFilesFound = 0;
+    walkFinished = false;
+
+    Thread walkerThread = new Thread(new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          walkDirectory(path, workers, queueSlots, firstItem);
+        }
+        catch (InterruptedException e) {
+          // the analysis was stopped
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+        finally {
+          synchronized (finishedItems) {
+            walkFinished = true;
+            finishedItems.notifyAll();
+          }
+        }
+      }
+    });
+    walkerThread.setDaemon(true);
+    walkerThread.start();
+
+    // Prepare the viewer groups for the files in the current directory, in case we look for viewers as well as archives
     int maxViewers = WSPluginManager.getGroup("Viewer").getPluginCount();
-    AnalysisViewerGroup[] groups = new AnalysisViewerGroup[maxViewers];
+    AnalysisViewerGroup[] directoryGroups = new AnalysisViewerGroup[maxViewers];
 
     // A special group to record all the other files that don't have a Viewer for them
-    AnalysisViewerGroup unknownGroup = new AnalysisViewerGroup(null);
+    AnalysisViewerGroup directoryUnknownGroup = new AnalysisViewerGroup(null);
 
-    // Get all the files in this directory
-    File[] sourceFiles = directory.listFiles();
-    int numSourceFiles = sourceFiles.length;
+    WSStatusBar statusBar = (WSStatusBar) ComponentRepository.get("StatusBar");
 
-    // process the files, then process the sub-directories 
-    File[] directories = new File[numSourceFiles];
-    int numDirectories = 0;
+    boolean finished = false;
+    int itemNumber = firstItem;
+    int fileNumber = 0;
+    long journalTime = System.currentTimeMillis();
+    try {
+      while (true) {
+        AnalysisItem item;
+        int itemsFound;
+        int filesFound;
+        synchronized (finishedItems) {
+          while (!finishedItems.containsKey(itemNumber) && !(walkFinished && itemNumber >= numItems)) {
+            finishedItems.wait();
+          }
+          item = finishedItems.remove(itemNumber);
+          itemsFound = numItems;
+          filesFound = numFilesFound;
+        }
 
-    File[] files = new File[numSourceFiles];
-    int numFiles = 0;
+        if (item == null) {
+          // everything has been walked and written
+          finished = true;
+          break;
+        }
+        queueSlots.release();
 
-    for (int i = 0; i < numSourceFiles; i++) {
-      // find all the directories first
-      File file = sourceFiles[i];
-      if (file.isDirectory()) {
-        directories[numDirectories] = file;
-        numDirectories++;
-      }
-      else {
-        files[numFiles] = file;
-        numFiles++;
-      }
-    }
+        if (item.directoryEnd) {
+          // Now that we've written out the archives, we can write out the Viewers that were found
+          if (checkViewerPlugins) {
+            writer.writeViewerGroups(item.file, null, directoryGroups, directoryUnknownGroup);
 
-    WSStatusBar statusBar = (WSStatusBar) ComponentRepository.get("StatusBar");
+            directoryGroups = new AnalysisViewerGroup[maxViewers];
+            directoryUnknownGroup = new AnalysisViewerGroup(null);
+          }
+        }
+        else {
+          fileNumber++;
 
-    // Now process the files only
-    TaskProgressManager.setMaximum(numFiles);
-    for (int f = 0; f < numFiles; f++) {
-      TaskProgressManager.setValue(f);
+          // Set statusbar message
+          if (statusBar != null) {
+            statusBar.setText("Analyzing file " + fileNumber + " of " + filesFound + ": " + item.file.getName());
+          }
 
-      boolean foundPlugin = false;
-      Archive.makeNewArchive();
+          if (item.archivePlugin != null) {
+            writer.writeArchiveHeader(item.file, item.archivePlugin);
+            writer.writeViewerGroups(item.file, item.archivePlugin, item.groups, item.unknownGroup);
+            writer.writeArchiveFooter();
+          }
+          else if (item.viewerPlugin != null) {
+            addToGroup(new Resource(item.file), item.viewerPlugin, directoryGroups, directoryUnknownGroup);
+          }
+        }
+
+        itemNumber++;
 
-      File archiveFile = files[f];
-      Settings.set("CurrentArchive", archiveFile.getAbsolutePath());
+        TaskProgressManager.setMaximum(itemsFound);
+        TaskProgressManager.setValue(itemNumber);
 
-      // Set statusbar message
-      if (statusBar != null) {
-        statusBar.setText("Analyzing file " + (f + 1) + " of " + numFiles + ": " + archiveFile.getName());
+        // Record how far the report has got, unless there are viewers waiting for the end of the directory,
+        // as they would be lost if the analysis carried on from here.
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - journalTime >= JOURNAL_INTERVAL && directoryGroups[0] == null) {
+          saveJournal(journalFile, writer, itemNumber);
+          journalTime = currentTime;
+        }
       }
+    }
+    catch (InterruptedException e) {
+      // the analysis was stopped - the journal has the last point that was written
+    }
+    finally {
+      walkerThread.interrupt();
+      workers.shutdownNow();
+    }
+
+    if (!finished && directoryGroups[0] == null) {
+      saveJournal(journalFile, writer, itemNumber);
+    }
+
+    return finished;
+  }
+
+  /**
+  **********************************************************************************************
+  Analyses the file in the <i>item</i> on a worker thread. The file is read into its own
+  <code>ArchiveContext</code>, with a new instance of the plugin, so the workers don't touch each
+  other's archives. Anything that needs the shared exporters or converters takes turns, as do
+  the plugins that aren't thread-safe.
+  **********************************************************************************************
+  **/
+  void analyzeFile(AnalysisItem item) {
+    File archiveFile = item.file;
+
+    ArchiveContext fileContext = new ArchiveContext();
+    ArchiveContext previousContext = fileContext.bind();
+    Settings.setForThread("CurrentArchive", archiveFile.getAbsolutePath());
+    try {
 
       // See whether an Archive or a Viewer plugin can open the file
       RatedPlugin[] plugins = PluginFinder.findPlugins(archiveFile, ArchivePlugin.class);
@@ -566,125 +471,352 @@ public class Task_AnalyzeDirectory extends AbstractTask {
         Arrays.sort(plugins);
 
         for (int i = 0; i < plugins.length; i++) {
-          //System.out.println(plugins[i].getRating());
-
           // Open the archive
-          ArchivePlugin archivePlugin = (ArchivePlugin) plugins[i].getPlugin();
-          Resource[] resources = archivePlugin.read(archiveFile);
+          ArchivePlugin archivePlugin = newPluginInstance((ArchivePlugin) plugins[i].getPlugin());
+
+          Resource[] resources = null;
+          boolean mappingAllowed = FileManipulator.setMappingAllowed(true);
+          try {
+            if (archivePlugin.isThreadSafe()) {
+              resources = archivePlugin.read(archiveFile);
+            }
+            else {
+              synchronized (SHARED_PLUGIN_LOCK) {
+                resources = archivePlugin.read(archiveFile);
+              }
+            }
+          }
+          catch (Throwable t) {
+            ErrorLogger.log(t);
+          }
+          finally {
+            FileManipulator.setMappingAllowed(mappingAllowed);
+          }
 
           if (resources == null || resources.length <= 0) {
             continue;
           }
 
           // Successfully opened the archive
-          foundPlugin = true;
-          i = plugins.length;
+          fileContext.setResources(resources);
+          fileContext.setReadPlugin(archivePlugin);
+          fileContext.setBasePath(archiveFile);
+
+          item.archivePlugin = archivePlugin;
+
+          Task_ExportFiles task = createExportTask(archiveFile, resources, fileContext);
+          if (needsSharedPlugins(task, resources)) {
+            synchronized (SHARED_PLUGIN_LOCK) {
+              analyzeArchive(item, task, resources);
+            }
+          }
+          else {
+            analyzeArchive(item, task, resources);
+          }
+          return;
+        }
+      }
+
+      if (checkViewerPlugins) {
+        // No archive plugins found, or none opened the file successfully.
+        // So, try to open with the viewers
+
+        plugins = PluginFinder.findPlugins(archiveFile, ViewerPlugin.class);
 
-          Archive.setResources(resources);
-          Archive.setReadPlugin(archivePlugin);
-          Archive.setBasePath(archiveFile);
+        if (plugins != null && plugins.length > 0) {
+          Arrays.sort(plugins);
 
-          // Export all the files to disk (setting), including image conversions if chosen
-          if (extractAllFiles) {
-            // extract each archive to a separate folder in the extract directory
-            File specificExtractDirectory = new File(extractDirectory.getAbsolutePath() + File.separatorChar + archiveFile.getName());
-            Task_ExportFiles task = new Task_ExportFiles(specificExtractDirectory, resources);
+          // try to open the preview using each plugin and previewFile(File,Plugin)
+          for (int p = 0; p < plugins.length; p++) {
+            ViewerPlugin viewerPlugin = (ViewerPlugin) plugins[p].getPlugin();
 
-            if (converterPlugins != null) {
-              task.setConverterPlugins(converterPlugins);
+            // The viewers are shared by all the workers, and the ones that aren't thread-safe can only read one file at a time
+            PreviewPanel panel = null;
+            ViewerPlugin.lockReading(viewerPlugin);
+            try {
+              panel = viewerPlugin.read(archiveFile);
+            }
+            finally {
+              ViewerPlugin.unlockReading(viewerPlugin);
+            }
+            if (panel == null) {
+              continue;
             }
 
-            task.setShowPopups(false);
-            TaskProgressManager.setTaskRunning(false); // otherwise the Export doesn't run
-            task.redo();
+            // Successfully opened the file using a viewer
+            item.viewerPlugin = viewerPlugin;
+            break;
           }
+        }
+      }
 
-          // Write the archive Header details
-          writeArchiveHeader(fm, archiveFile, archivePlugin, resources);
+    }
+    finally {
+      Settings.removeForThread("CurrentArchive");
+      SingletonManager.removeForThread("CurrentResource");
+      ArchiveContext.unbind(previousContext);
+    }
+  }
 
-          // Process each file in the archive, look for a viewer plugin for them
-          analyzeArchiveContents(fm, archiveFile, archivePlugin, resources);
+  /**
+  **********************************************************************************************
+  Exports the files in the archive (if chosen), then finds the viewers for each file in it
+  **********************************************************************************************
+  **/
+  void analyzeArchive(AnalysisItem item, Task_ExportFiles task, Resource[] resources) {
+    // Export all the files to disk (setting), including image conversions if chosen
+    if (extractAllFiles) {
+      task.redo();
+    }
+
+    // Process each file in the archive, look for a viewer plugin for them
+    analyzeArchiveContents(item, task, resources);
+  }
 
-          // Write the archive Footer details
-          writeArchiveFooter(fm, archiveFile, archivePlugin, resources);
+  /**
+  **********************************************************************************************
+  Makes the task that exports the <i>resources</i> to a separate folder in the extract directory,
+  to run on the worker thread for the <i>archiveFile</i>
+  **********************************************************************************************
+  **/
+  Task_ExportFiles createExportTask(File archiveFile, Resource[] resources, ArchiveContext fileContext) {
+    // extract each archive to a separate folder in the extract directory
+    File specificExtractDirectory = new File(extractDirectory.getAbsolutePath() + File.separatorChar + archiveFile.getName());
+    Task_ExportFiles task = new Task_ExportFiles(specificExtractDirectory, resources);
 
-        }
+    if (converterPlugins != null) {
+      task.setConverterPlugins(converterPlugins);
+    }
+
+    task.setContext(fileContext);
+    task.setShowPopups(false);
+    task.setShowProgressPopups(false);
+    task.setWithinThread(true);
+    return task;
+  }
 
+  /**
+  **********************************************************************************************
+  Puts the <i>item</i> in the list of items that are ready to write, and wakes up the writer
+  **********************************************************************************************
+  **/
+  void finishItem(AnalysisItem item) {
+    synchronized (finishedItems) {
+      finishedItems.put(item.number, item);
+      finishedItems.notifyAll();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the settings that change what is written to the report, so a journal is only used to carry
+  on with a report that was written the same way
+  **********************************************************************************************
+  **/
+  String getJournalSettings() {
+    return outputFormat + "," + checkViewerPlugins + "," + extractAllFiles + "," + processSubDirectories;
+  }
+
+  /**
+  **********************************************************************************************
+  Loads the <i>journalFile</i> from an interrupted analysis of the same directory, and gets the
+  report ready to carry on from the last point that was recorded. Returns the number of the next
+  item to write, or 0 if the analysis needs to start from the beginning.
+  **********************************************************************************************
+  **/
+  int loadJournal(File journalFile, File reportFile, FileManipulator fm, AnalysisReportWriter writer) {
+    if (!journalFile.exists()) {
+      return 0;
+    }
+
+    try {
+      Properties journal = new Properties();
+      FileInputStream input = new FileInputStream(journalFile);
+      try {
+        journal.load(input);
+      }
+      finally {
+        input.close();
       }
 
-      if (!foundPlugin) {
-        if (checkViewerPlugins) {
-          // No archive plugins found, or none opened the file successfully.
-          // So, try to open with the viewers
+      if (!path.getAbsolutePath().equals(journal.getProperty("Path")) || !getJournalSettings().equals(journal.getProperty("Settings"))) {
+        return 0; // the journal is for a different analysis
+      }
 
-          plugins = PluginFinder.findPlugins(archiveFile, ViewerPlugin.class);
+      int nextItem = Integer.parseInt(journal.getProperty("NextItem"));
+      long reportLength = Long.parseLong(journal.getProperty("ReportLength"));
+      if (nextItem <= 0 || reportLength <= 0 || reportLength > reportFile.length()) {
+        return 0;
+      }
 
-          if (plugins != null && plugins.length > 0) {
-            Arrays.sort(plugins);
+      // remove anything that was written after the journal was saved, as it will be written again
+      fm.setLength(reportLength);
+      fm.seek(reportLength);
 
-            // try to open the preview using each plugin and previewFile(File,Plugin)
-            for (int p = 0; p < plugins.length; p++) {
-              ViewerPlugin viewerPlugin = (ViewerPlugin) plugins[p].getPlugin();
+      writer.setFoundMultipleArchives(Boolean.parseBoolean(journal.getProperty("FoundMultipleArchives")));
+      writer.setFoundMultipleViewers(Boolean.parseBoolean(journal.getProperty("FoundMultipleViewers")));
 
-              PreviewPanel panel = viewerPlugin.read(archiveFile);
-              if (panel == null) {
-                continue;
-              }
+      return nextItem;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      return 0;
+    }
+  }
 
-              // Successfully opened the file using a viewer
-              foundPlugin = true;
+  /**
+  **********************************************************************************************
+  Whether the analysis of an archive needs to use the shared exporters or converters, which keep
+  state between files, so only one worker can use them at a time
+  **********************************************************************************************
+  **/
+  boolean needsSharedPlugins(Task_ExportFiles task, Resource[] resources) {
+    if (converterPlugins != null && converterPlugins.length > 0) {
+      return true;
+    }
 
-              // Add it to the plugin list
-              addToGroup(new Resource(archiveFile), viewerPlugin, groups, unknownGroup);
+    int numResources = resources.length;
+    for (int i = 0; i < numResources; i++) {
+      if (!task.canExportInParallel(resources[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
 
-              break;
-            }
-          }
+  /**
+  **********************************************************************************************
+  Creates a new instance of the <i>sharedPlugin</i>, for one worker to use by itself. Returns the
+  <i>sharedPlugin</i> if a new instance can't be created.
+  **********************************************************************************************
+  **/
+  ArchivePlugin newPluginInstance(ArchivePlugin sharedPlugin) {
+    try {
+      ArchivePlugin workerPlugin = sharedPlugin.getClass().newInstance();
+      workerPlugin.setType(sharedPlugin.getType());
+      return workerPlugin;
+    }
+    catch (Throwable t) {
+      return sharedPlugin;
+    }
+  }
 
-        }
+  /**
+  **********************************************************************************************
+  Gives the next number to the <i>item</i>, then passes it to the workers to analyse. Items that
+  were written before the analysis was interrupted are skipped, but still take up their number.
+  **********************************************************************************************
+  **/
+  void queueItem(final AnalysisItem item, ExecutorService workers, Semaphore queueSlots, int firstItem) throws InterruptedException {
+    synchronized (finishedItems) {
+      item.number = numItems;
+      numItems++;
+      if (!item.directoryEnd) {
+        numFilesFound++;
       }
     }
 
-    // Now that we've written out the archives, we can write out the Viewers that were found
-    if (checkViewerPlugins) {
-      boolean foundTheEnd = false;
-      for (int g = 0; g < maxViewers; g++) {
-        if (foundTheEnd) {
-          break;
-        }
+    if (item.number < firstItem) {
+      return;
+    }
 
-        AnalysisViewerGroup group = groups[g];
+    queueSlots.acquire();
 
-        if (group == null) {
-          foundTheEnd = true;
-          // process the Unknown Group at the very end
-          group = unknownGroup;
+    if (item.directoryEnd) {
+      finishItem(item);
+      return;
+    }
+
+    workers.execute(new Runnable() {
+
+      @Override
+      public void run() {
+        try {
+          analyzeFile(item);
+        }
+        catch (Throwable t) {
+          ErrorLogger.log(t);
+        }
+        finally {
+          finishItem(item);
         }
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Records how far the report has been written, so the analysis can carry on from here if it is
+  interrupted
+  **********************************************************************************************
+  **/
+  void saveJournal(File journalFile, AnalysisReportWriter writer, int nextItem) {
+    FileManipulator fm = writer.getFileManipulator();
+    fm.forceWrite(); // so the report on disk is as long as the journal says
+
+    Properties journal = new Properties();
+    journal.setProperty("Path", path.getAbsolutePath());
+    journal.setProperty("Settings", getJournalSettings());
+    journal.setProperty("NextItem", "" + nextItem);
+    journal.setProperty("ReportLength", "" + fm.getOffset());
+    journal.setProperty("FoundMultipleArchives", "" + writer.isFoundMultipleArchives());
+    journal.setProperty("FoundMultipleViewers", "" + writer.isFoundMultipleViewers());
+
+    try {
+      FileOutputStream output = new FileOutputStream(journalFile);
+      try {
+        journal.store(output, null);
+      }
+      finally {
+        output.close();
+      }
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+    }
+  }
 
-        ViewerPlugin viewerPlugin = group.getPlugin();
-        Resource[] resources = group.getResources();
+  /**
+  **********************************************************************************************
+  Walks the <i>directory</i>, queueing each file to be analysed, then an item for the end of the
+  directory (where the viewers for the files are written), then the sub-directories. The files
+  are sorted by name, so the items get the same numbers when an analysis is resumed.
+  **********************************************************************************************
+  **/
+  void walkDirectory(File directory, ExecutorService workers, Semaphore queueSlots, int firstItem) throws InterruptedException {
+    // Get all the files in this directory
+    File[] sourceFiles = directory.listFiles();
+    if (sourceFiles == null) {
+      sourceFiles = new File[0];
+    }
+    Arrays.sort(sourceFiles);
 
-        // Write the viewer Header details
-        writeViewerHeader(fm, directory, null, viewerPlugin, resources);
+    int numSourceFiles = sourceFiles.length;
 
-        // Write out the resources for this viewer
-        writeResources(fm, directory, null, viewerPlugin, resources);
+    // process the files, then process the sub-directories
+    File[] directories = new File[numSourceFiles];
+    int numDirectories = 0;
 
-        // Write the viewer Footer details
-        writeViewerFooter(fm, directory, null, viewerPlugin, resources);
+    for (int i = 0; i < numSourceFiles; i++) {
+      File file = sourceFiles[i];
+      if (file.isDirectory()) {
+        directories[numDirectories] = file;
+        numDirectories++;
+      }
+      else {
+        queueItem(new AnalysisItem(file, false), workers, queueSlots, firstItem);
       }
     }
 
-    // Now process the sub-directories 
+    queueItem(new AnalysisItem(directory, true), workers, queueSlots, firstItem);
+
+    // Now process the sub-directories
     if (processSubDirectories) {
       for (int i = 0; i < numDirectories; i++) {
-        File subDirectory = directories[i];
-        processDirectory(fm, subDirectory);
+        walkDirectory(directories[i], workers, queueSlots, firstItem);
       }
     }
-
   }
-
   /**
   **********************************************************************************************
   
@@ -999,11 +1131,14 @@ public class Task_AnalyzeDirectory extends AbstractTask {
 
   /**
    **********************************************************************************************
-   
+   Finds a viewer for each of the <i>resources</i> in the archive, and groups them by viewer into
+   the <i>item</i>. Files that need to be exported first are exported with the <i>task</i>. The
+   viewers are shared by all the workers, so each viewer call waits for the viewers that aren't
+   thread-safe (see ViewerPlugin.lockReading(viewer)), but the exports don't.
    **********************************************************************************************
    **/
-  public void analyzeArchiveContents(FileManipulator fm, File archiveFile, ArchivePlugin archivePlugin, Resource[] resources) {
-    //System.out.println("Analyzing archive file " + archiveFile.getAbsolutePath() + " using plugin " + plugin);
+  void analyzeArchiveContents(AnalysisItem item, Task_ExportFiles task, Resource[] resources) {
+    ArchivePlugin archivePlugin = item.archivePlugin;
 
     int maxViewers = WSPluginManager.getGroup("Viewer").getPluginCount();
     AnalysisViewerGroup[] groups = new AnalysisViewerGroup[maxViewers];
@@ -1011,27 +1146,17 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     // A special group to record all the other files that don't have a Viewer for them
     AnalysisViewerGroup unknownGroup = new AnalysisViewerGroup(null);
 
+    item.groups = groups;
+    item.unknownGroup = unknownGroup;
+
     // Now analyze each file
     int numFiles = resources.length;
 
-    TaskProgressManager.show(1, 0, Language.get("Progress_AnalyzingDirectory"));
-    TaskProgressManager.setMaximum(numFiles);
-
-    WSStatusBar statusBar = (WSStatusBar) ComponentRepository.get("StatusBar");
-    String archiveName = archiveFile.getName();
-
     for (int i = 0; i < numFiles; i++) {
-      TaskProgressManager.setValue(i);
-
       Resource resource = resources[i];
       //System.out.println(resource.getName());
 
-      SingletonManager.set("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
-
-      // Set statusbar message
-      if (statusBar != null) {
-        statusBar.setText("Analyzing resource " + (i + 1) + " of " + numFiles + " in archive " + archiveName);
-      }
+      SingletonManager.setForThread("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
 
       boolean foundPlugin = false;
 
@@ -1086,7 +1211,14 @@ public class Task_AnalyzeDirectory extends AbstractTask {
           //
           // Try as an Image first...
           //      
-          ImageResource imageResource = viewerPlugin.readThumbnail(exportFM);
+          ImageResource imageResource = null;
+          ViewerPlugin.lockReading(viewerPlugin);
+          try {
+            imageResource = viewerPlugin.readThumbnail(exportFM);
+          }
+          finally {
+            ViewerPlugin.unlockReading(viewerPlugin);
+          }
 
           if (imageResource != null) {
             foundPlugin = true;
@@ -1110,21 +1242,18 @@ public class Task_AnalyzeDirectory extends AbstractTask {
           // This relies on the file being exported first
           exportedPath = resource.getExportedPath();
           if (exportedPath == null) {
-            // extract each archive to a separate folder in the extract directory
-            File specificExtractDirectory = new File(extractDirectory.getAbsolutePath() + File.separatorChar + archiveFile.getName());
-            Task_ExportFiles task = new Task_ExportFiles(specificExtractDirectory, resources);
-
-            if (converterPlugins != null) {
-              task.setConverterPlugins(converterPlugins);
-            }
-
-            task.setShowPopups(false);
-            TaskProgressManager.setTaskRunning(false); // otherwise the Export doesn't run
             task.redo();
           }
           exportedPath = resource.getExportedPath();
 
-          PreviewPanel panel = viewerPlugin.read(exportedPath);
+          PreviewPanel panel = null;
+          ViewerPlugin.lockReading(viewerPlugin);
+          try {
+            panel = viewerPlugin.read(exportedPath);
+          }
+          finally {
+            ViewerPlugin.unlockReading(viewerPlugin);
+          }
 
           if (panel != null) {
             panel.onCloseRequest(); // to stop Audio playing, etc.
@@ -1145,7 +1274,14 @@ public class Task_AnalyzeDirectory extends AbstractTask {
         // try to use a viewer hint from the ArchivePlugin
         ViewerPlugin viewerPlugin = archivePlugin.previewHint(resource);
         if (viewerPlugin != null) {
-          PreviewPanel panel = viewerPlugin.read(exportFM);
+          PreviewPanel panel = null;
+          ViewerPlugin.lockReading(viewerPlugin);
+          try {
+            panel = viewerPlugin.read(exportFM);
+          }
+          finally {
+            ViewerPlugin.unlockReading(viewerPlugin);
+          }
 
           if (panel != null) {
             foundPlugin = true;
@@ -1168,34 +1304,6 @@ public class Task_AnalyzeDirectory extends AbstractTask {
 
     }
 
-    // Now go through and write out the Resources and their Viewers
-    boolean foundTheEnd = false;
-    for (int g = 0; g < maxViewers; g++) {
-      if (foundTheEnd) {
-        break;
-      }
-
-      AnalysisViewerGroup group = groups[g];
-
-      if (group == null) {
-        foundTheEnd = true;
-        // process the Unknown Group at the very end
-        group = unknownGroup;
-      }
-
-      ViewerPlugin viewerPlugin = group.getPlugin();
-      resources = group.getResources();
-
-      // Write the viewer Header details
-      writeViewerHeader(fm, archiveFile, archivePlugin, viewerPlugin, resources);
-
-      // Write out the resources for this viewer
-      writeResources(fm, archiveFile, archivePlugin, viewerPlugin, resources);
-
-      // Write the viewer Footer details
-      writeViewerFooter(fm, archiveFile, archivePlugin, viewerPlugin, resources);
-    }
-
   }
 
   /**
@@ -1214,18 +1322,25 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     // A special group to record all the other files that don't have a Viewer for them
     AnalysisPluginGroup unknownGroup = new AnalysisPluginGroup(null);
 
-    Archive.makeNewArchive();
+    context.makeNewArchive();
 
     // Open the archive
-    Resource[] resources = plugin.read(archiveFile);
+    Resource[] resources = null;
+    boolean mappingAllowed = FileManipulator.setMappingAllowed(true);
+    try {
+      resources = plugin.read(archiveFile);
+    }
+    finally {
+      FileManipulator.setMappingAllowed(mappingAllowed);
+    }
 
     if (resources == null || resources.length <= 0) {
       return;
     }
 
-    Archive.setResources(resources);
-    Archive.setReadPlugin(plugin);
-    Archive.setBasePath(archiveFile);
+    context.setResources(resources);
+    context.setReadPlugin(plugin);
+    context.setBasePath(archiveFile);
 
     // Now analyze each file
     int numFiles = resources.length;
@@ -1643,4 +1758,36 @@ public class Task_AnalyzeDirectory extends AbstractTask {
     }
   }
 
+  /**
+  **********************************************************************************************
+  One file or directory in the analysis, and what was found when it was analysed. Items are
+  numbered in the order the directory tree is walked, which is the order they're written to the
+  report, so an interrupted analysis can carry on from the first item that wasn't written.
+  **********************************************************************************************
+  **/
+  static class AnalysisItem {
+
+    int number = 0;
+
+    File file;
+
+    /** true if this marks the end of the files in the directory <i>file</i> **/
+    boolean directoryEnd = false;
+
+    /** the plugin that opened the file as an archive, and the viewers for the files in it **/
+    ArchivePlugin archivePlugin = null;
+
+    AnalysisViewerGroup[] groups = null;
+
+    AnalysisViewerGroup unknownGroup = null;
+
+    /** the viewer that opened the file, if it isn't an archive **/
+    ViewerPlugin viewerPlugin = null;
+
+    AnalysisItem(File file, boolean directoryEnd) {
+      this.file = file;
+      this.directoryEnd = directoryEnd;
+    }
+  }
+
 }
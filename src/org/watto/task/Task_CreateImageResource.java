@@ -21,6 +21,7 @@ import org.watto.SingletonManager;
 import org.watto.datatype.BlankImageResource;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ThumbnailCache;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
@@ -75,58 +76,100 @@ public class Task_CreateImageResource extends AbstractTask {
     resource.extract(fm);
     */
 
-    SingletonManager.set("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
-
-    // Create a buffer that reads from the exporter
-    ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
-    FileManipulator fm = new FileManipulator(byteBuffer);
-    // Need to set a fake file, so that the ViewerPlugins can get the extension when running getMatchRating()
-    fm.setFakeFile(new File(resource.getName()));
-
-    // now find a previewer for the file
-    // preview the first selected file
-    RatedPlugin[] plugins = PluginFinder.findPlugins(fm, ViewerPlugin.class); // NOTE: This closes the fm pointer!!!
-    if (plugins == null || plugins.length == 0) {
-      // no viewer plugins found that will accept this file
+    // if the thumbnail was generated before, use that
+    ImageResource cachedImage = ThumbnailCache.get(resource);
+    if (cachedImage == ThumbnailCache.NO_THUMBNAIL) {
       resource.setImageResource(new BlankImageResource(resource));
       return;
     }
+    else if (cachedImage != null) {
+      resource.setImageResource(cachedImage);
+      return;
+    }
 
-    Arrays.sort(plugins);
-
-    // re-open the file - it was closed at the end of findPlugins();
-    byteBuffer = new ExporterByteBuffer(resource);
-    fm.open(byteBuffer);
-
-    // try to open the preview using each plugin and previewFile(File,Plugin)
-    for (int i = 0; i < plugins.length; i++) {
-      fm.seek(0); // go back to the start of the file
-      ImageResource imageResource = ((ViewerPlugin) plugins[i].getPlugin()).readThumbnail(fm);
-
-      if (imageResource != null) {
-        // If the image is animated, remove the animations to clean up those memory areas.
-        // We don't really want to consider animated thumbnail images, do we!?
-        imageResource.setNextFrame(null);
-
-        // if we don't want to retain the original image data after thumbnail generate, trigger a thumbnail generation now so
-        // that we can clean up the memory instantly rather than after the whole archive is loaded.
-        //if (Settings.getBoolean("RemoveImageAfterThumbnailGeneration")) {
-        imageResource.shrinkToThumbnail();
-        //}
-
-        // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
-        resource.setImageResource(imageResource);
+    // so it can be detected by ViewerPlugins for Thumbnail Generation. This is only seen by this thread,
+    // so that several thumbnails can be generated at the same time.
+    SingletonManager.setForThread("CurrentResource", resource);
+    try {
+      readThumbnail();
+    }
+    finally {
+      SingletonManager.removeForThread("CurrentResource");
+    }
+  }
 
-        fm.close();
+  /**
+  **********************************************************************************************
+  Finds a viewer for the Resource and generates the thumbnail with it. Viewers that aren't
+  thread-safe are only used while holding ViewerPlugin.lockReading(viewer).
+  **********************************************************************************************
+  **/
+  void readThumbnail() {
 
+    // Create a buffer that reads from the exporter
+    ExporterByteBuffer byteBuffer = new ExporterByteBuffer(resource);
+    FileManipulator fm = new FileManipulator(byteBuffer);
+    try {
+      // Need to set a fake file, so that the ViewerPlugins can get the extension when running getMatchRating()
+      fm.setFakeFile(new File(resource.getName()));
+
+      // now find a previewer for the file
+      // preview the first selected file
+      RatedPlugin[] plugins = PluginFinder.findPlugins(fm, ViewerPlugin.class); // NOTE: This closes the fm pointer!!!
+      if (plugins == null || plugins.length == 0) {
+        // no viewer plugins found that will accept this file
+        resource.setImageResource(new BlankImageResource(resource));
+        ThumbnailCache.put(resource, null);
         return;
       }
 
-    }
+      Arrays.sort(plugins);
+
+      // re-open the file - it was closed at the end of findPlugins();
+      byteBuffer = new ExporterByteBuffer(resource);
+      fm.open(byteBuffer);
+
+      // try to open the preview using each plugin and previewFile(File,Plugin)
+      for (int i = 0; i < plugins.length; i++) {
+        fm.seek(0); // go back to the start of the file
+
+        // viewers that aren't thread-safe wait for each other here
+        ViewerPlugin viewer = (ViewerPlugin) plugins[i].getPlugin();
+        ImageResource imageResource;
+        ViewerPlugin.lockReading(viewer);
+        try {
+          imageResource = viewer.readThumbnail(fm);
+        }
+        finally {
+          ViewerPlugin.unlockReading(viewer);
+        }
+
+        if (imageResource != null) {
+          // If the image is animated, remove the animations to clean up those memory areas.
+          // We don't really want to consider animated thumbnail images, do we!?
+          imageResource.setNextFrame(null);
+
+          // if we don't want to retain the original image data after thumbnail generate, trigger a thumbnail generation now so
+          // that we can clean up the memory instantly rather than after the whole archive is loaded.
+          //if (Settings.getBoolean("RemoveImageAfterThumbnailGeneration")) {
+          imageResource.shrinkToThumbnail();
+          //}
+
+          // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
+          resource.setImageResource(imageResource);
+          ThumbnailCache.put(resource, imageResource);
+
+          return;
+        }
 
-    fm.close();
+      }
+    }
+    finally {
+      fm.close();
+    }
 
-    // no plugins were able to open this file successfully
+    // no plugins were able to open this file successfully. This isn't stored in the cache, as the
+    // viewers might be able to read it next time (eg if the file couldn't be read this time)
     resource.setImageResource(new BlankImageResource(resource));
     return;
   }
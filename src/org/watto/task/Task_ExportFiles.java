@@ -16,6 +16,12 @@ package org.watto.task;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.SingletonManager;
@@ -25,6 +31,8 @@ import org.watto.component.PreviewPanel;
 import org.watto.component.PreviewPanel_Image;
 import org.watto.component.WSDirectoryListHolder;
 import org.watto.component.WSPopup;
+import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
 import org.watto.ge.helper.ShellFolderFile;
@@ -62,9 +70,19 @@ public class Task_ExportFiles extends AbstractTask {
   // so we can stop "file being exported" progress popup from appearing when doing a preview
   boolean showProgressPopups = true;
 
+  // is this called from within an existing task thread?
+  // if so, don't check or stop the running task, and leave the directory list alone
+  boolean withinThread = false;
+
   /** the status of the extraction (some/all/none) **/
   int status = 0;
 
+  /** the number of files that have been exported so far, so other threads can watch the progress **/
+  AtomicInteger numFilesExported = new AtomicInteger(0);
+
+  /** The archive that the resources belong to, bound to each thread that exports them **/
+  ArchiveContext context = Archive.getContext();
+
   public static int EXTRACTED_UNKNOWN = 0;
 
   public static int EXTRACTED_ALL = 1;
@@ -93,14 +111,114 @@ public class Task_ExportFiles extends AbstractTask {
     showPopups = true;
   }
 
+  /**
+  **********************************************************************************************
+  Whether the <i>resource</i> can be exported on a worker thread, which needs an exporter that
+  can run several sessions at once. For Unreal Engine 4 files, the related resources need to
+  support this as well, as they're exported by the same thread.
+  **********************************************************************************************
+  **/
+  public boolean canExportInParallel(Resource resource) {
+    ExporterPlugin exporter = resource.getExporter();
+    if (exporter == null || !exporter.canOpenParallelSessions()) {
+      return false;
+    }
+
+    if (resource instanceof Resource_PAK_38) {
+      Resource[] relatedResources = ((Resource_PAK_38) resource).getRelatedResources();
+      if (relatedResources != null) {
+        int numRelatedResources = relatedResources.length;
+        for (int r = 0; r < numRelatedResources; r++) {
+          ExporterPlugin relatedExporter = relatedResources[r].getExporter();
+          if (relatedExporter == null || !relatedExporter.canOpenParallelSessions()) {
+            return false;
+          }
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+  **********************************************************************************************
+  Exports the <i>parallelResources</i> using the shared worker threads, where each Resource is
+  exported in its own exporter session, to the file already chosen for it in <i>destinations</i>.
+  Each thread takes the next Resource from the list when it finishes the previous one, and this
+  thread waits for them all to finish, updating the progress bar as it goes.
+  **********************************************************************************************
+  **/
+  void exportInParallel(final Resource[] parallelResources, final File[] destinations, final File[][] relatedDestinations, final int numParallelResources, int numAlreadyExported) {
+    final AtomicInteger nextResource = new AtomicInteger(0);
+    final AtomicInteger numExported = new AtomicInteger(0);
+
+    int numThreads = Math.min(TaskThreadPool.getThreadCount(), numParallelResources);
+    final CountDownLatch finished = new CountDownLatch(numThreads);
+
+    ForkJoinPool pool = TaskThreadPool.getForkJoinPool();
+    for (int t = 0; t < numThreads; t++) {
+      pool.execute(new Runnable() {
+
+        @Override
+        public void run() {
+          ArchiveContext previousContext = context.bind();
+          int r = nextResource.getAndIncrement();
+          while (r < numParallelResources) {
+            try {
+              Resource resource = parallelResources[r];
+              resource.extractToFile(destinations[r]);
+
+              File[] related = relatedDestinations[r];
+              if (related != null) {
+                // For Unreal Engine 4 files, also unpack the releated resources (the uexp, ubulk, ... files)
+                Resource[] relatedResources = ((Resource_PAK_38) resource).getRelatedResources();
+                for (int i = 0; i < related.length; i++) {
+                  relatedResources[i].extractToFile(related[i]);
+                }
+              }
+            }
+            catch (Throwable t) {
+              ErrorLogger.log(t);
+            }
+
+            numExported.incrementAndGet();
+            numFilesExported.incrementAndGet();
+            r = nextResource.getAndIncrement();
+          }
+          ArchiveContext.unbind(previousContext);
+          finished.countDown();
+        }
+      });
+    }
+
+    while (finished.getCount() > 0) {
+      try {
+        finished.await(250, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException e) {
+        // keep waiting - the workers are still writing files
+      }
+      TaskProgressManager.setValue(numAlreadyExported + numExported.get(), 1); // update the value of the second progress bar
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of files that have been exported so far. Can be called from another thread
+  while the export is running.
+  **********************************************************************************************
+  **/
+  public int getNumExported() {
+    return numFilesExported.get();
+  }
+
   /**
   **********************************************************************************************
   
   **********************************************************************************************
   **/
-  @Override
-  public void redo() {
-    if (!TaskProgressManager.canDoTask()) {
+  void exportFiles() {
+    if (!withinThread && !TaskProgressManager.canDoTask()) {
       return;
     }
 
@@ -189,6 +307,25 @@ public class Task_ExportFiles extends AbstractTask {
       exportForPreview = TemporarySettings.getBoolean("ExportForPreview");
     }
 
+    // Resources whose exporters can run on several threads at once are collected here, and exported
+    // together after this loop. Everything else is exported one at a time, as it always has been.
+    // The output filenames are all chosen first, in the order of the resources, so files with the
+    // same name get the same suffixes as they would if everything was exported one at a time.
+    boolean parallelExport = numResources > 1 && !exportForPreview && Settings.getBoolean("ParallelExport") && TaskThreadPool.getThreadCount() > 1;
+    Resource[] parallelResources = null;
+    File[] parallelDestinations = null;
+    File[][] parallelRelatedDestinations = null;
+    int numParallelResources = 0;
+    HashSet<File> reserved = null;
+    HashSet<File> builtDirectories = null;
+    if (parallelExport) {
+      parallelResources = new Resource[numResources];
+      parallelDestinations = new File[numResources];
+      parallelRelatedDestinations = new File[numResources][];
+      reserved = new HashSet<File>();
+      builtDirectories = new HashSet<File>();
+    }
+
     for (int i = 0; i < numResources; i++) {
       Resource resource = resources[i];
       ExporterPlugin exporter = resource.getExporter();
@@ -196,49 +333,93 @@ public class Task_ExportFiles extends AbstractTask {
         // add it to the Bulk list
         bulkResources[numBulkResources] = resource;
         numBulkResources++;
+        continue;
+      }
+
+      if (parallelExport) {
+        File destination = reserveDestination(resource, reserved, builtDirectories);
+
+        // For Unreal Engine 4 files, also reserve the releated resources (the uexp, ubulk, ... files)
+        File[] relatedDestinations = null;
+        if (resource instanceof Resource_PAK_38) {
+          Resource[] relatedResources = ((Resource_PAK_38) resource).getRelatedResources();
+          if (relatedResources != null) {
+            int numRelatedResources = relatedResources.length;
+            relatedDestinations = new File[numRelatedResources];
+            for (int r = 0; r < numRelatedResources; r++) {
+              relatedDestinations[r] = reserveDestination(relatedResources[r], reserved, builtDirectories);
+            }
+          }
+        }
+
+        if (canExportInParallel(resource)) {
+          // export it later, with the other parallel resources
+          parallelResources[numParallelResources] = resource;
+          parallelDestinations[numParallelResources] = destination;
+          parallelRelatedDestinations[numParallelResources] = relatedDestinations;
+          numParallelResources++;
+        }
+        else {
+          resource.extractToFile(destination);
+          numFilesExported.incrementAndGet();
+          TaskProgressManager.setValue(i, 1); // update the value of the second progress bar
+
+          if (relatedDestinations != null) {
+            Resource[] relatedResources = ((Resource_PAK_38) resource).getRelatedResources();
+            for (int r = 0; r < relatedDestinations.length; r++) {
+              relatedResources[r].extractToFile(relatedDestinations[r]);
+            }
+          }
+        }
       }
       else {
         // extract it normally
         Resource resourceToExtract = resources[i];
         resourceToExtract.extract(directory);
+        numFilesExported.incrementAndGet();
         TaskProgressManager.setValue(i, 1); // update the value of the second progress bar
 
         if (resourceToExtract instanceof Resource_PAK_38 && !exportForPreview) { // !exportForPreview, because preview exports are loaded into buffer, not to file
           // For Unreal Engine 4 files, also unpack the releated resources (the uexp, ubulk, ... files)
-          Resource_PAK_38 resource38 = (Resource_PAK_38) resourceToExtract;
-
-          Resource[] relatedResources = resource38.getRelatedResources();
+          Resource[] relatedResources = ((Resource_PAK_38) resourceToExtract).getRelatedResources();
           if (relatedResources != null) {
             int numRelatedResources = relatedResources.length;
             for (int r = 0; r < numRelatedResources; r++) {
               relatedResources[r].extract(directory);
             }
           }
+        }
+      }
 
-          // Also add a converter for SoundWave files, so they get exported to OGG files
-          try {
-            if (resource38.getExtension().equalsIgnoreCase("SoundWave")) {
-
-              if (converterPlugins == null || converterPlugins.length == 0) {
-                converterPlugins = new ViewerPlugin[] { new Viewer_OGG_OGG() };
-              }
-              else {
-                int addPoint = converterPlugins.length;
-                ViewerPlugin[] oldPlugins = converterPlugins;
-                converterPlugins = new ViewerPlugin[addPoint + 1];
-                System.arraycopy(oldPlugins, 0, converterPlugins, 0, addPoint);
-                converterPlugins[addPoint] = new Viewer_OGG_OGG();
-              }
+      if (resource instanceof Resource_PAK_38 && !exportForPreview) {
+        // Also add a converter for SoundWave files, so they get exported to OGG files
+        try {
+          if (resource.getExtension().equalsIgnoreCase("SoundWave")) {
 
+            if (converterPlugins == null || converterPlugins.length == 0) {
+              converterPlugins = new ViewerPlugin[] { new Viewer_OGG_OGG() };
             }
-          }
-          catch (Throwable t) {
-            // Will occur for the Basic version (as the Viewer doesn't exist)
+            else {
+              int addPoint = converterPlugins.length;
+              ViewerPlugin[] oldPlugins = converterPlugins;
+              converterPlugins = new ViewerPlugin[addPoint + 1];
+              System.arraycopy(oldPlugins, 0, converterPlugins, 0, addPoint);
+              converterPlugins[addPoint] = new Viewer_OGG_OGG();
+            }
+
           }
         }
-
+        catch (Throwable t) {
+          // Will occur for the Basic version (as the Viewer doesn't exist)
+        }
       }
     }
+
+    // Now export all the parallel resources
+    if (numParallelResources > 0) {
+      exportInParallel(parallelResources, parallelDestinations, parallelRelatedDestinations, numParallelResources, numResources - numParallelResources - numBulkResources);
+    }
+
     // Now run the bulk extract
     if (numBulkResources > 0) {
       if (numBulkResources != numResources) {
@@ -301,7 +482,14 @@ public class Task_ExportFiles extends AbstractTask {
 
             // 3.15 added the TemporarySettings so that when doing Conversions during an Extract, it doesn't call createInterface, which was retaining memory
             TemporarySettings.set("ExportForConversionOnly", true);
-            PreviewPanel previewPanel = previewPlugin.read(path);
+            PreviewPanel previewPanel = null;
+            ViewerPlugin.lockReading(previewPlugin); // thumbnails could be generated by the viewers on other threads
+            try {
+              previewPanel = previewPlugin.read(path);
+            }
+            finally {
+              ViewerPlugin.unlockReading(previewPlugin);
+            }
             TemporarySettings.set("ExportForConversionOnly", false);
 
             if (previewPanel != null) {
@@ -402,10 +590,12 @@ public class Task_ExportFiles extends AbstractTask {
       Settings.set("PlayAudioOnLoad", playAudioOnLoad);
     }
 
-    TaskProgressManager.stopTask();
+    if (!withinThread) {
+      TaskProgressManager.stopTask();
 
-    // Reload the DirectoryList if it's changed
-    ((WSDirectoryListHolder) ComponentRepository.get("SidePanel_DirectoryList_DirectoryListHolder")).reload();
+      // Reload the DirectoryList if it's changed
+      ((WSDirectoryListHolder) ComponentRepository.get("SidePanel_DirectoryList_DirectoryListHolder")).reload();
+    }
 
     if (showPopups) {
       if (isShowPopups()) {
@@ -423,6 +613,50 @@ public class Task_ExportFiles extends AbstractTask {
 
   }
 
+  /**
+  **********************************************************************************************
+  Chooses the file in the export directory that the <i>resource</i> will be exported to, and
+  adds it to the <i>reserved</i> files, so that a later resource with the same name will choose a
+  different name. Nothing is written to the file yet.
+  **********************************************************************************************
+  **/
+  File reserveDestination(Resource resource, HashSet<File> reserved, HashSet<File> builtDirectories) {
+    File destination = resource.getExtractDestination(directory, reserved);
+
+    File parent = destination.getParentFile();
+    if (parent != null && builtDirectories.add(parent)) {
+      DirectoryBuilder.buildDirectory(parent, true);
+    }
+
+    return destination;
+  }
+
+  /**
+  **********************************************************************************************
+  Exports the files with the <i>context</i> bound to this thread, so the exporters and
+  converters see the archive that the resources came from
+  **********************************************************************************************
+  **/
+  @Override
+  public void redo() {
+    ArchiveContext previousContext = context.bind();
+    try {
+      exportFiles();
+    }
+    finally {
+      ArchiveContext.unbind(previousContext);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the archive that the resources belong to, if it isn't the archive for the current thread
+  **********************************************************************************************
+  **/
+  public void setContext(ArchiveContext context) {
+    this.context = context;
+  }
+
   /**
   **********************************************************************************************
   
@@ -451,6 +685,16 @@ public class Task_ExportFiles extends AbstractTask {
     this.showProgressPopups = showProgressPopups;
   }
 
+  /**
+  **********************************************************************************************
+  Whether this export is run by another task on its own thread, such as the directory analysis.
+  If so, the export runs even though the other task is running, and doesn't stop it at the end.
+  **********************************************************************************************
+  **/
+  public void setWithinThread(boolean withinThread) {
+    this.withinThread = withinThread;
+  }
+
   /**
   **********************************************************************************************
   
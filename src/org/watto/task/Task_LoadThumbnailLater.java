@@ -23,6 +23,7 @@ import org.watto.SingletonManager;
 import org.watto.component.WSTable;
 import org.watto.datatype.ImageResource;
 import org.watto.datatype.Resource;
+import org.watto.ge.helper.ThumbnailCache;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
 import org.watto.ge.plugin.ViewerPlugin;
@@ -34,9 +35,9 @@ import org.watto.io.buffer.ExporterByteBuffer;
 **********************************************************************************************
 When given a Resource, will extract the file to a BufferArrayManipulator using an ExtractPlugin,
 then use a ViewerPlugin to generate the ImageResource (if it's an image file). This task should
-be added to the end of the Swing Event Dispatch Thread via SwingUtilities.invokeLater() so that
-*after* the whole table is drawn, it will start loading the thumbnails that were requested and
-will update the table thumbnails accordingly.
+be added to a ThumbnailScheduler, or to the end of the Swing Event Dispatch Thread via
+SwingUtilities.invokeLater(), so that *after* the whole table is drawn, it will start loading the
+thumbnails that were requested and will update the table thumbnails accordingly.
 **********************************************************************************************
 **/
 public class Task_LoadThumbnailLater extends AbstractTask {
@@ -58,6 +59,9 @@ public class Task_LoadThumbnailLater extends AbstractTask {
   /** The column that this table cell belongs to **/
   int tableCellColumn = -1;
 
+  /** the scheduler that is running this task, if it isn't being run on the Event Dispatch Thread **/
+  ThumbnailScheduler scheduler = null;
+
   /**
   **********************************************************************************************
   
@@ -76,14 +80,60 @@ public class Task_LoadThumbnailLater extends AbstractTask {
   
   **********************************************************************************************
   **/
-  @Override
-  public void redo() {
+  public int getColumn() {
+    return tableCellColumn;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public Resource getResource() {
+    return resource;
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public int getRow() {
+    return tableCellRow;
+  }
+
+  /**
+  **********************************************************************************************
+  Generates the thumbnail for the Resource, and repaints the table cell if one was generated
+  **********************************************************************************************
+  **/
+  void loadThumbnail() {
 
     if (resource.getLength() <= 0) {
       return; // can't view an empty file
     }
 
-    SingletonManager.set("CurrentResource", resource); // so it can be detected by ViewerPlugins for Thumbnail Generation
+    // if the thumbnail was generated before, use that
+    ImageResource cachedImage = ThumbnailCache.get(resource);
+    if (cachedImage == ThumbnailCache.NO_THUMBNAIL) {
+      return; // not an image - leave the BlankResource here
+    }
+    else if (cachedImage != null) {
+      resource.setImageResource(cachedImage);
+      repaintCell();
+      return;
+    }
+
+    readThumbnail();
+  }
+
+  /**
+  **********************************************************************************************
+  Finds a viewer for the Resource and generates the thumbnail with it. Viewers that aren't
+  thread-safe are only used while holding ViewerPlugin.lockReading(viewer).
+  **********************************************************************************************
+  **/
+  void readThumbnail() {
 
     //if (resource.getName().equals("Unnamed File 000960")) {
     //  System.out.println("TASK_LOADTHUMBNAILLATER_BREAKPOINT");
@@ -142,6 +192,7 @@ public class Task_LoadThumbnailLater extends AbstractTask {
     if (plugins == null || plugins.length == 0) {
       // no viewer plugins found that will accept this file
       // leave the BlankResource here
+      ThumbnailCache.put(resource, null);
       return;
     }
 
@@ -162,7 +213,17 @@ public class Task_LoadThumbnailLater extends AbstractTask {
     for (int i = 0; i < plugins.length; i++) {
 
       fm.seek(0); // go back to the start of the file
-      ImageResource imageResource = ((ViewerPlugin) plugins[i].getPlugin()).readThumbnail(fm);
+
+      // viewers that aren't thread-safe wait for each other here
+      ViewerPlugin viewer = (ViewerPlugin) plugins[i].getPlugin();
+      ImageResource imageResource;
+      ViewerPlugin.lockReading(viewer);
+      try {
+        imageResource = viewer.readThumbnail(fm);
+      }
+      finally {
+        ViewerPlugin.unlockReading(viewer);
+      }
 
       if (imageResource != null) {
         // If the image is animated, remove the animations to clean up those memory areas.
@@ -177,18 +238,12 @@ public class Task_LoadThumbnailLater extends AbstractTask {
 
         // a plugin opened the file successfully, so if it's an Image, generate and set an ImageResource for it.
         resource.setImageResource(imageResource);
+        ThumbnailCache.put(resource, imageResource);
 
         fm.close();
 
         // Now that we have the thumbnail, change the value in the table
-        if (tableModelToUpdate != null) {
-          // paint the cell immediately (as part of this call in the Swing Event Dispatch Thread)
-          Rectangle cellRect = tableToUpdate.getCellRect(tableCellRow, tableCellColumn, false);
-          tableToUpdate.paintImmediately(cellRect);
-
-          // This is an alternative to the above, but triggers the repaint after *all* the thumbnails are loaded
-          //tableModelToUpdate.fireTableCellUpdated(tableCellRow, tableCellColumn);
-        }
+        repaintCell();
 
         return;
       }
@@ -198,13 +253,61 @@ public class Task_LoadThumbnailLater extends AbstractTask {
     fm.close();
 
     // no plugins were able to open this file successfully
-    // leave the BlankResource here
+    // leave the BlankResource here. This isn't stored in the cache, as the viewers might be able to
+    // read it next time (eg if the file couldn't be read this time)
     return;
   }
 
   /**
   **********************************************************************************************
   
+  **********************************************************************************************
+  **/
+  @Override
+  public void redo() {
+    // so it can be detected by ViewerPlugins for Thumbnail Generation. This is only seen by this thread,
+    // so that several thumbnails can be generated at the same time.
+    SingletonManager.setForThread("CurrentResource", resource);
+    try {
+      loadThumbnail();
+    }
+    finally {
+      SingletonManager.removeForThread("CurrentResource");
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Paints the table cell for this thumbnail, now that the thumbnail has been loaded. If the task
+  was run by a ThumbnailScheduler, the cell is repainted along with the other finished cells.
+  **********************************************************************************************
+  **/
+  void repaintCell() {
+    if (scheduler != null) {
+      scheduler.cellFinished(tableCellRow, tableCellColumn);
+    }
+    else if (tableModelToUpdate != null) {
+      // paint the cell immediately (as part of this call in the Swing Event Dispatch Thread)
+      Rectangle cellRect = tableToUpdate.getCellRect(tableCellRow, tableCellColumn, false);
+      tableToUpdate.paintImmediately(cellRect);
+
+      // This is an alternative to the above, but triggers the repaint after *all* the thumbnails are loaded
+      //tableModelToUpdate.fireTableCellUpdated(tableCellRow, tableCellColumn);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  
+  **********************************************************************************************
+  **/
+  public void setScheduler(ThumbnailScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+  **********************************************************************************************
+  
   **********************************************************************************************
   **/
   @Override
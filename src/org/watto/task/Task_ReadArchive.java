@@ -28,7 +28,11 @@ import org.watto.component.WSPluginGroup;
 import org.watto.component.WSPluginManager;
 import org.watto.component.WSPopup;
 import org.watto.component.WSSidePanelHolder;
+import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.ge.GameExtractor;
+import org.watto.ge.helper.ArchiveIndexCache;
+import org.watto.ge.helper.ArchivePatcher;
 import org.watto.ge.plugin.ArchivePlugin;
 import org.watto.ge.plugin.PluginFinder;
 import org.watto.ge.plugin.RatedPlugin;
@@ -48,6 +52,9 @@ public class Task_ReadArchive extends AbstractTask {
 
   File path;
 
+  /** The archive to read into - the one for the thread that made this task, unless set otherwise **/
+  ArchiveContext context = Archive.getContext();
+
   /**
   **********************************************************************************************
 
@@ -86,17 +93,40 @@ public class Task_ReadArchive extends AbstractTask {
     }
     ChangeMonitor.reset();
 
+    // if an earlier patch of this archive didn't finish, put the archive back the way it was before reading it
+    ArchivePatcher.recover(path);
+
     // Progress dialog
 
     TaskProgressManager.show(1, 0, Language.get("Progress_ReadingArchive"));
     TaskProgressManager.startTask();
 
-    RatedPlugin[] plugins;
+    // if this archive was opened before and hasn't changed, load the directory from the cache
+    boolean archiveOpened = false;
+
+    ArchiveIndexCache.CachedArchive cachedArchive = ArchiveIndexCache.load(path);
+    if (cachedArchive != null) {
+      Settings.set("CurrentArchive", path.getAbsolutePath());
+
+      Task_ReadArchiveWithPlugin task = new Task_ReadArchiveWithPlugin(path, cachedArchive.getPlugin(), true);
+      task.setContext(context);
+      task.setCachedResources(cachedArchive.getResources());
+      task.redo();
+      archiveOpened = task.getResult();
+
+      if (archiveOpened) {
+        TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
+      }
+    }
+
+    RatedPlugin[] plugins = null;
 
     //ArchivePlugin selectedPlugin;
     // auto-detect a plugin for this archive
-    plugins = PluginFinder.findPlugins(path, ArchivePlugin.class);
-    if (plugins == null || plugins.length == 0) {
+    if (!archiveOpened) {
+      plugins = PluginFinder.findPlugins(path, ArchivePlugin.class);
+    }
+    if (!archiveOpened && (plugins == null || plugins.length == 0)) {
 
       // See if it's a BMS script (and add it to GE)
       boolean wasBMS = checkForBMS(path);
@@ -113,7 +143,9 @@ public class Task_ReadArchive extends AbstractTask {
       return;
     }
 
-    java.util.Arrays.sort(plugins);
+    if (!archiveOpened) {
+      java.util.Arrays.sort(plugins);
+    }
 
     //Archive.makeNewArchive();
     //if (ArchiveModificationMonitor.isModified()){
@@ -122,16 +154,16 @@ public class Task_ReadArchive extends AbstractTask {
     //  }
 
     // try to open the archive using each plugin and openArchive(File,Plugin)
-    boolean archiveOpened = false;
 
     //String oldCurrentArchive = Settings.getString("CurrentArchive");
     Settings.set("CurrentArchive", path.getAbsolutePath());
 
-    for (int i = 0; i < plugins.length; i++) {
+    for (int i = 0; !archiveOpened && i < plugins.length; i++) {
       //System.out.println(plugins[i].getRating());
 
       // true, so it knows it is started within a current task
       Task_ReadArchiveWithPlugin task = new Task_ReadArchiveWithPlugin(path, plugins[i].getPlugin(), true);
+      task.setContext(context);
       task.redo();
       archiveOpened = task.getResult();
 
@@ -268,6 +300,15 @@ public class Task_ReadArchive extends AbstractTask {
     return false;
   }
 
+  /**
+  **********************************************************************************************
+  Reads the archive into the <i>context</i> instead of the archive for the current thread
+  **********************************************************************************************
+  **/
+  public void setContext(ArchiveContext context) {
+    this.context = context;
+  }
+
   /**
   **********************************************************************************************
 
@@ -28,10 +28,14 @@ import org.watto.component.WSPlugin;
 import org.watto.component.WSPopup;
 import org.watto.component.WSSidePanelHolder;
 import org.watto.datatype.Archive;
+import org.watto.datatype.ArchiveContext;
 import org.watto.datatype.Resource;
+import org.watto.datatype.ResourceTable;
 import org.watto.ge.GameExtractor;
+import org.watto.ge.helper.ArchiveIndexCache;
 import org.watto.ge.helper.FileTypeDetector;
 import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.io.FileManipulator;
 
 /**
 **********************************************************************************************
@@ -53,6 +57,12 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
   // if so, don't call TaskManager or set up the WSProgressBar
   boolean withinThread = false;
 
+  /** The resources loaded from the ArchiveIndexCache, used instead of reading the archive **/
+  ResourceTable cachedResources = null;
+
+  /** The archive to read into - the one for the thread that made this task, unless set otherwise **/
+  ArchiveContext context = Archive.getContext();
+
   /**
   **********************************************************************************************
   
@@ -89,8 +99,7 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
   
   **********************************************************************************************
   **/
-  @Override
-  public void redo() {
+  void readArchive() {
     try {
       result = false;
 
@@ -131,49 +140,88 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
           TaskProgressManager.startTask();
         }
 
-        Resource[] resources = (arcPlugin).read(path);
+        ResourceTable resourceTable = cachedResources;
+        Resource[] resources = null;
+        boolean fromCache = (resourceTable != null);
+
+        long startTime = System.currentTimeMillis();
+        int numResources = 0;
+        if (fromCache) {
+          numResources = resourceTable.getNumResources();
+        }
+        else {
+          boolean mappingAllowed = FileManipulator.setMappingAllowed(true);
+          try {
+            resources = (arcPlugin).read(path);
+          }
+          finally {
+            FileManipulator.setMappingAllowed(mappingAllowed);
+          }
+          if (resources != null) {
+            numResources = resources.length;
+          }
+        }
 
-        if (resources != null && resources.length > 0) {
+        if (numResources > 0) {
           //if (!ArchiveModificationMonitor.setModified(true)){
           //  return false;
           //  }
 
-          if (arcPlugin.canScanForFileTypes() && Settings.getBoolean("IdentifyUnknownFileTypes")) {
+          if (!fromCache && arcPlugin.canScanForFileTypes() && Settings.getBoolean("IdentifyUnknownFileTypes")) {
             // Run the file type scanner over all the resources
             FileTypeDetector.determineExtensions(resources, arcPlugin);
           }
 
-          Archive.makeNewArchive();
-
-          Archive.setResources(resources);
-          Archive.setReadPlugin(arcPlugin);
-          Archive.setBasePath(path);
-          Archive.setColumns(arcPlugin.getColumns());
-
-          // now display the files that are in the archive - same as in Task_ReadArchive
-          TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
-
-          //((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()).reload();
-          //((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).reload();
-          //((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).requestFocus();
-
-          // After everything else has completed, display the table
-          //Task_ReloadFileListPanel task = new Task_ReloadFileListPanel(((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()));
+          if (!fromCache && System.currentTimeMillis() - startTime >= Settings.getInt("IndexCacheMinimumReadTime")) {
+            // slow to read, so remember the directory for next time
+            ArchiveIndexCache.save(path, arcPlugin, resources);
+          }
 
-          if (!withinThread) {
-            // If this is called directly (eg by choosing a plugin manually), run it here.
-            // Otherwise, if it's called as part of the Task_ReadArchive thread, we call it as part of that Task instead.
-            Task_ReloadFileListPanel task = new Task_ReloadFileListPanel((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder"));
-            task.setDirection(Task.DIRECTION_REDO);
-            SwingUtilities.invokeLater(task);
+          int tableMinimumSize = Settings.getInt("ResourceTableMinimumSize");
+          if (!fromCache && tableMinimumSize > 0 && numResources >= tableMinimumSize) {
+            // a very large archive, so store the resources in a compact table instead
+            resourceTable = new ResourceTable(resources);
+            resources = null;
           }
 
-          WSSidePanelHolder sidePanelHolder = (WSSidePanelHolder) ComponentRepository.get("SidePanelHolder");
-          if (!sidePanelHolder.getCurrentPanelCode().equals("SidePanel_DirectoryList")) {
-            sidePanelHolder.reloadPanel();
+          context.makeNewArchive();
+
+          if (resourceTable != null) {
+            context.setResources(resourceTable);
           }
           else {
-            ((SidePanel_DirectoryList) sidePanelHolder.getCurrentPanel()).onOpenRequest();
+            context.setResources(resources);
+          }
+          context.setReadPlugin(arcPlugin);
+          context.setBasePath(path);
+          context.setColumns(arcPlugin.getColumns());
+
+          if (context.isShownInInterface()) {
+            // now display the files that are in the archive - same as in Task_ReadArchive
+            TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
+
+            //((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()).reload();
+            //((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).reload();
+            //((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).requestFocus();
+
+            // After everything else has completed, display the table
+            //Task_ReloadFileListPanel task = new Task_ReloadFileListPanel(((FileListPanel) ((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder")).getCurrentPanel()));
+
+            if (!withinThread) {
+              // If this is called directly (eg by choosing a plugin manually), run it here.
+              // Otherwise, if it's called as part of the Task_ReadArchive thread, we call it as part of that Task instead.
+              Task_ReloadFileListPanel task = new Task_ReloadFileListPanel((WSFileListPanelHolder) ComponentRepository.get("FileListPanelHolder"));
+              task.setDirection(Task.DIRECTION_REDO);
+              SwingUtilities.invokeLater(task);
+            }
+
+            WSSidePanelHolder sidePanelHolder = (WSSidePanelHolder) ComponentRepository.get("SidePanelHolder");
+            if (!sidePanelHolder.getCurrentPanelCode().equals("SidePanel_DirectoryList")) {
+              sidePanelHolder.reloadPanel();
+            }
+            else {
+              ((SidePanel_DirectoryList) sidePanelHolder.getCurrentPanel()).onOpenRequest();
+            }
           }
           result = true;
         }
@@ -198,7 +246,7 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
       }
 
       // check that, after opening, there is at least 1 file in the archive
-      if (result == false || Archive.getNumFiles() <= 0) {
+      if (result == false || context.getNumFiles() <= 0) {
         if (!withinThread) {
           WSPopup.showError("ReadArchive_ReadWithPluginFailed", true);
         }
@@ -211,7 +259,9 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
       }
 
       // clear out the undo/redo
-      TypecastSingletonManager.getTaskManager("TaskManager").clear();
+      if (context.isShownInInterface()) {
+        TypecastSingletonManager.getTaskManager("TaskManager").clear();
+      }
 
       result = true;
 
@@ -222,6 +272,42 @@ public class Task_ReadArchiveWithPlugin extends AbstractTask {
     }
   }
 
+  /**
+  **********************************************************************************************
+  Reads the archive into the <i>context</i>, with the <i>context</i> bound to this thread so the
+  plugin sees this archive while it's reading
+  **********************************************************************************************
+  **/
+  @Override
+  public void redo() {
+    ArchiveContext previousContext = context.bind();
+    try {
+      readArchive();
+    }
+    finally {
+      ArchiveContext.unbind(previousContext);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Use these <i>resources</i>, loaded from the <code>ArchiveIndexCache</code>, instead of reading
+  the archive with the plugin
+  **********************************************************************************************
+  **/
+  public void setCachedResources(ResourceTable resources) {
+    this.cachedResources = resources;
+  }
+
+  /**
+  **********************************************************************************************
+  Reads the archive into the <i>context</i> instead of the archive for the current thread
+  **********************************************************************************************
+  **/
+  public void setContext(ArchiveContext context) {
+    this.context = context;
+  }
+
   /**
   **********************************************************************************************
   
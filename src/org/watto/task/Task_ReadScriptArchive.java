@@ -26,6 +26,7 @@ import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.plugin.ArchivePlugin;
+import org.watto.io.FileManipulator;
 
 /**
 **********************************************************************************************
@@ -88,7 +89,14 @@ public class Task_ReadScriptArchive extends AbstractTask {
     //String oldCurrentArchive = Settings.getString("CurrentArchive");
     Settings.set("CurrentArchive", path.getAbsolutePath());
 
-    Resource[] resources = plugin.read(path);
+    Resource[] resources = null;
+    boolean mappingAllowed = FileManipulator.setMappingAllowed(true);
+    try {
+      resources = plugin.read(path);
+    }
+    finally {
+      FileManipulator.setMappingAllowed(mappingAllowed);
+    }
 
     if (resources != null && resources.length > 0) {
       Archive.makeNewArchive();
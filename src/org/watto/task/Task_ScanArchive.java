@@ -16,7 +16,6 @@ package org.watto.task;
 
 import java.io.File;
 import org.watto.ChangeMonitor;
-import org.watto.ErrorLogger;
 import org.watto.Language;
 import org.watto.Settings;
 import org.watto.TypecastSingletonManager;
@@ -28,8 +27,8 @@ import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
 import org.watto.ge.GameExtractor;
 import org.watto.ge.plugin.PluginListBuilder;
+import org.watto.ge.plugin.ScannerEngine;
 import org.watto.ge.plugin.ScannerPlugin;
-import org.watto.io.FileManipulator;
 
 /**
 **********************************************************************************************
@@ -115,57 +114,11 @@ public class Task_ScanArchive extends AbstractTask {
 
     ScannerPlugin[] scanners = PluginListBuilder.getEnabledScanners();
 
-    Resource[] resources = new Resource[Settings.getInt("MaxNumberOfFiles4")];
-    int numResources = 0;
-
-    FileManipulator fm = new FileManipulator(path, false);
-    try {
-      long arcSize = fm.getLength();
-      TaskProgressManager.setMaximum(arcSize);
-
-      // for each byte of the input file
-      while (fm.getOffset() < arcSize) {
-        // read the next byte
-        int b = fm.readByte();
-        // record the offset so we can go back to the offset for each scanner
-        long offset = fm.getOffset();
-        TaskProgressManager.setValue((int) offset);
-
-        // for each scanner
-        for (int s = 0; s < scanners.length; s++) {
-          try {
-            // scan the current byte, and if successful continue scanning for a file
-            // return a non-null resource if a file was found
-            Resource resource = scanners[s].scan(b, fm);
-
-            if (resource != null) {
-              // set the remaining information for the resource
-              resource.setSource(path);
-              resource.setName(Resource.generateFilename(numResources) + resource.getName());
-
-              // add the resource into the array
-              resources[numResources] = resource;
-              numResources++;
-              s = scanners.length;
-            }
-            else {
-              // on fail, go back to the offset
-              fm.relativeSeek(offset);
-            }
-          }
-          catch (Throwable t) {
-            // scanner failed on this byte
-            fm.relativeSeek(offset);
-          }
-        }
+    TaskProgressManager.setMaximum(path.length());
 
-      }
-
-    }
-    catch (Throwable t) {
-      ErrorLogger.log(t);
-    }
-    fm.close();
+    // find the signatures of all the scanners in one pass, and only call the scanners where their signatures are found
+    Resource[] resources = new ScannerEngine(scanners).scan(path, Settings.getInt("MaxNumberOfFiles4"));
+    int numResources = resources.length;
 
     boolean archiveOpened = false;
     if (numResources > 0) {
@@ -174,7 +127,6 @@ public class Task_ScanArchive extends AbstractTask {
       //  return;
       //  }
       Archive.setResources(resources);
-      Archive.resizeResources(numResources);
       Archive.setBasePath(path);
 
       TypecastSingletonManager.getRecentFilesManager("RecentFilesManager").addRecentFile(path);
@@ -23,8 +23,7 @@ import org.watto.component.WSFileListPanelHolder;
 import org.watto.component.WSPopup;
 import org.watto.datatype.Archive;
 import org.watto.datatype.Resource;
-import org.watto.io.FileManipulator;
-import org.watto.io.PatternFinder;
+import org.watto.io.PatternSearcher;
 
 /**
 **********************************************************************************************
@@ -49,12 +48,38 @@ public class Task_SearchFileContents extends AbstractTask {
     this.firstMatchOnly = firstMatchOnly;
   }
 
+  /**
+  **********************************************************************************************
+  Whether the <code>resource</code> contains a match for the <code>searcher</code>. Only the
+  bytes of the <code>resource</code> are searched, not the rest of the archive after it.
+  **********************************************************************************************
+  **/
+  public boolean contains(Resource resource, PatternSearcher searcher) {
+    File path = resource.getExportedPath();
+    long startOffset = 0;
+    long endOffset;
+
+    if (path == null) {
+      path = resource.getSource();
+      startOffset = resource.getOffset();
+      endOffset = startOffset + resource.getLength();
+    }
+    else {
+      endOffset = path.length();
+    }
+
+    if (path == null || !path.exists()) {
+      return false;
+    }
+
+    return searcher.findFirst(path, startOffset, endOffset, endOffset) != -1;
+  }
+
   /**
   **********************************************************************************************
   
   **********************************************************************************************
   **/
-  @SuppressWarnings("unused")
   @Override
   public void redo() {
     if (!TaskProgressManager.canDoTask()) {
@@ -72,10 +97,10 @@ public class Task_SearchFileContents extends AbstractTask {
 
     TaskProgressManager.startTask();
 
-    Charset charSet = Charset.forName("UTF-8");
-    String searchAscii = new String(searchVal.getBytes(charSet), charSet);
-    charSet = Charset.forName("UTF-16LE");
-    String searchUnicode = new String(searchVal.getBytes(charSet), charSet);
+    // look for both the UTF-8 and UTF-16LE text in a single pass over each file
+    byte[] searchAscii = searchVal.getBytes(Charset.forName("UTF-8"));
+    byte[] searchUnicode = searchVal.getBytes(Charset.forName("UTF-16LE"));
+    PatternSearcher searcher = new PatternSearcher(searchAscii, searchUnicode);
 
     // determine the starting position
     int numFiles = Archive.getNumFiles();
@@ -96,18 +121,7 @@ public class Task_SearchFileContents extends AbstractTask {
     // search for the files (StartPos --> end)
     for (int i = startPos; i < numFiles; i++) {
       Resource resource = fileList.getResource(i);
-      File path = resource.getExportedPath();
-      if (path == null) {
-        path = resource.getSource();
-      }
-
-      FileManipulator fm = new FileManipulator(path, false);
-      fm.seek(resource.getOffset());
-
-      PatternFinder patternFinder = new PatternFinder(fm);
-      long found = patternFinder.find(searchAscii);
-
-      if (found > 0) {
+      if (contains(resource, searcher)) {
         fileList.changeSelection(i);
         if (firstMatchOnly) {
           WSPopup.showMessage("Search_MatchFound", true);
@@ -121,18 +135,7 @@ public class Task_SearchFileContents extends AbstractTask {
     // search for the files (beginning --> StartPos)
     for (int i = 0; i < startPos; i++) {
       Resource resource = fileList.getResource(i);
-      File path = resource.getExportedPath();
-      if (path == null) {
-        path = resource.getSource();
-      }
-
-      FileManipulator fm = new FileManipulator(path, false);
-      fm.seek(resource.getOffset());
-
-      PatternFinder patternFinder = new PatternFinder(fm);
-      long found = patternFinder.find(searchAscii);
-
-      if (found > 0) {
+      if (contains(resource, searcher)) {
         fileList.changeSelection(i);
         if (firstMatchOnly) {
           WSPopup.showMessage("Search_MatchFound", true);
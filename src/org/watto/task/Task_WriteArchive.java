@@ -19,11 +19,14 @@ import java.nio.file.FileAlreadyExistsException;
 import org.watto.ChangeMonitor;
 import org.watto.ErrorLogger;
 import org.watto.Language;
+import org.watto.Settings;
 import org.watto.TypecastSingletonManager;
 import org.watto.component.ComponentRepository;
 import org.watto.component.WSDirectoryListHolder;
 import org.watto.component.WSPopup;
 import org.watto.datatype.Archive;
+import org.watto.datatype.Resource;
+import org.watto.ge.helper.ArchivePatcher;
 import org.watto.ge.plugin.ArchivePlugin;
 
 /**
@@ -50,6 +53,52 @@ public class Task_WriteArchive extends AbstractTask {
     this.plugin = plugin;
   }
 
+  /**
+  **********************************************************************************************
+  Patches the changes into the current archive in place, if the plugin can do it, rather than
+  writing the whole archive again. The patch is checked once it's written, and if anything goes
+  wrong, the archive is rolled back to the way it was.
+  @return true if the archive was patched, false if it still needs to be written in full
+  **********************************************************************************************
+  **/
+  boolean patchArchive() {
+    if (!Settings.getBoolean("PatchArchiveInPlace") || !plugin.canPatch()) {
+      return false;
+    }
+
+    ArchivePlugin readPlugin = Archive.getReadPlugin();
+    if (readPlugin == null || readPlugin.getClass() != plugin.getClass()) {
+      return false; // converting to a different format
+    }
+
+    ArchivePatcher patcher = null;
+    try {
+      Resource[] resources = Archive.getResources();
+
+      patcher = new ArchivePatcher(path);
+      if (!plugin.patch(resources, patcher)) {
+        patcher.rollback();
+        return false;
+      }
+
+      if (!patcher.verify(plugin, resources)) {
+        ErrorLogger.log("[Task_WriteArchive] The patched archive failed verification, so it was rolled back and will be written in full");
+        patcher.rollback();
+        return false;
+      }
+
+      patcher.commit();
+      return true;
+    }
+    catch (Throwable t) {
+      ErrorLogger.log(t);
+      if (patcher != null) {
+        patcher.rollback();
+      }
+      return false;
+    }
+  }
+
   /**
   **********************************************************************************************
   
@@ -88,11 +137,14 @@ public class Task_WriteArchive extends AbstractTask {
 
     TaskProgressManager.startTask();
 
+    // if we're only replacing files in the current archive, try to patch them in without writing the whole archive again
+    boolean patched = replacingCurrentArchive && patchArchive();
+
     File desiredFile = path;
     String temporaryFilePath = path.getAbsolutePath() + ".temp";
     File temporaryFile = null;
 
-    if (replacingCurrentArchive) {
+    if (replacingCurrentArchive && !patched) {
       // generate a temporary name
       for (int i = 0; i < 10000; i++) {
         if (!new File(temporaryFilePath + i).exists()) {
@@ -113,7 +165,10 @@ public class Task_WriteArchive extends AbstractTask {
       path = temporaryFile;
     }
 
-    if (Archive.getReadPlugin() == null) {
+    if (patched) {
+      // already written into the current archive
+    }
+    else if (Archive.getReadPlugin() == null) {
       // write from scratch
       plugin.write(Archive.getResources(), path);
     }
@@ -122,7 +177,7 @@ public class Task_WriteArchive extends AbstractTask {
       plugin.replace(Archive.getResources(), path);
     }
 
-    if (replacingCurrentArchive) {
+    if (replacingCurrentArchive && !patched) {
       // now that we've written into the temporary file, we need to remove the original file and rename the temporary file to the original filename
       try {
         boolean deleted = desiredFile.delete();
@@ -0,0 +1,301 @@
+/*
+ * Application:  Game Extractor
+ * Author:       wattostudios
+ * Website:      http://www.watto.org
+ * Copyright:    Copyright (c) 2002-2020 wattostudios
+ *
+ * License Information:
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * published by the Free Software Foundation; either version 2 of the License, or (at your option) any later versions. This
+ * program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranties
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License at http://www.gnu.org for more
+ * details. For further information on this application, refer to the authors' website.
+ */
+
+package org.watto.task;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import javax.swing.SwingUtilities;
+import org.watto.ErrorLogger;
+import org.watto.Settings;
+import org.watto.component.WSTable;
+import org.watto.datatype.Resource;
+import org.watto.ge.plugin.ExporterPlugin;
+
+/**
+**********************************************************************************************
+Generates the thumbnails for a thumbnail table on the shared worker threads. The cells that are
+on the screen are generated first, and the cells that have been scrolled a long way off the
+screen are cancelled, so they're only generated if they're scrolled back into view. When each
+thumbnail is generated, the cell is collected, and all the finished cells are repainted together
+in a single repaint on the Swing Event Dispatch Thread.
+<br><br>
+The number of threads is controlled by the "ThumbnailThreads" setting, where 0 means the same
+number of threads as the "WorkerThreads" setting. Resources with an exporter that can only be
+used by one thread at a time are generated one at a time. Viewers that aren't thread-safe can
+only read one file at a time (see ViewerPlugin.lockReading(viewer)), so those thumbnails are
+decoded one after the other, and the rest are decoded at the same time, all off the Event
+Dispatch Thread.
+**********************************************************************************************
+**/
+public class ThumbnailScheduler {
+
+  /** only one thumbnail for a single-threaded exporter can be generated at a time **/
+  static Object serialLock = new Object();
+
+  /** the table that is repainted when the thumbnails are generated **/
+  WSTable table;
+
+  /** the tasks that are waiting for a worker **/
+  ArrayList<Task_LoadThumbnailLater> pendingTasks = new ArrayList<Task_LoadThumbnailLater>();
+
+  /** the number of workers that are running **/
+  int numWorkers = 0;
+
+  /** the first row that is on the screen **/
+  int firstVisibleRow = 0;
+
+  /** the last row that is on the screen **/
+  int lastVisibleRow = -1;
+
+  /** the cells that have finished, and are waiting to be repainted **/
+  ArrayList<int[]> finishedCells = new ArrayList<int[]>();
+
+  /** true if a repaint of the finishedCells has been queued on the Event Dispatch Thread **/
+  boolean repaintQueued = false;
+
+  /**
+  **********************************************************************************************
+
+  **********************************************************************************************
+  **/
+  public ThumbnailScheduler(WSTable table) {
+    this.table = table;
+  }
+
+  /**
+  **********************************************************************************************
+  Adds a thumbnail to be generated, and starts another worker if there are less than the maximum
+  **********************************************************************************************
+  **/
+  public void add(Task_LoadThumbnailLater task) {
+    task.setScheduler(this);
+
+    synchronized (this) {
+      pendingTasks.add(task);
+      if (numWorkers >= getThreadCount()) {
+        return;
+      }
+      numWorkers++;
+    }
+
+    TaskThreadPool.getForkJoinPool().execute(new Runnable() {
+
+      @Override
+      public void run() {
+        runTasks();
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  Removes all the thumbnails that are waiting to be generated. The Resources are reset so that
+  they are requested again the next time they're displayed.
+  **********************************************************************************************
+  **/
+  public synchronized void cancelAll() {
+    int numTasks = pendingTasks.size();
+    for (int i = 0; i < numTasks; i++) {
+      pendingTasks.get(i).getResource().setImageResource(null);
+    }
+    pendingTasks.clear();
+  }
+
+  /**
+  **********************************************************************************************
+  Called by a task when its thumbnail has been generated, so the cell can be repainted. The cells
+  are collected, and repainted together when the Event Dispatch Thread gets to them.
+  **********************************************************************************************
+  **/
+  public void cellFinished(int row, int column) {
+    synchronized (finishedCells) {
+      finishedCells.add(new int[] { row, column });
+      if (repaintQueued) {
+        return;
+      }
+      repaintQueued = true;
+    }
+
+    SwingUtilities.invokeLater(new Runnable() {
+
+      @Override
+      public void run() {
+        repaintFinishedCells();
+      }
+    });
+  }
+
+  /**
+  **********************************************************************************************
+  The number of rows either side of the screen that are still generated, rather than cancelled
+  **********************************************************************************************
+  **/
+  int getMargin() {
+    int numVisibleRows = lastVisibleRow - firstVisibleRow + 1;
+    if (numVisibleRows < 1) {
+      numVisibleRows = 1;
+    }
+    return numVisibleRows;
+  }
+
+  /**
+  **********************************************************************************************
+  Gets the number of threads that can generate thumbnails at the same time
+  **********************************************************************************************
+  **/
+  public int getThreadCount() {
+    int threads = Settings.getInt("ThumbnailThreads");
+    if (threads <= 0) {
+      threads = TaskThreadPool.getThreadCount();
+    }
+    return threads;
+  }
+
+  /**
+  **********************************************************************************************
+  Whether the <i>resource</i> can have its thumbnail generated at the same time as others, which
+  needs an exporter that can run several sessions at once
+  **********************************************************************************************
+  **/
+  boolean isParallel(Resource resource) {
+    if (resource.getExportedPath() != null) {
+      return true; // reads from a file on disk
+    }
+    ExporterPlugin exporter = resource.getExporter();
+    return exporter != null && exporter.canOpenParallelSessions();
+  }
+
+  /**
+  **********************************************************************************************
+  Takes the next task to run, which is the one closest to the screen (the cells on the screen
+  first, from the top down), or returns null if there's nothing left
+  **********************************************************************************************
+  **/
+  synchronized Task_LoadThumbnailLater nextTask() {
+    int numTasks = pendingTasks.size();
+    if (numTasks <= 0) {
+      numWorkers--;
+      return null;
+    }
+
+    int bestIndex = 0;
+    long bestScore = Long.MAX_VALUE;
+    for (int i = 0; i < numTasks; i++) {
+      Task_LoadThumbnailLater task = pendingTasks.get(i);
+      int row = task.getRow();
+
+      long distance = 0;
+      if (row < firstVisibleRow) {
+        distance = firstVisibleRow - row;
+      }
+      else if (row > lastVisibleRow && lastVisibleRow >= firstVisibleRow) {
+        distance = row - lastVisibleRow;
+      }
+
+      long score = (distance << 40) | ((long) row << 20) | task.getColumn();
+      if (score < bestScore) {
+        bestScore = score;
+        bestIndex = i;
+      }
+    }
+
+    return pendingTasks.remove(bestIndex);
+  }
+
+  /**
+  **********************************************************************************************
+  Repaints all the cells that have finished since the last repaint, as a single area of the table
+  **********************************************************************************************
+  **/
+  void repaintFinishedCells() {
+    int[][] cells;
+    synchronized (finishedCells) {
+      cells = finishedCells.toArray(new int[finishedCells.size()][]);
+      finishedCells.clear();
+      repaintQueued = false;
+    }
+
+    Rectangle area = null;
+    int numCells = cells.length;
+    for (int i = 0; i < numCells; i++) {
+      Rectangle cellRect = table.getCellRect(cells[i][0], cells[i][1], false);
+      if (area == null) {
+        area = cellRect;
+      }
+      else {
+        area = area.union(cellRect);
+      }
+    }
+
+    if (area != null) {
+      table.repaint(area);
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Runs the pending tasks until there are none left. Run by each worker.
+  **********************************************************************************************
+  **/
+  void runTasks() {
+    Task_LoadThumbnailLater task = nextTask();
+    while (task != null) {
+      try {
+        if (isParallel(task.getResource())) {
+          task.redo();
+        }
+        else {
+          synchronized (serialLock) {
+            task.redo();
+          }
+        }
+      }
+      catch (Throwable t) {
+        ErrorLogger.log(t);
+      }
+      task = nextTask();
+    }
+  }
+
+  /**
+  **********************************************************************************************
+  Sets the rows that are on the screen, which are generated first. Tasks for cells that are now
+  a long way off the screen are cancelled, and their Resources are reset so that they are
+  requested again if they're scrolled back into view.
+  **********************************************************************************************
+  **/
+  public synchronized void setVisibleRows(int firstVisibleRow, int lastVisibleRow) {
+    this.firstVisibleRow = firstVisibleRow;
+    this.lastVisibleRow = lastVisibleRow;
+
+    if (lastVisibleRow < firstVisibleRow) {
+      return;
+    }
+
+    int margin = getMargin();
+    int firstKeptRow = firstVisibleRow - margin;
+    int lastKeptRow = lastVisibleRow + margin;
+
+    for (int i = pendingTasks.size() - 1; i >= 0; i--) {
+      Task_LoadThumbnailLater task = pendingTasks.get(i);
+      int row = task.getRow();
+      if (row < firstKeptRow || row > lastKeptRow) {
+        pendingTasks.remove(i);
+        task.getResource().setImageResource(null);
+      }
+    }
+  }
+
+}